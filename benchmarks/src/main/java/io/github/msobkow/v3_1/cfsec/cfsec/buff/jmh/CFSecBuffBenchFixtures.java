@@ -0,0 +1,115 @@
+// Description: Java 25 JMH fixtures for the CFSecBuff benchmarks
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff.jmh;
+
+import java.time.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.buff.*;
+
+/*
+ *	CFSecBuffBenchFixtures builds populated instances of the records the
+ *	benchmarks exercise.  Identifiers come from a CFSecBuffIdGenerator that keeps
+ *	no state, so fixtures never touch the file system.
+ */
+public final class CFSecBuffBenchFixtures
+{
+	protected static final CFSecBuffIdGenerator ids = new CFSecBuffIdGenerator();
+
+	private CFSecBuffBenchFixtures() {
+	}
+
+	public static CFLibDbKeyHash256 nextId() {
+		return( ids.nextKeyHash256() );
+	}
+
+	public static CFSecBuffSecUser newSecUser( CFLibDbKeyHash256 secUserId, String loginId ) {
+		CFSecBuffSecUser rec = new CFSecBuffSecUser();
+		rec.setRequiredSecUserId( secUserId );
+		rec.setRequiredLoginId( loginId );
+		rec.setRequiredEMailAddress( loginId + "@example.com" );
+		rec.setRequiredPasswordHash( "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef" );
+		rec.setOptionalLookupDefDev( secUserId, "Laptop <" + loginId + ">" );
+		rec.setRequiredRevision( 3 );
+		return( rec );
+	}
+
+	public static CFSecBuffSecUserH newSecUserH( CFSecBuffSecUser src ) {
+		CFSecBuffSecUserH hrec = new CFSecBuffSecUserH();
+		hrec.set( src );
+		return( hrec );
+	}
+
+	public static CFSecBuffSecSession newSecSession( CFLibDbKeyHash256 secUserId, LocalDateTime start ) {
+		CFSecBuffSecSession rec = new CFSecBuffSecSession();
+		rec.setRequiredSecSessionId( nextId() );
+		rec.setRequiredContainerSecUser( secUserId );
+		rec.setOptionalSecDevName( "Laptop" );
+		rec.setRequiredStart( start );
+		rec.setOptionalFinish( start.plusHours( 8 ) );
+		rec.setRequiredRevision( 1 );
+		return( rec );
+	}
+
+	public static CFSecBuffSecGrpMemb newSecGrpMemb( CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 secGroupId, CFLibDbKeyHash256 secUserId ) {
+		CFSecBuffSecGrpMemb rec = new CFSecBuffSecGrpMemb();
+		rec.setRequiredSecGrpMembId( nextId() );
+		rec.setRequiredOwnerCluster( clusterId );
+		rec.setRequiredContainerGroup( secGroupId );
+		rec.setRequiredParentUser( secUserId );
+		rec.setRequiredRevision( 1 );
+		return( rec );
+	}
+
+	public static CFSecBuffISOCtryCcy newISOCtryCcy( short isoCtryId, short isoCcyId ) {
+		CFSecBuffISOCtryCcy rec = new CFSecBuffISOCtryCcy();
+		rec.setRequiredContainerCtry( isoCtryId );
+		rec.setRequiredParentCcy( isoCcyId );
+		rec.setRequiredRevision( 1 );
+		return( rec );
+	}
+
+	public static CFSecBuffSecSessionByStartIdxKey newSecSessionByStartIdxKey( CFLibDbKeyHash256 secUserId, LocalDateTime start ) {
+		CFSecBuffSecSessionByStartIdxKey key = new CFSecBuffSecSessionByStartIdxKey();
+		key.setRequiredSecUserId( secUserId );
+		key.setRequiredStart( start );
+		return( key );
+	}
+
+	public static CFSecBuffSecUserByULoginIdxKey newSecUserByULoginIdxKey( String loginId ) {
+		CFSecBuffSecUserByULoginIdxKey key = new CFSecBuffSecUserByULoginIdxKey();
+		key.setRequiredLoginId( loginId );
+		return( key );
+	}
+}
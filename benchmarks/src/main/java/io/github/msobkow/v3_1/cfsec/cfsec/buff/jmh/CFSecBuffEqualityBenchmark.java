@@ -0,0 +1,194 @@
+// Description: Java 25 JMH benchmarks of CFSecBuff equality, hashing and ordering
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff.jmh;
+
+import java.time.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.buff.*;
+
+/*
+ *	Measures equals(), hashCode() and compareTo() on representative records and
+ *	index keys.  Each pair compared is equal by value but not by reference, so
+ *	every attribute is visited.  The Cold variants clear the cached hash code
+ *	first by re-assigning an attribute.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class CFSecBuffEqualityBenchmark
+{
+	protected CFSecBuffSecUser secUser;
+	protected CFSecBuffSecUser secUserCopy;
+	protected CFSecBuffSecUserH secUserH;
+	protected CFSecBuffSecUserH secUserHCopy;
+	protected CFSecBuffSecSession secSession;
+	protected CFSecBuffSecSession secSessionCopy;
+	protected CFSecBuffISOCtryCcy isoCtryCcy;
+	protected CFSecBuffISOCtryCcy isoCtryCcyCopy;
+	protected CFSecBuffSecSessionByStartIdxKey startKey;
+	protected CFSecBuffSecSessionByStartIdxKey startKeyCopy;
+	protected CFSecBuffSecUserByULoginIdxKey loginKey;
+	protected CFSecBuffSecUserByULoginIdxKey loginKeyCopy;
+
+	@Setup
+	public void setup() {
+		CFLibDbKeyHash256 secUserId = CFSecBuffBenchFixtures.nextId();
+		LocalDateTime start = LocalDateTime.of( 2026, 1, 15, 9, 30 );
+		secUser = CFSecBuffBenchFixtures.newSecUser( secUserId, "jdoe" );
+		secUserCopy = CFSecBuffBenchFixtures.newSecUser( secUserId, "jdoe" );
+		secUserCopy.setCreatedAt( secUser.getCreatedAt() );
+		secUserCopy.setUpdatedAt( secUser.getUpdatedAt() );
+		secUserH = CFSecBuffBenchFixtures.newSecUserH( secUser );
+		secUserHCopy = secUserH.clone();
+		secSession = CFSecBuffBenchFixtures.newSecSession( secUserId, start );
+		secSessionCopy = new CFSecBuffSecSession();
+		secSessionCopy.set( secSession );
+		isoCtryCcy = CFSecBuffBenchFixtures.newISOCtryCcy( (short)124, (short)36 );
+		isoCtryCcyCopy = CFSecBuffBenchFixtures.newISOCtryCcy( (short)124, (short)36 );
+		isoCtryCcyCopy.setCreatedAt( isoCtryCcy.getCreatedAt() );
+		isoCtryCcyCopy.setUpdatedAt( isoCtryCcy.getUpdatedAt() );
+		startKey = CFSecBuffBenchFixtures.newSecSessionByStartIdxKey( secUserId, start );
+		startKeyCopy = CFSecBuffBenchFixtures.newSecSessionByStartIdxKey( secUserId, start );
+		loginKey = CFSecBuffBenchFixtures.newSecUserByULoginIdxKey( "jdoe" );
+		loginKeyCopy = CFSecBuffBenchFixtures.newSecUserByULoginIdxKey( "jdoe" );
+	}
+
+	@Benchmark
+	public boolean secUserEquals() {
+		return( secUser.equals( secUserCopy ) );
+	}
+
+	@Benchmark
+	public int secUserHashCode() {
+		return( secUser.hashCode() );
+	}
+
+	@Benchmark
+	public int secUserHashCodeCold() {
+		secUser.setRequiredRevision( 3 );
+		return( secUser.hashCode() );
+	}
+
+	@Benchmark
+	public int secUserCompareTo() {
+		return( secUser.compareTo( secUserCopy ) );
+	}
+
+	@Benchmark
+	public boolean secUserHEquals() {
+		return( secUserH.equals( secUserHCopy ) );
+	}
+
+	@Benchmark
+	public int secUserHHashCode() {
+		return( secUserH.hashCode() );
+	}
+
+	@Benchmark
+	public int secUserHCompareTo() {
+		return( secUserH.compareTo( secUserHCopy ) );
+	}
+
+	@Benchmark
+	public boolean secSessionEquals() {
+		return( secSession.equals( secSessionCopy ) );
+	}
+
+	@Benchmark
+	public int secSessionHashCode() {
+		return( secSession.hashCode() );
+	}
+
+	@Benchmark
+	public int secSessionCompareTo() {
+		return( secSession.compareTo( secSessionCopy ) );
+	}
+
+	@Benchmark
+	public boolean isoCtryCcyEquals() {
+		return( isoCtryCcy.equals( isoCtryCcyCopy ) );
+	}
+
+	@Benchmark
+	public int isoCtryCcyHashCode() {
+		return( isoCtryCcy.hashCode() );
+	}
+
+	@Benchmark
+	public int isoCtryCcyCompareTo() {
+		return( isoCtryCcy.compareTo( isoCtryCcyCopy ) );
+	}
+
+	@Benchmark
+	public boolean startIdxKeyEquals() {
+		return( startKey.equals( startKeyCopy ) );
+	}
+
+	@Benchmark
+	public int startIdxKeyHashCode() {
+		return( startKey.hashCode() );
+	}
+
+	@Benchmark
+	public int startIdxKeyHashCodeCold() {
+		startKey.setRequiredStart( startKeyCopy.getRequiredStart() );
+		return( startKey.hashCode() );
+	}
+
+	@Benchmark
+	public int startIdxKeyCompareTo() {
+		return( startKey.compareTo( startKeyCopy ) );
+	}
+
+	@Benchmark
+	public boolean loginIdxKeyEquals() {
+		return( loginKey.equals( loginKeyCopy ) );
+	}
+
+	@Benchmark
+	public int loginIdxKeyHashCode() {
+		return( loginKey.hashCode() );
+	}
+
+	@Benchmark
+	public int loginIdxKeyCompareTo() {
+		return( loginKey.compareTo( loginKeyCopy ) );
+	}
+}
@@ -0,0 +1,167 @@
+// Description: Java 25 JMH benchmarks of CFSecBuff factories and copy paths
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff.jmh;
+
+import java.time.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.buff.*;
+
+/*
+ *	Measures record construction through the default factories, under each
+ *	timestamp policy, and the set( src ) and clone() copy paths that run at
+ *	every layer boundary.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class CFSecBuffFactoryBenchmark
+{
+	@Param( { "EAGER", "LAZY" } )
+	public String stamp;
+
+	protected CFSecBuffSecUserDefaultFactory secUserFactory;
+	protected CFSecBuffSecSessionDefaultFactory secSessionFactory;
+	protected CFSecBuffSecUser secUser;
+	protected CFSecBuffSecUserH secUserH;
+	protected CFSecBuffSecSession secSession;
+	protected CFSecBuffSecGrpMemb secGrpMemb;
+	protected CFSecBuffISOCtryCcy isoCtryCcy;
+	protected CFSecBuffSecUser[] secUsers;
+
+	protected CFSecBuffSecUser secUserTarget;
+	protected CFSecBuffSecUserH secUserHTarget;
+	protected CFSecBuffSecSession secSessionTarget;
+	protected CFSecBuffSecGrpMemb secGrpMembTarget;
+	protected CFSecBuffISOCtryCcy isoCtryCcyTarget;
+
+	@Setup
+	public void setup() {
+		secUserFactory = new CFSecBuffSecUserDefaultFactory();
+		secUserFactory.setRecStamp( "LAZY".equals( stamp ) ? CFSecBuffRecStamp.LAZY : CFSecBuffRecStamp.EAGER );
+		secSessionFactory = new CFSecBuffSecSessionDefaultFactory();
+		CFLibDbKeyHash256 secUserId = CFSecBuffBenchFixtures.nextId();
+		secUser = CFSecBuffBenchFixtures.newSecUser( secUserId, "jdoe" );
+		secUserH = CFSecBuffBenchFixtures.newSecUserH( secUser );
+		secSession = CFSecBuffBenchFixtures.newSecSession( secUserId, LocalDateTime.of( 2026, 1, 15, 9, 30 ) );
+		secGrpMemb = CFSecBuffBenchFixtures.newSecGrpMemb( CFSecBuffBenchFixtures.nextId(), CFSecBuffBenchFixtures.nextId(), secUserId );
+		isoCtryCcy = CFSecBuffBenchFixtures.newISOCtryCcy( (short)124, (short)36 );
+		secUsers = new CFSecBuffSecUser[ 64 ];
+		for( int idx = 0; idx < secUsers.length; idx++ ) {
+			secUsers[ idx ] = CFSecBuffBenchFixtures.newSecUser( CFSecBuffBenchFixtures.nextId(), "user" + idx );
+		}
+		secUserTarget = new CFSecBuffSecUser();
+		secUserHTarget = new CFSecBuffSecUserH();
+		secSessionTarget = new CFSecBuffSecSession();
+		secGrpMembTarget = new CFSecBuffSecGrpMemb();
+		isoCtryCcyTarget = new CFSecBuffISOCtryCcy();
+	}
+
+	@Benchmark
+	public ICFSecSecUser secUserNewRec() {
+		return( secUserFactory.newRec() );
+	}
+
+	@Benchmark
+	public ICFSecSecUserH secUserNewHRec() {
+		return( secUserFactory.newHRec() );
+	}
+
+	@Benchmark
+	public ICFSecSecSession secSessionNewRec() {
+		return( secSessionFactory.newRec() );
+	}
+
+	@Benchmark
+	public CFSecBuffSecUser secUserEnsureRec() {
+		return( secUserFactory.ensureRec( secUser ) );
+	}
+
+	@Benchmark
+	public CFSecBuffSecUserH secUserEnsureHRec() {
+		return( secUserFactory.ensureHRec( secUserH ) );
+	}
+
+	@Benchmark
+	public CFSecBuffSecUser secUserCloneRec() {
+		return( CFSecBuffSecUserDefaultFactory.cloneRec( secUser ) );
+	}
+
+	@Benchmark
+	public CFSecBuffSecUser[] secUserCloneRecs64() {
+		return( CFSecBuffSecUserDefaultFactory.cloneRecs( secUsers ) );
+	}
+
+	@Benchmark
+	public CFSecBuffSecUser secUserSet() {
+		secUserTarget.set( secUser );
+		return( secUserTarget );
+	}
+
+	@Benchmark
+	public CFSecBuffSecUserH secUserHSetFromRec() {
+		secUserHTarget.set( secUser );
+		return( secUserHTarget );
+	}
+
+	@Benchmark
+	public CFSecBuffSecUserH secUserHSet() {
+		secUserHTarget.set( secUserH );
+		return( secUserHTarget );
+	}
+
+	@Benchmark
+	public CFSecBuffSecSession secSessionSet() {
+		secSessionTarget.set( secSession );
+		return( secSessionTarget );
+	}
+
+	@Benchmark
+	public CFSecBuffSecGrpMemb secGrpMembSet() {
+		secGrpMembTarget.set( secGrpMemb );
+		return( secGrpMembTarget );
+	}
+
+	@Benchmark
+	public CFSecBuffISOCtryCcy isoCtryCcySet() {
+		isoCtryCcyTarget.set( isoCtryCcy );
+		return( isoCtryCcyTarget );
+	}
+}
@@ -0,0 +1,113 @@
+// Description: Java 25 JMH benchmarks of CFSecBuff XML rendering
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff.jmh;
+
+import java.time.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.buff.*;
+
+/*
+ *	Measures getXmlAttrFragment() and toString() on representative records and
+ *	keys, and CFSecBuffSchema.xmlEncodeString() on text with and without
+ *	characters that need escaping.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class CFSecBuffXmlBenchmark
+{
+	protected static final String PLAIN_TEXT = "The quick brown fox jumps over the lazy dog 0123456789";
+	protected static final String ESCAPED_TEXT = "<user name=\"O'Brien & Sons\">caf\u00e9 \u2014 na\u00efve</user>";
+
+	protected CFSecBuffSecUser secUser;
+	protected CFSecBuffSecUserH secUserH;
+	protected CFSecBuffSecSession secSession;
+	protected CFSecBuffSecSessionByStartIdxKey startKey;
+
+	@Setup
+	public void setup() {
+		CFLibDbKeyHash256 secUserId = CFSecBuffBenchFixtures.nextId();
+		LocalDateTime start = LocalDateTime.of( 2026, 1, 15, 9, 30 );
+		secUser = CFSecBuffBenchFixtures.newSecUser( secUserId, "o'brien&sons" );
+		secUserH = CFSecBuffBenchFixtures.newSecUserH( secUser );
+		secSession = CFSecBuffBenchFixtures.newSecSession( secUserId, start );
+		startKey = CFSecBuffBenchFixtures.newSecSessionByStartIdxKey( secUserId, start );
+	}
+
+	@Benchmark
+	public String secUserXmlAttrFragment() {
+		return( secUser.getXmlAttrFragment() );
+	}
+
+	@Benchmark
+	public String secUserToString() {
+		return( secUser.toString() );
+	}
+
+	@Benchmark
+	public String secUserHToString() {
+		return( secUserH.toString() );
+	}
+
+	@Benchmark
+	public String secSessionXmlAttrFragment() {
+		return( secSession.getXmlAttrFragment() );
+	}
+
+	@Benchmark
+	public String secSessionToString() {
+		return( secSession.toString() );
+	}
+
+	@Benchmark
+	public String startIdxKeyToString() {
+		return( startKey.toString() );
+	}
+
+	@Benchmark
+	public String xmlEncodePlain() {
+		return( CFSecBuffSchema.xmlEncodeString( PLAIN_TEXT ) );
+	}
+
+	@Benchmark
+	public String xmlEncodeEscaped() {
+		return( CFSecBuffSchema.xmlEncodeString( ESCAPED_TEXT ) );
+	}
+}
@@ -0,0 +1,297 @@
+// Description: Java 25 live SecSession index for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.util.*;
+import java.util.concurrent.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffActiveSessionIndex tracks the SecSessions that have no finish time.
+ *	Live sessions are indexed by user, by proxy user and by device, so a live
+ *	count or live set costs one probe instead of a scan of a user's session
+ *	history.
+ *
+ *	A SecSession row does not record the cluster it was opened in.  Sessions
+ *	created through CFSecBuffSchema.createSecSession() with a cluster, as the
+ *	bootstrap session is, are bound to it here, and other callers that know the
+ *	cluster can bind a session with bindCluster().  Per-cluster live counts are
+ *	kept from those bindings.  A binding survives a change of the session's
+ *	user, proxy or device and is dropped when the session finishes.
+ *
+ *	The index loads from the table when it is constructed and then follows it.
+ *	Changes are applied under the index monitor, and readers never lock.
+ */
+public class CFSecBuffActiveSessionIndex
+{
+	protected static final class LiveSession {
+		protected final CFLibDbKeyHash256 secSessionId;
+		protected final CFLibDbKeyHash256 secUserId;
+		protected final CFLibDbKeyHash256 secProxyId;
+		protected final String secDevName;
+		protected CFLibDbKeyHash256 clusterId = null;
+
+		protected LiveSession( ICFSecSecSession rec ) {
+			secSessionId = rec.getRequiredSecSessionId();
+			secUserId = rec.getRequiredSecUserId();
+			secProxyId = rec.getOptionalSecProxyId();
+			secDevName = rec.getOptionalSecDevName();
+		}
+
+		protected boolean sameKeys( ICFSecSecSession rec ) {
+			return( Objects.equals( secUserId, rec.getRequiredSecUserId() )
+				&& Objects.equals( secProxyId, rec.getOptionalSecProxyId() )
+				&& Objects.equals( secDevName, rec.getOptionalSecDevName() ) );
+		}
+	}
+
+	protected final CFSecBuffSecSessionTable sessionTable;
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, LiveSession> live = new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, Set<CFLibDbKeyHash256>> liveByUser = new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, Set<CFLibDbKeyHash256>> liveByProxy = new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecSessionBySecDevIdxKey, Set<CFLibDbKeyHash256>> liveByDevice = new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, Set<CFLibDbKeyHash256>> liveByCluster = new ConcurrentHashMap<>();
+
+	protected final CFSecBuffTableListener<ICFSecSecSession> sessionListener = new CFSecBuffTableListener<ICFSecSecSession>() {
+		@Override
+		public void recCreated( ICFSecSecSession rec ) {
+			if( rec.getOptionalFinish() == null ) {
+				addLive( rec );
+			}
+		}
+
+		@Override
+		public void recUpdated( ICFSecSecSession existing, ICFSecSecSession rec ) {
+			LiveSession cur = live.get( rec.getRequiredSecSessionId() );
+			if( rec.getOptionalFinish() != null ) {
+				if( cur != null ) {
+					removeLive( rec.getRequiredSecSessionId() );
+				}
+			}
+			else if( cur == null ) {
+				addLive( rec );
+			}
+			else if( ! cur.sameKeys( rec ) ) {
+				CFLibDbKeyHash256 clusterId = cur.clusterId;
+				removeLive( rec.getRequiredSecSessionId() );
+				addLive( rec );
+				bindCluster( rec.getRequiredSecSessionId(), clusterId );
+			}
+		}
+
+		@Override
+		public void recDeleted( ICFSecSecSession rec ) {
+			removeLive( rec.getRequiredSecSessionId() );
+		}
+	};
+
+	/**
+	 *	Construct an index over a SecSession table, loading its live sessions.
+	 *
+	 *	@param	sessionTable	The table to index.
+	 */
+	public CFSecBuffActiveSessionIndex( CFSecBuffSecSessionTable sessionTable ) {
+		if( sessionTable == null ) {
+			throw new CFLibNullArgumentException( getClass(), "construct", 1, "sessionTable" );
+		}
+		this.sessionTable = sessionTable;
+		sessionTable.addListener( sessionListener, true );
+	}
+
+	/**
+	 *	Stop following the table and drop the index.
+	 */
+	public synchronized void close() {
+		sessionTable.removeListener( sessionListener );
+		live.clear();
+		liveByUser.clear();
+		liveByProxy.clear();
+		liveByDevice.clear();
+		liveByCluster.clear();
+	}
+
+	protected static <K> void addTo( ConcurrentHashMap<K, Set<CFLibDbKeyHash256>> dict, K key, CFLibDbKeyHash256 secSessionId ) {
+		if( key != null ) {
+			dict.computeIfAbsent( key, k -> ConcurrentHashMap.newKeySet() ).add( secSessionId );
+		}
+	}
+
+	protected static <K> void removeFrom( ConcurrentHashMap<K, Set<CFLibDbKeyHash256>> dict, K key, CFLibDbKeyHash256 secSessionId ) {
+		if( key == null ) {
+			return;
+		}
+		Set<CFLibDbKeyHash256> set = dict.get( key );
+		if( set != null ) {
+			set.remove( secSessionId );
+			if( set.isEmpty() ) {
+				dict.remove( key, set );
+			}
+		}
+	}
+
+	protected static CFSecBuffSecSessionBySecDevIdxKey deviceKey( CFLibDbKeyHash256 secUserId, String secDevName ) {
+		if( secDevName == null ) {
+			return( null );
+		}
+		CFSecBuffSecSessionBySecDevIdxKey key = new CFSecBuffSecSessionBySecDevIdxKey();
+		key.setRequiredSecUserId( secUserId );
+		key.setOptionalSecDevName( secDevName );
+		return( key );
+	}
+
+	protected synchronized void addLive( ICFSecSecSession rec ) {
+		LiveSession session = new LiveSession( rec );
+		if( live.putIfAbsent( session.secSessionId, session ) != null ) {
+			return;
+		}
+		addTo( liveByUser, session.secUserId, session.secSessionId );
+		addTo( liveByProxy, session.secProxyId, session.secSessionId );
+		addTo( liveByDevice, deviceKey( session.secUserId, session.secDevName ), session.secSessionId );
+	}
+
+	protected synchronized void removeLive( CFLibDbKeyHash256 secSessionId ) {
+		LiveSession session = live.remove( secSessionId );
+		if( session == null ) {
+			return;
+		}
+		removeFrom( liveByUser, session.secUserId, secSessionId );
+		removeFrom( liveByProxy, session.secProxyId, secSessionId );
+		removeFrom( liveByDevice, deviceKey( session.secUserId, session.secDevName ), secSessionId );
+		removeFrom( liveByCluster, session.clusterId, secSessionId );
+	}
+
+	/**
+	 *	Bind a live session to the cluster it was opened in, replacing any earlier
+	 *	binding.  Binding a session that is not live is ignored.
+	 *
+	 *	@param	secSessionId	The session.
+	 *	@param	clusterId	The cluster, or null to unbind.
+	 *
+	 *	@return	True if the session is live and is now bound as requested.
+	 */
+	public synchronized boolean bindCluster( CFLibDbKeyHash256 secSessionId, CFLibDbKeyHash256 clusterId ) {
+		LiveSession session = ( secSessionId != null ) ? live.get( secSessionId ) : null;
+		if( session == null ) {
+			return( false );
+		}
+		if( ! Objects.equals( session.clusterId, clusterId ) ) {
+			removeFrom( liveByCluster, session.clusterId, secSessionId );
+			session.clusterId = clusterId;
+			addTo( liveByCluster, clusterId, secSessionId );
+		}
+		return( true );
+	}
+
+	protected static int countOf( Set<CFLibDbKeyHash256> set ) {
+		return( ( set != null ) ? set.size() : 0 );
+	}
+
+	protected static Set<CFLibDbKeyHash256> snapshotOf( Set<CFLibDbKeyHash256> set ) {
+		return( ( set != null ) ? Set.copyOf( set ) : Collections.emptySet() );
+	}
+
+	public boolean isLive( CFLibDbKeyHash256 secSessionId ) {
+		return( ( secSessionId != null ) && live.containsKey( secSessionId ) );
+	}
+
+	public int getLiveCount() {
+		return( live.size() );
+	}
+
+	public int getLiveCountByUser( CFLibDbKeyHash256 secUserId ) {
+		return( ( secUserId != null ) ? countOf( liveByUser.get( secUserId ) ) : 0 );
+	}
+
+	public int getLiveCountByProxy( CFLibDbKeyHash256 secProxyId ) {
+		return( ( secProxyId != null ) ? countOf( liveByProxy.get( secProxyId ) ) : 0 );
+	}
+
+	public int getLiveCountByDevice( CFLibDbKeyHash256 secUserId, String secDevName ) {
+		CFSecBuffSecSessionBySecDevIdxKey key = ( secUserId != null ) ? deviceKey( secUserId, secDevName ) : null;
+		return( ( key != null ) ? countOf( liveByDevice.get( key ) ) : 0 );
+	}
+
+	public int getLiveCountByCluster( CFLibDbKeyHash256 clusterId ) {
+		return( ( clusterId != null ) ? countOf( liveByCluster.get( clusterId ) ) : 0 );
+	}
+
+	/**
+	 *	Get the live sessions of a user.
+	 *
+	 *	@param	secUserId	The user.
+	 *
+	 *	@return	An unmodifiable snapshot of session ids, never null.
+	 */
+	public Set<CFLibDbKeyHash256> getLiveSessionIdsByUser( CFLibDbKeyHash256 secUserId ) {
+		return( ( secUserId != null ) ? snapshotOf( liveByUser.get( secUserId ) ) : Collections.emptySet() );
+	}
+
+	/**
+	 *	Get the live sessions opened through a proxy user.
+	 *
+	 *	@param	secProxyId	The proxy user.
+	 *
+	 *	@return	An unmodifiable snapshot of session ids, never null.
+	 */
+	public Set<CFLibDbKeyHash256> getLiveSessionIdsByProxy( CFLibDbKeyHash256 secProxyId ) {
+		return( ( secProxyId != null ) ? snapshotOf( liveByProxy.get( secProxyId ) ) : Collections.emptySet() );
+	}
+
+	/**
+	 *	Get the live sessions of a user on one device.
+	 *
+	 *	@param	secUserId	The user.
+	 *	@param	secDevName	The device name.
+	 *
+	 *	@return	An unmodifiable snapshot of session ids, never null.
+	 */
+	public Set<CFLibDbKeyHash256> getLiveSessionIdsByDevice( CFLibDbKeyHash256 secUserId, String secDevName ) {
+		CFSecBuffSecSessionBySecDevIdxKey key = ( secUserId != null ) ? deviceKey( secUserId, secDevName ) : null;
+		return( ( key != null ) ? snapshotOf( liveByDevice.get( key ) ) : Collections.emptySet() );
+	}
+
+	/**
+	 *	Get the live sessions bound to a cluster.
+	 *
+	 *	@param	clusterId	The cluster.
+	 *
+	 *	@return	An unmodifiable snapshot of session ids, never null.
+	 */
+	public Set<CFLibDbKeyHash256> getLiveSessionIdsByCluster( CFLibDbKeyHash256 clusterId ) {
+		return( ( clusterId != null ) ? snapshotOf( liveByCluster.get( clusterId ) ) : Collections.emptySet() );
+	}
+}
@@ -0,0 +1,458 @@
+// Description: Java 25 batch table permission checks for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.util.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffBatchAuthorization answers a vector of permission checks in one
+ *	call.  Each check names an authorization, a table class code and an action.
+ *	Checks are grouped by session, cluster and tenant into one Context each,
+ *	and duplicate (action, class code) checks within a Context are decided once.
+ *
+ *	The built-in actions CREATE, READ, UPDATE and DELETE ask the ICFSecTablePerms
+ *	the batch was given, through allowCreate(), allowRead(), allowUpdate() and
+ *	allowDelete(), so a batch never allows what a single check would deny.  When
+ *	the installed implementation is a CFSecBuffTablePermsCache, repeats across
+ *	batches are answered from its memoised decisions.
+ *
+ *	Callers may also supply their own Action.  Only caller actions see
+ *	Context.getEffectiveGroups(), the user's effective SecGroups resolved once
+ *	per Context through the schema's effective membership cache.  groupNamed()
+ *	builds one such action for schemas that grant a table action through
+ *	membership in a SecGroup named after it; it is never the default.
+ *
+ *	The result is a BitSet in which bit i is set when check i is allowed.
+ */
+public final class CFSecBuffBatchAuthorization
+{
+	/**
+	 *	One kind of permission check, such as read or update.
+	 */
+	@FunctionalInterface
+	public interface Action {
+		/**
+		 *	Decide one check.
+		 *
+		 *	@param	context	The per-session evaluation context.
+		 *	@param	tableClassCode	The class code of the table being checked.
+		 *
+		 *	@return	True to allow.
+		 */
+		boolean allow( Context context, int tableClassCode );
+	}
+
+	/**
+	 *	An action decided by the ICFSecTablePerms of the batch.
+	 */
+	protected static final class TablePermsAction
+		implements Action
+	{
+		protected final int action;
+
+		protected TablePermsAction( int action ) {
+			this.action = action;
+		}
+
+		@Override
+		public boolean allow( Context context, int tableClassCode ) {
+			return( context.allowByTablePerms( action, tableClassCode ) );
+		}
+	}
+
+	/**
+	 *	An action granted by membership in a named SecGroup of the cluster.
+	 */
+	protected static final class GroupNamedAction
+		implements Action
+	{
+		protected final String verb;
+
+		protected GroupNamedAction( String verb ) {
+			this.verb = verb;
+		}
+
+		@Override
+		public boolean allow( Context context, int tableClassCode ) {
+			String tableName = tableNames.get( tableClassCode );
+			if( tableName == null ) {
+				return( false );
+			}
+			CFLibDbKeyHash256 clusterId = context.authorization.getSecClusterId();
+			if( clusterId == null ) {
+				return( false );
+			}
+			ICFSecSecGroup group = context.schema.getTableSecGroup().readDerivedByUNameIdx( context.authorization,
+				clusterId,
+				verb + tableName );
+			if( group == null ) {
+				return( false );
+			}
+			return( context.getEffectiveGroups().contains( group.getRequiredSecGroupId() ) );
+		}
+	}
+
+	public static final Action CREATE = new TablePermsAction( CFSecBuffTablePermsCache.ACTION_CREATE );
+	public static final Action READ = new TablePermsAction( CFSecBuffTablePermsCache.ACTION_READ );
+	public static final Action UPDATE = new TablePermsAction( CFSecBuffTablePermsCache.ACTION_UPDATE );
+	public static final Action DELETE = new TablePermsAction( CFSecBuffTablePermsCache.ACTION_DELETE );
+
+	protected static final Map<Integer, String> tableNames = new java.util.concurrent.ConcurrentHashMap<>();
+
+	static {
+		tableNames.put( ICFSecCluster.CLASS_CODE, "Cluster" );
+		tableNames.put( ICFSecHostNode.CLASS_CODE, "HostNode" );
+		tableNames.put( ICFSecISOCcy.CLASS_CODE, "ISOCcy" );
+		tableNames.put( ICFSecISOCtry.CLASS_CODE, "ISOCtry" );
+		tableNames.put( ICFSecISOCtryCcy.CLASS_CODE, "ISOCtryCcy" );
+		tableNames.put( ICFSecISOCtryLang.CLASS_CODE, "ISOCtryLang" );
+		tableNames.put( ICFSecISOLang.CLASS_CODE, "ISOLang" );
+		tableNames.put( ICFSecISOTZone.CLASS_CODE, "ISOTZone" );
+		tableNames.put( ICFSecSecDevice.CLASS_CODE, "SecDevice" );
+		tableNames.put( ICFSecSecGroup.CLASS_CODE, "SecGroup" );
+		tableNames.put( ICFSecSecGrpInc.CLASS_CODE, "SecGrpInc" );
+		tableNames.put( ICFSecSecGrpMemb.CLASS_CODE, "SecGrpMemb" );
+		tableNames.put( ICFSecSecSession.CLASS_CODE, "SecSession" );
+		tableNames.put( ICFSecSecUser.CLASS_CODE, "SecUser" );
+		tableNames.put( ICFSecService.CLASS_CODE, "Service" );
+		tableNames.put( ICFSecServiceType.CLASS_CODE, "ServiceType" );
+		tableNames.put( ICFSecSysCluster.CLASS_CODE, "SysCluster" );
+		tableNames.put( ICFSecTSecGroup.CLASS_CODE, "TSecGroup" );
+		tableNames.put( ICFSecTSecGrpInc.CLASS_CODE, "TSecGrpInc" );
+		tableNames.put( ICFSecTSecGrpMemb.CLASS_CODE, "TSecGrpMemb" );
+		tableNames.put( ICFSecTenant.CLASS_CODE, "Tenant" );
+	}
+
+	/**
+	 *	Build an action that allows a check when the session's user effectively
+	 *	belongs to the SecGroup of the session's cluster named verb plus the table
+	 *	name, such as "CreateSecUser" or "ReadTenant".  The ICFSecTablePerms of the
+	 *	batch is not consulted, so use this only where that naming is the
+	 *	schema's security policy.  Class codes without a registered table name are
+	 *	denied.
+	 *
+	 *	@param	verb	The group name prefix, such as "Create".
+	 *
+	 *	@return	A new action.
+	 */
+	public static Action groupNamed( String verb ) {
+		if( ( verb == null ) || verb.isEmpty() ) {
+			throw new CFLibNullArgumentException( CFSecBuffBatchAuthorization.class, "groupNamed", 1, "verb" );
+		}
+		return( new GroupNamedAction( verb ) );
+	}
+
+	/**
+	 *	Register the table name groupNamed() actions use for a class code.
+	 *
+	 *	@param	tableClassCode	The class code of the table.
+	 *	@param	tableName	The table name, such as "SecUser".
+	 */
+	public static void registerTableName( int tableClassCode, String tableName ) {
+		if( ( tableName == null ) || tableName.isEmpty() ) {
+			throw new CFLibNullArgumentException( CFSecBuffBatchAuthorization.class, "registerTableName", 2, "tableName" );
+		}
+		tableNames.put( tableClassCode, tableName );
+	}
+
+	/**
+	 *	The state shared by every check of one session in a batch.
+	 */
+	public static final class Context {
+		protected final CFSecBuffSchema schema;
+		protected final ICFSecTablePerms tablePerms;
+		protected final ICFSecAuthorization authorization;
+		protected Set<CFLibDbKeyHash256> effectiveGroups = null;
+		protected final HashMap<Long, Boolean> decisions = new HashMap<>();
+
+		protected Context( CFSecBuffSchema schema, ICFSecTablePerms tablePerms, ICFSecAuthorization authorization ) {
+			this.schema = schema;
+			this.tablePerms = tablePerms;
+			this.authorization = authorization;
+		}
+
+		public CFSecBuffSchema getSchema() {
+			return( schema );
+		}
+
+		/**
+		 *	@return	The permission implementation of the batch, or null if none was
+		 *		installed when it was evaluated.
+		 */
+		public ICFSecTablePerms getTablePerms() {
+			return( tablePerms );
+		}
+
+		public ICFSecAuthorization getAuthorization() {
+			return( authorization );
+		}
+
+		/**
+		 *	Get the SecGroups the session's user effectively belongs to within the
+		 *	session's cluster, for caller actions.  The set is resolved on first use,
+		 *	once per Context, from the schema's effective membership cache.  The
+		 *	built-in actions do not use it.
+		 *
+		 *	@return	An unmodifiable set of SecGroup ids, empty when the session has
+		 *		no cluster or no user.
+		 *
+		 *	@throws	CFLibUnsupportedClassException if the schema's SecGrpMemb or
+		 *		SecGrpInc table is not a buffer table, so no cache can be kept.
+		 */
+		public Set<CFLibDbKeyHash256> getEffectiveGroups() {
+			if( effectiveGroups == null ) {
+				CFLibDbKeyHash256 clusterId = authorization.getSecClusterId();
+				CFLibDbKeyHash256 secUserId = authorization.getSecUserId();
+				CFSecBuffEffectiveMembershipCache cache = schema.getEffectiveMembershipCache();
+				if( ( clusterId != null ) && ( secUserId != null ) ) {
+					effectiveGroups = cache.getEffectiveGroups( clusterId, secUserId );
+				}
+				else {
+					effectiveGroups = Collections.emptySet();
+				}
+			}
+			return( effectiveGroups );
+		}
+
+		protected boolean allowByTablePerms( int action, int tableClassCode ) {
+			if( tablePerms == null ) {
+				throw new CFLibNullArgumentException( getClass(), "allowByTablePerms", 0, "tablePerms" );
+			}
+			switch( action ) {
+				case CFSecBuffTablePermsCache.ACTION_CREATE:
+					return( tablePerms.allowCreate( authorization, tableClassCode ) );
+				case CFSecBuffTablePermsCache.ACTION_READ:
+					return( tablePerms.allowRead( authorization, tableClassCode ) );
+				case CFSecBuffTablePermsCache.ACTION_UPDATE:
+					return( tablePerms.allowUpdate( authorization, tableClassCode ) );
+				default:
+					return( tablePerms.allowDelete( authorization, tableClassCode ) );
+			}
+		}
+	}
+
+	/**
+	 *	A growable vector of checks, held in parallel arrays.
+	 */
+	public static final class Checks {
+		protected ICFSecAuthorization[] authorizations;
+		protected int[] tableClassCodes;
+		protected Action[] actions;
+		protected int size;
+
+		public Checks() {
+			this( 16 );
+		}
+
+		public Checks( int capacity ) {
+			int initial = Math.max( capacity, 1 );
+			authorizations = new ICFSecAuthorization[ initial ];
+			tableClassCodes = new int[ initial ];
+			actions = new Action[ initial ];
+			size = 0;
+		}
+
+		/**
+		 *	Append a check.
+		 *
+		 *	@param	authorization	The authorization being checked.
+		 *	@param	tableClassCode	The class code of the table.
+		 *	@param	action	The action being checked.
+		 *
+		 *	@return	The index of the check, which is its bit in the result.
+		 */
+		public int add( ICFSecAuthorization authorization, int tableClassCode, Action action ) {
+			final String S_ProcName = "add";
+			if( authorization == null ) {
+				throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "authorization" );
+			}
+			if( action == null ) {
+				throw new CFLibNullArgumentException( getClass(), S_ProcName, 3, "action" );
+			}
+			if( size == authorizations.length ) {
+				int capacity = size * 2;
+				authorizations = Arrays.copyOf( authorizations, capacity );
+				tableClassCodes = Arrays.copyOf( tableClassCodes, capacity );
+				actions = Arrays.copyOf( actions, capacity );
+			}
+			authorizations[ size ] = authorization;
+			tableClassCodes[ size ] = tableClassCode;
+			actions[ size ] = action;
+			return( size++ );
+		}
+
+		public int size() {
+			return( size );
+		}
+
+		public void clear() {
+			Arrays.fill( authorizations, 0, size, null );
+			Arrays.fill( actions, 0, size, null );
+			size = 0;
+		}
+	}
+
+	private CFSecBuffBatchAuthorization() {
+	}
+
+	/**
+	 *	Evaluate a batch against a schema and the installed
+	 *	CFSecBuffSchema.getTablePerms().
+	 *
+	 *	@param	schema	The schema whose security tables are evaluated.
+	 *	@param	checks	The checks to evaluate.
+	 *
+	 *	@return	A BitSet with bit i set when check i is allowed.
+	 */
+	public static BitSet evaluate( CFSecBuffSchema schema, Checks checks ) {
+		return( evaluate( schema, CFSecBuffSchema.getTablePerms(), checks ) );
+	}
+
+	/**
+	 *	Evaluate a batch against a schema and a given permission implementation.
+	 *
+	 *	@param	schema	The schema whose security tables are evaluated.
+	 *	@param	tablePerms	The permission implementation that decides the
+	 *		built-in actions.  May be null only when every check uses a caller
+	 *		action that does not need it.
+	 *	@param	checks	The checks to evaluate.
+	 *
+	 *	@return	A BitSet with bit i set when check i is allowed.
+	 *
+	 *	@throws	CFLibNullArgumentException if tablePerms is null and a check uses a
+	 *		built-in action.
+	 */
+	public static BitSet evaluate( CFSecBuffSchema schema, ICFSecTablePerms tablePerms, Checks checks ) {
+		final String S_ProcName = "evaluate";
+		if( schema == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffBatchAuthorization.class, S_ProcName, 1, "schema" );
+		}
+		if( checks == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffBatchAuthorization.class, S_ProcName, 3, "checks" );
+		}
+		if( tablePerms == null ) {
+			for( int idx = 0; idx < checks.size; idx++ ) {
+				if( checks.actions[ idx ] instanceof TablePermsAction ) {
+					throw new CFLibNullArgumentException( CFSecBuffBatchAuthorization.class, S_ProcName, 2, "tablePerms" );
+				}
+			}
+		}
+		BitSet result = new BitSet( checks.size );
+		HashMap<Object, Context> contexts = new HashMap<>();
+		IdentityHashMap<Action, Integer> actionOrdinals = new IdentityHashMap<>();
+		for( int idx = 0; idx < checks.size; idx++ ) {
+			ICFSecAuthorization authorization = checks.authorizations[ idx ];
+			CFLibDbKeyHash256 secSessionId = authorization.getSecSessionId();
+			// Authorizations without a session are only shared with themselves
+			Object contextKey = ( secSessionId != null )
+				? new ContextKey( secSessionId, authorization.getSecClusterId(), authorization.getSecTenantId() )
+				: new IdentityKey( authorization );
+			Context context = contexts.get( contextKey );
+			if( context == null ) {
+				context = new Context( schema, tablePerms, authorization );
+				contexts.put( contextKey, context );
+			}
+			Action action = checks.actions[ idx ];
+			Integer actionOrdinal = actionOrdinals.get( action );
+			if( actionOrdinal == null ) {
+				actionOrdinal = actionOrdinals.size();
+				actionOrdinals.put( action, actionOrdinal );
+			}
+			int tableClassCode = checks.tableClassCodes[ idx ];
+			Long decisionKey = Long.valueOf( ( ( (long)actionOrdinal.intValue() ) << 32 ) | ( tableClassCode & 0xffffffffL ) );
+			Boolean decision = context.decisions.get( decisionKey );
+			if( decision == null ) {
+				decision = action.allow( context, tableClassCode );
+				context.decisions.put( decisionKey, decision );
+			}
+			if( decision.booleanValue() ) {
+				result.set( idx );
+			}
+		}
+		return( result );
+	}
+
+	/*
+	 *	A session evaluated under one cluster and tenant.
+	 */
+	protected static final class ContextKey {
+		protected final CFLibDbKeyHash256 secSessionId;
+		protected final CFLibDbKeyHash256 clusterId;
+		protected final CFLibDbKeyHash256 tenantId;
+
+		protected ContextKey( CFLibDbKeyHash256 secSessionId, CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 tenantId ) {
+			this.secSessionId = secSessionId;
+			this.clusterId = clusterId;
+			this.tenantId = tenantId;
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			if( ! ( obj instanceof ContextKey ) ) {
+				return( false );
+			}
+			ContextKey other = (ContextKey)obj;
+			return( secSessionId.equals( other.secSessionId )
+				&& Objects.equals( clusterId, other.clusterId )
+				&& Objects.equals( tenantId, other.tenantId ) );
+		}
+
+		@Override
+		public int hashCode() {
+			return( ( secSessionId.hashCode() * 31 + Objects.hashCode( clusterId ) ) * 31 + Objects.hashCode( tenantId ) );
+		}
+	}
+
+	protected static final class IdentityKey {
+		protected final Object referent;
+
+		protected IdentityKey( Object referent ) {
+			this.referent = referent;
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			return( ( obj instanceof IdentityKey ) && ( ( (IdentityKey)obj ).referent == referent ) );
+		}
+
+		@Override
+		public int hashCode() {
+			return( System.identityHashCode( referent ) );
+		}
+	}
+}
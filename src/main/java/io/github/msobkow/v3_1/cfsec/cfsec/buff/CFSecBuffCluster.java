@@ -51,21 +51,99 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffCluster
-	implements ICFSecCluster, Comparable<Object>, Serializable
+	implements ICFSecCluster, Comparable<Object>, Serializable, Cloneable
 {
 	protected CFLibDbKeyHash256 requiredId;
 	protected int requiredRevision;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecCluster.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecCluster.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
 	protected String requiredFullDomName;
 	protected String requiredDescription;
 
+	protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecCluster.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecCluster.S_INIT_UPDATED_BY);
+	protected transient CFSecBuffNavigationCache navigationCache = null;
+
+	protected static final int NAV_OPTIONALCOMPONENTSHOSTNODE = 0;
+	protected static final int NAV_OPTIONALCOMPONENTSTENANT = 1;
+	protected static final int NAV_OPTIONALCOMPONENTSSECGROUP = 2;
+	protected static final int NAV_OPTIONALCOMPONENTSSYSCLUSTER = 3;
+	protected static final int NAV_SLOT_COUNT = 4;
+
 	public CFSecBuffCluster() {
-		requiredId = CFLibDbKeyHash256.fromHex( ICFSecCluster.ID_INIT_VALUE.toString() );
+		this( CFSecBuffRecStamp.EAGER );
+	}
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+	public CFSecBuffCluster( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffCluster", 1, "stamp" );
+		}
+		requiredId = ICFSecCluster.ID_INIT_VALUE;
 		requiredFullDomName = ICFSecCluster.FULLDOMNAME_INIT_VALUE;
 		requiredDescription = ICFSecCluster.DESCRIPTION_INIT_VALUE;
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
+	}
+
+	/**
+	 *	Enable or disable caching of the relationship navigation getters of this
+	 *	instance.  While enabled, each navigation result is reused until the table
+	 *	it was read from reports a modification, or until an attribute of this
+	 *	instance is changed.  Tables that do not publish a modification count are
+	 *	always read.  Cached objects are shared between calls, so callers must treat
+	 *	them as read-only.
+	 *
+	 *	@param	value	true to cache navigation results, false to discard the cache.
+	 */
+	public void setNavigationCacheEnabled( boolean value ) {
+		if( value ) {
+			if( navigationCache == null ) {
+				navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+			}
+		}
+		else {
+			navigationCache = null;
+		}
+	}
+
+	public boolean isNavigationCacheEnabled() {
+		return( navigationCache != null );
+	}
+
+	protected long getNavigationStamp( Object targetTable ) {
+		if( navigationCache == null ) {
+			return( 0L );
+		}
+		return( CFSecBuffNavigationCache.stampOf( targetTable ) );
+	}
+
+	protected void primeNavigation( int slot, long navStamp, Object value ) {
+		if( navStamp == 0L ) {
+			return;
+		}
+		if( navigationCache == null ) {
+			navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+		}
+		navigationCache.put( slot, navStamp, value );
 	}
 
 	@Override
@@ -94,6 +172,8 @@ public class CFSecBuffCluster
 				"value" );
 		}
 		requiredId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -104,16 +184,25 @@ public class CFSecBuffCluster
 	@Override
 	public void setCreatedByUserId( CFLibDbKeyHash256 value ) {
 		createdByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getCreatedAt() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
 		return( createdAt );
 	}
 
 	@Override
 	public void setCreatedAt( LocalDateTime value ) {
 		createdAt = value;
+		pendingCreatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -124,16 +213,25 @@ public class CFSecBuffCluster
 	@Override
 	public void setUpdatedByUserId( CFLibDbKeyHash256 value ) {
 		updatedByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getUpdatedAt() {
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
 		return( updatedAt );
 	}
 
 	@Override
 	public void setUpdatedAt( LocalDateTime value ) {
 		updatedAt = value;
+		pendingUpdatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 	@Override
 	public int getRequiredRevision() {
@@ -143,6 +241,8 @@ public class CFSecBuffCluster
 	@Override
 	public void setRequiredRevision( int value ) {
 		requiredRevision = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -160,7 +260,17 @@ public class CFSecBuffCluster
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalComponentsHostNode", 0, "ICFSecSchema.getBackingCFSec().getTableHostNode()");
 		}
-		ICFSecHostNode[] targetArr = targetTable.readDerivedByClusterIdx(null, getRequiredId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecHostNode[] targetArr;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALCOMPONENTSHOSTNODE, navStamp ) ) {
+			targetArr = (ICFSecHostNode[])navigationCache.getValue( NAV_OPTIONALCOMPONENTSHOSTNODE );
+		}
+		else {
+			targetArr = targetTable.readDerivedByClusterIdx(null, getRequiredId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALCOMPONENTSHOSTNODE, navStamp, targetArr );
+			}
+		}
 		if( targetArr != null ) {
 			List<ICFSecHostNode> results = new ArrayList<>(targetArr.length);
 			for (int idx = 0; idx < targetArr.length; idx++) {
@@ -183,7 +293,17 @@ public class CFSecBuffCluster
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalComponentsTenant", 0, "ICFSecSchema.getBackingCFSec().getTableTenant()");
 		}
-		ICFSecTenant[] targetArr = targetTable.readDerivedByClusterIdx(null, getRequiredId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecTenant[] targetArr;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALCOMPONENTSTENANT, navStamp ) ) {
+			targetArr = (ICFSecTenant[])navigationCache.getValue( NAV_OPTIONALCOMPONENTSTENANT );
+		}
+		else {
+			targetArr = targetTable.readDerivedByClusterIdx(null, getRequiredId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALCOMPONENTSTENANT, navStamp, targetArr );
+			}
+		}
 		if( targetArr != null ) {
 			List<ICFSecTenant> results = new ArrayList<>(targetArr.length);
 			for (int idx = 0; idx < targetArr.length; idx++) {
@@ -206,7 +326,17 @@ public class CFSecBuffCluster
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalComponentsSecGroup", 0, "ICFSecSchema.getBackingCFSec().getTableSecGroup()");
 		}
-		ICFSecSecGroup[] targetArr = targetTable.readDerivedByClusterIdx(null, getRequiredId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecSecGroup[] targetArr;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALCOMPONENTSSECGROUP, navStamp ) ) {
+			targetArr = (ICFSecSecGroup[])navigationCache.getValue( NAV_OPTIONALCOMPONENTSSECGROUP );
+		}
+		else {
+			targetArr = targetTable.readDerivedByClusterIdx(null, getRequiredId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALCOMPONENTSSECGROUP, navStamp, targetArr );
+			}
+		}
 		if( targetArr != null ) {
 			List<ICFSecSecGroup> results = new ArrayList<>(targetArr.length);
 			for (int idx = 0; idx < targetArr.length; idx++) {
@@ -229,7 +359,17 @@ public class CFSecBuffCluster
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalComponentsSysCluster", 0, "ICFSecSchema.getBackingCFSec().getTableSysCluster()");
 		}
-		ICFSecSysCluster[] targetArr = targetTable.readDerivedByClusterIdx(null, getRequiredId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecSysCluster[] targetArr;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALCOMPONENTSSYSCLUSTER, navStamp ) ) {
+			targetArr = (ICFSecSysCluster[])navigationCache.getValue( NAV_OPTIONALCOMPONENTSSYSCLUSTER );
+		}
+		else {
+			targetArr = targetTable.readDerivedByClusterIdx(null, getRequiredId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALCOMPONENTSSYSCLUSTER, navStamp, targetArr );
+			}
+		}
 		if( targetArr != null ) {
 			List<ICFSecSysCluster> results = new ArrayList<>(targetArr.length);
 			for (int idx = 0; idx < targetArr.length; idx++) {
@@ -264,6 +404,8 @@ public class CFSecBuffCluster
 				192 );
 		}
 		requiredFullDomName = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -288,6 +430,8 @@ public class CFSecBuffCluster
 				128 );
 		}
 		requiredDescription = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -470,19 +614,20 @@ public class CFSecBuffCluster
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getCreatedByUserId().hashCode();
-		hashCode = hashCode + getCreatedAt().hashCode();
-		hashCode = hashCode + getUpdatedByUserId().hashCode();
-		hashCode = hashCode + getUpdatedAt().hashCode();
-		hashCode = hashCode + getRequiredId().hashCode();
-		if( getRequiredFullDomName() != null ) {
-			hashCode = hashCode + getRequiredFullDomName().hashCode();
-		}
-		if( getRequiredDescription() != null ) {
-			hashCode = hashCode + getRequiredDescription().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredFullDomName() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredDescription() );
+			hashCode = CFSecBuffHash.finish( hashCode, 7 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
@@ -675,6 +820,45 @@ public class CFSecBuffCluster
 		}
 	}
 
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+	protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+	}
+
+	private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+	public CFSecBuffCluster clone() {
+		resolvePendingStamps();
+		CFSecBuffCluster copy;
+		try {
+			copy = (CFSecBuffCluster)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.navigationCache = null;
+		return( copy );
+	}
+
 	@Override
 	public void set( ICFSecCluster src ) {
 		setCluster( src );
@@ -54,6 +54,8 @@ public class CFSecBuffClusterByUDescrIdxKey
 	implements ICFSecClusterByUDescrIdxKey, Comparable<Object>, Serializable
 {
 	protected String requiredDescription;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffClusterByUDescrIdxKey() {
 		requiredDescription = ICFSecCluster.DESCRIPTION_INIT_VALUE;
 	}
@@ -80,6 +82,7 @@ public class CFSecBuffClusterByUDescrIdxKey
 				128 );
 		}
 		requiredDescription = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -132,11 +135,14 @@ public class CFSecBuffClusterByUDescrIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		if( getRequiredDescription() != null ) {
-			hashCode = hashCode + getRequiredDescription().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredDescription() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
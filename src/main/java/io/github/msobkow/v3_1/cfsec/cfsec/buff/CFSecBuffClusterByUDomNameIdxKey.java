@@ -54,6 +54,8 @@ public class CFSecBuffClusterByUDomNameIdxKey
 	implements ICFSecClusterByUDomNameIdxKey, Comparable<Object>, Serializable
 {
 	protected String requiredFullDomName;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffClusterByUDomNameIdxKey() {
 		requiredFullDomName = ICFSecCluster.FULLDOMNAME_INIT_VALUE;
 	}
@@ -80,6 +82,7 @@ public class CFSecBuffClusterByUDomNameIdxKey
 				192 );
 		}
 		requiredFullDomName = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -132,11 +135,14 @@ public class CFSecBuffClusterByUDomNameIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		if( getRequiredFullDomName() != null ) {
-			hashCode = hashCode + getRequiredFullDomName().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredFullDomName() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
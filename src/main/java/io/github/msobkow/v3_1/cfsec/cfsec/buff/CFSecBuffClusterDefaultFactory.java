@@ -54,13 +54,90 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffClusterDefaultFactory
 	implements ICFSecClusterFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffClusterByUDomNameIdxKey> probeByUDomNameIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffClusterByUDomNameIdxKey() );
+	protected static final ThreadLocal<CFSecBuffClusterByUDescrIdxKey> probeByUDescrIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffClusterByUDescrIdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders Cluster instances by primary key.
+	 */
+	public static final Comparator<ICFSecCluster> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( lhs.getRequiredId().compareTo( rhs.getRequiredId() ) );
+	};
+
+	/**
+	 *	Orders Cluster history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecClusterHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredId().compareTo( rhs.getRequiredId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders Cluster instances by the UDomNameIdx columns.
+	 */
+	public static final Comparator<ICFSecCluster> COMPARE_BY_UDOMNAMEIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredFullDomName().compareTo( rhs.getRequiredFullDomName() ) );
+	};
+
+	/**
+	 *	Orders UDomNameIdx keys.
+	 */
+	public static final Comparator<ICFSecClusterByUDomNameIdxKey> COMPARE_UDOMNAMEIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredFullDomName().compareTo( rhs.getRequiredFullDomName() ) );
+	};
+
+	/**
+	 *	Orders Cluster instances by the UDescrIdx columns.
+	 */
+	public static final Comparator<ICFSecCluster> COMPARE_BY_UDESCRIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredDescription().compareTo( rhs.getRequiredDescription() ) );
+	};
+
+	/**
+	 *	Orders UDescrIdx keys.
+	 */
+	public static final Comparator<ICFSecClusterByUDescrIdxKey> COMPARE_UDESCRIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredDescription().compareTo( rhs.getRequiredDescription() ) );
+	};
+
 	public CFSecBuffClusterDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
 	@Override
 	public ICFSecClusterHPKey newHPKey() {
 		ICFSecClusterHPKey hpkey =
-			new CFSecBuffClusterHPKey();
+			new CFSecBuffClusterHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -72,7 +149,7 @@ public class CFSecBuffClusterDefaultFactory
 			return( (CFSecBuffClusterHPKey)key );
 		}
 		else {
-			CFSecBuffClusterHPKey mapped = new CFSecBuffClusterHPKey();
+			CFSecBuffClusterHPKey mapped = new CFSecBuffClusterHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -103,6 +180,10 @@ public class CFSecBuffClusterDefaultFactory
 		}
 	}
 
+	public static CFSecBuffClusterByUDomNameIdxKey getProbeByUDomNameIdxKey() {
+		return( probeByUDomNameIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecClusterByUDescrIdxKey newByUDescrIdxKey() {
 		ICFSecClusterByUDescrIdxKey key =
@@ -124,10 +205,14 @@ public class CFSecBuffClusterDefaultFactory
 		}
 	}
 
+	public static CFSecBuffClusterByUDescrIdxKey getProbeByUDescrIdxKey() {
+		return( probeByUDescrIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecCluster newRec() {
 		ICFSecCluster rec =
-			new CFSecBuffCluster();
+			new CFSecBuffCluster( recStamp );
 		return( rec );
 	}
 
@@ -139,16 +224,56 @@ public class CFSecBuffClusterDefaultFactory
 			return( (CFSecBuffCluster)rec );
 		}
 		else {
-			CFSecBuffCluster mapped = new CFSecBuffCluster();
+			CFSecBuffCluster mapped = new CFSecBuffCluster( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffCluster cloneRec( ICFSecCluster rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffCluster ) {
+			return( ( (CFSecBuffCluster)rec ).clone() );
+		}
+		else {
+			CFSecBuffCluster mapped = new CFSecBuffCluster( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffCluster[] cloneRecs( ICFSecCluster[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffCluster[] retList = new CFSecBuffCluster[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecClusterH newHRec() {
 		ICFSecClusterH hrec =
-			new CFSecBuffClusterH();
+			new CFSecBuffClusterH( recStamp );
 		return( hrec );
 	}
 
@@ -160,9 +285,49 @@ public class CFSecBuffClusterDefaultFactory
 			return( (CFSecBuffClusterH)hrec );
 		}
 		else {
-			CFSecBuffClusterH mapped = new CFSecBuffClusterH();
+			CFSecBuffClusterH mapped = new CFSecBuffClusterH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffClusterH cloneHRec( ICFSecClusterH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffClusterH ) {
+			return( ( (CFSecBuffClusterH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffClusterH mapped = new CFSecBuffClusterH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffClusterH[] cloneHRecs( ICFSecClusterH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffClusterH[] retList = new CFSecBuffClusterH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
@@ -51,21 +51,50 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffClusterH
-    implements ICFSecClusterH, Comparable<Object>, Serializable
+    implements ICFSecClusterH, Comparable<Object>, Serializable, Cloneable
 {
     protected CFSecBuffClusterHPKey pkey;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecCluster.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecCluster.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
 	protected String requiredFullDomName;
 	protected String requiredDescription;
 
+    protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecCluster.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecCluster.S_INIT_UPDATED_BY);
+
     public CFSecBuffClusterH() {
+		this( CFSecBuffRecStamp.EAGER );
+    }
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+    public CFSecBuffClusterH( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffClusterH", 1, "stamp" );
+		}
             // The primary key member attributes are initialized on construction
-            pkey = new CFSecBuffClusterHPKey();
+            pkey = new CFSecBuffClusterHPKey( stamp );
 		requiredFullDomName = ICFSecCluster.FULLDOMNAME_INIT_VALUE;
 		requiredDescription = ICFSecCluster.DESCRIPTION_INIT_VALUE;
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
     }
 
     @Override
@@ -84,10 +113,15 @@ public class CFSecBuffClusterH
             throw new CFLibNullArgumentException(getClass(), "setCreatedByUserId", 1, "value");
         }
         createdByUserId = value;
+        cachedHashCode = 0;
     }
 
     @Override
     public LocalDateTime getCreatedAt() {
+        if( pendingCreatedAt != null ) {
+            createdAt = pendingCreatedAt.now();
+            pendingCreatedAt = null;
+        }
         return( createdAt );
     }
 
@@ -97,6 +131,8 @@ public class CFSecBuffClusterH
             throw new CFLibNullArgumentException(getClass(), "setCreatedAt", 1, "value");
         }
         createdAt = value;
+        pendingCreatedAt = null;
+        cachedHashCode = 0;
     }
 
     @Override
@@ -110,10 +146,15 @@ public class CFSecBuffClusterH
             throw new CFLibNullArgumentException(getClass(), "setUpdatedByUserId", 1, "value");
         }
         updatedByUserId = value;
+        cachedHashCode = 0;
     }
 
     @Override
     public LocalDateTime getUpdatedAt() {
+        if( pendingUpdatedAt != null ) {
+            updatedAt = pendingUpdatedAt.now();
+            pendingUpdatedAt = null;
+        }
         return( updatedAt );
     }
 
@@ -123,6 +164,8 @@ public class CFSecBuffClusterH
             throw new CFLibNullArgumentException(getClass(), "setUpdatedAt", 1, "value");
         }
         updatedAt = value;
+        pendingUpdatedAt = null;
+        cachedHashCode = 0;
     }
 
     @Override
@@ -140,6 +183,7 @@ public class CFSecBuffClusterH
                 throw new CFLibUnsupportedClassException(getClass(), "setPKey", "pkey", pkey, "CFSecBuffClusterHPKey");
             }
         }
+        cachedHashCode = 0;
     }
 
     @Override
@@ -224,6 +268,7 @@ public class CFSecBuffClusterH
 				192 );
 		}
 		requiredFullDomName = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -248,6 +293,7 @@ public class CFSecBuffClusterH
 				128 );
 		}
 		requiredDescription = value;
+		cachedHashCode = 0;
 	}
 
     @Override
@@ -415,14 +461,15 @@ public class CFSecBuffClusterH
     
     @Override
     public int hashCode() {
-        int hashCode = pkey.hashCode();
-		if( getRequiredFullDomName() != null ) {
-			hashCode = hashCode + getRequiredFullDomName().hashCode();
-		}
-		if( getRequiredDescription() != null ) {
-			hashCode = hashCode + getRequiredDescription().hashCode();
-		}
-        return( hashCode & 0x7fffffff );
+        int hashCode = cachedHashCode;
+        if( hashCode == 0 ) {
+            hashCode = CFSecBuffHash.SEED;
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredFullDomName() );
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredDescription() );
+            cachedHashCode = hashCode;
+        }
+        hashCode = CFSecBuffHash.mix( hashCode, pkey.hashCode() );
+        return( CFSecBuffHash.finish( hashCode, 3 ) );
     }
 
     @Override
@@ -579,6 +626,46 @@ public class CFSecBuffClusterH
                 null );
         }
     }
+
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+    protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+    }
+
+    private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+    }
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+    public CFSecBuffClusterH clone() {
+		resolvePendingStamps();
+		CFSecBuffClusterH copy;
+		try {
+			copy = (CFSecBuffClusterH)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.pkey = pkey.clone();
+		return( copy );
+    }
+
 	@Override
     public void set( ICFSecCluster src ) {
 		setCluster( src );
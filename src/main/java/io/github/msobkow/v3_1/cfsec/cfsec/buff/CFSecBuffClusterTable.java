@@ -0,0 +1,519 @@
+// Description: Java 25 in-memory concurrent implementation of a Cluster table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffClusterTable in-memory implementation of ICFSecClusterTable for Cluster.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ */
+public class CFSecBuffClusterTable
+	implements ICFSecClusterTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffCluster> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffClusterByUDomNameIdxKey, CFSecBuffCluster> dictByUDomNameIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffClusterByUDescrIdxKey, CFSecBuffCluster> dictByUDescrIdx
+		= new ConcurrentHashMap<>();
+
+	public CFSecBuffClusterTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Copy the attributes of a Cluster by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffCluster holding the same attribute values.
+	 */
+	protected CFSecBuffCluster copyRec( ICFSecCluster src ) {
+		if( src instanceof CFSecBuffCluster ) {
+			return( ( (CFSecBuffCluster)src ).clone() );
+		}
+		CFSecBuffCluster rec = new CFSecBuffCluster( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredId( src.getRequiredId() );
+		rec.setRequiredFullDomName( src.getRequiredFullDomName() );
+		rec.setRequiredDescription( src.getRequiredDescription() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecCluster[] copyRecs( Collection<CFSecBuffCluster> src ) {
+		ICFSecCluster[] retList = new ICFSecCluster[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffCluster cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected CFLibDbKeyHash256 pkeyOf( ICFSecCluster rec ) {
+		return( rec.getRequiredId() );
+	}
+
+	protected CFSecBuffClusterByUDomNameIdxKey newByUDomNameIdxKey( String argFullDomName ) {
+		CFSecBuffClusterByUDomNameIdxKey key = new CFSecBuffClusterByUDomNameIdxKey();
+		key.setRequiredFullDomName( argFullDomName );
+		return( key );
+	}
+
+	protected CFSecBuffClusterByUDomNameIdxKey newByUDomNameIdxKey( ICFSecCluster rec ) {
+		return( newByUDomNameIdxKey( rec.getRequiredFullDomName() ) );
+	}
+
+	protected CFSecBuffClusterByUDomNameIdxKey probeByUDomNameIdxKey( String argFullDomName ) {
+		CFSecBuffClusterByUDomNameIdxKey key = CFSecBuffClusterDefaultFactory.getProbeByUDomNameIdxKey();
+		key.setRequiredFullDomName( argFullDomName );
+		return( key );
+	}
+
+	protected CFSecBuffClusterByUDescrIdxKey newByUDescrIdxKey( String argDescription ) {
+		CFSecBuffClusterByUDescrIdxKey key = new CFSecBuffClusterByUDescrIdxKey();
+		key.setRequiredDescription( argDescription );
+		return( key );
+	}
+
+	protected CFSecBuffClusterByUDescrIdxKey newByUDescrIdxKey( ICFSecCluster rec ) {
+		return( newByUDescrIdxKey( rec.getRequiredDescription() ) );
+	}
+
+	protected CFSecBuffClusterByUDescrIdxKey probeByUDescrIdxKey( String argDescription ) {
+		CFSecBuffClusterByUDescrIdxKey key = CFSecBuffClusterDefaultFactory.getProbeByUDescrIdxKey();
+		key.setRequiredDescription( argDescription );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffCluster rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByUDomNameIdx.put( newByUDomNameIdxKey( rec ), rec );
+		dictByUDescrIdx.put( newByUDescrIdxKey( rec ), rec );
+	}
+
+	protected void unindexRec( CFSecBuffCluster rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByUDomNameIdx.remove( newByUDomNameIdxKey( rec ), rec );
+		dictByUDescrIdx.remove( newByUDescrIdxKey( rec ), rec );
+		dictByPKey.remove( pkey, rec );
+	}
+
+	protected void reindexRec( CFSecBuffCluster existing, CFSecBuffCluster rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffClusterByUDomNameIdxKey oldKey = newByUDomNameIdxKey( existing );
+			CFSecBuffClusterByUDomNameIdxKey newKey = newByUDomNameIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByUDomNameIdx.remove( oldKey, existing );
+			}
+			dictByUDomNameIdx.put( newKey, rec );
+		}
+		{
+			CFSecBuffClusterByUDescrIdxKey oldKey = newByUDescrIdxKey( existing );
+			CFSecBuffClusterByUDescrIdxKey newKey = newByUDescrIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByUDescrIdx.remove( oldKey, existing );
+			}
+			dictByUDescrIdx.put( newKey, rec );
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffCluster rec, CFSecBuffCluster existing ) {
+		{
+			CFSecBuffClusterByUDomNameIdxKey key = newByUDomNameIdxKey( rec );
+			CFSecBuffCluster conflict = dictByUDomNameIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"ClusterUDomNameIdx",
+					key );
+			}
+		}
+		{
+			CFSecBuffClusterByUDescrIdxKey key = newByUDescrIdxKey( rec );
+			CFSecBuffCluster conflict = dictByUDescrIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"ClusterUDescrIdx",
+					key );
+			}
+		}
+	}
+
+	@Override
+	public ICFSecCluster createCluster( ICFSecAuthorization Authorization,
+		ICFSecCluster rec )
+	{
+		final String S_ProcName = "createCluster";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffCluster stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecCluster readDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		if( PKey == null ) {
+			return( null );
+		}
+		CFSecBuffCluster rec = dictByPKey.get( PKey );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecCluster lockDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecCluster[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecCluster readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argId )
+	{
+		if( argId == null ) {
+			return( null );
+		}
+		CFSecBuffCluster rec = dictByPKey.get( argId );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecCluster readDerivedByUDomNameIdx( ICFSecAuthorization Authorization,
+		String argFullDomName )
+	{
+		CFSecBuffCluster rec = dictByUDomNameIdx.get( probeByUDomNameIdxKey( argFullDomName ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecCluster readDerivedByUDescrIdx( ICFSecAuthorization Authorization,
+		String argDescription )
+	{
+		CFSecBuffCluster rec = dictByUDescrIdx.get( probeByUDescrIdxKey( argDescription ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecCluster readRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecCluster lockRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecCluster[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecCluster readRecByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argId )
+	{
+		return( readDerivedByIdIdx( Authorization, argId ) );
+	}
+
+	@Override
+	public ICFSecCluster readRecByUDomNameIdx( ICFSecAuthorization Authorization,
+		String argFullDomName )
+	{
+		return( readDerivedByUDomNameIdx( Authorization, argFullDomName ) );
+	}
+
+	@Override
+	public ICFSecCluster readRecByUDescrIdx( ICFSecAuthorization Authorization,
+		String argDescription )
+	{
+		return( readDerivedByUDescrIdx( Authorization, argDescription ) );
+	}
+
+	@Override
+	public ICFSecCluster updateCluster( ICFSecAuthorization Authorization,
+		ICFSecCluster rec )
+	{
+		final String S_ProcName = "updateCluster";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffCluster stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffCluster existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"Cluster",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteCluster( ICFSecAuthorization Authorization,
+		ICFSecCluster rec )
+	{
+		final String S_ProcName = "deleteCluster";
+		if( rec == null ) {
+			return;
+		}
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffCluster existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffCluster existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored Cluster under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffCluster> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffCluster> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffCluster rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a Cluster exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffCluster rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffCluster stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteClusterByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argId )
+	{
+		if( argId == null ) {
+			return;
+		}
+		deleteStored( dictByPKey.get( argId ) );
+	}
+
+	@Override
+	public void deleteClusterByUDomNameIdx( ICFSecAuthorization Authorization,
+		String argFullDomName )
+	{
+		deleteStored( dictByUDomNameIdx.get( probeByUDomNameIdxKey( argFullDomName ) ) );
+	}
+
+	@Override
+	public void deleteClusterByUDomNameIdx( ICFSecAuthorization Authorization,
+		ICFSecClusterByUDomNameIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteClusterByUDomNameIdx( Authorization, argKey.getRequiredFullDomName() );
+	}
+
+	@Override
+	public void deleteClusterByUDescrIdx( ICFSecAuthorization Authorization,
+		String argDescription )
+	{
+		deleteStored( dictByUDescrIdx.get( probeByUDescrIdxKey( argDescription ) ) );
+	}
+
+	@Override
+	public void deleteClusterByUDescrIdx( ICFSecAuthorization Authorization,
+		ICFSecClusterByUDescrIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteClusterByUDescrIdx( Authorization, argKey.getRequiredDescription() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
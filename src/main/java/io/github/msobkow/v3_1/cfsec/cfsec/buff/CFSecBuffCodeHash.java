@@ -0,0 +1,246 @@
+// Description: Java 25 minimal perfect hash over ISO codes for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.util.*;
+import io.github.msobkow.v3_1.cflib.*;
+
+/*
+ *	CFSecBuffCodeHash is an immutable minimal perfect hash from a closed set of
+ *	short codes, such as ISO currency, country and language codes, to values.
+ *
+ *	It is built with hash-and-displace.  Every key is hashed once to 64 bits.
+ *	The high half picks one of about n/2 buckets, and each bucket stores a
+ *	displacement that spreads its keys over the n slots without colliding with
+ *	earlier buckets.  Buckets are placed largest first, which keeps the search
+ *	short.  A lookup hashes the characters of the probe in place, reads one
+ *	displacement and one slot, and compares the probe with the key stored
+ *	there, so codes outside the set are rejected.  Nothing is allocated, and
+ *	any CharSequence can be the probe.
+ */
+public final class CFSecBuffCodeHash<T>
+{
+	protected static final long GOLDEN = 0x9e3779b97f4a7c15L;
+	protected static final int MAX_DISPLACEMENT = 1 << 20;
+	protected static final int MAX_SEEDS = 64;
+
+	protected final long seed;
+	protected final int[] displacements;
+	protected final String[] keys;
+	protected final Object[] values;
+
+	protected CFSecBuffCodeHash( long seed, int[] displacements, String[] keys, Object[] values ) {
+		this.seed = seed;
+		this.displacements = displacements;
+		this.keys = keys;
+		this.values = values;
+	}
+
+	/**
+	 *	Build a perfect hash over the entries of a map.
+	 *
+	 *	@param	entries	The codes and their values.  Null keys and values are not allowed.
+	 *	@return	The hash.
+	 */
+	public static <T> CFSecBuffCodeHash<T> build( Map<String, T> entries ) {
+		final String S_ProcName = "build";
+		if( entries == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffCodeHash.class, S_ProcName, 1, "entries" );
+		}
+		int n = entries.size();
+		String[] srcKeys = new String[n];
+		Object[] srcValues = new Object[n];
+		int idx = 0;
+		for( Map.Entry<String, T> entry : entries.entrySet() ) {
+			if( ( entry.getKey() == null ) || ( entry.getValue() == null ) ) {
+				throw new CFLibNullArgumentException( CFSecBuffCodeHash.class, S_ProcName, 1, "entries" );
+			}
+			srcKeys[idx] = entry.getKey();
+			srcValues[idx] = entry.getValue();
+			idx++;
+		}
+		if( n == 0 ) {
+			return( new CFSecBuffCodeHash<T>( 0L, new int[1], srcKeys, srcValues ) );
+		}
+		long seed = 0L;
+		for( int attempt = 0; attempt < MAX_SEEDS; attempt++ ) {
+			CFSecBuffCodeHash<T> built = tryBuild( seed, srcKeys, srcValues );
+			if( built != null ) {
+				return( built );
+			}
+			seed += GOLDEN;
+		}
+		throw new CFLibInvalidArgumentException( CFSecBuffCodeHash.class,
+			S_ProcName,
+			"No perfect hash found for " + n + " codes",
+			"No perfect hash found for " + n + " codes" );
+	}
+
+	protected static <T> CFSecBuffCodeHash<T> tryBuild( long seed, String[] srcKeys, Object[] srcValues ) {
+		final int n = srcKeys.length;
+		final int bucketCount = Math.max( 1, ( n + 1 ) / 2 );
+		long[] hashes = new long[n];
+		int[] bucketSizes = new int[bucketCount];
+		for( int idx = 0; idx < n; idx++ ) {
+			hashes[idx] = hash( srcKeys[idx], seed );
+			bucketSizes[bucketOf( hashes[idx], bucketCount )]++;
+		}
+		int[][] buckets = new int[bucketCount][];
+		for( int b = 0; b < bucketCount; b++ ) {
+			buckets[b] = new int[bucketSizes[b]];
+			bucketSizes[b] = 0;
+		}
+		for( int idx = 0; idx < n; idx++ ) {
+			int b = bucketOf( hashes[idx], bucketCount );
+			buckets[b][bucketSizes[b]++] = idx;
+		}
+		Integer[] order = new Integer[bucketCount];
+		for( int b = 0; b < bucketCount; b++ ) {
+			order[b] = b;
+		}
+		Arrays.sort( order, ( lhs, rhs ) -> Integer.compare( buckets[rhs].length, buckets[lhs].length ) );
+
+		int[] displacements = new int[bucketCount];
+		String[] keys = new String[n];
+		Object[] values = new Object[n];
+		boolean[] taken = new boolean[n];
+		int[] slots = new int[n];
+		for( Integer b : order ) {
+			int[] members = buckets[b];
+			if( members.length == 0 ) {
+				break;
+			}
+			int d = 0;
+			search:
+			while( true ) {
+				if( d >= MAX_DISPLACEMENT ) {
+					return( null );
+				}
+				for( int m = 0; m < members.length; m++ ) {
+					int slot = slotOf( hashes[members[m]], d, n );
+					if( taken[slot] ) {
+						d++;
+						continue search;
+					}
+					for( int prior = 0; prior < m; prior++ ) {
+						if( slots[prior] == slot ) {
+							if( srcKeys[members[prior]].equals( srcKeys[members[m]] ) ) {
+								return( null );
+							}
+							d++;
+							continue search;
+						}
+					}
+					slots[m] = slot;
+				}
+				break;
+			}
+			displacements[b] = d;
+			for( int m = 0; m < members.length; m++ ) {
+				taken[slots[m]] = true;
+				keys[slots[m]] = srcKeys[members[m]];
+				values[slots[m]] = srcValues[members[m]];
+			}
+		}
+		return( new CFSecBuffCodeHash<T>( seed, displacements, keys, values ) );
+	}
+
+	protected static long hash( CharSequence key, long seed ) {
+		int len = key.length();
+		long h = seed ^ ( len * GOLDEN );
+		for( int idx = 0; idx < len; idx++ ) {
+			h = ( h ^ key.charAt( idx ) ) * 0x100000001b3L;
+		}
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return( h );
+	}
+
+	protected static int bucketOf( long hash, int bucketCount ) {
+		return( (int)( ( ( hash >>> 32 ) * bucketCount ) >>> 32 ) );
+	}
+
+	protected static int slotOf( long hash, int displacement, int n ) {
+		long h = ( hash & 0xffffffffL ) ^ ( displacement * GOLDEN );
+		h ^= h >>> 29;
+		h *= 0xbf58476d1ce4e5b9L;
+		h ^= h >>> 32;
+		return( (int)( ( ( h & 0xffffffffL ) * n ) >>> 32 ) );
+	}
+
+	/**
+	 *	Get the slot of a code.  Slots are dense in [0, size()).
+	 *
+	 *	@param	code	The code to probe.
+	 *	@return	The slot, or -1 if the code is not in the set.
+	 */
+	public int indexOf( CharSequence code ) {
+		int n = keys.length;
+		if( ( code == null ) || ( n == 0 ) ) {
+			return( -1 );
+		}
+		long h = hash( code, seed );
+		int slot = slotOf( h, displacements[bucketOf( h, displacements.length )], n );
+		return( keys[slot].contentEquals( code ) ? slot : -1 );
+	}
+
+	/**
+	 *	Get the value of a code.
+	 *
+	 *	@param	code	The code to probe.
+	 *	@return	The value, or null if the code is not in the set.
+	 */
+	@SuppressWarnings( "unchecked" )
+	public T get( CharSequence code ) {
+		int slot = indexOf( code );
+		return( ( slot < 0 ) ? null : (T)values[slot] );
+	}
+
+	@SuppressWarnings( "unchecked" )
+	public T getValueAt( int slot ) {
+		return( (T)values[slot] );
+	}
+
+	public String getKeyAt( int slot ) {
+		return( keys[slot] );
+	}
+
+	public int size() {
+		return( keys.length );
+	}
+}
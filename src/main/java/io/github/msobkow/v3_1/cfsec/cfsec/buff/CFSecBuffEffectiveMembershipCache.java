@@ -0,0 +1,304 @@
+// Description: Java 25 effective SecGroup membership cache for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffEffectiveMembershipCache caches the set of SecGroups a SecUser
+ *	effectively belongs to within a cluster.  A user is effectively a member of
+ *	each group it is a direct SecGrpMemb member of, and of every group that
+ *	transitively includes one of those groups through SecGrpInc.
+ *
+ *	Entries are invalidated precisely.  A SecGrpMemb change drops the entry of
+ *	the affected (cluster, user) only.  A SecGrpInc change in which group G
+ *	includes group I drops only the entries of that cluster whose effective set
+ *	contains I, because only members of I gain or lose G.
+ *
+ *	A miss computes the set without holding any lock.  Invalidations advance an
+ *	epoch, and a computed set is only kept if no invalidation ran while it was
+ *	being computed, so a stale set is never left behind by a race.
+ */
+public class CFSecBuffEffectiveMembershipCache
+{
+	protected final CFSecBuffSecGrpMembTable membTable;
+	protected final CFSecBuffSecGrpIncTable incTable;
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, ConcurrentHashMap<CFLibDbKeyHash256, Set<CFLibDbKeyHash256>>> entriesByCluster
+		= new ConcurrentHashMap<>();
+	protected final AtomicLong epoch = new AtomicLong();
+	protected final LongAdder hitCount = new LongAdder();
+	protected final LongAdder missCount = new LongAdder();
+	protected final LongAdder invalidationCount = new LongAdder();
+
+	protected final CFSecBuffTableListener<ICFSecSecGrpMemb> membListener = new CFSecBuffTableListener<ICFSecSecGrpMemb>() {
+		@Override
+		public void recCreated( ICFSecSecGrpMemb rec ) {
+			invalidate( rec.getRequiredClusterId(), rec.getRequiredSecUserId() );
+		}
+
+		@Override
+		public void recUpdated( ICFSecSecGrpMemb existing, ICFSecSecGrpMemb rec ) {
+			invalidate( existing.getRequiredClusterId(), existing.getRequiredSecUserId() );
+			invalidate( rec.getRequiredClusterId(), rec.getRequiredSecUserId() );
+		}
+
+		@Override
+		public void recDeleted( ICFSecSecGrpMemb rec ) {
+			invalidate( rec.getRequiredClusterId(), rec.getRequiredSecUserId() );
+		}
+	};
+
+	protected final CFSecBuffTableListener<ICFSecSecGrpInc> incListener = new CFSecBuffTableListener<ICFSecSecGrpInc>() {
+		@Override
+		public void recCreated( ICFSecSecGrpInc rec ) {
+			invalidateMembersOf( rec.getRequiredClusterId(), rec.getRequiredIncludeGroupId() );
+		}
+
+		@Override
+		public void recUpdated( ICFSecSecGrpInc existing, ICFSecSecGrpInc rec ) {
+			invalidateMembersOf( existing.getRequiredClusterId(), existing.getRequiredIncludeGroupId() );
+			invalidateMembersOf( rec.getRequiredClusterId(), rec.getRequiredIncludeGroupId() );
+		}
+
+		@Override
+		public void recDeleted( ICFSecSecGrpInc rec ) {
+			invalidateMembersOf( rec.getRequiredClusterId(), rec.getRequiredIncludeGroupId() );
+		}
+	};
+
+	/**
+	 *	Construct a cache over a pair of buffer tables and start listening to them.
+	 *
+	 *	@param	membTable	The SecGrpMemb table supplying direct memberships.
+	 *	@param	incTable	The SecGrpInc table supplying the inclusion closure.
+	 */
+	public CFSecBuffEffectiveMembershipCache( CFSecBuffSecGrpMembTable membTable, CFSecBuffSecGrpIncTable incTable ) {
+		final String S_ProcName = "construct";
+		if( membTable == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "membTable" );
+		}
+		if( incTable == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "incTable" );
+		}
+		this.membTable = membTable;
+		this.incTable = incTable;
+		membTable.addListener( membListener );
+		incTable.addListener( incListener );
+	}
+
+	/**
+	 *	Stop listening to the tables and drop every entry.
+	 */
+	public void close() {
+		membTable.removeListener( membListener );
+		incTable.removeListener( incListener );
+		clear();
+	}
+
+	/**
+	 *	Get the groups of a cluster that a user effectively belongs to.
+	 *
+	 *	@param	clusterId	The owning cluster.
+	 *	@param	secUserId	The user.
+	 *
+	 *	@return	An unmodifiable set of SecGroup ids, never null.
+	 */
+	public Set<CFLibDbKeyHash256> getEffectiveGroups( CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 secUserId ) {
+		final String S_ProcName = "getEffectiveGroups";
+		if( clusterId == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "clusterId" );
+		}
+		if( secUserId == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "secUserId" );
+		}
+		ConcurrentHashMap<CFLibDbKeyHash256, Set<CFLibDbKeyHash256>> entries = entriesByCluster.get( clusterId );
+		if( entries != null ) {
+			Set<CFLibDbKeyHash256> cached = entries.get( secUserId );
+			if( cached != null ) {
+				hitCount.increment();
+				return( cached );
+			}
+		}
+		missCount.increment();
+		long startEpoch = epoch.get();
+		Set<CFLibDbKeyHash256> computed = computeEffectiveGroups( clusterId, secUserId );
+		if( epoch.get() == startEpoch ) {
+			entries = entriesByCluster.computeIfAbsent( clusterId, k -> new ConcurrentHashMap<>() );
+			Set<CFLibDbKeyHash256> raced = entries.putIfAbsent( secUserId, computed );
+			if( raced != null ) {
+				computed = raced;
+			}
+			else if( epoch.get() != startEpoch ) {
+				entries.remove( secUserId, computed );
+			}
+		}
+		return( computed );
+	}
+
+	/**
+	 *	Determine whether a user effectively belongs to a group of a cluster.
+	 *
+	 *	@param	clusterId	The owning cluster.
+	 *	@param	secUserId	The user.
+	 *	@param	secGroupId	The group.
+	 *
+	 *	@return	True if the user is a direct or inherited member of the group.
+	 */
+	public boolean isEffectiveMember( CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 secUserId, CFLibDbKeyHash256 secGroupId ) {
+		if( secGroupId == null ) {
+			return( false );
+		}
+		return( getEffectiveGroups( clusterId, secUserId ).contains( secGroupId ) );
+	}
+
+	protected Set<CFLibDbKeyHash256> computeEffectiveGroups( CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 secUserId ) {
+		Set<CFLibDbKeyHash256> direct = membTable.getDirectSecGroupIds( clusterId, secUserId );
+		if( direct.isEmpty() ) {
+			return( Collections.emptySet() );
+		}
+		CFSecBuffGrpIncClosure closure = incTable.getInclusionClosure();
+		HashSet<CFLibDbKeyHash256> effective = new HashSet<>( direct );
+		for( CFLibDbKeyHash256 secGroupId : direct ) {
+			effective.addAll( closure.getIncludingGroups( clusterId, secGroupId ) );
+		}
+		return( Set.copyOf( effective ) );
+	}
+
+	/**
+	 *	Drop the entry of one user of one cluster.
+	 *
+	 *	@param	clusterId	The owning cluster.
+	 *	@param	secUserId	The user.
+	 */
+	public void invalidate( CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 secUserId ) {
+		if( ( clusterId == null ) || ( secUserId == null ) ) {
+			return;
+		}
+		epoch.incrementAndGet();
+		ConcurrentHashMap<CFLibDbKeyHash256, Set<CFLibDbKeyHash256>> entries = entriesByCluster.get( clusterId );
+		if( ( entries != null ) && ( entries.remove( secUserId ) != null ) ) {
+			invalidationCount.increment();
+		}
+	}
+
+	/**
+	 *	Drop the entries of a cluster whose effective set contains a group.
+	 *
+	 *	@param	clusterId	The owning cluster.
+	 *	@param	secGroupId	The group whose effective members are dropped.
+	 */
+	public void invalidateMembersOf( CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 secGroupId ) {
+		if( ( clusterId == null ) || ( secGroupId == null ) ) {
+			return;
+		}
+		epoch.incrementAndGet();
+		ConcurrentHashMap<CFLibDbKeyHash256, Set<CFLibDbKeyHash256>> entries = entriesByCluster.get( clusterId );
+		if( entries == null ) {
+			return;
+		}
+		Iterator<Set<CFLibDbKeyHash256>> iter = entries.values().iterator();
+		while( iter.hasNext() ) {
+			if( iter.next().contains( secGroupId ) ) {
+				iter.remove();
+				invalidationCount.increment();
+			}
+		}
+	}
+
+	/**
+	 *	Drop every entry of a cluster.
+	 *
+	 *	@param	clusterId	The owning cluster.
+	 */
+	public void invalidateCluster( CFLibDbKeyHash256 clusterId ) {
+		if( clusterId == null ) {
+			return;
+		}
+		epoch.incrementAndGet();
+		ConcurrentHashMap<CFLibDbKeyHash256, Set<CFLibDbKeyHash256>> entries = entriesByCluster.remove( clusterId );
+		if( entries != null ) {
+			invalidationCount.add( entries.size() );
+		}
+	}
+
+	/**
+	 *	Drop every entry.
+	 */
+	public void clear() {
+		epoch.incrementAndGet();
+		for( CFLibDbKeyHash256 clusterId : new ArrayList<>( entriesByCluster.keySet() ) ) {
+			invalidateCluster( clusterId );
+		}
+	}
+
+	/**
+	 *	Get the number of cached entries across all clusters.
+	 *
+	 *	@return	The entry count.
+	 */
+	public int size() {
+		int count = 0;
+		for( ConcurrentHashMap<CFLibDbKeyHash256, Set<CFLibDbKeyHash256>> entries : entriesByCluster.values() ) {
+			count += entries.size();
+		}
+		return( count );
+	}
+
+	public long getHitCount() {
+		return( hitCount.sum() );
+	}
+
+	public long getMissCount() {
+		return( missCount.sum() );
+	}
+
+	public long getInvalidationCount() {
+		return( invalidationCount.sum() );
+	}
+
+	/**
+	 *	Reset the hit, miss and invalidation counters to zero.
+	 */
+	public void resetCounters() {
+		hitCount.reset();
+		missCount.reset();
+		invalidationCount.reset();
+	}
+}
@@ -0,0 +1,401 @@
+// Description: Java 25 transitive group inclusion closure for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+
+/*
+ *	CFSecBuffGrpIncClosure maintains the transitive closure of a group inclusion
+ *	relation, partitioned by the owning cluster or tenant.  An inclusion edge
+ *	"group includes includeGroup" makes includeGroup and everything it includes
+ *	reachable from group and from every group that includes group.
+ *
+ *	Reachability is answered with one hash probe.  Adding an edge joins the
+ *	ancestors of the including group to the descendants of the included group.
+ *	Removing an edge recomputes the descendants of the affected ancestors only,
+ *	smallest first, so each group is rebuilt from children that are already
+ *	correct.  Edges that would close a cycle are rejected, which keeps the
+ *	relation a DAG and lets that ordering hold.
+ *
+ *	Each partition has its own read/write lock, so readers of one cluster never
+ *	wait on writers of another.
+ */
+public class CFSecBuffGrpIncClosure
+{
+	protected static final class Partition {
+		protected final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+		protected final HashMap<CFLibDbKeyHash256, HashMap<CFLibDbKeyHash256, Integer>> children = new HashMap<>();
+		protected final HashMap<CFLibDbKeyHash256, HashSet<CFLibDbKeyHash256>> descendants = new HashMap<>();
+		protected final HashMap<CFLibDbKeyHash256, HashSet<CFLibDbKeyHash256>> ancestors = new HashMap<>();
+
+		protected Set<CFLibDbKeyHash256> descendantsOf( CFLibDbKeyHash256 groupId ) {
+			HashSet<CFLibDbKeyHash256> set = descendants.get( groupId );
+			return( ( set != null ) ? set : Collections.emptySet() );
+		}
+
+		protected Set<CFLibDbKeyHash256> ancestorsOf( CFLibDbKeyHash256 groupId ) {
+			HashSet<CFLibDbKeyHash256> set = ancestors.get( groupId );
+			return( ( set != null ) ? set : Collections.emptySet() );
+		}
+	}
+
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, Partition> partitions = new ConcurrentHashMap<>();
+
+	public CFSecBuffGrpIncClosure() {
+	}
+
+	/**
+	 *	Determine whether a group transitively includes another group.
+	 *	A group does not include itself unless it is reachable through an edge.
+	 *
+	 *	@param	partitionId	The owning cluster or tenant.
+	 *	@param	groupId	The including group.
+	 *	@param	includeGroupId	The group being tested for.
+	 *
+	 *	@return	True if includeGroupId is reachable from groupId.
+	 */
+	public boolean includes( CFLibDbKeyHash256 partitionId, CFLibDbKeyHash256 groupId, CFLibDbKeyHash256 includeGroupId ) {
+		if( ( partitionId == null ) || ( groupId == null ) || ( includeGroupId == null ) ) {
+			return( false );
+		}
+		Partition partition = partitions.get( partitionId );
+		if( partition == null ) {
+			return( false );
+		}
+		partition.lock.readLock().lock();
+		try {
+			return( partition.descendantsOf( groupId ).contains( includeGroupId ) );
+		}
+		finally {
+			partition.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 *	Get every group transitively included by a group.
+	 *
+	 *	@param	partitionId	The owning cluster or tenant.
+	 *	@param	groupId	The including group.
+	 *
+	 *	@return	An unmodifiable snapshot, never null.
+	 */
+	public Set<CFLibDbKeyHash256> getIncludedGroups( CFLibDbKeyHash256 partitionId, CFLibDbKeyHash256 groupId ) {
+		if( ( partitionId == null ) || ( groupId == null ) ) {
+			return( Collections.emptySet() );
+		}
+		Partition partition = partitions.get( partitionId );
+		if( partition == null ) {
+			return( Collections.emptySet() );
+		}
+		partition.lock.readLock().lock();
+		try {
+			return( Set.copyOf( partition.descendantsOf( groupId ) ) );
+		}
+		finally {
+			partition.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 *	Get every group that transitively includes a group.
+	 *
+	 *	@param	partitionId	The owning cluster or tenant.
+	 *	@param	includeGroupId	The included group.
+	 *
+	 *	@return	An unmodifiable snapshot, never null.
+	 */
+	public Set<CFLibDbKeyHash256> getIncludingGroups( CFLibDbKeyHash256 partitionId, CFLibDbKeyHash256 includeGroupId ) {
+		if( ( partitionId == null ) || ( includeGroupId == null ) ) {
+			return( Collections.emptySet() );
+		}
+		Partition partition = partitions.get( partitionId );
+		if( partition == null ) {
+			return( Collections.emptySet() );
+		}
+		partition.lock.readLock().lock();
+		try {
+			return( Set.copyOf( partition.ancestorsOf( includeGroupId ) ) );
+		}
+		finally {
+			partition.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 *	Determine whether adding an inclusion edge would close a cycle.
+	 *
+	 *	@param	partitionId	The owning cluster or tenant.
+	 *	@param	groupId	The including group of the proposed edge.
+	 *	@param	includeGroupId	The included group of the proposed edge.
+	 *
+	 *	@return	True if the edge would make a group include itself.
+	 */
+	public boolean wouldCreateCycle( CFLibDbKeyHash256 partitionId, CFLibDbKeyHash256 groupId, CFLibDbKeyHash256 includeGroupId ) {
+		return( wouldCreateCycle( partitionId, groupId, includeGroupId, null, null ) );
+	}
+
+	/**
+	 *	Determine whether adding an inclusion edge would close a cycle, ignoring one
+	 *	existing edge that is about to be replaced by the proposed edge.
+	 *
+	 *	@param	partitionId	The owning cluster or tenant.
+	 *	@param	groupId	The including group of the proposed edge.
+	 *	@param	includeGroupId	The included group of the proposed edge.
+	 *	@param	ignoreGroupId	The including group of the edge to ignore, or null.
+	 *	@param	ignoreIncludeGroupId	The included group of the edge to ignore, or null.
+	 *
+	 *	@return	True if the edge would make a group include itself.
+	 */
+	public boolean wouldCreateCycle( CFLibDbKeyHash256 partitionId,
+		CFLibDbKeyHash256 groupId,
+		CFLibDbKeyHash256 includeGroupId,
+		CFLibDbKeyHash256 ignoreGroupId,
+		CFLibDbKeyHash256 ignoreIncludeGroupId )
+	{
+		if( ( groupId == null ) || ( includeGroupId == null ) ) {
+			return( false );
+		}
+		if( groupId.equals( includeGroupId ) ) {
+			return( true );
+		}
+		if( partitionId == null ) {
+			return( false );
+		}
+		Partition partition = partitions.get( partitionId );
+		if( partition == null ) {
+			return( false );
+		}
+		partition.lock.readLock().lock();
+		try {
+			if( ! partition.descendantsOf( includeGroupId ).contains( groupId ) ) {
+				return( false );
+			}
+			if( ( ignoreGroupId == null ) || ( ignoreIncludeGroupId == null ) ) {
+				return( true );
+			}
+			HashMap<CFLibDbKeyHash256, Integer> ignoredEdges = partition.children.get( ignoreGroupId );
+			Integer ignoredCount = ( ignoredEdges != null ) ? ignoredEdges.get( ignoreIncludeGroupId ) : null;
+			if( ( ignoredCount == null ) || ( ignoredCount.intValue() > 1 ) ) {
+				return( true );
+			}
+			return( isReachableWithout( partition, includeGroupId, groupId, ignoreGroupId, ignoreIncludeGroupId ) );
+		}
+		finally {
+			partition.lock.readLock().unlock();
+		}
+	}
+
+	protected boolean isReachableWithout( Partition partition,
+		CFLibDbKeyHash256 fromGroupId,
+		CFLibDbKeyHash256 toGroupId,
+		CFLibDbKeyHash256 ignoreGroupId,
+		CFLibDbKeyHash256 ignoreIncludeGroupId )
+	{
+		HashSet<CFLibDbKeyHash256> visited = new HashSet<>();
+		ArrayDeque<CFLibDbKeyHash256> pending = new ArrayDeque<>();
+		pending.push( fromGroupId );
+		visited.add( fromGroupId );
+		while( ! pending.isEmpty() ) {
+			CFLibDbKeyHash256 cur = pending.pop();
+			HashMap<CFLibDbKeyHash256, Integer> edges = partition.children.get( cur );
+			if( edges == null ) {
+				continue;
+			}
+			boolean ignoreFromCur = cur.equals( ignoreGroupId );
+			for( CFLibDbKeyHash256 child : edges.keySet() ) {
+				if( ignoreFromCur && child.equals( ignoreIncludeGroupId ) ) {
+					continue;
+				}
+				if( child.equals( toGroupId ) ) {
+					return( true );
+				}
+				// Only descend into groups that can still reach the target
+				if( partition.descendantsOf( child ).contains( toGroupId ) && visited.add( child ) ) {
+					pending.push( child );
+				}
+			}
+		}
+		return( false );
+	}
+
+	/**
+	 *	Add an inclusion edge.  Adding an edge that is already present only counts
+	 *	it again, so that it survives until every copy has been removed.
+	 *
+	 *	@param	partitionId	The owning cluster or tenant.
+	 *	@param	groupId	The including group.
+	 *	@param	includeGroupId	The included group.
+	 */
+	public void addInclusion( CFLibDbKeyHash256 partitionId, CFLibDbKeyHash256 groupId, CFLibDbKeyHash256 includeGroupId ) {
+		final String S_ProcName = "addInclusion";
+		if( partitionId == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "partitionId" );
+		}
+		if( groupId == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "groupId" );
+		}
+		if( includeGroupId == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 3, "includeGroupId" );
+		}
+		Partition partition = partitions.computeIfAbsent( partitionId, k -> new Partition() );
+		partition.lock.writeLock().lock();
+		try {
+			if( groupId.equals( includeGroupId ) || partition.descendantsOf( includeGroupId ).contains( groupId ) ) {
+				throw new CFLibInvalidArgumentException( getClass(),
+					S_ProcName,
+					"Group inclusion would create a cycle",
+					"Group inclusion would create a cycle" );
+			}
+			HashMap<CFLibDbKeyHash256, Integer> edges = partition.children.computeIfAbsent( groupId, k -> new HashMap<>() );
+			Integer count = edges.get( includeGroupId );
+			if( count != null ) {
+				edges.put( includeGroupId, count.intValue() + 1 );
+				return;
+			}
+			edges.put( includeGroupId, 1 );
+
+			ArrayList<CFLibDbKeyHash256> sources = new ArrayList<>( partition.ancestorsOf( groupId ) );
+			sources.add( groupId );
+			ArrayList<CFLibDbKeyHash256> targets = new ArrayList<>( partition.descendantsOf( includeGroupId ) );
+			targets.add( includeGroupId );
+			for( CFLibDbKeyHash256 source : sources ) {
+				partition.descendants.computeIfAbsent( source, k -> new HashSet<>() ).addAll( targets );
+			}
+			for( CFLibDbKeyHash256 target : targets ) {
+				partition.ancestors.computeIfAbsent( target, k -> new HashSet<>() ).addAll( sources );
+			}
+		}
+		finally {
+			partition.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 *	Remove one copy of an inclusion edge.  Removing an edge that is not present
+	 *	is ignored.
+	 *
+	 *	@param	partitionId	The owning cluster or tenant.
+	 *	@param	groupId	The including group.
+	 *	@param	includeGroupId	The included group.
+	 */
+	public void removeInclusion( CFLibDbKeyHash256 partitionId, CFLibDbKeyHash256 groupId, CFLibDbKeyHash256 includeGroupId ) {
+		if( ( partitionId == null ) || ( groupId == null ) || ( includeGroupId == null ) ) {
+			return;
+		}
+		Partition partition = partitions.get( partitionId );
+		if( partition == null ) {
+			return;
+		}
+		partition.lock.writeLock().lock();
+		try {
+			HashMap<CFLibDbKeyHash256, Integer> edges = partition.children.get( groupId );
+			Integer count = ( edges != null ) ? edges.get( includeGroupId ) : null;
+			if( count == null ) {
+				return;
+			}
+			if( count.intValue() > 1 ) {
+				edges.put( includeGroupId, count.intValue() - 1 );
+				return;
+			}
+			edges.remove( includeGroupId );
+			if( edges.isEmpty() ) {
+				partition.children.remove( groupId );
+			}
+
+			// Every group that reached the removed edge did so through groupId.  In a DAG a
+			// group's descendant set strictly contains those of its children, so rebuilding
+			// the affected groups in ascending size order always sees correct children.
+			ArrayList<CFLibDbKeyHash256> affected = new ArrayList<>( partition.ancestorsOf( groupId ) );
+			affected.add( groupId );
+			HashMap<CFLibDbKeyHash256, Integer> oldSizes = new HashMap<>( affected.size() * 2 );
+			for( CFLibDbKeyHash256 cur : affected ) {
+				oldSizes.put( cur, partition.descendantsOf( cur ).size() );
+			}
+			affected.sort( Comparator.comparingInt( oldSizes::get ) );
+			for( CFLibDbKeyHash256 cur : affected ) {
+				HashSet<CFLibDbKeyHash256> rebuilt = new HashSet<>();
+				HashMap<CFLibDbKeyHash256, Integer> curEdges = partition.children.get( cur );
+				if( curEdges != null ) {
+					for( CFLibDbKeyHash256 child : curEdges.keySet() ) {
+						rebuilt.add( child );
+						rebuilt.addAll( partition.descendantsOf( child ) );
+					}
+				}
+				for( CFLibDbKeyHash256 lost : partition.descendantsOf( cur ) ) {
+					if( ! rebuilt.contains( lost ) ) {
+						HashSet<CFLibDbKeyHash256> lostAncestors = partition.ancestors.get( lost );
+						if( lostAncestors != null ) {
+							lostAncestors.remove( cur );
+							if( lostAncestors.isEmpty() ) {
+								partition.ancestors.remove( lost );
+							}
+						}
+					}
+				}
+				if( rebuilt.isEmpty() ) {
+					partition.descendants.remove( cur );
+				}
+				else {
+					partition.descendants.put( cur, rebuilt );
+				}
+			}
+		}
+		finally {
+			partition.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 *	Forget every edge of one partition.
+	 *
+	 *	@param	partitionId	The owning cluster or tenant.
+	 */
+	public void removePartition( CFLibDbKeyHash256 partitionId ) {
+		if( partitionId != null ) {
+			partitions.remove( partitionId );
+		}
+	}
+
+	/**
+	 *	Forget every edge of every partition.
+	 */
+	public void clear() {
+		partitions.clear();
+	}
+}
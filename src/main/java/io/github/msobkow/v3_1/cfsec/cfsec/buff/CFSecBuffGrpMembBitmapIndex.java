@@ -0,0 +1,443 @@
+// Description: Java 25 compressed bitmap SecGrpMemb index for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffGrpMembBitmapIndex holds the SecGrpMemb relation of each cluster as
+ *	compressed bitmaps.  Users and groups are given dense int ordinals per
+ *	cluster.  Each group maps to a CFSecBuffRoaringBitmap of user ordinals, the
+ *	ByGroupIdx view, and each user maps to a bitmap of group ordinals, the
+ *	ByUserIdx view.  Set queries across groups then run on the bitmaps instead
+ *	of on lists of records.
+ *
+ *	The index is loaded from the table when it is constructed and then follows
+ *	every create, update and delete.  Ordinals are handed out in load order, so
+ *	a large group loaded at construction is mostly long stretches of consecutive
+ *	ordinals; the loaded bitmaps are run-optimized for that, and runOptimize()
+ *	can be called again after a bulk change.  Ordinals are never reused while the index
+ *	lives, so a bitmap returned by a query can be decoded later with
+ *	getUserIds().  Query results are private copies.
+ */
+public class CFSecBuffGrpMembBitmapIndex
+{
+	protected static final class ClusterIndex {
+		protected final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+		protected final HashMap<CFLibDbKeyHash256, Integer> userOrdinals = new HashMap<>();
+		protected final ArrayList<CFLibDbKeyHash256> userIds = new ArrayList<>();
+		protected final HashMap<CFLibDbKeyHash256, Integer> groupOrdinals = new HashMap<>();
+		protected final ArrayList<CFLibDbKeyHash256> groupIds = new ArrayList<>();
+		protected final ArrayList<CFSecBuffRoaringBitmap> usersByGroup = new ArrayList<>();
+		protected final ArrayList<CFSecBuffRoaringBitmap> groupsByUser = new ArrayList<>();
+
+		protected int userOrdinalOf( CFLibDbKeyHash256 secUserId ) {
+			Integer ordinal = userOrdinals.get( secUserId );
+			return( ( ordinal != null ) ? ordinal.intValue() : -1 );
+		}
+
+		protected int groupOrdinalOf( CFLibDbKeyHash256 secGroupId ) {
+			Integer ordinal = groupOrdinals.get( secGroupId );
+			return( ( ordinal != null ) ? ordinal.intValue() : -1 );
+		}
+
+		protected int ensureUserOrdinal( CFLibDbKeyHash256 secUserId ) {
+			Integer ordinal = userOrdinals.get( secUserId );
+			if( ordinal == null ) {
+				ordinal = userIds.size();
+				userOrdinals.put( secUserId, ordinal );
+				userIds.add( secUserId );
+				groupsByUser.add( new CFSecBuffRoaringBitmap() );
+			}
+			return( ordinal.intValue() );
+		}
+
+		protected int ensureGroupOrdinal( CFLibDbKeyHash256 secGroupId ) {
+			Integer ordinal = groupOrdinals.get( secGroupId );
+			if( ordinal == null ) {
+				ordinal = groupIds.size();
+				groupOrdinals.put( secGroupId, ordinal );
+				groupIds.add( secGroupId );
+				usersByGroup.add( new CFSecBuffRoaringBitmap() );
+			}
+			return( ordinal.intValue() );
+		}
+	}
+
+	protected final CFSecBuffSecGrpMembTable membTable;
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, ClusterIndex> clusters = new ConcurrentHashMap<>();
+
+	protected final CFSecBuffTableListener<ICFSecSecGrpMemb> membListener = new CFSecBuffTableListener<ICFSecSecGrpMemb>() {
+		@Override
+		public void recCreated( ICFSecSecGrpMemb rec ) {
+			addMembership( rec.getRequiredClusterId(), rec.getRequiredSecGroupId(), rec.getRequiredSecUserId() );
+		}
+
+		@Override
+		public void recUpdated( ICFSecSecGrpMemb existing, ICFSecSecGrpMemb rec ) {
+			removeMembership( existing.getRequiredClusterId(), existing.getRequiredSecGroupId(), existing.getRequiredSecUserId() );
+			addMembership( rec.getRequiredClusterId(), rec.getRequiredSecGroupId(), rec.getRequiredSecUserId() );
+		}
+
+		@Override
+		public void recDeleted( ICFSecSecGrpMemb rec ) {
+			removeMembership( rec.getRequiredClusterId(), rec.getRequiredSecGroupId(), rec.getRequiredSecUserId() );
+		}
+	};
+
+	/**
+	 *	Construct an index over a SecGrpMemb table, loading its current contents.
+	 *
+	 *	@param	membTable	The table to index.
+	 */
+	public CFSecBuffGrpMembBitmapIndex( CFSecBuffSecGrpMembTable membTable ) {
+		if( membTable == null ) {
+			throw new CFLibNullArgumentException( getClass(), "construct", 1, "membTable" );
+		}
+		this.membTable = membTable;
+		membTable.addListener( membListener, true );
+		runOptimize();
+	}
+
+	/**
+	 *	Compact the bitmaps of every cluster, holding consecutive ordinals as runs
+	 *	where that is smaller.
+	 */
+	public void runOptimize() {
+		for( ClusterIndex index : clusters.values() ) {
+			index.lock.writeLock().lock();
+			try {
+				for( CFSecBuffRoaringBitmap bitmap : index.usersByGroup ) {
+					bitmap.runOptimize();
+				}
+				for( CFSecBuffRoaringBitmap bitmap : index.groupsByUser ) {
+					bitmap.runOptimize();
+				}
+			}
+			finally {
+				index.lock.writeLock().unlock();
+			}
+		}
+	}
+
+	/**
+	 *	Stop following the table and drop the index.
+	 */
+	public void close() {
+		membTable.removeListener( membListener );
+		clusters.clear();
+	}
+
+	protected void addMembership( CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 secGroupId, CFLibDbKeyHash256 secUserId ) {
+		if( ( clusterId == null ) || ( secGroupId == null ) || ( secUserId == null ) ) {
+			return;
+		}
+		ClusterIndex index = clusters.computeIfAbsent( clusterId, k -> new ClusterIndex() );
+		index.lock.writeLock().lock();
+		try {
+			int userOrdinal = index.ensureUserOrdinal( secUserId );
+			int groupOrdinal = index.ensureGroupOrdinal( secGroupId );
+			index.usersByGroup.get( groupOrdinal ).add( userOrdinal );
+			index.groupsByUser.get( userOrdinal ).add( groupOrdinal );
+		}
+		finally {
+			index.lock.writeLock().unlock();
+		}
+	}
+
+	protected void removeMembership( CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 secGroupId, CFLibDbKeyHash256 secUserId ) {
+		if( ( clusterId == null ) || ( secGroupId == null ) || ( secUserId == null ) ) {
+			return;
+		}
+		ClusterIndex index = clusters.get( clusterId );
+		if( index == null ) {
+			return;
+		}
+		index.lock.writeLock().lock();
+		try {
+			int userOrdinal = index.userOrdinalOf( secUserId );
+			int groupOrdinal = index.groupOrdinalOf( secGroupId );
+			if( ( userOrdinal >= 0 ) && ( groupOrdinal >= 0 ) ) {
+				index.usersByGroup.get( groupOrdinal ).remove( userOrdinal );
+				index.groupsByUser.get( userOrdinal ).remove( groupOrdinal );
+			}
+		}
+		finally {
+			index.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 *	Get the ordinal of a user within a cluster.
+	 *
+	 *	@param	clusterId	The owning cluster.
+	 *	@param	secUserId	The user.
+	 *
+	 *	@return	The ordinal, or -1 if the user has never been a member in the cluster.
+	 */
+	public int getUserOrdinal( CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 secUserId ) {
+		ClusterIndex index = ( clusterId != null ) ? clusters.get( clusterId ) : null;
+		if( ( index == null ) || ( secUserId == null ) ) {
+			return( -1 );
+		}
+		index.lock.readLock().lock();
+		try {
+			return( index.userOrdinalOf( secUserId ) );
+		}
+		finally {
+			index.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 *	Get the ordinal of a group within a cluster.
+	 *
+	 *	@param	clusterId	The owning cluster.
+	 *	@param	secGroupId	The group.
+	 *
+	 *	@return	The ordinal, or -1 if the group has never had a member in the cluster.
+	 */
+	public int getGroupOrdinal( CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 secGroupId ) {
+		ClusterIndex index = ( clusterId != null ) ? clusters.get( clusterId ) : null;
+		if( ( index == null ) || ( secGroupId == null ) ) {
+			return( -1 );
+		}
+		index.lock.readLock().lock();
+		try {
+			return( index.groupOrdinalOf( secGroupId ) );
+		}
+		finally {
+			index.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 *	Get the members of a group.
+	 *
+	 *	@param	clusterId	The owning cluster.
+	 *	@param	secGroupId	The group.
+	 *
+	 *	@return	A new bitmap of user ordinals, never null.
+	 */
+	public CFSecBuffRoaringBitmap getMembers( CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 secGroupId ) {
+		ClusterIndex index = ( clusterId != null ) ? clusters.get( clusterId ) : null;
+		if( ( index == null ) || ( secGroupId == null ) ) {
+			return( new CFSecBuffRoaringBitmap() );
+		}
+		index.lock.readLock().lock();
+		try {
+			int groupOrdinal = index.groupOrdinalOf( secGroupId );
+			if( groupOrdinal < 0 ) {
+				return( new CFSecBuffRoaringBitmap() );
+			}
+			return( index.usersByGroup.get( groupOrdinal ).clone() );
+		}
+		finally {
+			index.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 *	Get the groups a user is a direct member of.
+	 *
+	 *	@param	clusterId	The owning cluster.
+	 *	@param	secUserId	The user.
+	 *
+	 *	@return	A new bitmap of group ordinals, never null.
+	 */
+	public CFSecBuffRoaringBitmap getGroups( CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 secUserId ) {
+		ClusterIndex index = ( clusterId != null ) ? clusters.get( clusterId ) : null;
+		if( ( index == null ) || ( secUserId == null ) ) {
+			return( new CFSecBuffRoaringBitmap() );
+		}
+		index.lock.readLock().lock();
+		try {
+			int userOrdinal = index.userOrdinalOf( secUserId );
+			if( userOrdinal < 0 ) {
+				return( new CFSecBuffRoaringBitmap() );
+			}
+			return( index.groupsByUser.get( userOrdinal ).clone() );
+		}
+		finally {
+			index.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 *	Get the users that are a member of at least one of a set of groups.
+	 *
+	 *	@param	clusterId	The owning cluster.
+	 *	@param	secGroupIds	The groups; unknown and null ids are ignored.
+	 *
+	 *	@return	A new bitmap of user ordinals, never null.
+	 */
+	public CFSecBuffRoaringBitmap getMembersOfAny( CFLibDbKeyHash256 clusterId, Collection<CFLibDbKeyHash256> secGroupIds ) {
+		ClusterIndex index = ( clusterId != null ) ? clusters.get( clusterId ) : null;
+		if( ( index == null ) || ( secGroupIds == null ) ) {
+			return( new CFSecBuffRoaringBitmap() );
+		}
+		index.lock.readLock().lock();
+		try {
+			ArrayList<CFSecBuffRoaringBitmap> operands = new ArrayList<>( secGroupIds.size() );
+			for( CFLibDbKeyHash256 secGroupId : secGroupIds ) {
+				int groupOrdinal = ( secGroupId != null ) ? index.groupOrdinalOf( secGroupId ) : -1;
+				if( groupOrdinal >= 0 ) {
+					operands.add( index.usersByGroup.get( groupOrdinal ) );
+				}
+			}
+			return( CFSecBuffRoaringBitmap.orAll( operands ) );
+		}
+		finally {
+			index.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 *	Get the users that are a member of one group but not of another.
+	 *
+	 *	@param	clusterId	The owning cluster.
+	 *	@param	inSecGroupId	The group the users must belong to.
+	 *	@param	notInSecGroupId	The group the users must not belong to.
+	 *
+	 *	@return	A new bitmap of user ordinals, never null.
+	 */
+	public CFSecBuffRoaringBitmap getMembersAndNot( CFLibDbKeyHash256 clusterId,
+		CFLibDbKeyHash256 inSecGroupId,
+		CFLibDbKeyHash256 notInSecGroupId )
+	{
+		ClusterIndex index = ( clusterId != null ) ? clusters.get( clusterId ) : null;
+		if( ( index == null ) || ( inSecGroupId == null ) ) {
+			return( new CFSecBuffRoaringBitmap() );
+		}
+		index.lock.readLock().lock();
+		try {
+			int inOrdinal = index.groupOrdinalOf( inSecGroupId );
+			if( inOrdinal < 0 ) {
+				return( new CFSecBuffRoaringBitmap() );
+			}
+			int notInOrdinal = ( notInSecGroupId != null ) ? index.groupOrdinalOf( notInSecGroupId ) : -1;
+			if( notInOrdinal < 0 ) {
+				return( index.usersByGroup.get( inOrdinal ).clone() );
+			}
+			return( CFSecBuffRoaringBitmap.andNot( index.usersByGroup.get( inOrdinal ), index.usersByGroup.get( notInOrdinal ) ) );
+		}
+		finally {
+			index.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 *	Count the users two groups have in common, without building the overlap.
+	 *
+	 *	@param	clusterId	The owning cluster.
+	 *	@param	lhsSecGroupId	The first group.
+	 *	@param	rhsSecGroupId	The second group.
+	 *
+	 *	@return	The number of users that belong to both groups.
+	 */
+	public long countCommonMembers( CFLibDbKeyHash256 clusterId,
+		CFLibDbKeyHash256 lhsSecGroupId,
+		CFLibDbKeyHash256 rhsSecGroupId )
+	{
+		ClusterIndex index = ( clusterId != null ) ? clusters.get( clusterId ) : null;
+		if( ( index == null ) || ( lhsSecGroupId == null ) || ( rhsSecGroupId == null ) ) {
+			return( 0L );
+		}
+		index.lock.readLock().lock();
+		try {
+			int lhsOrdinal = index.groupOrdinalOf( lhsSecGroupId );
+			int rhsOrdinal = index.groupOrdinalOf( rhsSecGroupId );
+			if( ( lhsOrdinal < 0 ) || ( rhsOrdinal < 0 ) ) {
+				return( 0L );
+			}
+			return( CFSecBuffRoaringBitmap.andCardinality( index.usersByGroup.get( lhsOrdinal ), index.usersByGroup.get( rhsOrdinal ) ) );
+		}
+		finally {
+			index.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 *	Decode a bitmap of user ordinals of a cluster.
+	 *
+	 *	@param	clusterId	The owning cluster.
+	 *	@param	userOrdinals	The ordinals returned by a query on the same cluster.
+	 *
+	 *	@return	The SecUser ids in ordinal order, never null.
+	 */
+	public CFLibDbKeyHash256[] getUserIds( CFLibDbKeyHash256 clusterId, CFSecBuffRoaringBitmap userOrdinals ) {
+		return( decode( clusterId, userOrdinals, true ) );
+	}
+
+	/**
+	 *	Decode a bitmap of group ordinals of a cluster.
+	 *
+	 *	@param	clusterId	The owning cluster.
+	 *	@param	groupOrdinals	The ordinals returned by a query on the same cluster.
+	 *
+	 *	@return	The SecGroup ids in ordinal order, never null.
+	 */
+	public CFLibDbKeyHash256[] getGroupIds( CFLibDbKeyHash256 clusterId, CFSecBuffRoaringBitmap groupOrdinals ) {
+		return( decode( clusterId, groupOrdinals, false ) );
+	}
+
+	protected CFLibDbKeyHash256[] decode( CFLibDbKeyHash256 clusterId, CFSecBuffRoaringBitmap ordinals, boolean users ) {
+		ClusterIndex index = ( clusterId != null ) ? clusters.get( clusterId ) : null;
+		if( ( index == null ) || ( ordinals == null ) ) {
+			return( new CFLibDbKeyHash256[ 0 ] );
+		}
+		index.lock.readLock().lock();
+		try {
+			ArrayList<CFLibDbKeyHash256> ids = users ? index.userIds : index.groupIds;
+			int[] values = ordinals.toArray();
+			CFLibDbKeyHash256[] retArray = new CFLibDbKeyHash256[ values.length ];
+			int out = 0;
+			for( int value : values ) {
+				if( value < ids.size() ) {
+					retArray[ out++ ] = ids.get( value );
+				}
+			}
+			return( ( out < retArray.length ) ? Arrays.copyOf( retArray, out ) : retArray );
+		}
+		finally {
+			index.lock.readLock().unlock();
+		}
+	}
+}
@@ -0,0 +1,99 @@
+// Description: Java 25 hash mixing support for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+/*
+ *	CFSecBuffHash provides the field mixing used by the hashCode() implementations
+ *	of the buffer records, history records, and keys.
+ *
+ *	Each attribute hash is folded in with the MurmurHash3 block mix, so the result
+ *	depends on attribute order and single-bit changes in any attribute avalanche
+ *	across the whole value.  Callers start from SEED, mix each attribute in
+ *	declaration order, and finish with the attribute count.
+ */
+public final class CFSecBuffHash
+{
+	public static final int SEED = 0x9747b28c;
+
+	private static final int C1 = 0xcc9e2d51;
+	private static final int C2 = 0x1b873593;
+
+	private CFSecBuffHash() {
+	}
+
+	public static int mix( int hash, int value ) {
+		int k = value * C1;
+		k = Integer.rotateLeft( k, 15 );
+		k = k * C2;
+		int h = hash ^ k;
+		h = Integer.rotateLeft( h, 13 );
+		return( ( h * 5 ) + 0xe6546b64 );
+	}
+
+	public static int mix( int hash, long value ) {
+		return( mix( mix( hash, (int)value ), (int)( value >>> 32 ) ) );
+	}
+
+	public static int mix( int hash, boolean value ) {
+		return( mix( hash, value ? 1231 : 1237 ) );
+	}
+
+	public static int mix( int hash, Object value ) {
+		return( mix( hash, ( value == null ) ? 0 : value.hashCode() ) );
+	}
+
+	public static int finish( int hash, int count ) {
+		int h = hash ^ count;
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		h *= 0xc2b2ae35;
+		h ^= h >>> 16;
+		return( h & 0x7fffffff );
+	}
+
+	/**
+	 *	The MurmurHash3 64-bit finalizer, a bijection on long values.
+	 */
+	public static long fmix64( long value ) {
+		long k = value;
+		k ^= k >>> 33;
+		k *= 0xff51afd7ed558ccdL;
+		k ^= k >>> 33;
+		k *= 0xc4ceb9fe1a85ec53L;
+		k ^= k >>> 33;
+		return( k );
+	}
+}
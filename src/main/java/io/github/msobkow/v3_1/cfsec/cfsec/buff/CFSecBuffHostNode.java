@@ -51,23 +51,99 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffHostNode
-	implements ICFSecHostNode, Comparable<Object>, Serializable
+	implements ICFSecHostNode, Comparable<Object>, Serializable, Cloneable
 {
 	protected CFLibDbKeyHash256 requiredHostNodeId;
 	protected int requiredRevision;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecHostNode.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecHostNode.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
 	protected CFLibDbKeyHash256 requiredClusterId;
 	protected String requiredDescription;
 	protected String requiredHostName;
 
+	protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecHostNode.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecHostNode.S_INIT_UPDATED_BY);
+	protected transient CFSecBuffNavigationCache navigationCache = null;
+
+	protected static final int NAV_OPTIONALCOMPONENTSSERVICE = 0;
+	protected static final int NAV_REQUIREDCONTAINERCLUSTER = 1;
+	protected static final int NAV_SLOT_COUNT = 2;
+
 	public CFSecBuffHostNode() {
-		requiredHostNodeId = CFLibDbKeyHash256.fromHex( ICFSecHostNode.HOSTNODEID_INIT_VALUE.toString() );
-		requiredClusterId = CFLibDbKeyHash256.fromHex( ICFSecHostNode.CLUSTERID_INIT_VALUE.toString() );
+		this( CFSecBuffRecStamp.EAGER );
+	}
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+	public CFSecBuffHostNode( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffHostNode", 1, "stamp" );
+		}
+		requiredHostNodeId = ICFSecHostNode.HOSTNODEID_INIT_VALUE;
+		requiredClusterId = ICFSecHostNode.CLUSTERID_INIT_VALUE;
 		requiredDescription = ICFSecHostNode.DESCRIPTION_INIT_VALUE;
 		requiredHostName = ICFSecHostNode.HOSTNAME_INIT_VALUE;
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
+	}
+
+	/**
+	 *	Enable or disable caching of the relationship navigation getters of this
+	 *	instance.  While enabled, each navigation result is reused until the table
+	 *	it was read from reports a modification, or until an attribute of this
+	 *	instance is changed.  Tables that do not publish a modification count are
+	 *	always read.  Cached objects are shared between calls, so callers must treat
+	 *	them as read-only.
+	 *
+	 *	@param	value	true to cache navigation results, false to discard the cache.
+	 */
+	public void setNavigationCacheEnabled( boolean value ) {
+		if( value ) {
+			if( navigationCache == null ) {
+				navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+			}
+		}
+		else {
+			navigationCache = null;
+		}
+	}
+
+	public boolean isNavigationCacheEnabled() {
+		return( navigationCache != null );
+	}
+
+	protected long getNavigationStamp( Object targetTable ) {
+		if( navigationCache == null ) {
+			return( 0L );
+		}
+		return( CFSecBuffNavigationCache.stampOf( targetTable ) );
+	}
+
+	protected void primeNavigation( int slot, long navStamp, Object value ) {
+		if( navStamp == 0L ) {
+			return;
+		}
+		if( navigationCache == null ) {
+			navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+		}
+		navigationCache.put( slot, navStamp, value );
 	}
 
 	@Override
@@ -96,6 +172,8 @@ public class CFSecBuffHostNode
 				"value" );
 		}
 		requiredHostNodeId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -106,16 +184,25 @@ public class CFSecBuffHostNode
 	@Override
 	public void setCreatedByUserId( CFLibDbKeyHash256 value ) {
 		createdByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getCreatedAt() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
 		return( createdAt );
 	}
 
 	@Override
 	public void setCreatedAt( LocalDateTime value ) {
 		createdAt = value;
+		pendingCreatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -126,16 +213,25 @@ public class CFSecBuffHostNode
 	@Override
 	public void setUpdatedByUserId( CFLibDbKeyHash256 value ) {
 		updatedByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getUpdatedAt() {
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
 		return( updatedAt );
 	}
 
 	@Override
 	public void setUpdatedAt( LocalDateTime value ) {
 		updatedAt = value;
+		pendingUpdatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 	@Override
 	public int getRequiredRevision() {
@@ -145,6 +241,8 @@ public class CFSecBuffHostNode
 	@Override
 	public void setRequiredRevision( int value ) {
 		requiredRevision = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -162,7 +260,17 @@ public class CFSecBuffHostNode
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalComponentsService", 0, "ICFSecSchema.getBackingCFSec().getTableService()");
 		}
-		ICFSecService[] targetArr = targetTable.readDerivedByHostIdx(null, getRequiredHostNodeId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecService[] targetArr;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALCOMPONENTSSERVICE, navStamp ) ) {
+			targetArr = (ICFSecService[])navigationCache.getValue( NAV_OPTIONALCOMPONENTSSERVICE );
+		}
+		else {
+			targetArr = targetTable.readDerivedByHostIdx(null, getRequiredHostNodeId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALCOMPONENTSSERVICE, navStamp, targetArr );
+			}
+		}
 		if( targetArr != null ) {
 			List<ICFSecService> results = new ArrayList<>(targetArr.length);
 			for (int idx = 0; idx < targetArr.length; idx++) {
@@ -185,7 +293,17 @@ public class CFSecBuffHostNode
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setRequiredContainerCluster", 0, "ICFSecSchema.getBackingCFSec().getTableCluster()");
 		}
-		ICFSecCluster targetRec = targetTable.readDerived(null, getRequiredClusterId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecCluster targetRec;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_REQUIREDCONTAINERCLUSTER, navStamp ) ) {
+			targetRec = (ICFSecCluster)navigationCache.getValue( NAV_REQUIREDCONTAINERCLUSTER );
+		}
+		else {
+			targetRec = targetTable.readDerived(null, getRequiredClusterId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_REQUIREDCONTAINERCLUSTER, navStamp, targetRec );
+			}
+		}
 		return(targetRec);
 	}
 	@Override
@@ -196,11 +314,15 @@ public class CFSecBuffHostNode
 		else {
 			requiredClusterId = argObj.getRequiredId();
 		}
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public void setRequiredContainerCluster(CFLibDbKeyHash256 argClusterId) {
 		requiredClusterId = argClusterId;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -230,6 +352,8 @@ public class CFSecBuffHostNode
 				255 );
 		}
 		requiredDescription = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -254,6 +378,8 @@ public class CFSecBuffHostNode
 				192 );
 		}
 		requiredHostName = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -515,20 +641,21 @@ public class CFSecBuffHostNode
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getCreatedByUserId().hashCode();
-		hashCode = hashCode + getCreatedAt().hashCode();
-		hashCode = hashCode + getUpdatedByUserId().hashCode();
-		hashCode = hashCode + getUpdatedAt().hashCode();
-		hashCode = hashCode + getRequiredHostNodeId().hashCode();
-		hashCode = hashCode + getRequiredClusterId().hashCode();
-		if( getRequiredDescription() != null ) {
-			hashCode = hashCode + getRequiredDescription().hashCode();
-		}
-		if( getRequiredHostName() != null ) {
-			hashCode = hashCode + getRequiredHostName().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredHostNodeId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredClusterId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredDescription() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredHostName() );
+			hashCode = CFSecBuffHash.finish( hashCode, 8 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
@@ -795,6 +922,45 @@ public class CFSecBuffHostNode
 		}
 	}
 
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+	protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+	}
+
+	private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+	public CFSecBuffHostNode clone() {
+		resolvePendingStamps();
+		CFSecBuffHostNode copy;
+		try {
+			copy = (CFSecBuffHostNode)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.navigationCache = null;
+		return( copy );
+	}
+
 	@Override
 	public void set( ICFSecHostNode src ) {
 		setHostNode( src );
@@ -808,7 +974,7 @@ public class CFSecBuffHostNode
 		setCreatedAt( src.getCreatedAt() );
 		setUpdatedByUserId( src.getUpdatedByUserId() );
 		setUpdatedAt( src.getUpdatedAt() );
-		setRequiredContainerCluster(src.getRequiredContainerCluster());
+		setRequiredContainerCluster(src.getRequiredClusterId());
 		setRequiredDescription(src.getRequiredDescription());
 		setRequiredHostName(src.getRequiredHostName());
 	}
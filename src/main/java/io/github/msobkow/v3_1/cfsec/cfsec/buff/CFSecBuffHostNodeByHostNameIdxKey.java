@@ -55,8 +55,10 @@ public class CFSecBuffHostNodeByHostNameIdxKey
 {
 	protected CFLibDbKeyHash256 requiredClusterId;
 	protected String requiredHostName;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffHostNodeByHostNameIdxKey() {
-		requiredClusterId = CFLibDbKeyHash256.fromHex( ICFSecHostNode.CLUSTERID_INIT_VALUE.toString() );
+		requiredClusterId = ICFSecHostNode.CLUSTERID_INIT_VALUE;
 		requiredHostName = ICFSecHostNode.HOSTNAME_INIT_VALUE;
 	}
 
@@ -74,6 +76,7 @@ public class CFSecBuffHostNodeByHostNameIdxKey
 				"value" );
 		}
 		requiredClusterId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -98,6 +101,7 @@ public class CFSecBuffHostNodeByHostNameIdxKey
 				192 );
 		}
 		requiredHostName = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -180,12 +184,15 @@ public class CFSecBuffHostNodeByHostNameIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredClusterId().hashCode();
-		if( getRequiredHostName() != null ) {
-			hashCode = hashCode + getRequiredHostName().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredClusterId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredHostName() );
+			hashCode = CFSecBuffHash.finish( hashCode, 2 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
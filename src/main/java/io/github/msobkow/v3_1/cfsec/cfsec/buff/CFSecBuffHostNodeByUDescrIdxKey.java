@@ -55,8 +55,10 @@ public class CFSecBuffHostNodeByUDescrIdxKey
 {
 	protected CFLibDbKeyHash256 requiredClusterId;
 	protected String requiredDescription;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffHostNodeByUDescrIdxKey() {
-		requiredClusterId = CFLibDbKeyHash256.fromHex( ICFSecHostNode.CLUSTERID_INIT_VALUE.toString() );
+		requiredClusterId = ICFSecHostNode.CLUSTERID_INIT_VALUE;
 		requiredDescription = ICFSecHostNode.DESCRIPTION_INIT_VALUE;
 	}
 
@@ -74,6 +76,7 @@ public class CFSecBuffHostNodeByUDescrIdxKey
 				"value" );
 		}
 		requiredClusterId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -98,6 +101,7 @@ public class CFSecBuffHostNodeByUDescrIdxKey
 				255 );
 		}
 		requiredDescription = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -180,12 +184,15 @@ public class CFSecBuffHostNodeByUDescrIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredClusterId().hashCode();
-		if( getRequiredDescription() != null ) {
-			hashCode = hashCode + getRequiredDescription().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredClusterId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredDescription() );
+			hashCode = CFSecBuffHash.finish( hashCode, 2 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
@@ -54,13 +54,126 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffHostNodeDefaultFactory
 	implements ICFSecHostNodeFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffHostNodeByClusterIdxKey> probeByClusterIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffHostNodeByClusterIdxKey() );
+	protected static final ThreadLocal<CFSecBuffHostNodeByUDescrIdxKey> probeByUDescrIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffHostNodeByUDescrIdxKey() );
+	protected static final ThreadLocal<CFSecBuffHostNodeByHostNameIdxKey> probeByHostNameIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffHostNodeByHostNameIdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders HostNode instances by primary key.
+	 */
+	public static final Comparator<ICFSecHostNode> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( lhs.getRequiredHostNodeId().compareTo( rhs.getRequiredHostNodeId() ) );
+	};
+
+	/**
+	 *	Orders HostNode history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecHostNodeHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredHostNodeId().compareTo( rhs.getRequiredHostNodeId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders HostNode instances by the ClusterIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecHostNode> COMPARE_BY_CLUSTERIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() ) );
+	};
+
+	/**
+	 *	Orders ClusterIdx keys.
+	 */
+	public static final Comparator<ICFSecHostNodeByClusterIdxKey> COMPARE_CLUSTERIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() ) );
+	};
+
+	/**
+	 *	Orders HostNode instances by the UDescrIdx columns.
+	 */
+	public static final Comparator<ICFSecHostNode> COMPARE_BY_UDESCRIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredDescription().compareTo( rhs.getRequiredDescription() ) );
+	};
+
+	/**
+	 *	Orders UDescrIdx keys.
+	 */
+	public static final Comparator<ICFSecHostNodeByUDescrIdxKey> COMPARE_UDESCRIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredDescription().compareTo( rhs.getRequiredDescription() ) );
+	};
+
+	/**
+	 *	Orders HostNode instances by the HostNameIdx columns.
+	 */
+	public static final Comparator<ICFSecHostNode> COMPARE_BY_HOSTNAMEIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredHostName().compareTo( rhs.getRequiredHostName() ) );
+	};
+
+	/**
+	 *	Orders HostNameIdx keys.
+	 */
+	public static final Comparator<ICFSecHostNodeByHostNameIdxKey> COMPARE_HOSTNAMEIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredHostName().compareTo( rhs.getRequiredHostName() ) );
+	};
+
 	public CFSecBuffHostNodeDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
 	@Override
 	public ICFSecHostNodeHPKey newHPKey() {
 		ICFSecHostNodeHPKey hpkey =
-			new CFSecBuffHostNodeHPKey();
+			new CFSecBuffHostNodeHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -72,7 +185,7 @@ public class CFSecBuffHostNodeDefaultFactory
 			return( (CFSecBuffHostNodeHPKey)key );
 		}
 		else {
-			CFSecBuffHostNodeHPKey mapped = new CFSecBuffHostNodeHPKey();
+			CFSecBuffHostNodeHPKey mapped = new CFSecBuffHostNodeHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -103,6 +216,10 @@ public class CFSecBuffHostNodeDefaultFactory
 		}
 	}
 
+	public static CFSecBuffHostNodeByClusterIdxKey getProbeByClusterIdxKey() {
+		return( probeByClusterIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecHostNodeByUDescrIdxKey newByUDescrIdxKey() {
 		ICFSecHostNodeByUDescrIdxKey key =
@@ -125,6 +242,10 @@ public class CFSecBuffHostNodeDefaultFactory
 		}
 	}
 
+	public static CFSecBuffHostNodeByUDescrIdxKey getProbeByUDescrIdxKey() {
+		return( probeByUDescrIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecHostNodeByHostNameIdxKey newByHostNameIdxKey() {
 		ICFSecHostNodeByHostNameIdxKey key =
@@ -147,10 +268,14 @@ public class CFSecBuffHostNodeDefaultFactory
 		}
 	}
 
+	public static CFSecBuffHostNodeByHostNameIdxKey getProbeByHostNameIdxKey() {
+		return( probeByHostNameIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecHostNode newRec() {
 		ICFSecHostNode rec =
-			new CFSecBuffHostNode();
+			new CFSecBuffHostNode( recStamp );
 		return( rec );
 	}
 
@@ -162,16 +287,56 @@ public class CFSecBuffHostNodeDefaultFactory
 			return( (CFSecBuffHostNode)rec );
 		}
 		else {
-			CFSecBuffHostNode mapped = new CFSecBuffHostNode();
+			CFSecBuffHostNode mapped = new CFSecBuffHostNode( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffHostNode cloneRec( ICFSecHostNode rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffHostNode ) {
+			return( ( (CFSecBuffHostNode)rec ).clone() );
+		}
+		else {
+			CFSecBuffHostNode mapped = new CFSecBuffHostNode( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffHostNode[] cloneRecs( ICFSecHostNode[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffHostNode[] retList = new CFSecBuffHostNode[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecHostNodeH newHRec() {
 		ICFSecHostNodeH hrec =
-			new CFSecBuffHostNodeH();
+			new CFSecBuffHostNodeH( recStamp );
 		return( hrec );
 	}
 
@@ -183,9 +348,49 @@ public class CFSecBuffHostNodeDefaultFactory
 			return( (CFSecBuffHostNodeH)hrec );
 		}
 		else {
-			CFSecBuffHostNodeH mapped = new CFSecBuffHostNodeH();
+			CFSecBuffHostNodeH mapped = new CFSecBuffHostNodeH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffHostNodeH cloneHRec( ICFSecHostNodeH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffHostNodeH ) {
+			return( ( (CFSecBuffHostNodeH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffHostNodeH mapped = new CFSecBuffHostNodeH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffHostNodeH[] cloneHRecs( ICFSecHostNodeH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffHostNodeH[] retList = new CFSecBuffHostNodeH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
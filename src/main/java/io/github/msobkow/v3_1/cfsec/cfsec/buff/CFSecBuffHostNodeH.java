@@ -51,23 +51,52 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffHostNodeH
-    implements ICFSecHostNodeH, Comparable<Object>, Serializable
+    implements ICFSecHostNodeH, Comparable<Object>, Serializable, Cloneable
 {
     protected CFSecBuffHostNodeHPKey pkey;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecHostNode.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecHostNode.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
 	protected CFLibDbKeyHash256 requiredClusterId;
 	protected String requiredDescription;
 	protected String requiredHostName;
 
+    protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecHostNode.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecHostNode.S_INIT_UPDATED_BY);
+
     public CFSecBuffHostNodeH() {
+		this( CFSecBuffRecStamp.EAGER );
+    }
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+    public CFSecBuffHostNodeH( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffHostNodeH", 1, "stamp" );
+		}
             // The primary key member attributes are initialized on construction
-            pkey = new CFSecBuffHostNodeHPKey();
-		requiredClusterId = CFLibDbKeyHash256.fromHex( ICFSecHostNode.CLUSTERID_INIT_VALUE.toString() );
+            pkey = new CFSecBuffHostNodeHPKey( stamp );
+		requiredClusterId = ICFSecHostNode.CLUSTERID_INIT_VALUE;
 		requiredDescription = ICFSecHostNode.DESCRIPTION_INIT_VALUE;
 		requiredHostName = ICFSecHostNode.HOSTNAME_INIT_VALUE;
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
     }
 
     @Override
@@ -86,10 +115,15 @@ public class CFSecBuffHostNodeH
             throw new CFLibNullArgumentException(getClass(), "setCreatedByUserId", 1, "value");
         }
         createdByUserId = value;
+        cachedHashCode = 0;
     }
 
     @Override
     public LocalDateTime getCreatedAt() {
+        if( pendingCreatedAt != null ) {
+            createdAt = pendingCreatedAt.now();
+            pendingCreatedAt = null;
+        }
         return( createdAt );
     }
 
@@ -99,6 +133,8 @@ public class CFSecBuffHostNodeH
             throw new CFLibNullArgumentException(getClass(), "setCreatedAt", 1, "value");
         }
         createdAt = value;
+        pendingCreatedAt = null;
+        cachedHashCode = 0;
     }
 
     @Override
@@ -112,10 +148,15 @@ public class CFSecBuffHostNodeH
             throw new CFLibNullArgumentException(getClass(), "setUpdatedByUserId", 1, "value");
         }
         updatedByUserId = value;
+        cachedHashCode = 0;
     }
 
     @Override
     public LocalDateTime getUpdatedAt() {
+        if( pendingUpdatedAt != null ) {
+            updatedAt = pendingUpdatedAt.now();
+            pendingUpdatedAt = null;
+        }
         return( updatedAt );
     }
 
@@ -125,6 +166,8 @@ public class CFSecBuffHostNodeH
             throw new CFLibNullArgumentException(getClass(), "setUpdatedAt", 1, "value");
         }
         updatedAt = value;
+        pendingUpdatedAt = null;
+        cachedHashCode = 0;
     }
 
     @Override
@@ -142,6 +185,7 @@ public class CFSecBuffHostNodeH
                 throw new CFLibUnsupportedClassException(getClass(), "setPKey", "pkey", pkey, "CFSecBuffHostNodeHPKey");
             }
         }
+        cachedHashCode = 0;
     }
 
     @Override
@@ -218,6 +262,7 @@ public class CFSecBuffHostNodeH
 				"value" );
 		}
 		requiredClusterId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -242,6 +287,7 @@ public class CFSecBuffHostNodeH
 				255 );
 		}
 		requiredDescription = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -266,6 +312,7 @@ public class CFSecBuffHostNodeH
 				192 );
 		}
 		requiredHostName = value;
+		cachedHashCode = 0;
 	}
 
     @Override
@@ -512,15 +559,16 @@ public class CFSecBuffHostNodeH
     
     @Override
     public int hashCode() {
-        int hashCode = pkey.hashCode();
-		hashCode = hashCode + getRequiredClusterId().hashCode();
-		if( getRequiredDescription() != null ) {
-			hashCode = hashCode + getRequiredDescription().hashCode();
-		}
-		if( getRequiredHostName() != null ) {
-			hashCode = hashCode + getRequiredHostName().hashCode();
-		}
-        return( hashCode & 0x7fffffff );
+        int hashCode = cachedHashCode;
+        if( hashCode == 0 ) {
+            hashCode = CFSecBuffHash.SEED;
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredClusterId() );
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredDescription() );
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredHostName() );
+            cachedHashCode = hashCode;
+        }
+        hashCode = CFSecBuffHash.mix( hashCode, pkey.hashCode() );
+        return( CFSecBuffHash.finish( hashCode, 4 ) );
     }
 
     @Override
@@ -751,6 +799,46 @@ public class CFSecBuffHostNodeH
                 null );
         }
     }
+
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+    protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+    }
+
+    private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+    }
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+    public CFSecBuffHostNodeH clone() {
+		resolvePendingStamps();
+		CFSecBuffHostNodeH copy;
+		try {
+			copy = (CFSecBuffHostNodeH)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.pkey = pkey.clone();
+		return( copy );
+    }
+
 	@Override
     public void set( ICFSecHostNode src ) {
 		setHostNode( src );
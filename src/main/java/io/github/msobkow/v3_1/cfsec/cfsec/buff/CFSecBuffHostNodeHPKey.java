@@ -50,7 +50,7 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
  *		requiredHostNodeId	Required object attribute HostNodeId.
  */
 public class CFSecBuffHostNodeHPKey
-	implements ICFSecHostNodeHPKey, Comparable<Object>, Serializable
+	implements ICFSecHostNodeHPKey, Comparable<Object>, Serializable, Cloneable
 {
 	protected CFLibDbKeyHash256 auditClusterId;
 	protected LocalDateTime auditStamp;
@@ -60,13 +60,34 @@ public class CFSecBuffHostNodeHPKey
 
 	protected CFLibDbKeyHash256 requiredHostNodeId;
 
+	protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingAuditStamp = null;
+
 	public CFSecBuffHostNodeHPKey() {
+		this( CFSecBuffRecStamp.EAGER );
+	}
+
+	/**
+	 *	Construct a key whose audit stamp is supplied by stamp, either
+	 *	immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+	public CFSecBuffHostNodeHPKey( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffHostNodeHPKey", 1, "stamp" );
+		}
 		auditClusterId = ICFSecCluster.ID_INIT_VALUE;
-		auditStamp = LocalDateTime.now();
+		if( stamp.isLazy() ) {
+			pendingAuditStamp = stamp;
+		}
+		else {
+			auditStamp = stamp.now();
+		}
 		auditActionId = 0;
 		requiredRevision = 1;
 		auditSessionId = CFLibDbKeyHash256.nullGet();
-		requiredHostNodeId = CFLibDbKeyHash256.fromHex( ICFSecHostNode.HOSTNODEID_INIT_VALUE.toString() );
+		requiredHostNodeId = ICFSecHostNode.HOSTNODEID_INIT_VALUE;
 	}
 
 	@Override
@@ -77,16 +98,23 @@ public class CFSecBuffHostNodeHPKey
 	@Override
 	public void setAuditClusterId( CFLibDbKeyHash256 value ) {
 		auditClusterId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
 	public LocalDateTime getAuditStamp() {
+		if( pendingAuditStamp != null ) {
+			auditStamp = pendingAuditStamp.now();
+			pendingAuditStamp = null;
+		}
 		return( auditStamp );
 	}
 
 	@Override
 	public void setAuditStamp( LocalDateTime value ) {
 		auditStamp = value;
+		pendingAuditStamp = null;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -97,6 +125,7 @@ public class CFSecBuffHostNodeHPKey
 	@Override
 	public void setAuditActionId( short value ) {
 		auditActionId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -107,6 +136,7 @@ public class CFSecBuffHostNodeHPKey
 	@Override
 	public void setRequiredRevision( int value ) {
 		requiredRevision = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -117,6 +147,7 @@ public class CFSecBuffHostNodeHPKey
 	@Override
 	public void setAuditSessionId( CFLibDbKeyHash256 value ) {
 		auditSessionId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -133,6 +164,41 @@ public class CFSecBuffHostNodeHPKey
 				"value" );
 		}
 		requiredHostNodeId = value;
+		cachedHashCode = 0;
+	}
+
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+	protected void resolvePendingStamps() {
+		if( pendingAuditStamp != null ) {
+			auditStamp = pendingAuditStamp.now();
+			pendingAuditStamp = null;
+		}
+	}
+
+	private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+	public CFSecBuffHostNodeHPKey clone() {
+		resolvePendingStamps();
+		CFSecBuffHostNodeHPKey copy;
+		try {
+			copy = (CFSecBuffHostNodeHPKey)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		return( copy );
 	}
 
 	@Override
@@ -294,20 +360,19 @@ public class CFSecBuffHostNodeHPKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		if( auditClusterId != null ) {
-			hashCode = hashCode + auditClusterId.hashCode();
-		}
-		if( auditStamp != null ) {
-			hashCode = hashCode + auditStamp.hashCode();
-		}
-		hashCode = hashCode + auditActionId;
-		hashCode = hashCode + requiredRevision;
-		if( auditSessionId != null ) {
-			hashCode = hashCode + auditSessionId.hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, auditClusterId );
+			hashCode = CFSecBuffHash.mix( hashCode, getAuditStamp() );
+			hashCode = CFSecBuffHash.mix( hashCode, auditActionId );
+			hashCode = CFSecBuffHash.mix( hashCode, requiredRevision );
+			hashCode = CFSecBuffHash.mix( hashCode, auditSessionId );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredHostNodeId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 6 );
+			cachedHashCode = hashCode;
 		}
-		hashCode = hashCode + getRequiredHostNodeId().hashCode();
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
@@ -490,7 +555,7 @@ public class CFSecBuffHostNodeHPKey
 	@Override
 	public String getXmlAttrFragment() {
 		String ret = " auditClusterId=\"" + (auditClusterId != null ? auditClusterId.toString() : "null") + "\""
-			+ " auditStamp=\"" + (auditStamp != null ? CFLibXmlUtil.formatTimestamp(auditStamp) : "null") + "\""
+			+ " auditStamp=\"" + (getAuditStamp() != null ? CFLibXmlUtil.formatTimestamp(getAuditStamp()) : "null") + "\""
 			+ " auditAction=\"" + auditActionId + "\""
 			+ " revision=\"" + requiredRevision + "\""
 			+ " auditSessionId=\"" + (getAuditSessionId() != null ? getAuditSessionId().toString() : "null") + "\""
@@ -0,0 +1,640 @@
+// Description: Java 25 in-memory concurrent implementation of a HostNode table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffHostNodeTable in-memory implementation of ICFSecHostNodeTable for HostNode.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ */
+public class CFSecBuffHostNodeTable
+	implements ICFSecHostNodeTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffHostNode> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffHostNodeByClusterIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffHostNode>> dictByClusterIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffHostNodeByUDescrIdxKey, CFSecBuffHostNode> dictByUDescrIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffHostNodeByHostNameIdxKey, CFSecBuffHostNode> dictByHostNameIdx
+		= new ConcurrentHashMap<>();
+
+	public CFSecBuffHostNodeTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Copy the attributes of a HostNode by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffHostNode holding the same attribute values.
+	 */
+	protected CFSecBuffHostNode copyRec( ICFSecHostNode src ) {
+		if( src instanceof CFSecBuffHostNode ) {
+			return( ( (CFSecBuffHostNode)src ).clone() );
+		}
+		CFSecBuffHostNode rec = new CFSecBuffHostNode( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredHostNodeId( src.getRequiredHostNodeId() );
+		rec.setRequiredContainerCluster( src.getRequiredClusterId() );
+		rec.setRequiredDescription( src.getRequiredDescription() );
+		rec.setRequiredHostName( src.getRequiredHostName() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecHostNode[] copyRecs( Collection<CFSecBuffHostNode> src ) {
+		ICFSecHostNode[] retList = new ICFSecHostNode[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffHostNode cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected CFLibDbKeyHash256 pkeyOf( ICFSecHostNode rec ) {
+		return( rec.getRequiredHostNodeId() );
+	}
+
+	protected CFSecBuffHostNodeByClusterIdxKey newByClusterIdxKey( CFLibDbKeyHash256 argClusterId ) {
+		CFSecBuffHostNodeByClusterIdxKey key = new CFSecBuffHostNodeByClusterIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		return( key );
+	}
+
+	protected CFSecBuffHostNodeByClusterIdxKey newByClusterIdxKey( ICFSecHostNode rec ) {
+		return( newByClusterIdxKey( rec.getRequiredClusterId() ) );
+	}
+
+	protected CFSecBuffHostNodeByClusterIdxKey probeByClusterIdxKey( CFLibDbKeyHash256 argClusterId ) {
+		CFSecBuffHostNodeByClusterIdxKey key = CFSecBuffHostNodeDefaultFactory.getProbeByClusterIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		return( key );
+	}
+
+	protected CFSecBuffHostNodeByUDescrIdxKey newByUDescrIdxKey( CFLibDbKeyHash256 argClusterId, String argDescription ) {
+		CFSecBuffHostNodeByUDescrIdxKey key = new CFSecBuffHostNodeByUDescrIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		key.setRequiredDescription( argDescription );
+		return( key );
+	}
+
+	protected CFSecBuffHostNodeByUDescrIdxKey newByUDescrIdxKey( ICFSecHostNode rec ) {
+		return( newByUDescrIdxKey( rec.getRequiredClusterId(), rec.getRequiredDescription() ) );
+	}
+
+	protected CFSecBuffHostNodeByUDescrIdxKey probeByUDescrIdxKey( CFLibDbKeyHash256 argClusterId, String argDescription ) {
+		CFSecBuffHostNodeByUDescrIdxKey key = CFSecBuffHostNodeDefaultFactory.getProbeByUDescrIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		key.setRequiredDescription( argDescription );
+		return( key );
+	}
+
+	protected CFSecBuffHostNodeByHostNameIdxKey newByHostNameIdxKey( CFLibDbKeyHash256 argClusterId, String argHostName ) {
+		CFSecBuffHostNodeByHostNameIdxKey key = new CFSecBuffHostNodeByHostNameIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		key.setRequiredHostName( argHostName );
+		return( key );
+	}
+
+	protected CFSecBuffHostNodeByHostNameIdxKey newByHostNameIdxKey( ICFSecHostNode rec ) {
+		return( newByHostNameIdxKey( rec.getRequiredClusterId(), rec.getRequiredHostName() ) );
+	}
+
+	protected CFSecBuffHostNodeByHostNameIdxKey probeByHostNameIdxKey( CFLibDbKeyHash256 argClusterId, String argHostName ) {
+		CFSecBuffHostNodeByHostNameIdxKey key = CFSecBuffHostNodeDefaultFactory.getProbeByHostNameIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		key.setRequiredHostName( argHostName );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffHostNode rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByClusterIdx.computeIfAbsent( newByClusterIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByUDescrIdx.put( newByUDescrIdxKey( rec ), rec );
+		dictByHostNameIdx.put( newByHostNameIdxKey( rec ), rec );
+	}
+
+	protected void unindexRec( CFSecBuffHostNode rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		removeFromDupIndex( dictByClusterIdx, newByClusterIdxKey( rec ), pkey );
+		dictByUDescrIdx.remove( newByUDescrIdxKey( rec ), rec );
+		dictByHostNameIdx.remove( newByHostNameIdxKey( rec ), rec );
+		dictByPKey.remove( pkey, rec );
+	}
+
+	protected void reindexRec( CFSecBuffHostNode existing, CFSecBuffHostNode rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffHostNodeByClusterIdxKey oldKey = newByClusterIdxKey( existing );
+			CFSecBuffHostNodeByClusterIdxKey newKey = newByClusterIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByClusterIdx, oldKey, pkey );
+			}
+			dictByClusterIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffHostNodeByUDescrIdxKey oldKey = newByUDescrIdxKey( existing );
+			CFSecBuffHostNodeByUDescrIdxKey newKey = newByUDescrIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByUDescrIdx.remove( oldKey, existing );
+			}
+			dictByUDescrIdx.put( newKey, rec );
+		}
+		{
+			CFSecBuffHostNodeByHostNameIdxKey oldKey = newByHostNameIdxKey( existing );
+			CFSecBuffHostNodeByHostNameIdxKey newKey = newByHostNameIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByHostNameIdx.remove( oldKey, existing );
+			}
+			dictByHostNameIdx.put( newKey, rec );
+		}
+	}
+
+	protected static <K> void removeFromDupIndex( ConcurrentHashMap<K, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffHostNode>> dict, K key, CFLibDbKeyHash256 pkey ) {
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffHostNode> subdict = dict.get( key );
+		if( subdict != null ) {
+			subdict.remove( pkey );
+			if( subdict.isEmpty() ) {
+				dict.remove( key, subdict );
+			}
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffHostNode rec, CFSecBuffHostNode existing ) {
+		{
+			CFSecBuffHostNodeByUDescrIdxKey key = newByUDescrIdxKey( rec );
+			CFSecBuffHostNode conflict = dictByUDescrIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"HostNodeUDescrIdx",
+					key );
+			}
+		}
+		{
+			CFSecBuffHostNodeByHostNameIdxKey key = newByHostNameIdxKey( rec );
+			CFSecBuffHostNode conflict = dictByHostNameIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"HostNodeHostNameIdx",
+					key );
+			}
+		}
+	}
+
+	@Override
+	public ICFSecHostNode createHostNode( ICFSecAuthorization Authorization,
+		ICFSecHostNode rec )
+	{
+		final String S_ProcName = "createHostNode";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffHostNode stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecHostNode readDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		if( PKey == null ) {
+			return( null );
+		}
+		CFSecBuffHostNode rec = dictByPKey.get( PKey );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecHostNode lockDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecHostNode[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecHostNode readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argHostNodeId )
+	{
+		if( argHostNodeId == null ) {
+			return( null );
+		}
+		CFSecBuffHostNode rec = dictByPKey.get( argHostNodeId );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecHostNode[] readDerivedByClusterIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffHostNode> subdict = dictByClusterIdx.get( probeByClusterIdxKey( argClusterId ) );
+		if( subdict == null ) {
+			return( new ICFSecHostNode[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the HostNode instances for several ClusterIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argClusterIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecHostNode[]> readDerivedByClusterIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argClusterIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecHostNode[]> retMap = new HashMap<>( Math.max( 16, argClusterIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argClusterId : argClusterIds ) {
+			if( ( argClusterId == null ) || retMap.containsKey( argClusterId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffHostNode> subdict = dictByClusterIdx.get( probeByClusterIdxKey( argClusterId ) );
+			if( subdict == null ) {
+				retMap.put( argClusterId, new ICFSecHostNode[0] );
+			}
+			else {
+				retMap.put( argClusterId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecHostNode readDerivedByUDescrIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		String argDescription )
+	{
+		CFSecBuffHostNode rec = dictByUDescrIdx.get( probeByUDescrIdxKey( argClusterId, argDescription ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecHostNode readDerivedByHostNameIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		String argHostName )
+	{
+		CFSecBuffHostNode rec = dictByHostNameIdx.get( probeByHostNameIdxKey( argClusterId, argHostName ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecHostNode readRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecHostNode lockRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecHostNode[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecHostNode readRecByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argHostNodeId )
+	{
+		return( readDerivedByIdIdx( Authorization, argHostNodeId ) );
+	}
+
+	@Override
+	public ICFSecHostNode[] readRecByClusterIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId )
+	{
+		return( readDerivedByClusterIdx( Authorization, argClusterId ) );
+	}
+
+	@Override
+	public ICFSecHostNode readRecByUDescrIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		String argDescription )
+	{
+		return( readDerivedByUDescrIdx( Authorization, argClusterId, argDescription ) );
+	}
+
+	@Override
+	public ICFSecHostNode readRecByHostNameIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		String argHostName )
+	{
+		return( readDerivedByHostNameIdx( Authorization, argClusterId, argHostName ) );
+	}
+
+	@Override
+	public ICFSecHostNode updateHostNode( ICFSecAuthorization Authorization,
+		ICFSecHostNode rec )
+	{
+		final String S_ProcName = "updateHostNode";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffHostNode stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffHostNode existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"HostNode",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteHostNode( ICFSecAuthorization Authorization,
+		ICFSecHostNode rec )
+	{
+		final String S_ProcName = "deleteHostNode";
+		if( rec == null ) {
+			return;
+		}
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffHostNode existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffHostNode existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored HostNode under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffHostNode> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffHostNode> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffHostNode rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a HostNode exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffHostNode rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffHostNode stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteHostNodeByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argHostNodeId )
+	{
+		if( argHostNodeId == null ) {
+			return;
+		}
+		deleteStored( dictByPKey.get( argHostNodeId ) );
+	}
+
+	@Override
+	public void deleteHostNodeByClusterIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffHostNode> subdict = dictByClusterIdx.get( probeByClusterIdxKey( argClusterId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffHostNode existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteHostNodeByClusterIdx( ICFSecAuthorization Authorization,
+		ICFSecHostNodeByClusterIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteHostNodeByClusterIdx( Authorization, argKey.getRequiredClusterId() );
+	}
+
+	@Override
+	public void deleteHostNodeByUDescrIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		String argDescription )
+	{
+		deleteStored( dictByUDescrIdx.get( probeByUDescrIdxKey( argClusterId, argDescription ) ) );
+	}
+
+	@Override
+	public void deleteHostNodeByUDescrIdx( ICFSecAuthorization Authorization,
+		ICFSecHostNodeByUDescrIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteHostNodeByUDescrIdx( Authorization, argKey.getRequiredClusterId(), argKey.getRequiredDescription() );
+	}
+
+	@Override
+	public void deleteHostNodeByHostNameIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		String argHostName )
+	{
+		deleteStored( dictByHostNameIdx.get( probeByHostNameIdxKey( argClusterId, argHostName ) ) );
+	}
+
+	@Override
+	public void deleteHostNodeByHostNameIdx( ICFSecAuthorization Authorization,
+		ICFSecHostNodeByHostNameIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteHostNodeByHostNameIdx( Authorization, argKey.getRequiredClusterId(), argKey.getRequiredHostName() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
@@ -51,25 +51,100 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffISOCcy
-	implements ICFSecISOCcy, Comparable<Object>, Serializable
+	implements ICFSecISOCcy, Comparable<Object>, Serializable, Cloneable
 {
 	protected short requiredISOCcyId;
 	protected int requiredRevision;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOCcy.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOCcy.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
 	protected String requiredISOCode;
 	protected String requiredName;
 	protected String optionalUnitSymbol;
 	protected short requiredPrecis;
 
+	protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOCcy.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOCcy.S_INIT_UPDATED_BY);
+	protected transient CFSecBuffNavigationCache navigationCache = null;
+
+	protected static final int NAV_OPTIONALCHILDRENCTRY = 0;
+	protected static final int NAV_SLOT_COUNT = 1;
+
 	public CFSecBuffISOCcy() {
+		this( CFSecBuffRecStamp.EAGER );
+	}
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+	public CFSecBuffISOCcy( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffISOCcy", 1, "stamp" );
+		}
 		requiredISOCcyId = ICFSecISOCcy.ISOCCYID_INIT_VALUE;
 		requiredISOCode = ICFSecISOCcy.ISOCODE_INIT_VALUE;
 		requiredName = ICFSecISOCcy.NAME_INIT_VALUE;
 		optionalUnitSymbol = null;
 		requiredPrecis = ICFSecISOCcy.PRECIS_INIT_VALUE;
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
+	}
+
+	/**
+	 *	Enable or disable caching of the relationship navigation getters of this
+	 *	instance.  While enabled, each navigation result is reused until the table
+	 *	it was read from reports a modification, or until an attribute of this
+	 *	instance is changed.  Tables that do not publish a modification count are
+	 *	always read.  Cached objects are shared between calls, so callers must treat
+	 *	them as read-only.
+	 *
+	 *	@param	value	true to cache navigation results, false to discard the cache.
+	 */
+	public void setNavigationCacheEnabled( boolean value ) {
+		if( value ) {
+			if( navigationCache == null ) {
+				navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+			}
+		}
+		else {
+			navigationCache = null;
+		}
+	}
+
+	public boolean isNavigationCacheEnabled() {
+		return( navigationCache != null );
+	}
+
+	protected long getNavigationStamp( Object targetTable ) {
+		if( navigationCache == null ) {
+			return( 0L );
+		}
+		return( CFSecBuffNavigationCache.stampOf( targetTable ) );
+	}
+
+	protected void primeNavigation( int slot, long navStamp, Object value ) {
+		if( navStamp == 0L ) {
+			return;
+		}
+		if( navigationCache == null ) {
+			navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+		}
+		navigationCache.put( slot, navStamp, value );
 	}
 
 	@Override
@@ -100,6 +175,8 @@ public class CFSecBuffISOCcy
 				ICFSecISOCcy.ISOCCYID_MIN_VALUE );
 		}
 		requiredISOCcyId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -110,16 +187,25 @@ public class CFSecBuffISOCcy
 	@Override
 	public void setCreatedByUserId( CFLibDbKeyHash256 value ) {
 		createdByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getCreatedAt() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
 		return( createdAt );
 	}
 
 	@Override
 	public void setCreatedAt( LocalDateTime value ) {
 		createdAt = value;
+		pendingCreatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -130,16 +216,25 @@ public class CFSecBuffISOCcy
 	@Override
 	public void setUpdatedByUserId( CFLibDbKeyHash256 value ) {
 		updatedByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getUpdatedAt() {
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
 		return( updatedAt );
 	}
 
 	@Override
 	public void setUpdatedAt( LocalDateTime value ) {
 		updatedAt = value;
+		pendingUpdatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 	@Override
 	public int getRequiredRevision() {
@@ -149,6 +244,8 @@ public class CFSecBuffISOCcy
 	@Override
 	public void setRequiredRevision( int value ) {
 		requiredRevision = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -166,7 +263,17 @@ public class CFSecBuffISOCcy
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalChildrenCtry", 0, "ICFSecSchema.getBackingCFSec().getTableISOCtryCcy()");
 		}
-		ICFSecISOCtryCcy[] targetArr = targetTable.readDerivedByCcyIdx(null, getRequiredISOCcyId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecISOCtryCcy[] targetArr;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALCHILDRENCTRY, navStamp ) ) {
+			targetArr = (ICFSecISOCtryCcy[])navigationCache.getValue( NAV_OPTIONALCHILDRENCTRY );
+		}
+		else {
+			targetArr = targetTable.readDerivedByCcyIdx(null, getRequiredISOCcyId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALCHILDRENCTRY, navStamp, targetArr );
+			}
+		}
 		if( targetArr != null ) {
 			List<ICFSecISOCtryCcy> results = new ArrayList<>(targetArr.length);
 			for (int idx = 0; idx < targetArr.length; idx++) {
@@ -201,6 +308,8 @@ public class CFSecBuffISOCcy
 				3 );
 		}
 		requiredISOCode = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -225,6 +334,8 @@ public class CFSecBuffISOCcy
 				64 );
 		}
 		requiredName = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -243,6 +354,8 @@ public class CFSecBuffISOCcy
 				4 );
 		}
 		optionalUnitSymbol = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -269,6 +382,8 @@ public class CFSecBuffISOCcy
 				ICFSecISOCcy.PRECIS_MAX_VALUE );
 		}
 		requiredPrecis = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -451,23 +566,22 @@ public class CFSecBuffISOCcy
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getCreatedByUserId().hashCode();
-		hashCode = hashCode + getCreatedAt().hashCode();
-		hashCode = hashCode + getUpdatedByUserId().hashCode();
-		hashCode = hashCode + getUpdatedAt().hashCode();
-		hashCode = ( hashCode * 0x10000 ) + getRequiredISOCcyId();
-		if( getRequiredISOCode() != null ) {
-			hashCode = hashCode + getRequiredISOCode().hashCode();
-		}
-		if( getRequiredName() != null ) {
-			hashCode = hashCode + getRequiredName().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredISOCcyId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredISOCode() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredName() );
+			hashCode = CFSecBuffHash.mix( hashCode, getOptionalUnitSymbol() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredPrecis() );
+			hashCode = CFSecBuffHash.finish( hashCode, 9 );
+			cachedHashCode = hashCode;
 		}
-		if( getOptionalUnitSymbol() != null ) {
-			hashCode = hashCode + getOptionalUnitSymbol().hashCode();
-		}
-		hashCode = ( hashCode * 0x10000 ) + getRequiredPrecis();
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
@@ -680,6 +794,45 @@ public class CFSecBuffISOCcy
 		}
 	}
 
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+	protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+	}
+
+	private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+	public CFSecBuffISOCcy clone() {
+		resolvePendingStamps();
+		CFSecBuffISOCcy copy;
+		try {
+			copy = (CFSecBuffISOCcy)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.navigationCache = null;
+		return( copy );
+	}
+
 	@Override
 	public void set( ICFSecISOCcy src ) {
 		setISOCcy( src );
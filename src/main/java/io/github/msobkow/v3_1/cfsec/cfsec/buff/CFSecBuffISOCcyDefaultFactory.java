@@ -54,13 +54,90 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffISOCcyDefaultFactory
 	implements ICFSecISOCcyFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffISOCcyByCcyCdIdxKey> probeByCcyCdIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffISOCcyByCcyCdIdxKey() );
+	protected static final ThreadLocal<CFSecBuffISOCcyByCcyNmIdxKey> probeByCcyNmIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffISOCcyByCcyNmIdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders ISOCcy instances by primary key.
+	 */
+	public static final Comparator<ICFSecISOCcy> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( Short.compare( lhs.getRequiredISOCcyId(), rhs.getRequiredISOCcyId() ) );
+	};
+
+	/**
+	 *	Orders ISOCcy history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecISOCcyHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = Short.compare( lhs.getRequiredISOCcyId(), rhs.getRequiredISOCcyId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders ISOCcy instances by the CcyCdIdx columns.
+	 */
+	public static final Comparator<ICFSecISOCcy> COMPARE_BY_CCYCDIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredISOCode().compareTo( rhs.getRequiredISOCode() ) );
+	};
+
+	/**
+	 *	Orders CcyCdIdx keys.
+	 */
+	public static final Comparator<ICFSecISOCcyByCcyCdIdxKey> COMPARE_CCYCDIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredISOCode().compareTo( rhs.getRequiredISOCode() ) );
+	};
+
+	/**
+	 *	Orders ISOCcy instances by the CcyNmIdx columns.
+	 */
+	public static final Comparator<ICFSecISOCcy> COMPARE_BY_CCYNMIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredName().compareTo( rhs.getRequiredName() ) );
+	};
+
+	/**
+	 *	Orders CcyNmIdx keys.
+	 */
+	public static final Comparator<ICFSecISOCcyByCcyNmIdxKey> COMPARE_CCYNMIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredName().compareTo( rhs.getRequiredName() ) );
+	};
+
 	public CFSecBuffISOCcyDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
 	@Override
 	public ICFSecISOCcyHPKey newHPKey() {
 		ICFSecISOCcyHPKey hpkey =
-			new CFSecBuffISOCcyHPKey();
+			new CFSecBuffISOCcyHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -72,7 +149,7 @@ public class CFSecBuffISOCcyDefaultFactory
 			return( (CFSecBuffISOCcyHPKey)key );
 		}
 		else {
-			CFSecBuffISOCcyHPKey mapped = new CFSecBuffISOCcyHPKey();
+			CFSecBuffISOCcyHPKey mapped = new CFSecBuffISOCcyHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -103,6 +180,10 @@ public class CFSecBuffISOCcyDefaultFactory
 		}
 	}
 
+	public static CFSecBuffISOCcyByCcyCdIdxKey getProbeByCcyCdIdxKey() {
+		return( probeByCcyCdIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecISOCcyByCcyNmIdxKey newByCcyNmIdxKey() {
 		ICFSecISOCcyByCcyNmIdxKey key =
@@ -124,10 +205,14 @@ public class CFSecBuffISOCcyDefaultFactory
 		}
 	}
 
+	public static CFSecBuffISOCcyByCcyNmIdxKey getProbeByCcyNmIdxKey() {
+		return( probeByCcyNmIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecISOCcy newRec() {
 		ICFSecISOCcy rec =
-			new CFSecBuffISOCcy();
+			new CFSecBuffISOCcy( recStamp );
 		return( rec );
 	}
 
@@ -139,16 +224,56 @@ public class CFSecBuffISOCcyDefaultFactory
 			return( (CFSecBuffISOCcy)rec );
 		}
 		else {
-			CFSecBuffISOCcy mapped = new CFSecBuffISOCcy();
+			CFSecBuffISOCcy mapped = new CFSecBuffISOCcy( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffISOCcy cloneRec( ICFSecISOCcy rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffISOCcy ) {
+			return( ( (CFSecBuffISOCcy)rec ).clone() );
+		}
+		else {
+			CFSecBuffISOCcy mapped = new CFSecBuffISOCcy( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffISOCcy[] cloneRecs( ICFSecISOCcy[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffISOCcy[] retList = new CFSecBuffISOCcy[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecISOCcyH newHRec() {
 		ICFSecISOCcyH hrec =
-			new CFSecBuffISOCcyH();
+			new CFSecBuffISOCcyH( recStamp );
 		return( hrec );
 	}
 
@@ -160,9 +285,49 @@ public class CFSecBuffISOCcyDefaultFactory
 			return( (CFSecBuffISOCcyH)hrec );
 		}
 		else {
-			CFSecBuffISOCcyH mapped = new CFSecBuffISOCcyH();
+			CFSecBuffISOCcyH mapped = new CFSecBuffISOCcyH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffISOCcyH cloneHRec( ICFSecISOCcyH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffISOCcyH ) {
+			return( ( (CFSecBuffISOCcyH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffISOCcyH mapped = new CFSecBuffISOCcyH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffISOCcyH[] cloneHRecs( ICFSecISOCcyH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffISOCcyH[] retList = new CFSecBuffISOCcyH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
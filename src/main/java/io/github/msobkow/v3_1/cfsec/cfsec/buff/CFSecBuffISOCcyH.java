@@ -51,25 +51,54 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffISOCcyH
-    implements ICFSecISOCcyH, Comparable<Object>, Serializable
+    implements ICFSecISOCcyH, Comparable<Object>, Serializable, Cloneable
 {
     protected CFSecBuffISOCcyHPKey pkey;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOCcy.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOCcy.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
 	protected String requiredISOCode;
 	protected String requiredName;
 	protected String optionalUnitSymbol;
 	protected short requiredPrecis;
 
+    protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOCcy.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOCcy.S_INIT_UPDATED_BY);
+
     public CFSecBuffISOCcyH() {
+		this( CFSecBuffRecStamp.EAGER );
+    }
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+    public CFSecBuffISOCcyH( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffISOCcyH", 1, "stamp" );
+		}
             // The primary key member attributes are initialized on construction
-            pkey = new CFSecBuffISOCcyHPKey();
+            pkey = new CFSecBuffISOCcyHPKey( stamp );
 		requiredISOCode = ICFSecISOCcy.ISOCODE_INIT_VALUE;
 		requiredName = ICFSecISOCcy.NAME_INIT_VALUE;
 		optionalUnitSymbol = null;
 		requiredPrecis = ICFSecISOCcy.PRECIS_INIT_VALUE;
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
     }
 
     @Override
@@ -88,10 +117,15 @@ public class CFSecBuffISOCcyH
             throw new CFLibNullArgumentException(getClass(), "setCreatedByUserId", 1, "value");
         }
         createdByUserId = value;
+        cachedHashCode = 0;
     }
 
     @Override
     public LocalDateTime getCreatedAt() {
+        if( pendingCreatedAt != null ) {
+            createdAt = pendingCreatedAt.now();
+            pendingCreatedAt = null;
+        }
         return( createdAt );
     }
 
@@ -101,6 +135,8 @@ public class CFSecBuffISOCcyH
             throw new CFLibNullArgumentException(getClass(), "setCreatedAt", 1, "value");
         }
         createdAt = value;
+        pendingCreatedAt = null;
+        cachedHashCode = 0;
     }
 
     @Override
@@ -114,10 +150,15 @@ public class CFSecBuffISOCcyH
             throw new CFLibNullArgumentException(getClass(), "setUpdatedByUserId", 1, "value");
         }
         updatedByUserId = value;
+        cachedHashCode = 0;
     }
 
     @Override
     public LocalDateTime getUpdatedAt() {
+        if( pendingUpdatedAt != null ) {
+            updatedAt = pendingUpdatedAt.now();
+            pendingUpdatedAt = null;
+        }
         return( updatedAt );
     }
 
@@ -127,6 +168,8 @@ public class CFSecBuffISOCcyH
             throw new CFLibNullArgumentException(getClass(), "setUpdatedAt", 1, "value");
         }
         updatedAt = value;
+        pendingUpdatedAt = null;
+        cachedHashCode = 0;
     }
 
     @Override
@@ -144,6 +187,7 @@ public class CFSecBuffISOCcyH
                 throw new CFLibUnsupportedClassException(getClass(), "setPKey", "pkey", pkey, "CFSecBuffISOCcyHPKey");
             }
         }
+        cachedHashCode = 0;
     }
 
     @Override
@@ -228,6 +272,7 @@ public class CFSecBuffISOCcyH
 				3 );
 		}
 		requiredISOCode = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -252,6 +297,7 @@ public class CFSecBuffISOCcyH
 				64 );
 		}
 		requiredName = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -270,6 +316,7 @@ public class CFSecBuffISOCcyH
 				4 );
 		}
 		optionalUnitSymbol = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -296,6 +343,7 @@ public class CFSecBuffISOCcyH
 				ICFSecISOCcy.PRECIS_MAX_VALUE );
 		}
 		requiredPrecis = value;
+		cachedHashCode = 0;
 	}
 
     @Override
@@ -487,18 +535,17 @@ public class CFSecBuffISOCcyH
     
     @Override
     public int hashCode() {
-        int hashCode = pkey.hashCode();
-		if( getRequiredISOCode() != null ) {
-			hashCode = hashCode + getRequiredISOCode().hashCode();
-		}
-		if( getRequiredName() != null ) {
-			hashCode = hashCode + getRequiredName().hashCode();
-		}
-		if( getOptionalUnitSymbol() != null ) {
-			hashCode = hashCode + getOptionalUnitSymbol().hashCode();
-		}
-		hashCode = ( hashCode * 0x10000 ) + getRequiredPrecis();
-        return( hashCode & 0x7fffffff );
+        int hashCode = cachedHashCode;
+        if( hashCode == 0 ) {
+            hashCode = CFSecBuffHash.SEED;
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredISOCode() );
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredName() );
+            hashCode = CFSecBuffHash.mix( hashCode, getOptionalUnitSymbol() );
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredPrecis() );
+            cachedHashCode = hashCode;
+        }
+        hashCode = CFSecBuffHash.mix( hashCode, pkey.hashCode() );
+        return( CFSecBuffHash.finish( hashCode, 5 ) );
     }
 
     @Override
@@ -699,6 +746,46 @@ public class CFSecBuffISOCcyH
                 null );
         }
     }
+
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+    protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+    }
+
+    private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+    }
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+    public CFSecBuffISOCcyH clone() {
+		resolvePendingStamps();
+		CFSecBuffISOCcyH copy;
+		try {
+			copy = (CFSecBuffISOCcyH)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.pkey = pkey.clone();
+		return( copy );
+    }
+
 	@Override
     public void set( ICFSecISOCcy src ) {
 		setISOCcy( src );
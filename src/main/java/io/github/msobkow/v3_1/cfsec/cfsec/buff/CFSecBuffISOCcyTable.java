@@ -0,0 +1,512 @@
+// Description: Java 25 in-memory concurrent implementation of a ISOCcy table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffISOCcyTable in-memory implementation of ICFSecISOCcyTable for ISOCcy.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ */
+public class CFSecBuffISOCcyTable
+	implements ICFSecISOCcyTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<Short, CFSecBuffISOCcy> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffISOCcyByCcyCdIdxKey, CFSecBuffISOCcy> dictByCcyCdIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffISOCcyByCcyNmIdxKey, CFSecBuffISOCcy> dictByCcyNmIdx
+		= new ConcurrentHashMap<>();
+
+	public CFSecBuffISOCcyTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Copy the attributes of a ISOCcy by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffISOCcy holding the same attribute values.
+	 */
+	protected CFSecBuffISOCcy copyRec( ICFSecISOCcy src ) {
+		if( src instanceof CFSecBuffISOCcy ) {
+			return( ( (CFSecBuffISOCcy)src ).clone() );
+		}
+		CFSecBuffISOCcy rec = new CFSecBuffISOCcy( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredISOCcyId( src.getRequiredISOCcyId() );
+		rec.setRequiredISOCode( src.getRequiredISOCode() );
+		rec.setRequiredName( src.getRequiredName() );
+		rec.setOptionalUnitSymbol( src.getOptionalUnitSymbol() );
+		rec.setRequiredPrecis( src.getRequiredPrecis() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecISOCcy[] copyRecs( Collection<CFSecBuffISOCcy> src ) {
+		ICFSecISOCcy[] retList = new ICFSecISOCcy[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffISOCcy cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected Short pkeyOf( ICFSecISOCcy rec ) {
+		return( rec.getRequiredISOCcyId() );
+	}
+
+	protected CFSecBuffISOCcyByCcyCdIdxKey newByCcyCdIdxKey( String argISOCode ) {
+		CFSecBuffISOCcyByCcyCdIdxKey key = new CFSecBuffISOCcyByCcyCdIdxKey();
+		key.setRequiredISOCode( argISOCode );
+		return( key );
+	}
+
+	protected CFSecBuffISOCcyByCcyCdIdxKey newByCcyCdIdxKey( ICFSecISOCcy rec ) {
+		return( newByCcyCdIdxKey( rec.getRequiredISOCode() ) );
+	}
+
+	protected CFSecBuffISOCcyByCcyCdIdxKey probeByCcyCdIdxKey( String argISOCode ) {
+		CFSecBuffISOCcyByCcyCdIdxKey key = CFSecBuffISOCcyDefaultFactory.getProbeByCcyCdIdxKey();
+		key.setRequiredISOCode( argISOCode );
+		return( key );
+	}
+
+	protected CFSecBuffISOCcyByCcyNmIdxKey newByCcyNmIdxKey( String argName ) {
+		CFSecBuffISOCcyByCcyNmIdxKey key = new CFSecBuffISOCcyByCcyNmIdxKey();
+		key.setRequiredName( argName );
+		return( key );
+	}
+
+	protected CFSecBuffISOCcyByCcyNmIdxKey newByCcyNmIdxKey( ICFSecISOCcy rec ) {
+		return( newByCcyNmIdxKey( rec.getRequiredName() ) );
+	}
+
+	protected CFSecBuffISOCcyByCcyNmIdxKey probeByCcyNmIdxKey( String argName ) {
+		CFSecBuffISOCcyByCcyNmIdxKey key = CFSecBuffISOCcyDefaultFactory.getProbeByCcyNmIdxKey();
+		key.setRequiredName( argName );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffISOCcy rec ) {
+		Short pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByCcyCdIdx.put( newByCcyCdIdxKey( rec ), rec );
+		dictByCcyNmIdx.put( newByCcyNmIdxKey( rec ), rec );
+	}
+
+	protected void unindexRec( CFSecBuffISOCcy rec ) {
+		Short pkey = pkeyOf( rec );
+		dictByCcyCdIdx.remove( newByCcyCdIdxKey( rec ), rec );
+		dictByCcyNmIdx.remove( newByCcyNmIdxKey( rec ), rec );
+		dictByPKey.remove( pkey, rec );
+	}
+
+	protected void reindexRec( CFSecBuffISOCcy existing, CFSecBuffISOCcy rec ) {
+		Short pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffISOCcyByCcyCdIdxKey oldKey = newByCcyCdIdxKey( existing );
+			CFSecBuffISOCcyByCcyCdIdxKey newKey = newByCcyCdIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByCcyCdIdx.remove( oldKey, existing );
+			}
+			dictByCcyCdIdx.put( newKey, rec );
+		}
+		{
+			CFSecBuffISOCcyByCcyNmIdxKey oldKey = newByCcyNmIdxKey( existing );
+			CFSecBuffISOCcyByCcyNmIdxKey newKey = newByCcyNmIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByCcyNmIdx.remove( oldKey, existing );
+			}
+			dictByCcyNmIdx.put( newKey, rec );
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffISOCcy rec, CFSecBuffISOCcy existing ) {
+		{
+			CFSecBuffISOCcyByCcyCdIdxKey key = newByCcyCdIdxKey( rec );
+			CFSecBuffISOCcy conflict = dictByCcyCdIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"ISOCcyCcyCdIdx",
+					key );
+			}
+		}
+		{
+			CFSecBuffISOCcyByCcyNmIdxKey key = newByCcyNmIdxKey( rec );
+			CFSecBuffISOCcy conflict = dictByCcyNmIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"ISOCcyCcyNmIdx",
+					key );
+			}
+		}
+	}
+
+	@Override
+	public ICFSecISOCcy createISOCcy( ICFSecAuthorization Authorization,
+		ICFSecISOCcy rec )
+	{
+		final String S_ProcName = "createISOCcy";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffISOCcy stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		Short pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecISOCcy readDerived( ICFSecAuthorization Authorization,
+		short PKey )
+	{
+		CFSecBuffISOCcy rec = dictByPKey.get( PKey );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOCcy lockDerived( ICFSecAuthorization Authorization,
+		short PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOCcy[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecISOCcy readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		short argISOCcyId )
+	{
+		CFSecBuffISOCcy rec = dictByPKey.get( argISOCcyId );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOCcy readDerivedByCcyCdIdx( ICFSecAuthorization Authorization,
+		String argISOCode )
+	{
+		CFSecBuffISOCcy rec = dictByCcyCdIdx.get( probeByCcyCdIdxKey( argISOCode ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOCcy readDerivedByCcyNmIdx( ICFSecAuthorization Authorization,
+		String argName )
+	{
+		CFSecBuffISOCcy rec = dictByCcyNmIdx.get( probeByCcyNmIdxKey( argName ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOCcy readRec( ICFSecAuthorization Authorization,
+		short PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOCcy lockRec( ICFSecAuthorization Authorization,
+		short PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOCcy[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecISOCcy readRecByIdIdx( ICFSecAuthorization Authorization,
+		short argISOCcyId )
+	{
+		return( readDerivedByIdIdx( Authorization, argISOCcyId ) );
+	}
+
+	@Override
+	public ICFSecISOCcy readRecByCcyCdIdx( ICFSecAuthorization Authorization,
+		String argISOCode )
+	{
+		return( readDerivedByCcyCdIdx( Authorization, argISOCode ) );
+	}
+
+	@Override
+	public ICFSecISOCcy readRecByCcyNmIdx( ICFSecAuthorization Authorization,
+		String argName )
+	{
+		return( readDerivedByCcyNmIdx( Authorization, argName ) );
+	}
+
+	@Override
+	public ICFSecISOCcy updateISOCcy( ICFSecAuthorization Authorization,
+		ICFSecISOCcy rec )
+	{
+		final String S_ProcName = "updateISOCcy";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffISOCcy stored = copyRec( rec );
+		Short pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffISOCcy existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"ISOCcy",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteISOCcy( ICFSecAuthorization Authorization,
+		ICFSecISOCcy rec )
+	{
+		final String S_ProcName = "deleteISOCcy";
+		if( rec == null ) {
+			return;
+		}
+		Short pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffISOCcy existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffISOCcy existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored ISOCcy under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffISOCcy> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffISOCcy> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffISOCcy rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a ISOCcy exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffISOCcy rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffISOCcy stored = copyRec( rec );
+		Short pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteISOCcyByIdIdx( ICFSecAuthorization Authorization,
+		short argISOCcyId )
+	{
+		deleteStored( dictByPKey.get( argISOCcyId ) );
+	}
+
+	@Override
+	public void deleteISOCcyByCcyCdIdx( ICFSecAuthorization Authorization,
+		String argISOCode )
+	{
+		deleteStored( dictByCcyCdIdx.get( probeByCcyCdIdxKey( argISOCode ) ) );
+	}
+
+	@Override
+	public void deleteISOCcyByCcyCdIdx( ICFSecAuthorization Authorization,
+		ICFSecISOCcyByCcyCdIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteISOCcyByCcyCdIdx( Authorization, argKey.getRequiredISOCode() );
+	}
+
+	@Override
+	public void deleteISOCcyByCcyNmIdx( ICFSecAuthorization Authorization,
+		String argName )
+	{
+		deleteStored( dictByCcyNmIdx.get( probeByCcyNmIdxKey( argName ) ) );
+	}
+
+	@Override
+	public void deleteISOCcyByCcyNmIdx( ICFSecAuthorization Authorization,
+		ICFSecISOCcyByCcyNmIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteISOCcyByCcyNmIdx( Authorization, argKey.getRequiredName() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
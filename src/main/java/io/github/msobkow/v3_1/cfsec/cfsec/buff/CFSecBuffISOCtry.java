@@ -51,21 +51,97 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffISOCtry
-	implements ICFSecISOCtry, Comparable<Object>, Serializable
+	implements ICFSecISOCtry, Comparable<Object>, Serializable, Cloneable
 {
 	protected short requiredISOCtryId;
 	protected int requiredRevision;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOCtry.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOCtry.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
 	protected String requiredISOCode;
 	protected String requiredName;
 
+	protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOCtry.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOCtry.S_INIT_UPDATED_BY);
+	protected transient CFSecBuffNavigationCache navigationCache = null;
+
+	protected static final int NAV_OPTIONALCOMPONENTSCCY = 0;
+	protected static final int NAV_OPTIONALCOMPONENTSLANG = 1;
+	protected static final int NAV_SLOT_COUNT = 2;
+
 	public CFSecBuffISOCtry() {
+		this( CFSecBuffRecStamp.EAGER );
+	}
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+	public CFSecBuffISOCtry( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffISOCtry", 1, "stamp" );
+		}
 		requiredISOCtryId = ICFSecISOCtry.ISOCTRYID_INIT_VALUE;
 		requiredISOCode = ICFSecISOCtry.ISOCODE_INIT_VALUE;
 		requiredName = ICFSecISOCtry.NAME_INIT_VALUE;
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
+	}
+
+	/**
+	 *	Enable or disable caching of the relationship navigation getters of this
+	 *	instance.  While enabled, each navigation result is reused until the table
+	 *	it was read from reports a modification, or until an attribute of this
+	 *	instance is changed.  Tables that do not publish a modification count are
+	 *	always read.  Cached objects are shared between calls, so callers must treat
+	 *	them as read-only.
+	 *
+	 *	@param	value	true to cache navigation results, false to discard the cache.
+	 */
+	public void setNavigationCacheEnabled( boolean value ) {
+		if( value ) {
+			if( navigationCache == null ) {
+				navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+			}
+		}
+		else {
+			navigationCache = null;
+		}
+	}
+
+	public boolean isNavigationCacheEnabled() {
+		return( navigationCache != null );
+	}
+
+	protected long getNavigationStamp( Object targetTable ) {
+		if( navigationCache == null ) {
+			return( 0L );
+		}
+		return( CFSecBuffNavigationCache.stampOf( targetTable ) );
+	}
+
+	protected void primeNavigation( int slot, long navStamp, Object value ) {
+		if( navStamp == 0L ) {
+			return;
+		}
+		if( navigationCache == null ) {
+			navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+		}
+		navigationCache.put( slot, navStamp, value );
 	}
 
 	@Override
@@ -96,6 +172,8 @@ public class CFSecBuffISOCtry
 				ICFSecISOCtry.ISOCTRYID_MIN_VALUE );
 		}
 		requiredISOCtryId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -106,16 +184,25 @@ public class CFSecBuffISOCtry
 	@Override
 	public void setCreatedByUserId( CFLibDbKeyHash256 value ) {
 		createdByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getCreatedAt() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
 		return( createdAt );
 	}
 
 	@Override
 	public void setCreatedAt( LocalDateTime value ) {
 		createdAt = value;
+		pendingCreatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -126,16 +213,25 @@ public class CFSecBuffISOCtry
 	@Override
 	public void setUpdatedByUserId( CFLibDbKeyHash256 value ) {
 		updatedByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getUpdatedAt() {
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
 		return( updatedAt );
 	}
 
 	@Override
 	public void setUpdatedAt( LocalDateTime value ) {
 		updatedAt = value;
+		pendingUpdatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 	@Override
 	public int getRequiredRevision() {
@@ -145,6 +241,8 @@ public class CFSecBuffISOCtry
 	@Override
 	public void setRequiredRevision( int value ) {
 		requiredRevision = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -162,7 +260,17 @@ public class CFSecBuffISOCtry
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalComponentsCcy", 0, "ICFSecSchema.getBackingCFSec().getTableISOCtryCcy()");
 		}
-		ICFSecISOCtryCcy[] targetArr = targetTable.readDerivedByCtryIdx(null, getRequiredISOCtryId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecISOCtryCcy[] targetArr;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALCOMPONENTSCCY, navStamp ) ) {
+			targetArr = (ICFSecISOCtryCcy[])navigationCache.getValue( NAV_OPTIONALCOMPONENTSCCY );
+		}
+		else {
+			targetArr = targetTable.readDerivedByCtryIdx(null, getRequiredISOCtryId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALCOMPONENTSCCY, navStamp, targetArr );
+			}
+		}
 		if( targetArr != null ) {
 			List<ICFSecISOCtryCcy> results = new ArrayList<>(targetArr.length);
 			for (int idx = 0; idx < targetArr.length; idx++) {
@@ -185,7 +293,17 @@ public class CFSecBuffISOCtry
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalComponentsLang", 0, "ICFSecSchema.getBackingCFSec().getTableISOCtryLang()");
 		}
-		ICFSecISOCtryLang[] targetArr = targetTable.readDerivedByCtryIdx(null, getRequiredISOCtryId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecISOCtryLang[] targetArr;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALCOMPONENTSLANG, navStamp ) ) {
+			targetArr = (ICFSecISOCtryLang[])navigationCache.getValue( NAV_OPTIONALCOMPONENTSLANG );
+		}
+		else {
+			targetArr = targetTable.readDerivedByCtryIdx(null, getRequiredISOCtryId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALCOMPONENTSLANG, navStamp, targetArr );
+			}
+		}
 		if( targetArr != null ) {
 			List<ICFSecISOCtryLang> results = new ArrayList<>(targetArr.length);
 			for (int idx = 0; idx < targetArr.length; idx++) {
@@ -220,6 +338,8 @@ public class CFSecBuffISOCtry
 				2 );
 		}
 		requiredISOCode = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -244,6 +364,8 @@ public class CFSecBuffISOCtry
 				64 );
 		}
 		requiredName = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -390,19 +512,20 @@ public class CFSecBuffISOCtry
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getCreatedByUserId().hashCode();
-		hashCode = hashCode + getCreatedAt().hashCode();
-		hashCode = hashCode + getUpdatedByUserId().hashCode();
-		hashCode = hashCode + getUpdatedAt().hashCode();
-		hashCode = ( hashCode * 0x10000 ) + getRequiredISOCtryId();
-		if( getRequiredISOCode() != null ) {
-			hashCode = hashCode + getRequiredISOCode().hashCode();
-		}
-		if( getRequiredName() != null ) {
-			hashCode = hashCode + getRequiredName().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredISOCtryId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredISOCode() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredName() );
+			hashCode = CFSecBuffHash.finish( hashCode, 7 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
@@ -571,6 +694,45 @@ public class CFSecBuffISOCtry
 		}
 	}
 
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+	protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+	}
+
+	private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+	public CFSecBuffISOCtry clone() {
+		resolvePendingStamps();
+		CFSecBuffISOCtry copy;
+		try {
+			copy = (CFSecBuffISOCtry)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.navigationCache = null;
+		return( copy );
+	}
+
 	@Override
 	public void set( ICFSecISOCtry src ) {
 		setISOCtry( src );
@@ -54,6 +54,8 @@ public class CFSecBuffISOCtryByISOCodeIdxKey
 	implements ICFSecISOCtryByISOCodeIdxKey, Comparable<Object>, Serializable
 {
 	protected String requiredISOCode;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffISOCtryByISOCodeIdxKey() {
 		requiredISOCode = ICFSecISOCtry.ISOCODE_INIT_VALUE;
 	}
@@ -80,6 +82,7 @@ public class CFSecBuffISOCtryByISOCodeIdxKey
 				2 );
 		}
 		requiredISOCode = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -132,11 +135,14 @@ public class CFSecBuffISOCtryByISOCodeIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		if( getRequiredISOCode() != null ) {
-			hashCode = hashCode + getRequiredISOCode().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredISOCode() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
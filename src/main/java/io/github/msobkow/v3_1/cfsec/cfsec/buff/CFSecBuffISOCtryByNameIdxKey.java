@@ -54,6 +54,8 @@ public class CFSecBuffISOCtryByNameIdxKey
 	implements ICFSecISOCtryByNameIdxKey, Comparable<Object>, Serializable
 {
 	protected String requiredName;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffISOCtryByNameIdxKey() {
 		requiredName = ICFSecISOCtry.NAME_INIT_VALUE;
 	}
@@ -80,6 +82,7 @@ public class CFSecBuffISOCtryByNameIdxKey
 				64 );
 		}
 		requiredName = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -132,11 +135,14 @@ public class CFSecBuffISOCtryByNameIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		if( getRequiredName() != null ) {
-			hashCode = hashCode + getRequiredName().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredName() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
@@ -54,6 +54,8 @@ public class CFSecBuffISOCtryCcyByCcyIdxKey
 	implements ICFSecISOCtryCcyByCcyIdxKey, Comparable<Object>, Serializable
 {
 	protected short requiredISOCcyId;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffISOCtryCcyByCcyIdxKey() {
 		requiredISOCcyId = ICFSecISOCtryCcy.ISOCCYID_INIT_VALUE;
 	}
@@ -74,6 +76,7 @@ public class CFSecBuffISOCtryCcyByCcyIdxKey
 				ICFSecISOCtryCcy.ISOCCYID_MIN_VALUE );
 		}
 		requiredISOCcyId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -102,9 +105,14 @@ public class CFSecBuffISOCtryCcyByCcyIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = ( hashCode * 0x10000 ) + getRequiredISOCcyId();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredISOCcyId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
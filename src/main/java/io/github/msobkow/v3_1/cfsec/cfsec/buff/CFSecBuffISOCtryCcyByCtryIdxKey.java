@@ -54,6 +54,8 @@ public class CFSecBuffISOCtryCcyByCtryIdxKey
 	implements ICFSecISOCtryCcyByCtryIdxKey, Comparable<Object>, Serializable
 {
 	protected short requiredISOCtryId;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffISOCtryCcyByCtryIdxKey() {
 		requiredISOCtryId = ICFSecISOCtryCcy.ISOCTRYID_INIT_VALUE;
 	}
@@ -74,6 +76,7 @@ public class CFSecBuffISOCtryCcyByCtryIdxKey
 				ICFSecISOCtryCcy.ISOCTRYID_MIN_VALUE );
 		}
 		requiredISOCtryId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -102,9 +105,14 @@ public class CFSecBuffISOCtryCcyByCtryIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = ( hashCode * 0x10000 ) + getRequiredISOCtryId();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredISOCtryId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
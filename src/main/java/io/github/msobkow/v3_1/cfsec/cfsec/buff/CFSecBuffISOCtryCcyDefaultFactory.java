@@ -54,9 +54,109 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffISOCtryCcyDefaultFactory
 	implements ICFSecISOCtryCcyFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffISOCtryCcyPKey> probePKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffISOCtryCcyPKey() );
+	protected static final ThreadLocal<CFSecBuffISOCtryCcyByCtryIdxKey> probeByCtryIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffISOCtryCcyByCtryIdxKey() );
+	protected static final ThreadLocal<CFSecBuffISOCtryCcyByCcyIdxKey> probeByCcyIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffISOCtryCcyByCcyIdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders ISOCtryCcy instances by primary key.
+	 */
+	public static final Comparator<ICFSecISOCtryCcy> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = Short.compare( lhs.getPKey().getRequiredISOCtryId(), rhs.getPKey().getRequiredISOCtryId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Short.compare( lhs.getPKey().getRequiredISOCcyId(), rhs.getPKey().getRequiredISOCcyId() ) );
+	};
+
+	/**
+	 *	Orders ISOCtryCcy primary keys.
+	 */
+	public static final Comparator<ICFSecISOCtryCcyPKey> COMPARE_PKEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = Short.compare( lhs.getRequiredISOCtryId(), rhs.getRequiredISOCtryId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Short.compare( lhs.getRequiredISOCcyId(), rhs.getRequiredISOCcyId() ) );
+	};
+
+	/**
+	 *	Orders ISOCtryCcy history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecISOCtryCcyHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = Short.compare( lhs.getRequiredISOCtryId(), rhs.getRequiredISOCtryId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		cmp = Short.compare( lhs.getRequiredISOCcyId(), rhs.getRequiredISOCcyId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders ISOCtryCcy instances by the CtryIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecISOCtryCcy> COMPARE_BY_CTRYIDX = ( lhs, rhs ) -> {
+		return( Short.compare( lhs.getPKey().getRequiredISOCtryId(), rhs.getPKey().getRequiredISOCtryId() ) );
+	};
+
+	/**
+	 *	Orders CtryIdx keys.
+	 */
+	public static final Comparator<ICFSecISOCtryCcyByCtryIdxKey> COMPARE_CTRYIDX_KEYS = ( lhs, rhs ) -> {
+		return( Short.compare( lhs.getRequiredISOCtryId(), rhs.getRequiredISOCtryId() ) );
+	};
+
+	/**
+	 *	Orders ISOCtryCcy instances by the CcyIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecISOCtryCcy> COMPARE_BY_CCYIDX = ( lhs, rhs ) -> {
+		return( Short.compare( lhs.getPKey().getRequiredISOCcyId(), rhs.getPKey().getRequiredISOCcyId() ) );
+	};
+
+	/**
+	 *	Orders CcyIdx keys.
+	 */
+	public static final Comparator<ICFSecISOCtryCcyByCcyIdxKey> COMPARE_CCYIDX_KEYS = ( lhs, rhs ) -> {
+		return( Short.compare( lhs.getRequiredISOCcyId(), rhs.getRequiredISOCcyId() ) );
+	};
+
 	public CFSecBuffISOCtryCcyDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
     @Override
     public ICFSecISOCtryCcyPKey newPKey() {
         ICFSecISOCtryCcyPKey pkey =
@@ -79,10 +179,14 @@ public class CFSecBuffISOCtryCcyDefaultFactory
 		}
 	}
 
+	public static CFSecBuffISOCtryCcyPKey getProbePKey() {
+		return( probePKey.get() );
+	}
+
 	@Override
 	public ICFSecISOCtryCcyHPKey newHPKey() {
 		ICFSecISOCtryCcyHPKey hpkey =
-			new CFSecBuffISOCtryCcyHPKey();
+			new CFSecBuffISOCtryCcyHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -94,7 +198,7 @@ public class CFSecBuffISOCtryCcyDefaultFactory
 			return( (CFSecBuffISOCtryCcyHPKey)key );
 		}
 		else {
-			CFSecBuffISOCtryCcyHPKey mapped = new CFSecBuffISOCtryCcyHPKey();
+			CFSecBuffISOCtryCcyHPKey mapped = new CFSecBuffISOCtryCcyHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -126,6 +230,10 @@ public class CFSecBuffISOCtryCcyDefaultFactory
 		}
 	}
 
+	public static CFSecBuffISOCtryCcyByCtryIdxKey getProbeByCtryIdxKey() {
+		return( probeByCtryIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecISOCtryCcyByCcyIdxKey newByCcyIdxKey() {
 		ICFSecISOCtryCcyByCcyIdxKey key =
@@ -147,10 +255,14 @@ public class CFSecBuffISOCtryCcyDefaultFactory
 		}
 	}
 
+	public static CFSecBuffISOCtryCcyByCcyIdxKey getProbeByCcyIdxKey() {
+		return( probeByCcyIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecISOCtryCcy newRec() {
 		ICFSecISOCtryCcy rec =
-			new CFSecBuffISOCtryCcy();
+			new CFSecBuffISOCtryCcy( recStamp );
 		return( rec );
 	}
 
@@ -162,16 +274,56 @@ public class CFSecBuffISOCtryCcyDefaultFactory
 			return( (CFSecBuffISOCtryCcy)rec );
 		}
 		else {
-			CFSecBuffISOCtryCcy mapped = new CFSecBuffISOCtryCcy();
+			CFSecBuffISOCtryCcy mapped = new CFSecBuffISOCtryCcy( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffISOCtryCcy cloneRec( ICFSecISOCtryCcy rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffISOCtryCcy ) {
+			return( ( (CFSecBuffISOCtryCcy)rec ).clone() );
+		}
+		else {
+			CFSecBuffISOCtryCcy mapped = new CFSecBuffISOCtryCcy( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffISOCtryCcy[] cloneRecs( ICFSecISOCtryCcy[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffISOCtryCcy[] retList = new CFSecBuffISOCtryCcy[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecISOCtryCcyH newHRec() {
 		ICFSecISOCtryCcyH hrec =
-			new CFSecBuffISOCtryCcyH();
+			new CFSecBuffISOCtryCcyH( recStamp );
 		return( hrec );
 	}
 
@@ -183,9 +335,49 @@ public class CFSecBuffISOCtryCcyDefaultFactory
 			return( (CFSecBuffISOCtryCcyH)hrec );
 		}
 		else {
-			CFSecBuffISOCtryCcyH mapped = new CFSecBuffISOCtryCcyH();
+			CFSecBuffISOCtryCcyH mapped = new CFSecBuffISOCtryCcyH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffISOCtryCcyH cloneHRec( ICFSecISOCtryCcyH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffISOCtryCcyH ) {
+			return( ( (CFSecBuffISOCtryCcyH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffISOCtryCcyH mapped = new CFSecBuffISOCtryCcyH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffISOCtryCcyH[] cloneHRecs( ICFSecISOCtryCcyH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffISOCtryCcyH[] retList = new CFSecBuffISOCtryCcyH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
@@ -51,17 +51,46 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffISOCtryCcyH
-    implements ICFSecISOCtryCcyH, Comparable<Object>, Serializable
+    implements ICFSecISOCtryCcyH, Comparable<Object>, Serializable, Cloneable
 {
     protected CFSecBuffISOCtryCcyHPKey pkey;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOCtryCcy.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOCtryCcy.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
+
+    protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOCtryCcy.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOCtryCcy.S_INIT_UPDATED_BY);
 
     public CFSecBuffISOCtryCcyH() {
+		this( CFSecBuffRecStamp.EAGER );
+    }
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+    public CFSecBuffISOCtryCcyH( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffISOCtryCcyH", 1, "stamp" );
+		}
             // The primary key member attributes are initialized on construction
-            pkey = new CFSecBuffISOCtryCcyHPKey();
+            pkey = new CFSecBuffISOCtryCcyHPKey( stamp );
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
     }
 
     @Override
@@ -80,10 +109,15 @@ public class CFSecBuffISOCtryCcyH
             throw new CFLibNullArgumentException(getClass(), "setCreatedByUserId", 1, "value");
         }
         createdByUserId = value;
+        cachedHashCode = 0;
     }
 
     @Override
     public LocalDateTime getCreatedAt() {
+        if( pendingCreatedAt != null ) {
+            createdAt = pendingCreatedAt.now();
+            pendingCreatedAt = null;
+        }
         return( createdAt );
     }
 
@@ -93,6 +127,8 @@ public class CFSecBuffISOCtryCcyH
             throw new CFLibNullArgumentException(getClass(), "setCreatedAt", 1, "value");
         }
         createdAt = value;
+        pendingCreatedAt = null;
+        cachedHashCode = 0;
     }
 
     @Override
@@ -106,10 +142,15 @@ public class CFSecBuffISOCtryCcyH
             throw new CFLibNullArgumentException(getClass(), "setUpdatedByUserId", 1, "value");
         }
         updatedByUserId = value;
+        cachedHashCode = 0;
     }
 
     @Override
     public LocalDateTime getUpdatedAt() {
+        if( pendingUpdatedAt != null ) {
+            updatedAt = pendingUpdatedAt.now();
+            pendingUpdatedAt = null;
+        }
         return( updatedAt );
     }
 
@@ -119,6 +160,8 @@ public class CFSecBuffISOCtryCcyH
             throw new CFLibNullArgumentException(getClass(), "setUpdatedAt", 1, "value");
         }
         updatedAt = value;
+        pendingUpdatedAt = null;
+        cachedHashCode = 0;
     }
 
     @Override
@@ -136,6 +179,7 @@ public class CFSecBuffISOCtryCcyH
                 throw new CFLibUnsupportedClassException(getClass(), "setPKey", "pkey", pkey, "CFSecBuffISOCtryCcyHPKey");
             }
         }
+        cachedHashCode = 0;
     }
 
     @Override
@@ -280,8 +324,13 @@ public class CFSecBuffISOCtryCcyH
     
     @Override
     public int hashCode() {
-        int hashCode = pkey.hashCode();
-        return( hashCode & 0x7fffffff );
+        int hashCode = cachedHashCode;
+        if( hashCode == 0 ) {
+            hashCode = CFSecBuffHash.SEED;
+            cachedHashCode = hashCode;
+        }
+        hashCode = CFSecBuffHash.mix( hashCode, pkey.hashCode() );
+        return( CFSecBuffHash.finish( hashCode, 1 ) );
     }
 
     @Override
@@ -366,6 +415,46 @@ public class CFSecBuffISOCtryCcyH
                 null );
         }
     }
+
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+    protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+    }
+
+    private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+    }
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+    public CFSecBuffISOCtryCcyH clone() {
+		resolvePendingStamps();
+		CFSecBuffISOCtryCcyH copy;
+		try {
+			copy = (CFSecBuffISOCtryCcyH)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.pkey = pkey.clone();
+		return( copy );
+    }
+
 	@Override
     public void set( ICFSecISOCtryCcy src ) {
 		setISOCtryCcy( src );
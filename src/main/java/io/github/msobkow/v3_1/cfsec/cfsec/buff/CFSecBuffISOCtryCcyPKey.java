@@ -55,11 +55,13 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
  *		requiredISOCcyId	Required object attribute ISOCcyId.
  */
 public class CFSecBuffISOCtryCcyPKey
-	implements ICFSecISOCtryCcyPKey, Comparable<ICFSecISOCtryCcyPKey>, Serializable
+	implements ICFSecISOCtryCcyPKey, Comparable<ICFSecISOCtryCcyPKey>, Serializable, Cloneable
 {
 	protected short requiredISOCtryId;
 	protected short requiredISOCcyId;
 
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffISOCtryCcyPKey() {
 		requiredISOCtryId = ICFSecISOCtryCcy.ISOCTRYID_INIT_VALUE;
 		requiredISOCcyId = ICFSecISOCtryCcy.ISOCCYID_INIT_VALUE;
@@ -87,11 +89,13 @@ public class CFSecBuffISOCtryCcyPKey
 			requiredISOCtryId = argObj.getRequiredISOCtryId();
 		}
 	
+		cachedHashCode = 0;
 	}
 
 	@Override
 	public void setRequiredContainerCtry(short argISOCtryId) {
 		requiredISOCtryId = argISOCtryId;
+		cachedHashCode = 0;
 	}
 	@Override
 	public ICFSecISOCcy getRequiredParentCcy() {
@@ -115,11 +119,13 @@ public class CFSecBuffISOCtryCcyPKey
 			requiredISOCcyId = argObj.getRequiredISOCcyId();
 		}
 	
+		cachedHashCode = 0;
 	}
 
 	@Override
 	public void setRequiredParentCcy(short argISOCcyId) {
 		requiredISOCcyId = argISOCcyId;
+		cachedHashCode = 0;
 	}
 	@Override
 	public short getRequiredISOCtryId() {
@@ -131,6 +137,24 @@ public class CFSecBuffISOCtryCcyPKey
 		return( requiredISOCcyId );
 	}
 
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+	public CFSecBuffISOCtryCcyPKey clone() {
+		CFSecBuffISOCtryCcyPKey copy;
+		try {
+			copy = (CFSecBuffISOCtryCcyPKey)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		return( copy );
+	}
+
 	@Override
 	public boolean equals( Object obj ) {
 		if (obj == null) {
@@ -153,10 +177,15 @@ public class CFSecBuffISOCtryCcyPKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = ( hashCode * 0x10000 ) + getRequiredISOCtryId();
-		hashCode = ( hashCode * 0x10000 ) + getRequiredISOCcyId();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredISOCtryId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredISOCcyId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 2 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
@@ -0,0 +1,611 @@
+// Description: Java 25 in-memory concurrent implementation of a ISOCtryCcy table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffISOCtryCcyTable in-memory implementation of ICFSecISOCtryCcyTable for ISOCtryCcy.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ */
+public class CFSecBuffISOCtryCcyTable
+	implements ICFSecISOCtryCcyTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<CFSecBuffISOCtryCcyPKey, CFSecBuffISOCtryCcy> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffISOCtryCcyByCtryIdxKey, ConcurrentHashMap<CFSecBuffISOCtryCcyPKey, CFSecBuffISOCtryCcy>> dictByCtryIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffISOCtryCcyByCcyIdxKey, ConcurrentHashMap<CFSecBuffISOCtryCcyPKey, CFSecBuffISOCtryCcy>> dictByCcyIdx
+		= new ConcurrentHashMap<>();
+
+	public CFSecBuffISOCtryCcyTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Copy the attributes of a ISOCtryCcy by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffISOCtryCcy holding the same attribute values.
+	 */
+	protected CFSecBuffISOCtryCcy copyRec( ICFSecISOCtryCcy src ) {
+		if( src instanceof CFSecBuffISOCtryCcy ) {
+			return( ( (CFSecBuffISOCtryCcy)src ).clone() );
+		}
+		CFSecBuffISOCtryCcy rec = new CFSecBuffISOCtryCcy( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredContainerCtry( src.getPKey().getRequiredISOCtryId() );
+		rec.setRequiredParentCcy( src.getPKey().getRequiredISOCcyId() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecISOCtryCcy[] copyRecs( Collection<CFSecBuffISOCtryCcy> src ) {
+		ICFSecISOCtryCcy[] retList = new ICFSecISOCtryCcy[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffISOCtryCcy cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected CFSecBuffISOCtryCcyPKey newPKey( short argISOCtryId, short argISOCcyId ) {
+		CFSecBuffISOCtryCcyPKey pkey = new CFSecBuffISOCtryCcyPKey();
+		pkey.setRequiredContainerCtry( argISOCtryId );
+		pkey.setRequiredParentCcy( argISOCcyId );
+		return( pkey );
+	}
+
+	protected CFSecBuffISOCtryCcyPKey pkeyOf( ICFSecISOCtryCcy rec ) {
+		return( newPKey( rec.getPKey().getRequiredISOCtryId(), rec.getPKey().getRequiredISOCcyId() ) );
+	}
+
+	protected CFSecBuffISOCtryCcyPKey probePKey( short argISOCtryId, short argISOCcyId ) {
+		CFSecBuffISOCtryCcyPKey pkey = CFSecBuffISOCtryCcyDefaultFactory.getProbePKey();
+		pkey.setRequiredContainerCtry( argISOCtryId );
+		pkey.setRequiredParentCcy( argISOCcyId );
+		return( pkey );
+	}
+
+	protected CFSecBuffISOCtryCcyByCtryIdxKey newByCtryIdxKey( short argISOCtryId ) {
+		CFSecBuffISOCtryCcyByCtryIdxKey key = new CFSecBuffISOCtryCcyByCtryIdxKey();
+		key.setRequiredISOCtryId( argISOCtryId );
+		return( key );
+	}
+
+	protected CFSecBuffISOCtryCcyByCtryIdxKey newByCtryIdxKey( ICFSecISOCtryCcy rec ) {
+		return( newByCtryIdxKey( rec.getPKey().getRequiredISOCtryId() ) );
+	}
+
+	protected CFSecBuffISOCtryCcyByCtryIdxKey probeByCtryIdxKey( short argISOCtryId ) {
+		CFSecBuffISOCtryCcyByCtryIdxKey key = CFSecBuffISOCtryCcyDefaultFactory.getProbeByCtryIdxKey();
+		key.setRequiredISOCtryId( argISOCtryId );
+		return( key );
+	}
+
+	protected CFSecBuffISOCtryCcyByCcyIdxKey newByCcyIdxKey( short argISOCcyId ) {
+		CFSecBuffISOCtryCcyByCcyIdxKey key = new CFSecBuffISOCtryCcyByCcyIdxKey();
+		key.setRequiredISOCcyId( argISOCcyId );
+		return( key );
+	}
+
+	protected CFSecBuffISOCtryCcyByCcyIdxKey newByCcyIdxKey( ICFSecISOCtryCcy rec ) {
+		return( newByCcyIdxKey( rec.getPKey().getRequiredISOCcyId() ) );
+	}
+
+	protected CFSecBuffISOCtryCcyByCcyIdxKey probeByCcyIdxKey( short argISOCcyId ) {
+		CFSecBuffISOCtryCcyByCcyIdxKey key = CFSecBuffISOCtryCcyDefaultFactory.getProbeByCcyIdxKey();
+		key.setRequiredISOCcyId( argISOCcyId );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffISOCtryCcy rec ) {
+		CFSecBuffISOCtryCcyPKey pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByCtryIdx.computeIfAbsent( newByCtryIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByCcyIdx.computeIfAbsent( newByCcyIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+	}
+
+	protected void unindexRec( CFSecBuffISOCtryCcy rec ) {
+		CFSecBuffISOCtryCcyPKey pkey = pkeyOf( rec );
+		removeFromDupIndex( dictByCtryIdx, newByCtryIdxKey( rec ), pkey );
+		removeFromDupIndex( dictByCcyIdx, newByCcyIdxKey( rec ), pkey );
+		dictByPKey.remove( pkey, rec );
+	}
+
+	protected void reindexRec( CFSecBuffISOCtryCcy existing, CFSecBuffISOCtryCcy rec ) {
+		CFSecBuffISOCtryCcyPKey pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffISOCtryCcyByCtryIdxKey oldKey = newByCtryIdxKey( existing );
+			CFSecBuffISOCtryCcyByCtryIdxKey newKey = newByCtryIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByCtryIdx, oldKey, pkey );
+			}
+			dictByCtryIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffISOCtryCcyByCcyIdxKey oldKey = newByCcyIdxKey( existing );
+			CFSecBuffISOCtryCcyByCcyIdxKey newKey = newByCcyIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByCcyIdx, oldKey, pkey );
+			}
+			dictByCcyIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+	}
+
+	protected static <K> void removeFromDupIndex( ConcurrentHashMap<K, ConcurrentHashMap<CFSecBuffISOCtryCcyPKey, CFSecBuffISOCtryCcy>> dict, K key, CFSecBuffISOCtryCcyPKey pkey ) {
+		ConcurrentHashMap<CFSecBuffISOCtryCcyPKey, CFSecBuffISOCtryCcy> subdict = dict.get( key );
+		if( subdict != null ) {
+			subdict.remove( pkey );
+			if( subdict.isEmpty() ) {
+				dict.remove( key, subdict );
+			}
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffISOCtryCcy rec, CFSecBuffISOCtryCcy existing ) {
+	}
+
+	@Override
+	public ICFSecISOCtryCcy createISOCtryCcy( ICFSecAuthorization Authorization,
+		ICFSecISOCtryCcy rec )
+	{
+		final String S_ProcName = "createISOCtryCcy";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffISOCtryCcy stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		CFSecBuffISOCtryCcyPKey pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecISOCtryCcy readDerived( ICFSecAuthorization Authorization,
+		ICFSecISOCtryCcyPKey PKey )
+	{
+		if( PKey == null ) {
+			return( null );
+		}
+		CFSecBuffISOCtryCcy rec = dictByPKey.get( probePKey( PKey.getRequiredISOCtryId(), PKey.getRequiredISOCcyId() ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOCtryCcy readDerived( ICFSecAuthorization Authorization,
+		short argISOCtryId, short argISOCcyId )
+	{
+		CFSecBuffISOCtryCcy rec = dictByPKey.get( probePKey( argISOCtryId, argISOCcyId ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOCtryCcy lockDerived( ICFSecAuthorization Authorization,
+		ICFSecISOCtryCcyPKey PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOCtryCcy[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecISOCtryCcy readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		short argISOCtryId, short argISOCcyId )
+	{
+		CFSecBuffISOCtryCcy rec = dictByPKey.get( probePKey( argISOCtryId, argISOCcyId ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOCtryCcy[] readDerivedByCtryIdx( ICFSecAuthorization Authorization,
+		short argISOCtryId )
+	{
+		ConcurrentHashMap<CFSecBuffISOCtryCcyPKey, CFSecBuffISOCtryCcy> subdict = dictByCtryIdx.get( probeByCtryIdxKey( argISOCtryId ) );
+		if( subdict == null ) {
+			return( new ICFSecISOCtryCcy[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the ISOCtryCcy instances for several CtryIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argISOCtryIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<Short, ICFSecISOCtryCcy[]> readDerivedByCtryIdxBatch( ICFSecAuthorization Authorization,
+		Collection<Short> argISOCtryIds )
+	{
+		Map<Short, ICFSecISOCtryCcy[]> retMap = new HashMap<>( Math.max( 16, argISOCtryIds.size() * 2 ) );
+		for( Short argISOCtryId : argISOCtryIds ) {
+			if( ( argISOCtryId == null ) || retMap.containsKey( argISOCtryId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFSecBuffISOCtryCcyPKey, CFSecBuffISOCtryCcy> subdict = dictByCtryIdx.get( probeByCtryIdxKey( argISOCtryId ) );
+			if( subdict == null ) {
+				retMap.put( argISOCtryId, new ICFSecISOCtryCcy[0] );
+			}
+			else {
+				retMap.put( argISOCtryId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecISOCtryCcy[] readDerivedByCcyIdx( ICFSecAuthorization Authorization,
+		short argISOCcyId )
+	{
+		ConcurrentHashMap<CFSecBuffISOCtryCcyPKey, CFSecBuffISOCtryCcy> subdict = dictByCcyIdx.get( probeByCcyIdxKey( argISOCcyId ) );
+		if( subdict == null ) {
+			return( new ICFSecISOCtryCcy[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the ISOCtryCcy instances for several CcyIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argISOCcyIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<Short, ICFSecISOCtryCcy[]> readDerivedByCcyIdxBatch( ICFSecAuthorization Authorization,
+		Collection<Short> argISOCcyIds )
+	{
+		Map<Short, ICFSecISOCtryCcy[]> retMap = new HashMap<>( Math.max( 16, argISOCcyIds.size() * 2 ) );
+		for( Short argISOCcyId : argISOCcyIds ) {
+			if( ( argISOCcyId == null ) || retMap.containsKey( argISOCcyId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFSecBuffISOCtryCcyPKey, CFSecBuffISOCtryCcy> subdict = dictByCcyIdx.get( probeByCcyIdxKey( argISOCcyId ) );
+			if( subdict == null ) {
+				retMap.put( argISOCcyId, new ICFSecISOCtryCcy[0] );
+			}
+			else {
+				retMap.put( argISOCcyId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecISOCtryCcy readRec( ICFSecAuthorization Authorization,
+		ICFSecISOCtryCcyPKey PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOCtryCcy lockRec( ICFSecAuthorization Authorization,
+		ICFSecISOCtryCcyPKey PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOCtryCcy[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecISOCtryCcy readRecByIdIdx( ICFSecAuthorization Authorization,
+		short argISOCtryId, short argISOCcyId )
+	{
+		return( readDerivedByIdIdx( Authorization, argISOCtryId, argISOCcyId ) );
+	}
+
+	@Override
+	public ICFSecISOCtryCcy[] readRecByCtryIdx( ICFSecAuthorization Authorization,
+		short argISOCtryId )
+	{
+		return( readDerivedByCtryIdx( Authorization, argISOCtryId ) );
+	}
+
+	@Override
+	public ICFSecISOCtryCcy[] readRecByCcyIdx( ICFSecAuthorization Authorization,
+		short argISOCcyId )
+	{
+		return( readDerivedByCcyIdx( Authorization, argISOCcyId ) );
+	}
+
+	@Override
+	public ICFSecISOCtryCcy updateISOCtryCcy( ICFSecAuthorization Authorization,
+		ICFSecISOCtryCcy rec )
+	{
+		final String S_ProcName = "updateISOCtryCcy";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffISOCtryCcy stored = copyRec( rec );
+		CFSecBuffISOCtryCcyPKey pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffISOCtryCcy existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"ISOCtryCcy",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteISOCtryCcy( ICFSecAuthorization Authorization,
+		ICFSecISOCtryCcy rec )
+	{
+		final String S_ProcName = "deleteISOCtryCcy";
+		if( rec == null ) {
+			return;
+		}
+		CFSecBuffISOCtryCcyPKey pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffISOCtryCcy existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffISOCtryCcy existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored ISOCtryCcy under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffISOCtryCcy> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffISOCtryCcy> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffISOCtryCcy rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a ISOCtryCcy exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffISOCtryCcy rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffISOCtryCcy stored = copyRec( rec );
+		CFSecBuffISOCtryCcyPKey pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteISOCtryCcyByIdIdx( ICFSecAuthorization Authorization,
+		short argISOCtryId, short argISOCcyId )
+	{
+		deleteStored( dictByPKey.get( probePKey( argISOCtryId, argISOCcyId ) ) );
+	}
+
+	@Override
+	public void deleteISOCtryCcyByIdIdx( ICFSecAuthorization Authorization,
+		ICFSecISOCtryCcyPKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteStored( dictByPKey.get( probePKey( argKey.getRequiredISOCtryId(), argKey.getRequiredISOCcyId() ) ) );
+	}
+
+	@Override
+	public void deleteISOCtryCcyByCtryIdx( ICFSecAuthorization Authorization,
+		short argISOCtryId )
+	{
+		ConcurrentHashMap<CFSecBuffISOCtryCcyPKey, CFSecBuffISOCtryCcy> subdict = dictByCtryIdx.get( probeByCtryIdxKey( argISOCtryId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffISOCtryCcy existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteISOCtryCcyByCtryIdx( ICFSecAuthorization Authorization,
+		ICFSecISOCtryCcyByCtryIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteISOCtryCcyByCtryIdx( Authorization, argKey.getRequiredISOCtryId() );
+	}
+
+	@Override
+	public void deleteISOCtryCcyByCcyIdx( ICFSecAuthorization Authorization,
+		short argISOCcyId )
+	{
+		ConcurrentHashMap<CFSecBuffISOCtryCcyPKey, CFSecBuffISOCtryCcy> subdict = dictByCcyIdx.get( probeByCcyIdxKey( argISOCcyId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffISOCtryCcy existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteISOCtryCcyByCcyIdx( ICFSecAuthorization Authorization,
+		ICFSecISOCtryCcyByCcyIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteISOCtryCcyByCcyIdx( Authorization, argKey.getRequiredISOCcyId() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
@@ -54,13 +54,90 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffISOCtryDefaultFactory
 	implements ICFSecISOCtryFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffISOCtryByISOCodeIdxKey> probeByISOCodeIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffISOCtryByISOCodeIdxKey() );
+	protected static final ThreadLocal<CFSecBuffISOCtryByNameIdxKey> probeByNameIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffISOCtryByNameIdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders ISOCtry instances by primary key.
+	 */
+	public static final Comparator<ICFSecISOCtry> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( Short.compare( lhs.getRequiredISOCtryId(), rhs.getRequiredISOCtryId() ) );
+	};
+
+	/**
+	 *	Orders ISOCtry history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecISOCtryHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = Short.compare( lhs.getRequiredISOCtryId(), rhs.getRequiredISOCtryId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders ISOCtry instances by the ISOCodeIdx columns.
+	 */
+	public static final Comparator<ICFSecISOCtry> COMPARE_BY_ISOCODEIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredISOCode().compareTo( rhs.getRequiredISOCode() ) );
+	};
+
+	/**
+	 *	Orders ISOCodeIdx keys.
+	 */
+	public static final Comparator<ICFSecISOCtryByISOCodeIdxKey> COMPARE_ISOCODEIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredISOCode().compareTo( rhs.getRequiredISOCode() ) );
+	};
+
+	/**
+	 *	Orders ISOCtry instances by the NameIdx columns.
+	 */
+	public static final Comparator<ICFSecISOCtry> COMPARE_BY_NAMEIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredName().compareTo( rhs.getRequiredName() ) );
+	};
+
+	/**
+	 *	Orders NameIdx keys.
+	 */
+	public static final Comparator<ICFSecISOCtryByNameIdxKey> COMPARE_NAMEIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredName().compareTo( rhs.getRequiredName() ) );
+	};
+
 	public CFSecBuffISOCtryDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
 	@Override
 	public ICFSecISOCtryHPKey newHPKey() {
 		ICFSecISOCtryHPKey hpkey =
-			new CFSecBuffISOCtryHPKey();
+			new CFSecBuffISOCtryHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -72,7 +149,7 @@ public class CFSecBuffISOCtryDefaultFactory
 			return( (CFSecBuffISOCtryHPKey)key );
 		}
 		else {
-			CFSecBuffISOCtryHPKey mapped = new CFSecBuffISOCtryHPKey();
+			CFSecBuffISOCtryHPKey mapped = new CFSecBuffISOCtryHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -103,6 +180,10 @@ public class CFSecBuffISOCtryDefaultFactory
 		}
 	}
 
+	public static CFSecBuffISOCtryByISOCodeIdxKey getProbeByISOCodeIdxKey() {
+		return( probeByISOCodeIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecISOCtryByNameIdxKey newByNameIdxKey() {
 		ICFSecISOCtryByNameIdxKey key =
@@ -124,10 +205,14 @@ public class CFSecBuffISOCtryDefaultFactory
 		}
 	}
 
+	public static CFSecBuffISOCtryByNameIdxKey getProbeByNameIdxKey() {
+		return( probeByNameIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecISOCtry newRec() {
 		ICFSecISOCtry rec =
-			new CFSecBuffISOCtry();
+			new CFSecBuffISOCtry( recStamp );
 		return( rec );
 	}
 
@@ -139,16 +224,56 @@ public class CFSecBuffISOCtryDefaultFactory
 			return( (CFSecBuffISOCtry)rec );
 		}
 		else {
-			CFSecBuffISOCtry mapped = new CFSecBuffISOCtry();
+			CFSecBuffISOCtry mapped = new CFSecBuffISOCtry( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffISOCtry cloneRec( ICFSecISOCtry rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffISOCtry ) {
+			return( ( (CFSecBuffISOCtry)rec ).clone() );
+		}
+		else {
+			CFSecBuffISOCtry mapped = new CFSecBuffISOCtry( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffISOCtry[] cloneRecs( ICFSecISOCtry[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffISOCtry[] retList = new CFSecBuffISOCtry[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecISOCtryH newHRec() {
 		ICFSecISOCtryH hrec =
-			new CFSecBuffISOCtryH();
+			new CFSecBuffISOCtryH( recStamp );
 		return( hrec );
 	}
 
@@ -160,9 +285,49 @@ public class CFSecBuffISOCtryDefaultFactory
 			return( (CFSecBuffISOCtryH)hrec );
 		}
 		else {
-			CFSecBuffISOCtryH mapped = new CFSecBuffISOCtryH();
+			CFSecBuffISOCtryH mapped = new CFSecBuffISOCtryH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffISOCtryH cloneHRec( ICFSecISOCtryH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffISOCtryH ) {
+			return( ( (CFSecBuffISOCtryH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffISOCtryH mapped = new CFSecBuffISOCtryH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffISOCtryH[] cloneHRecs( ICFSecISOCtryH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffISOCtryH[] retList = new CFSecBuffISOCtryH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
@@ -51,17 +51,46 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffISOCtryLang
-	implements ICFSecISOCtryLang, Comparable<Object>, Serializable
+	implements ICFSecISOCtryLang, Comparable<Object>, Serializable, Cloneable
 {
 	protected ICFSecISOCtryLangPKey pkey = new CFSecBuffISOCtryLangPKey();
 	protected int requiredRevision;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOCtryLang.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOCtryLang.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
+
+	protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOCtryLang.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOCtryLang.S_INIT_UPDATED_BY);
 
 	public CFSecBuffISOCtryLang() {
+		this( CFSecBuffRecStamp.EAGER );
+	}
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+	public CFSecBuffISOCtryLang( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffISOCtryLang", 1, "stamp" );
+		}
 		pkey = new CFSecBuffISOCtryLangPKey();
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
 	}
 
 	@Override
@@ -78,6 +107,7 @@ public class CFSecBuffISOCtryLang
 			throw new CFLibUnsupportedClassException(getClass(), "setPKey", "pkey", pkey, "CFSecBuffISOCtryLangPKey");
 		}
 		this.pkey = (CFSecBuffISOCtryLangPKey)pkey;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -97,7 +127,7 @@ public class CFSecBuffISOCtryLang
 
 	@Override
 	public short getRequiredISOCtryId() {
-		return (getPKey().getRequiredContainerCtry().getRequiredISOCtryId());
+		return( getPKey().getRequiredISOCtryId() );
 	}
 
 	@Override
@@ -117,7 +147,7 @@ public class CFSecBuffISOCtryLang
 
 	@Override
 	public short getRequiredISOLangId() {
-		return (getPKey().getRequiredParentLang().getRequiredISOLangId());
+		return( getPKey().getRequiredISOLangId() );
 	}
 
 	@Override
@@ -128,16 +158,23 @@ public class CFSecBuffISOCtryLang
 	@Override
 	public void setCreatedByUserId( CFLibDbKeyHash256 value ) {
 		createdByUserId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
 	public LocalDateTime getCreatedAt() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
 		return( createdAt );
 	}
 
 	@Override
 	public void setCreatedAt( LocalDateTime value ) {
 		createdAt = value;
+		pendingCreatedAt = null;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -148,16 +185,23 @@ public class CFSecBuffISOCtryLang
 	@Override
 	public void setUpdatedByUserId( CFLibDbKeyHash256 value ) {
 		updatedByUserId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
 	public LocalDateTime getUpdatedAt() {
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
 		return( updatedAt );
 	}
 
 	@Override
 	public void setUpdatedAt( LocalDateTime value ) {
 		updatedAt = value;
+		pendingUpdatedAt = null;
+		cachedHashCode = 0;
 	}
 	@Override
 	public int getRequiredRevision() {
@@ -167,6 +211,7 @@ public class CFSecBuffISOCtryLang
 	@Override
 	public void setRequiredRevision( int value ) {
 		requiredRevision = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -243,14 +288,17 @@ public class CFSecBuffISOCtryLang
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getCreatedByUserId().hashCode();
-		hashCode = hashCode + getCreatedAt().hashCode();
-		hashCode = hashCode + getUpdatedByUserId().hashCode();
-		hashCode = hashCode + getUpdatedAt().hashCode();
-		hashCode = ( hashCode * 0x10000 ) + getRequiredISOCtryId();
-		hashCode = ( hashCode * 0x10000 ) + getRequiredISOLangId();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedAt() );
+			cachedHashCode = hashCode;
+		}
+		hashCode = CFSecBuffHash.mix( hashCode, pkey.hashCode() );
+		return( CFSecBuffHash.finish( hashCode, 5 ) );
 	}
 
 	@Override
@@ -365,6 +413,45 @@ public class CFSecBuffISOCtryLang
 		}
 	}
 
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+	protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+	}
+
+	private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+	public CFSecBuffISOCtryLang clone() {
+		resolvePendingStamps();
+		CFSecBuffISOCtryLang copy;
+		try {
+			copy = (CFSecBuffISOCtryLang)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.pkey = ( (CFSecBuffISOCtryLangPKey)pkey ).clone();
+		return( copy );
+	}
+
 	@Override
 	public void set( ICFSecISOCtryLang src ) {
 		setISOCtryLang( src );
@@ -372,8 +459,8 @@ public class CFSecBuffISOCtryLang
 
 	@Override
 	public void setISOCtryLang( ICFSecISOCtryLang src ) {
-		setRequiredContainerCtry(src.getRequiredContainerCtry());
-		setRequiredParentLang(src.getRequiredParentLang());
+		setRequiredContainerCtry(src.getRequiredISOCtryId());
+		setRequiredParentLang(src.getRequiredISOLangId());
 		setRequiredRevision( src.getRequiredRevision() );
 		setCreatedByUserId( src.getCreatedByUserId() );
 		setCreatedAt( src.getCreatedAt() );
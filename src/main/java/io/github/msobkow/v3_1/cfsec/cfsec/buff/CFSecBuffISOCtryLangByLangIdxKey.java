@@ -54,6 +54,8 @@ public class CFSecBuffISOCtryLangByLangIdxKey
 	implements ICFSecISOCtryLangByLangIdxKey, Comparable<Object>, Serializable
 {
 	protected short requiredISOLangId;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffISOCtryLangByLangIdxKey() {
 		requiredISOLangId = ICFSecISOCtryLang.ISOLANGID_INIT_VALUE;
 	}
@@ -74,6 +76,7 @@ public class CFSecBuffISOCtryLangByLangIdxKey
 				ICFSecISOCtryLang.ISOLANGID_MIN_VALUE );
 		}
 		requiredISOLangId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -102,9 +105,14 @@ public class CFSecBuffISOCtryLangByLangIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = ( hashCode * 0x10000 ) + getRequiredISOLangId();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredISOLangId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
@@ -54,9 +54,109 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffISOCtryLangDefaultFactory
 	implements ICFSecISOCtryLangFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffISOCtryLangPKey> probePKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffISOCtryLangPKey() );
+	protected static final ThreadLocal<CFSecBuffISOCtryLangByCtryIdxKey> probeByCtryIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffISOCtryLangByCtryIdxKey() );
+	protected static final ThreadLocal<CFSecBuffISOCtryLangByLangIdxKey> probeByLangIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffISOCtryLangByLangIdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders ISOCtryLang instances by primary key.
+	 */
+	public static final Comparator<ICFSecISOCtryLang> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = Short.compare( lhs.getPKey().getRequiredISOCtryId(), rhs.getPKey().getRequiredISOCtryId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Short.compare( lhs.getPKey().getRequiredISOLangId(), rhs.getPKey().getRequiredISOLangId() ) );
+	};
+
+	/**
+	 *	Orders ISOCtryLang primary keys.
+	 */
+	public static final Comparator<ICFSecISOCtryLangPKey> COMPARE_PKEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = Short.compare( lhs.getRequiredISOCtryId(), rhs.getRequiredISOCtryId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Short.compare( lhs.getRequiredISOLangId(), rhs.getRequiredISOLangId() ) );
+	};
+
+	/**
+	 *	Orders ISOCtryLang history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecISOCtryLangHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = Short.compare( lhs.getRequiredISOCtryId(), rhs.getRequiredISOCtryId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		cmp = Short.compare( lhs.getRequiredISOLangId(), rhs.getRequiredISOLangId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders ISOCtryLang instances by the CtryIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecISOCtryLang> COMPARE_BY_CTRYIDX = ( lhs, rhs ) -> {
+		return( Short.compare( lhs.getPKey().getRequiredISOCtryId(), rhs.getPKey().getRequiredISOCtryId() ) );
+	};
+
+	/**
+	 *	Orders CtryIdx keys.
+	 */
+	public static final Comparator<ICFSecISOCtryLangByCtryIdxKey> COMPARE_CTRYIDX_KEYS = ( lhs, rhs ) -> {
+		return( Short.compare( lhs.getRequiredISOCtryId(), rhs.getRequiredISOCtryId() ) );
+	};
+
+	/**
+	 *	Orders ISOCtryLang instances by the LangIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecISOCtryLang> COMPARE_BY_LANGIDX = ( lhs, rhs ) -> {
+		return( Short.compare( lhs.getPKey().getRequiredISOLangId(), rhs.getPKey().getRequiredISOLangId() ) );
+	};
+
+	/**
+	 *	Orders LangIdx keys.
+	 */
+	public static final Comparator<ICFSecISOCtryLangByLangIdxKey> COMPARE_LANGIDX_KEYS = ( lhs, rhs ) -> {
+		return( Short.compare( lhs.getRequiredISOLangId(), rhs.getRequiredISOLangId() ) );
+	};
+
 	public CFSecBuffISOCtryLangDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
     @Override
     public ICFSecISOCtryLangPKey newPKey() {
         ICFSecISOCtryLangPKey pkey =
@@ -79,10 +179,14 @@ public class CFSecBuffISOCtryLangDefaultFactory
 		}
 	}
 
+	public static CFSecBuffISOCtryLangPKey getProbePKey() {
+		return( probePKey.get() );
+	}
+
 	@Override
 	public ICFSecISOCtryLangHPKey newHPKey() {
 		ICFSecISOCtryLangHPKey hpkey =
-			new CFSecBuffISOCtryLangHPKey();
+			new CFSecBuffISOCtryLangHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -94,7 +198,7 @@ public class CFSecBuffISOCtryLangDefaultFactory
 			return( (CFSecBuffISOCtryLangHPKey)key );
 		}
 		else {
-			CFSecBuffISOCtryLangHPKey mapped = new CFSecBuffISOCtryLangHPKey();
+			CFSecBuffISOCtryLangHPKey mapped = new CFSecBuffISOCtryLangHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -126,6 +230,10 @@ public class CFSecBuffISOCtryLangDefaultFactory
 		}
 	}
 
+	public static CFSecBuffISOCtryLangByCtryIdxKey getProbeByCtryIdxKey() {
+		return( probeByCtryIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecISOCtryLangByLangIdxKey newByLangIdxKey() {
 		ICFSecISOCtryLangByLangIdxKey key =
@@ -147,10 +255,14 @@ public class CFSecBuffISOCtryLangDefaultFactory
 		}
 	}
 
+	public static CFSecBuffISOCtryLangByLangIdxKey getProbeByLangIdxKey() {
+		return( probeByLangIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecISOCtryLang newRec() {
 		ICFSecISOCtryLang rec =
-			new CFSecBuffISOCtryLang();
+			new CFSecBuffISOCtryLang( recStamp );
 		return( rec );
 	}
 
@@ -162,16 +274,56 @@ public class CFSecBuffISOCtryLangDefaultFactory
 			return( (CFSecBuffISOCtryLang)rec );
 		}
 		else {
-			CFSecBuffISOCtryLang mapped = new CFSecBuffISOCtryLang();
+			CFSecBuffISOCtryLang mapped = new CFSecBuffISOCtryLang( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffISOCtryLang cloneRec( ICFSecISOCtryLang rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffISOCtryLang ) {
+			return( ( (CFSecBuffISOCtryLang)rec ).clone() );
+		}
+		else {
+			CFSecBuffISOCtryLang mapped = new CFSecBuffISOCtryLang( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffISOCtryLang[] cloneRecs( ICFSecISOCtryLang[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffISOCtryLang[] retList = new CFSecBuffISOCtryLang[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecISOCtryLangH newHRec() {
 		ICFSecISOCtryLangH hrec =
-			new CFSecBuffISOCtryLangH();
+			new CFSecBuffISOCtryLangH( recStamp );
 		return( hrec );
 	}
 
@@ -183,9 +335,49 @@ public class CFSecBuffISOCtryLangDefaultFactory
 			return( (CFSecBuffISOCtryLangH)hrec );
 		}
 		else {
-			CFSecBuffISOCtryLangH mapped = new CFSecBuffISOCtryLangH();
+			CFSecBuffISOCtryLangH mapped = new CFSecBuffISOCtryLangH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffISOCtryLangH cloneHRec( ICFSecISOCtryLangH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffISOCtryLangH ) {
+			return( ( (CFSecBuffISOCtryLangH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffISOCtryLangH mapped = new CFSecBuffISOCtryLangH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffISOCtryLangH[] cloneHRecs( ICFSecISOCtryLangH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffISOCtryLangH[] retList = new CFSecBuffISOCtryLangH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
@@ -55,11 +55,13 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
  *		requiredISOLangId	Required object attribute ISOLangId.
  */
 public class CFSecBuffISOCtryLangPKey
-	implements ICFSecISOCtryLangPKey, Comparable<ICFSecISOCtryLangPKey>, Serializable
+	implements ICFSecISOCtryLangPKey, Comparable<ICFSecISOCtryLangPKey>, Serializable, Cloneable
 {
 	protected short requiredISOCtryId;
 	protected short requiredISOLangId;
 
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffISOCtryLangPKey() {
 		requiredISOCtryId = ICFSecISOCtryLang.ISOCTRYID_INIT_VALUE;
 		requiredISOLangId = ICFSecISOCtryLang.ISOLANGID_INIT_VALUE;
@@ -87,11 +89,13 @@ public class CFSecBuffISOCtryLangPKey
 			requiredISOCtryId = argObj.getRequiredISOCtryId();
 		}
 	
+		cachedHashCode = 0;
 	}
 
 	@Override
 	public void setRequiredContainerCtry(short argISOCtryId) {
 		requiredISOCtryId = argISOCtryId;
+		cachedHashCode = 0;
 	}
 	@Override
 	public ICFSecISOLang getRequiredParentLang() {
@@ -115,11 +119,13 @@ public class CFSecBuffISOCtryLangPKey
 			requiredISOLangId = argObj.getRequiredISOLangId();
 		}
 	
+		cachedHashCode = 0;
 	}
 
 	@Override
 	public void setRequiredParentLang(short argISOLangId) {
 		requiredISOLangId = argISOLangId;
+		cachedHashCode = 0;
 	}
 	@Override
 	public short getRequiredISOCtryId() {
@@ -131,6 +137,24 @@ public class CFSecBuffISOCtryLangPKey
 		return( requiredISOLangId );
 	}
 
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+	public CFSecBuffISOCtryLangPKey clone() {
+		CFSecBuffISOCtryLangPKey copy;
+		try {
+			copy = (CFSecBuffISOCtryLangPKey)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		return( copy );
+	}
+
 	@Override
 	public boolean equals( Object obj ) {
 		if (obj == null) {
@@ -153,10 +177,15 @@ public class CFSecBuffISOCtryLangPKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = ( hashCode * 0x10000 ) + getRequiredISOCtryId();
-		hashCode = ( hashCode * 0x10000 ) + getRequiredISOLangId();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredISOCtryId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredISOLangId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 2 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
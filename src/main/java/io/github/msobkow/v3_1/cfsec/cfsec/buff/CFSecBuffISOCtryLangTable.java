@@ -0,0 +1,611 @@
+// Description: Java 25 in-memory concurrent implementation of a ISOCtryLang table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffISOCtryLangTable in-memory implementation of ICFSecISOCtryLangTable for ISOCtryLang.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ */
+public class CFSecBuffISOCtryLangTable
+	implements ICFSecISOCtryLangTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<CFSecBuffISOCtryLangPKey, CFSecBuffISOCtryLang> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffISOCtryLangByCtryIdxKey, ConcurrentHashMap<CFSecBuffISOCtryLangPKey, CFSecBuffISOCtryLang>> dictByCtryIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffISOCtryLangByLangIdxKey, ConcurrentHashMap<CFSecBuffISOCtryLangPKey, CFSecBuffISOCtryLang>> dictByLangIdx
+		= new ConcurrentHashMap<>();
+
+	public CFSecBuffISOCtryLangTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Copy the attributes of a ISOCtryLang by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffISOCtryLang holding the same attribute values.
+	 */
+	protected CFSecBuffISOCtryLang copyRec( ICFSecISOCtryLang src ) {
+		if( src instanceof CFSecBuffISOCtryLang ) {
+			return( ( (CFSecBuffISOCtryLang)src ).clone() );
+		}
+		CFSecBuffISOCtryLang rec = new CFSecBuffISOCtryLang( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredContainerCtry( src.getPKey().getRequiredISOCtryId() );
+		rec.setRequiredParentLang( src.getPKey().getRequiredISOLangId() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecISOCtryLang[] copyRecs( Collection<CFSecBuffISOCtryLang> src ) {
+		ICFSecISOCtryLang[] retList = new ICFSecISOCtryLang[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffISOCtryLang cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected CFSecBuffISOCtryLangPKey newPKey( short argISOCtryId, short argISOLangId ) {
+		CFSecBuffISOCtryLangPKey pkey = new CFSecBuffISOCtryLangPKey();
+		pkey.setRequiredContainerCtry( argISOCtryId );
+		pkey.setRequiredParentLang( argISOLangId );
+		return( pkey );
+	}
+
+	protected CFSecBuffISOCtryLangPKey pkeyOf( ICFSecISOCtryLang rec ) {
+		return( newPKey( rec.getPKey().getRequiredISOCtryId(), rec.getPKey().getRequiredISOLangId() ) );
+	}
+
+	protected CFSecBuffISOCtryLangPKey probePKey( short argISOCtryId, short argISOLangId ) {
+		CFSecBuffISOCtryLangPKey pkey = CFSecBuffISOCtryLangDefaultFactory.getProbePKey();
+		pkey.setRequiredContainerCtry( argISOCtryId );
+		pkey.setRequiredParentLang( argISOLangId );
+		return( pkey );
+	}
+
+	protected CFSecBuffISOCtryLangByCtryIdxKey newByCtryIdxKey( short argISOCtryId ) {
+		CFSecBuffISOCtryLangByCtryIdxKey key = new CFSecBuffISOCtryLangByCtryIdxKey();
+		key.setRequiredISOCtryId( argISOCtryId );
+		return( key );
+	}
+
+	protected CFSecBuffISOCtryLangByCtryIdxKey newByCtryIdxKey( ICFSecISOCtryLang rec ) {
+		return( newByCtryIdxKey( rec.getPKey().getRequiredISOCtryId() ) );
+	}
+
+	protected CFSecBuffISOCtryLangByCtryIdxKey probeByCtryIdxKey( short argISOCtryId ) {
+		CFSecBuffISOCtryLangByCtryIdxKey key = CFSecBuffISOCtryLangDefaultFactory.getProbeByCtryIdxKey();
+		key.setRequiredISOCtryId( argISOCtryId );
+		return( key );
+	}
+
+	protected CFSecBuffISOCtryLangByLangIdxKey newByLangIdxKey( short argISOLangId ) {
+		CFSecBuffISOCtryLangByLangIdxKey key = new CFSecBuffISOCtryLangByLangIdxKey();
+		key.setRequiredISOLangId( argISOLangId );
+		return( key );
+	}
+
+	protected CFSecBuffISOCtryLangByLangIdxKey newByLangIdxKey( ICFSecISOCtryLang rec ) {
+		return( newByLangIdxKey( rec.getPKey().getRequiredISOLangId() ) );
+	}
+
+	protected CFSecBuffISOCtryLangByLangIdxKey probeByLangIdxKey( short argISOLangId ) {
+		CFSecBuffISOCtryLangByLangIdxKey key = CFSecBuffISOCtryLangDefaultFactory.getProbeByLangIdxKey();
+		key.setRequiredISOLangId( argISOLangId );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffISOCtryLang rec ) {
+		CFSecBuffISOCtryLangPKey pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByCtryIdx.computeIfAbsent( newByCtryIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByLangIdx.computeIfAbsent( newByLangIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+	}
+
+	protected void unindexRec( CFSecBuffISOCtryLang rec ) {
+		CFSecBuffISOCtryLangPKey pkey = pkeyOf( rec );
+		removeFromDupIndex( dictByCtryIdx, newByCtryIdxKey( rec ), pkey );
+		removeFromDupIndex( dictByLangIdx, newByLangIdxKey( rec ), pkey );
+		dictByPKey.remove( pkey, rec );
+	}
+
+	protected void reindexRec( CFSecBuffISOCtryLang existing, CFSecBuffISOCtryLang rec ) {
+		CFSecBuffISOCtryLangPKey pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffISOCtryLangByCtryIdxKey oldKey = newByCtryIdxKey( existing );
+			CFSecBuffISOCtryLangByCtryIdxKey newKey = newByCtryIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByCtryIdx, oldKey, pkey );
+			}
+			dictByCtryIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffISOCtryLangByLangIdxKey oldKey = newByLangIdxKey( existing );
+			CFSecBuffISOCtryLangByLangIdxKey newKey = newByLangIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByLangIdx, oldKey, pkey );
+			}
+			dictByLangIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+	}
+
+	protected static <K> void removeFromDupIndex( ConcurrentHashMap<K, ConcurrentHashMap<CFSecBuffISOCtryLangPKey, CFSecBuffISOCtryLang>> dict, K key, CFSecBuffISOCtryLangPKey pkey ) {
+		ConcurrentHashMap<CFSecBuffISOCtryLangPKey, CFSecBuffISOCtryLang> subdict = dict.get( key );
+		if( subdict != null ) {
+			subdict.remove( pkey );
+			if( subdict.isEmpty() ) {
+				dict.remove( key, subdict );
+			}
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffISOCtryLang rec, CFSecBuffISOCtryLang existing ) {
+	}
+
+	@Override
+	public ICFSecISOCtryLang createISOCtryLang( ICFSecAuthorization Authorization,
+		ICFSecISOCtryLang rec )
+	{
+		final String S_ProcName = "createISOCtryLang";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffISOCtryLang stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		CFSecBuffISOCtryLangPKey pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecISOCtryLang readDerived( ICFSecAuthorization Authorization,
+		ICFSecISOCtryLangPKey PKey )
+	{
+		if( PKey == null ) {
+			return( null );
+		}
+		CFSecBuffISOCtryLang rec = dictByPKey.get( probePKey( PKey.getRequiredISOCtryId(), PKey.getRequiredISOLangId() ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOCtryLang readDerived( ICFSecAuthorization Authorization,
+		short argISOCtryId, short argISOLangId )
+	{
+		CFSecBuffISOCtryLang rec = dictByPKey.get( probePKey( argISOCtryId, argISOLangId ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOCtryLang lockDerived( ICFSecAuthorization Authorization,
+		ICFSecISOCtryLangPKey PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOCtryLang[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecISOCtryLang readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		short argISOCtryId, short argISOLangId )
+	{
+		CFSecBuffISOCtryLang rec = dictByPKey.get( probePKey( argISOCtryId, argISOLangId ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOCtryLang[] readDerivedByCtryIdx( ICFSecAuthorization Authorization,
+		short argISOCtryId )
+	{
+		ConcurrentHashMap<CFSecBuffISOCtryLangPKey, CFSecBuffISOCtryLang> subdict = dictByCtryIdx.get( probeByCtryIdxKey( argISOCtryId ) );
+		if( subdict == null ) {
+			return( new ICFSecISOCtryLang[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the ISOCtryLang instances for several CtryIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argISOCtryIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<Short, ICFSecISOCtryLang[]> readDerivedByCtryIdxBatch( ICFSecAuthorization Authorization,
+		Collection<Short> argISOCtryIds )
+	{
+		Map<Short, ICFSecISOCtryLang[]> retMap = new HashMap<>( Math.max( 16, argISOCtryIds.size() * 2 ) );
+		for( Short argISOCtryId : argISOCtryIds ) {
+			if( ( argISOCtryId == null ) || retMap.containsKey( argISOCtryId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFSecBuffISOCtryLangPKey, CFSecBuffISOCtryLang> subdict = dictByCtryIdx.get( probeByCtryIdxKey( argISOCtryId ) );
+			if( subdict == null ) {
+				retMap.put( argISOCtryId, new ICFSecISOCtryLang[0] );
+			}
+			else {
+				retMap.put( argISOCtryId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecISOCtryLang[] readDerivedByLangIdx( ICFSecAuthorization Authorization,
+		short argISOLangId )
+	{
+		ConcurrentHashMap<CFSecBuffISOCtryLangPKey, CFSecBuffISOCtryLang> subdict = dictByLangIdx.get( probeByLangIdxKey( argISOLangId ) );
+		if( subdict == null ) {
+			return( new ICFSecISOCtryLang[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the ISOCtryLang instances for several LangIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argISOLangIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<Short, ICFSecISOCtryLang[]> readDerivedByLangIdxBatch( ICFSecAuthorization Authorization,
+		Collection<Short> argISOLangIds )
+	{
+		Map<Short, ICFSecISOCtryLang[]> retMap = new HashMap<>( Math.max( 16, argISOLangIds.size() * 2 ) );
+		for( Short argISOLangId : argISOLangIds ) {
+			if( ( argISOLangId == null ) || retMap.containsKey( argISOLangId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFSecBuffISOCtryLangPKey, CFSecBuffISOCtryLang> subdict = dictByLangIdx.get( probeByLangIdxKey( argISOLangId ) );
+			if( subdict == null ) {
+				retMap.put( argISOLangId, new ICFSecISOCtryLang[0] );
+			}
+			else {
+				retMap.put( argISOLangId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecISOCtryLang readRec( ICFSecAuthorization Authorization,
+		ICFSecISOCtryLangPKey PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOCtryLang lockRec( ICFSecAuthorization Authorization,
+		ICFSecISOCtryLangPKey PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOCtryLang[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecISOCtryLang readRecByIdIdx( ICFSecAuthorization Authorization,
+		short argISOCtryId, short argISOLangId )
+	{
+		return( readDerivedByIdIdx( Authorization, argISOCtryId, argISOLangId ) );
+	}
+
+	@Override
+	public ICFSecISOCtryLang[] readRecByCtryIdx( ICFSecAuthorization Authorization,
+		short argISOCtryId )
+	{
+		return( readDerivedByCtryIdx( Authorization, argISOCtryId ) );
+	}
+
+	@Override
+	public ICFSecISOCtryLang[] readRecByLangIdx( ICFSecAuthorization Authorization,
+		short argISOLangId )
+	{
+		return( readDerivedByLangIdx( Authorization, argISOLangId ) );
+	}
+
+	@Override
+	public ICFSecISOCtryLang updateISOCtryLang( ICFSecAuthorization Authorization,
+		ICFSecISOCtryLang rec )
+	{
+		final String S_ProcName = "updateISOCtryLang";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffISOCtryLang stored = copyRec( rec );
+		CFSecBuffISOCtryLangPKey pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffISOCtryLang existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"ISOCtryLang",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteISOCtryLang( ICFSecAuthorization Authorization,
+		ICFSecISOCtryLang rec )
+	{
+		final String S_ProcName = "deleteISOCtryLang";
+		if( rec == null ) {
+			return;
+		}
+		CFSecBuffISOCtryLangPKey pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffISOCtryLang existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffISOCtryLang existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored ISOCtryLang under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffISOCtryLang> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffISOCtryLang> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffISOCtryLang rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a ISOCtryLang exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffISOCtryLang rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffISOCtryLang stored = copyRec( rec );
+		CFSecBuffISOCtryLangPKey pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteISOCtryLangByIdIdx( ICFSecAuthorization Authorization,
+		short argISOCtryId, short argISOLangId )
+	{
+		deleteStored( dictByPKey.get( probePKey( argISOCtryId, argISOLangId ) ) );
+	}
+
+	@Override
+	public void deleteISOCtryLangByIdIdx( ICFSecAuthorization Authorization,
+		ICFSecISOCtryLangPKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteStored( dictByPKey.get( probePKey( argKey.getRequiredISOCtryId(), argKey.getRequiredISOLangId() ) ) );
+	}
+
+	@Override
+	public void deleteISOCtryLangByCtryIdx( ICFSecAuthorization Authorization,
+		short argISOCtryId )
+	{
+		ConcurrentHashMap<CFSecBuffISOCtryLangPKey, CFSecBuffISOCtryLang> subdict = dictByCtryIdx.get( probeByCtryIdxKey( argISOCtryId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffISOCtryLang existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteISOCtryLangByCtryIdx( ICFSecAuthorization Authorization,
+		ICFSecISOCtryLangByCtryIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteISOCtryLangByCtryIdx( Authorization, argKey.getRequiredISOCtryId() );
+	}
+
+	@Override
+	public void deleteISOCtryLangByLangIdx( ICFSecAuthorization Authorization,
+		short argISOLangId )
+	{
+		ConcurrentHashMap<CFSecBuffISOCtryLangPKey, CFSecBuffISOCtryLang> subdict = dictByLangIdx.get( probeByLangIdxKey( argISOLangId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffISOCtryLang existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteISOCtryLangByLangIdx( ICFSecAuthorization Authorization,
+		ICFSecISOCtryLangByLangIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteISOCtryLangByLangIdx( Authorization, argKey.getRequiredISOLangId() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
@@ -0,0 +1,510 @@
+// Description: Java 25 in-memory concurrent implementation of a ISOCtry table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffISOCtryTable in-memory implementation of ICFSecISOCtryTable for ISOCtry.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ */
+public class CFSecBuffISOCtryTable
+	implements ICFSecISOCtryTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<Short, CFSecBuffISOCtry> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffISOCtryByISOCodeIdxKey, CFSecBuffISOCtry> dictByISOCodeIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffISOCtryByNameIdxKey, CFSecBuffISOCtry> dictByNameIdx
+		= new ConcurrentHashMap<>();
+
+	public CFSecBuffISOCtryTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Copy the attributes of a ISOCtry by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffISOCtry holding the same attribute values.
+	 */
+	protected CFSecBuffISOCtry copyRec( ICFSecISOCtry src ) {
+		if( src instanceof CFSecBuffISOCtry ) {
+			return( ( (CFSecBuffISOCtry)src ).clone() );
+		}
+		CFSecBuffISOCtry rec = new CFSecBuffISOCtry( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredISOCtryId( src.getRequiredISOCtryId() );
+		rec.setRequiredISOCode( src.getRequiredISOCode() );
+		rec.setRequiredName( src.getRequiredName() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecISOCtry[] copyRecs( Collection<CFSecBuffISOCtry> src ) {
+		ICFSecISOCtry[] retList = new ICFSecISOCtry[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffISOCtry cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected Short pkeyOf( ICFSecISOCtry rec ) {
+		return( rec.getRequiredISOCtryId() );
+	}
+
+	protected CFSecBuffISOCtryByISOCodeIdxKey newByISOCodeIdxKey( String argISOCode ) {
+		CFSecBuffISOCtryByISOCodeIdxKey key = new CFSecBuffISOCtryByISOCodeIdxKey();
+		key.setRequiredISOCode( argISOCode );
+		return( key );
+	}
+
+	protected CFSecBuffISOCtryByISOCodeIdxKey newByISOCodeIdxKey( ICFSecISOCtry rec ) {
+		return( newByISOCodeIdxKey( rec.getRequiredISOCode() ) );
+	}
+
+	protected CFSecBuffISOCtryByISOCodeIdxKey probeByISOCodeIdxKey( String argISOCode ) {
+		CFSecBuffISOCtryByISOCodeIdxKey key = CFSecBuffISOCtryDefaultFactory.getProbeByISOCodeIdxKey();
+		key.setRequiredISOCode( argISOCode );
+		return( key );
+	}
+
+	protected CFSecBuffISOCtryByNameIdxKey newByNameIdxKey( String argName ) {
+		CFSecBuffISOCtryByNameIdxKey key = new CFSecBuffISOCtryByNameIdxKey();
+		key.setRequiredName( argName );
+		return( key );
+	}
+
+	protected CFSecBuffISOCtryByNameIdxKey newByNameIdxKey( ICFSecISOCtry rec ) {
+		return( newByNameIdxKey( rec.getRequiredName() ) );
+	}
+
+	protected CFSecBuffISOCtryByNameIdxKey probeByNameIdxKey( String argName ) {
+		CFSecBuffISOCtryByNameIdxKey key = CFSecBuffISOCtryDefaultFactory.getProbeByNameIdxKey();
+		key.setRequiredName( argName );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffISOCtry rec ) {
+		Short pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByISOCodeIdx.put( newByISOCodeIdxKey( rec ), rec );
+		dictByNameIdx.put( newByNameIdxKey( rec ), rec );
+	}
+
+	protected void unindexRec( CFSecBuffISOCtry rec ) {
+		Short pkey = pkeyOf( rec );
+		dictByISOCodeIdx.remove( newByISOCodeIdxKey( rec ), rec );
+		dictByNameIdx.remove( newByNameIdxKey( rec ), rec );
+		dictByPKey.remove( pkey, rec );
+	}
+
+	protected void reindexRec( CFSecBuffISOCtry existing, CFSecBuffISOCtry rec ) {
+		Short pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffISOCtryByISOCodeIdxKey oldKey = newByISOCodeIdxKey( existing );
+			CFSecBuffISOCtryByISOCodeIdxKey newKey = newByISOCodeIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByISOCodeIdx.remove( oldKey, existing );
+			}
+			dictByISOCodeIdx.put( newKey, rec );
+		}
+		{
+			CFSecBuffISOCtryByNameIdxKey oldKey = newByNameIdxKey( existing );
+			CFSecBuffISOCtryByNameIdxKey newKey = newByNameIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByNameIdx.remove( oldKey, existing );
+			}
+			dictByNameIdx.put( newKey, rec );
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffISOCtry rec, CFSecBuffISOCtry existing ) {
+		{
+			CFSecBuffISOCtryByISOCodeIdxKey key = newByISOCodeIdxKey( rec );
+			CFSecBuffISOCtry conflict = dictByISOCodeIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"ISOCtryISOCodeIdx",
+					key );
+			}
+		}
+		{
+			CFSecBuffISOCtryByNameIdxKey key = newByNameIdxKey( rec );
+			CFSecBuffISOCtry conflict = dictByNameIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"ISOCtryNameIdx",
+					key );
+			}
+		}
+	}
+
+	@Override
+	public ICFSecISOCtry createISOCtry( ICFSecAuthorization Authorization,
+		ICFSecISOCtry rec )
+	{
+		final String S_ProcName = "createISOCtry";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffISOCtry stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		Short pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecISOCtry readDerived( ICFSecAuthorization Authorization,
+		short PKey )
+	{
+		CFSecBuffISOCtry rec = dictByPKey.get( PKey );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOCtry lockDerived( ICFSecAuthorization Authorization,
+		short PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOCtry[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecISOCtry readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		short argISOCtryId )
+	{
+		CFSecBuffISOCtry rec = dictByPKey.get( argISOCtryId );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOCtry readDerivedByISOCodeIdx( ICFSecAuthorization Authorization,
+		String argISOCode )
+	{
+		CFSecBuffISOCtry rec = dictByISOCodeIdx.get( probeByISOCodeIdxKey( argISOCode ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOCtry readDerivedByNameIdx( ICFSecAuthorization Authorization,
+		String argName )
+	{
+		CFSecBuffISOCtry rec = dictByNameIdx.get( probeByNameIdxKey( argName ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOCtry readRec( ICFSecAuthorization Authorization,
+		short PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOCtry lockRec( ICFSecAuthorization Authorization,
+		short PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOCtry[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecISOCtry readRecByIdIdx( ICFSecAuthorization Authorization,
+		short argISOCtryId )
+	{
+		return( readDerivedByIdIdx( Authorization, argISOCtryId ) );
+	}
+
+	@Override
+	public ICFSecISOCtry readRecByISOCodeIdx( ICFSecAuthorization Authorization,
+		String argISOCode )
+	{
+		return( readDerivedByISOCodeIdx( Authorization, argISOCode ) );
+	}
+
+	@Override
+	public ICFSecISOCtry readRecByNameIdx( ICFSecAuthorization Authorization,
+		String argName )
+	{
+		return( readDerivedByNameIdx( Authorization, argName ) );
+	}
+
+	@Override
+	public ICFSecISOCtry updateISOCtry( ICFSecAuthorization Authorization,
+		ICFSecISOCtry rec )
+	{
+		final String S_ProcName = "updateISOCtry";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffISOCtry stored = copyRec( rec );
+		Short pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffISOCtry existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"ISOCtry",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteISOCtry( ICFSecAuthorization Authorization,
+		ICFSecISOCtry rec )
+	{
+		final String S_ProcName = "deleteISOCtry";
+		if( rec == null ) {
+			return;
+		}
+		Short pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffISOCtry existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffISOCtry existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored ISOCtry under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffISOCtry> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffISOCtry> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffISOCtry rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a ISOCtry exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffISOCtry rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffISOCtry stored = copyRec( rec );
+		Short pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteISOCtryByIdIdx( ICFSecAuthorization Authorization,
+		short argISOCtryId )
+	{
+		deleteStored( dictByPKey.get( argISOCtryId ) );
+	}
+
+	@Override
+	public void deleteISOCtryByISOCodeIdx( ICFSecAuthorization Authorization,
+		String argISOCode )
+	{
+		deleteStored( dictByISOCodeIdx.get( probeByISOCodeIdxKey( argISOCode ) ) );
+	}
+
+	@Override
+	public void deleteISOCtryByISOCodeIdx( ICFSecAuthorization Authorization,
+		ICFSecISOCtryByISOCodeIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteISOCtryByISOCodeIdx( Authorization, argKey.getRequiredISOCode() );
+	}
+
+	@Override
+	public void deleteISOCtryByNameIdx( ICFSecAuthorization Authorization,
+		String argName )
+	{
+		deleteStored( dictByNameIdx.get( probeByNameIdxKey( argName ) ) );
+	}
+
+	@Override
+	public void deleteISOCtryByNameIdx( ICFSecAuthorization Authorization,
+		ICFSecISOCtryByNameIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteISOCtryByNameIdx( Authorization, argKey.getRequiredName() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
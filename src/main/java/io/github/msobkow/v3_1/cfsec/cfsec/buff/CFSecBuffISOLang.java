@@ -51,23 +51,98 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffISOLang
-	implements ICFSecISOLang, Comparable<Object>, Serializable
+	implements ICFSecISOLang, Comparable<Object>, Serializable, Cloneable
 {
 	protected short requiredISOLangId;
 	protected int requiredRevision;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOLang.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOLang.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
 	protected String requiredISO6392Code;
 	protected String optionalISO6391Code;
 	protected String requiredEnglishName;
 
+	protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOLang.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOLang.S_INIT_UPDATED_BY);
+	protected transient CFSecBuffNavigationCache navigationCache = null;
+
+	protected static final int NAV_OPTIONALCHILDRENCTRY = 0;
+	protected static final int NAV_SLOT_COUNT = 1;
+
 	public CFSecBuffISOLang() {
+		this( CFSecBuffRecStamp.EAGER );
+	}
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+	public CFSecBuffISOLang( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffISOLang", 1, "stamp" );
+		}
 		requiredISOLangId = ICFSecISOLang.ISOLANGID_INIT_VALUE;
 		requiredISO6392Code = ICFSecISOLang.ISO6392CODE_INIT_VALUE;
 		optionalISO6391Code = null;
 		requiredEnglishName = ICFSecISOLang.ENGLISHNAME_INIT_VALUE;
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
+	}
+
+	/**
+	 *	Enable or disable caching of the relationship navigation getters of this
+	 *	instance.  While enabled, each navigation result is reused until the table
+	 *	it was read from reports a modification, or until an attribute of this
+	 *	instance is changed.  Tables that do not publish a modification count are
+	 *	always read.  Cached objects are shared between calls, so callers must treat
+	 *	them as read-only.
+	 *
+	 *	@param	value	true to cache navigation results, false to discard the cache.
+	 */
+	public void setNavigationCacheEnabled( boolean value ) {
+		if( value ) {
+			if( navigationCache == null ) {
+				navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+			}
+		}
+		else {
+			navigationCache = null;
+		}
+	}
+
+	public boolean isNavigationCacheEnabled() {
+		return( navigationCache != null );
+	}
+
+	protected long getNavigationStamp( Object targetTable ) {
+		if( navigationCache == null ) {
+			return( 0L );
+		}
+		return( CFSecBuffNavigationCache.stampOf( targetTable ) );
+	}
+
+	protected void primeNavigation( int slot, long navStamp, Object value ) {
+		if( navStamp == 0L ) {
+			return;
+		}
+		if( navigationCache == null ) {
+			navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+		}
+		navigationCache.put( slot, navStamp, value );
 	}
 
 	@Override
@@ -98,6 +173,8 @@ public class CFSecBuffISOLang
 				ICFSecISOLang.ISOLANGID_MIN_VALUE );
 		}
 		requiredISOLangId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -108,16 +185,25 @@ public class CFSecBuffISOLang
 	@Override
 	public void setCreatedByUserId( CFLibDbKeyHash256 value ) {
 		createdByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getCreatedAt() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
 		return( createdAt );
 	}
 
 	@Override
 	public void setCreatedAt( LocalDateTime value ) {
 		createdAt = value;
+		pendingCreatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -128,16 +214,25 @@ public class CFSecBuffISOLang
 	@Override
 	public void setUpdatedByUserId( CFLibDbKeyHash256 value ) {
 		updatedByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getUpdatedAt() {
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
 		return( updatedAt );
 	}
 
 	@Override
 	public void setUpdatedAt( LocalDateTime value ) {
 		updatedAt = value;
+		pendingUpdatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 	@Override
 	public int getRequiredRevision() {
@@ -147,6 +242,8 @@ public class CFSecBuffISOLang
 	@Override
 	public void setRequiredRevision( int value ) {
 		requiredRevision = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -164,7 +261,17 @@ public class CFSecBuffISOLang
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalChildrenCtry", 0, "ICFSecSchema.getBackingCFSec().getTableISOCtryLang()");
 		}
-		ICFSecISOCtryLang[] targetArr = targetTable.readDerivedByLangIdx(null, getRequiredISOLangId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecISOCtryLang[] targetArr;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALCHILDRENCTRY, navStamp ) ) {
+			targetArr = (ICFSecISOCtryLang[])navigationCache.getValue( NAV_OPTIONALCHILDRENCTRY );
+		}
+		else {
+			targetArr = targetTable.readDerivedByLangIdx(null, getRequiredISOLangId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALCHILDRENCTRY, navStamp, targetArr );
+			}
+		}
 		if( targetArr != null ) {
 			List<ICFSecISOCtryLang> results = new ArrayList<>(targetArr.length);
 			for (int idx = 0; idx < targetArr.length; idx++) {
@@ -199,6 +306,8 @@ public class CFSecBuffISOLang
 				3 );
 		}
 		requiredISO6392Code = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -217,6 +326,8 @@ public class CFSecBuffISOLang
 				2 );
 		}
 		optionalISO6391Code = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -241,6 +352,8 @@ public class CFSecBuffISOLang
 				64 );
 		}
 		requiredEnglishName = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -417,22 +530,21 @@ public class CFSecBuffISOLang
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getCreatedByUserId().hashCode();
-		hashCode = hashCode + getCreatedAt().hashCode();
-		hashCode = hashCode + getUpdatedByUserId().hashCode();
-		hashCode = hashCode + getUpdatedAt().hashCode();
-		hashCode = ( hashCode * 0x10000 ) + getRequiredISOLangId();
-		if( getRequiredISO6392Code() != null ) {
-			hashCode = hashCode + getRequiredISO6392Code().hashCode();
-		}
-		if( getOptionalISO6391Code() != null ) {
-			hashCode = hashCode + getOptionalISO6391Code().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredISOLangId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredISO6392Code() );
+			hashCode = CFSecBuffHash.mix( hashCode, getOptionalISO6391Code() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredEnglishName() );
+			hashCode = CFSecBuffHash.finish( hashCode, 8 );
+			cachedHashCode = hashCode;
 		}
-		if( getRequiredEnglishName() != null ) {
-			hashCode = hashCode + getRequiredEnglishName().hashCode();
-		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
@@ -635,6 +747,45 @@ public class CFSecBuffISOLang
 		}
 	}
 
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+	protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+	}
+
+	private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+	public CFSecBuffISOLang clone() {
+		resolvePendingStamps();
+		CFSecBuffISOLang copy;
+		try {
+			copy = (CFSecBuffISOLang)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.navigationCache = null;
+		return( copy );
+	}
+
 	@Override
 	public void set( ICFSecISOLang src ) {
 		setISOLang( src );
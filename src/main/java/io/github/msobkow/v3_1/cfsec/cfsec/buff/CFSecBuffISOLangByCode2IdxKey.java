@@ -54,6 +54,8 @@ public class CFSecBuffISOLangByCode2IdxKey
 	implements ICFSecISOLangByCode2IdxKey, Comparable<Object>, Serializable
 {
 	protected String optionalISO6391Code;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffISOLangByCode2IdxKey() {
 		optionalISO6391Code = null;
 	}
@@ -74,6 +76,7 @@ public class CFSecBuffISOLangByCode2IdxKey
 				2 );
 		}
 		optionalISO6391Code = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -126,11 +129,14 @@ public class CFSecBuffISOLangByCode2IdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		if( getOptionalISO6391Code() != null ) {
-			hashCode = hashCode + getOptionalISO6391Code().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getOptionalISO6391Code() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
@@ -54,6 +54,8 @@ public class CFSecBuffISOLangByCode3IdxKey
 	implements ICFSecISOLangByCode3IdxKey, Comparable<Object>, Serializable
 {
 	protected String requiredISO6392Code;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffISOLangByCode3IdxKey() {
 		requiredISO6392Code = ICFSecISOLang.ISO6392CODE_INIT_VALUE;
 	}
@@ -80,6 +82,7 @@ public class CFSecBuffISOLangByCode3IdxKey
 				3 );
 		}
 		requiredISO6392Code = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -132,11 +135,14 @@ public class CFSecBuffISOLangByCode3IdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		if( getRequiredISO6392Code() != null ) {
-			hashCode = hashCode + getRequiredISO6392Code().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredISO6392Code() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
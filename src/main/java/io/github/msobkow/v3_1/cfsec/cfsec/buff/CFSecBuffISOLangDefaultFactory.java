@@ -54,13 +54,120 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffISOLangDefaultFactory
 	implements ICFSecISOLangFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffISOLangByCode3IdxKey> probeByCode3IdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffISOLangByCode3IdxKey() );
+	protected static final ThreadLocal<CFSecBuffISOLangByCode2IdxKey> probeByCode2IdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffISOLangByCode2IdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders ISOLang instances by primary key.
+	 */
+	public static final Comparator<ICFSecISOLang> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( Short.compare( lhs.getRequiredISOLangId(), rhs.getRequiredISOLangId() ) );
+	};
+
+	/**
+	 *	Orders ISOLang history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecISOLangHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = Short.compare( lhs.getRequiredISOLangId(), rhs.getRequiredISOLangId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders ISOLang instances by the Code3Idx columns.
+	 */
+	public static final Comparator<ICFSecISOLang> COMPARE_BY_CODE3IDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredISO6392Code().compareTo( rhs.getRequiredISO6392Code() ) );
+	};
+
+	/**
+	 *	Orders Code3Idx keys.
+	 */
+	public static final Comparator<ICFSecISOLangByCode3IdxKey> COMPARE_CODE3IDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredISO6392Code().compareTo( rhs.getRequiredISO6392Code() ) );
+	};
+
+	/**
+	 *	Orders ISOLang instances by the Code2Idx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecISOLang> COMPARE_BY_CODE2IDX = ( lhs, rhs ) -> {
+		int cmp;
+		if( lhs.getOptionalISO6391Code() == null ) {
+			if( rhs.getOptionalISO6391Code() != null ) {
+				return( -1 );
+			}
+		}
+		else if( rhs.getOptionalISO6391Code() == null ) {
+			return( 1 );
+		}
+		else {
+			cmp = lhs.getOptionalISO6391Code().compareTo( rhs.getOptionalISO6391Code() );
+			if( cmp != 0 ) {
+				return( cmp );
+			}
+		}
+		return( 0 );
+	};
+
+	/**
+	 *	Orders Code2Idx keys.
+	 */
+	public static final Comparator<ICFSecISOLangByCode2IdxKey> COMPARE_CODE2IDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		if( lhs.getOptionalISO6391Code() == null ) {
+			if( rhs.getOptionalISO6391Code() != null ) {
+				return( -1 );
+			}
+		}
+		else if( rhs.getOptionalISO6391Code() == null ) {
+			return( 1 );
+		}
+		else {
+			cmp = lhs.getOptionalISO6391Code().compareTo( rhs.getOptionalISO6391Code() );
+			if( cmp != 0 ) {
+				return( cmp );
+			}
+		}
+		return( 0 );
+	};
+
 	public CFSecBuffISOLangDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
 	@Override
 	public ICFSecISOLangHPKey newHPKey() {
 		ICFSecISOLangHPKey hpkey =
-			new CFSecBuffISOLangHPKey();
+			new CFSecBuffISOLangHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -72,7 +179,7 @@ public class CFSecBuffISOLangDefaultFactory
 			return( (CFSecBuffISOLangHPKey)key );
 		}
 		else {
-			CFSecBuffISOLangHPKey mapped = new CFSecBuffISOLangHPKey();
+			CFSecBuffISOLangHPKey mapped = new CFSecBuffISOLangHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -103,6 +210,10 @@ public class CFSecBuffISOLangDefaultFactory
 		}
 	}
 
+	public static CFSecBuffISOLangByCode3IdxKey getProbeByCode3IdxKey() {
+		return( probeByCode3IdxKey.get() );
+	}
+
 	@Override
 	public ICFSecISOLangByCode2IdxKey newByCode2IdxKey() {
 		ICFSecISOLangByCode2IdxKey key =
@@ -124,10 +235,14 @@ public class CFSecBuffISOLangDefaultFactory
 		}
 	}
 
+	public static CFSecBuffISOLangByCode2IdxKey getProbeByCode2IdxKey() {
+		return( probeByCode2IdxKey.get() );
+	}
+
 	@Override
 	public ICFSecISOLang newRec() {
 		ICFSecISOLang rec =
-			new CFSecBuffISOLang();
+			new CFSecBuffISOLang( recStamp );
 		return( rec );
 	}
 
@@ -139,16 +254,56 @@ public class CFSecBuffISOLangDefaultFactory
 			return( (CFSecBuffISOLang)rec );
 		}
 		else {
-			CFSecBuffISOLang mapped = new CFSecBuffISOLang();
+			CFSecBuffISOLang mapped = new CFSecBuffISOLang( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffISOLang cloneRec( ICFSecISOLang rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffISOLang ) {
+			return( ( (CFSecBuffISOLang)rec ).clone() );
+		}
+		else {
+			CFSecBuffISOLang mapped = new CFSecBuffISOLang( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffISOLang[] cloneRecs( ICFSecISOLang[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffISOLang[] retList = new CFSecBuffISOLang[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecISOLangH newHRec() {
 		ICFSecISOLangH hrec =
-			new CFSecBuffISOLangH();
+			new CFSecBuffISOLangH( recStamp );
 		return( hrec );
 	}
 
@@ -160,9 +315,49 @@ public class CFSecBuffISOLangDefaultFactory
 			return( (CFSecBuffISOLangH)hrec );
 		}
 		else {
-			CFSecBuffISOLangH mapped = new CFSecBuffISOLangH();
+			CFSecBuffISOLangH mapped = new CFSecBuffISOLangH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffISOLangH cloneHRec( ICFSecISOLangH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffISOLangH ) {
+			return( ( (CFSecBuffISOLangH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffISOLangH mapped = new CFSecBuffISOLangH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffISOLangH[] cloneHRecs( ICFSecISOLangH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffISOLangH[] retList = new CFSecBuffISOLangH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
@@ -51,23 +51,52 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffISOLangH
-    implements ICFSecISOLangH, Comparable<Object>, Serializable
+    implements ICFSecISOLangH, Comparable<Object>, Serializable, Cloneable
 {
     protected CFSecBuffISOLangHPKey pkey;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOLang.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOLang.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
 	protected String requiredISO6392Code;
 	protected String optionalISO6391Code;
 	protected String requiredEnglishName;
 
+    protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOLang.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOLang.S_INIT_UPDATED_BY);
+
     public CFSecBuffISOLangH() {
+		this( CFSecBuffRecStamp.EAGER );
+    }
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+    public CFSecBuffISOLangH( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffISOLangH", 1, "stamp" );
+		}
             // The primary key member attributes are initialized on construction
-            pkey = new CFSecBuffISOLangHPKey();
+            pkey = new CFSecBuffISOLangHPKey( stamp );
 		requiredISO6392Code = ICFSecISOLang.ISO6392CODE_INIT_VALUE;
 		optionalISO6391Code = null;
 		requiredEnglishName = ICFSecISOLang.ENGLISHNAME_INIT_VALUE;
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
     }
 
     @Override
@@ -86,10 +115,15 @@ public class CFSecBuffISOLangH
             throw new CFLibNullArgumentException(getClass(), "setCreatedByUserId", 1, "value");
         }
         createdByUserId = value;
+        cachedHashCode = 0;
     }
 
     @Override
     public LocalDateTime getCreatedAt() {
+        if( pendingCreatedAt != null ) {
+            createdAt = pendingCreatedAt.now();
+            pendingCreatedAt = null;
+        }
         return( createdAt );
     }
 
@@ -99,6 +133,8 @@ public class CFSecBuffISOLangH
             throw new CFLibNullArgumentException(getClass(), "setCreatedAt", 1, "value");
         }
         createdAt = value;
+        pendingCreatedAt = null;
+        cachedHashCode = 0;
     }
 
     @Override
@@ -112,10 +148,15 @@ public class CFSecBuffISOLangH
             throw new CFLibNullArgumentException(getClass(), "setUpdatedByUserId", 1, "value");
         }
         updatedByUserId = value;
+        cachedHashCode = 0;
     }
 
     @Override
     public LocalDateTime getUpdatedAt() {
+        if( pendingUpdatedAt != null ) {
+            updatedAt = pendingUpdatedAt.now();
+            pendingUpdatedAt = null;
+        }
         return( updatedAt );
     }
 
@@ -125,6 +166,8 @@ public class CFSecBuffISOLangH
             throw new CFLibNullArgumentException(getClass(), "setUpdatedAt", 1, "value");
         }
         updatedAt = value;
+        pendingUpdatedAt = null;
+        cachedHashCode = 0;
     }
 
     @Override
@@ -142,6 +185,7 @@ public class CFSecBuffISOLangH
                 throw new CFLibUnsupportedClassException(getClass(), "setPKey", "pkey", pkey, "CFSecBuffISOLangHPKey");
             }
         }
+        cachedHashCode = 0;
     }
 
     @Override
@@ -226,6 +270,7 @@ public class CFSecBuffISOLangH
 				3 );
 		}
 		requiredISO6392Code = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -244,6 +289,7 @@ public class CFSecBuffISOLangH
 				2 );
 		}
 		optionalISO6391Code = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -268,6 +314,7 @@ public class CFSecBuffISOLangH
 				64 );
 		}
 		requiredEnglishName = value;
+		cachedHashCode = 0;
 	}
 
     @Override
@@ -453,17 +500,16 @@ public class CFSecBuffISOLangH
     
     @Override
     public int hashCode() {
-        int hashCode = pkey.hashCode();
-		if( getRequiredISO6392Code() != null ) {
-			hashCode = hashCode + getRequiredISO6392Code().hashCode();
-		}
-		if( getOptionalISO6391Code() != null ) {
-			hashCode = hashCode + getOptionalISO6391Code().hashCode();
-		}
-		if( getRequiredEnglishName() != null ) {
-			hashCode = hashCode + getRequiredEnglishName().hashCode();
-		}
-        return( hashCode & 0x7fffffff );
+        int hashCode = cachedHashCode;
+        if( hashCode == 0 ) {
+            hashCode = CFSecBuffHash.SEED;
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredISO6392Code() );
+            hashCode = CFSecBuffHash.mix( hashCode, getOptionalISO6391Code() );
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredEnglishName() );
+            cachedHashCode = hashCode;
+        }
+        hashCode = CFSecBuffHash.mix( hashCode, pkey.hashCode() );
+        return( CFSecBuffHash.finish( hashCode, 4 ) );
     }
 
     @Override
@@ -654,6 +700,46 @@ public class CFSecBuffISOLangH
                 null );
         }
     }
+
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+    protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+    }
+
+    private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+    }
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+    public CFSecBuffISOLangH clone() {
+		resolvePendingStamps();
+		CFSecBuffISOLangH copy;
+		try {
+			copy = (CFSecBuffISOLangH)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.pkey = pkey.clone();
+		return( copy );
+    }
+
 	@Override
     public void set( ICFSecISOLang src ) {
 		setISOLang( src );
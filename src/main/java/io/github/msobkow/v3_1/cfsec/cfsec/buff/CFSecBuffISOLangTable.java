@@ -0,0 +1,548 @@
+// Description: Java 25 in-memory concurrent implementation of a ISOLang table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffISOLangTable in-memory implementation of ICFSecISOLangTable for ISOLang.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ */
+public class CFSecBuffISOLangTable
+	implements ICFSecISOLangTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<Short, CFSecBuffISOLang> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffISOLangByCode3IdxKey, CFSecBuffISOLang> dictByCode3Idx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffISOLangByCode2IdxKey, ConcurrentHashMap<Short, CFSecBuffISOLang>> dictByCode2Idx
+		= new ConcurrentHashMap<>();
+
+	public CFSecBuffISOLangTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Copy the attributes of a ISOLang by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffISOLang holding the same attribute values.
+	 */
+	protected CFSecBuffISOLang copyRec( ICFSecISOLang src ) {
+		if( src instanceof CFSecBuffISOLang ) {
+			return( ( (CFSecBuffISOLang)src ).clone() );
+		}
+		CFSecBuffISOLang rec = new CFSecBuffISOLang( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredISOLangId( src.getRequiredISOLangId() );
+		rec.setRequiredISO6392Code( src.getRequiredISO6392Code() );
+		rec.setOptionalISO6391Code( src.getOptionalISO6391Code() );
+		rec.setRequiredEnglishName( src.getRequiredEnglishName() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecISOLang[] copyRecs( Collection<CFSecBuffISOLang> src ) {
+		ICFSecISOLang[] retList = new ICFSecISOLang[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffISOLang cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected Short pkeyOf( ICFSecISOLang rec ) {
+		return( rec.getRequiredISOLangId() );
+	}
+
+	protected CFSecBuffISOLangByCode3IdxKey newByCode3IdxKey( String argISO6392Code ) {
+		CFSecBuffISOLangByCode3IdxKey key = new CFSecBuffISOLangByCode3IdxKey();
+		key.setRequiredISO6392Code( argISO6392Code );
+		return( key );
+	}
+
+	protected CFSecBuffISOLangByCode3IdxKey newByCode3IdxKey( ICFSecISOLang rec ) {
+		return( newByCode3IdxKey( rec.getRequiredISO6392Code() ) );
+	}
+
+	protected CFSecBuffISOLangByCode3IdxKey probeByCode3IdxKey( String argISO6392Code ) {
+		CFSecBuffISOLangByCode3IdxKey key = CFSecBuffISOLangDefaultFactory.getProbeByCode3IdxKey();
+		key.setRequiredISO6392Code( argISO6392Code );
+		return( key );
+	}
+
+	protected CFSecBuffISOLangByCode2IdxKey newByCode2IdxKey( String argISO6391Code ) {
+		CFSecBuffISOLangByCode2IdxKey key = new CFSecBuffISOLangByCode2IdxKey();
+		key.setOptionalISO6391Code( argISO6391Code );
+		return( key );
+	}
+
+	protected CFSecBuffISOLangByCode2IdxKey newByCode2IdxKey( ICFSecISOLang rec ) {
+		return( newByCode2IdxKey( rec.getOptionalISO6391Code() ) );
+	}
+
+	protected CFSecBuffISOLangByCode2IdxKey probeByCode2IdxKey( String argISO6391Code ) {
+		CFSecBuffISOLangByCode2IdxKey key = CFSecBuffISOLangDefaultFactory.getProbeByCode2IdxKey();
+		key.setOptionalISO6391Code( argISO6391Code );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffISOLang rec ) {
+		Short pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByCode3Idx.put( newByCode3IdxKey( rec ), rec );
+		dictByCode2Idx.computeIfAbsent( newByCode2IdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+	}
+
+	protected void unindexRec( CFSecBuffISOLang rec ) {
+		Short pkey = pkeyOf( rec );
+		dictByCode3Idx.remove( newByCode3IdxKey( rec ), rec );
+		removeFromDupIndex( dictByCode2Idx, newByCode2IdxKey( rec ), pkey );
+		dictByPKey.remove( pkey, rec );
+	}
+
+	protected void reindexRec( CFSecBuffISOLang existing, CFSecBuffISOLang rec ) {
+		Short pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffISOLangByCode3IdxKey oldKey = newByCode3IdxKey( existing );
+			CFSecBuffISOLangByCode3IdxKey newKey = newByCode3IdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByCode3Idx.remove( oldKey, existing );
+			}
+			dictByCode3Idx.put( newKey, rec );
+		}
+		{
+			CFSecBuffISOLangByCode2IdxKey oldKey = newByCode2IdxKey( existing );
+			CFSecBuffISOLangByCode2IdxKey newKey = newByCode2IdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByCode2Idx, oldKey, pkey );
+			}
+			dictByCode2Idx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+	}
+
+	protected static <K> void removeFromDupIndex( ConcurrentHashMap<K, ConcurrentHashMap<Short, CFSecBuffISOLang>> dict, K key, Short pkey ) {
+		ConcurrentHashMap<Short, CFSecBuffISOLang> subdict = dict.get( key );
+		if( subdict != null ) {
+			subdict.remove( pkey );
+			if( subdict.isEmpty() ) {
+				dict.remove( key, subdict );
+			}
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffISOLang rec, CFSecBuffISOLang existing ) {
+		{
+			CFSecBuffISOLangByCode3IdxKey key = newByCode3IdxKey( rec );
+			CFSecBuffISOLang conflict = dictByCode3Idx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"ISOLangCode3Idx",
+					key );
+			}
+		}
+	}
+
+	@Override
+	public ICFSecISOLang createISOLang( ICFSecAuthorization Authorization,
+		ICFSecISOLang rec )
+	{
+		final String S_ProcName = "createISOLang";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffISOLang stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		Short pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecISOLang readDerived( ICFSecAuthorization Authorization,
+		short PKey )
+	{
+		CFSecBuffISOLang rec = dictByPKey.get( PKey );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOLang lockDerived( ICFSecAuthorization Authorization,
+		short PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOLang[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecISOLang readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		short argISOLangId )
+	{
+		CFSecBuffISOLang rec = dictByPKey.get( argISOLangId );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOLang readDerivedByCode3Idx( ICFSecAuthorization Authorization,
+		String argISO6392Code )
+	{
+		CFSecBuffISOLang rec = dictByCode3Idx.get( probeByCode3IdxKey( argISO6392Code ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOLang[] readDerivedByCode2Idx( ICFSecAuthorization Authorization,
+		String argISO6391Code )
+	{
+		ConcurrentHashMap<Short, CFSecBuffISOLang> subdict = dictByCode2Idx.get( probeByCode2IdxKey( argISO6391Code ) );
+		if( subdict == null ) {
+			return( new ICFSecISOLang[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the ISOLang instances for several Code2Idx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argISO6391Codes	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<String, ICFSecISOLang[]> readDerivedByCode2IdxBatch( ICFSecAuthorization Authorization,
+		Collection<String> argISO6391Codes )
+	{
+		Map<String, ICFSecISOLang[]> retMap = new HashMap<>( Math.max( 16, argISO6391Codes.size() * 2 ) );
+		for( String argISO6391Code : argISO6391Codes ) {
+			if( ( argISO6391Code == null ) || retMap.containsKey( argISO6391Code ) ) {
+				continue;
+			}
+			ConcurrentHashMap<Short, CFSecBuffISOLang> subdict = dictByCode2Idx.get( probeByCode2IdxKey( argISO6391Code ) );
+			if( subdict == null ) {
+				retMap.put( argISO6391Code, new ICFSecISOLang[0] );
+			}
+			else {
+				retMap.put( argISO6391Code, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecISOLang readRec( ICFSecAuthorization Authorization,
+		short PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOLang lockRec( ICFSecAuthorization Authorization,
+		short PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOLang[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecISOLang readRecByIdIdx( ICFSecAuthorization Authorization,
+		short argISOLangId )
+	{
+		return( readDerivedByIdIdx( Authorization, argISOLangId ) );
+	}
+
+	@Override
+	public ICFSecISOLang readRecByCode3Idx( ICFSecAuthorization Authorization,
+		String argISO6392Code )
+	{
+		return( readDerivedByCode3Idx( Authorization, argISO6392Code ) );
+	}
+
+	@Override
+	public ICFSecISOLang[] readRecByCode2Idx( ICFSecAuthorization Authorization,
+		String argISO6391Code )
+	{
+		return( readDerivedByCode2Idx( Authorization, argISO6391Code ) );
+	}
+
+	@Override
+	public ICFSecISOLang updateISOLang( ICFSecAuthorization Authorization,
+		ICFSecISOLang rec )
+	{
+		final String S_ProcName = "updateISOLang";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffISOLang stored = copyRec( rec );
+		Short pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffISOLang existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"ISOLang",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteISOLang( ICFSecAuthorization Authorization,
+		ICFSecISOLang rec )
+	{
+		final String S_ProcName = "deleteISOLang";
+		if( rec == null ) {
+			return;
+		}
+		Short pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffISOLang existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffISOLang existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored ISOLang under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffISOLang> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffISOLang> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffISOLang rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a ISOLang exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffISOLang rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffISOLang stored = copyRec( rec );
+		Short pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteISOLangByIdIdx( ICFSecAuthorization Authorization,
+		short argISOLangId )
+	{
+		deleteStored( dictByPKey.get( argISOLangId ) );
+	}
+
+	@Override
+	public void deleteISOLangByCode3Idx( ICFSecAuthorization Authorization,
+		String argISO6392Code )
+	{
+		deleteStored( dictByCode3Idx.get( probeByCode3IdxKey( argISO6392Code ) ) );
+	}
+
+	@Override
+	public void deleteISOLangByCode3Idx( ICFSecAuthorization Authorization,
+		ICFSecISOLangByCode3IdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteISOLangByCode3Idx( Authorization, argKey.getRequiredISO6392Code() );
+	}
+
+	@Override
+	public void deleteISOLangByCode2Idx( ICFSecAuthorization Authorization,
+		String argISO6391Code )
+	{
+		ConcurrentHashMap<Short, CFSecBuffISOLang> subdict = dictByCode2Idx.get( probeByCode2IdxKey( argISO6391Code ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffISOLang existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteISOLangByCode2Idx( ICFSecAuthorization Authorization,
+		ICFSecISOLangByCode2IdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteISOLangByCode2Idx( Authorization, argKey.getOptionalISO6391Code() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
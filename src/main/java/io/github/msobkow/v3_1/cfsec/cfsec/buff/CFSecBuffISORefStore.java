@@ -0,0 +1,799 @@
+// Description: Java 25 immutable ISO reference data store for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.time.*;
+import java.util.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffISORefStore is a read-only image of the ISOCcy, ISOCtry, ISOLang and
+ *	ISOTZone tables, built for the lookups every formatted amount and localised
+ *	response makes.  The ISOCtryCcy and ISOCtryLang joins are held as packed
+ *	CFSecBuffShortAdjacency arrays, so the currencies or languages of a country
+ *	are a slice of short ids rather than a table read.
+ *
+ *	Each row is copied into an immutable record.  The records are held in dense
+ *	arrays indexed directly by short id less the smallest id, so a primary key
+ *	lookup is a subtraction and an array load.  The currency, country and
+ *	language code indexes are minimal perfect hashes (CFSecBuffCodeHash) that
+ *	take any CharSequence.  The remaining unique indexes are frozen hash maps,
+ *	the non-unique ones map to immutable lists, and the ISOTZone offset index
+ *	is a dense array over (hour, minute) pairs.  Zones also carry their
+ *	ZoneOffset and ZoneId, and a sorted primitive index over total offset
+ *	seconds answers offset range queries and fixed-offset conversions.
+ *
+ *	A store never changes after it is built.  It records the modification counts
+ *	of the tables it was loaded from, and isCurrent() tells a holder when a
+ *	table has changed and the store should be reloaded.
+ */
+public final class CFSecBuffISORefStore
+{
+	/*
+	 *	An immutable ISOCcy row.
+	 */
+	public static final class Ccy {
+		protected final short isoCcyId;
+		protected final String isoCode;
+		protected final String name;
+		protected final String unitSymbol;
+		protected final short precis;
+
+		protected Ccy( ICFSecISOCcy rec ) {
+			isoCcyId = rec.getRequiredISOCcyId();
+			isoCode = rec.getRequiredISOCode();
+			name = rec.getRequiredName();
+			unitSymbol = rec.getOptionalUnitSymbol();
+			precis = rec.getRequiredPrecis();
+		}
+
+		public short getRequiredISOCcyId() {
+			return( isoCcyId );
+		}
+
+		public String getRequiredISOCode() {
+			return( isoCode );
+		}
+
+		public String getRequiredName() {
+			return( name );
+		}
+
+		public String getOptionalUnitSymbol() {
+			return( unitSymbol );
+		}
+
+		public short getRequiredPrecis() {
+			return( precis );
+		}
+	}
+
+	/*
+	 *	An immutable ISOCtry row.
+	 */
+	public static final class Ctry {
+		protected final short isoCtryId;
+		protected final String isoCode;
+		protected final String name;
+
+		protected Ctry( ICFSecISOCtry rec ) {
+			isoCtryId = rec.getRequiredISOCtryId();
+			isoCode = rec.getRequiredISOCode();
+			name = rec.getRequiredName();
+		}
+
+		public short getRequiredISOCtryId() {
+			return( isoCtryId );
+		}
+
+		public String getRequiredISOCode() {
+			return( isoCode );
+		}
+
+		public String getRequiredName() {
+			return( name );
+		}
+	}
+
+	/*
+	 *	An immutable ISOLang row.
+	 */
+	public static final class Lang {
+		protected final short isoLangId;
+		protected final String iso6392Code;
+		protected final String iso6391Code;
+		protected final String englishName;
+
+		protected Lang( ICFSecISOLang rec ) {
+			isoLangId = rec.getRequiredISOLangId();
+			iso6392Code = rec.getRequiredISO6392Code();
+			iso6391Code = rec.getOptionalISO6391Code();
+			englishName = rec.getRequiredEnglishName();
+		}
+
+		public short getRequiredISOLangId() {
+			return( isoLangId );
+		}
+
+		public String getRequiredISO6392Code() {
+			return( iso6392Code );
+		}
+
+		public String getOptionalISO6391Code() {
+			return( iso6391Code );
+		}
+
+		public String getRequiredEnglishName() {
+			return( englishName );
+		}
+	}
+
+	/*
+	 *	An immutable ISOTZone row.
+	 */
+	public static final class TZone {
+		protected final short isoTZoneId;
+		protected final String iso8601;
+		protected final String tzName;
+		protected final short tzHourOffset;
+		protected final short tzMinOffset;
+		protected final String description;
+		protected final boolean visible;
+		protected final int totalOffsetSeconds;
+		protected final ZoneOffset zoneOffset;
+		protected final ZoneId zoneId;
+
+		protected TZone( ICFSecISOTZone rec ) {
+			isoTZoneId = rec.getRequiredISOTZoneId();
+			iso8601 = rec.getRequiredIso8601();
+			tzName = rec.getRequiredTZName();
+			tzHourOffset = rec.getRequiredTZHourOffset();
+			tzMinOffset = rec.getRequiredTZMinOffset();
+			description = rec.getRequiredDescription();
+			visible = rec.getRequiredVisible();
+			totalOffsetSeconds = CFSecBuffISOTZone.toTotalOffsetSeconds( tzHourOffset, tzMinOffset );
+			zoneOffset = ZoneOffset.ofTotalSeconds( totalOffsetSeconds );
+			zoneId = CFSecBuffISOTZone.toZoneId( tzName, zoneOffset );
+		}
+
+		public short getRequiredISOTZoneId() {
+			return( isoTZoneId );
+		}
+
+		public String getRequiredIso8601() {
+			return( iso8601 );
+		}
+
+		public String getRequiredTZName() {
+			return( tzName );
+		}
+
+		public short getRequiredTZHourOffset() {
+			return( tzHourOffset );
+		}
+
+		public short getRequiredTZMinOffset() {
+			return( tzMinOffset );
+		}
+
+		public String getRequiredDescription() {
+			return( description );
+		}
+
+		public boolean getRequiredVisible() {
+			return( visible );
+		}
+
+		public int getTotalOffsetSeconds() {
+			return( totalOffsetSeconds );
+		}
+
+		public ZoneOffset getZoneOffset() {
+			return( zoneOffset );
+		}
+
+		/**
+		 *	Get the region id named by TZName, or the fixed offset if the name
+		 *	is not a known region.
+		 */
+		public ZoneId getZoneId() {
+			return( zoneId );
+		}
+	}
+
+	/*
+	 *	The offset index covers hours [-32, 31] and minutes [-64, 63] densely.
+	 *	Rows outside that range fall back to a map.
+	 */
+	protected static final int OFFSET_HOUR_BIAS = 32;
+	protected static final int OFFSET_MIN_BIAS = 64;
+	protected static final int OFFSET_MIN_SPAN = 128;
+	protected static final int OFFSET_SLOTS = 64 * OFFSET_MIN_SPAN;
+
+	protected final long isoCcyVersion;
+	protected final long isoCtryVersion;
+	protected final long isoLangVersion;
+	protected final long isoTZoneVersion;
+	protected final long isoCtryCcyVersion;
+	protected final long isoCtryLangVersion;
+
+	protected final short ccyMinId;
+	protected final Ccy[] ccyById;
+	protected final List<Ccy> ccys;
+	protected final CFSecBuffCodeHash<Ccy> ccyByCcyCdIdx;
+	protected final Map<String, Ccy> ccyByCcyNmIdx;
+
+	protected final short ctryMinId;
+	protected final Ctry[] ctryById;
+	protected final List<Ctry> ctrys;
+	protected final CFSecBuffCodeHash<Ctry> ctryByISOCodeIdx;
+	protected final Map<String, Ctry> ctryByNameIdx;
+
+	protected final short langMinId;
+	protected final Lang[] langById;
+	protected final List<Lang> langs;
+	protected final CFSecBuffCodeHash<Lang> langByCode3Idx;
+	protected final CFSecBuffCodeHash<List<Lang>> langByCode2Idx;
+
+	protected final short tzoneMinId;
+	protected final TZone[] tzoneById;
+	protected final List<TZone> tzones;
+	protected final Map<String, TZone> tzoneByUTZNameIdx;
+	protected final Map<String, List<TZone>> tzoneByIso8601Idx;
+	protected final List<TZone>[] tzoneByOffsetIdx;
+	protected final Map<Integer, List<TZone>> tzoneByOffsetOverflow;
+	protected final int[] tzoneOffsetSecondsById;
+	protected final int[] offsetSortedSeconds;
+	protected final short[] offsetSortedIds;
+
+	protected final CFSecBuffShortAdjacency ctryCcy;
+	protected final CFSecBuffShortAdjacency ctryLang;
+
+	protected CFSecBuffISORefStore( long[] versions,
+		Ccy[] ccyRows,
+		Ctry[] ctryRows,
+		Lang[] langRows,
+		TZone[] tzoneRows,
+		CFSecBuffShortAdjacency ctryCcy,
+		CFSecBuffShortAdjacency ctryLang )
+	{
+		isoCcyVersion = versions[0];
+		isoCtryVersion = versions[1];
+		isoLangVersion = versions[2];
+		isoTZoneVersion = versions[3];
+		isoCtryCcyVersion = versions[4];
+		isoCtryLangVersion = versions[5];
+		this.ctryCcy = ctryCcy;
+		this.ctryLang = ctryLang;
+
+		Arrays.sort( ccyRows, ( lhs, rhs ) -> Short.compare( lhs.isoCcyId, rhs.isoCcyId ) );
+		ccyMinId = ( ccyRows.length > 0 ) ? ccyRows[0].isoCcyId : 0;
+		ccyById = new Ccy[( ccyRows.length > 0 ) ? ( ccyRows[ccyRows.length - 1].isoCcyId - ccyMinId + 1 ) : 0];
+		HashMap<String, Ccy> byCcyCd = new HashMap<>( ccyRows.length * 2 );
+		HashMap<String, Ccy> byCcyNm = new HashMap<>( ccyRows.length * 2 );
+		for( Ccy row : ccyRows ) {
+			ccyById[row.isoCcyId - ccyMinId] = row;
+			byCcyCd.put( row.isoCode, row );
+			byCcyNm.put( row.name, row );
+		}
+		ccys = List.of( ccyRows );
+		ccyByCcyCdIdx = CFSecBuffCodeHash.build( byCcyCd );
+		ccyByCcyNmIdx = Collections.unmodifiableMap( byCcyNm );
+
+		Arrays.sort( ctryRows, ( lhs, rhs ) -> Short.compare( lhs.isoCtryId, rhs.isoCtryId ) );
+		ctryMinId = ( ctryRows.length > 0 ) ? ctryRows[0].isoCtryId : 0;
+		ctryById = new Ctry[( ctryRows.length > 0 ) ? ( ctryRows[ctryRows.length - 1].isoCtryId - ctryMinId + 1 ) : 0];
+		HashMap<String, Ctry> byISOCode = new HashMap<>( ctryRows.length * 2 );
+		HashMap<String, Ctry> byName = new HashMap<>( ctryRows.length * 2 );
+		for( Ctry row : ctryRows ) {
+			ctryById[row.isoCtryId - ctryMinId] = row;
+			byISOCode.put( row.isoCode, row );
+			byName.put( row.name, row );
+		}
+		ctrys = List.of( ctryRows );
+		ctryByISOCodeIdx = CFSecBuffCodeHash.build( byISOCode );
+		ctryByNameIdx = Collections.unmodifiableMap( byName );
+
+		Arrays.sort( langRows, ( lhs, rhs ) -> Short.compare( lhs.isoLangId, rhs.isoLangId ) );
+		langMinId = ( langRows.length > 0 ) ? langRows[0].isoLangId : 0;
+		langById = new Lang[( langRows.length > 0 ) ? ( langRows[langRows.length - 1].isoLangId - langMinId + 1 ) : 0];
+		HashMap<String, Lang> byCode3 = new HashMap<>( langRows.length * 2 );
+		HashMap<String, List<Lang>> byCode2 = new HashMap<>();
+		for( Lang row : langRows ) {
+			langById[row.isoLangId - langMinId] = row;
+			byCode3.put( row.iso6392Code, row );
+			if( row.iso6391Code != null ) {
+				byCode2.computeIfAbsent( row.iso6391Code, k -> new ArrayList<>( 1 ) ).add( row );
+			}
+		}
+		langs = List.of( langRows );
+		langByCode3Idx = CFSecBuffCodeHash.build( byCode3 );
+		langByCode2Idx = CFSecBuffCodeHash.build( freeze( byCode2 ) );
+
+		Arrays.sort( tzoneRows, ( lhs, rhs ) -> Short.compare( lhs.isoTZoneId, rhs.isoTZoneId ) );
+		tzoneMinId = ( tzoneRows.length > 0 ) ? tzoneRows[0].isoTZoneId : 0;
+		tzoneById = new TZone[( tzoneRows.length > 0 ) ? ( tzoneRows[tzoneRows.length - 1].isoTZoneId - tzoneMinId + 1 ) : 0];
+		HashMap<String, TZone> byUTZName = new HashMap<>( tzoneRows.length * 2 );
+		HashMap<String, List<TZone>> byIso8601 = new HashMap<>();
+		HashMap<Integer, List<TZone>> byOffset = new HashMap<>();
+		for( TZone row : tzoneRows ) {
+			tzoneById[row.isoTZoneId - tzoneMinId] = row;
+			byUTZName.put( row.tzName, row );
+			byIso8601.computeIfAbsent( row.iso8601, k -> new ArrayList<>( 1 ) ).add( row );
+			byOffset.computeIfAbsent( offsetKey( row.tzHourOffset, row.tzMinOffset ), k -> new ArrayList<>( 1 ) ).add( row );
+		}
+		tzones = List.of( tzoneRows );
+		tzoneByUTZNameIdx = Collections.unmodifiableMap( byUTZName );
+		tzoneByIso8601Idx = Collections.unmodifiableMap( freeze( byIso8601 ) );
+		@SuppressWarnings( "unchecked" )
+		List<TZone>[] byOffsetSlot = (List<TZone>[])new List<?>[OFFSET_SLOTS];
+		tzoneByOffsetIdx = byOffsetSlot;
+		HashMap<Integer, List<TZone>> overflow = new HashMap<>();
+		for( Map.Entry<Integer, List<TZone>> entry : byOffset.entrySet() ) {
+			List<TZone> rows = List.copyOf( entry.getValue() );
+			int slot = offsetSlot( rows.get( 0 ).tzHourOffset, rows.get( 0 ).tzMinOffset );
+			if( slot >= 0 ) {
+				tzoneByOffsetIdx[slot] = rows;
+			}
+			else {
+				overflow.put( entry.getKey(), rows );
+			}
+		}
+		tzoneByOffsetOverflow = Collections.unmodifiableMap( overflow );
+		tzoneOffsetSecondsById = new int[tzoneById.length];
+		for( TZone row : tzoneRows ) {
+			tzoneOffsetSecondsById[row.isoTZoneId - tzoneMinId] = row.totalOffsetSeconds;
+		}
+		TZone[] byOffsetOrder = tzoneRows.clone();
+		Arrays.sort( byOffsetOrder, ( lhs, rhs ) -> ( lhs.totalOffsetSeconds != rhs.totalOffsetSeconds )
+			? Integer.compare( lhs.totalOffsetSeconds, rhs.totalOffsetSeconds )
+			: Short.compare( lhs.isoTZoneId, rhs.isoTZoneId ) );
+		offsetSortedSeconds = new int[byOffsetOrder.length];
+		offsetSortedIds = new short[byOffsetOrder.length];
+		for( int idx = 0; idx < byOffsetOrder.length; idx++ ) {
+			offsetSortedSeconds[idx] = byOffsetOrder[idx].totalOffsetSeconds;
+			offsetSortedIds[idx] = byOffsetOrder[idx].isoTZoneId;
+		}
+	}
+
+	protected static <T> Map<String, List<T>> freeze( Map<String, List<T>> src ) {
+		HashMap<String, List<T>> frozen = new HashMap<>( src.size() * 2 );
+		for( Map.Entry<String, List<T>> entry : src.entrySet() ) {
+			frozen.put( entry.getKey(), List.copyOf( entry.getValue() ) );
+		}
+		return( frozen );
+	}
+
+	protected static int offsetKey( int hour, int min ) {
+		return( ( hour << 16 ) | ( min & 0xffff ) );
+	}
+
+	protected static int offsetSlot( int hour, int min ) {
+		int h = hour + OFFSET_HOUR_BIAS;
+		int m = min + OFFSET_MIN_BIAS;
+		if( ( h < 0 ) || ( h >= OFFSET_SLOTS / OFFSET_MIN_SPAN ) || ( m < 0 ) || ( m >= OFFSET_MIN_SPAN ) ) {
+			return( -1 );
+		}
+		return( h * OFFSET_MIN_SPAN + m );
+	}
+
+	/**
+	 *	Load a store from the buffer tables.  Each table is copied under its own
+	 *	write lock, so each part is a consistent snapshot of its table.
+	 *
+	 *	@param	isoCcyTable	The ISOCcy table.
+	 *	@param	isoCtryTable	The ISOCtry table.
+	 *	@param	isoLangTable	The ISOLang table.
+	 *	@param	isoTZoneTable	The ISOTZone table.
+	 *	@param	isoCtryCcyTable	The ISOCtryCcy join table.
+	 *	@param	isoCtryLangTable	The ISOCtryLang join table.
+	 *	@return	The loaded store.
+	 */
+	public static CFSecBuffISORefStore load( CFSecBuffISOCcyTable isoCcyTable,
+		CFSecBuffISOCtryTable isoCtryTable,
+		CFSecBuffISOLangTable isoLangTable,
+		CFSecBuffISOTZoneTable isoTZoneTable,
+		CFSecBuffISOCtryCcyTable isoCtryCcyTable,
+		CFSecBuffISOCtryLangTable isoCtryLangTable )
+	{
+		final String S_ProcName = "load";
+		if( isoCcyTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffISORefStore.class, S_ProcName, 1, "isoCcyTable" );
+		}
+		if( isoCtryTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffISORefStore.class, S_ProcName, 2, "isoCtryTable" );
+		}
+		if( isoLangTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffISORefStore.class, S_ProcName, 3, "isoLangTable" );
+		}
+		if( isoTZoneTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffISORefStore.class, S_ProcName, 4, "isoTZoneTable" );
+		}
+		if( isoCtryCcyTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffISORefStore.class, S_ProcName, 5, "isoCtryCcyTable" );
+		}
+		if( isoCtryLangTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffISORefStore.class, S_ProcName, 6, "isoCtryLangTable" );
+		}
+		long[] versions = new long[6];
+		Ccy[] ccyRows;
+		isoCcyTable.writeLock.lock();
+		try {
+			versions[0] = isoCcyTable.getModificationCount();
+			ccyRows = new Ccy[isoCcyTable.dictByPKey.size()];
+			int idx = 0;
+			for( CFSecBuffISOCcy rec : isoCcyTable.dictByPKey.values() ) {
+				ccyRows[idx++] = new Ccy( rec );
+			}
+		}
+		finally {
+			isoCcyTable.writeLock.unlock();
+		}
+		Ctry[] ctryRows;
+		isoCtryTable.writeLock.lock();
+		try {
+			versions[1] = isoCtryTable.getModificationCount();
+			ctryRows = new Ctry[isoCtryTable.dictByPKey.size()];
+			int idx = 0;
+			for( CFSecBuffISOCtry rec : isoCtryTable.dictByPKey.values() ) {
+				ctryRows[idx++] = new Ctry( rec );
+			}
+		}
+		finally {
+			isoCtryTable.writeLock.unlock();
+		}
+		Lang[] langRows;
+		isoLangTable.writeLock.lock();
+		try {
+			versions[2] = isoLangTable.getModificationCount();
+			langRows = new Lang[isoLangTable.dictByPKey.size()];
+			int idx = 0;
+			for( CFSecBuffISOLang rec : isoLangTable.dictByPKey.values() ) {
+				langRows[idx++] = new Lang( rec );
+			}
+		}
+		finally {
+			isoLangTable.writeLock.unlock();
+		}
+		TZone[] tzoneRows;
+		isoTZoneTable.writeLock.lock();
+		try {
+			versions[3] = isoTZoneTable.getModificationCount();
+			tzoneRows = new TZone[isoTZoneTable.dictByPKey.size()];
+			int idx = 0;
+			for( CFSecBuffISOTZone rec : isoTZoneTable.dictByPKey.values() ) {
+				tzoneRows[idx++] = new TZone( rec );
+			}
+		}
+		finally {
+			isoTZoneTable.writeLock.unlock();
+		}
+		CFSecBuffShortAdjacency ctryCcy;
+		isoCtryCcyTable.writeLock.lock();
+		try {
+			versions[4] = isoCtryCcyTable.getModificationCount();
+			int count = isoCtryCcyTable.dictByPKey.size();
+			short[] ctryIds = new short[count];
+			short[] ccyIds = new short[count];
+			int idx = 0;
+			for( CFSecBuffISOCtryCcy rec : isoCtryCcyTable.dictByPKey.values() ) {
+				ctryIds[idx] = rec.getRequiredISOCtryId();
+				ccyIds[idx] = rec.getRequiredISOCcyId();
+				idx++;
+			}
+			ctryCcy = CFSecBuffShortAdjacency.build( ctryIds, ccyIds, idx );
+		}
+		finally {
+			isoCtryCcyTable.writeLock.unlock();
+		}
+		CFSecBuffShortAdjacency ctryLang;
+		isoCtryLangTable.writeLock.lock();
+		try {
+			versions[5] = isoCtryLangTable.getModificationCount();
+			int count = isoCtryLangTable.dictByPKey.size();
+			short[] ctryIds = new short[count];
+			short[] langIds = new short[count];
+			int idx = 0;
+			for( CFSecBuffISOCtryLang rec : isoCtryLangTable.dictByPKey.values() ) {
+				ctryIds[idx] = rec.getRequiredISOCtryId();
+				langIds[idx] = rec.getRequiredISOLangId();
+				idx++;
+			}
+			ctryLang = CFSecBuffShortAdjacency.build( ctryIds, langIds, idx );
+		}
+		finally {
+			isoCtryLangTable.writeLock.unlock();
+		}
+		return( new CFSecBuffISORefStore( versions, ccyRows, ctryRows, langRows, tzoneRows, ctryCcy, ctryLang ) );
+	}
+
+	/**
+	 *	Test whether the tables this store was loaded from are unchanged.
+	 *
+	 *	@return	True if no table has been modified since the store was loaded.
+	 */
+	public boolean isCurrent( CFSecBuffISOCcyTable isoCcyTable,
+		CFSecBuffISOCtryTable isoCtryTable,
+		CFSecBuffISOLangTable isoLangTable,
+		CFSecBuffISOTZoneTable isoTZoneTable,
+		CFSecBuffISOCtryCcyTable isoCtryCcyTable,
+		CFSecBuffISOCtryLangTable isoCtryLangTable )
+	{
+		return( ( isoCcyTable.getModificationCount() == isoCcyVersion )
+			&& ( isoCtryTable.getModificationCount() == isoCtryVersion )
+			&& ( isoLangTable.getModificationCount() == isoLangVersion )
+			&& ( isoTZoneTable.getModificationCount() == isoTZoneVersion )
+			&& ( isoCtryCcyTable.getModificationCount() == isoCtryCcyVersion )
+			&& ( isoCtryLangTable.getModificationCount() == isoCtryLangVersion ) );
+	}
+
+	/**
+	 *	Get the ISOCtryCcy join as an adjacency from country id to currency id.
+	 *	The currencies of a country are the slice toStart( ctryId ) to
+	 *	toEnd( ctryId ), and the countries of a currency the from* slice.
+	 */
+	public CFSecBuffShortAdjacency getCtryCcyAdjacency() {
+		return( ctryCcy );
+	}
+
+	/**
+	 *	Get the ISOCtryLang join as an adjacency from country id to language id.
+	 */
+	public CFSecBuffShortAdjacency getCtryLangAdjacency() {
+		return( ctryLang );
+	}
+
+	public Ccy getCcy( short isoCcyId ) {
+		int idx = isoCcyId - ccyMinId;
+		return( ( ( idx >= 0 ) && ( idx < ccyById.length ) ) ? ccyById[idx] : null );
+	}
+
+	/**
+	 *	Resolve a currency code through the perfect hash, without allocating.
+	 */
+	public Ccy getCcyByCcyCdIdx( CharSequence isoCode ) {
+		return( ccyByCcyCdIdx.get( isoCode ) );
+	}
+
+	public Ccy getCcyByCcyNmIdx( String name ) {
+		return( ( name == null ) ? null : ccyByCcyNmIdx.get( name ) );
+	}
+
+	/**
+	 *	Get every ISOCcy, ordered by id.
+	 */
+	public List<Ccy> getCcys() {
+		return( ccys );
+	}
+
+	public Ctry getCtry( short isoCtryId ) {
+		int idx = isoCtryId - ctryMinId;
+		return( ( ( idx >= 0 ) && ( idx < ctryById.length ) ) ? ctryById[idx] : null );
+	}
+
+	/**
+	 *	Resolve a country code through the perfect hash, without allocating.
+	 */
+	public Ctry getCtryByISOCodeIdx( CharSequence isoCode ) {
+		return( ctryByISOCodeIdx.get( isoCode ) );
+	}
+
+	public Ctry getCtryByNameIdx( String name ) {
+		return( ( name == null ) ? null : ctryByNameIdx.get( name ) );
+	}
+
+	/**
+	 *	Get every ISOCtry, ordered by id.
+	 */
+	public List<Ctry> getCtrys() {
+		return( ctrys );
+	}
+
+	public Lang getLang( short isoLangId ) {
+		int idx = isoLangId - langMinId;
+		return( ( ( idx >= 0 ) && ( idx < langById.length ) ) ? langById[idx] : null );
+	}
+
+	/**
+	 *	Resolve an ISO 639-2 code through the perfect hash, without allocating.
+	 */
+	public Lang getLangByCode3Idx( CharSequence iso6392Code ) {
+		return( langByCode3Idx.get( iso6392Code ) );
+	}
+
+	/**
+	 *	Get the languages sharing an ISO 639-1 code, resolved through the
+	 *	perfect hash without allocating.
+	 *
+	 *	@return	The matching languages, never null.
+	 */
+	public List<Lang> getLangsByCode2Idx( CharSequence iso6391Code ) {
+		List<Lang> rows = langByCode2Idx.get( iso6391Code );
+		return( ( rows == null ) ? List.of() : rows );
+	}
+
+	/**
+	 *	Get every ISOLang, ordered by id.
+	 */
+	public List<Lang> getLangs() {
+		return( langs );
+	}
+
+	public TZone getTZone( short isoTZoneId ) {
+		int idx = isoTZoneId - tzoneMinId;
+		return( ( ( idx >= 0 ) && ( idx < tzoneById.length ) ) ? tzoneById[idx] : null );
+	}
+
+	public TZone getTZoneByUTZNameIdx( String tzName ) {
+		return( ( tzName == null ) ? null : tzoneByUTZNameIdx.get( tzName ) );
+	}
+
+	/**
+	 *	Get the time zones sharing an ISO 8601 offset designator.
+	 *
+	 *	@return	The matching time zones, never null.
+	 */
+	public List<TZone> getTZonesByIso8601Idx( String iso8601 ) {
+		List<TZone> rows = ( iso8601 == null ) ? null : tzoneByIso8601Idx.get( iso8601 );
+		return( ( rows == null ) ? List.of() : rows );
+	}
+
+	/**
+	 *	Get the time zones with an hour and minute offset.
+	 *
+	 *	@return	The matching time zones, never null.
+	 */
+	public List<TZone> getTZonesByOffsetIdx( short tzHourOffset, short tzMinOffset ) {
+		int slot = offsetSlot( tzHourOffset, tzMinOffset );
+		List<TZone> rows = ( slot >= 0 ) ? tzoneByOffsetIdx[slot] : tzoneByOffsetOverflow.get( offsetKey( tzHourOffset, tzMinOffset ) );
+		return( ( rows == null ) ? List.of() : rows );
+	}
+
+	/**
+	 *	Get every ISOTZone, ordered by id.
+	 */
+	public List<TZone> getTZones() {
+		return( tzones );
+	}
+
+	/**
+	 *	Get the position of the first zone whose offset is at least minSeconds
+	 *	in the offset-ordered index.  With getOffsetRangeEnd() it bounds an
+	 *	offset range; positions are read with getOffsetIdAt() and
+	 *	getOffsetSecondsAt().
+	 */
+	public int getOffsetRangeStart( int minSeconds ) {
+		int lo = 0;
+		int hi = offsetSortedSeconds.length;
+		while( lo < hi ) {
+			int mid = ( lo + hi ) >>> 1;
+			if( offsetSortedSeconds[mid] < minSeconds ) {
+				lo = mid + 1;
+			}
+			else {
+				hi = mid;
+			}
+		}
+		return( lo );
+	}
+
+	/**
+	 *	Get the position just past the last zone whose offset is at most
+	 *	maxSeconds in the offset-ordered index.
+	 */
+	public int getOffsetRangeEnd( int maxSeconds ) {
+		int lo = 0;
+		int hi = offsetSortedSeconds.length;
+		while( lo < hi ) {
+			int mid = ( lo + hi ) >>> 1;
+			if( offsetSortedSeconds[mid] <= maxSeconds ) {
+				lo = mid + 1;
+			}
+			else {
+				hi = mid;
+			}
+		}
+		return( lo );
+	}
+
+	public short getOffsetIdAt( int pos ) {
+		return( offsetSortedIds[pos] );
+	}
+
+	public int getOffsetSecondsAt( int pos ) {
+		return( offsetSortedSeconds[pos] );
+	}
+
+	/**
+	 *	Walk the ids of the zones whose offsets lie in [minSeconds, maxSeconds],
+	 *	in offset order.
+	 */
+	public void forEachTZoneInOffsetRange( int minSeconds, int maxSeconds, CFSecBuffShortAdjacency.ShortConsumer consumer ) {
+		for( int pos = getOffsetRangeStart( minSeconds ), end = getOffsetRangeEnd( maxSeconds ); pos < end; pos++ ) {
+			consumer.accept( offsetSortedIds[pos] );
+		}
+	}
+
+	/**
+	 *	Get the total offset of a zone in seconds.
+	 *
+	 *	@param	isoTZoneId	The zone.
+	 *	@return	The offset.
+	 */
+	public int getTotalOffsetSeconds( short isoTZoneId ) {
+		int idx = isoTZoneId - tzoneMinId;
+		if( ( idx < 0 ) || ( idx >= tzoneById.length ) || ( tzoneById[idx] == null ) ) {
+			throw new CFLibInvalidArgumentException( getClass(),
+				"getTotalOffsetSeconds",
+				"Unknown ISOTZone id " + isoTZoneId,
+				"Unknown ISOTZone id " + isoTZoneId );
+		}
+		return( tzoneOffsetSecondsById[idx] );
+	}
+
+	/**
+	 *	Convert a local time, as seconds since 1970-01-01T00:00 local, from one
+	 *	zone's fixed offset to another's.  This is plain arithmetic and does not
+	 *	allocate.
+	 *
+	 *	@param	localEpochSecond	The local time in the source zone.
+	 *	@param	fromTZoneId	The source zone.
+	 *	@param	toTZoneId	The target zone.
+	 *	@return	The same instant as local seconds in the target zone.
+	 */
+	public long convertLocalEpochSecond( long localEpochSecond, short fromTZoneId, short toTZoneId ) {
+		return( localEpochSecond - getTotalOffsetSeconds( fromTZoneId ) + getTotalOffsetSeconds( toTZoneId ) );
+	}
+
+	/**
+	 *	Convert a LocalDateTime from one zone's fixed offset to another's.  No
+	 *	ZonedDateTime, Instant or ZoneId is built; the only allocation is the
+	 *	result, and none at all when the offsets are equal.  Region rules such
+	 *	as daylight saving are not applied; use TZone.getZoneId() for those.
+	 *
+	 *	@param	value	The local time in the source zone.
+	 *	@param	fromTZoneId	The source zone.
+	 *	@param	toTZoneId	The target zone.
+	 *	@return	The same instant as local time in the target zone.
+	 */
+	public LocalDateTime convert( LocalDateTime value, short fromTZoneId, short toTZoneId ) {
+		if( value == null ) {
+			return( null );
+		}
+		int delta = getTotalOffsetSeconds( toTZoneId ) - getTotalOffsetSeconds( fromTZoneId );
+		return( ( delta == 0 ) ? value : value.plusSeconds( delta ) );
+	}
+}
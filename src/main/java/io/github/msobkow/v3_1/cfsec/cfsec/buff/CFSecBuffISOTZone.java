@@ -51,14 +51,14 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffISOTZone
-	implements ICFSecISOTZone, Comparable<Object>, Serializable
+	implements ICFSecISOTZone, Comparable<Object>, Serializable, Cloneable
 {
 	protected short requiredISOTZoneId;
 	protected int requiredRevision;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOTZone.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOTZone.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
 	protected String requiredIso8601;
 	protected String requiredTZName;
 	protected short requiredTZHourOffset;
@@ -66,7 +66,29 @@ public class CFSecBuffISOTZone
 	protected String requiredDescription;
 	protected boolean requiredVisible;
 
+	protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+	protected transient ZoneOffset cachedZoneOffset = null;
+	protected transient ZoneId cachedZoneId = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOTZone.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOTZone.S_INIT_UPDATED_BY);
+
 	public CFSecBuffISOTZone() {
+		this( CFSecBuffRecStamp.EAGER );
+	}
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+	public CFSecBuffISOTZone( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffISOTZone", 1, "stamp" );
+		}
 		requiredISOTZoneId = ICFSecISOTZone.ISOTZONEID_INIT_VALUE;
 		requiredIso8601 = ICFSecISOTZone.ISO8601_INIT_VALUE;
 		requiredTZName = ICFSecISOTZone.TZNAME_INIT_VALUE;
@@ -74,6 +96,15 @@ public class CFSecBuffISOTZone
 		requiredTZMinOffset = ICFSecISOTZone.TZMINOFFSET_INIT_VALUE;
 		requiredDescription = ICFSecISOTZone.DESCRIPTION_INIT_VALUE;
 		requiredVisible = ICFSecISOTZone.VISIBLE_INIT_VALUE;
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
 	}
 
 	@Override
@@ -104,6 +135,7 @@ public class CFSecBuffISOTZone
 				ICFSecISOTZone.ISOTZONEID_MIN_VALUE );
 		}
 		requiredISOTZoneId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -114,16 +146,23 @@ public class CFSecBuffISOTZone
 	@Override
 	public void setCreatedByUserId( CFLibDbKeyHash256 value ) {
 		createdByUserId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
 	public LocalDateTime getCreatedAt() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
 		return( createdAt );
 	}
 
 	@Override
 	public void setCreatedAt( LocalDateTime value ) {
 		createdAt = value;
+		pendingCreatedAt = null;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -134,16 +173,23 @@ public class CFSecBuffISOTZone
 	@Override
 	public void setUpdatedByUserId( CFLibDbKeyHash256 value ) {
 		updatedByUserId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
 	public LocalDateTime getUpdatedAt() {
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
 		return( updatedAt );
 	}
 
 	@Override
 	public void setUpdatedAt( LocalDateTime value ) {
 		updatedAt = value;
+		pendingUpdatedAt = null;
+		cachedHashCode = 0;
 	}
 	@Override
 	public int getRequiredRevision() {
@@ -153,6 +199,7 @@ public class CFSecBuffISOTZone
 	@Override
 	public void setRequiredRevision( int value ) {
 		requiredRevision = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -182,6 +229,7 @@ public class CFSecBuffISOTZone
 				6 );
 		}
 		requiredIso8601 = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -206,6 +254,9 @@ public class CFSecBuffISOTZone
 				64 );
 		}
 		requiredTZName = value;
+		cachedHashCode = 0;
+		cachedZoneOffset = null;
+		cachedZoneId = null;
 	}
 
 	@Override
@@ -232,6 +283,9 @@ public class CFSecBuffISOTZone
 				ICFSecISOTZone.TZHOUROFFSET_MAX_VALUE );
 		}
 		requiredTZHourOffset = value;
+		cachedHashCode = 0;
+		cachedZoneOffset = null;
+		cachedZoneId = null;
 	}
 
 	@Override
@@ -258,6 +312,9 @@ public class CFSecBuffISOTZone
 				ICFSecISOTZone.TZMINOFFSET_MAX_VALUE );
 		}
 		requiredTZMinOffset = value;
+		cachedHashCode = 0;
+		cachedZoneOffset = null;
+		cachedZoneId = null;
 	}
 
 	@Override
@@ -282,6 +339,7 @@ public class CFSecBuffISOTZone
 				128 );
 		}
 		requiredDescription = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -292,6 +350,7 @@ public class CFSecBuffISOTZone
 	@Override
 	public void setRequiredVisible( boolean value ) {
 		requiredVisible = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -496,30 +555,24 @@ public class CFSecBuffISOTZone
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getCreatedByUserId().hashCode();
-		hashCode = hashCode + getCreatedAt().hashCode();
-		hashCode = hashCode + getUpdatedByUserId().hashCode();
-		hashCode = hashCode + getUpdatedAt().hashCode();
-		hashCode = ( hashCode * 0x10000 ) + getRequiredISOTZoneId();
-		if( getRequiredIso8601() != null ) {
-			hashCode = hashCode + getRequiredIso8601().hashCode();
-		}
-		if( getRequiredTZName() != null ) {
-			hashCode = hashCode + getRequiredTZName().hashCode();
-		}
-		hashCode = ( hashCode * 0x10000 ) + getRequiredTZHourOffset();
-		hashCode = ( hashCode * 0x10000 ) + getRequiredTZMinOffset();
-		if( getRequiredDescription() != null ) {
-			hashCode = hashCode + getRequiredDescription().hashCode();
-		}
-		if( getRequiredVisible() ) {
-			hashCode = ( hashCode * 2 ) + 1;
-		}
-		else {
-			hashCode = hashCode * 2;
-		}
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredISOTZoneId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredIso8601() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredTZName() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredTZHourOffset() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredTZMinOffset() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredDescription() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredVisible() );
+			hashCode = CFSecBuffHash.finish( hashCode, 11 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
@@ -776,6 +829,100 @@ public class CFSecBuffISOTZone
 		}
 	}
 
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+	protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+	}
+
+	private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 *	Get the fixed offset of this zone, built once from TZHourOffset and
+	 *	TZMinOffset and cached until either changes.
+	 *
+	 *	@return	The offset.
+	 */
+	public ZoneOffset getZoneOffset() {
+		ZoneOffset offset = cachedZoneOffset;
+		if( offset == null ) {
+			offset = toZoneOffset( requiredTZHourOffset, requiredTZMinOffset );
+			cachedZoneOffset = offset;
+		}
+		return( offset );
+	}
+
+	/**
+	 *	Get the zone id named by TZName, or the fixed offset if the name is not a
+	 *	known region id.  The result is cached until the name or offset changes.
+	 *
+	 *	@return	The zone id.
+	 */
+	public ZoneId getZoneId() {
+		ZoneId zoneId = cachedZoneId;
+		if( zoneId == null ) {
+			zoneId = toZoneId( requiredTZName, getZoneOffset() );
+			cachedZoneId = zoneId;
+		}
+		return( zoneId );
+	}
+
+	/**
+	 *	Get the total offset in seconds for an hour and minute offset pair.  The
+	 *	sign of the hour carries the sign of the whole offset, so -3/30 and
+	 *	-3/-30 both mean -03:30; a zero hour takes the sign of the minutes.
+	 */
+	public static int toTotalOffsetSeconds( int tzHourOffset, int tzMinOffset ) {
+		int sign = ( tzHourOffset < 0 ) ? -1 : ( ( tzHourOffset > 0 ) ? 1 : ( ( tzMinOffset < 0 ) ? -1 : 1 ) );
+		return( sign * ( Math.abs( tzHourOffset ) * 3600 + Math.abs( tzMinOffset ) * 60 ) );
+	}
+
+	public static ZoneOffset toZoneOffset( int tzHourOffset, int tzMinOffset ) {
+		return( ZoneOffset.ofTotalSeconds( toTotalOffsetSeconds( tzHourOffset, tzMinOffset ) ) );
+	}
+
+	public static ZoneId toZoneId( String tzName, ZoneOffset fallback ) {
+		if( ( tzName == null ) || tzName.isEmpty() ) {
+			return( fallback );
+		}
+		try {
+			return( ZoneId.of( tzName ) );
+		}
+		catch( DateTimeException e ) {
+			return( fallback );
+		}
+	}
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+	public CFSecBuffISOTZone clone() {
+		resolvePendingStamps();
+		CFSecBuffISOTZone copy;
+		try {
+			copy = (CFSecBuffISOTZone)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		return( copy );
+	}
+
 	@Override
 	public void set( ICFSecISOTZone src ) {
 		setISOTZone( src );
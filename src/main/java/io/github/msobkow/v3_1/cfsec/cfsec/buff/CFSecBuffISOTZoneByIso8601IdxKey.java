@@ -54,6 +54,8 @@ public class CFSecBuffISOTZoneByIso8601IdxKey
 	implements ICFSecISOTZoneByIso8601IdxKey, Comparable<Object>, Serializable
 {
 	protected String requiredIso8601;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffISOTZoneByIso8601IdxKey() {
 		requiredIso8601 = ICFSecISOTZone.ISO8601_INIT_VALUE;
 	}
@@ -80,6 +82,7 @@ public class CFSecBuffISOTZoneByIso8601IdxKey
 				6 );
 		}
 		requiredIso8601 = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -132,11 +135,14 @@ public class CFSecBuffISOTZoneByIso8601IdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		if( getRequiredIso8601() != null ) {
-			hashCode = hashCode + getRequiredIso8601().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredIso8601() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
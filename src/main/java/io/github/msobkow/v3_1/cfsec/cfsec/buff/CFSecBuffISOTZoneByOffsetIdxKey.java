@@ -55,6 +55,8 @@ public class CFSecBuffISOTZoneByOffsetIdxKey
 {
 	protected short requiredTZHourOffset;
 	protected short requiredTZMinOffset;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffISOTZoneByOffsetIdxKey() {
 		requiredTZHourOffset = ICFSecISOTZone.TZHOUROFFSET_INIT_VALUE;
 		requiredTZMinOffset = ICFSecISOTZone.TZMINOFFSET_INIT_VALUE;
@@ -84,6 +86,7 @@ public class CFSecBuffISOTZoneByOffsetIdxKey
 				ICFSecISOTZone.TZHOUROFFSET_MAX_VALUE );
 		}
 		requiredTZHourOffset = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -110,6 +113,7 @@ public class CFSecBuffISOTZoneByOffsetIdxKey
 				ICFSecISOTZone.TZMINOFFSET_MAX_VALUE );
 		}
 		requiredTZMinOffset = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -144,10 +148,15 @@ public class CFSecBuffISOTZoneByOffsetIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = ( hashCode * 0x10000 ) + getRequiredTZHourOffset();
-		hashCode = ( hashCode * 0x10000 ) + getRequiredTZMinOffset();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredTZHourOffset() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredTZMinOffset() );
+			hashCode = CFSecBuffHash.finish( hashCode, 2 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
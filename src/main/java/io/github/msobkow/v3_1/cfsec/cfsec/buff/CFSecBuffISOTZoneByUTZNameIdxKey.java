@@ -54,6 +54,8 @@ public class CFSecBuffISOTZoneByUTZNameIdxKey
 	implements ICFSecISOTZoneByUTZNameIdxKey, Comparable<Object>, Serializable
 {
 	protected String requiredTZName;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffISOTZoneByUTZNameIdxKey() {
 		requiredTZName = ICFSecISOTZone.TZNAME_INIT_VALUE;
 	}
@@ -80,6 +82,7 @@ public class CFSecBuffISOTZoneByUTZNameIdxKey
 				64 );
 		}
 		requiredTZName = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -132,11 +135,14 @@ public class CFSecBuffISOTZoneByUTZNameIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		if( getRequiredTZName() != null ) {
-			hashCode = hashCode + getRequiredTZName().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredTZName() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
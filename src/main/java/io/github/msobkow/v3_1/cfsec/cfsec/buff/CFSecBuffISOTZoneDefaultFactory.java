@@ -54,13 +54,116 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffISOTZoneDefaultFactory
 	implements ICFSecISOTZoneFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffISOTZoneByOffsetIdxKey> probeByOffsetIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffISOTZoneByOffsetIdxKey() );
+	protected static final ThreadLocal<CFSecBuffISOTZoneByUTZNameIdxKey> probeByUTZNameIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffISOTZoneByUTZNameIdxKey() );
+	protected static final ThreadLocal<CFSecBuffISOTZoneByIso8601IdxKey> probeByIso8601IdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffISOTZoneByIso8601IdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders ISOTZone instances by primary key.
+	 */
+	public static final Comparator<ICFSecISOTZone> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( Short.compare( lhs.getRequiredISOTZoneId(), rhs.getRequiredISOTZoneId() ) );
+	};
+
+	/**
+	 *	Orders ISOTZone history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecISOTZoneHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = Short.compare( lhs.getRequiredISOTZoneId(), rhs.getRequiredISOTZoneId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders ISOTZone instances by the OffsetIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecISOTZone> COMPARE_BY_OFFSETIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = Short.compare( lhs.getRequiredTZHourOffset(), rhs.getRequiredTZHourOffset() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Short.compare( lhs.getRequiredTZMinOffset(), rhs.getRequiredTZMinOffset() ) );
+	};
+
+	/**
+	 *	Orders OffsetIdx keys.
+	 */
+	public static final Comparator<ICFSecISOTZoneByOffsetIdxKey> COMPARE_OFFSETIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = Short.compare( lhs.getRequiredTZHourOffset(), rhs.getRequiredTZHourOffset() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Short.compare( lhs.getRequiredTZMinOffset(), rhs.getRequiredTZMinOffset() ) );
+	};
+
+	/**
+	 *	Orders ISOTZone instances by the UTZNameIdx columns.
+	 */
+	public static final Comparator<ICFSecISOTZone> COMPARE_BY_UTZNAMEIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredTZName().compareTo( rhs.getRequiredTZName() ) );
+	};
+
+	/**
+	 *	Orders UTZNameIdx keys.
+	 */
+	public static final Comparator<ICFSecISOTZoneByUTZNameIdxKey> COMPARE_UTZNAMEIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredTZName().compareTo( rhs.getRequiredTZName() ) );
+	};
+
+	/**
+	 *	Orders ISOTZone instances by the Iso8601Idx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecISOTZone> COMPARE_BY_ISO8601IDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredIso8601().compareTo( rhs.getRequiredIso8601() ) );
+	};
+
+	/**
+	 *	Orders Iso8601Idx keys.
+	 */
+	public static final Comparator<ICFSecISOTZoneByIso8601IdxKey> COMPARE_ISO8601IDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredIso8601().compareTo( rhs.getRequiredIso8601() ) );
+	};
+
 	public CFSecBuffISOTZoneDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
 	@Override
 	public ICFSecISOTZoneHPKey newHPKey() {
 		ICFSecISOTZoneHPKey hpkey =
-			new CFSecBuffISOTZoneHPKey();
+			new CFSecBuffISOTZoneHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -72,7 +175,7 @@ public class CFSecBuffISOTZoneDefaultFactory
 			return( (CFSecBuffISOTZoneHPKey)key );
 		}
 		else {
-			CFSecBuffISOTZoneHPKey mapped = new CFSecBuffISOTZoneHPKey();
+			CFSecBuffISOTZoneHPKey mapped = new CFSecBuffISOTZoneHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -104,6 +207,10 @@ public class CFSecBuffISOTZoneDefaultFactory
 		}
 	}
 
+	public static CFSecBuffISOTZoneByOffsetIdxKey getProbeByOffsetIdxKey() {
+		return( probeByOffsetIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecISOTZoneByUTZNameIdxKey newByUTZNameIdxKey() {
 		ICFSecISOTZoneByUTZNameIdxKey key =
@@ -125,6 +232,10 @@ public class CFSecBuffISOTZoneDefaultFactory
 		}
 	}
 
+	public static CFSecBuffISOTZoneByUTZNameIdxKey getProbeByUTZNameIdxKey() {
+		return( probeByUTZNameIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecISOTZoneByIso8601IdxKey newByIso8601IdxKey() {
 		ICFSecISOTZoneByIso8601IdxKey key =
@@ -146,10 +257,14 @@ public class CFSecBuffISOTZoneDefaultFactory
 		}
 	}
 
+	public static CFSecBuffISOTZoneByIso8601IdxKey getProbeByIso8601IdxKey() {
+		return( probeByIso8601IdxKey.get() );
+	}
+
 	@Override
 	public ICFSecISOTZone newRec() {
 		ICFSecISOTZone rec =
-			new CFSecBuffISOTZone();
+			new CFSecBuffISOTZone( recStamp );
 		return( rec );
 	}
 
@@ -161,16 +276,56 @@ public class CFSecBuffISOTZoneDefaultFactory
 			return( (CFSecBuffISOTZone)rec );
 		}
 		else {
-			CFSecBuffISOTZone mapped = new CFSecBuffISOTZone();
+			CFSecBuffISOTZone mapped = new CFSecBuffISOTZone( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffISOTZone cloneRec( ICFSecISOTZone rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffISOTZone ) {
+			return( ( (CFSecBuffISOTZone)rec ).clone() );
+		}
+		else {
+			CFSecBuffISOTZone mapped = new CFSecBuffISOTZone( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffISOTZone[] cloneRecs( ICFSecISOTZone[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffISOTZone[] retList = new CFSecBuffISOTZone[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecISOTZoneH newHRec() {
 		ICFSecISOTZoneH hrec =
-			new CFSecBuffISOTZoneH();
+			new CFSecBuffISOTZoneH( recStamp );
 		return( hrec );
 	}
 
@@ -182,9 +337,49 @@ public class CFSecBuffISOTZoneDefaultFactory
 			return( (CFSecBuffISOTZoneH)hrec );
 		}
 		else {
-			CFSecBuffISOTZoneH mapped = new CFSecBuffISOTZoneH();
+			CFSecBuffISOTZoneH mapped = new CFSecBuffISOTZoneH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffISOTZoneH cloneHRec( ICFSecISOTZoneH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffISOTZoneH ) {
+			return( ( (CFSecBuffISOTZoneH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffISOTZoneH mapped = new CFSecBuffISOTZoneH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffISOTZoneH[] cloneHRecs( ICFSecISOTZoneH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffISOTZoneH[] retList = new CFSecBuffISOTZoneH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
@@ -51,13 +51,13 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffISOTZoneH
-    implements ICFSecISOTZoneH, Comparable<Object>, Serializable
+    implements ICFSecISOTZoneH, Comparable<Object>, Serializable, Cloneable
 {
     protected CFSecBuffISOTZoneHPKey pkey;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOTZone.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecISOTZone.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
 	protected String requiredIso8601;
 	protected String requiredTZName;
 	protected short requiredTZHourOffset;
@@ -65,15 +65,44 @@ public class CFSecBuffISOTZoneH
 	protected String requiredDescription;
 	protected boolean requiredVisible;
 
+    protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOTZone.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecISOTZone.S_INIT_UPDATED_BY);
+
     public CFSecBuffISOTZoneH() {
+		this( CFSecBuffRecStamp.EAGER );
+    }
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+    public CFSecBuffISOTZoneH( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffISOTZoneH", 1, "stamp" );
+		}
             // The primary key member attributes are initialized on construction
-            pkey = new CFSecBuffISOTZoneHPKey();
+            pkey = new CFSecBuffISOTZoneHPKey( stamp );
 		requiredIso8601 = ICFSecISOTZone.ISO8601_INIT_VALUE;
 		requiredTZName = ICFSecISOTZone.TZNAME_INIT_VALUE;
 		requiredTZHourOffset = ICFSecISOTZone.TZHOUROFFSET_INIT_VALUE;
 		requiredTZMinOffset = ICFSecISOTZone.TZMINOFFSET_INIT_VALUE;
 		requiredDescription = ICFSecISOTZone.DESCRIPTION_INIT_VALUE;
 		requiredVisible = ICFSecISOTZone.VISIBLE_INIT_VALUE;
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
     }
 
     @Override
@@ -92,10 +121,15 @@ public class CFSecBuffISOTZoneH
             throw new CFLibNullArgumentException(getClass(), "setCreatedByUserId", 1, "value");
         }
         createdByUserId = value;
+        cachedHashCode = 0;
     }
 
     @Override
     public LocalDateTime getCreatedAt() {
+        if( pendingCreatedAt != null ) {
+            createdAt = pendingCreatedAt.now();
+            pendingCreatedAt = null;
+        }
         return( createdAt );
     }
 
@@ -105,6 +139,8 @@ public class CFSecBuffISOTZoneH
             throw new CFLibNullArgumentException(getClass(), "setCreatedAt", 1, "value");
         }
         createdAt = value;
+        pendingCreatedAt = null;
+        cachedHashCode = 0;
     }
 
     @Override
@@ -118,10 +154,15 @@ public class CFSecBuffISOTZoneH
             throw new CFLibNullArgumentException(getClass(), "setUpdatedByUserId", 1, "value");
         }
         updatedByUserId = value;
+        cachedHashCode = 0;
     }
 
     @Override
     public LocalDateTime getUpdatedAt() {
+        if( pendingUpdatedAt != null ) {
+            updatedAt = pendingUpdatedAt.now();
+            pendingUpdatedAt = null;
+        }
         return( updatedAt );
     }
 
@@ -131,6 +172,8 @@ public class CFSecBuffISOTZoneH
             throw new CFLibNullArgumentException(getClass(), "setUpdatedAt", 1, "value");
         }
         updatedAt = value;
+        pendingUpdatedAt = null;
+        cachedHashCode = 0;
     }
 
     @Override
@@ -148,6 +191,7 @@ public class CFSecBuffISOTZoneH
                 throw new CFLibUnsupportedClassException(getClass(), "setPKey", "pkey", pkey, "CFSecBuffISOTZoneHPKey");
             }
         }
+        cachedHashCode = 0;
     }
 
     @Override
@@ -232,6 +276,7 @@ public class CFSecBuffISOTZoneH
 				6 );
 		}
 		requiredIso8601 = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -256,6 +301,7 @@ public class CFSecBuffISOTZoneH
 				64 );
 		}
 		requiredTZName = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -282,6 +328,7 @@ public class CFSecBuffISOTZoneH
 				ICFSecISOTZone.TZHOUROFFSET_MAX_VALUE );
 		}
 		requiredTZHourOffset = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -308,6 +355,7 @@ public class CFSecBuffISOTZoneH
 				ICFSecISOTZone.TZMINOFFSET_MAX_VALUE );
 		}
 		requiredTZMinOffset = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -332,6 +380,7 @@ public class CFSecBuffISOTZoneH
 				128 );
 		}
 		requiredDescription = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -342,6 +391,7 @@ public class CFSecBuffISOTZoneH
 	@Override
 	public void setRequiredVisible( boolean value ) {
 		requiredVisible = value;
+		cachedHashCode = 0;
 	}
 
     @Override
@@ -555,25 +605,19 @@ public class CFSecBuffISOTZoneH
     
     @Override
     public int hashCode() {
-        int hashCode = pkey.hashCode();
-		if( getRequiredIso8601() != null ) {
-			hashCode = hashCode + getRequiredIso8601().hashCode();
-		}
-		if( getRequiredTZName() != null ) {
-			hashCode = hashCode + getRequiredTZName().hashCode();
-		}
-		hashCode = ( hashCode * 0x10000 ) + getRequiredTZHourOffset();
-		hashCode = ( hashCode * 0x10000 ) + getRequiredTZMinOffset();
-		if( getRequiredDescription() != null ) {
-			hashCode = hashCode + getRequiredDescription().hashCode();
-		}
-		if( getRequiredVisible() ) {
-			hashCode = ( hashCode * 2 ) + 1;
-		}
-		else {
-			hashCode = hashCode * 2;
-		}
-        return( hashCode & 0x7fffffff );
+        int hashCode = cachedHashCode;
+        if( hashCode == 0 ) {
+            hashCode = CFSecBuffHash.SEED;
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredIso8601() );
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredTZName() );
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredTZHourOffset() );
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredTZMinOffset() );
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredDescription() );
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredVisible() );
+            cachedHashCode = hashCode;
+        }
+        hashCode = CFSecBuffHash.mix( hashCode, pkey.hashCode() );
+        return( CFSecBuffHash.finish( hashCode, 7 ) );
     }
 
     @Override
@@ -818,6 +862,46 @@ public class CFSecBuffISOTZoneH
                 null );
         }
     }
+
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+    protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+    }
+
+    private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+    }
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+    public CFSecBuffISOTZoneH clone() {
+		resolvePendingStamps();
+		CFSecBuffISOTZoneH copy;
+		try {
+			copy = (CFSecBuffISOTZoneH)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.pkey = pkey.clone();
+		return( copy );
+    }
+
 	@Override
     public void set( ICFSecISOTZone src ) {
 		setISOTZone( src );
@@ -0,0 +1,625 @@
+// Description: Java 25 in-memory concurrent implementation of a ISOTZone table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffISOTZoneTable in-memory implementation of ICFSecISOTZoneTable for ISOTZone.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ */
+public class CFSecBuffISOTZoneTable
+	implements ICFSecISOTZoneTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<Short, CFSecBuffISOTZone> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffISOTZoneByOffsetIdxKey, ConcurrentHashMap<Short, CFSecBuffISOTZone>> dictByOffsetIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffISOTZoneByUTZNameIdxKey, CFSecBuffISOTZone> dictByUTZNameIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffISOTZoneByIso8601IdxKey, ConcurrentHashMap<Short, CFSecBuffISOTZone>> dictByIso8601Idx
+		= new ConcurrentHashMap<>();
+
+	public CFSecBuffISOTZoneTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Copy the attributes of a ISOTZone by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffISOTZone holding the same attribute values.
+	 */
+	protected CFSecBuffISOTZone copyRec( ICFSecISOTZone src ) {
+		if( src instanceof CFSecBuffISOTZone ) {
+			return( ( (CFSecBuffISOTZone)src ).clone() );
+		}
+		CFSecBuffISOTZone rec = new CFSecBuffISOTZone( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredISOTZoneId( src.getRequiredISOTZoneId() );
+		rec.setRequiredIso8601( src.getRequiredIso8601() );
+		rec.setRequiredTZName( src.getRequiredTZName() );
+		rec.setRequiredTZHourOffset( src.getRequiredTZHourOffset() );
+		rec.setRequiredTZMinOffset( src.getRequiredTZMinOffset() );
+		rec.setRequiredDescription( src.getRequiredDescription() );
+		rec.setRequiredVisible( src.getRequiredVisible() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecISOTZone[] copyRecs( Collection<CFSecBuffISOTZone> src ) {
+		ICFSecISOTZone[] retList = new ICFSecISOTZone[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffISOTZone cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected Short pkeyOf( ICFSecISOTZone rec ) {
+		return( rec.getRequiredISOTZoneId() );
+	}
+
+	protected CFSecBuffISOTZoneByOffsetIdxKey newByOffsetIdxKey( short argTZHourOffset, short argTZMinOffset ) {
+		CFSecBuffISOTZoneByOffsetIdxKey key = new CFSecBuffISOTZoneByOffsetIdxKey();
+		key.setRequiredTZHourOffset( argTZHourOffset );
+		key.setRequiredTZMinOffset( argTZMinOffset );
+		return( key );
+	}
+
+	protected CFSecBuffISOTZoneByOffsetIdxKey newByOffsetIdxKey( ICFSecISOTZone rec ) {
+		return( newByOffsetIdxKey( rec.getRequiredTZHourOffset(), rec.getRequiredTZMinOffset() ) );
+	}
+
+	protected CFSecBuffISOTZoneByOffsetIdxKey probeByOffsetIdxKey( short argTZHourOffset, short argTZMinOffset ) {
+		CFSecBuffISOTZoneByOffsetIdxKey key = CFSecBuffISOTZoneDefaultFactory.getProbeByOffsetIdxKey();
+		key.setRequiredTZHourOffset( argTZHourOffset );
+		key.setRequiredTZMinOffset( argTZMinOffset );
+		return( key );
+	}
+
+	protected CFSecBuffISOTZoneByUTZNameIdxKey newByUTZNameIdxKey( String argTZName ) {
+		CFSecBuffISOTZoneByUTZNameIdxKey key = new CFSecBuffISOTZoneByUTZNameIdxKey();
+		key.setRequiredTZName( argTZName );
+		return( key );
+	}
+
+	protected CFSecBuffISOTZoneByUTZNameIdxKey newByUTZNameIdxKey( ICFSecISOTZone rec ) {
+		return( newByUTZNameIdxKey( rec.getRequiredTZName() ) );
+	}
+
+	protected CFSecBuffISOTZoneByUTZNameIdxKey probeByUTZNameIdxKey( String argTZName ) {
+		CFSecBuffISOTZoneByUTZNameIdxKey key = CFSecBuffISOTZoneDefaultFactory.getProbeByUTZNameIdxKey();
+		key.setRequiredTZName( argTZName );
+		return( key );
+	}
+
+	protected CFSecBuffISOTZoneByIso8601IdxKey newByIso8601IdxKey( String argIso8601 ) {
+		CFSecBuffISOTZoneByIso8601IdxKey key = new CFSecBuffISOTZoneByIso8601IdxKey();
+		key.setRequiredIso8601( argIso8601 );
+		return( key );
+	}
+
+	protected CFSecBuffISOTZoneByIso8601IdxKey newByIso8601IdxKey( ICFSecISOTZone rec ) {
+		return( newByIso8601IdxKey( rec.getRequiredIso8601() ) );
+	}
+
+	protected CFSecBuffISOTZoneByIso8601IdxKey probeByIso8601IdxKey( String argIso8601 ) {
+		CFSecBuffISOTZoneByIso8601IdxKey key = CFSecBuffISOTZoneDefaultFactory.getProbeByIso8601IdxKey();
+		key.setRequiredIso8601( argIso8601 );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffISOTZone rec ) {
+		Short pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByOffsetIdx.computeIfAbsent( newByOffsetIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByUTZNameIdx.put( newByUTZNameIdxKey( rec ), rec );
+		dictByIso8601Idx.computeIfAbsent( newByIso8601IdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+	}
+
+	protected void unindexRec( CFSecBuffISOTZone rec ) {
+		Short pkey = pkeyOf( rec );
+		removeFromDupIndex( dictByOffsetIdx, newByOffsetIdxKey( rec ), pkey );
+		dictByUTZNameIdx.remove( newByUTZNameIdxKey( rec ), rec );
+		removeFromDupIndex( dictByIso8601Idx, newByIso8601IdxKey( rec ), pkey );
+		dictByPKey.remove( pkey, rec );
+	}
+
+	protected void reindexRec( CFSecBuffISOTZone existing, CFSecBuffISOTZone rec ) {
+		Short pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffISOTZoneByOffsetIdxKey oldKey = newByOffsetIdxKey( existing );
+			CFSecBuffISOTZoneByOffsetIdxKey newKey = newByOffsetIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByOffsetIdx, oldKey, pkey );
+			}
+			dictByOffsetIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffISOTZoneByUTZNameIdxKey oldKey = newByUTZNameIdxKey( existing );
+			CFSecBuffISOTZoneByUTZNameIdxKey newKey = newByUTZNameIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByUTZNameIdx.remove( oldKey, existing );
+			}
+			dictByUTZNameIdx.put( newKey, rec );
+		}
+		{
+			CFSecBuffISOTZoneByIso8601IdxKey oldKey = newByIso8601IdxKey( existing );
+			CFSecBuffISOTZoneByIso8601IdxKey newKey = newByIso8601IdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByIso8601Idx, oldKey, pkey );
+			}
+			dictByIso8601Idx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+	}
+
+	protected static <K> void removeFromDupIndex( ConcurrentHashMap<K, ConcurrentHashMap<Short, CFSecBuffISOTZone>> dict, K key, Short pkey ) {
+		ConcurrentHashMap<Short, CFSecBuffISOTZone> subdict = dict.get( key );
+		if( subdict != null ) {
+			subdict.remove( pkey );
+			if( subdict.isEmpty() ) {
+				dict.remove( key, subdict );
+			}
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffISOTZone rec, CFSecBuffISOTZone existing ) {
+		{
+			CFSecBuffISOTZoneByUTZNameIdxKey key = newByUTZNameIdxKey( rec );
+			CFSecBuffISOTZone conflict = dictByUTZNameIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"ISOTZoneUTZNameIdx",
+					key );
+			}
+		}
+	}
+
+	@Override
+	public ICFSecISOTZone createISOTZone( ICFSecAuthorization Authorization,
+		ICFSecISOTZone rec )
+	{
+		final String S_ProcName = "createISOTZone";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffISOTZone stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		Short pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecISOTZone readDerived( ICFSecAuthorization Authorization,
+		short PKey )
+	{
+		CFSecBuffISOTZone rec = dictByPKey.get( PKey );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOTZone lockDerived( ICFSecAuthorization Authorization,
+		short PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOTZone[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecISOTZone readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		short argISOTZoneId )
+	{
+		CFSecBuffISOTZone rec = dictByPKey.get( argISOTZoneId );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOTZone[] readDerivedByOffsetIdx( ICFSecAuthorization Authorization,
+		short argTZHourOffset,
+		short argTZMinOffset )
+	{
+		ConcurrentHashMap<Short, CFSecBuffISOTZone> subdict = dictByOffsetIdx.get( probeByOffsetIdxKey( argTZHourOffset, argTZMinOffset ) );
+		if( subdict == null ) {
+			return( new ICFSecISOTZone[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	@Override
+	public ICFSecISOTZone readDerivedByUTZNameIdx( ICFSecAuthorization Authorization,
+		String argTZName )
+	{
+		CFSecBuffISOTZone rec = dictByUTZNameIdx.get( probeByUTZNameIdxKey( argTZName ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecISOTZone[] readDerivedByIso8601Idx( ICFSecAuthorization Authorization,
+		String argIso8601 )
+	{
+		ConcurrentHashMap<Short, CFSecBuffISOTZone> subdict = dictByIso8601Idx.get( probeByIso8601IdxKey( argIso8601 ) );
+		if( subdict == null ) {
+			return( new ICFSecISOTZone[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the ISOTZone instances for several Iso8601Idx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argIso8601s	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<String, ICFSecISOTZone[]> readDerivedByIso8601IdxBatch( ICFSecAuthorization Authorization,
+		Collection<String> argIso8601s )
+	{
+		Map<String, ICFSecISOTZone[]> retMap = new HashMap<>( Math.max( 16, argIso8601s.size() * 2 ) );
+		for( String argIso8601 : argIso8601s ) {
+			if( ( argIso8601 == null ) || retMap.containsKey( argIso8601 ) ) {
+				continue;
+			}
+			ConcurrentHashMap<Short, CFSecBuffISOTZone> subdict = dictByIso8601Idx.get( probeByIso8601IdxKey( argIso8601 ) );
+			if( subdict == null ) {
+				retMap.put( argIso8601, new ICFSecISOTZone[0] );
+			}
+			else {
+				retMap.put( argIso8601, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecISOTZone readRec( ICFSecAuthorization Authorization,
+		short PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOTZone lockRec( ICFSecAuthorization Authorization,
+		short PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecISOTZone[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecISOTZone readRecByIdIdx( ICFSecAuthorization Authorization,
+		short argISOTZoneId )
+	{
+		return( readDerivedByIdIdx( Authorization, argISOTZoneId ) );
+	}
+
+	@Override
+	public ICFSecISOTZone[] readRecByOffsetIdx( ICFSecAuthorization Authorization,
+		short argTZHourOffset,
+		short argTZMinOffset )
+	{
+		return( readDerivedByOffsetIdx( Authorization, argTZHourOffset, argTZMinOffset ) );
+	}
+
+	@Override
+	public ICFSecISOTZone readRecByUTZNameIdx( ICFSecAuthorization Authorization,
+		String argTZName )
+	{
+		return( readDerivedByUTZNameIdx( Authorization, argTZName ) );
+	}
+
+	@Override
+	public ICFSecISOTZone[] readRecByIso8601Idx( ICFSecAuthorization Authorization,
+		String argIso8601 )
+	{
+		return( readDerivedByIso8601Idx( Authorization, argIso8601 ) );
+	}
+
+	@Override
+	public ICFSecISOTZone updateISOTZone( ICFSecAuthorization Authorization,
+		ICFSecISOTZone rec )
+	{
+		final String S_ProcName = "updateISOTZone";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffISOTZone stored = copyRec( rec );
+		Short pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffISOTZone existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"ISOTZone",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteISOTZone( ICFSecAuthorization Authorization,
+		ICFSecISOTZone rec )
+	{
+		final String S_ProcName = "deleteISOTZone";
+		if( rec == null ) {
+			return;
+		}
+		Short pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffISOTZone existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffISOTZone existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored ISOTZone under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffISOTZone> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffISOTZone> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffISOTZone rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a ISOTZone exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffISOTZone rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffISOTZone stored = copyRec( rec );
+		Short pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteISOTZoneByIdIdx( ICFSecAuthorization Authorization,
+		short argISOTZoneId )
+	{
+		deleteStored( dictByPKey.get( argISOTZoneId ) );
+	}
+
+	@Override
+	public void deleteISOTZoneByOffsetIdx( ICFSecAuthorization Authorization,
+		short argTZHourOffset,
+		short argTZMinOffset )
+	{
+		ConcurrentHashMap<Short, CFSecBuffISOTZone> subdict = dictByOffsetIdx.get( probeByOffsetIdxKey( argTZHourOffset, argTZMinOffset ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffISOTZone existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteISOTZoneByOffsetIdx( ICFSecAuthorization Authorization,
+		ICFSecISOTZoneByOffsetIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteISOTZoneByOffsetIdx( Authorization, argKey.getRequiredTZHourOffset(), argKey.getRequiredTZMinOffset() );
+	}
+
+	@Override
+	public void deleteISOTZoneByUTZNameIdx( ICFSecAuthorization Authorization,
+		String argTZName )
+	{
+		deleteStored( dictByUTZNameIdx.get( probeByUTZNameIdxKey( argTZName ) ) );
+	}
+
+	@Override
+	public void deleteISOTZoneByUTZNameIdx( ICFSecAuthorization Authorization,
+		ICFSecISOTZoneByUTZNameIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteISOTZoneByUTZNameIdx( Authorization, argKey.getRequiredTZName() );
+	}
+
+	@Override
+	public void deleteISOTZoneByIso8601Idx( ICFSecAuthorization Authorization,
+		String argIso8601 )
+	{
+		ConcurrentHashMap<Short, CFSecBuffISOTZone> subdict = dictByIso8601Idx.get( probeByIso8601IdxKey( argIso8601 ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffISOTZone existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteISOTZoneByIso8601Idx( ICFSecAuthorization Authorization,
+		ICFSecISOTZoneByIso8601IdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteISOTZoneByIso8601Idx( Authorization, argKey.getRequiredIso8601() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
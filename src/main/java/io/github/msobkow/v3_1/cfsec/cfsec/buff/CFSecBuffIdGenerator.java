@@ -0,0 +1,357 @@
+// Description: Java 25 identifier generator for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.SecureRandom;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+
+/*
+ *	CFSecBuffIdGenerator allocates the identifiers handed out by the
+ *	next*IdGen() methods of CFSecBuffSchema.
+ *
+ *	A CFLibDbKeyHash256 identifier is the 128-bit generator prefix, followed by a
+ *	64-bit sequence number, followed by a mix of the sequence number.  Each thread
+ *	reserves a block of sequence numbers with a single atomic add, and then
+ *	allocates from its block without any further coordination.  Blocks are carved
+ *	out of a lease that is recorded in the state file before any number in it is
+ *	used, so a restart resumes above every number that could have been handed
+ *	out.  Numbers left over in a lease or a block are skipped, never reused.
+ *
+ *	The short identifiers of the ISO tables are allocated from per-sequence
+ *	high-water marks, and each allocation is written through to the state file.
+ *
+ *	Without a state file the generator still never repeats an identifier within
+ *	the process, and its random prefix keeps the 256-bit identifiers distinct
+ *	from those of other runs, but the short sequences restart from their seeds.
+ */
+public class CFSecBuffIdGenerator
+{
+	public static final String STATE_FILE_PROPERTY = "io.github.msobkow.v3_1.cfsec.cfsec.buff.idgen.state";
+
+	public static final int DEFAULT_BLOCK_SIZE = 1024;
+	public static final long DEFAULT_LEASE_SIZE = 1L << 20;
+
+	protected static final String PROP_PREFIX = "prefix";
+	protected static final String PROP_LEASE = "hash256.lease";
+	protected static final String PROP_SHORT = "short.";
+
+	protected static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	protected static final class Block {
+		long next = 0L;
+		long limit = 0L;
+	}
+
+	protected final Path stateFile;
+	protected final int blockSize;
+	protected final long leaseSize;
+	protected final char[] prefixChars = new char[32];
+	protected final byte[] prefixBytes = new byte[16];
+	protected final long prefixLow;
+
+	protected final AtomicLong nextBlock;
+	protected volatile long leaseLimit;
+	protected final Object leaseLock = new Object();
+	protected final Map<String, Integer> shortHighWater = new HashMap<>();
+
+	protected final ThreadLocal<Block> threadBlock = ThreadLocal.withInitial( () -> new Block() );
+
+	/**
+	 *	Construct a generator that keeps no state between runs.
+	 */
+	public CFSecBuffIdGenerator() {
+		this( null, DEFAULT_BLOCK_SIZE, DEFAULT_LEASE_SIZE );
+	}
+
+	/**
+	 *	Construct a generator that resumes from, and records its reservations in,
+	 *	the specified state file.  The file is created if it does not exist.
+	 *
+	 *	@param	stateFile	The state file, or null to keep no state.
+	 */
+	public CFSecBuffIdGenerator( Path stateFile ) {
+		this( stateFile, DEFAULT_BLOCK_SIZE, DEFAULT_LEASE_SIZE );
+	}
+
+	/**
+	 *	Construct a generator with explicit reservation sizes.
+	 *
+	 *	@param	stateFile	The state file, or null to keep no state.
+	 *	@param	blockSize	The number of sequence numbers a thread reserves at a time.
+	 *	@param	leaseSize	The number of sequence numbers recorded per state file write.
+	 */
+	public CFSecBuffIdGenerator( Path stateFile, int blockSize, long leaseSize ) {
+		final String S_ProcName = "CFSecBuffIdGenerator";
+		if( blockSize < 1 ) {
+			throw new CFLibArgumentUnderflowException( getClass(), S_ProcName, 2, "blockSize", blockSize, 1 );
+		}
+		if( leaseSize < blockSize ) {
+			throw new CFLibArgumentUnderflowException( getClass(), S_ProcName, 3, "leaseSize", leaseSize, blockSize );
+		}
+		this.stateFile = stateFile;
+		this.blockSize = blockSize;
+		this.leaseSize = leaseSize;
+
+		Properties state = readState();
+		String prefix = state.getProperty( PROP_PREFIX );
+		if( ( prefix == null ) || ( ! prefix.matches( "[0-9a-f]{32}" ) ) ) {
+			byte[] raw = new byte[16];
+			new SecureRandom().nextBytes( raw );
+			StringBuilder buff = new StringBuilder( 32 );
+			for( byte b : raw ) {
+				buff.append( HEX_DIGITS[ ( b >> 4 ) & 0x0f ] );
+				buff.append( HEX_DIGITS[ b & 0x0f ] );
+			}
+			prefix = buff.toString();
+		}
+		prefix.getChars( 0, 32, prefixChars, 0 );
+		for( int idx = 0; idx < 16; idx++ ) {
+			prefixBytes[ idx ] = (byte)Integer.parseInt( prefix.substring( idx * 2, ( idx * 2 ) + 2 ), 16 );
+		}
+		prefixLow = Long.parseUnsignedLong( prefix.substring( 16 ), 16 );
+
+		long resumeAt = 1L;
+		String lease = state.getProperty( PROP_LEASE );
+		if( lease != null ) {
+			resumeAt = Math.max( resumeAt, Long.parseLong( lease.trim() ) );
+		}
+		nextBlock = new AtomicLong( resumeAt );
+		leaseLimit = resumeAt;
+
+		for( String name : state.stringPropertyNames() ) {
+			if( name.startsWith( PROP_SHORT ) ) {
+				shortHighWater.put( name.substring( PROP_SHORT.length() ),
+					Integer.valueOf( state.getProperty( name ).trim() ) );
+			}
+		}
+		if( stateFile != null ) {
+			synchronized( leaseLock ) {
+				writeState( leaseLimit );
+			}
+		}
+	}
+
+	/**
+	 *	Open the generator named by the system property STATE_FILE_PROPERTY,
+	 *	or a generator that keeps no state if the property is not set.
+	 */
+	public static CFSecBuffIdGenerator fromSystemProperties() {
+		String path = System.getProperty( STATE_FILE_PROPERTY );
+		if( ( path == null ) || path.isEmpty() ) {
+			return( new CFSecBuffIdGenerator() );
+		}
+		else {
+			return( new CFSecBuffIdGenerator( Paths.get( path ) ) );
+		}
+	}
+
+	public Path getStateFile() {
+		return( stateFile );
+	}
+
+	/**
+	 *	Allocate the next 256-bit identifier.
+	 *
+	 *	@return	An identifier that this generator, and any generator resumed from
+	 *		the same state file, never returns again.
+	 */
+	public CFLibDbKeyHash256 nextKeyHash256() {
+		Block block = threadBlock.get();
+		if( block.next >= block.limit ) {
+			long start = nextBlock.getAndAdd( blockSize );
+			long limit = start + blockSize;
+			if( limit > leaseLimit ) {
+				extendLease( limit );
+			}
+			block.next = start;
+			block.limit = limit;
+		}
+		long seq = block.next++;
+		return( new CFLibDbKeyHash256( keyBytes( seq ) ) );
+	}
+
+	protected byte[] keyBytes( long seq ) {
+		byte[] bytes = new byte[32];
+		System.arraycopy( prefixBytes, 0, bytes, 0, 16 );
+		putLong( bytes, 16, seq );
+		putLong( bytes, 24, CFSecBuffHash.fmix64( seq ^ prefixLow ) );
+		return( bytes );
+	}
+
+	protected static void putLong( byte[] bytes, int offset, long value ) {
+		for( int idx = offset + 7; idx >= offset; idx-- ) {
+			bytes[ idx ] = (byte)value;
+			value >>>= 8;
+		}
+	}
+
+	/**
+	 *	Record a larger lease, and only then publish it.  Threads test leaseLimit
+	 *	without holding leaseLock, so it must never cover numbers that are not
+	 *	yet on disk; if the write fails the lease is left as it was.
+	 */
+	protected void extendLease( long required ) {
+		synchronized( leaseLock ) {
+			if( required <= leaseLimit ) {
+				return;
+			}
+			long newLimit = leaseLimit;
+			while( newLimit < required ) {
+				newLimit += leaseSize;
+			}
+			writeState( newLimit );
+			leaseLimit = newLimit;
+		}
+	}
+
+	/**
+	 *	Allocate the next short identifier of the named sequence.
+	 *
+	 *	@param	sequenceName	The name of the sequence, such as "ISOCcyIdGen".
+	 *	@param	seed	The value returned by the first allocation of a new sequence.
+	 *
+	 *	@return	The next identifier of the sequence.
+	 */
+	public short nextShortId( String sequenceName, short seed ) {
+		final String S_ProcName = "nextShortId";
+		if( ( sequenceName == null ) || sequenceName.isEmpty() ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "sequenceName" );
+		}
+		synchronized( leaseLock ) {
+			Integer highWater = shortHighWater.get( sequenceName );
+			int next = ( highWater == null ) ? seed : highWater.intValue() + 1;
+			if( next > Short.MAX_VALUE ) {
+				throw new CFLibArgumentOverflowException( getClass(), S_ProcName, 1, sequenceName, next, Short.MAX_VALUE );
+			}
+			shortHighWater.put( sequenceName, Integer.valueOf( next ) );
+			if( stateFile != null ) {
+				try {
+					writeState( leaseLimit );
+				}
+				catch( RuntimeException e ) {
+					if( highWater == null ) {
+						shortHighWater.remove( sequenceName );
+					}
+					else {
+						shortHighWater.put( sequenceName, highWater );
+					}
+					throw e;
+				}
+			}
+			return( (short)next );
+		}
+	}
+
+	/**
+	 *	Raise the high-water mark of the named sequence to cover an identifier
+	 *	that was assigned elsewhere, such as by a reference data load.
+	 *
+	 *	@param	sequenceName	The name of the sequence.
+	 *	@param	value	The identifier in use.
+	 */
+	public void observeShortId( String sequenceName, short value ) {
+		if( ( sequenceName == null ) || sequenceName.isEmpty() ) {
+			throw new CFLibNullArgumentException( getClass(), "observeShortId", 1, "sequenceName" );
+		}
+		synchronized( leaseLock ) {
+			Integer highWater = shortHighWater.get( sequenceName );
+			if( ( highWater == null ) || ( highWater.intValue() < value ) ) {
+				shortHighWater.put( sequenceName, Integer.valueOf( value ) );
+				if( stateFile != null ) {
+					writeState( leaseLimit );
+				}
+			}
+		}
+	}
+
+	protected Properties readState() {
+		Properties state = new Properties();
+		if( ( stateFile != null ) && Files.isRegularFile( stateFile ) ) {
+			try( Reader reader = Files.newBufferedReader( stateFile, StandardCharsets.ISO_8859_1 ) ) {
+				state.load( reader );
+			}
+			catch( IOException e ) {
+				throw new UncheckedIOException( "Unable to read id generator state " + stateFile, e );
+			}
+		}
+		return( state );
+	}
+
+	/**
+	 *	Write the state file through a temporary file and an atomic rename, so a
+	 *	crash leaves either the previous or the new reservations on disk.
+	 *	Callers hold leaseLock.
+	 *
+	 *	@param	lease	The lease limit to record.
+	 */
+	protected void writeState( long lease ) {
+		if( stateFile == null ) {
+			return;
+		}
+		Properties state = new Properties();
+		state.setProperty( PROP_PREFIX, new String( prefixChars ) );
+		state.setProperty( PROP_LEASE, Long.toString( lease ) );
+		for( Map.Entry<String, Integer> entry : shortHighWater.entrySet() ) {
+			state.setProperty( PROP_SHORT + entry.getKey(), entry.getValue().toString() );
+		}
+		try {
+			Path dir = stateFile.toAbsolutePath().getParent();
+			if( dir != null ) {
+				Files.createDirectories( dir );
+			}
+			Path tmp = stateFile.resolveSibling( stateFile.getFileName().toString() + ".tmp" );
+			try( FileOutputStream out = new FileOutputStream( tmp.toFile() ) ) {
+				state.store( out, "CFSec buffer id generator state" );
+				out.flush();
+				out.getFD().sync();
+			}
+			try {
+				Files.move( tmp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+			}
+			catch( AtomicMoveNotSupportedException e ) {
+				Files.move( tmp, stateFile, StandardCopyOption.REPLACE_EXISTING );
+			}
+		}
+		catch( IOException e ) {
+			throw new UncheckedIOException( "Unable to write id generator state " + stateFile, e );
+		}
+	}
+}
@@ -0,0 +1,120 @@
+// Description: Java 25 navigation cache for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.util.concurrent.atomic.*;
+
+/*
+ *	CFSecBuffNavigationCache remembers the results of relationship navigation for one
+ *	buffer instance.  Each slot is stamped with the serial and the modification count
+ *	of the table it was read from, and is only reused while the schema still holds
+ *	that table and it reports the same count.  A table swapped in by a schema setter
+ *	has a different serial, so its stamps never match, whatever its count.
+ *
+ *	A cache instance belongs to a single buffer and is not synchronized; it has the
+ *	same threading rules as the buffer that owns it.
+ */
+public class CFSecBuffNavigationCache
+{
+	protected static final int COUNT_BITS = 40;
+	protected static final long COUNT_MASK = ( 1L << COUNT_BITS ) - 1L;
+	protected static final AtomicLong tableSerials = new AtomicLong();
+
+	protected final Object[] values;
+	protected final long[] stamps;
+
+	public CFSecBuffNavigationCache( int slotCount ) {
+		values = new Object[ slotCount ];
+		stamps = new long[ slotCount ];
+	}
+
+	/**
+	 *	Allocate the serial of a newly constructed table.
+	 *
+	 *	@return	A serial, starting at 1, that no other table has.
+	 */
+	public static long nextTableSerial() {
+		return( tableSerials.incrementAndGet() );
+	}
+
+	/**
+	 *	Get the stamp to use for navigation through a table.  The table's serial
+	 *	fills the high bits and its modification count the low COUNT_BITS bits.
+	 *
+	 *	@param	table	The table being navigated.
+	 *
+	 *	@return	A non-zero stamp if the table publishes a modification count,
+	 *		otherwise zero, meaning the result must not be cached.
+	 */
+	public static long stampOf( Object table ) {
+		if( table instanceof CFSecBuffVersionedTable ) {
+			CFSecBuffVersionedTable versioned = (CFSecBuffVersionedTable)table;
+			return( ( versioned.getTableSerial() << COUNT_BITS )
+				| ( ( versioned.getModificationCount() + 1L ) & COUNT_MASK ) );
+		}
+		return( 0L );
+	}
+
+	/**
+	 *	Discard every cached slot of the cache, if there is one.
+	 *
+	 *	@param	cache	The cache to clear, which may be null.
+	 */
+	public static void clear( CFSecBuffNavigationCache cache ) {
+		if( cache != null ) {
+			cache.clear();
+		}
+	}
+
+	public boolean isCurrent( int slot, long stamp ) {
+		return( ( stamp != 0L ) && ( stamps[ slot ] == stamp ) );
+	}
+
+	public Object getValue( int slot ) {
+		return( values[ slot ] );
+	}
+
+	public void put( int slot, long stamp, Object value ) {
+		values[ slot ] = value;
+		stamps[ slot ] = stamp;
+	}
+
+	public void clear() {
+		for( int idx = 0; idx < stamps.length; idx++ ) {
+			values[ idx ] = null;
+			stamps[ idx ] = 0L;
+		}
+	}
+}
@@ -0,0 +1,1136 @@
+// Description: Java 25 batched relationship prefetch for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.util.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffPrefetch loads the children of a whole collection of parent instances
+ *	through one batched index read, instead of one read per parent.  When the
+ *	parents are buffer instances and the child table publishes a modification
+ *	count, the children are also attached to the navigation cache of each parent,
+ *	so the matching getter is answered without another read until the child table
+ *	changes.
+ *
+ *	Relationship names are the navigation getter names without the "get" prefix,
+ *	for example "OptionalChildrenSecGrpMemb" for ICFSecSecUser.
+ */
+public final class CFSecBuffPrefetch
+{
+	private CFSecBuffPrefetch() {
+	}
+
+	protected static ICFSecSchema getBackingSchema( String methName ) {
+		ICFSecSchema targetBackingSchema = ICFSecSchema.getBackingCFSec();
+		if( targetBackingSchema == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, methName, 0, "ICFSecSchema.getBackingCFSec()" );
+		}
+		return( targetBackingSchema );
+	}
+
+	/**
+	 *	Prefetch one relationship for a collection of parents of the same type.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *	@param	relationName	The navigation getter name without the "get" prefix.
+	 */
+	@SuppressWarnings("unchecked")
+	public static void prefetch( Collection<?> parents, String relationName ) {
+		final String S_ProcName = "prefetch";
+		if( relationName == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 2, "relationName" );
+		}
+		if( parents == null ) {
+			return;
+		}
+		Object first = null;
+		for( Object cur : parents ) {
+			if( cur != null ) {
+				first = cur;
+				break;
+			}
+		}
+		if( first == null ) {
+			return;
+		}
+		if( first instanceof ICFSecCluster ) {
+			Collection<ICFSecCluster> typed = (Collection<ICFSecCluster>)parents;
+			switch( relationName ) {
+				case "OptionalComponentsHostNode":
+					prefetchClusterOptionalComponentsHostNode( typed );
+					return;
+				case "OptionalComponentsTenant":
+					prefetchClusterOptionalComponentsTenant( typed );
+					return;
+				case "OptionalComponentsSecGroup":
+					prefetchClusterOptionalComponentsSecGroup( typed );
+					return;
+				case "OptionalComponentsSysCluster":
+					prefetchClusterOptionalComponentsSysCluster( typed );
+					return;
+			}
+		}
+		else if( first instanceof ICFSecHostNode ) {
+			Collection<ICFSecHostNode> typed = (Collection<ICFSecHostNode>)parents;
+			switch( relationName ) {
+				case "OptionalComponentsService":
+					prefetchHostNodeOptionalComponentsService( typed );
+					return;
+			}
+		}
+		else if( first instanceof ICFSecISOCcy ) {
+			Collection<ICFSecISOCcy> typed = (Collection<ICFSecISOCcy>)parents;
+			switch( relationName ) {
+				case "OptionalChildrenCtry":
+					prefetchISOCcyOptionalChildrenCtry( typed );
+					return;
+			}
+		}
+		else if( first instanceof ICFSecISOCtry ) {
+			Collection<ICFSecISOCtry> typed = (Collection<ICFSecISOCtry>)parents;
+			switch( relationName ) {
+				case "OptionalComponentsCcy":
+					prefetchISOCtryOptionalComponentsCcy( typed );
+					return;
+				case "OptionalComponentsLang":
+					prefetchISOCtryOptionalComponentsLang( typed );
+					return;
+			}
+		}
+		else if( first instanceof ICFSecISOLang ) {
+			Collection<ICFSecISOLang> typed = (Collection<ICFSecISOLang>)parents;
+			switch( relationName ) {
+				case "OptionalChildrenCtry":
+					prefetchISOLangOptionalChildrenCtry( typed );
+					return;
+			}
+		}
+		else if( first instanceof ICFSecSecGroup ) {
+			Collection<ICFSecSecGroup> typed = (Collection<ICFSecSecGroup>)parents;
+			switch( relationName ) {
+				case "OptionalComponentsInclude":
+					prefetchSecGroupOptionalComponentsInclude( typed );
+					return;
+				case "OptionalComponentsMember":
+					prefetchSecGroupOptionalComponentsMember( typed );
+					return;
+				case "RequiredChildrenIncByGroup":
+					prefetchSecGroupRequiredChildrenIncByGroup( typed );
+					return;
+			}
+		}
+		else if( first instanceof ICFSecSecUser ) {
+			Collection<ICFSecSecUser> typed = (Collection<ICFSecSecUser>)parents;
+			switch( relationName ) {
+				case "OptionalComponentsSecDev":
+					prefetchSecUserOptionalComponentsSecDev( typed );
+					return;
+				case "OptionalComponentsSecSess":
+					prefetchSecUserOptionalComponentsSecSess( typed );
+					return;
+				case "OptionalChildrenSecProxy":
+					prefetchSecUserOptionalChildrenSecProxy( typed );
+					return;
+				case "OptionalChildrenSecGrpMemb":
+					prefetchSecUserOptionalChildrenSecGrpMemb( typed );
+					return;
+				case "OptionalChildrenTSecGrpMemb":
+					prefetchSecUserOptionalChildrenTSecGrpMemb( typed );
+					return;
+			}
+		}
+		else if( first instanceof ICFSecServiceType ) {
+			Collection<ICFSecServiceType> typed = (Collection<ICFSecServiceType>)parents;
+			switch( relationName ) {
+				case "OptionalChildrenDeployed":
+					prefetchServiceTypeOptionalChildrenDeployed( typed );
+					return;
+			}
+		}
+		else if( first instanceof ICFSecTSecGroup ) {
+			Collection<ICFSecTSecGroup> typed = (Collection<ICFSecTSecGroup>)parents;
+			switch( relationName ) {
+				case "OptionalComponentsInclude":
+					prefetchTSecGroupOptionalComponentsInclude( typed );
+					return;
+				case "OptionalComponentsMember":
+					prefetchTSecGroupOptionalComponentsMember( typed );
+					return;
+				case "RequiredChildrenIncByGroup":
+					prefetchTSecGroupRequiredChildrenIncByGroup( typed );
+					return;
+			}
+		}
+		else if( first instanceof ICFSecTenant ) {
+			Collection<ICFSecTenant> typed = (Collection<ICFSecTenant>)parents;
+			switch( relationName ) {
+				case "OptionalComponentsTSecGroup":
+					prefetchTenantOptionalComponentsTSecGroup( typed );
+					return;
+			}
+		}
+		throw new CFLibInvalidArgumentException( CFSecBuffPrefetch.class,
+			S_ProcName,
+			"Unsupported relationship \"" + relationName + "\" for " + first.getClass().getSimpleName(),
+			"Unsupported relationship \"" + relationName + "\" for " + first.getClass().getSimpleName() );
+	}
+
+	/**
+	 *	Prefetch ICFSecCluster.getOptionalComponentsHostNode() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecHostNode[]> prefetchClusterOptionalComponentsHostNode( Collection<? extends ICFSecCluster> parents ) {
+		final String S_ProcName = "prefetchClusterOptionalComponentsHostNode";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecHostNodeTable targetTable = getBackingSchema( S_ProcName ).getTableHostNode();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableHostNode()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecCluster parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecHostNode[]> children;
+		if( targetTable instanceof CFSecBuffHostNodeTable ) {
+			children = ( (CFSecBuffHostNodeTable)targetTable ).readDerivedByClusterIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecHostNode[] arr = targetTable.readDerivedByClusterIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecHostNode[0] );
+			}
+		}
+		for( ICFSecCluster parent : parents ) {
+			if( parent instanceof CFSecBuffCluster ) {
+				( (CFSecBuffCluster)parent ).primeNavigation( CFSecBuffCluster.NAV_OPTIONALCOMPONENTSHOSTNODE, navStamp, children.get( parent.getRequiredId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecCluster.getOptionalComponentsTenant() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecTenant[]> prefetchClusterOptionalComponentsTenant( Collection<? extends ICFSecCluster> parents ) {
+		final String S_ProcName = "prefetchClusterOptionalComponentsTenant";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecTenantTable targetTable = getBackingSchema( S_ProcName ).getTableTenant();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableTenant()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecCluster parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecTenant[]> children;
+		if( targetTable instanceof CFSecBuffTenantTable ) {
+			children = ( (CFSecBuffTenantTable)targetTable ).readDerivedByClusterIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecTenant[] arr = targetTable.readDerivedByClusterIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecTenant[0] );
+			}
+		}
+		for( ICFSecCluster parent : parents ) {
+			if( parent instanceof CFSecBuffCluster ) {
+				( (CFSecBuffCluster)parent ).primeNavigation( CFSecBuffCluster.NAV_OPTIONALCOMPONENTSTENANT, navStamp, children.get( parent.getRequiredId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecCluster.getOptionalComponentsSecGroup() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecSecGroup[]> prefetchClusterOptionalComponentsSecGroup( Collection<? extends ICFSecCluster> parents ) {
+		final String S_ProcName = "prefetchClusterOptionalComponentsSecGroup";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecSecGroupTable targetTable = getBackingSchema( S_ProcName ).getTableSecGroup();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableSecGroup()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecCluster parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecSecGroup[]> children;
+		if( targetTable instanceof CFSecBuffSecGroupTable ) {
+			children = ( (CFSecBuffSecGroupTable)targetTable ).readDerivedByClusterIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecSecGroup[] arr = targetTable.readDerivedByClusterIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecSecGroup[0] );
+			}
+		}
+		for( ICFSecCluster parent : parents ) {
+			if( parent instanceof CFSecBuffCluster ) {
+				( (CFSecBuffCluster)parent ).primeNavigation( CFSecBuffCluster.NAV_OPTIONALCOMPONENTSSECGROUP, navStamp, children.get( parent.getRequiredId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecCluster.getOptionalComponentsSysCluster() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecSysCluster[]> prefetchClusterOptionalComponentsSysCluster( Collection<? extends ICFSecCluster> parents ) {
+		final String S_ProcName = "prefetchClusterOptionalComponentsSysCluster";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecSysClusterTable targetTable = getBackingSchema( S_ProcName ).getTableSysCluster();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableSysCluster()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecCluster parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecSysCluster[]> children;
+		if( targetTable instanceof CFSecBuffSysClusterTable ) {
+			children = ( (CFSecBuffSysClusterTable)targetTable ).readDerivedByClusterIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecSysCluster[] arr = targetTable.readDerivedByClusterIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecSysCluster[0] );
+			}
+		}
+		for( ICFSecCluster parent : parents ) {
+			if( parent instanceof CFSecBuffCluster ) {
+				( (CFSecBuffCluster)parent ).primeNavigation( CFSecBuffCluster.NAV_OPTIONALCOMPONENTSSYSCLUSTER, navStamp, children.get( parent.getRequiredId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecHostNode.getOptionalComponentsService() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredHostNodeId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecService[]> prefetchHostNodeOptionalComponentsService( Collection<? extends ICFSecHostNode> parents ) {
+		final String S_ProcName = "prefetchHostNodeOptionalComponentsService";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecServiceTable targetTable = getBackingSchema( S_ProcName ).getTableService();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableService()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecHostNode parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredHostNodeId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecService[]> children;
+		if( targetTable instanceof CFSecBuffServiceTable ) {
+			children = ( (CFSecBuffServiceTable)targetTable ).readDerivedByHostIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecService[] arr = targetTable.readDerivedByHostIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecService[0] );
+			}
+		}
+		for( ICFSecHostNode parent : parents ) {
+			if( parent instanceof CFSecBuffHostNode ) {
+				( (CFSecBuffHostNode)parent ).primeNavigation( CFSecBuffHostNode.NAV_OPTIONALCOMPONENTSSERVICE, navStamp, children.get( parent.getRequiredHostNodeId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecISOCcy.getOptionalChildrenCtry() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredISOCcyId.
+	 */
+	public static Map<Short, ICFSecISOCtryCcy[]> prefetchISOCcyOptionalChildrenCtry( Collection<? extends ICFSecISOCcy> parents ) {
+		final String S_ProcName = "prefetchISOCcyOptionalChildrenCtry";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecISOCtryCcyTable targetTable = getBackingSchema( S_ProcName ).getTableISOCtryCcy();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableISOCtryCcy()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<Short> keys = new LinkedHashSet<>();
+		for( ICFSecISOCcy parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredISOCcyId() );
+			}
+		}
+		Map<Short, ICFSecISOCtryCcy[]> children;
+		if( targetTable instanceof CFSecBuffISOCtryCcyTable ) {
+			children = ( (CFSecBuffISOCtryCcyTable)targetTable ).readDerivedByCcyIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( Short key : keys ) {
+				ICFSecISOCtryCcy[] arr = targetTable.readDerivedByCcyIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecISOCtryCcy[0] );
+			}
+		}
+		for( ICFSecISOCcy parent : parents ) {
+			if( parent instanceof CFSecBuffISOCcy ) {
+				( (CFSecBuffISOCcy)parent ).primeNavigation( CFSecBuffISOCcy.NAV_OPTIONALCHILDRENCTRY, navStamp, children.get( parent.getRequiredISOCcyId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecISOCtry.getOptionalComponentsCcy() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredISOCtryId.
+	 */
+	public static Map<Short, ICFSecISOCtryCcy[]> prefetchISOCtryOptionalComponentsCcy( Collection<? extends ICFSecISOCtry> parents ) {
+		final String S_ProcName = "prefetchISOCtryOptionalComponentsCcy";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecISOCtryCcyTable targetTable = getBackingSchema( S_ProcName ).getTableISOCtryCcy();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableISOCtryCcy()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<Short> keys = new LinkedHashSet<>();
+		for( ICFSecISOCtry parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredISOCtryId() );
+			}
+		}
+		Map<Short, ICFSecISOCtryCcy[]> children;
+		if( targetTable instanceof CFSecBuffISOCtryCcyTable ) {
+			children = ( (CFSecBuffISOCtryCcyTable)targetTable ).readDerivedByCtryIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( Short key : keys ) {
+				ICFSecISOCtryCcy[] arr = targetTable.readDerivedByCtryIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecISOCtryCcy[0] );
+			}
+		}
+		for( ICFSecISOCtry parent : parents ) {
+			if( parent instanceof CFSecBuffISOCtry ) {
+				( (CFSecBuffISOCtry)parent ).primeNavigation( CFSecBuffISOCtry.NAV_OPTIONALCOMPONENTSCCY, navStamp, children.get( parent.getRequiredISOCtryId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecISOCtry.getOptionalComponentsLang() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredISOCtryId.
+	 */
+	public static Map<Short, ICFSecISOCtryLang[]> prefetchISOCtryOptionalComponentsLang( Collection<? extends ICFSecISOCtry> parents ) {
+		final String S_ProcName = "prefetchISOCtryOptionalComponentsLang";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecISOCtryLangTable targetTable = getBackingSchema( S_ProcName ).getTableISOCtryLang();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableISOCtryLang()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<Short> keys = new LinkedHashSet<>();
+		for( ICFSecISOCtry parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredISOCtryId() );
+			}
+		}
+		Map<Short, ICFSecISOCtryLang[]> children;
+		if( targetTable instanceof CFSecBuffISOCtryLangTable ) {
+			children = ( (CFSecBuffISOCtryLangTable)targetTable ).readDerivedByCtryIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( Short key : keys ) {
+				ICFSecISOCtryLang[] arr = targetTable.readDerivedByCtryIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecISOCtryLang[0] );
+			}
+		}
+		for( ICFSecISOCtry parent : parents ) {
+			if( parent instanceof CFSecBuffISOCtry ) {
+				( (CFSecBuffISOCtry)parent ).primeNavigation( CFSecBuffISOCtry.NAV_OPTIONALCOMPONENTSLANG, navStamp, children.get( parent.getRequiredISOCtryId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecISOLang.getOptionalChildrenCtry() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredISOLangId.
+	 */
+	public static Map<Short, ICFSecISOCtryLang[]> prefetchISOLangOptionalChildrenCtry( Collection<? extends ICFSecISOLang> parents ) {
+		final String S_ProcName = "prefetchISOLangOptionalChildrenCtry";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecISOCtryLangTable targetTable = getBackingSchema( S_ProcName ).getTableISOCtryLang();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableISOCtryLang()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<Short> keys = new LinkedHashSet<>();
+		for( ICFSecISOLang parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredISOLangId() );
+			}
+		}
+		Map<Short, ICFSecISOCtryLang[]> children;
+		if( targetTable instanceof CFSecBuffISOCtryLangTable ) {
+			children = ( (CFSecBuffISOCtryLangTable)targetTable ).readDerivedByLangIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( Short key : keys ) {
+				ICFSecISOCtryLang[] arr = targetTable.readDerivedByLangIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecISOCtryLang[0] );
+			}
+		}
+		for( ICFSecISOLang parent : parents ) {
+			if( parent instanceof CFSecBuffISOLang ) {
+				( (CFSecBuffISOLang)parent ).primeNavigation( CFSecBuffISOLang.NAV_OPTIONALCHILDRENCTRY, navStamp, children.get( parent.getRequiredISOLangId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecSecGroup.getOptionalComponentsInclude() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredSecGroupId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecSecGrpInc[]> prefetchSecGroupOptionalComponentsInclude( Collection<? extends ICFSecSecGroup> parents ) {
+		final String S_ProcName = "prefetchSecGroupOptionalComponentsInclude";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecSecGrpIncTable targetTable = getBackingSchema( S_ProcName ).getTableSecGrpInc();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableSecGrpInc()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecSecGroup parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredSecGroupId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecSecGrpInc[]> children;
+		if( targetTable instanceof CFSecBuffSecGrpIncTable ) {
+			children = ( (CFSecBuffSecGrpIncTable)targetTable ).readDerivedByGroupIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecSecGrpInc[] arr = targetTable.readDerivedByGroupIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecSecGrpInc[0] );
+			}
+		}
+		for( ICFSecSecGroup parent : parents ) {
+			if( parent instanceof CFSecBuffSecGroup ) {
+				( (CFSecBuffSecGroup)parent ).primeNavigation( CFSecBuffSecGroup.NAV_OPTIONALCOMPONENTSINCLUDE, navStamp, children.get( parent.getRequiredSecGroupId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecSecGroup.getOptionalComponentsMember() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredSecGroupId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecSecGrpMemb[]> prefetchSecGroupOptionalComponentsMember( Collection<? extends ICFSecSecGroup> parents ) {
+		final String S_ProcName = "prefetchSecGroupOptionalComponentsMember";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecSecGrpMembTable targetTable = getBackingSchema( S_ProcName ).getTableSecGrpMemb();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableSecGrpMemb()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecSecGroup parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredSecGroupId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecSecGrpMemb[]> children;
+		if( targetTable instanceof CFSecBuffSecGrpMembTable ) {
+			children = ( (CFSecBuffSecGrpMembTable)targetTable ).readDerivedByGroupIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecSecGrpMemb[] arr = targetTable.readDerivedByGroupIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecSecGrpMemb[0] );
+			}
+		}
+		for( ICFSecSecGroup parent : parents ) {
+			if( parent instanceof CFSecBuffSecGroup ) {
+				( (CFSecBuffSecGroup)parent ).primeNavigation( CFSecBuffSecGroup.NAV_OPTIONALCOMPONENTSMEMBER, navStamp, children.get( parent.getRequiredSecGroupId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecSecGroup.getRequiredChildrenIncByGroup() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredSecGroupId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecSecGrpInc[]> prefetchSecGroupRequiredChildrenIncByGroup( Collection<? extends ICFSecSecGroup> parents ) {
+		final String S_ProcName = "prefetchSecGroupRequiredChildrenIncByGroup";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecSecGrpIncTable targetTable = getBackingSchema( S_ProcName ).getTableSecGrpInc();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableSecGrpInc()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecSecGroup parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredSecGroupId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecSecGrpInc[]> children;
+		if( targetTable instanceof CFSecBuffSecGrpIncTable ) {
+			children = ( (CFSecBuffSecGrpIncTable)targetTable ).readDerivedByIncludeIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecSecGrpInc[] arr = targetTable.readDerivedByIncludeIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecSecGrpInc[0] );
+			}
+		}
+		for( ICFSecSecGroup parent : parents ) {
+			if( parent instanceof CFSecBuffSecGroup ) {
+				( (CFSecBuffSecGroup)parent ).primeNavigation( CFSecBuffSecGroup.NAV_REQUIREDCHILDRENINCBYGROUP, navStamp, children.get( parent.getRequiredSecGroupId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecSecUser.getOptionalComponentsSecDev() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredSecUserId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecSecDevice[]> prefetchSecUserOptionalComponentsSecDev( Collection<? extends ICFSecSecUser> parents ) {
+		final String S_ProcName = "prefetchSecUserOptionalComponentsSecDev";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecSecDeviceTable targetTable = getBackingSchema( S_ProcName ).getTableSecDevice();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableSecDevice()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecSecUser parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredSecUserId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecSecDevice[]> children;
+		if( targetTable instanceof CFSecBuffSecDeviceTable ) {
+			children = ( (CFSecBuffSecDeviceTable)targetTable ).readDerivedByUserIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecSecDevice[] arr = targetTable.readDerivedByUserIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecSecDevice[0] );
+			}
+		}
+		for( ICFSecSecUser parent : parents ) {
+			if( parent instanceof CFSecBuffSecUser ) {
+				( (CFSecBuffSecUser)parent ).primeNavigation( CFSecBuffSecUser.NAV_OPTIONALCOMPONENTSSECDEV, navStamp, children.get( parent.getRequiredSecUserId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecSecUser.getOptionalComponentsSecSess() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredSecUserId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecSecSession[]> prefetchSecUserOptionalComponentsSecSess( Collection<? extends ICFSecSecUser> parents ) {
+		final String S_ProcName = "prefetchSecUserOptionalComponentsSecSess";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecSecSessionTable targetTable = getBackingSchema( S_ProcName ).getTableSecSession();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableSecSession()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecSecUser parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredSecUserId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecSecSession[]> children;
+		if( targetTable instanceof CFSecBuffSecSessionTable ) {
+			children = ( (CFSecBuffSecSessionTable)targetTable ).readDerivedBySecUserIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecSecSession[] arr = targetTable.readDerivedBySecUserIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecSecSession[0] );
+			}
+		}
+		for( ICFSecSecUser parent : parents ) {
+			if( parent instanceof CFSecBuffSecUser ) {
+				( (CFSecBuffSecUser)parent ).primeNavigation( CFSecBuffSecUser.NAV_OPTIONALCOMPONENTSSECSESS, navStamp, children.get( parent.getRequiredSecUserId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecSecUser.getOptionalChildrenSecProxy() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredSecUserId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecSecSession[]> prefetchSecUserOptionalChildrenSecProxy( Collection<? extends ICFSecSecUser> parents ) {
+		final String S_ProcName = "prefetchSecUserOptionalChildrenSecProxy";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecSecSessionTable targetTable = getBackingSchema( S_ProcName ).getTableSecSession();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableSecSession()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecSecUser parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredSecUserId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecSecSession[]> children;
+		if( targetTable instanceof CFSecBuffSecSessionTable ) {
+			children = ( (CFSecBuffSecSessionTable)targetTable ).readDerivedBySecProxyIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecSecSession[] arr = targetTable.readDerivedBySecProxyIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecSecSession[0] );
+			}
+		}
+		for( ICFSecSecUser parent : parents ) {
+			if( parent instanceof CFSecBuffSecUser ) {
+				( (CFSecBuffSecUser)parent ).primeNavigation( CFSecBuffSecUser.NAV_OPTIONALCHILDRENSECPROXY, navStamp, children.get( parent.getRequiredSecUserId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecSecUser.getOptionalChildrenSecGrpMemb() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredSecUserId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecSecGrpMemb[]> prefetchSecUserOptionalChildrenSecGrpMemb( Collection<? extends ICFSecSecUser> parents ) {
+		final String S_ProcName = "prefetchSecUserOptionalChildrenSecGrpMemb";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecSecGrpMembTable targetTable = getBackingSchema( S_ProcName ).getTableSecGrpMemb();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableSecGrpMemb()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecSecUser parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredSecUserId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecSecGrpMemb[]> children;
+		if( targetTable instanceof CFSecBuffSecGrpMembTable ) {
+			children = ( (CFSecBuffSecGrpMembTable)targetTable ).readDerivedByUserIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecSecGrpMemb[] arr = targetTable.readDerivedByUserIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecSecGrpMemb[0] );
+			}
+		}
+		for( ICFSecSecUser parent : parents ) {
+			if( parent instanceof CFSecBuffSecUser ) {
+				( (CFSecBuffSecUser)parent ).primeNavigation( CFSecBuffSecUser.NAV_OPTIONALCHILDRENSECGRPMEMB, navStamp, children.get( parent.getRequiredSecUserId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecSecUser.getOptionalChildrenTSecGrpMemb() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredSecUserId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecTSecGrpMemb[]> prefetchSecUserOptionalChildrenTSecGrpMemb( Collection<? extends ICFSecSecUser> parents ) {
+		final String S_ProcName = "prefetchSecUserOptionalChildrenTSecGrpMemb";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecTSecGrpMembTable targetTable = getBackingSchema( S_ProcName ).getTableTSecGrpMemb();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableTSecGrpMemb()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecSecUser parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredSecUserId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecTSecGrpMemb[]> children;
+		if( targetTable instanceof CFSecBuffTSecGrpMembTable ) {
+			children = ( (CFSecBuffTSecGrpMembTable)targetTable ).readDerivedByUserIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecTSecGrpMemb[] arr = targetTable.readDerivedByUserIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecTSecGrpMemb[0] );
+			}
+		}
+		for( ICFSecSecUser parent : parents ) {
+			if( parent instanceof CFSecBuffSecUser ) {
+				( (CFSecBuffSecUser)parent ).primeNavigation( CFSecBuffSecUser.NAV_OPTIONALCHILDRENTSECGRPMEMB, navStamp, children.get( parent.getRequiredSecUserId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecServiceType.getOptionalChildrenDeployed() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredServiceTypeId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecService[]> prefetchServiceTypeOptionalChildrenDeployed( Collection<? extends ICFSecServiceType> parents ) {
+		final String S_ProcName = "prefetchServiceTypeOptionalChildrenDeployed";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecServiceTable targetTable = getBackingSchema( S_ProcName ).getTableService();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableService()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecServiceType parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredServiceTypeId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecService[]> children;
+		if( targetTable instanceof CFSecBuffServiceTable ) {
+			children = ( (CFSecBuffServiceTable)targetTable ).readDerivedByTypeIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecService[] arr = targetTable.readDerivedByTypeIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecService[0] );
+			}
+		}
+		for( ICFSecServiceType parent : parents ) {
+			if( parent instanceof CFSecBuffServiceType ) {
+				( (CFSecBuffServiceType)parent ).primeNavigation( CFSecBuffServiceType.NAV_OPTIONALCHILDRENDEPLOYED, navStamp, children.get( parent.getRequiredServiceTypeId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecTSecGroup.getOptionalComponentsInclude() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredTSecGroupId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecTSecGrpInc[]> prefetchTSecGroupOptionalComponentsInclude( Collection<? extends ICFSecTSecGroup> parents ) {
+		final String S_ProcName = "prefetchTSecGroupOptionalComponentsInclude";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecTSecGrpIncTable targetTable = getBackingSchema( S_ProcName ).getTableTSecGrpInc();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableTSecGrpInc()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecTSecGroup parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredTSecGroupId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecTSecGrpInc[]> children;
+		if( targetTable instanceof CFSecBuffTSecGrpIncTable ) {
+			children = ( (CFSecBuffTSecGrpIncTable)targetTable ).readDerivedByGroupIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecTSecGrpInc[] arr = targetTable.readDerivedByGroupIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecTSecGrpInc[0] );
+			}
+		}
+		for( ICFSecTSecGroup parent : parents ) {
+			if( parent instanceof CFSecBuffTSecGroup ) {
+				( (CFSecBuffTSecGroup)parent ).primeNavigation( CFSecBuffTSecGroup.NAV_OPTIONALCOMPONENTSINCLUDE, navStamp, children.get( parent.getRequiredTSecGroupId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecTSecGroup.getOptionalComponentsMember() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredTSecGroupId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecTSecGrpMemb[]> prefetchTSecGroupOptionalComponentsMember( Collection<? extends ICFSecTSecGroup> parents ) {
+		final String S_ProcName = "prefetchTSecGroupOptionalComponentsMember";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecTSecGrpMembTable targetTable = getBackingSchema( S_ProcName ).getTableTSecGrpMemb();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableTSecGrpMemb()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecTSecGroup parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredTSecGroupId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecTSecGrpMemb[]> children;
+		if( targetTable instanceof CFSecBuffTSecGrpMembTable ) {
+			children = ( (CFSecBuffTSecGrpMembTable)targetTable ).readDerivedByGroupIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecTSecGrpMemb[] arr = targetTable.readDerivedByGroupIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecTSecGrpMemb[0] );
+			}
+		}
+		for( ICFSecTSecGroup parent : parents ) {
+			if( parent instanceof CFSecBuffTSecGroup ) {
+				( (CFSecBuffTSecGroup)parent ).primeNavigation( CFSecBuffTSecGroup.NAV_OPTIONALCOMPONENTSMEMBER, navStamp, children.get( parent.getRequiredTSecGroupId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecTSecGroup.getRequiredChildrenIncByGroup() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredTSecGroupId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecTSecGrpInc[]> prefetchTSecGroupRequiredChildrenIncByGroup( Collection<? extends ICFSecTSecGroup> parents ) {
+		final String S_ProcName = "prefetchTSecGroupRequiredChildrenIncByGroup";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecTSecGrpIncTable targetTable = getBackingSchema( S_ProcName ).getTableTSecGrpInc();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableTSecGrpInc()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecTSecGroup parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredTSecGroupId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecTSecGrpInc[]> children;
+		if( targetTable instanceof CFSecBuffTSecGrpIncTable ) {
+			children = ( (CFSecBuffTSecGrpIncTable)targetTable ).readDerivedByIncludeIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecTSecGrpInc[] arr = targetTable.readDerivedByIncludeIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecTSecGrpInc[0] );
+			}
+		}
+		for( ICFSecTSecGroup parent : parents ) {
+			if( parent instanceof CFSecBuffTSecGroup ) {
+				( (CFSecBuffTSecGroup)parent ).primeNavigation( CFSecBuffTSecGroup.NAV_REQUIREDCHILDRENINCBYGROUP, navStamp, children.get( parent.getRequiredTSecGroupId() ) );
+			}
+		}
+		return( children );
+	}
+
+	/**
+	 *	Prefetch ICFSecTenant.getOptionalComponentsTSecGroup() for every parent.
+	 *
+	 *	@param	parents	The parent instances; null elements are ignored.
+	 *
+	 *	@return	The children read, keyed by parent RequiredId.
+	 */
+	public static Map<CFLibDbKeyHash256, ICFSecTSecGroup[]> prefetchTenantOptionalComponentsTSecGroup( Collection<? extends ICFSecTenant> parents ) {
+		final String S_ProcName = "prefetchTenantOptionalComponentsTSecGroup";
+		if( parents == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 1, "parents" );
+		}
+		ICFSecTSecGroupTable targetTable = getBackingSchema( S_ProcName ).getTableTSecGroup();
+		if( targetTable == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffPrefetch.class, S_ProcName, 0, "ICFSecSchema.getBackingCFSec().getTableTSecGroup()" );
+		}
+		long navStamp = CFSecBuffNavigationCache.stampOf( targetTable );
+		Set<CFLibDbKeyHash256> keys = new LinkedHashSet<>();
+		for( ICFSecTenant parent : parents ) {
+			if( parent != null ) {
+				keys.add( parent.getRequiredId() );
+			}
+		}
+		Map<CFLibDbKeyHash256, ICFSecTSecGroup[]> children;
+		if( targetTable instanceof CFSecBuffTSecGroupTable ) {
+			children = ( (CFSecBuffTSecGroupTable)targetTable ).readDerivedByTenantIdxBatch( null, keys );
+		}
+		else {
+			children = new HashMap<>( Math.max( 16, keys.size() * 2 ) );
+			for( CFLibDbKeyHash256 key : keys ) {
+				ICFSecTSecGroup[] arr = targetTable.readDerivedByTenantIdx( null, key );
+				children.put( key, ( arr != null ) ? arr : new ICFSecTSecGroup[0] );
+			}
+		}
+		for( ICFSecTenant parent : parents ) {
+			if( parent instanceof CFSecBuffTenant ) {
+				( (CFSecBuffTenant)parent ).primeNavigation( CFSecBuffTenant.NAV_OPTIONALCOMPONENTSTSECGROUP, navStamp, children.get( parent.getRequiredId() ) );
+			}
+		}
+		return( children );
+	}
+}
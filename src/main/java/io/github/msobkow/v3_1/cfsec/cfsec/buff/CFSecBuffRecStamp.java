@@ -0,0 +1,106 @@
+// Description: Java 25 audit timestamp policy for CFSec buffer construction
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.time.*;
+import io.github.msobkow.v3_1.cflib.*;
+
+/*
+ *	CFSecBuffRecStamp decides where the audit timestamps of a newly constructed
+ *	buffer come from.  An eager stamp reads its clock during construction, as the
+ *	buffers always did.  A lazy stamp defers the clock read until a timestamp is
+ *	first read, so instances whose timestamps are overwritten right after
+ *	construction, such as rows being deserialised, never touch the clock.
+ *
+ *	The clock is the system default clock unless one is supplied, which lets
+ *	bulk loaders and replays stamp with a fixed or simulated time.
+ */
+public final class CFSecBuffRecStamp
+{
+	public static final CFSecBuffRecStamp EAGER = new CFSecBuffRecStamp( null, false );
+	public static final CFSecBuffRecStamp LAZY = new CFSecBuffRecStamp( null, true );
+
+	private final Clock clock;
+	private final boolean lazy;
+
+	private CFSecBuffRecStamp( Clock clock, boolean lazy ) {
+		this.clock = clock;
+		this.lazy = lazy;
+	}
+
+	/**
+	 *	Stamp during construction from the specified clock.
+	 *
+	 *	@param	clock	The clock to read.
+	 */
+	public static CFSecBuffRecStamp eager( Clock clock ) {
+		if( clock == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffRecStamp.class, "eager", 1, "clock" );
+		}
+		return( new CFSecBuffRecStamp( clock, false ) );
+	}
+
+	/**
+	 *	Stamp on first read from the specified clock.
+	 *
+	 *	@param	clock	The clock to read.
+	 */
+	public static CFSecBuffRecStamp lazy( Clock clock ) {
+		if( clock == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffRecStamp.class, "lazy", 1, "clock" );
+		}
+		return( new CFSecBuffRecStamp( clock, true ) );
+	}
+
+	public boolean isLazy() {
+		return( lazy );
+	}
+
+	/**
+	 *	@return	The clock this stamp reads, or null for the system default clock.
+	 */
+	public Clock getClock() {
+		return( clock );
+	}
+
+	public LocalDateTime now() {
+		if( clock == null ) {
+			return( LocalDateTime.now() );
+		}
+		else {
+			return( LocalDateTime.now( clock ) );
+		}
+	}
+}
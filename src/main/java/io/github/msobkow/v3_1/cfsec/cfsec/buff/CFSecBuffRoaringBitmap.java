@@ -0,0 +1,1029 @@
+// Description: Java 25 compressed integer bitmap for CFSec buffer indexes
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.util.*;
+import java.util.function.*;
+import io.github.msobkow.v3_1.cflib.*;
+
+/*
+ *	CFSecBuffRoaringBitmap is a compressed set of non-negative int ordinals in the
+ *	style of a roaring bitmap.  The ordinals are split on their high 16 bits into
+ *	chunks.  A chunk with at most 4096 members is held as a sorted char array,
+ *	and a denser chunk as a 1024-word bitset.  runOptimize() turns a chunk made
+ *	of long consecutive stretches, such as a range of dense ordinals, into a list
+ *	of runs when that is smaller.  A run chunk stays a run chunk while it is
+ *	edited and falls back to an array or bitset once runs stop paying.  Set
+ *	operations work chunk by chunk and pick the cheapest pairing of the two
+ *	representations.
+ *
+ *	Instances are not thread safe.  The static operations never modify their
+ *	arguments and always return a new bitmap.
+ */
+public final class CFSecBuffRoaringBitmap
+	implements Cloneable
+{
+	protected static final int ARRAY_MAX = 4096;
+	protected static final int BITMAP_WORDS = 1024;
+	protected static final long BITMAP_BYTES = 8L * BITMAP_WORDS;
+
+	protected abstract static class Container
+	{
+		protected abstract int cardinality();
+		protected abstract boolean contains( char low );
+		protected abstract Container add( char low );
+		protected abstract Container remove( char low );
+		protected abstract void forEach( int high, IntConsumer action );
+		protected abstract Container copy();
+		protected abstract long sizeInBytes();
+	}
+
+	protected static final class ArrayContainer
+		extends Container
+	{
+		protected char[] content;
+		protected int card;
+
+		protected ArrayContainer( int capacity ) {
+			content = new char[ Math.max( capacity, 4 ) ];
+			card = 0;
+		}
+
+		protected ArrayContainer( char[] content, int card ) {
+			this.content = content;
+			this.card = card;
+		}
+
+		@Override
+		protected int cardinality() {
+			return( card );
+		}
+
+		@Override
+		protected boolean contains( char low ) {
+			return( Arrays.binarySearch( content, 0, card, low ) >= 0 );
+		}
+
+		@Override
+		protected Container add( char low ) {
+			int idx = Arrays.binarySearch( content, 0, card, low );
+			if( idx >= 0 ) {
+				return( this );
+			}
+			if( card >= ARRAY_MAX ) {
+				return( toBitmap().add( low ) );
+			}
+			idx = -idx - 1;
+			if( card == content.length ) {
+				content = Arrays.copyOf( content, Math.min( ARRAY_MAX, content.length * 2 ) );
+			}
+			System.arraycopy( content, idx, content, idx + 1, card - idx );
+			content[ idx ] = low;
+			card++;
+			return( this );
+		}
+
+		@Override
+		protected Container remove( char low ) {
+			int idx = Arrays.binarySearch( content, 0, card, low );
+			if( idx < 0 ) {
+				return( this );
+			}
+			System.arraycopy( content, idx + 1, content, idx, card - idx - 1 );
+			card--;
+			return( ( card == 0 ) ? null : this );
+		}
+
+		@Override
+		protected void forEach( int high, IntConsumer action ) {
+			for( int idx = 0; idx < card; idx++ ) {
+				action.accept( high | content[ idx ] );
+			}
+		}
+
+		@Override
+		protected Container copy() {
+			return( new ArrayContainer( Arrays.copyOf( content, Math.max( card, 4 ) ), card ) );
+		}
+
+		@Override
+		protected long sizeInBytes() {
+			return( 16L + 2L * content.length );
+		}
+
+		protected BitmapContainer toBitmap() {
+			BitmapContainer bitmap = new BitmapContainer();
+			for( int idx = 0; idx < card; idx++ ) {
+				char low = content[ idx ];
+				bitmap.words[ low >>> 6 ] |= 1L << low;
+			}
+			bitmap.card = card;
+			return( bitmap );
+		}
+	}
+
+	protected static final class BitmapContainer
+		extends Container
+	{
+		protected final long[] words;
+		protected int card;
+
+		protected BitmapContainer() {
+			words = new long[ BITMAP_WORDS ];
+			card = 0;
+		}
+
+		protected BitmapContainer( long[] words ) {
+			this.words = words;
+			int count = 0;
+			for( long word : words ) {
+				count += Long.bitCount( word );
+			}
+			this.card = count;
+		}
+
+		@Override
+		protected int cardinality() {
+			return( card );
+		}
+
+		@Override
+		protected boolean contains( char low ) {
+			return( ( words[ low >>> 6 ] & ( 1L << low ) ) != 0L );
+		}
+
+		@Override
+		protected Container add( char low ) {
+			long bit = 1L << low;
+			long word = words[ low >>> 6 ];
+			if( ( word & bit ) == 0L ) {
+				words[ low >>> 6 ] = word | bit;
+				card++;
+			}
+			return( this );
+		}
+
+		@Override
+		protected Container remove( char low ) {
+			long bit = 1L << low;
+			long word = words[ low >>> 6 ];
+			if( ( word & bit ) == 0L ) {
+				return( this );
+			}
+			words[ low >>> 6 ] = word & ~bit;
+			card--;
+			return( ( card <= ARRAY_MAX ) ? toArray() : this );
+		}
+
+		@Override
+		protected void forEach( int high, IntConsumer action ) {
+			for( int wordIdx = 0; wordIdx < BITMAP_WORDS; wordIdx++ ) {
+				long word = words[ wordIdx ];
+				while( word != 0L ) {
+					action.accept( high | ( wordIdx << 6 ) | Long.numberOfTrailingZeros( word ) );
+					word &= word - 1L;
+				}
+			}
+		}
+
+		@Override
+		protected Container copy() {
+			return( new BitmapContainer( words.clone() ) );
+		}
+
+		@Override
+		protected long sizeInBytes() {
+			return( 16L + 8L * BITMAP_WORDS );
+		}
+
+		protected ArrayContainer toArray() {
+			ArrayContainer array = new ArrayContainer( card );
+			int idx = 0;
+			for( int wordIdx = 0; wordIdx < BITMAP_WORDS; wordIdx++ ) {
+				long word = words[ wordIdx ];
+				while( word != 0L ) {
+					array.content[ idx++ ] = (char)( ( wordIdx << 6 ) | Long.numberOfTrailingZeros( word ) );
+					word &= word - 1L;
+				}
+			}
+			array.card = idx;
+			return( array );
+		}
+	}
+
+	protected static final class RunContainer
+		extends Container
+	{
+		protected char[] starts;
+		protected char[] lengths;
+		protected int nruns;
+		protected int card;
+
+		protected RunContainer( int capacity ) {
+			starts = new char[ Math.max( capacity, 4 ) ];
+			lengths = new char[ Math.max( capacity, 4 ) ];
+			nruns = 0;
+			card = 0;
+		}
+
+		protected RunContainer( char[] starts, char[] lengths, int nruns, int card ) {
+			this.starts = starts;
+			this.lengths = lengths;
+			this.nruns = nruns;
+			this.card = card;
+		}
+
+		@Override
+		protected int cardinality() {
+			return( card );
+		}
+
+		/**
+		 *	Find the last run that starts at or before a value.
+		 */
+		protected int indexOfRun( char low ) {
+			int idx = Arrays.binarySearch( starts, 0, nruns, low );
+			return( ( idx >= 0 ) ? idx : -idx - 2 );
+		}
+
+		@Override
+		protected boolean contains( char low ) {
+			int idx = indexOfRun( low );
+			return( ( idx >= 0 ) && ( low - starts[ idx ] <= lengths[ idx ] ) );
+		}
+
+		@Override
+		protected Container add( char low ) {
+			int idx = indexOfRun( low );
+			if( ( idx >= 0 ) && ( low - starts[ idx ] <= lengths[ idx ] ) ) {
+				return( this );
+			}
+			boolean extendsPrev = ( idx >= 0 ) && ( low == starts[ idx ] + lengths[ idx ] + 1 );
+			boolean extendsNext = ( idx + 1 < nruns ) && ( low + 1 == starts[ idx + 1 ] );
+			if( extendsPrev && extendsNext ) {
+				lengths[ idx ] = (char)( lengths[ idx ] + lengths[ idx + 1 ] + 2 );
+				removeRun( idx + 1 );
+			}
+			else if( extendsPrev ) {
+				lengths[ idx ]++;
+			}
+			else if( extendsNext ) {
+				starts[ idx + 1 ] = low;
+				lengths[ idx + 1 ]++;
+			}
+			else {
+				insertRun( idx + 1, low, (char)0 );
+			}
+			card++;
+			return( toEfficient() );
+		}
+
+		@Override
+		protected Container remove( char low ) {
+			int idx = indexOfRun( low );
+			if( ( idx < 0 ) || ( low - starts[ idx ] > lengths[ idx ] ) ) {
+				return( this );
+			}
+			int start = starts[ idx ];
+			int end = start + lengths[ idx ];
+			if( start == end ) {
+				removeRun( idx );
+			}
+			else if( low == start ) {
+				starts[ idx ]++;
+				lengths[ idx ]--;
+			}
+			else if( low == end ) {
+				lengths[ idx ]--;
+			}
+			else {
+				lengths[ idx ] = (char)( low - start - 1 );
+				insertRun( idx + 1, (char)( low + 1 ), (char)( end - low - 1 ) );
+			}
+			card--;
+			return( ( card == 0 ) ? null : toEfficient() );
+		}
+
+		protected void insertRun( int idx, char start, char length ) {
+			if( nruns == starts.length ) {
+				starts = Arrays.copyOf( starts, starts.length * 2 );
+				lengths = Arrays.copyOf( lengths, lengths.length * 2 );
+			}
+			System.arraycopy( starts, idx, starts, idx + 1, nruns - idx );
+			System.arraycopy( lengths, idx, lengths, idx + 1, nruns - idx );
+			starts[ idx ] = start;
+			lengths[ idx ] = length;
+			nruns++;
+		}
+
+		protected void removeRun( int idx ) {
+			System.arraycopy( starts, idx + 1, starts, idx, nruns - idx - 1 );
+			System.arraycopy( lengths, idx + 1, lengths, idx, nruns - idx - 1 );
+			nruns--;
+		}
+
+		/**
+		 *	Append a value greater than every value already held.
+		 */
+		protected void append( char low ) {
+			if( ( nruns > 0 ) && ( low == starts[ nruns - 1 ] + lengths[ nruns - 1 ] + 1 ) ) {
+				lengths[ nruns - 1 ]++;
+			}
+			else {
+				insertRun( nruns, low, (char)0 );
+			}
+			card++;
+		}
+
+		@Override
+		protected void forEach( int high, IntConsumer action ) {
+			for( int idx = 0; idx < nruns; idx++ ) {
+				int end = starts[ idx ] + lengths[ idx ];
+				for( int low = starts[ idx ]; low <= end; low++ ) {
+					action.accept( high | low );
+				}
+			}
+		}
+
+		@Override
+		protected Container copy() {
+			return( new RunContainer( Arrays.copyOf( starts, Math.max( nruns, 4 ) ),
+				Arrays.copyOf( lengths, Math.max( nruns, 4 ) ),
+				nruns,
+				card ) );
+		}
+
+		@Override
+		protected long sizeInBytes() {
+			return( 24L + 4L * starts.length );
+		}
+
+		/**
+		 *	Keep the runs while they are no larger than the array or bitset
+		 *	holding the same values, otherwise convert.
+		 */
+		protected Container toEfficient() {
+			long runBytes = runBytes( nruns );
+			if( card <= ARRAY_MAX ) {
+				return( ( runBytes <= 2L * card ) ? this : toArray() );
+			}
+			return( ( runBytes <= BITMAP_BYTES ) ? this : toBitmap() );
+		}
+
+		protected Container toArrayOrBitmap() {
+			return( ( card <= ARRAY_MAX ) ? toArray() : toBitmap() );
+		}
+
+		protected ArrayContainer toArray() {
+			ArrayContainer array = new ArrayContainer( card );
+			int out = 0;
+			for( int idx = 0; idx < nruns; idx++ ) {
+				int end = starts[ idx ] + lengths[ idx ];
+				for( int low = starts[ idx ]; low <= end; low++ ) {
+					array.content[ out++ ] = (char)low;
+				}
+			}
+			array.card = out;
+			return( array );
+		}
+
+		protected BitmapContainer toBitmap() {
+			long[] words = new long[ BITMAP_WORDS ];
+			for( int idx = 0; idx < nruns; idx++ ) {
+				int from = starts[ idx ];
+				int to = from + lengths[ idx ] + 1;
+				int fromWord = from >>> 6;
+				int lastWord = ( to - 1 ) >>> 6;
+				long firstMask = -1L << from;
+				long lastMask = -1L >>> -to;
+				if( fromWord == lastWord ) {
+					words[ fromWord ] |= firstMask & lastMask;
+				}
+				else {
+					words[ fromWord ] |= firstMask;
+					for( int wordIdx = fromWord + 1; wordIdx < lastWord; wordIdx++ ) {
+						words[ wordIdx ] = -1L;
+					}
+					words[ lastWord ] |= lastMask;
+				}
+			}
+			return( new BitmapContainer( words ) );
+		}
+	}
+
+	protected char[] keys;
+	protected Container[] containers;
+	protected int size;
+
+	public CFSecBuffRoaringBitmap() {
+		keys = new char[ 4 ];
+		containers = new Container[ 4 ];
+		size = 0;
+	}
+
+	protected CFSecBuffRoaringBitmap( int capacity ) {
+		keys = new char[ Math.max( capacity, 4 ) ];
+		containers = new Container[ Math.max( capacity, 4 ) ];
+		size = 0;
+	}
+
+	/**
+	 *	Construct a bitmap holding the given ordinals.
+	 *
+	 *	@param	values	The ordinals to add.
+	 *
+	 *	@return	A new bitmap.
+	 */
+	public static CFSecBuffRoaringBitmap of( int... values ) {
+		CFSecBuffRoaringBitmap bitmap = new CFSecBuffRoaringBitmap();
+		if( values != null ) {
+			for( int value : values ) {
+				bitmap.add( value );
+			}
+		}
+		return( bitmap );
+	}
+
+	protected int indexOfKey( char high ) {
+		return( Arrays.binarySearch( keys, 0, size, high ) );
+	}
+
+	protected void appendContainer( char high, Container container ) {
+		if( size == keys.length ) {
+			int capacity = keys.length * 2;
+			keys = Arrays.copyOf( keys, capacity );
+			containers = Arrays.copyOf( containers, capacity );
+		}
+		keys[ size ] = high;
+		containers[ size ] = container;
+		size++;
+	}
+
+	protected static void checkOrdinal( String methName, int value ) {
+		if( value < 0 ) {
+			throw new CFLibArgumentUnderflowException( CFSecBuffRoaringBitmap.class,
+				methName,
+				1,
+				"value",
+				value,
+				0 );
+		}
+	}
+
+	/**
+	 *	Add an ordinal.
+	 *
+	 *	@param	value	The non-negative ordinal to add.
+	 *
+	 *	@return	True if the ordinal was not already present.
+	 */
+	public boolean add( int value ) {
+		checkOrdinal( "add", value );
+		char high = (char)( value >>> 16 );
+		char low = (char)value;
+		int idx = indexOfKey( high );
+		if( idx >= 0 ) {
+			Container container = containers[ idx ];
+			int before = container.cardinality();
+			containers[ idx ] = container.add( low );
+			return( containers[ idx ].cardinality() != before );
+		}
+		idx = -idx - 1;
+		if( size == keys.length ) {
+			int capacity = keys.length * 2;
+			keys = Arrays.copyOf( keys, capacity );
+			containers = Arrays.copyOf( containers, capacity );
+		}
+		System.arraycopy( keys, idx, keys, idx + 1, size - idx );
+		System.arraycopy( containers, idx, containers, idx + 1, size - idx );
+		keys[ idx ] = high;
+		containers[ idx ] = new ArrayContainer( 4 ).add( low );
+		size++;
+		return( true );
+	}
+
+	/**
+	 *	Remove an ordinal.
+	 *
+	 *	@param	value	The ordinal to remove.
+	 *
+	 *	@return	True if the ordinal was present.
+	 */
+	public boolean remove( int value ) {
+		if( value < 0 ) {
+			return( false );
+		}
+		int idx = indexOfKey( (char)( value >>> 16 ) );
+		if( idx < 0 ) {
+			return( false );
+		}
+		Container container = containers[ idx ];
+		int before = container.cardinality();
+		Container after = container.remove( (char)value );
+		if( after == null ) {
+			System.arraycopy( keys, idx + 1, keys, idx, size - idx - 1 );
+			System.arraycopy( containers, idx + 1, containers, idx, size - idx - 1 );
+			size--;
+			containers[ size ] = null;
+			return( true );
+		}
+		containers[ idx ] = after;
+		return( after.cardinality() != before );
+	}
+
+	public boolean contains( int value ) {
+		if( value < 0 ) {
+			return( false );
+		}
+		int idx = indexOfKey( (char)( value >>> 16 ) );
+		return( ( idx >= 0 ) && containers[ idx ].contains( (char)value ) );
+	}
+
+	public boolean isEmpty() {
+		return( size == 0 );
+	}
+
+	public long getCardinality() {
+		long count = 0L;
+		for( int idx = 0; idx < size; idx++ ) {
+			count += containers[ idx ].cardinality();
+		}
+		return( count );
+	}
+
+	/**
+	 *	Estimate the heap footprint of the bitmap.
+	 *
+	 *	@return	The approximate number of bytes retained.
+	 */
+	public long getSizeInBytes() {
+		long bytes = 32L + 2L * keys.length + 8L * containers.length;
+		for( int idx = 0; idx < size; idx++ ) {
+			bytes += containers[ idx ].sizeInBytes();
+		}
+		return( bytes );
+	}
+
+	/**
+	 *	Visit the ordinals in ascending order.
+	 *
+	 *	@param	action	The consumer to call for each ordinal.
+	 */
+	public void forEach( IntConsumer action ) {
+		for( int idx = 0; idx < size; idx++ ) {
+			containers[ idx ].forEach( keys[ idx ] << 16, action );
+		}
+	}
+
+	/**
+	 *	Get the ordinals in ascending order.
+	 *
+	 *	@return	A new array of the ordinals.
+	 */
+	public int[] toArray() {
+		long card = getCardinality();
+		int[] retArray = new int[ (int)card ];
+		int[] pos = { 0 };
+		forEach( value -> retArray[ pos[ 0 ]++ ] = value );
+		return( retArray );
+	}
+
+	@Override
+	public CFSecBuffRoaringBitmap clone() {
+		CFSecBuffRoaringBitmap copy;
+		try {
+			copy = (CFSecBuffRoaringBitmap)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e );
+		}
+		copy.keys = keys.clone();
+		copy.containers = new Container[ containers.length ];
+		for( int idx = 0; idx < size; idx++ ) {
+			copy.containers[ idx ] = containers[ idx ].copy();
+		}
+		return( copy );
+	}
+
+	/**
+	 *	Convert each chunk to runs where runs are smaller than its array or
+	 *	bitset, and convert run chunks back where they no longer are.
+	 *
+	 *	@return	True if any chunk is held as runs afterwards.
+	 */
+	public boolean runOptimize() {
+		boolean hasRuns = false;
+		for( int idx = 0; idx < size; idx++ ) {
+			containers[ idx ] = runOptimize( containers[ idx ] );
+			hasRuns |= containers[ idx ] instanceof RunContainer;
+		}
+		return( hasRuns );
+	}
+
+	/**
+	 *	Compute the union of two bitmaps.
+	 *
+	 *	@param	lhs	The first bitmap.
+	 *	@param	rhs	The second bitmap.
+	 *
+	 *	@return	A new bitmap holding every ordinal in either argument.
+	 */
+	public static CFSecBuffRoaringBitmap or( CFSecBuffRoaringBitmap lhs, CFSecBuffRoaringBitmap rhs ) {
+		final String S_ProcName = "or";
+		if( lhs == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffRoaringBitmap.class, S_ProcName, 1, "lhs" );
+		}
+		if( rhs == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffRoaringBitmap.class, S_ProcName, 2, "rhs" );
+		}
+		CFSecBuffRoaringBitmap result = new CFSecBuffRoaringBitmap( lhs.size + rhs.size );
+		int lidx = 0;
+		int ridx = 0;
+		while( ( lidx < lhs.size ) && ( ridx < rhs.size ) ) {
+			char lkey = lhs.keys[ lidx ];
+			char rkey = rhs.keys[ ridx ];
+			if( lkey < rkey ) {
+				result.appendContainer( lkey, lhs.containers[ lidx++ ].copy() );
+			}
+			else if( rkey < lkey ) {
+				result.appendContainer( rkey, rhs.containers[ ridx++ ].copy() );
+			}
+			else {
+				result.appendContainer( lkey, orContainers( lhs.containers[ lidx++ ], rhs.containers[ ridx++ ] ) );
+			}
+		}
+		while( lidx < lhs.size ) {
+			result.appendContainer( lhs.keys[ lidx ], lhs.containers[ lidx++ ].copy() );
+		}
+		while( ridx < rhs.size ) {
+			result.appendContainer( rhs.keys[ ridx ], rhs.containers[ ridx++ ].copy() );
+		}
+		return( result );
+	}
+
+	/**
+	 *	Compute the union of any number of bitmaps.  Dense chunks are accumulated in
+	 *	place, so the cost grows with the total input size rather than the number of
+	 *	intermediate results.
+	 *
+	 *	@param	bitmaps	The bitmaps to combine; null elements are ignored.
+	 *
+	 *	@return	A new bitmap holding every ordinal in any argument.
+	 */
+	public static CFSecBuffRoaringBitmap orAll( Collection<CFSecBuffRoaringBitmap> bitmaps ) {
+		TreeMap<Character, long[]> chunks = new TreeMap<>();
+		if( bitmaps != null ) {
+			for( CFSecBuffRoaringBitmap bitmap : bitmaps ) {
+				if( bitmap == null ) {
+					continue;
+				}
+				for( int idx = 0; idx < bitmap.size; idx++ ) {
+					long[] words = chunks.computeIfAbsent( bitmap.keys[ idx ], k -> new long[ BITMAP_WORDS ] );
+					orInto( words, bitmap.containers[ idx ] );
+				}
+			}
+		}
+		CFSecBuffRoaringBitmap result = new CFSecBuffRoaringBitmap( chunks.size() );
+		for( Map.Entry<Character, long[]> entry : chunks.entrySet() ) {
+			result.appendContainer( entry.getKey(), normalize( new BitmapContainer( entry.getValue() ) ) );
+		}
+		return( result );
+	}
+
+	/**
+	 *	Compute the intersection of two bitmaps.
+	 *
+	 *	@param	lhs	The first bitmap.
+	 *	@param	rhs	The second bitmap.
+	 *
+	 *	@return	A new bitmap holding the ordinals present in both arguments.
+	 */
+	public static CFSecBuffRoaringBitmap and( CFSecBuffRoaringBitmap lhs, CFSecBuffRoaringBitmap rhs ) {
+		final String S_ProcName = "and";
+		if( lhs == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffRoaringBitmap.class, S_ProcName, 1, "lhs" );
+		}
+		if( rhs == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffRoaringBitmap.class, S_ProcName, 2, "rhs" );
+		}
+		CFSecBuffRoaringBitmap result = new CFSecBuffRoaringBitmap( Math.min( lhs.size, rhs.size ) );
+		int lidx = 0;
+		int ridx = 0;
+		while( ( lidx < lhs.size ) && ( ridx < rhs.size ) ) {
+			char lkey = lhs.keys[ lidx ];
+			char rkey = rhs.keys[ ridx ];
+			if( lkey < rkey ) {
+				lidx++;
+			}
+			else if( rkey < lkey ) {
+				ridx++;
+			}
+			else {
+				Container container = andContainers( lhs.containers[ lidx++ ], rhs.containers[ ridx++ ] );
+				if( container != null ) {
+					result.appendContainer( lkey, container );
+				}
+			}
+		}
+		return( result );
+	}
+
+	/**
+	 *	Compute the difference of two bitmaps.
+	 *
+	 *	@param	lhs	The bitmap to subtract from.
+	 *	@param	rhs	The bitmap to subtract.
+	 *
+	 *	@return	A new bitmap holding the ordinals of lhs that are not in rhs.
+	 */
+	public static CFSecBuffRoaringBitmap andNot( CFSecBuffRoaringBitmap lhs, CFSecBuffRoaringBitmap rhs ) {
+		final String S_ProcName = "andNot";
+		if( lhs == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffRoaringBitmap.class, S_ProcName, 1, "lhs" );
+		}
+		if( rhs == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffRoaringBitmap.class, S_ProcName, 2, "rhs" );
+		}
+		CFSecBuffRoaringBitmap result = new CFSecBuffRoaringBitmap( lhs.size );
+		int ridx = 0;
+		for( int lidx = 0; lidx < lhs.size; lidx++ ) {
+			char lkey = lhs.keys[ lidx ];
+			while( ( ridx < rhs.size ) && ( rhs.keys[ ridx ] < lkey ) ) {
+				ridx++;
+			}
+			if( ( ridx < rhs.size ) && ( rhs.keys[ ridx ] == lkey ) ) {
+				Container container = andNotContainers( lhs.containers[ lidx ], rhs.containers[ ridx ] );
+				if( container != null ) {
+					result.appendContainer( lkey, container );
+				}
+			}
+			else {
+				result.appendContainer( lkey, lhs.containers[ lidx ].copy() );
+			}
+		}
+		return( result );
+	}
+
+	/**
+	 *	Count the ordinals two bitmaps have in common without building the
+	 *	intersection.
+	 *
+	 *	@param	lhs	The first bitmap.
+	 *	@param	rhs	The second bitmap.
+	 *
+	 *	@return	The cardinality of the intersection.
+	 */
+	public static long andCardinality( CFSecBuffRoaringBitmap lhs, CFSecBuffRoaringBitmap rhs ) {
+		final String S_ProcName = "andCardinality";
+		if( lhs == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffRoaringBitmap.class, S_ProcName, 1, "lhs" );
+		}
+		if( rhs == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffRoaringBitmap.class, S_ProcName, 2, "rhs" );
+		}
+		long count = 0L;
+		int lidx = 0;
+		int ridx = 0;
+		while( ( lidx < lhs.size ) && ( ridx < rhs.size ) ) {
+			char lkey = lhs.keys[ lidx ];
+			char rkey = rhs.keys[ ridx ];
+			if( lkey < rkey ) {
+				lidx++;
+			}
+			else if( rkey < lkey ) {
+				ridx++;
+			}
+			else {
+				Container lcont = materialize( lhs.containers[ lidx++ ] );
+				Container rcont = materialize( rhs.containers[ ridx++ ] );
+				if( ( lcont instanceof BitmapContainer ) && ( rcont instanceof BitmapContainer ) ) {
+					long[] lwords = ( (BitmapContainer)lcont ).words;
+					long[] rwords = ( (BitmapContainer)rcont ).words;
+					for( int wordIdx = 0; wordIdx < BITMAP_WORDS; wordIdx++ ) {
+						count += Long.bitCount( lwords[ wordIdx ] & rwords[ wordIdx ] );
+					}
+				}
+				else {
+					Container small = ( lcont instanceof ArrayContainer ) ? lcont : rcont;
+					Container other = ( small == lcont ) ? rcont : lcont;
+					ArrayContainer array = (ArrayContainer)small;
+					for( int pos = 0; pos < array.card; pos++ ) {
+						if( other.contains( array.content[ pos ] ) ) {
+							count++;
+						}
+					}
+				}
+			}
+		}
+		return( count );
+	}
+
+	protected static int numberOfRuns( Container container ) {
+		if( container instanceof RunContainer ) {
+			return( ( (RunContainer)container ).nruns );
+		}
+		int count = 0;
+		if( container instanceof BitmapContainer ) {
+			long[] words = ( (BitmapContainer)container ).words;
+			long carry = 0L;
+			for( int wordIdx = 0; wordIdx < BITMAP_WORDS; wordIdx++ ) {
+				long word = words[ wordIdx ];
+				count += Long.bitCount( word & ~( ( word << 1 ) | carry ) );
+				carry = word >>> 63;
+			}
+		}
+		else {
+			ArrayContainer array = (ArrayContainer)container;
+			for( int pos = 0; pos < array.card; pos++ ) {
+				if( ( pos == 0 ) || ( array.content[ pos ] != array.content[ pos - 1 ] + 1 ) ) {
+					count++;
+				}
+			}
+		}
+		return( count );
+	}
+
+	protected static long runBytes( int nruns ) {
+		return( 2L + 4L * nruns );
+	}
+
+	protected static Container runOptimize( Container container ) {
+		if( container instanceof RunContainer ) {
+			return( ( (RunContainer)container ).toEfficient() );
+		}
+		int nruns = numberOfRuns( container );
+		long currentBytes = ( container instanceof BitmapContainer ) ? BITMAP_BYTES : 2L * container.cardinality();
+		if( runBytes( nruns ) >= currentBytes ) {
+			return( container );
+		}
+		RunContainer runs = new RunContainer( nruns );
+		container.forEach( 0, value -> runs.append( (char)value ) );
+		return( runs );
+	}
+
+	protected static Container materialize( Container container ) {
+		if( container instanceof RunContainer ) {
+			return( ( (RunContainer)container ).toArrayOrBitmap() );
+		}
+		return( container );
+	}
+
+	protected static Container normalize( BitmapContainer bitmap ) {
+		if( bitmap.card == 0 ) {
+			return( null );
+		}
+		if( bitmap.card <= ARRAY_MAX ) {
+			return( bitmap.toArray() );
+		}
+		return( bitmap );
+	}
+
+	protected static Container orContainers( Container lhs, Container rhs ) {
+		lhs = materialize( lhs );
+		rhs = materialize( rhs );
+		if( ( lhs instanceof ArrayContainer ) && ( rhs instanceof ArrayContainer ) ) {
+			ArrayContainer larr = (ArrayContainer)lhs;
+			ArrayContainer rarr = (ArrayContainer)rhs;
+			if( larr.card + rarr.card <= ARRAY_MAX ) {
+				char[] merged = new char[ larr.card + rarr.card ];
+				int lpos = 0;
+				int rpos = 0;
+				int out = 0;
+				while( ( lpos < larr.card ) && ( rpos < rarr.card ) ) {
+					char lval = larr.content[ lpos ];
+					char rval = rarr.content[ rpos ];
+					if( lval < rval ) {
+						merged[ out++ ] = lval;
+						lpos++;
+					}
+					else if( rval < lval ) {
+						merged[ out++ ] = rval;
+						rpos++;
+					}
+					else {
+						merged[ out++ ] = lval;
+						lpos++;
+						rpos++;
+					}
+				}
+				while( lpos < larr.card ) {
+					merged[ out++ ] = larr.content[ lpos++ ];
+				}
+				while( rpos < rarr.card ) {
+					merged[ out++ ] = rarr.content[ rpos++ ];
+				}
+				return( new ArrayContainer( merged, out ) );
+			}
+		}
+		long[] words = new long[ BITMAP_WORDS ];
+		orInto( words, lhs );
+		orInto( words, rhs );
+		return( normalize( new BitmapContainer( words ) ) );
+	}
+
+	protected static void orInto( long[] words, Container container ) {
+		container = materialize( container );
+		if( container instanceof BitmapContainer ) {
+			long[] src = ( (BitmapContainer)container ).words;
+			for( int wordIdx = 0; wordIdx < BITMAP_WORDS; wordIdx++ ) {
+				words[ wordIdx ] |= src[ wordIdx ];
+			}
+		}
+		else {
+			ArrayContainer array = (ArrayContainer)container;
+			for( int pos = 0; pos < array.card; pos++ ) {
+				char low = array.content[ pos ];
+				words[ low >>> 6 ] |= 1L << low;
+			}
+		}
+	}
+
+	protected static Container andContainers( Container lhs, Container rhs ) {
+		lhs = materialize( lhs );
+		rhs = materialize( rhs );
+		if( ( lhs instanceof BitmapContainer ) && ( rhs instanceof BitmapContainer ) ) {
+			long[] lwords = ( (BitmapContainer)lhs ).words;
+			long[] rwords = ( (BitmapContainer)rhs ).words;
+			long[] words = new long[ BITMAP_WORDS ];
+			for( int wordIdx = 0; wordIdx < BITMAP_WORDS; wordIdx++ ) {
+				words[ wordIdx ] = lwords[ wordIdx ] & rwords[ wordIdx ];
+			}
+			return( normalize( new BitmapContainer( words ) ) );
+		}
+		ArrayContainer small = (ArrayContainer)( ( lhs instanceof ArrayContainer ) ? lhs : rhs );
+		Container other = ( small == lhs ) ? rhs : lhs;
+		char[] content = new char[ small.card ];
+		int out = 0;
+		for( int pos = 0; pos < small.card; pos++ ) {
+			char low = small.content[ pos ];
+			if( other.contains( low ) ) {
+				content[ out++ ] = low;
+			}
+		}
+		return( ( out == 0 ) ? null : new ArrayContainer( content, out ) );
+	}
+
+	protected static Container andNotContainers( Container lhs, Container rhs ) {
+		lhs = materialize( lhs );
+		rhs = materialize( rhs );
+		if( lhs instanceof ArrayContainer ) {
+			ArrayContainer larr = (ArrayContainer)lhs;
+			char[] content = new char[ larr.card ];
+			int out = 0;
+			for( int pos = 0; pos < larr.card; pos++ ) {
+				char low = larr.content[ pos ];
+				if( ! rhs.contains( low ) ) {
+					content[ out++ ] = low;
+				}
+			}
+			return( ( out == 0 ) ? null : new ArrayContainer( content, out ) );
+		}
+		long[] words = ( (BitmapContainer)lhs ).words.clone();
+		if( rhs instanceof BitmapContainer ) {
+			long[] rwords = ( (BitmapContainer)rhs ).words;
+			for( int wordIdx = 0; wordIdx < BITMAP_WORDS; wordIdx++ ) {
+				words[ wordIdx ] &= ~rwords[ wordIdx ];
+			}
+		}
+		else {
+			ArrayContainer rarr = (ArrayContainer)rhs;
+			for( int pos = 0; pos < rarr.card; pos++ ) {
+				char low = rarr.content[ pos ];
+				words[ low >>> 6 ] &= ~( 1L << low );
+			}
+		}
+		return( normalize( new BitmapContainer( words ) ) );
+	}
+}
@@ -34,13 +34,18 @@
 
 package io.github.msobkow.v3_1.cfsec.cfsec.buff;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.*;
 import java.net.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.rmi.*;
 import java.sql.*;
 import java.text.*;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.*;
 import io.github.msobkow.v3_1.cflib.*;
 import io.github.msobkow.v3_1.cflib.dbutil.*;
 import org.apache.commons.text.StringEscapeUtils;
@@ -95,6 +100,17 @@ public class CFSecBuffSchema
 	protected ICFSecTSecGrpMembFactory factoryTSecGrpMemb;
 	protected ICFSecTenantFactory factoryTenant;
 
+	protected CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+	protected volatile CFSecBuffIdGenerator idGenerator = null;
+	protected volatile CFSecBuffEffectiveMembershipCache effectiveMembershipCache = null;
+	protected volatile CFSecBuffGrpMembBitmapIndex grpMembBitmapIndex = null;
+	protected volatile CFSecBuffTenantAuthIndex tenantAuthIndex = null;
+	protected volatile CFSecBuffActiveSessionIndex activeSessionIndex = null;
+	protected volatile CFSecBuffSessionExpiryWheel sessionExpiryWheel = null;
+	protected volatile CFSecBuffSessionTimeIndex sessionTimeIndex = null;
+	protected volatile CFSecBuffISORefStore isoRefStore = null;
+	protected volatile CFSecBuffSchemaImage.BootstrapIds bootstrapIds = null;
+
 	@Override
 	public int initClassMapEntries(int value) {
 		return( ICFSecSchema.doInitClassMapEntries(value) );
@@ -102,13 +118,26 @@ public class CFSecBuffSchema
 
 	@Override
 	public void wireRecConstructors() {
+		wireRecConstructors( recStamp );
+	}
+
+	/**
+	 *	Wire the backing record constructors so that the audited records they
+	 *	instantiate take their timestamps from stamp.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+	public void wireRecConstructors( final CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffSchema.class, "wireRecConstructors", 1, "stamp" );
+		}
 		ICFSecSchema.ClassMapEntry entry;
 		entry = ICFSecSchema.getClassMapByBackingClassCode(ICFSecCluster.CLASS_CODE);
 		if (entry != null) {
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecCluster ret = new CFSecBuffCluster();
+					ICFSecCluster ret = new CFSecBuffCluster( stamp );
 					return(ret);
 				}
 			});
@@ -122,7 +151,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecHostNode ret = new CFSecBuffHostNode();
+					ICFSecHostNode ret = new CFSecBuffHostNode( stamp );
 					return(ret);
 				}
 			});
@@ -136,7 +165,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecISOCcy ret = new CFSecBuffISOCcy();
+					ICFSecISOCcy ret = new CFSecBuffISOCcy( stamp );
 					return(ret);
 				}
 			});
@@ -150,7 +179,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecISOCtry ret = new CFSecBuffISOCtry();
+					ICFSecISOCtry ret = new CFSecBuffISOCtry( stamp );
 					return(ret);
 				}
 			});
@@ -164,7 +193,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecISOCtryCcy ret = new CFSecBuffISOCtryCcy();
+					ICFSecISOCtryCcy ret = new CFSecBuffISOCtryCcy( stamp );
 					return(ret);
 				}
 			});
@@ -178,7 +207,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecISOCtryLang ret = new CFSecBuffISOCtryLang();
+					ICFSecISOCtryLang ret = new CFSecBuffISOCtryLang( stamp );
 					return(ret);
 				}
 			});
@@ -192,7 +221,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecISOLang ret = new CFSecBuffISOLang();
+					ICFSecISOLang ret = new CFSecBuffISOLang( stamp );
 					return(ret);
 				}
 			});
@@ -206,7 +235,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecISOTZone ret = new CFSecBuffISOTZone();
+					ICFSecISOTZone ret = new CFSecBuffISOTZone( stamp );
 					return(ret);
 				}
 			});
@@ -220,7 +249,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecSecDevice ret = new CFSecBuffSecDevice();
+					ICFSecSecDevice ret = new CFSecBuffSecDevice( stamp );
 					return(ret);
 				}
 			});
@@ -234,7 +263,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecSecGroup ret = new CFSecBuffSecGroup();
+					ICFSecSecGroup ret = new CFSecBuffSecGroup( stamp );
 					return(ret);
 				}
 			});
@@ -248,7 +277,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecSecGrpInc ret = new CFSecBuffSecGrpInc();
+					ICFSecSecGrpInc ret = new CFSecBuffSecGrpInc( stamp );
 					return(ret);
 				}
 			});
@@ -262,7 +291,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecSecGrpMemb ret = new CFSecBuffSecGrpMemb();
+					ICFSecSecGrpMemb ret = new CFSecBuffSecGrpMemb( stamp );
 					return(ret);
 				}
 			});
@@ -290,7 +319,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecSecUser ret = new CFSecBuffSecUser();
+					ICFSecSecUser ret = new CFSecBuffSecUser( stamp );
 					return(ret);
 				}
 			});
@@ -304,7 +333,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecService ret = new CFSecBuffService();
+					ICFSecService ret = new CFSecBuffService( stamp );
 					return(ret);
 				}
 			});
@@ -318,7 +347,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecServiceType ret = new CFSecBuffServiceType();
+					ICFSecServiceType ret = new CFSecBuffServiceType( stamp );
 					return(ret);
 				}
 			});
@@ -346,7 +375,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecTenant ret = new CFSecBuffTenant();
+					ICFSecTenant ret = new CFSecBuffTenant( stamp );
 					return(ret);
 				}
 			});
@@ -360,7 +389,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecTSecGroup ret = new CFSecBuffTSecGroup();
+					ICFSecTSecGroup ret = new CFSecBuffTSecGroup( stamp );
 					return(ret);
 				}
 			});
@@ -374,7 +403,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecTSecGrpInc ret = new CFSecBuffTSecGrpInc();
+					ICFSecTSecGrpInc ret = new CFSecBuffTSecGrpInc( stamp );
 					return(ret);
 				}
 			});
@@ -388,7 +417,7 @@ public class CFSecBuffSchema
 			entry.setBackingRecConstructor( new BackingRecConstructor() {
 				@Override
 				public Object instantiate() {
-					ICFSecTSecGrpMemb ret = new CFSecBuffTSecGrpMemb();
+					ICFSecTSecGrpMemb ret = new CFSecBuffTSecGrpMemb( stamp );
 					return(ret);
 				}
 			});
@@ -396,7 +425,6 @@ public class CFSecBuffSchema
 		else {
 			throw new CFLibNullArgumentException(CFSecBuffSchema.class, "wireRecConstructors", 0, "ICFSecSchema.getClassMapByBackingClassCode(ICFSecTSecGrpMemb.CLASS_CODE)[" + ICFSecTSecGrpMemb.CLASS_CODE + "]");
 		}
-	
 	}
 
 	@Override
@@ -417,27 +445,27 @@ public class CFSecBuffSchema
 
 	public CFSecBuffSchema() {
 
-	tableCluster = null; // new CFSecBuffClusterTable();
-	tableHostNode = null; // new CFSecBuffHostNodeTable();
-	tableISOCcy = null; // new CFSecBuffISOCcyTable();
-	tableISOCtry = null; // new CFSecBuffISOCtryTable();
-	tableISOCtryCcy = null; // new CFSecBuffISOCtryCcyTable();
-	tableISOCtryLang = null; // new CFSecBuffISOCtryLangTable();
-	tableISOLang = null; // new CFSecBuffISOLangTable();
-	tableISOTZone = null; // new CFSecBuffISOTZoneTable();
-	tableSecDevice = null; // new CFSecBuffSecDeviceTable();
-	tableSecGroup = null; // new CFSecBuffSecGroupTable();
-	tableSecGrpInc = null; // new CFSecBuffSecGrpIncTable();
-	tableSecGrpMemb = null; // new CFSecBuffSecGrpMembTable();
-	tableSecSession = null; // new CFSecBuffSecSessionTable();
-	tableSecUser = null; // new CFSecBuffSecUserTable();
-	tableService = null; // new CFSecBuffServiceTable();
-	tableServiceType = null; // new CFSecBuffServiceTypeTable();
-	tableSysCluster = null; // new CFSecBuffSysClusterTable();
-	tableTSecGroup = null; // new CFSecBuffTSecGroupTable();
-	tableTSecGrpInc = null; // new CFSecBuffTSecGrpIncTable();
-	tableTSecGrpMemb = null; // new CFSecBuffTSecGrpMembTable();
-	tableTenant = null; // new CFSecBuffTenantTable();
+	tableCluster = new CFSecBuffClusterTable();
+	tableHostNode = new CFSecBuffHostNodeTable();
+	tableISOCcy = new CFSecBuffISOCcyTable();
+	tableISOCtry = new CFSecBuffISOCtryTable();
+	tableISOCtryCcy = new CFSecBuffISOCtryCcyTable();
+	tableISOCtryLang = new CFSecBuffISOCtryLangTable();
+	tableISOLang = new CFSecBuffISOLangTable();
+	tableISOTZone = new CFSecBuffISOTZoneTable();
+	tableSecDevice = new CFSecBuffSecDeviceTable();
+	tableSecGroup = new CFSecBuffSecGroupTable();
+	tableSecGrpInc = new CFSecBuffSecGrpIncTable();
+	tableSecGrpMemb = new CFSecBuffSecGrpMembTable();
+	tableSecSession = new CFSecBuffSecSessionTable();
+	tableSecUser = new CFSecBuffSecUserTable();
+	tableService = new CFSecBuffServiceTable();
+	tableServiceType = new CFSecBuffServiceTypeTable();
+	tableSysCluster = new CFSecBuffSysClusterTable();
+	tableTSecGroup = new CFSecBuffTSecGroupTable();
+	tableTSecGrpInc = new CFSecBuffTSecGrpIncTable();
+	tableTSecGrpMemb = new CFSecBuffTSecGrpMembTable();
+	tableTenant = new CFSecBuffTenantTable();
 
 	factoryCluster = new CFSecBuffClusterDefaultFactory();
 	factoryHostNode = new CFSecBuffHostNodeDefaultFactory();
@@ -461,10 +489,433 @@ public class CFSecBuffSchema
 	factoryTSecGrpMemb = new CFSecBuffTSecGrpMembDefaultFactory();
 	factoryTenant = new CFSecBuffTenantDefaultFactory();	}
 
+	/**
+	 *	Get the timestamp policy applied to newly constructed audited records.
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to newly constructed audited records.
+	 *	The policy is pushed to every default buffer factory of this schema, and
+	 *	applies to the backing record constructors the next time they are wired.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+		if( factoryCluster instanceof CFSecBuffClusterDefaultFactory ) {
+			( (CFSecBuffClusterDefaultFactory)factoryCluster ).setRecStamp( value );
+		}
+		if( factoryHostNode instanceof CFSecBuffHostNodeDefaultFactory ) {
+			( (CFSecBuffHostNodeDefaultFactory)factoryHostNode ).setRecStamp( value );
+		}
+		if( factoryISOCcy instanceof CFSecBuffISOCcyDefaultFactory ) {
+			( (CFSecBuffISOCcyDefaultFactory)factoryISOCcy ).setRecStamp( value );
+		}
+		if( factoryISOCtry instanceof CFSecBuffISOCtryDefaultFactory ) {
+			( (CFSecBuffISOCtryDefaultFactory)factoryISOCtry ).setRecStamp( value );
+		}
+		if( factoryISOCtryCcy instanceof CFSecBuffISOCtryCcyDefaultFactory ) {
+			( (CFSecBuffISOCtryCcyDefaultFactory)factoryISOCtryCcy ).setRecStamp( value );
+		}
+		if( factoryISOCtryLang instanceof CFSecBuffISOCtryLangDefaultFactory ) {
+			( (CFSecBuffISOCtryLangDefaultFactory)factoryISOCtryLang ).setRecStamp( value );
+		}
+		if( factoryISOLang instanceof CFSecBuffISOLangDefaultFactory ) {
+			( (CFSecBuffISOLangDefaultFactory)factoryISOLang ).setRecStamp( value );
+		}
+		if( factoryISOTZone instanceof CFSecBuffISOTZoneDefaultFactory ) {
+			( (CFSecBuffISOTZoneDefaultFactory)factoryISOTZone ).setRecStamp( value );
+		}
+		if( factorySecDevice instanceof CFSecBuffSecDeviceDefaultFactory ) {
+			( (CFSecBuffSecDeviceDefaultFactory)factorySecDevice ).setRecStamp( value );
+		}
+		if( factorySecGroup instanceof CFSecBuffSecGroupDefaultFactory ) {
+			( (CFSecBuffSecGroupDefaultFactory)factorySecGroup ).setRecStamp( value );
+		}
+		if( factorySecGrpInc instanceof CFSecBuffSecGrpIncDefaultFactory ) {
+			( (CFSecBuffSecGrpIncDefaultFactory)factorySecGrpInc ).setRecStamp( value );
+		}
+		if( factorySecGrpMemb instanceof CFSecBuffSecGrpMembDefaultFactory ) {
+			( (CFSecBuffSecGrpMembDefaultFactory)factorySecGrpMemb ).setRecStamp( value );
+		}
+		if( factorySecUser instanceof CFSecBuffSecUserDefaultFactory ) {
+			( (CFSecBuffSecUserDefaultFactory)factorySecUser ).setRecStamp( value );
+		}
+		if( factoryService instanceof CFSecBuffServiceDefaultFactory ) {
+			( (CFSecBuffServiceDefaultFactory)factoryService ).setRecStamp( value );
+		}
+		if( factoryServiceType instanceof CFSecBuffServiceTypeDefaultFactory ) {
+			( (CFSecBuffServiceTypeDefaultFactory)factoryServiceType ).setRecStamp( value );
+		}
+		if( factoryTSecGroup instanceof CFSecBuffTSecGroupDefaultFactory ) {
+			( (CFSecBuffTSecGroupDefaultFactory)factoryTSecGroup ).setRecStamp( value );
+		}
+		if( factoryTSecGrpInc instanceof CFSecBuffTSecGrpIncDefaultFactory ) {
+			( (CFSecBuffTSecGrpIncDefaultFactory)factoryTSecGrpInc ).setRecStamp( value );
+		}
+		if( factoryTSecGrpMemb instanceof CFSecBuffTSecGrpMembDefaultFactory ) {
+			( (CFSecBuffTSecGrpMembDefaultFactory)factoryTSecGrpMemb ).setRecStamp( value );
+		}
+		if( factoryTenant instanceof CFSecBuffTenantDefaultFactory ) {
+			( (CFSecBuffTenantDefaultFactory)factoryTenant ).setRecStamp( value );
+		}
+	}
+
 	public ICFSecSchema newSchema() {
 		throw new CFLibMustOverrideException( getClass(), "newSchema" );
 	}
 
+	/**
+	 *	Get the generator behind the next*IdGen() methods.  Unless one has been
+	 *	set, it is opened on first use from CFSecBuffIdGenerator.STATE_FILE_PROPERTY.
+	 */
+	public CFSecBuffIdGenerator getIdGenerator() {
+		CFSecBuffIdGenerator gen = idGenerator;
+		if( gen == null ) {
+			synchronized( this ) {
+				gen = idGenerator;
+				if( gen == null ) {
+					gen = CFSecBuffIdGenerator.fromSystemProperties();
+					idGenerator = gen;
+				}
+			}
+		}
+		return( gen );
+	}
+
+	public void setIdGenerator( CFSecBuffIdGenerator value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setIdGenerator", 1, "value" );
+		}
+		idGenerator = value;
+	}
+
+	/**
+	 *	Get the effective SecGroup membership cache over the SecGrpMemb and SecGrpInc
+	 *	tables.  It is created on first use, and it is discarded when either table
+	 *	is replaced.
+	 */
+	public CFSecBuffEffectiveMembershipCache getEffectiveMembershipCache() {
+		final String S_ProcName = "getEffectiveMembershipCache";
+		CFSecBuffEffectiveMembershipCache cache = effectiveMembershipCache;
+		if( cache == null ) {
+			synchronized( this ) {
+				cache = effectiveMembershipCache;
+				if( cache == null ) {
+					if( ! ( tableSecGrpMemb instanceof CFSecBuffSecGrpMembTable ) ) {
+						throw new CFLibUnsupportedClassException( getClass(),
+							S_ProcName,
+							"tableSecGrpMemb",
+							tableSecGrpMemb,
+							null );
+					}
+					if( ! ( tableSecGrpInc instanceof CFSecBuffSecGrpIncTable ) ) {
+						throw new CFLibUnsupportedClassException( getClass(),
+							S_ProcName,
+							"tableSecGrpInc",
+							tableSecGrpInc,
+							null );
+					}
+					cache = new CFSecBuffEffectiveMembershipCache( (CFSecBuffSecGrpMembTable)tableSecGrpMemb,
+						(CFSecBuffSecGrpIncTable)tableSecGrpInc );
+					effectiveMembershipCache = cache;
+				}
+			}
+		}
+		return( cache );
+	}
+
+	/**
+	 *	Get the compressed bitmap index over the SecGrpMemb table.  It is loaded on
+	 *	first use, and it is discarded when the table is replaced.
+	 */
+	public CFSecBuffGrpMembBitmapIndex getGrpMembBitmapIndex() {
+		CFSecBuffGrpMembBitmapIndex index = grpMembBitmapIndex;
+		if( index == null ) {
+			synchronized( this ) {
+				index = grpMembBitmapIndex;
+				if( index == null ) {
+					if( ! ( tableSecGrpMemb instanceof CFSecBuffSecGrpMembTable ) ) {
+						throw new CFLibUnsupportedClassException( getClass(),
+							"getGrpMembBitmapIndex",
+							"tableSecGrpMemb",
+							tableSecGrpMemb,
+							null );
+					}
+					index = new CFSecBuffGrpMembBitmapIndex( (CFSecBuffSecGrpMembTable)tableSecGrpMemb );
+					grpMembBitmapIndex = index;
+				}
+			}
+		}
+		return( index );
+	}
+
+	protected synchronized void discardGrpMembBitmapIndex() {
+		CFSecBuffGrpMembBitmapIndex index = grpMembBitmapIndex;
+		grpMembBitmapIndex = null;
+		if( index != null ) {
+			index.close();
+		}
+	}
+
+	/**
+	 *	Get the tenant-partitioned authorization index over the TSecGrpMemb and
+	 *	TSecGrpInc tables.  It is created on first use with no partition bound, and
+	 *	it is discarded when either table is replaced.
+	 */
+	public CFSecBuffTenantAuthIndex getTenantAuthIndex() {
+		final String S_ProcName = "getTenantAuthIndex";
+		CFSecBuffTenantAuthIndex index = tenantAuthIndex;
+		if( index == null ) {
+			synchronized( this ) {
+				index = tenantAuthIndex;
+				if( index == null ) {
+					if( ! ( tableTSecGrpMemb instanceof CFSecBuffTSecGrpMembTable ) ) {
+						throw new CFLibUnsupportedClassException( getClass(),
+							S_ProcName,
+							"tableTSecGrpMemb",
+							tableTSecGrpMemb,
+							null );
+					}
+					if( ! ( tableTSecGrpInc instanceof CFSecBuffTSecGrpIncTable ) ) {
+						throw new CFLibUnsupportedClassException( getClass(),
+							S_ProcName,
+							"tableTSecGrpInc",
+							tableTSecGrpInc,
+							null );
+					}
+					index = new CFSecBuffTenantAuthIndex( (CFSecBuffTSecGrpMembTable)tableTSecGrpMemb,
+						(CFSecBuffTSecGrpIncTable)tableTSecGrpInc );
+					tenantAuthIndex = index;
+				}
+			}
+		}
+		return( index );
+	}
+
+	/**
+	 *	Replace the tenant authorization index, for example with one that bounds
+	 *	the number of loaded tenants.  The previous index is closed.
+	 */
+	public synchronized void setTenantAuthIndex( CFSecBuffTenantAuthIndex value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setTenantAuthIndex", 1, "value" );
+		}
+		CFSecBuffTenantAuthIndex previous = tenantAuthIndex;
+		tenantAuthIndex = value;
+		if( ( previous != null ) && ( previous != value ) ) {
+			previous.close();
+		}
+	}
+
+	protected synchronized void discardTenantAuthIndex() {
+		CFSecBuffTenantAuthIndex index = tenantAuthIndex;
+		tenantAuthIndex = null;
+		if( index != null ) {
+			index.close();
+		}
+	}
+
+	/**
+	 *	Get the live SecSession index.  It is loaded on first use, and it is
+	 *	discarded when the SecSession table is replaced.
+	 */
+	public CFSecBuffActiveSessionIndex getActiveSessionIndex() {
+		CFSecBuffActiveSessionIndex index = activeSessionIndex;
+		if( index == null ) {
+			synchronized( this ) {
+				index = activeSessionIndex;
+				if( index == null ) {
+					if( ! ( tableSecSession instanceof CFSecBuffSecSessionTable ) ) {
+						throw new CFLibUnsupportedClassException( getClass(),
+							"getActiveSessionIndex",
+							"tableSecSession",
+							tableSecSession,
+							null );
+					}
+					index = new CFSecBuffActiveSessionIndex( (CFSecBuffSecSessionTable)tableSecSession );
+					activeSessionIndex = index;
+				}
+			}
+		}
+		return( index );
+	}
+
+	protected synchronized void discardActiveSessionIndex() {
+		CFSecBuffActiveSessionIndex index = activeSessionIndex;
+		activeSessionIndex = null;
+		if( index != null ) {
+			index.close();
+		}
+	}
+
+	/**
+	 *	Create a SecSession opened in a known cluster, and bind it to that cluster
+	 *	in the live session index, which a SecSession row cannot record.  When the
+	 *	SecSession table is not a buffer table the session is only created.
+	 *
+	 *	@param	Authorization	The authorization of the creator, or null.
+	 *	@param	rec	The session to create.
+	 *	@param	clusterId	The cluster the session was opened in, or null.
+	 *
+	 *	@return	The created session.
+	 */
+	public ICFSecSecSession createSecSession( ICFSecAuthorization Authorization,
+		ICFSecSecSession rec,
+		CFLibDbKeyHash256 clusterId )
+	{
+		CFSecBuffActiveSessionIndex index = ( tableSecSession instanceof CFSecBuffSecSessionTable )
+			? getActiveSessionIndex()
+			: null;
+		ICFSecSecSession created = getTableSecSession().createSecSession( Authorization, rec );
+		if( ( index != null ) && ( clusterId != null ) ) {
+			index.bindCluster( created.getRequiredSecSessionId(), clusterId );
+		}
+		return( created );
+	}
+
+	/**
+	 *	Get the time-ordered SecSession index.  It is loaded on first use, and it
+	 *	is discarded when the SecSession table is replaced.
+	 */
+	public CFSecBuffSessionTimeIndex getSessionTimeIndex() {
+		CFSecBuffSessionTimeIndex index = sessionTimeIndex;
+		if( index == null ) {
+			synchronized( this ) {
+				index = sessionTimeIndex;
+				if( index == null ) {
+					if( ! ( tableSecSession instanceof CFSecBuffSecSessionTable ) ) {
+						throw new CFLibUnsupportedClassException( getClass(),
+							"getSessionTimeIndex",
+							"tableSecSession",
+							tableSecSession,
+							null );
+					}
+					index = new CFSecBuffSessionTimeIndex( (CFSecBuffSecSessionTable)tableSecSession );
+					sessionTimeIndex = index;
+				}
+			}
+		}
+		return( index );
+	}
+
+	protected synchronized void discardSessionTimeIndex() {
+		CFSecBuffSessionTimeIndex index = sessionTimeIndex;
+		sessionTimeIndex = null;
+		if( index != null ) {
+			index.close();
+		}
+	}
+
+	/**
+	 *	Get the read-only ISO reference store.  It is loaded on first use and
+	 *	reloaded whenever one of the ISOCcy, ISOCtry, ISOLang, ISOTZone, ISOCtryCcy
+	 *	or ISOCtryLang tables has been modified since it was built.
+	 */
+	public CFSecBuffISORefStore getISORefStore() {
+		final String S_ProcName = "getISORefStore";
+		if( ! ( tableISOCcy instanceof CFSecBuffISOCcyTable ) ) {
+			throw new CFLibUnsupportedClassException( getClass(), S_ProcName, "tableISOCcy", tableISOCcy, null );
+		}
+		if( ! ( tableISOCtry instanceof CFSecBuffISOCtryTable ) ) {
+			throw new CFLibUnsupportedClassException( getClass(), S_ProcName, "tableISOCtry", tableISOCtry, null );
+		}
+		if( ! ( tableISOLang instanceof CFSecBuffISOLangTable ) ) {
+			throw new CFLibUnsupportedClassException( getClass(), S_ProcName, "tableISOLang", tableISOLang, null );
+		}
+		if( ! ( tableISOTZone instanceof CFSecBuffISOTZoneTable ) ) {
+			throw new CFLibUnsupportedClassException( getClass(), S_ProcName, "tableISOTZone", tableISOTZone, null );
+		}
+		if( ! ( tableISOCtryCcy instanceof CFSecBuffISOCtryCcyTable ) ) {
+			throw new CFLibUnsupportedClassException( getClass(), S_ProcName, "tableISOCtryCcy", tableISOCtryCcy, null );
+		}
+		if( ! ( tableISOCtryLang instanceof CFSecBuffISOCtryLangTable ) ) {
+			throw new CFLibUnsupportedClassException( getClass(), S_ProcName, "tableISOCtryLang", tableISOCtryLang, null );
+		}
+		CFSecBuffISOCcyTable ccyTable = (CFSecBuffISOCcyTable)tableISOCcy;
+		CFSecBuffISOCtryTable ctryTable = (CFSecBuffISOCtryTable)tableISOCtry;
+		CFSecBuffISOLangTable langTable = (CFSecBuffISOLangTable)tableISOLang;
+		CFSecBuffISOTZoneTable tzoneTable = (CFSecBuffISOTZoneTable)tableISOTZone;
+		CFSecBuffISOCtryCcyTable ctryCcyTable = (CFSecBuffISOCtryCcyTable)tableISOCtryCcy;
+		CFSecBuffISOCtryLangTable ctryLangTable = (CFSecBuffISOCtryLangTable)tableISOCtryLang;
+		CFSecBuffISORefStore store = isoRefStore;
+		if( ( store == null ) || ! store.isCurrent( ccyTable, ctryTable, langTable, tzoneTable, ctryCcyTable, ctryLangTable ) ) {
+			synchronized( this ) {
+				store = isoRefStore;
+				if( ( store == null ) || ! store.isCurrent( ccyTable, ctryTable, langTable, tzoneTable, ctryCcyTable, ctryLangTable ) ) {
+					store = CFSecBuffISORefStore.load( ccyTable, ctryTable, langTable, tzoneTable, ctryCcyTable, ctryLangTable );
+					isoRefStore = store;
+				}
+			}
+		}
+		return( store );
+	}
+
+	/**
+	 *	Start closing SecSessions that have been idle for longer than idleTimeout,
+	 *	sweeping once per tick on executor.  If expiry is already running the
+	 *	existing wheel is returned unchanged.
+	 *
+	 *	@param	idleTimeout	How long a session may be idle before it is closed.
+	 *	@param	tickDuration	The resolution of the expiry wheel.
+	 *	@param	executor	The executor to run the sweeps on.
+	 *	@return	The running expiry wheel.
+	 */
+	public synchronized CFSecBuffSessionExpiryWheel startSessionExpiry( Duration idleTimeout,
+		Duration tickDuration,
+		ScheduledExecutorService executor )
+	{
+		CFSecBuffSessionExpiryWheel wheel = sessionExpiryWheel;
+		if( wheel == null ) {
+			if( ! ( tableSecSession instanceof CFSecBuffSecSessionTable ) ) {
+				throw new CFLibUnsupportedClassException( getClass(),
+					"startSessionExpiry",
+					"tableSecSession",
+					tableSecSession,
+					null );
+			}
+			wheel = new CFSecBuffSessionExpiryWheel( (CFSecBuffSecSessionTable)tableSecSession, idleTimeout, tickDuration );
+			wheel.start( executor );
+			sessionExpiryWheel = wheel;
+		}
+		return( wheel );
+	}
+
+	/**
+	 *	Get the running session expiry wheel, so activity can be reported
+	 *	through touch().
+	 *
+	 *	@return	The wheel, or null if expiry has not been started.
+	 */
+	public CFSecBuffSessionExpiryWheel getSessionExpiry() {
+		return( sessionExpiryWheel );
+	}
+
+	/**
+	 *	Stop session expiry.  Sessions that are still open are left open.
+	 */
+	public synchronized void stopSessionExpiry() {
+		CFSecBuffSessionExpiryWheel wheel = sessionExpiryWheel;
+		sessionExpiryWheel = null;
+		if( wheel != null ) {
+			wheel.close();
+		}
+	}
+
+	protected synchronized void discardEffectiveMembershipCache() {
+		CFSecBuffEffectiveMembershipCache cache = effectiveMembershipCache;
+		effectiveMembershipCache = null;
+		if( cache != null ) {
+			cache.close();
+		}
+	}
+
 	/**
 	 *	Get the next ISOCcyIdGen identifier.
 	 *
@@ -473,7 +924,7 @@ public class CFSecBuffSchema
 	 *	@throws CFLibNotSupportedException thrown by client-side implementations.
 	 */
 	public short nextISOCcyIdGen() {
-		throw new CFLibMustOverrideException(getClass(), "nextISOCcyIdGen");
+		return( getIdGenerator().nextShortId( "ISOCcyIdGen", (short)1 ) );
 	}
 
 	/**
@@ -484,7 +935,7 @@ public class CFSecBuffSchema
 	 *	@throws CFLibNotSupportedException thrown by client-side implementations.
 	 */
 	public short nextISOCtryIdGen() {
-		throw new CFLibMustOverrideException(getClass(), "nextISOCtryIdGen");
+		return( getIdGenerator().nextShortId( "ISOCtryIdGen", (short)1 ) );
 	}
 
 	/**
@@ -495,7 +946,7 @@ public class CFSecBuffSchema
 	 *	@throws CFLibNotSupportedException thrown by client-side implementations.
 	 */
 	public short nextISOLangIdGen() {
-		throw new CFLibMustOverrideException(getClass(), "nextISOLangIdGen");
+		return( getIdGenerator().nextShortId( "ISOLangIdGen", (short)1 ) );
 	}
 
 	/**
@@ -506,7 +957,7 @@ public class CFSecBuffSchema
 	 *	@throws CFLibNotSupportedException thrown by client-side implementations.
 	 */
 	public short nextISOTZoneIdGen() {
-		throw new CFLibMustOverrideException(getClass(), "nextISOTZoneIdGen");
+		return( getIdGenerator().nextShortId( "ISOTZoneIdGen", (short)1 ) );
 	}
 
 	/**
@@ -517,7 +968,7 @@ public class CFSecBuffSchema
 	 *	@throws CFLibNotSupportedException thrown by client-side implementations.
 	 */
 	public CFLibDbKeyHash256 nextClusterIdGen() {
-		return( new CFLibDbKeyHash256(0) );
+		return( getIdGenerator().nextKeyHash256() );
 	}
 
 	/**
@@ -528,7 +979,7 @@ public class CFSecBuffSchema
 	 *	@throws CFLibNotSupportedException thrown by client-side implementations.
 	 */
 	public CFLibDbKeyHash256 nextSecSessionIdGen() {
-		return( new CFLibDbKeyHash256(0) );
+		return( getIdGenerator().nextKeyHash256() );
 	}
 
 	/**
@@ -539,7 +990,7 @@ public class CFSecBuffSchema
 	 *	@throws CFLibNotSupportedException thrown by client-side implementations.
 	 */
 	public CFLibDbKeyHash256 nextSecUserIdGen() {
-		return( new CFLibDbKeyHash256(0) );
+		return( getIdGenerator().nextKeyHash256() );
 	}
 
 	/**
@@ -550,7 +1001,7 @@ public class CFSecBuffSchema
 	 *	@throws CFLibNotSupportedException thrown by client-side implementations.
 	 */
 	public CFLibDbKeyHash256 nextServiceTypeIdGen() {
-		return( new CFLibDbKeyHash256(0) );
+		return( getIdGenerator().nextKeyHash256() );
 	}
 
 	/**
@@ -561,7 +1012,7 @@ public class CFSecBuffSchema
 	 *	@throws CFLibNotSupportedException thrown by client-side implementations.
 	 */
 	public CFLibDbKeyHash256 nextTenantIdGen() {
-		return( new CFLibDbKeyHash256(0) );
+		return( getIdGenerator().nextKeyHash256() );
 	}
 
 	/**
@@ -572,7 +1023,7 @@ public class CFSecBuffSchema
 	 *	@throws CFLibNotSupportedException thrown by client-side implementations.
 	 */
 	public CFLibDbKeyHash256 nextHostNodeIdGen() {
-		return( new CFLibDbKeyHash256(0) );
+		return( getIdGenerator().nextKeyHash256() );
 	}
 
 	/**
@@ -583,7 +1034,7 @@ public class CFSecBuffSchema
 	 *	@throws CFLibNotSupportedException thrown by client-side implementations.
 	 */
 	public CFLibDbKeyHash256 nextSecGroupIdGen() {
-		return( new CFLibDbKeyHash256(0) );
+		return( getIdGenerator().nextKeyHash256() );
 	}
 
 	/**
@@ -594,7 +1045,7 @@ public class CFSecBuffSchema
 	 *	@throws CFLibNotSupportedException thrown by client-side implementations.
 	 */
 	public CFLibDbKeyHash256 nextSecGrpIncIdGen() {
-		return( new CFLibDbKeyHash256(0) );
+		return( getIdGenerator().nextKeyHash256() );
 	}
 
 	/**
@@ -605,7 +1056,7 @@ public class CFSecBuffSchema
 	 *	@throws CFLibNotSupportedException thrown by client-side implementations.
 	 */
 	public CFLibDbKeyHash256 nextSecGrpMembIdGen() {
-		return( new CFLibDbKeyHash256(0) );
+		return( getIdGenerator().nextKeyHash256() );
 	}
 
 	/**
@@ -616,7 +1067,7 @@ public class CFSecBuffSchema
 	 *	@throws CFLibNotSupportedException thrown by client-side implementations.
 	 */
 	public CFLibDbKeyHash256 nextServiceIdGen() {
-		return( new CFLibDbKeyHash256(0) );
+		return( getIdGenerator().nextKeyHash256() );
 	}
 
 	/**
@@ -627,7 +1078,7 @@ public class CFSecBuffSchema
 	 *	@throws CFLibNotSupportedException thrown by client-side implementations.
 	 */
 	public CFLibDbKeyHash256 nextTSecGroupIdGen() {
-		return( new CFLibDbKeyHash256(0) );
+		return( getIdGenerator().nextKeyHash256() );
 	}
 
 	/**
@@ -638,7 +1089,7 @@ public class CFSecBuffSchema
 	 *	@throws CFLibNotSupportedException thrown by client-side implementations.
 	 */
 	public CFLibDbKeyHash256 nextTSecGrpIncIdGen() {
-		return( new CFLibDbKeyHash256(0) );
+		return( getIdGenerator().nextKeyHash256() );
 	}
 
 	/**
@@ -649,7 +1100,7 @@ public class CFSecBuffSchema
 	 *	@throws CFLibNotSupportedException thrown by client-side implementations.
 	 */
 	public CFLibDbKeyHash256 nextTSecGrpMembIdGen() {
-		return( new CFLibDbKeyHash256(0) );
+		return( getIdGenerator().nextKeyHash256() );
 	}
 
 	public ICFSecClusterTable getTableCluster() {
@@ -690,6 +1141,7 @@ public class CFSecBuffSchema
 
 	public void setTableISOCcy( ICFSecISOCcyTable value ) {
 		tableISOCcy = value;
+		isoRefStore = null;
 	}
 
 	public ICFSecISOCcyFactory getFactoryISOCcy() {
@@ -706,6 +1158,7 @@ public class CFSecBuffSchema
 
 	public void setTableISOCtry( ICFSecISOCtryTable value ) {
 		tableISOCtry = value;
+		isoRefStore = null;
 	}
 
 	public ICFSecISOCtryFactory getFactoryISOCtry() {
@@ -722,6 +1175,7 @@ public class CFSecBuffSchema
 
 	public void setTableISOCtryCcy( ICFSecISOCtryCcyTable value ) {
 		tableISOCtryCcy = value;
+		isoRefStore = null;
 	}
 
 	public ICFSecISOCtryCcyFactory getFactoryISOCtryCcy() {
@@ -738,6 +1192,7 @@ public class CFSecBuffSchema
 
 	public void setTableISOCtryLang( ICFSecISOCtryLangTable value ) {
 		tableISOCtryLang = value;
+		isoRefStore = null;
 	}
 
 	public ICFSecISOCtryLangFactory getFactoryISOCtryLang() {
@@ -754,6 +1209,7 @@ public class CFSecBuffSchema
 
 	public void setTableISOLang( ICFSecISOLangTable value ) {
 		tableISOLang = value;
+		isoRefStore = null;
 	}
 
 	public ICFSecISOLangFactory getFactoryISOLang() {
@@ -770,6 +1226,7 @@ public class CFSecBuffSchema
 
 	public void setTableISOTZone( ICFSecISOTZoneTable value ) {
 		tableISOTZone = value;
+		isoRefStore = null;
 	}
 
 	public ICFSecISOTZoneFactory getFactoryISOTZone() {
@@ -818,6 +1275,8 @@ public class CFSecBuffSchema
 
 	public void setTableSecGrpInc( ICFSecSecGrpIncTable value ) {
 		tableSecGrpInc = value;
+		discardEffectiveMembershipCache();
+		reattachTablePermsCache();
 	}
 
 	public ICFSecSecGrpIncFactory getFactorySecGrpInc() {
@@ -834,6 +1293,9 @@ public class CFSecBuffSchema
 
 	public void setTableSecGrpMemb( ICFSecSecGrpMembTable value ) {
 		tableSecGrpMemb = value;
+		discardEffectiveMembershipCache();
+		discardGrpMembBitmapIndex();
+		reattachTablePermsCache();
 	}
 
 	public ICFSecSecGrpMembFactory getFactorySecGrpMemb() {
@@ -850,6 +1312,10 @@ public class CFSecBuffSchema
 
 	public void setTableSecSession( ICFSecSecSessionTable value ) {
 		tableSecSession = value;
+		discardActiveSessionIndex();
+		discardSessionTimeIndex();
+		stopSessionExpiry();
+		reattachTablePermsCache();
 	}
 
 	public ICFSecSecSessionFactory getFactorySecSession() {
@@ -946,6 +1412,8 @@ public class CFSecBuffSchema
 
 	public void setTableTSecGrpInc( ICFSecTSecGrpIncTable value ) {
 		tableTSecGrpInc = value;
+		discardTenantAuthIndex();
+		reattachTablePermsCache();
 	}
 
 	public ICFSecTSecGrpIncFactory getFactoryTSecGrpInc() {
@@ -962,6 +1430,8 @@ public class CFSecBuffSchema
 
 	public void setTableTSecGrpMemb( ICFSecTSecGrpMembTable value ) {
 		tableTSecGrpMemb = value;
+		discardTenantAuthIndex();
+		reattachTablePermsCache();
 	}
 
 	public ICFSecTSecGrpMembFactory getFactoryTSecGrpMemb() {
@@ -1024,6 +1494,58 @@ public class CFSecBuffSchema
 		tablePerms = value;
 	}
 
+	/**
+	 *	Decorate the current Table Permissions interface with a memoising
+	 *	CFSecBuffTablePermsCache that is invalidated by this schema's security tables.
+	 *	If the installed interface is already decorated, its cache is returned.
+	 *
+	 *	@return	The cache now installed behind getTablePerms().
+	 */
+	public CFSecBuffTablePermsCache enableTablePermsCache() {
+		synchronized( CFSecBuffSchema.class ) {
+			ICFSecTablePerms current = getTablePerms();
+			if( current == null ) {
+				throw new CFLibNullArgumentException( getClass(), "enableTablePermsCache", 0, "getTablePerms()" );
+			}
+			CFSecBuffTablePermsCache cache = CFSecBuffTablePermsCache.cacheOf( current );
+			if( cache == null ) {
+				cache = new CFSecBuffTablePermsCache( current );
+				cache.attach( this );
+				setTablePerms( cache.getTablePerms() );
+			}
+			else if( ! cache.isAttached( this ) ) {
+				cache.attach( this );
+			}
+			return( cache );
+		}
+	}
+
+	/**
+	 *	Move an installed CFSecBuffTablePermsCache that follows this schema onto
+	 *	the schema's current security tables after one of them was replaced, so it
+	 *	neither listens to the old table nor serves decisions made against it.
+	 */
+	protected void reattachTablePermsCache() {
+		CFSecBuffTablePermsCache cache = CFSecBuffTablePermsCache.cacheOf( getTablePerms() );
+		if( cache != null ) {
+			cache.reattach( this );
+		}
+	}
+
+	/**
+	 *	Remove the memoising decorator installed by enableTablePermsCache(), if any,
+	 *	and restore the interface it decorated.
+	 */
+	public void disableTablePermsCache() {
+		synchronized( CFSecBuffSchema.class ) {
+			CFSecBuffTablePermsCache cache = CFSecBuffTablePermsCache.cacheOf( getTablePerms() );
+			if( cache != null ) {
+				setTablePerms( cache.getTarget() );
+				cache.detach();
+			}
+		}
+	}
+
 	public static String xmlEncodeString( String val ) {
 		StringBuffer buff = new StringBuffer();
 		int len = val.length();
@@ -1149,12 +1671,15 @@ public class CFSecBuffSchema
 			throw new CFLibInvalidArgumentException(getClass(), "bootstrapSchema", "Previously set system admin id disagrees with new system admin id", "Previously set system admin id disagrees with new system admin id");
 		}
 
-		String fqdn;
-		try {
-			InetAddress localHost = InetAddress.getLocalHost();
-			fqdn = localHost.getCanonicalHostName();
-		} catch (java.net.UnknownHostException e) {
-			fqdn = "localhost";
+		// Host name resolution is slow, so it only happens when a row needs it
+		String fqdn = (systemCluster != null) ? systemCluster.getRequiredFullDomName() : null;
+		if (fqdn == null && (systemCluster == null || adminUser == null)) {
+			try {
+				InetAddress localHost = InetAddress.getLocalHost();
+				fqdn = localHost.getCanonicalHostName();
+			} catch (java.net.UnknownHostException e) {
+				fqdn = "localhost";
+			}
 		}
 		if (systemCluster == null) {
 			systemCluster = (CFSecBuffCluster)(getFactoryCluster().newRec());
@@ -1201,9 +1726,12 @@ public class CFSecBuffSchema
 			bootstrapSession.setOptionalSecDevName(null);
 			bootstrapSession.setRequiredStart(now);
 			bootstrapSession.setOptionalFinish(null);
-			bootstrapSession = (CFSecBuffSecSession)(getTableSecSession().createSecSession(null, bootstrapSession));
+			bootstrapSession = (CFSecBuffSecSession)(createSecSession(null, bootstrapSession, systemClusterID));
 			bootstrapSessionID = bootstrapSession.getPKey();
 		}
+		else if (bootstrapSession.getOptionalFinish() == null && tableSecSession instanceof CFSecBuffSecSessionTable) {
+			getActiveSessionIndex().bindCluster(bootstrapSessionID, systemClusterID);
+		}
 		if (sysCluster == null) {
 			sysCluster = (CFSecBuffSysCluster)(getFactorySysCluster().newRec());
 			sysCluster.setRequiredContainerCluster(systemClusterID);
@@ -1213,6 +1741,78 @@ public class CFSecBuffSchema
 			bootstrapSession.setOptionalFinish(LocalDateTime.now());
 			bootstrapSession = (CFSecBuffSecSession)(getTableSecSession().updateSecSession(null, bootstrapSession));
 		}
+		bootstrapIds = new CFSecBuffSchemaImage.BootstrapIds(systemClusterID, systemTenantID, adminUID, bootstrapSessionID, fqdn);
+	}
 
+	/**
+	 *	Bootstrap the schema from a warm-start image when one exists, otherwise
+	 *	run bootstrapSchema() and save an image for the next start.
+	 *	The tables must be empty if the image is to be restored.  An image that
+	 *	cannot be read or loaded, for instance one written by an incompatible
+	 *	build, is deleted and the schema is bootstrapped as if it were absent.
+	 *	An image whose system cluster, tenant or admin id disagrees with one
+	 *	already set on ICFSecSchema is refused before any table is loaded; the
+	 *	image is kept and a CFLibInvalidArgumentException is thrown.
+	 *
+	 *	@param	imageFile	The image to restore from and save to.
+	 */
+	public void bootstrapSchema(Path imageFile) {
+		final String S_ProcName = "bootstrapSchema";
+		if (imageFile == null) {
+			throw new CFLibNullArgumentException(getClass(), S_ProcName, 1, "imageFile");
+		}
+		CFSecBuffSchemaImage.BootstrapIds ids;
+		try {
+			ids = CFSecBuffSchemaImage.restore(this, imageFile);
+		}
+		catch (UncheckedIOException e) {
+			// restore() leaves the tables empty when it fails
+			try {
+				Files.deleteIfExists(imageFile);
+			}
+			catch (IOException de) {
+				e.addSuppressed(de);
+				throw e;
+			}
+			ids = null;
+		}
+		if (ids == null) {
+			bootstrapSchema();
+			saveSchemaImage(imageFile);
+			return;
+		}
+		// restore() has already checked the ids against any that were set
+		if (ICFSecSchema.getSysClusterId() == null || ICFSecSchema.getSysClusterId().isNull()) {
+			ICFSecSchema.setSysClusterId(ids.getSystemClusterId());
+		}
+		if (ICFSecSchema.getSysTenantId() == null || ICFSecSchema.getSysTenantId().isNull()) {
+			ICFSecSchema.setSysTenantId(ids.getSystemTenantId());
+		}
+		if (ICFSecSchema.getSysAdminId() == null || ICFSecSchema.getSysAdminId().isNull()) {
+			ICFSecSchema.setSysAdminId(ids.getAdminId());
+		}
+		bootstrapIds = ids;
+	}
+
+	/**
+	 *	Save the current state of the schema as a warm-start image.
+	 *
+	 *	@param	imageFile	The image to write.
+	 */
+	public void saveSchemaImage(Path imageFile) {
+		CFSecBuffSchemaImage.BootstrapIds ids = bootstrapIds;
+		if (ids == null) {
+			throw new CFLibInvalidArgumentException(getClass(), "saveSchemaImage", "Schema has not been bootstrapped", "Schema has not been bootstrapped");
+		}
+		CFSecBuffSchemaImage.save(this, ids, imageFile);
+	}
+
+	/**
+	 *	Get the ids settled on by the last bootstrap, or null if the schema has not been bootstrapped.
+	 *
+	 *	@return	The bootstrap ids.
+	 */
+	public CFSecBuffSchemaImage.BootstrapIds getBootstrapIds() {
+		return( bootstrapIds );
 	}
 }
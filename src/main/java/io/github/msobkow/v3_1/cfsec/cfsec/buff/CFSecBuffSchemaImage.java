@@ -0,0 +1,470 @@
+// Description: Java 25 warm-start snapshot image for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffSchemaImage saves the whole in-memory state of a CFSecBuffSchema to
+ *	a local file and restores it at startup, so a restart does not repeat
+ *	bootstrapSchema().
+ *
+ *	An image starts with a magic number and a format version, then the
+ *	bootstrap result: the system cluster, system tenant, admin user and
+ *	bootstrap session ids, and the host name the cluster was created under.
+ *	Every table follows in a fixed order as a name, a count and its serialised
+ *	records.
+ *
+ *	Restoring reads the whole image into memory first, through an
+ *	ObjectInputFilter that admits only the record classes of the image and the
+ *	value types they hold.  Nothing is stored until every table has been read.
+ *	The records are then stored with their revisions intact through each
+ *	table's restoreStored(), so unique indexes, listeners and derived indexes
+ *	are maintained as usual.  If a record is rejected while the image is being
+ *	stored, every record already stored from it is removed again, so a restore
+ *	either loads the whole image or leaves the tables empty.  The cached ids
+ *	are checked against any system cluster, tenant and admin ids already set
+ *	on ICFSecSchema before the first record is stored, so an image of another
+ *	system is refused with the tables still empty.  They are then installed
+ *	on ICFSecSchema, so no host name lookup or bootstrap query runs on
+ *	restart.
+ *
+ *	Images are written through a temporary file and an atomic rename, so a
+ *	crash leaves either the previous image or the new one.
+ */
+public final class CFSecBuffSchemaImage
+{
+	public static final int MAGIC = 0x43465342;
+	public static final int FORMAT_VERSION = 1;
+	public static final int MAX_DEPTH = 16;
+
+	/*
+	 *	The ids bootstrapSchema() settled on, and the host name it used.
+	 */
+	public static final class BootstrapIds implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		protected final CFLibDbKeyHash256 systemClusterId;
+		protected final CFLibDbKeyHash256 systemTenantId;
+		protected final CFLibDbKeyHash256 adminId;
+		protected final CFLibDbKeyHash256 bootstrapSessionId;
+		protected final String fullDomName;
+
+		public BootstrapIds( CFLibDbKeyHash256 systemClusterId,
+			CFLibDbKeyHash256 systemTenantId,
+			CFLibDbKeyHash256 adminId,
+			CFLibDbKeyHash256 bootstrapSessionId,
+			String fullDomName )
+		{
+			this.systemClusterId = systemClusterId;
+			this.systemTenantId = systemTenantId;
+			this.adminId = adminId;
+			this.bootstrapSessionId = bootstrapSessionId;
+			this.fullDomName = fullDomName;
+		}
+
+		public CFLibDbKeyHash256 getSystemClusterId() {
+			return( systemClusterId );
+		}
+
+		public CFLibDbKeyHash256 getSystemTenantId() {
+			return( systemTenantId );
+		}
+
+		public CFLibDbKeyHash256 getAdminId() {
+			return( adminId );
+		}
+
+		public CFLibDbKeyHash256 getBootstrapSessionId() {
+			return( bootstrapSessionId );
+		}
+
+		public String getFullDomName() {
+			return( fullDomName );
+		}
+	}
+
+	/*
+	 *	One table of an image and the hooks that read and load it.
+	 */
+	protected static final class Part<R> {
+		protected final String name;
+		protected final Class<R> recClass;
+		protected final Supplier<List<R>> snapshot;
+		protected final Consumer<R> restore;
+		protected final Consumer<R> discard;
+		protected final BooleanSupplier isEmpty;
+
+		protected Part( String name, Class<R> recClass, Supplier<List<R>> snapshot, Consumer<R> restore, Consumer<R> discard, BooleanSupplier isEmpty ) {
+			this.name = name;
+			this.recClass = recClass;
+			this.snapshot = snapshot;
+			this.restore = restore;
+			this.discard = discard;
+			this.isEmpty = isEmpty;
+		}
+
+		protected void write( ObjectOutputStream out ) throws IOException {
+			List<R> recs = snapshot.get();
+			out.writeUTF( name );
+			out.writeInt( recs.size() );
+			for( R rec : recs ) {
+				out.writeObject( rec );
+			}
+			out.reset();
+		}
+
+		protected List<R> read( ObjectInputStream in ) throws IOException, ClassNotFoundException {
+			String found = in.readUTF();
+			if( ! name.equals( found ) ) {
+				throw new StreamCorruptedException( "Expected table " + name + " but found " + found );
+			}
+			int count = in.readInt();
+			if( count < 0 ) {
+				throw new StreamCorruptedException( "Table " + name + " has a negative count " + count );
+			}
+			ArrayList<R> recs = new ArrayList<>( Math.min( count, 1 << 16 ) );
+			for( int idx = 0; idx < count; idx++ ) {
+				Object rec = in.readObject();
+				if( ! recClass.isInstance( rec ) ) {
+					throw new InvalidClassException( "Table " + name + " holds a "
+						+ ( ( rec == null ) ? "null" : rec.getClass().getName() ) );
+				}
+				recs.add( recClass.cast( rec ) );
+			}
+			return( recs );
+		}
+
+		@SuppressWarnings( "unchecked" )
+		protected void apply( List<?> recs ) {
+			for( Object rec : recs ) {
+				restore.accept( (R)rec );
+			}
+		}
+
+		@SuppressWarnings( "unchecked" )
+		protected void unapply( List<?> recs ) {
+			for( Object rec : recs ) {
+				discard.accept( (R)rec );
+			}
+		}
+	}
+
+	/*
+	 *	Admits the record classes of an image and the value types they hold, and
+	 *	rejects every other class.
+	 */
+	protected static final class ImageFilter implements ObjectInputFilter {
+		protected final Set<Class<?>> recClasses;
+
+		protected ImageFilter( Set<Class<?>> recClasses ) {
+			this.recClasses = recClasses;
+		}
+
+		@Override
+		public Status checkInput( FilterInfo info ) {
+			if( info.depth() > MAX_DEPTH ) {
+				return( Status.REJECTED );
+			}
+			Class<?> cls = info.serialClass();
+			if( cls == null ) {
+				return( Status.UNDECIDED );
+			}
+			while( cls.isArray() ) {
+				cls = cls.getComponentType();
+			}
+			return( isAllowed( cls ) ? Status.ALLOWED : Status.REJECTED );
+		}
+
+		protected boolean isAllowed( Class<?> cls ) {
+			if( cls.isPrimitive() || recClasses.contains( cls ) ) {
+				return( true );
+			}
+			if( ( cls == BootstrapIds.class )
+				|| ( cls == CFLibDbKeyHash256.class )
+				|| ( cls == CFLibUuid6.class )
+				|| ( cls == UUID.class )
+				|| ( cls == String.class )
+				|| ( cls == Boolean.class )
+				|| ( cls == Character.class )
+				|| ( Number.class.isAssignableFrom( cls ) && cls.getName().startsWith( "java.lang." ) ) )
+			{
+				return( true );
+			}
+			// LocalDateTime and its kin serialise through java.time.Ser
+			if( "java.time".equals( cls.getPackageName() ) ) {
+				return( true );
+			}
+			// Records with composite primary keys hold them as CFSecBuff*PKey values
+			return( ( cls.getPackage() == CFSecBuffSchemaImage.class.getPackage() )
+				&& cls.getSimpleName().startsWith( "CFSecBuff" )
+				&& cls.getSimpleName().endsWith( "PKey" )
+				&& Serializable.class.isAssignableFrom( cls ) );
+		}
+	}
+
+	private CFSecBuffSchemaImage() {
+	}
+
+	protected static <T> T table( Object table, Class<T> tableClass, String argName ) {
+		if( ! tableClass.isInstance( table ) ) {
+			throw new CFLibUnsupportedClassException( CFSecBuffSchemaImage.class,
+				"table",
+				argName,
+				table,
+				null );
+		}
+		return( tableClass.cast( table ) );
+	}
+
+	protected static List<Part<?>> partsOf( CFSecBuffSchema schema ) {
+		ArrayList<Part<?>> parts = new ArrayList<>();
+		final CFSecBuffISOCcyTable isoCcy = table( schema.getTableISOCcy(), CFSecBuffISOCcyTable.class, "tableISOCcy" );
+		parts.add( new Part<CFSecBuffISOCcy>( "ISOCcy", CFSecBuffISOCcy.class, isoCcy::snapshotStored, isoCcy::restoreStored, rec -> isoCcy.deleteStored( isoCcy.dictByPKey.get( isoCcy.pkeyOf( rec ) ) ), isoCcy.dictByPKey::isEmpty ) );
+		final CFSecBuffISOCtryTable isoCtry = table( schema.getTableISOCtry(), CFSecBuffISOCtryTable.class, "tableISOCtry" );
+		parts.add( new Part<CFSecBuffISOCtry>( "ISOCtry", CFSecBuffISOCtry.class, isoCtry::snapshotStored, isoCtry::restoreStored, rec -> isoCtry.deleteStored( isoCtry.dictByPKey.get( isoCtry.pkeyOf( rec ) ) ), isoCtry.dictByPKey::isEmpty ) );
+		final CFSecBuffISOLangTable isoLang = table( schema.getTableISOLang(), CFSecBuffISOLangTable.class, "tableISOLang" );
+		parts.add( new Part<CFSecBuffISOLang>( "ISOLang", CFSecBuffISOLang.class, isoLang::snapshotStored, isoLang::restoreStored, rec -> isoLang.deleteStored( isoLang.dictByPKey.get( isoLang.pkeyOf( rec ) ) ), isoLang.dictByPKey::isEmpty ) );
+		final CFSecBuffISOTZoneTable isoTZone = table( schema.getTableISOTZone(), CFSecBuffISOTZoneTable.class, "tableISOTZone" );
+		parts.add( new Part<CFSecBuffISOTZone>( "ISOTZone", CFSecBuffISOTZone.class, isoTZone::snapshotStored, isoTZone::restoreStored, rec -> isoTZone.deleteStored( isoTZone.dictByPKey.get( isoTZone.pkeyOf( rec ) ) ), isoTZone.dictByPKey::isEmpty ) );
+		final CFSecBuffISOCtryCcyTable isoCtryCcy = table( schema.getTableISOCtryCcy(), CFSecBuffISOCtryCcyTable.class, "tableISOCtryCcy" );
+		parts.add( new Part<CFSecBuffISOCtryCcy>( "ISOCtryCcy", CFSecBuffISOCtryCcy.class, isoCtryCcy::snapshotStored, isoCtryCcy::restoreStored, rec -> isoCtryCcy.deleteStored( isoCtryCcy.dictByPKey.get( isoCtryCcy.pkeyOf( rec ) ) ), isoCtryCcy.dictByPKey::isEmpty ) );
+		final CFSecBuffISOCtryLangTable isoCtryLang = table( schema.getTableISOCtryLang(), CFSecBuffISOCtryLangTable.class, "tableISOCtryLang" );
+		parts.add( new Part<CFSecBuffISOCtryLang>( "ISOCtryLang", CFSecBuffISOCtryLang.class, isoCtryLang::snapshotStored, isoCtryLang::restoreStored, rec -> isoCtryLang.deleteStored( isoCtryLang.dictByPKey.get( isoCtryLang.pkeyOf( rec ) ) ), isoCtryLang.dictByPKey::isEmpty ) );
+		final CFSecBuffClusterTable cluster = table( schema.getTableCluster(), CFSecBuffClusterTable.class, "tableCluster" );
+		parts.add( new Part<CFSecBuffCluster>( "Cluster", CFSecBuffCluster.class, cluster::snapshotStored, cluster::restoreStored, rec -> cluster.deleteStored( cluster.dictByPKey.get( cluster.pkeyOf( rec ) ) ), cluster.dictByPKey::isEmpty ) );
+		final CFSecBuffSysClusterTable sysCluster = table( schema.getTableSysCluster(), CFSecBuffSysClusterTable.class, "tableSysCluster" );
+		parts.add( new Part<CFSecBuffSysCluster>( "SysCluster", CFSecBuffSysCluster.class, sysCluster::snapshotStored, sysCluster::restoreStored, rec -> sysCluster.deleteStored( sysCluster.dictByPKey.get( sysCluster.pkeyOf( rec ) ) ), sysCluster.dictByPKey::isEmpty ) );
+		final CFSecBuffHostNodeTable hostNode = table( schema.getTableHostNode(), CFSecBuffHostNodeTable.class, "tableHostNode" );
+		parts.add( new Part<CFSecBuffHostNode>( "HostNode", CFSecBuffHostNode.class, hostNode::snapshotStored, hostNode::restoreStored, rec -> hostNode.deleteStored( hostNode.dictByPKey.get( hostNode.pkeyOf( rec ) ) ), hostNode.dictByPKey::isEmpty ) );
+		final CFSecBuffServiceTypeTable serviceType = table( schema.getTableServiceType(), CFSecBuffServiceTypeTable.class, "tableServiceType" );
+		parts.add( new Part<CFSecBuffServiceType>( "ServiceType", CFSecBuffServiceType.class, serviceType::snapshotStored, serviceType::restoreStored, rec -> serviceType.deleteStored( serviceType.dictByPKey.get( serviceType.pkeyOf( rec ) ) ), serviceType.dictByPKey::isEmpty ) );
+		final CFSecBuffServiceTable service = table( schema.getTableService(), CFSecBuffServiceTable.class, "tableService" );
+		parts.add( new Part<CFSecBuffService>( "Service", CFSecBuffService.class, service::snapshotStored, service::restoreStored, rec -> service.deleteStored( service.dictByPKey.get( service.pkeyOf( rec ) ) ), service.dictByPKey::isEmpty ) );
+		final CFSecBuffSecUserTable secUser = table( schema.getTableSecUser(), CFSecBuffSecUserTable.class, "tableSecUser" );
+		parts.add( new Part<CFSecBuffSecUser>( "SecUser", CFSecBuffSecUser.class, secUser::snapshotStored, secUser::restoreStored, rec -> secUser.deleteStored( secUser.dictByPKey.get( secUser.pkeyOf( rec ) ) ), secUser.dictByPKey::isEmpty ) );
+		final CFSecBuffSecDeviceTable secDevice = table( schema.getTableSecDevice(), CFSecBuffSecDeviceTable.class, "tableSecDevice" );
+		parts.add( new Part<CFSecBuffSecDevice>( "SecDevice", CFSecBuffSecDevice.class, secDevice::snapshotStored, secDevice::restoreStored, rec -> secDevice.deleteStored( secDevice.dictByPKey.get( secDevice.pkeyOf( rec ) ) ), secDevice.dictByPKey::isEmpty ) );
+		final CFSecBuffTenantTable tenant = table( schema.getTableTenant(), CFSecBuffTenantTable.class, "tableTenant" );
+		parts.add( new Part<CFSecBuffTenant>( "Tenant", CFSecBuffTenant.class, tenant::snapshotStored, tenant::restoreStored, rec -> tenant.deleteStored( tenant.dictByPKey.get( tenant.pkeyOf( rec ) ) ), tenant.dictByPKey::isEmpty ) );
+		final CFSecBuffSecGroupTable secGroup = table( schema.getTableSecGroup(), CFSecBuffSecGroupTable.class, "tableSecGroup" );
+		parts.add( new Part<CFSecBuffSecGroup>( "SecGroup", CFSecBuffSecGroup.class, secGroup::snapshotStored, secGroup::restoreStored, rec -> secGroup.deleteStored( secGroup.dictByPKey.get( secGroup.pkeyOf( rec ) ) ), secGroup.dictByPKey::isEmpty ) );
+		final CFSecBuffSecGrpMembTable secGrpMemb = table( schema.getTableSecGrpMemb(), CFSecBuffSecGrpMembTable.class, "tableSecGrpMemb" );
+		parts.add( new Part<CFSecBuffSecGrpMemb>( "SecGrpMemb", CFSecBuffSecGrpMemb.class, secGrpMemb::snapshotStored, secGrpMemb::restoreStored, rec -> secGrpMemb.deleteStored( secGrpMemb.dictByPKey.get( secGrpMemb.pkeyOf( rec ) ) ), secGrpMemb.dictByPKey::isEmpty ) );
+		final CFSecBuffSecGrpIncTable secGrpInc = table( schema.getTableSecGrpInc(), CFSecBuffSecGrpIncTable.class, "tableSecGrpInc" );
+		parts.add( new Part<CFSecBuffSecGrpInc>( "SecGrpInc", CFSecBuffSecGrpInc.class, secGrpInc::snapshotStored, secGrpInc::restoreStored, rec -> secGrpInc.deleteStored( secGrpInc.dictByPKey.get( secGrpInc.pkeyOf( rec ) ) ), secGrpInc.dictByPKey::isEmpty ) );
+		final CFSecBuffTSecGroupTable tSecGroup = table( schema.getTableTSecGroup(), CFSecBuffTSecGroupTable.class, "tableTSecGroup" );
+		parts.add( new Part<CFSecBuffTSecGroup>( "TSecGroup", CFSecBuffTSecGroup.class, tSecGroup::snapshotStored, tSecGroup::restoreStored, rec -> tSecGroup.deleteStored( tSecGroup.dictByPKey.get( tSecGroup.pkeyOf( rec ) ) ), tSecGroup.dictByPKey::isEmpty ) );
+		final CFSecBuffTSecGrpMembTable tSecGrpMemb = table( schema.getTableTSecGrpMemb(), CFSecBuffTSecGrpMembTable.class, "tableTSecGrpMemb" );
+		parts.add( new Part<CFSecBuffTSecGrpMemb>( "TSecGrpMemb", CFSecBuffTSecGrpMemb.class, tSecGrpMemb::snapshotStored, tSecGrpMemb::restoreStored, rec -> tSecGrpMemb.deleteStored( tSecGrpMemb.dictByPKey.get( tSecGrpMemb.pkeyOf( rec ) ) ), tSecGrpMemb.dictByPKey::isEmpty ) );
+		final CFSecBuffTSecGrpIncTable tSecGrpInc = table( schema.getTableTSecGrpInc(), CFSecBuffTSecGrpIncTable.class, "tableTSecGrpInc" );
+		parts.add( new Part<CFSecBuffTSecGrpInc>( "TSecGrpInc", CFSecBuffTSecGrpInc.class, tSecGrpInc::snapshotStored, tSecGrpInc::restoreStored, rec -> tSecGrpInc.deleteStored( tSecGrpInc.dictByPKey.get( tSecGrpInc.pkeyOf( rec ) ) ), tSecGrpInc.dictByPKey::isEmpty ) );
+		final CFSecBuffSecSessionTable secSession = table( schema.getTableSecSession(), CFSecBuffSecSessionTable.class, "tableSecSession" );
+		parts.add( new Part<CFSecBuffSecSession>( "SecSession", CFSecBuffSecSession.class, secSession::snapshotStored, secSession::restoreStored, rec -> secSession.deleteStored( secSession.dictByPKey.get( secSession.pkeyOf( rec ) ) ), secSession.dictByPKey::isEmpty ) );
+		return( parts );
+	}
+
+	/**
+	 *	Write an image of a bootstrapped schema.
+	 *
+	 *	@param	schema	The schema to save.
+	 *	@param	ids	The bootstrap result to cache with it.
+	 *	@param	imageFile	The file to write.
+	 */
+	public static void save( CFSecBuffSchema schema, BootstrapIds ids, Path imageFile ) {
+		final String S_ProcName = "save";
+		if( schema == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffSchemaImage.class, S_ProcName, 1, "schema" );
+		}
+		if( ids == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffSchemaImage.class, S_ProcName, 2, "ids" );
+		}
+		if( imageFile == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffSchemaImage.class, S_ProcName, 3, "imageFile" );
+		}
+		List<Part<?>> parts = partsOf( schema );
+		try {
+			Path dir = imageFile.toAbsolutePath().getParent();
+			if( dir != null ) {
+				Files.createDirectories( dir );
+			}
+			Path tmp = imageFile.resolveSibling( imageFile.getFileName().toString() + ".tmp" );
+			try( FileOutputStream fileOut = new FileOutputStream( tmp.toFile() ) ) {
+				ObjectOutputStream out = new ObjectOutputStream( new BufferedOutputStream( fileOut, 1 << 16 ) );
+				out.writeInt( MAGIC );
+				out.writeInt( FORMAT_VERSION );
+				out.writeObject( ids );
+				out.writeInt( parts.size() );
+				for( Part<?> part : parts ) {
+					part.write( out );
+				}
+				out.flush();
+				fileOut.getFD().sync();
+			}
+			try {
+				Files.move( tmp, imageFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+			}
+			catch( AtomicMoveNotSupportedException e ) {
+				Files.move( tmp, imageFile, StandardCopyOption.REPLACE_EXISTING );
+			}
+		}
+		catch( IOException e ) {
+			throw new UncheckedIOException( "Unable to write schema image " + imageFile, e );
+		}
+	}
+
+	/**
+	 *	Check the bootstrap ids of an image against the system cluster, tenant
+	 *	and admin ids already set on ICFSecSchema.  Ids that are not yet set
+	 *	accept any image.
+	 *
+	 *	@param	ids	The bootstrap ids read from an image.
+	 */
+	protected static void checkBootstrapIds( BootstrapIds ids ) {
+		final String S_ProcName = "checkBootstrapIds";
+		CFLibDbKeyHash256 sysClusterId = ICFSecSchema.getSysClusterId();
+		if( ( sysClusterId != null ) && ( ! sysClusterId.isNull() ) && ( ! sysClusterId.equals( ids.getSystemClusterId() ) ) ) {
+			throw new CFLibInvalidArgumentException( CFSecBuffSchemaImage.class,
+				S_ProcName,
+				"Previously set system cluster id disagrees with image system cluster id",
+				"Previously set system cluster id disagrees with image system cluster id" );
+		}
+		CFLibDbKeyHash256 sysTenantId = ICFSecSchema.getSysTenantId();
+		if( ( sysTenantId != null ) && ( ! sysTenantId.isNull() ) && ( ! sysTenantId.equals( ids.getSystemTenantId() ) ) ) {
+			throw new CFLibInvalidArgumentException( CFSecBuffSchemaImage.class,
+				S_ProcName,
+				"Previously set system tenant id disagrees with image system tenant id",
+				"Previously set system tenant id disagrees with image system tenant id" );
+		}
+		CFLibDbKeyHash256 sysAdminId = ICFSecSchema.getSysAdminId();
+		if( ( sysAdminId != null ) && ( ! sysAdminId.isNull() ) && ( ! sysAdminId.equals( ids.getAdminId() ) ) ) {
+			throw new CFLibInvalidArgumentException( CFSecBuffSchemaImage.class,
+				S_ProcName,
+				"Previously set system admin id disagrees with image system admin id",
+				"Previously set system admin id disagrees with image system admin id" );
+		}
+	}
+
+	/**
+	 *	Restore an image into a schema whose tables are all empty.  The image is
+	 *	read completely before anything is stored.  If it cannot be read, or one
+	 *	of its records is rejected while it is stored, the tables are left empty
+	 *	and an UncheckedIOException is thrown.  If its bootstrap ids disagree
+	 *	with those already set on ICFSecSchema, nothing is stored and a
+	 *	CFLibInvalidArgumentException is thrown.
+	 *
+	 *	@param	schema	The schema to load.
+	 *	@param	imageFile	The image to read.
+	 *	@return	The cached bootstrap result, or null if there is no image file.
+	 */
+	public static BootstrapIds restore( CFSecBuffSchema schema, Path imageFile ) {
+		final String S_ProcName = "restore";
+		if( schema == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffSchemaImage.class, S_ProcName, 1, "schema" );
+		}
+		if( imageFile == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffSchemaImage.class, S_ProcName, 2, "imageFile" );
+		}
+		if( ! Files.isRegularFile( imageFile ) ) {
+			return( null );
+		}
+		List<Part<?>> parts = partsOf( schema );
+		for( Part<?> part : parts ) {
+			if( ! part.isEmpty.getAsBoolean() ) {
+				throw new CFLibInvalidArgumentException( CFSecBuffSchemaImage.class,
+					S_ProcName,
+					"Table " + part.name + " is not empty",
+					"Table " + part.name + " is not empty" );
+			}
+		}
+		HashSet<Class<?>> recClasses = new HashSet<>();
+		for( Part<?> part : parts ) {
+			recClasses.add( part.recClass );
+		}
+		BootstrapIds ids;
+		ArrayList<List<?>> tables = new ArrayList<>( parts.size() );
+		try( ObjectInputStream in = new ObjectInputStream( new BufferedInputStream( Files.newInputStream( imageFile ), 1 << 16 ) ) ) {
+			in.setObjectInputFilter( new ImageFilter( recClasses ) );
+			if( in.readInt() != MAGIC ) {
+				throw new StreamCorruptedException( "Not a schema image" );
+			}
+			int version = in.readInt();
+			if( version != FORMAT_VERSION ) {
+				throw new StreamCorruptedException( "Unsupported schema image version " + version );
+			}
+			Object header = in.readObject();
+			if( ! ( header instanceof BootstrapIds ) ) {
+				throw new StreamCorruptedException( "Schema image has no bootstrap ids" );
+			}
+			ids = (BootstrapIds)header;
+			int partCount = in.readInt();
+			if( partCount != parts.size() ) {
+				throw new StreamCorruptedException( "Expected " + parts.size() + " tables but found " + partCount );
+			}
+			for( Part<?> part : parts ) {
+				tables.add( part.read( in ) );
+			}
+		}
+		catch( IOException e ) {
+			throw new UncheckedIOException( "Unable to read schema image " + imageFile, e );
+		}
+		catch( ClassNotFoundException e ) {
+			throw new UncheckedIOException( "Unable to read schema image " + imageFile, new InvalidClassException( e.getMessage() ) );
+		}
+		checkBootstrapIds( ids );
+		int applied = 0;
+		try {
+			for( ; applied < parts.size(); applied++ ) {
+				parts.get( applied ).apply( tables.get( applied ) );
+			}
+		}
+		catch( RuntimeException e ) {
+			// The failing table may be partly stored, so it is unwound with the rest
+			for( int idx = Math.min( applied, parts.size() - 1 ); idx >= 0; idx-- ) {
+				parts.get( idx ).unapply( tables.get( idx ) );
+			}
+			InvalidObjectException cause = new InvalidObjectException( "Schema image rejected: " + e.getMessage() );
+			cause.initCause( e );
+			throw new UncheckedIOException( "Unable to load schema image " + imageFile, cause );
+		}
+		return( ids );
+	}
+}
@@ -51,17 +51,46 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffSecDevice
-	implements ICFSecSecDevice, Comparable<Object>, Serializable
+	implements ICFSecSecDevice, Comparable<Object>, Serializable, Cloneable
 {
 	protected ICFSecSecDevicePKey pkey = new CFSecBuffSecDevicePKey();
 	protected int requiredRevision;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecSecDevice.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecSecDevice.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
+
+	protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecSecDevice.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecSecDevice.S_INIT_UPDATED_BY);
 
 	public CFSecBuffSecDevice() {
+		this( CFSecBuffRecStamp.EAGER );
+	}
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+	public CFSecBuffSecDevice( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffSecDevice", 1, "stamp" );
+		}
 		pkey = new CFSecBuffSecDevicePKey();
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
 	}
 
 	@Override
@@ -78,6 +107,7 @@ public class CFSecBuffSecDevice
 			throw new CFLibUnsupportedClassException(getClass(), "setPKey", "pkey", pkey, "CFSecBuffSecDevicePKey");
 		}
 		this.pkey = (CFSecBuffSecDevicePKey)pkey;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -97,7 +127,7 @@ public class CFSecBuffSecDevice
 
 	@Override
 	public CFLibDbKeyHash256 getRequiredSecUserId() {
-		return (getPKey().getRequiredContainerSecUser().getRequiredSecUserId());
+		return( getPKey().getRequiredSecUserId() );
 	}
 
 	@Override
@@ -118,16 +148,23 @@ public class CFSecBuffSecDevice
 	@Override
 	public void setCreatedByUserId( CFLibDbKeyHash256 value ) {
 		createdByUserId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
 	public LocalDateTime getCreatedAt() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
 		return( createdAt );
 	}
 
 	@Override
 	public void setCreatedAt( LocalDateTime value ) {
 		createdAt = value;
+		pendingCreatedAt = null;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -138,16 +175,23 @@ public class CFSecBuffSecDevice
 	@Override
 	public void setUpdatedByUserId( CFLibDbKeyHash256 value ) {
 		updatedByUserId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
 	public LocalDateTime getUpdatedAt() {
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
 		return( updatedAt );
 	}
 
 	@Override
 	public void setUpdatedAt( LocalDateTime value ) {
 		updatedAt = value;
+		pendingUpdatedAt = null;
+		cachedHashCode = 0;
 	}
 	@Override
 	public int getRequiredRevision() {
@@ -157,6 +201,7 @@ public class CFSecBuffSecDevice
 	@Override
 	public void setRequiredRevision( int value ) {
 		requiredRevision = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -344,16 +389,17 @@ public class CFSecBuffSecDevice
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getCreatedByUserId().hashCode();
-		hashCode = hashCode + getCreatedAt().hashCode();
-		hashCode = hashCode + getUpdatedByUserId().hashCode();
-		hashCode = hashCode + getUpdatedAt().hashCode();
-		hashCode = hashCode + getRequiredSecUserId().hashCode();
-		if( getRequiredDevName() != null ) {
-			hashCode = hashCode + getRequiredDevName().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedAt() );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		hashCode = CFSecBuffHash.mix( hashCode, pkey.hashCode() );
+		return( CFSecBuffHash.finish( hashCode, 5 ) );
 	}
 
 	@Override
@@ -546,6 +592,45 @@ public class CFSecBuffSecDevice
 		}
 	}
 
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+	protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+	}
+
+	private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+	public CFSecBuffSecDevice clone() {
+		resolvePendingStamps();
+		CFSecBuffSecDevice copy;
+		try {
+			copy = (CFSecBuffSecDevice)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.pkey = ( (CFSecBuffSecDevicePKey)pkey ).clone();
+		return( copy );
+	}
+
 	@Override
 	public void set( ICFSecSecDevice src ) {
 		setSecDevice( src );
@@ -553,7 +638,7 @@ public class CFSecBuffSecDevice
 
 	@Override
 	public void setSecDevice( ICFSecSecDevice src ) {
-		setRequiredContainerSecUser(src.getRequiredContainerSecUser());
+		setRequiredContainerSecUser(src.getRequiredSecUserId());
 		setRequiredDevName(src.getRequiredDevName());
 		setRequiredRevision( src.getRequiredRevision() );
 		setCreatedByUserId( src.getCreatedByUserId() );
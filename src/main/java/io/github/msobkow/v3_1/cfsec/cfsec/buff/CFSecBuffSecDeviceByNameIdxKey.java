@@ -55,8 +55,10 @@ public class CFSecBuffSecDeviceByNameIdxKey
 {
 	protected CFLibDbKeyHash256 requiredSecUserId;
 	protected String requiredDevName;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecDeviceByNameIdxKey() {
-		requiredSecUserId = CFLibDbKeyHash256.fromHex( ICFSecSecDevice.SECUSERID_INIT_VALUE.toString() );
+		requiredSecUserId = ICFSecSecDevice.SECUSERID_INIT_VALUE;
 		requiredDevName = ICFSecSecDevice.DEVNAME_INIT_VALUE;
 	}
 
@@ -74,6 +76,7 @@ public class CFSecBuffSecDeviceByNameIdxKey
 				"value" );
 		}
 		requiredSecUserId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -98,6 +101,7 @@ public class CFSecBuffSecDeviceByNameIdxKey
 				127 );
 		}
 		requiredDevName = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -180,12 +184,15 @@ public class CFSecBuffSecDeviceByNameIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredSecUserId().hashCode();
-		if( getRequiredDevName() != null ) {
-			hashCode = hashCode + getRequiredDevName().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredSecUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredDevName() );
+			hashCode = CFSecBuffHash.finish( hashCode, 2 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
@@ -54,8 +54,10 @@ public class CFSecBuffSecDeviceByUserIdxKey
 	implements ICFSecSecDeviceByUserIdxKey, Comparable<Object>, Serializable
 {
 	protected CFLibDbKeyHash256 requiredSecUserId;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecDeviceByUserIdxKey() {
-		requiredSecUserId = CFLibDbKeyHash256.fromHex( ICFSecSecDevice.SECUSERID_INIT_VALUE.toString() );
+		requiredSecUserId = ICFSecSecDevice.SECUSERID_INIT_VALUE;
 	}
 
 	@Override
@@ -72,6 +74,7 @@ public class CFSecBuffSecDeviceByUserIdxKey
 				"value" );
 		}
 		requiredSecUserId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -124,9 +127,14 @@ public class CFSecBuffSecDeviceByUserIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredSecUserId().hashCode();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredSecUserId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
@@ -54,9 +54,119 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffSecDeviceDefaultFactory
 	implements ICFSecSecDeviceFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffSecDevicePKey> probePKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecDevicePKey() );
+	protected static final ThreadLocal<CFSecBuffSecDeviceByNameIdxKey> probeByNameIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecDeviceByNameIdxKey() );
+	protected static final ThreadLocal<CFSecBuffSecDeviceByUserIdxKey> probeByUserIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecDeviceByUserIdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders SecDevice instances by primary key.
+	 */
+	public static final Comparator<ICFSecSecDevice> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getPKey().getRequiredSecUserId().compareTo( rhs.getPKey().getRequiredSecUserId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getPKey().getRequiredDevName().compareTo( rhs.getPKey().getRequiredDevName() ) );
+	};
+
+	/**
+	 *	Orders SecDevice primary keys.
+	 */
+	public static final Comparator<ICFSecSecDevicePKey> COMPARE_PKEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredDevName().compareTo( rhs.getRequiredDevName() ) );
+	};
+
+	/**
+	 *	Orders SecDevice history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecSecDeviceHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		cmp = lhs.getRequiredDevName().compareTo( rhs.getRequiredDevName() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders SecDevice instances by the NameIdx columns.
+	 */
+	public static final Comparator<ICFSecSecDevice> COMPARE_BY_NAMEIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getPKey().getRequiredSecUserId().compareTo( rhs.getPKey().getRequiredSecUserId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getPKey().getRequiredDevName().compareTo( rhs.getPKey().getRequiredDevName() ) );
+	};
+
+	/**
+	 *	Orders NameIdx keys.
+	 */
+	public static final Comparator<ICFSecSecDeviceByNameIdxKey> COMPARE_NAMEIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredDevName().compareTo( rhs.getRequiredDevName() ) );
+	};
+
+	/**
+	 *	Orders SecDevice instances by the UserIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecSecDevice> COMPARE_BY_USERIDX = ( lhs, rhs ) -> {
+		return( lhs.getPKey().getRequiredSecUserId().compareTo( rhs.getPKey().getRequiredSecUserId() ) );
+	};
+
+	/**
+	 *	Orders UserIdx keys.
+	 */
+	public static final Comparator<ICFSecSecDeviceByUserIdxKey> COMPARE_USERIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() ) );
+	};
+
 	public CFSecBuffSecDeviceDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
     @Override
     public ICFSecSecDevicePKey newPKey() {
         ICFSecSecDevicePKey pkey =
@@ -79,10 +189,14 @@ public class CFSecBuffSecDeviceDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecDevicePKey getProbePKey() {
+		return( probePKey.get() );
+	}
+
 	@Override
 	public ICFSecSecDeviceHPKey newHPKey() {
 		ICFSecSecDeviceHPKey hpkey =
-			new CFSecBuffSecDeviceHPKey();
+			new CFSecBuffSecDeviceHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -94,7 +208,7 @@ public class CFSecBuffSecDeviceDefaultFactory
 			return( (CFSecBuffSecDeviceHPKey)key );
 		}
 		else {
-			CFSecBuffSecDeviceHPKey mapped = new CFSecBuffSecDeviceHPKey();
+			CFSecBuffSecDeviceHPKey mapped = new CFSecBuffSecDeviceHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -127,6 +241,10 @@ public class CFSecBuffSecDeviceDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecDeviceByNameIdxKey getProbeByNameIdxKey() {
+		return( probeByNameIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecDeviceByUserIdxKey newByUserIdxKey() {
 		ICFSecSecDeviceByUserIdxKey key =
@@ -148,10 +266,14 @@ public class CFSecBuffSecDeviceDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecDeviceByUserIdxKey getProbeByUserIdxKey() {
+		return( probeByUserIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecDevice newRec() {
 		ICFSecSecDevice rec =
-			new CFSecBuffSecDevice();
+			new CFSecBuffSecDevice( recStamp );
 		return( rec );
 	}
 
@@ -163,16 +285,56 @@ public class CFSecBuffSecDeviceDefaultFactory
 			return( (CFSecBuffSecDevice)rec );
 		}
 		else {
-			CFSecBuffSecDevice mapped = new CFSecBuffSecDevice();
+			CFSecBuffSecDevice mapped = new CFSecBuffSecDevice( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffSecDevice cloneRec( ICFSecSecDevice rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffSecDevice ) {
+			return( ( (CFSecBuffSecDevice)rec ).clone() );
+		}
+		else {
+			CFSecBuffSecDevice mapped = new CFSecBuffSecDevice( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffSecDevice[] cloneRecs( ICFSecSecDevice[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffSecDevice[] retList = new CFSecBuffSecDevice[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecSecDeviceH newHRec() {
 		ICFSecSecDeviceH hrec =
-			new CFSecBuffSecDeviceH();
+			new CFSecBuffSecDeviceH( recStamp );
 		return( hrec );
 	}
 
@@ -184,9 +346,49 @@ public class CFSecBuffSecDeviceDefaultFactory
 			return( (CFSecBuffSecDeviceH)hrec );
 		}
 		else {
-			CFSecBuffSecDeviceH mapped = new CFSecBuffSecDeviceH();
+			CFSecBuffSecDeviceH mapped = new CFSecBuffSecDeviceH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffSecDeviceH cloneHRec( ICFSecSecDeviceH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffSecDeviceH ) {
+			return( ( (CFSecBuffSecDeviceH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffSecDeviceH mapped = new CFSecBuffSecDeviceH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffSecDeviceH[] cloneHRecs( ICFSecSecDeviceH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffSecDeviceH[] retList = new CFSecBuffSecDeviceH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
@@ -55,13 +55,15 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
  *		requiredDevName	Required object attribute DevName.
  */
 public class CFSecBuffSecDevicePKey
-	implements ICFSecSecDevicePKey, Comparable<ICFSecSecDevicePKey>, Serializable
+	implements ICFSecSecDevicePKey, Comparable<ICFSecSecDevicePKey>, Serializable, Cloneable
 {
 	protected CFLibDbKeyHash256 requiredSecUserId;
 	protected String requiredDevName;
 
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecDevicePKey() {
-		requiredSecUserId = CFLibDbKeyHash256.fromHex( ICFSecSecDevice.SECUSERID_INIT_VALUE.toString() );
+		requiredSecUserId = ICFSecSecDevice.SECUSERID_INIT_VALUE;
 		requiredDevName = ICFSecSecDevice.DEVNAME_INIT_VALUE;
 	}
 
@@ -87,11 +89,13 @@ public class CFSecBuffSecDevicePKey
 			requiredSecUserId = argObj.getRequiredSecUserId();
 		}
 	
+		cachedHashCode = 0;
 	}
 
 	@Override
 	public void setRequiredContainerSecUser(CFLibDbKeyHash256 argSecUserId) {
 		requiredSecUserId = argSecUserId;
+		cachedHashCode = 0;
 	}
 	@Override
 	public CFLibDbKeyHash256 getRequiredSecUserId() {
@@ -120,6 +124,25 @@ public class CFSecBuffSecDevicePKey
 				127 );
 		}
 		requiredDevName = value;
+		cachedHashCode = 0;
+	}
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+	public CFSecBuffSecDevicePKey clone() {
+		CFSecBuffSecDevicePKey copy;
+		try {
+			copy = (CFSecBuffSecDevicePKey)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		return( copy );
 	}
 
 	@Override
@@ -168,12 +191,15 @@ public class CFSecBuffSecDevicePKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredSecUserId().hashCode();
-		if( getRequiredDevName() != null ) {
-			hashCode = hashCode + getRequiredDevName().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredSecUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredDevName() );
+			hashCode = CFSecBuffHash.finish( hashCode, 2 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
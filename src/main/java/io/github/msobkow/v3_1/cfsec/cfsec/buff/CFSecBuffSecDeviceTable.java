@@ -0,0 +1,589 @@
+// Description: Java 25 in-memory concurrent implementation of a SecDevice table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffSecDeviceTable in-memory implementation of ICFSecSecDeviceTable for SecDevice.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ */
+public class CFSecBuffSecDeviceTable
+	implements ICFSecSecDeviceTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<CFSecBuffSecDevicePKey, CFSecBuffSecDevice> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecDeviceByNameIdxKey, CFSecBuffSecDevice> dictByNameIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecDeviceByUserIdxKey, ConcurrentHashMap<CFSecBuffSecDevicePKey, CFSecBuffSecDevice>> dictByUserIdx
+		= new ConcurrentHashMap<>();
+
+	public CFSecBuffSecDeviceTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Copy the attributes of a SecDevice by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffSecDevice holding the same attribute values.
+	 */
+	protected CFSecBuffSecDevice copyRec( ICFSecSecDevice src ) {
+		if( src instanceof CFSecBuffSecDevice ) {
+			return( ( (CFSecBuffSecDevice)src ).clone() );
+		}
+		CFSecBuffSecDevice rec = new CFSecBuffSecDevice( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredContainerSecUser( src.getPKey().getRequiredSecUserId() );
+		rec.setRequiredDevName( src.getPKey().getRequiredDevName() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecSecDevice[] copyRecs( Collection<CFSecBuffSecDevice> src ) {
+		ICFSecSecDevice[] retList = new ICFSecSecDevice[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffSecDevice cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected CFSecBuffSecDevicePKey newPKey( CFLibDbKeyHash256 argSecUserId, String argDevName ) {
+		CFSecBuffSecDevicePKey pkey = new CFSecBuffSecDevicePKey();
+		pkey.setRequiredContainerSecUser( argSecUserId );
+		pkey.setRequiredDevName( argDevName );
+		return( pkey );
+	}
+
+	protected CFSecBuffSecDevicePKey pkeyOf( ICFSecSecDevice rec ) {
+		return( newPKey( rec.getPKey().getRequiredSecUserId(), rec.getPKey().getRequiredDevName() ) );
+	}
+
+	protected CFSecBuffSecDevicePKey probePKey( CFLibDbKeyHash256 argSecUserId, String argDevName ) {
+		CFSecBuffSecDevicePKey pkey = CFSecBuffSecDeviceDefaultFactory.getProbePKey();
+		pkey.setRequiredContainerSecUser( argSecUserId );
+		pkey.setRequiredDevName( argDevName );
+		return( pkey );
+	}
+
+	protected CFSecBuffSecDeviceByNameIdxKey newByNameIdxKey( CFLibDbKeyHash256 argSecUserId, String argDevName ) {
+		CFSecBuffSecDeviceByNameIdxKey key = new CFSecBuffSecDeviceByNameIdxKey();
+		key.setRequiredSecUserId( argSecUserId );
+		key.setRequiredDevName( argDevName );
+		return( key );
+	}
+
+	protected CFSecBuffSecDeviceByNameIdxKey newByNameIdxKey( ICFSecSecDevice rec ) {
+		return( newByNameIdxKey( rec.getPKey().getRequiredSecUserId(), rec.getPKey().getRequiredDevName() ) );
+	}
+
+	protected CFSecBuffSecDeviceByNameIdxKey probeByNameIdxKey( CFLibDbKeyHash256 argSecUserId, String argDevName ) {
+		CFSecBuffSecDeviceByNameIdxKey key = CFSecBuffSecDeviceDefaultFactory.getProbeByNameIdxKey();
+		key.setRequiredSecUserId( argSecUserId );
+		key.setRequiredDevName( argDevName );
+		return( key );
+	}
+
+	protected CFSecBuffSecDeviceByUserIdxKey newByUserIdxKey( CFLibDbKeyHash256 argSecUserId ) {
+		CFSecBuffSecDeviceByUserIdxKey key = new CFSecBuffSecDeviceByUserIdxKey();
+		key.setRequiredSecUserId( argSecUserId );
+		return( key );
+	}
+
+	protected CFSecBuffSecDeviceByUserIdxKey newByUserIdxKey( ICFSecSecDevice rec ) {
+		return( newByUserIdxKey( rec.getPKey().getRequiredSecUserId() ) );
+	}
+
+	protected CFSecBuffSecDeviceByUserIdxKey probeByUserIdxKey( CFLibDbKeyHash256 argSecUserId ) {
+		CFSecBuffSecDeviceByUserIdxKey key = CFSecBuffSecDeviceDefaultFactory.getProbeByUserIdxKey();
+		key.setRequiredSecUserId( argSecUserId );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffSecDevice rec ) {
+		CFSecBuffSecDevicePKey pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByNameIdx.put( newByNameIdxKey( rec ), rec );
+		dictByUserIdx.computeIfAbsent( newByUserIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+	}
+
+	protected void unindexRec( CFSecBuffSecDevice rec ) {
+		CFSecBuffSecDevicePKey pkey = pkeyOf( rec );
+		dictByNameIdx.remove( newByNameIdxKey( rec ), rec );
+		removeFromDupIndex( dictByUserIdx, newByUserIdxKey( rec ), pkey );
+		dictByPKey.remove( pkey, rec );
+	}
+
+	protected void reindexRec( CFSecBuffSecDevice existing, CFSecBuffSecDevice rec ) {
+		CFSecBuffSecDevicePKey pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffSecDeviceByNameIdxKey oldKey = newByNameIdxKey( existing );
+			CFSecBuffSecDeviceByNameIdxKey newKey = newByNameIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByNameIdx.remove( oldKey, existing );
+			}
+			dictByNameIdx.put( newKey, rec );
+		}
+		{
+			CFSecBuffSecDeviceByUserIdxKey oldKey = newByUserIdxKey( existing );
+			CFSecBuffSecDeviceByUserIdxKey newKey = newByUserIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByUserIdx, oldKey, pkey );
+			}
+			dictByUserIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+	}
+
+	protected static <K> void removeFromDupIndex( ConcurrentHashMap<K, ConcurrentHashMap<CFSecBuffSecDevicePKey, CFSecBuffSecDevice>> dict, K key, CFSecBuffSecDevicePKey pkey ) {
+		ConcurrentHashMap<CFSecBuffSecDevicePKey, CFSecBuffSecDevice> subdict = dict.get( key );
+		if( subdict != null ) {
+			subdict.remove( pkey );
+			if( subdict.isEmpty() ) {
+				dict.remove( key, subdict );
+			}
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffSecDevice rec, CFSecBuffSecDevice existing ) {
+		{
+			CFSecBuffSecDeviceByNameIdxKey key = newByNameIdxKey( rec );
+			CFSecBuffSecDevice conflict = dictByNameIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"SecDeviceNameIdx",
+					key );
+			}
+		}
+	}
+
+	@Override
+	public ICFSecSecDevice createSecDevice( ICFSecAuthorization Authorization,
+		ICFSecSecDevice rec )
+	{
+		final String S_ProcName = "createSecDevice";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffSecDevice stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		CFSecBuffSecDevicePKey pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecSecDevice readDerived( ICFSecAuthorization Authorization,
+		ICFSecSecDevicePKey PKey )
+	{
+		if( PKey == null ) {
+			return( null );
+		}
+		CFSecBuffSecDevice rec = dictByPKey.get( probePKey( PKey.getRequiredSecUserId(), PKey.getRequiredDevName() ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecDevice readDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId, String argDevName )
+	{
+		CFSecBuffSecDevice rec = dictByPKey.get( probePKey( argSecUserId, argDevName ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecDevice lockDerived( ICFSecAuthorization Authorization,
+		ICFSecSecDevicePKey PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecDevice[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecSecDevice readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId, String argDevName )
+	{
+		CFSecBuffSecDevice rec = dictByPKey.get( probePKey( argSecUserId, argDevName ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecDevice readDerivedByNameIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId,
+		String argDevName )
+	{
+		CFSecBuffSecDevice rec = dictByNameIdx.get( probeByNameIdxKey( argSecUserId, argDevName ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecDevice[] readDerivedByUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		ConcurrentHashMap<CFSecBuffSecDevicePKey, CFSecBuffSecDevice> subdict = dictByUserIdx.get( probeByUserIdxKey( argSecUserId ) );
+		if( subdict == null ) {
+			return( new ICFSecSecDevice[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the SecDevice instances for several UserIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argSecUserIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecSecDevice[]> readDerivedByUserIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argSecUserIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecSecDevice[]> retMap = new HashMap<>( Math.max( 16, argSecUserIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argSecUserId : argSecUserIds ) {
+			if( ( argSecUserId == null ) || retMap.containsKey( argSecUserId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFSecBuffSecDevicePKey, CFSecBuffSecDevice> subdict = dictByUserIdx.get( probeByUserIdxKey( argSecUserId ) );
+			if( subdict == null ) {
+				retMap.put( argSecUserId, new ICFSecSecDevice[0] );
+			}
+			else {
+				retMap.put( argSecUserId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecSecDevice readRec( ICFSecAuthorization Authorization,
+		ICFSecSecDevicePKey PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecDevice lockRec( ICFSecAuthorization Authorization,
+		ICFSecSecDevicePKey PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecDevice[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecSecDevice readRecByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId, String argDevName )
+	{
+		return( readDerivedByIdIdx( Authorization, argSecUserId, argDevName ) );
+	}
+
+	@Override
+	public ICFSecSecDevice readRecByNameIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId,
+		String argDevName )
+	{
+		return( readDerivedByNameIdx( Authorization, argSecUserId, argDevName ) );
+	}
+
+	@Override
+	public ICFSecSecDevice[] readRecByUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		return( readDerivedByUserIdx( Authorization, argSecUserId ) );
+	}
+
+	@Override
+	public ICFSecSecDevice updateSecDevice( ICFSecAuthorization Authorization,
+		ICFSecSecDevice rec )
+	{
+		final String S_ProcName = "updateSecDevice";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffSecDevice stored = copyRec( rec );
+		CFSecBuffSecDevicePKey pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffSecDevice existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"SecDevice",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteSecDevice( ICFSecAuthorization Authorization,
+		ICFSecSecDevice rec )
+	{
+		final String S_ProcName = "deleteSecDevice";
+		if( rec == null ) {
+			return;
+		}
+		CFSecBuffSecDevicePKey pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffSecDevice existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffSecDevice existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored SecDevice under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffSecDevice> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffSecDevice> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffSecDevice rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a SecDevice exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffSecDevice rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffSecDevice stored = copyRec( rec );
+		CFSecBuffSecDevicePKey pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteSecDeviceByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId, String argDevName )
+	{
+		deleteStored( dictByPKey.get( probePKey( argSecUserId, argDevName ) ) );
+	}
+
+	@Override
+	public void deleteSecDeviceByIdIdx( ICFSecAuthorization Authorization,
+		ICFSecSecDevicePKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteStored( dictByPKey.get( probePKey( argKey.getRequiredSecUserId(), argKey.getRequiredDevName() ) ) );
+	}
+
+	@Override
+	public void deleteSecDeviceByNameIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId,
+		String argDevName )
+	{
+		deleteStored( dictByNameIdx.get( probeByNameIdxKey( argSecUserId, argDevName ) ) );
+	}
+
+	@Override
+	public void deleteSecDeviceByNameIdx( ICFSecAuthorization Authorization,
+		ICFSecSecDeviceByNameIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecDeviceByNameIdx( Authorization, argKey.getRequiredSecUserId(), argKey.getRequiredDevName() );
+	}
+
+	@Override
+	public void deleteSecDeviceByUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		ConcurrentHashMap<CFSecBuffSecDevicePKey, CFSecBuffSecDevice> subdict = dictByUserIdx.get( probeByUserIdxKey( argSecUserId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffSecDevice existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteSecDeviceByUserIdx( ICFSecAuthorization Authorization,
+		ICFSecSecDeviceByUserIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecDeviceByUserIdx( Authorization, argKey.getRequiredSecUserId() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
@@ -51,23 +51,101 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffSecGroup
-	implements ICFSecSecGroup, Comparable<Object>, Serializable
+	implements ICFSecSecGroup, Comparable<Object>, Serializable, Cloneable
 {
 	protected CFLibDbKeyHash256 requiredSecGroupId;
 	protected int requiredRevision;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecSecGroup.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecSecGroup.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
 	protected CFLibDbKeyHash256 requiredClusterId;
 	protected String requiredName;
 	protected boolean requiredIsVisible;
 
+	protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecSecGroup.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecSecGroup.S_INIT_UPDATED_BY);
+	protected transient CFSecBuffNavigationCache navigationCache = null;
+
+	protected static final int NAV_OPTIONALCOMPONENTSINCLUDE = 0;
+	protected static final int NAV_OPTIONALCOMPONENTSMEMBER = 1;
+	protected static final int NAV_REQUIREDCHILDRENINCBYGROUP = 2;
+	protected static final int NAV_REQUIREDCONTAINERCLUSTER = 3;
+	protected static final int NAV_SLOT_COUNT = 4;
+
 	public CFSecBuffSecGroup() {
-		requiredSecGroupId = CFLibDbKeyHash256.fromHex( ICFSecSecGroup.SECGROUPID_INIT_VALUE.toString() );
-		requiredClusterId = CFLibDbKeyHash256.fromHex( ICFSecSecGroup.CLUSTERID_INIT_VALUE.toString() );
+		this( CFSecBuffRecStamp.EAGER );
+	}
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+	public CFSecBuffSecGroup( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffSecGroup", 1, "stamp" );
+		}
+		requiredSecGroupId = ICFSecSecGroup.SECGROUPID_INIT_VALUE;
+		requiredClusterId = ICFSecSecGroup.CLUSTERID_INIT_VALUE;
 		requiredName = ICFSecSecGroup.NAME_INIT_VALUE;
 		requiredIsVisible = ICFSecSecGroup.ISVISIBLE_INIT_VALUE;
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
+	}
+
+	/**
+	 *	Enable or disable caching of the relationship navigation getters of this
+	 *	instance.  While enabled, each navigation result is reused until the table
+	 *	it was read from reports a modification, or until an attribute of this
+	 *	instance is changed.  Tables that do not publish a modification count are
+	 *	always read.  Cached objects are shared between calls, so callers must treat
+	 *	them as read-only.
+	 *
+	 *	@param	value	true to cache navigation results, false to discard the cache.
+	 */
+	public void setNavigationCacheEnabled( boolean value ) {
+		if( value ) {
+			if( navigationCache == null ) {
+				navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+			}
+		}
+		else {
+			navigationCache = null;
+		}
+	}
+
+	public boolean isNavigationCacheEnabled() {
+		return( navigationCache != null );
+	}
+
+	protected long getNavigationStamp( Object targetTable ) {
+		if( navigationCache == null ) {
+			return( 0L );
+		}
+		return( CFSecBuffNavigationCache.stampOf( targetTable ) );
+	}
+
+	protected void primeNavigation( int slot, long navStamp, Object value ) {
+		if( navStamp == 0L ) {
+			return;
+		}
+		if( navigationCache == null ) {
+			navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+		}
+		navigationCache.put( slot, navStamp, value );
 	}
 
 	@Override
@@ -96,6 +174,8 @@ public class CFSecBuffSecGroup
 				"value" );
 		}
 		requiredSecGroupId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -106,16 +186,25 @@ public class CFSecBuffSecGroup
 	@Override
 	public void setCreatedByUserId( CFLibDbKeyHash256 value ) {
 		createdByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getCreatedAt() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
 		return( createdAt );
 	}
 
 	@Override
 	public void setCreatedAt( LocalDateTime value ) {
 		createdAt = value;
+		pendingCreatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -126,16 +215,25 @@ public class CFSecBuffSecGroup
 	@Override
 	public void setUpdatedByUserId( CFLibDbKeyHash256 value ) {
 		updatedByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getUpdatedAt() {
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
 		return( updatedAt );
 	}
 
 	@Override
 	public void setUpdatedAt( LocalDateTime value ) {
 		updatedAt = value;
+		pendingUpdatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 	@Override
 	public int getRequiredRevision() {
@@ -145,6 +243,8 @@ public class CFSecBuffSecGroup
 	@Override
 	public void setRequiredRevision( int value ) {
 		requiredRevision = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -162,7 +262,17 @@ public class CFSecBuffSecGroup
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalComponentsInclude", 0, "ICFSecSchema.getBackingCFSec().getTableSecGrpInc()");
 		}
-		ICFSecSecGrpInc[] targetArr = targetTable.readDerivedByGroupIdx(null, getRequiredSecGroupId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecSecGrpInc[] targetArr;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALCOMPONENTSINCLUDE, navStamp ) ) {
+			targetArr = (ICFSecSecGrpInc[])navigationCache.getValue( NAV_OPTIONALCOMPONENTSINCLUDE );
+		}
+		else {
+			targetArr = targetTable.readDerivedByGroupIdx(null, getRequiredSecGroupId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALCOMPONENTSINCLUDE, navStamp, targetArr );
+			}
+		}
 		if( targetArr != null ) {
 			List<ICFSecSecGrpInc> results = new ArrayList<>(targetArr.length);
 			for (int idx = 0; idx < targetArr.length; idx++) {
@@ -185,7 +295,17 @@ public class CFSecBuffSecGroup
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalComponentsMember", 0, "ICFSecSchema.getBackingCFSec().getTableSecGrpMemb()");
 		}
-		ICFSecSecGrpMemb[] targetArr = targetTable.readDerivedByGroupIdx(null, getRequiredSecGroupId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecSecGrpMemb[] targetArr;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALCOMPONENTSMEMBER, navStamp ) ) {
+			targetArr = (ICFSecSecGrpMemb[])navigationCache.getValue( NAV_OPTIONALCOMPONENTSMEMBER );
+		}
+		else {
+			targetArr = targetTable.readDerivedByGroupIdx(null, getRequiredSecGroupId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALCOMPONENTSMEMBER, navStamp, targetArr );
+			}
+		}
 		if( targetArr != null ) {
 			List<ICFSecSecGrpMemb> results = new ArrayList<>(targetArr.length);
 			for (int idx = 0; idx < targetArr.length; idx++) {
@@ -208,7 +328,17 @@ public class CFSecBuffSecGroup
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setRequiredChildrenIncByGroup", 0, "ICFSecSchema.getBackingCFSec().getTableSecGrpInc()");
 		}
-		ICFSecSecGrpInc[] targetArr = targetTable.readDerivedByIncludeIdx(null, getRequiredSecGroupId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecSecGrpInc[] targetArr;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_REQUIREDCHILDRENINCBYGROUP, navStamp ) ) {
+			targetArr = (ICFSecSecGrpInc[])navigationCache.getValue( NAV_REQUIREDCHILDRENINCBYGROUP );
+		}
+		else {
+			targetArr = targetTable.readDerivedByIncludeIdx(null, getRequiredSecGroupId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_REQUIREDCHILDRENINCBYGROUP, navStamp, targetArr );
+			}
+		}
 		if( targetArr != null ) {
 			List<ICFSecSecGrpInc> results = new ArrayList<>(targetArr.length);
 			for (int idx = 0; idx < targetArr.length; idx++) {
@@ -231,7 +361,17 @@ public class CFSecBuffSecGroup
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setRequiredContainerCluster", 0, "ICFSecSchema.getBackingCFSec().getTableCluster()");
 		}
-		ICFSecCluster targetRec = targetTable.readDerived(null, getRequiredClusterId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecCluster targetRec;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_REQUIREDCONTAINERCLUSTER, navStamp ) ) {
+			targetRec = (ICFSecCluster)navigationCache.getValue( NAV_REQUIREDCONTAINERCLUSTER );
+		}
+		else {
+			targetRec = targetTable.readDerived(null, getRequiredClusterId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_REQUIREDCONTAINERCLUSTER, navStamp, targetRec );
+			}
+		}
 		return(targetRec);
 	}
 	@Override
@@ -242,11 +382,15 @@ public class CFSecBuffSecGroup
 		else {
 			requiredClusterId = argObj.getRequiredId();
 		}
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public void setRequiredContainerCluster(CFLibDbKeyHash256 argClusterId) {
 		requiredClusterId = argClusterId;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -276,6 +420,8 @@ public class CFSecBuffSecGroup
 				64 );
 		}
 		requiredName = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -286,6 +432,8 @@ public class CFSecBuffSecGroup
 	@Override
 	public void setRequiredIsVisible( boolean value ) {
 		requiredIsVisible = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -511,23 +659,21 @@ public class CFSecBuffSecGroup
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getCreatedByUserId().hashCode();
-		hashCode = hashCode + getCreatedAt().hashCode();
-		hashCode = hashCode + getUpdatedByUserId().hashCode();
-		hashCode = hashCode + getUpdatedAt().hashCode();
-		hashCode = hashCode + getRequiredClusterId().hashCode();
-		hashCode = hashCode + getRequiredSecGroupId().hashCode();
-		if( getRequiredName() != null ) {
-			hashCode = hashCode + getRequiredName().hashCode();
-		}
-		if( getRequiredIsVisible() ) {
-			hashCode = ( hashCode * 2 ) + 1;
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredClusterId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredSecGroupId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredName() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredIsVisible() );
+			hashCode = CFSecBuffHash.finish( hashCode, 8 );
+			cachedHashCode = hashCode;
 		}
-		else {
-			hashCode = hashCode * 2;
-		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
@@ -782,6 +928,45 @@ public class CFSecBuffSecGroup
 		}
 	}
 
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+	protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+	}
+
+	private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+	public CFSecBuffSecGroup clone() {
+		resolvePendingStamps();
+		CFSecBuffSecGroup copy;
+		try {
+			copy = (CFSecBuffSecGroup)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.navigationCache = null;
+		return( copy );
+	}
+
 	@Override
 	public void set( ICFSecSecGroup src ) {
 		setSecGroup( src );
@@ -795,7 +980,7 @@ public class CFSecBuffSecGroup
 		setCreatedAt( src.getCreatedAt() );
 		setUpdatedByUserId( src.getUpdatedByUserId() );
 		setUpdatedAt( src.getUpdatedAt() );
-		setRequiredContainerCluster(src.getRequiredContainerCluster());
+		setRequiredContainerCluster(src.getRequiredClusterId());
 		setRequiredName(src.getRequiredName());
 		setRequiredIsVisible(src.getRequiredIsVisible());
 	}
@@ -55,8 +55,10 @@ public class CFSecBuffSecGroupByClusterVisIdxKey
 {
 	protected CFLibDbKeyHash256 requiredClusterId;
 	protected boolean requiredIsVisible;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecGroupByClusterVisIdxKey() {
-		requiredClusterId = CFLibDbKeyHash256.fromHex( ICFSecSecGroup.CLUSTERID_INIT_VALUE.toString() );
+		requiredClusterId = ICFSecSecGroup.CLUSTERID_INIT_VALUE;
 		requiredIsVisible = ICFSecSecGroup.ISVISIBLE_INIT_VALUE;
 	}
 
@@ -74,6 +76,7 @@ public class CFSecBuffSecGroupByClusterVisIdxKey
 				"value" );
 		}
 		requiredClusterId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -84,6 +87,7 @@ public class CFSecBuffSecGroupByClusterVisIdxKey
 	@Override
 	public void setRequiredIsVisible( boolean value ) {
 		requiredIsVisible = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -142,15 +146,15 @@ public class CFSecBuffSecGroupByClusterVisIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredClusterId().hashCode();
-		if( getRequiredIsVisible() ) {
-			hashCode = ( hashCode * 2 ) + 1;
-		}
-		else {
-			hashCode = hashCode * 2;
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredClusterId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredIsVisible() );
+			hashCode = CFSecBuffHash.finish( hashCode, 2 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
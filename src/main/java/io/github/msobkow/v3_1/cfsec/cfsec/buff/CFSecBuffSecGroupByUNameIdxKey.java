@@ -55,8 +55,10 @@ public class CFSecBuffSecGroupByUNameIdxKey
 {
 	protected CFLibDbKeyHash256 requiredClusterId;
 	protected String requiredName;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecGroupByUNameIdxKey() {
-		requiredClusterId = CFLibDbKeyHash256.fromHex( ICFSecSecGroup.CLUSTERID_INIT_VALUE.toString() );
+		requiredClusterId = ICFSecSecGroup.CLUSTERID_INIT_VALUE;
 		requiredName = ICFSecSecGroup.NAME_INIT_VALUE;
 	}
 
@@ -74,6 +76,7 @@ public class CFSecBuffSecGroupByUNameIdxKey
 				"value" );
 		}
 		requiredClusterId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -98,6 +101,7 @@ public class CFSecBuffSecGroupByUNameIdxKey
 				64 );
 		}
 		requiredName = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -180,12 +184,15 @@ public class CFSecBuffSecGroupByUNameIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredClusterId().hashCode();
-		if( getRequiredName() != null ) {
-			hashCode = hashCode + getRequiredName().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredClusterId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredName() );
+			hashCode = CFSecBuffHash.finish( hashCode, 2 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
@@ -54,13 +54,126 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffSecGroupDefaultFactory
 	implements ICFSecSecGroupFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffSecGroupByClusterIdxKey> probeByClusterIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecGroupByClusterIdxKey() );
+	protected static final ThreadLocal<CFSecBuffSecGroupByClusterVisIdxKey> probeByClusterVisIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecGroupByClusterVisIdxKey() );
+	protected static final ThreadLocal<CFSecBuffSecGroupByUNameIdxKey> probeByUNameIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecGroupByUNameIdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders SecGroup instances by primary key.
+	 */
+	public static final Comparator<ICFSecSecGroup> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( lhs.getRequiredSecGroupId().compareTo( rhs.getRequiredSecGroupId() ) );
+	};
+
+	/**
+	 *	Orders SecGroup history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecSecGroupHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredSecGroupId().compareTo( rhs.getRequiredSecGroupId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders SecGroup instances by the ClusterIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecSecGroup> COMPARE_BY_CLUSTERIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() ) );
+	};
+
+	/**
+	 *	Orders ClusterIdx keys.
+	 */
+	public static final Comparator<ICFSecSecGroupByClusterIdxKey> COMPARE_CLUSTERIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() ) );
+	};
+
+	/**
+	 *	Orders SecGroup instances by the ClusterVisIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecSecGroup> COMPARE_BY_CLUSTERVISIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Boolean.compare( lhs.getRequiredIsVisible(), rhs.getRequiredIsVisible() ) );
+	};
+
+	/**
+	 *	Orders ClusterVisIdx keys.
+	 */
+	public static final Comparator<ICFSecSecGroupByClusterVisIdxKey> COMPARE_CLUSTERVISIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Boolean.compare( lhs.getRequiredIsVisible(), rhs.getRequiredIsVisible() ) );
+	};
+
+	/**
+	 *	Orders SecGroup instances by the UNameIdx columns.
+	 */
+	public static final Comparator<ICFSecSecGroup> COMPARE_BY_UNAMEIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredName().compareTo( rhs.getRequiredName() ) );
+	};
+
+	/**
+	 *	Orders UNameIdx keys.
+	 */
+	public static final Comparator<ICFSecSecGroupByUNameIdxKey> COMPARE_UNAMEIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredName().compareTo( rhs.getRequiredName() ) );
+	};
+
 	public CFSecBuffSecGroupDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
 	@Override
 	public ICFSecSecGroupHPKey newHPKey() {
 		ICFSecSecGroupHPKey hpkey =
-			new CFSecBuffSecGroupHPKey();
+			new CFSecBuffSecGroupHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -72,7 +185,7 @@ public class CFSecBuffSecGroupDefaultFactory
 			return( (CFSecBuffSecGroupHPKey)key );
 		}
 		else {
-			CFSecBuffSecGroupHPKey mapped = new CFSecBuffSecGroupHPKey();
+			CFSecBuffSecGroupHPKey mapped = new CFSecBuffSecGroupHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -103,6 +216,10 @@ public class CFSecBuffSecGroupDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecGroupByClusterIdxKey getProbeByClusterIdxKey() {
+		return( probeByClusterIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecGroupByClusterVisIdxKey newByClusterVisIdxKey() {
 		ICFSecSecGroupByClusterVisIdxKey key =
@@ -125,6 +242,10 @@ public class CFSecBuffSecGroupDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecGroupByClusterVisIdxKey getProbeByClusterVisIdxKey() {
+		return( probeByClusterVisIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecGroupByUNameIdxKey newByUNameIdxKey() {
 		ICFSecSecGroupByUNameIdxKey key =
@@ -147,10 +268,14 @@ public class CFSecBuffSecGroupDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecGroupByUNameIdxKey getProbeByUNameIdxKey() {
+		return( probeByUNameIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecGroup newRec() {
 		ICFSecSecGroup rec =
-			new CFSecBuffSecGroup();
+			new CFSecBuffSecGroup( recStamp );
 		return( rec );
 	}
 
@@ -162,16 +287,56 @@ public class CFSecBuffSecGroupDefaultFactory
 			return( (CFSecBuffSecGroup)rec );
 		}
 		else {
-			CFSecBuffSecGroup mapped = new CFSecBuffSecGroup();
+			CFSecBuffSecGroup mapped = new CFSecBuffSecGroup( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffSecGroup cloneRec( ICFSecSecGroup rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffSecGroup ) {
+			return( ( (CFSecBuffSecGroup)rec ).clone() );
+		}
+		else {
+			CFSecBuffSecGroup mapped = new CFSecBuffSecGroup( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffSecGroup[] cloneRecs( ICFSecSecGroup[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffSecGroup[] retList = new CFSecBuffSecGroup[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecSecGroupH newHRec() {
 		ICFSecSecGroupH hrec =
-			new CFSecBuffSecGroupH();
+			new CFSecBuffSecGroupH( recStamp );
 		return( hrec );
 	}
 
@@ -183,9 +348,49 @@ public class CFSecBuffSecGroupDefaultFactory
 			return( (CFSecBuffSecGroupH)hrec );
 		}
 		else {
-			CFSecBuffSecGroupH mapped = new CFSecBuffSecGroupH();
+			CFSecBuffSecGroupH mapped = new CFSecBuffSecGroupH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffSecGroupH cloneHRec( ICFSecSecGroupH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffSecGroupH ) {
+			return( ( (CFSecBuffSecGroupH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffSecGroupH mapped = new CFSecBuffSecGroupH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffSecGroupH[] cloneHRecs( ICFSecSecGroupH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffSecGroupH[] retList = new CFSecBuffSecGroupH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
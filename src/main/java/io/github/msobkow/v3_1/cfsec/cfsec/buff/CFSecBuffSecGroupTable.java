@@ -0,0 +1,636 @@
+// Description: Java 25 in-memory concurrent implementation of a SecGroup table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffSecGroupTable in-memory implementation of ICFSecSecGroupTable for SecGroup.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ */
+public class CFSecBuffSecGroupTable
+	implements ICFSecSecGroupTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGroup> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecGroupByClusterIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGroup>> dictByClusterIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecGroupByClusterVisIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGroup>> dictByClusterVisIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecGroupByUNameIdxKey, CFSecBuffSecGroup> dictByUNameIdx
+		= new ConcurrentHashMap<>();
+
+	public CFSecBuffSecGroupTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Copy the attributes of a SecGroup by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffSecGroup holding the same attribute values.
+	 */
+	protected CFSecBuffSecGroup copyRec( ICFSecSecGroup src ) {
+		if( src instanceof CFSecBuffSecGroup ) {
+			return( ( (CFSecBuffSecGroup)src ).clone() );
+		}
+		CFSecBuffSecGroup rec = new CFSecBuffSecGroup( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredSecGroupId( src.getRequiredSecGroupId() );
+		rec.setRequiredContainerCluster( src.getRequiredClusterId() );
+		rec.setRequiredName( src.getRequiredName() );
+		rec.setRequiredIsVisible( src.getRequiredIsVisible() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecSecGroup[] copyRecs( Collection<CFSecBuffSecGroup> src ) {
+		ICFSecSecGroup[] retList = new ICFSecSecGroup[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffSecGroup cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected CFLibDbKeyHash256 pkeyOf( ICFSecSecGroup rec ) {
+		return( rec.getRequiredSecGroupId() );
+	}
+
+	protected CFSecBuffSecGroupByClusterIdxKey newByClusterIdxKey( CFLibDbKeyHash256 argClusterId ) {
+		CFSecBuffSecGroupByClusterIdxKey key = new CFSecBuffSecGroupByClusterIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		return( key );
+	}
+
+	protected CFSecBuffSecGroupByClusterIdxKey newByClusterIdxKey( ICFSecSecGroup rec ) {
+		return( newByClusterIdxKey( rec.getRequiredClusterId() ) );
+	}
+
+	protected CFSecBuffSecGroupByClusterIdxKey probeByClusterIdxKey( CFLibDbKeyHash256 argClusterId ) {
+		CFSecBuffSecGroupByClusterIdxKey key = CFSecBuffSecGroupDefaultFactory.getProbeByClusterIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		return( key );
+	}
+
+	protected CFSecBuffSecGroupByClusterVisIdxKey newByClusterVisIdxKey( CFLibDbKeyHash256 argClusterId, boolean argIsVisible ) {
+		CFSecBuffSecGroupByClusterVisIdxKey key = new CFSecBuffSecGroupByClusterVisIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		key.setRequiredIsVisible( argIsVisible );
+		return( key );
+	}
+
+	protected CFSecBuffSecGroupByClusterVisIdxKey newByClusterVisIdxKey( ICFSecSecGroup rec ) {
+		return( newByClusterVisIdxKey( rec.getRequiredClusterId(), rec.getRequiredIsVisible() ) );
+	}
+
+	protected CFSecBuffSecGroupByClusterVisIdxKey probeByClusterVisIdxKey( CFLibDbKeyHash256 argClusterId, boolean argIsVisible ) {
+		CFSecBuffSecGroupByClusterVisIdxKey key = CFSecBuffSecGroupDefaultFactory.getProbeByClusterVisIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		key.setRequiredIsVisible( argIsVisible );
+		return( key );
+	}
+
+	protected CFSecBuffSecGroupByUNameIdxKey newByUNameIdxKey( CFLibDbKeyHash256 argClusterId, String argName ) {
+		CFSecBuffSecGroupByUNameIdxKey key = new CFSecBuffSecGroupByUNameIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		key.setRequiredName( argName );
+		return( key );
+	}
+
+	protected CFSecBuffSecGroupByUNameIdxKey newByUNameIdxKey( ICFSecSecGroup rec ) {
+		return( newByUNameIdxKey( rec.getRequiredClusterId(), rec.getRequiredName() ) );
+	}
+
+	protected CFSecBuffSecGroupByUNameIdxKey probeByUNameIdxKey( CFLibDbKeyHash256 argClusterId, String argName ) {
+		CFSecBuffSecGroupByUNameIdxKey key = CFSecBuffSecGroupDefaultFactory.getProbeByUNameIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		key.setRequiredName( argName );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffSecGroup rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByClusterIdx.computeIfAbsent( newByClusterIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByClusterVisIdx.computeIfAbsent( newByClusterVisIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByUNameIdx.put( newByUNameIdxKey( rec ), rec );
+	}
+
+	protected void unindexRec( CFSecBuffSecGroup rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		removeFromDupIndex( dictByClusterIdx, newByClusterIdxKey( rec ), pkey );
+		removeFromDupIndex( dictByClusterVisIdx, newByClusterVisIdxKey( rec ), pkey );
+		dictByUNameIdx.remove( newByUNameIdxKey( rec ), rec );
+		dictByPKey.remove( pkey, rec );
+	}
+
+	protected void reindexRec( CFSecBuffSecGroup existing, CFSecBuffSecGroup rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffSecGroupByClusterIdxKey oldKey = newByClusterIdxKey( existing );
+			CFSecBuffSecGroupByClusterIdxKey newKey = newByClusterIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByClusterIdx, oldKey, pkey );
+			}
+			dictByClusterIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffSecGroupByClusterVisIdxKey oldKey = newByClusterVisIdxKey( existing );
+			CFSecBuffSecGroupByClusterVisIdxKey newKey = newByClusterVisIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByClusterVisIdx, oldKey, pkey );
+			}
+			dictByClusterVisIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffSecGroupByUNameIdxKey oldKey = newByUNameIdxKey( existing );
+			CFSecBuffSecGroupByUNameIdxKey newKey = newByUNameIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByUNameIdx.remove( oldKey, existing );
+			}
+			dictByUNameIdx.put( newKey, rec );
+		}
+	}
+
+	protected static <K> void removeFromDupIndex( ConcurrentHashMap<K, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGroup>> dict, K key, CFLibDbKeyHash256 pkey ) {
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGroup> subdict = dict.get( key );
+		if( subdict != null ) {
+			subdict.remove( pkey );
+			if( subdict.isEmpty() ) {
+				dict.remove( key, subdict );
+			}
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffSecGroup rec, CFSecBuffSecGroup existing ) {
+		{
+			CFSecBuffSecGroupByUNameIdxKey key = newByUNameIdxKey( rec );
+			CFSecBuffSecGroup conflict = dictByUNameIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"SecGroupUNameIdx",
+					key );
+			}
+		}
+	}
+
+	@Override
+	public ICFSecSecGroup createSecGroup( ICFSecAuthorization Authorization,
+		ICFSecSecGroup rec )
+	{
+		final String S_ProcName = "createSecGroup";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffSecGroup stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecSecGroup readDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		if( PKey == null ) {
+			return( null );
+		}
+		CFSecBuffSecGroup rec = dictByPKey.get( PKey );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecGroup lockDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecGroup[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecSecGroup readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecGroupId )
+	{
+		if( argSecGroupId == null ) {
+			return( null );
+		}
+		CFSecBuffSecGroup rec = dictByPKey.get( argSecGroupId );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecGroup[] readDerivedByClusterIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGroup> subdict = dictByClusterIdx.get( probeByClusterIdxKey( argClusterId ) );
+		if( subdict == null ) {
+			return( new ICFSecSecGroup[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the SecGroup instances for several ClusterIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argClusterIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecSecGroup[]> readDerivedByClusterIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argClusterIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecSecGroup[]> retMap = new HashMap<>( Math.max( 16, argClusterIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argClusterId : argClusterIds ) {
+			if( ( argClusterId == null ) || retMap.containsKey( argClusterId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGroup> subdict = dictByClusterIdx.get( probeByClusterIdxKey( argClusterId ) );
+			if( subdict == null ) {
+				retMap.put( argClusterId, new ICFSecSecGroup[0] );
+			}
+			else {
+				retMap.put( argClusterId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecSecGroup[] readDerivedByClusterVisIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		boolean argIsVisible )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGroup> subdict = dictByClusterVisIdx.get( probeByClusterVisIdxKey( argClusterId, argIsVisible ) );
+		if( subdict == null ) {
+			return( new ICFSecSecGroup[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	@Override
+	public ICFSecSecGroup readDerivedByUNameIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		String argName )
+	{
+		CFSecBuffSecGroup rec = dictByUNameIdx.get( probeByUNameIdxKey( argClusterId, argName ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecGroup readRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecGroup lockRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecGroup[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecSecGroup readRecByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecGroupId )
+	{
+		return( readDerivedByIdIdx( Authorization, argSecGroupId ) );
+	}
+
+	@Override
+	public ICFSecSecGroup[] readRecByClusterIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId )
+	{
+		return( readDerivedByClusterIdx( Authorization, argClusterId ) );
+	}
+
+	@Override
+	public ICFSecSecGroup[] readRecByClusterVisIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		boolean argIsVisible )
+	{
+		return( readDerivedByClusterVisIdx( Authorization, argClusterId, argIsVisible ) );
+	}
+
+	@Override
+	public ICFSecSecGroup readRecByUNameIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		String argName )
+	{
+		return( readDerivedByUNameIdx( Authorization, argClusterId, argName ) );
+	}
+
+	@Override
+	public ICFSecSecGroup updateSecGroup( ICFSecAuthorization Authorization,
+		ICFSecSecGroup rec )
+	{
+		final String S_ProcName = "updateSecGroup";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffSecGroup stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffSecGroup existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"SecGroup",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteSecGroup( ICFSecAuthorization Authorization,
+		ICFSecSecGroup rec )
+	{
+		final String S_ProcName = "deleteSecGroup";
+		if( rec == null ) {
+			return;
+		}
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffSecGroup existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffSecGroup existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored SecGroup under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffSecGroup> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffSecGroup> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffSecGroup rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a SecGroup exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffSecGroup rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffSecGroup stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteSecGroupByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecGroupId )
+	{
+		if( argSecGroupId == null ) {
+			return;
+		}
+		deleteStored( dictByPKey.get( argSecGroupId ) );
+	}
+
+	@Override
+	public void deleteSecGroupByClusterIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGroup> subdict = dictByClusterIdx.get( probeByClusterIdxKey( argClusterId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffSecGroup existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteSecGroupByClusterIdx( ICFSecAuthorization Authorization,
+		ICFSecSecGroupByClusterIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecGroupByClusterIdx( Authorization, argKey.getRequiredClusterId() );
+	}
+
+	@Override
+	public void deleteSecGroupByClusterVisIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		boolean argIsVisible )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGroup> subdict = dictByClusterVisIdx.get( probeByClusterVisIdxKey( argClusterId, argIsVisible ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffSecGroup existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteSecGroupByClusterVisIdx( ICFSecAuthorization Authorization,
+		ICFSecSecGroupByClusterVisIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecGroupByClusterVisIdx( Authorization, argKey.getRequiredClusterId(), argKey.getRequiredIsVisible() );
+	}
+
+	@Override
+	public void deleteSecGroupByUNameIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		String argName )
+	{
+		deleteStored( dictByUNameIdx.get( probeByUNameIdxKey( argClusterId, argName ) ) );
+	}
+
+	@Override
+	public void deleteSecGroupByUNameIdx( ICFSecAuthorization Authorization,
+		ICFSecSecGroupByUNameIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecGroupByUNameIdx( Authorization, argKey.getRequiredClusterId(), argKey.getRequiredName() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
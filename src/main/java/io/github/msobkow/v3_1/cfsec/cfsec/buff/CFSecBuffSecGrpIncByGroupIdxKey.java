@@ -54,8 +54,10 @@ public class CFSecBuffSecGrpIncByGroupIdxKey
 	implements ICFSecSecGrpIncByGroupIdxKey, Comparable<Object>, Serializable
 {
 	protected CFLibDbKeyHash256 requiredSecGroupId;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecGrpIncByGroupIdxKey() {
-		requiredSecGroupId = CFLibDbKeyHash256.fromHex( ICFSecSecGrpInc.SECGROUPID_INIT_VALUE.toString() );
+		requiredSecGroupId = ICFSecSecGrpInc.SECGROUPID_INIT_VALUE;
 	}
 
 	@Override
@@ -72,6 +74,7 @@ public class CFSecBuffSecGrpIncByGroupIdxKey
 				"value" );
 		}
 		requiredSecGroupId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -124,9 +127,14 @@ public class CFSecBuffSecGrpIncByGroupIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredSecGroupId().hashCode();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredSecGroupId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
@@ -54,8 +54,10 @@ public class CFSecBuffSecGrpIncByIncludeIdxKey
 	implements ICFSecSecGrpIncByIncludeIdxKey, Comparable<Object>, Serializable
 {
 	protected CFLibDbKeyHash256 requiredIncludeGroupId;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecGrpIncByIncludeIdxKey() {
-		requiredIncludeGroupId = CFLibDbKeyHash256.fromHex( ICFSecSecGrpInc.INCLUDEGROUPID_INIT_VALUE.toString() );
+		requiredIncludeGroupId = ICFSecSecGrpInc.INCLUDEGROUPID_INIT_VALUE;
 	}
 
 	@Override
@@ -72,6 +74,7 @@ public class CFSecBuffSecGrpIncByIncludeIdxKey
 				"value" );
 		}
 		requiredIncludeGroupId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -124,9 +127,14 @@ public class CFSecBuffSecGrpIncByIncludeIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredIncludeGroupId().hashCode();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredIncludeGroupId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
@@ -56,10 +56,12 @@ public class CFSecBuffSecGrpIncByUIncludeIdxKey
 	protected CFLibDbKeyHash256 requiredClusterId;
 	protected CFLibDbKeyHash256 requiredSecGroupId;
 	protected CFLibDbKeyHash256 requiredIncludeGroupId;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecGrpIncByUIncludeIdxKey() {
-		requiredClusterId = CFLibDbKeyHash256.fromHex( ICFSecSecGrpInc.CLUSTERID_INIT_VALUE.toString() );
-		requiredSecGroupId = CFLibDbKeyHash256.fromHex( ICFSecSecGrpInc.SECGROUPID_INIT_VALUE.toString() );
-		requiredIncludeGroupId = CFLibDbKeyHash256.fromHex( ICFSecSecGrpInc.INCLUDEGROUPID_INIT_VALUE.toString() );
+		requiredClusterId = ICFSecSecGrpInc.CLUSTERID_INIT_VALUE;
+		requiredSecGroupId = ICFSecSecGrpInc.SECGROUPID_INIT_VALUE;
+		requiredIncludeGroupId = ICFSecSecGrpInc.INCLUDEGROUPID_INIT_VALUE;
 	}
 
 	@Override
@@ -76,6 +78,7 @@ public class CFSecBuffSecGrpIncByUIncludeIdxKey
 				"value" );
 		}
 		requiredClusterId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -92,6 +95,7 @@ public class CFSecBuffSecGrpIncByUIncludeIdxKey
 				"value" );
 		}
 		requiredSecGroupId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -108,6 +112,7 @@ public class CFSecBuffSecGrpIncByUIncludeIdxKey
 				"value" );
 		}
 		requiredIncludeGroupId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -220,11 +225,16 @@ public class CFSecBuffSecGrpIncByUIncludeIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredClusterId().hashCode();
-		hashCode = hashCode + getRequiredSecGroupId().hashCode();
-		hashCode = hashCode + getRequiredIncludeGroupId().hashCode();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredClusterId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredSecGroupId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredIncludeGroupId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 3 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
@@ -54,13 +54,140 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffSecGrpIncDefaultFactory
 	implements ICFSecSecGrpIncFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffSecGrpIncByClusterIdxKey> probeByClusterIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecGrpIncByClusterIdxKey() );
+	protected static final ThreadLocal<CFSecBuffSecGrpIncByGroupIdxKey> probeByGroupIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecGrpIncByGroupIdxKey() );
+	protected static final ThreadLocal<CFSecBuffSecGrpIncByIncludeIdxKey> probeByIncludeIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecGrpIncByIncludeIdxKey() );
+	protected static final ThreadLocal<CFSecBuffSecGrpIncByUIncludeIdxKey> probeByUIncludeIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecGrpIncByUIncludeIdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders SecGrpInc instances by primary key.
+	 */
+	public static final Comparator<ICFSecSecGrpInc> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( lhs.getRequiredSecGrpIncId().compareTo( rhs.getRequiredSecGrpIncId() ) );
+	};
+
+	/**
+	 *	Orders SecGrpInc history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecSecGrpIncHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredSecGrpIncId().compareTo( rhs.getRequiredSecGrpIncId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders SecGrpInc instances by the ClusterIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecSecGrpInc> COMPARE_BY_CLUSTERIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() ) );
+	};
+
+	/**
+	 *	Orders ClusterIdx keys.
+	 */
+	public static final Comparator<ICFSecSecGrpIncByClusterIdxKey> COMPARE_CLUSTERIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() ) );
+	};
+
+	/**
+	 *	Orders SecGrpInc instances by the GroupIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecSecGrpInc> COMPARE_BY_GROUPIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredSecGroupId().compareTo( rhs.getRequiredSecGroupId() ) );
+	};
+
+	/**
+	 *	Orders GroupIdx keys.
+	 */
+	public static final Comparator<ICFSecSecGrpIncByGroupIdxKey> COMPARE_GROUPIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredSecGroupId().compareTo( rhs.getRequiredSecGroupId() ) );
+	};
+
+	/**
+	 *	Orders SecGrpInc instances by the IncludeIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecSecGrpInc> COMPARE_BY_INCLUDEIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredIncludeGroupId().compareTo( rhs.getRequiredIncludeGroupId() ) );
+	};
+
+	/**
+	 *	Orders IncludeIdx keys.
+	 */
+	public static final Comparator<ICFSecSecGrpIncByIncludeIdxKey> COMPARE_INCLUDEIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredIncludeGroupId().compareTo( rhs.getRequiredIncludeGroupId() ) );
+	};
+
+	/**
+	 *	Orders SecGrpInc instances by the UIncludeIdx columns.
+	 */
+	public static final Comparator<ICFSecSecGrpInc> COMPARE_BY_UINCLUDEIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		cmp = lhs.getRequiredSecGroupId().compareTo( rhs.getRequiredSecGroupId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredIncludeGroupId().compareTo( rhs.getRequiredIncludeGroupId() ) );
+	};
+
+	/**
+	 *	Orders UIncludeIdx keys.
+	 */
+	public static final Comparator<ICFSecSecGrpIncByUIncludeIdxKey> COMPARE_UINCLUDEIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		cmp = lhs.getRequiredSecGroupId().compareTo( rhs.getRequiredSecGroupId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredIncludeGroupId().compareTo( rhs.getRequiredIncludeGroupId() ) );
+	};
+
 	public CFSecBuffSecGrpIncDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
 	@Override
 	public ICFSecSecGrpIncHPKey newHPKey() {
 		ICFSecSecGrpIncHPKey hpkey =
-			new CFSecBuffSecGrpIncHPKey();
+			new CFSecBuffSecGrpIncHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -72,7 +199,7 @@ public class CFSecBuffSecGrpIncDefaultFactory
 			return( (CFSecBuffSecGrpIncHPKey)key );
 		}
 		else {
-			CFSecBuffSecGrpIncHPKey mapped = new CFSecBuffSecGrpIncHPKey();
+			CFSecBuffSecGrpIncHPKey mapped = new CFSecBuffSecGrpIncHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -103,6 +230,10 @@ public class CFSecBuffSecGrpIncDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecGrpIncByClusterIdxKey getProbeByClusterIdxKey() {
+		return( probeByClusterIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecGrpIncByGroupIdxKey newByGroupIdxKey() {
 		ICFSecSecGrpIncByGroupIdxKey key =
@@ -124,6 +255,10 @@ public class CFSecBuffSecGrpIncDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecGrpIncByGroupIdxKey getProbeByGroupIdxKey() {
+		return( probeByGroupIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecGrpIncByIncludeIdxKey newByIncludeIdxKey() {
 		ICFSecSecGrpIncByIncludeIdxKey key =
@@ -145,6 +280,10 @@ public class CFSecBuffSecGrpIncDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecGrpIncByIncludeIdxKey getProbeByIncludeIdxKey() {
+		return( probeByIncludeIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecGrpIncByUIncludeIdxKey newByUIncludeIdxKey() {
 		ICFSecSecGrpIncByUIncludeIdxKey key =
@@ -168,10 +307,14 @@ public class CFSecBuffSecGrpIncDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecGrpIncByUIncludeIdxKey getProbeByUIncludeIdxKey() {
+		return( probeByUIncludeIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecGrpInc newRec() {
 		ICFSecSecGrpInc rec =
-			new CFSecBuffSecGrpInc();
+			new CFSecBuffSecGrpInc( recStamp );
 		return( rec );
 	}
 
@@ -183,16 +326,56 @@ public class CFSecBuffSecGrpIncDefaultFactory
 			return( (CFSecBuffSecGrpInc)rec );
 		}
 		else {
-			CFSecBuffSecGrpInc mapped = new CFSecBuffSecGrpInc();
+			CFSecBuffSecGrpInc mapped = new CFSecBuffSecGrpInc( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffSecGrpInc cloneRec( ICFSecSecGrpInc rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffSecGrpInc ) {
+			return( ( (CFSecBuffSecGrpInc)rec ).clone() );
+		}
+		else {
+			CFSecBuffSecGrpInc mapped = new CFSecBuffSecGrpInc( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffSecGrpInc[] cloneRecs( ICFSecSecGrpInc[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffSecGrpInc[] retList = new CFSecBuffSecGrpInc[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecSecGrpIncH newHRec() {
 		ICFSecSecGrpIncH hrec =
-			new CFSecBuffSecGrpIncH();
+			new CFSecBuffSecGrpIncH( recStamp );
 		return( hrec );
 	}
 
@@ -204,9 +387,49 @@ public class CFSecBuffSecGrpIncDefaultFactory
 			return( (CFSecBuffSecGrpIncH)hrec );
 		}
 		else {
-			CFSecBuffSecGrpIncH mapped = new CFSecBuffSecGrpIncH();
+			CFSecBuffSecGrpIncH mapped = new CFSecBuffSecGrpIncH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffSecGrpIncH cloneHRec( ICFSecSecGrpIncH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffSecGrpIncH ) {
+			return( ( (CFSecBuffSecGrpIncH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffSecGrpIncH mapped = new CFSecBuffSecGrpIncH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffSecGrpIncH[] cloneHRecs( ICFSecSecGrpIncH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffSecGrpIncH[] retList = new CFSecBuffSecGrpIncH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
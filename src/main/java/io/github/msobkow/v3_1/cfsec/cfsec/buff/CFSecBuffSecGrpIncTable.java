@@ -0,0 +1,877 @@
+// Description: Java 25 in-memory concurrent implementation of a SecGrpInc table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffSecGrpIncTable in-memory implementation of ICFSecSecGrpIncTable for SecGrpInc.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ *
+ *	The table also maintains the transitive inclusion closure of each cluster,
+ *	so nested group resolution does not need a read per hop, and it rejects any
+ *	inclusion that would make a group include itself.
+ */
+public class CFSecBuffSecGrpIncTable
+	implements ICFSecSecGrpIncTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpInc> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecGrpIncByClusterIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpInc>> dictByClusterIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecGrpIncByGroupIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpInc>> dictByGroupIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecGrpIncByIncludeIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpInc>> dictByIncludeIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecGrpIncByUIncludeIdxKey, CFSecBuffSecGrpInc> dictByUIncludeIdx
+		= new ConcurrentHashMap<>();
+	protected final CFSecBuffGrpIncClosure inclusionClosure = new CFSecBuffGrpIncClosure();
+	protected final CopyOnWriteArrayList<CFSecBuffTableListener<ICFSecSecGrpInc>> listeners
+		= new CopyOnWriteArrayList<>();
+
+	public CFSecBuffSecGrpIncTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Register a listener for creates, updates and deletes of SecGrpInc.
+	 *
+	 *	@param	listener	The listener to add.
+	 */
+	public void addListener( CFSecBuffTableListener<ICFSecSecGrpInc> listener ) {
+		if( listener == null ) {
+			throw new CFLibNullArgumentException( getClass(), "addListener", 1, "listener" );
+		}
+		listeners.addIfAbsent( listener );
+	}
+
+	/**
+	 *	Unregister a listener.  Removing a listener that is not registered is ignored.
+	 *
+	 *	@param	listener	The listener to remove.
+	 */
+	public void removeListener( CFSecBuffTableListener<ICFSecSecGrpInc> listener ) {
+		listeners.remove( listener );
+	}
+
+	/**
+	 *	Get the transitive inclusion closure, partitioned by cluster id.
+	 *	The closure is updated under the table's write lock, before the
+	 *	modification count advances.
+	 *
+	 *	@return	The closure maintained by this table.
+	 */
+	public CFSecBuffGrpIncClosure getInclusionClosure() {
+		return( inclusionClosure );
+	}
+
+	/**
+	 *	Determine whether a group of a cluster transitively includes another group.
+	 *
+	 *	@param	argClusterId	The owning cluster.
+	 *	@param	argSecGroupId	The including group.
+	 *	@param	argIncludeGroupId	The group being tested for.
+	 *
+	 *	@return	True if argIncludeGroupId is reachable from argSecGroupId.
+	 */
+	public boolean isGroupIncluded( CFLibDbKeyHash256 argClusterId,
+		CFLibDbKeyHash256 argSecGroupId,
+		CFLibDbKeyHash256 argIncludeGroupId )
+	{
+		return( inclusionClosure.includes( argClusterId, argSecGroupId, argIncludeGroupId ) );
+	}
+
+	/**
+	 *	Get every group of a cluster transitively included by a group.
+	 *
+	 *	@param	argClusterId	The owning cluster.
+	 *	@param	argSecGroupId	The including group.
+	 *
+	 *	@return	An unmodifiable snapshot of the included group ids, never null.
+	 */
+	public Set<CFLibDbKeyHash256> getTransitiveIncludedGroupIds( CFLibDbKeyHash256 argClusterId,
+		CFLibDbKeyHash256 argSecGroupId )
+	{
+		return( inclusionClosure.getIncludedGroups( argClusterId, argSecGroupId ) );
+	}
+
+	/**
+	 *	Copy the attributes of a SecGrpInc by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffSecGrpInc holding the same attribute values.
+	 */
+	protected CFSecBuffSecGrpInc copyRec( ICFSecSecGrpInc src ) {
+		if( src instanceof CFSecBuffSecGrpInc ) {
+			return( ( (CFSecBuffSecGrpInc)src ).clone() );
+		}
+		CFSecBuffSecGrpInc rec = new CFSecBuffSecGrpInc( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredSecGrpIncId( src.getRequiredSecGrpIncId() );
+		rec.setRequiredOwnerCluster( src.getRequiredClusterId() );
+		rec.setRequiredContainerGroup( src.getRequiredSecGroupId() );
+		rec.setRequiredParentSubGroup( src.getRequiredIncludeGroupId() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecSecGrpInc[] copyRecs( Collection<CFSecBuffSecGrpInc> src ) {
+		ICFSecSecGrpInc[] retList = new ICFSecSecGrpInc[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffSecGrpInc cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected CFLibDbKeyHash256 pkeyOf( ICFSecSecGrpInc rec ) {
+		return( rec.getRequiredSecGrpIncId() );
+	}
+
+	protected CFSecBuffSecGrpIncByClusterIdxKey newByClusterIdxKey( CFLibDbKeyHash256 argClusterId ) {
+		CFSecBuffSecGrpIncByClusterIdxKey key = new CFSecBuffSecGrpIncByClusterIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		return( key );
+	}
+
+	protected CFSecBuffSecGrpIncByClusterIdxKey newByClusterIdxKey( ICFSecSecGrpInc rec ) {
+		return( newByClusterIdxKey( rec.getRequiredClusterId() ) );
+	}
+
+	protected CFSecBuffSecGrpIncByClusterIdxKey probeByClusterIdxKey( CFLibDbKeyHash256 argClusterId ) {
+		CFSecBuffSecGrpIncByClusterIdxKey key = CFSecBuffSecGrpIncDefaultFactory.getProbeByClusterIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		return( key );
+	}
+
+	protected CFSecBuffSecGrpIncByGroupIdxKey newByGroupIdxKey( CFLibDbKeyHash256 argSecGroupId ) {
+		CFSecBuffSecGrpIncByGroupIdxKey key = new CFSecBuffSecGrpIncByGroupIdxKey();
+		key.setRequiredSecGroupId( argSecGroupId );
+		return( key );
+	}
+
+	protected CFSecBuffSecGrpIncByGroupIdxKey newByGroupIdxKey( ICFSecSecGrpInc rec ) {
+		return( newByGroupIdxKey( rec.getRequiredSecGroupId() ) );
+	}
+
+	protected CFSecBuffSecGrpIncByGroupIdxKey probeByGroupIdxKey( CFLibDbKeyHash256 argSecGroupId ) {
+		CFSecBuffSecGrpIncByGroupIdxKey key = CFSecBuffSecGrpIncDefaultFactory.getProbeByGroupIdxKey();
+		key.setRequiredSecGroupId( argSecGroupId );
+		return( key );
+	}
+
+	protected CFSecBuffSecGrpIncByIncludeIdxKey newByIncludeIdxKey( CFLibDbKeyHash256 argIncludeGroupId ) {
+		CFSecBuffSecGrpIncByIncludeIdxKey key = new CFSecBuffSecGrpIncByIncludeIdxKey();
+		key.setRequiredIncludeGroupId( argIncludeGroupId );
+		return( key );
+	}
+
+	protected CFSecBuffSecGrpIncByIncludeIdxKey newByIncludeIdxKey( ICFSecSecGrpInc rec ) {
+		return( newByIncludeIdxKey( rec.getRequiredIncludeGroupId() ) );
+	}
+
+	protected CFSecBuffSecGrpIncByIncludeIdxKey probeByIncludeIdxKey( CFLibDbKeyHash256 argIncludeGroupId ) {
+		CFSecBuffSecGrpIncByIncludeIdxKey key = CFSecBuffSecGrpIncDefaultFactory.getProbeByIncludeIdxKey();
+		key.setRequiredIncludeGroupId( argIncludeGroupId );
+		return( key );
+	}
+
+	protected CFSecBuffSecGrpIncByUIncludeIdxKey newByUIncludeIdxKey( CFLibDbKeyHash256 argClusterId, CFLibDbKeyHash256 argSecGroupId, CFLibDbKeyHash256 argIncludeGroupId ) {
+		CFSecBuffSecGrpIncByUIncludeIdxKey key = new CFSecBuffSecGrpIncByUIncludeIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		key.setRequiredSecGroupId( argSecGroupId );
+		key.setRequiredIncludeGroupId( argIncludeGroupId );
+		return( key );
+	}
+
+	protected CFSecBuffSecGrpIncByUIncludeIdxKey newByUIncludeIdxKey( ICFSecSecGrpInc rec ) {
+		return( newByUIncludeIdxKey( rec.getRequiredClusterId(), rec.getRequiredSecGroupId(), rec.getRequiredIncludeGroupId() ) );
+	}
+
+	protected CFSecBuffSecGrpIncByUIncludeIdxKey probeByUIncludeIdxKey( CFLibDbKeyHash256 argClusterId, CFLibDbKeyHash256 argSecGroupId, CFLibDbKeyHash256 argIncludeGroupId ) {
+		CFSecBuffSecGrpIncByUIncludeIdxKey key = CFSecBuffSecGrpIncDefaultFactory.getProbeByUIncludeIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		key.setRequiredSecGroupId( argSecGroupId );
+		key.setRequiredIncludeGroupId( argIncludeGroupId );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffSecGrpInc rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByClusterIdx.computeIfAbsent( newByClusterIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByGroupIdx.computeIfAbsent( newByGroupIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByIncludeIdx.computeIfAbsent( newByIncludeIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByUIncludeIdx.put( newByUIncludeIdxKey( rec ), rec );
+		inclusionClosure.addInclusion( rec.getRequiredClusterId(), rec.getRequiredSecGroupId(), rec.getRequiredIncludeGroupId() );
+		for( CFSecBuffTableListener<ICFSecSecGrpInc> listener : listeners ) {
+			listener.recCreated( rec );
+		}
+	}
+
+	protected void unindexRec( CFSecBuffSecGrpInc rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		removeFromDupIndex( dictByClusterIdx, newByClusterIdxKey( rec ), pkey );
+		removeFromDupIndex( dictByGroupIdx, newByGroupIdxKey( rec ), pkey );
+		removeFromDupIndex( dictByIncludeIdx, newByIncludeIdxKey( rec ), pkey );
+		dictByUIncludeIdx.remove( newByUIncludeIdxKey( rec ), rec );
+		dictByPKey.remove( pkey, rec );
+		inclusionClosure.removeInclusion( rec.getRequiredClusterId(), rec.getRequiredSecGroupId(), rec.getRequiredIncludeGroupId() );
+		for( CFSecBuffTableListener<ICFSecSecGrpInc> listener : listeners ) {
+			listener.recDeleted( rec );
+		}
+	}
+
+	protected void reindexRec( CFSecBuffSecGrpInc existing, CFSecBuffSecGrpInc rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffSecGrpIncByClusterIdxKey oldKey = newByClusterIdxKey( existing );
+			CFSecBuffSecGrpIncByClusterIdxKey newKey = newByClusterIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByClusterIdx, oldKey, pkey );
+			}
+			dictByClusterIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffSecGrpIncByGroupIdxKey oldKey = newByGroupIdxKey( existing );
+			CFSecBuffSecGrpIncByGroupIdxKey newKey = newByGroupIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByGroupIdx, oldKey, pkey );
+			}
+			dictByGroupIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffSecGrpIncByIncludeIdxKey oldKey = newByIncludeIdxKey( existing );
+			CFSecBuffSecGrpIncByIncludeIdxKey newKey = newByIncludeIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByIncludeIdx, oldKey, pkey );
+			}
+			dictByIncludeIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffSecGrpIncByUIncludeIdxKey oldKey = newByUIncludeIdxKey( existing );
+			CFSecBuffSecGrpIncByUIncludeIdxKey newKey = newByUIncludeIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByUIncludeIdx.remove( oldKey, existing );
+				inclusionClosure.removeInclusion( existing.getRequiredClusterId(), existing.getRequiredSecGroupId(), existing.getRequiredIncludeGroupId() );
+				inclusionClosure.addInclusion( rec.getRequiredClusterId(), rec.getRequiredSecGroupId(), rec.getRequiredIncludeGroupId() );
+			}
+			dictByUIncludeIdx.put( newKey, rec );
+		}
+		for( CFSecBuffTableListener<ICFSecSecGrpInc> listener : listeners ) {
+			listener.recUpdated( existing, rec );
+		}
+	}
+
+	protected static <K> void removeFromDupIndex( ConcurrentHashMap<K, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpInc>> dict, K key, CFLibDbKeyHash256 pkey ) {
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpInc> subdict = dict.get( key );
+		if( subdict != null ) {
+			subdict.remove( pkey );
+			if( subdict.isEmpty() ) {
+				dict.remove( key, subdict );
+			}
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffSecGrpInc rec, CFSecBuffSecGrpInc existing ) {
+		{
+			CFSecBuffSecGrpIncByUIncludeIdxKey key = newByUIncludeIdxKey( rec );
+			CFSecBuffSecGrpInc conflict = dictByUIncludeIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"SecGrpIncUIncludeIdx",
+					key );
+			}
+		}
+	}
+
+	protected void checkInclusionCycle( String methName, CFSecBuffSecGrpInc rec, CFSecBuffSecGrpInc existing ) {
+		CFLibDbKeyHash256 ignoreGroupId = null;
+		CFLibDbKeyHash256 ignoreIncludeGroupId = null;
+		if( existing != null ) {
+			if( newByUIncludeIdxKey( existing ).equals( newByUIncludeIdxKey( rec ) ) ) {
+				return;
+			}
+			if( Objects.equals( existing.getRequiredClusterId(), rec.getRequiredClusterId() ) ) {
+				ignoreGroupId = existing.getRequiredSecGroupId();
+				ignoreIncludeGroupId = existing.getRequiredIncludeGroupId();
+			}
+		}
+		if( inclusionClosure.wouldCreateCycle( rec.getRequiredClusterId(),
+			rec.getRequiredSecGroupId(),
+			rec.getRequiredIncludeGroupId(),
+			ignoreGroupId,
+			ignoreIncludeGroupId ) )
+		{
+			throw new CFLibInvalidArgumentException( getClass(),
+				methName,
+				"SecGrpInc would make group " + rec.getRequiredSecGroupId() + " include itself",
+				"SecGrpInc would make group " + rec.getRequiredSecGroupId() + " include itself" );
+		}
+	}
+
+	@Override
+	public ICFSecSecGrpInc createSecGrpInc( ICFSecAuthorization Authorization,
+		ICFSecSecGrpInc rec )
+	{
+		final String S_ProcName = "createSecGrpInc";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffSecGrpInc stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			checkInclusionCycle( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecSecGrpInc readDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		if( PKey == null ) {
+			return( null );
+		}
+		CFSecBuffSecGrpInc rec = dictByPKey.get( PKey );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecGrpInc lockDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecGrpInc[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecSecGrpInc readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecGrpIncId )
+	{
+		if( argSecGrpIncId == null ) {
+			return( null );
+		}
+		CFSecBuffSecGrpInc rec = dictByPKey.get( argSecGrpIncId );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecGrpInc[] readDerivedByClusterIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpInc> subdict = dictByClusterIdx.get( probeByClusterIdxKey( argClusterId ) );
+		if( subdict == null ) {
+			return( new ICFSecSecGrpInc[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the SecGrpInc instances for several ClusterIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argClusterIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecSecGrpInc[]> readDerivedByClusterIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argClusterIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecSecGrpInc[]> retMap = new HashMap<>( Math.max( 16, argClusterIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argClusterId : argClusterIds ) {
+			if( ( argClusterId == null ) || retMap.containsKey( argClusterId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpInc> subdict = dictByClusterIdx.get( probeByClusterIdxKey( argClusterId ) );
+			if( subdict == null ) {
+				retMap.put( argClusterId, new ICFSecSecGrpInc[0] );
+			}
+			else {
+				retMap.put( argClusterId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecSecGrpInc[] readDerivedByGroupIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecGroupId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpInc> subdict = dictByGroupIdx.get( probeByGroupIdxKey( argSecGroupId ) );
+		if( subdict == null ) {
+			return( new ICFSecSecGrpInc[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the SecGrpInc instances for several GroupIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argSecGroupIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecSecGrpInc[]> readDerivedByGroupIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argSecGroupIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecSecGrpInc[]> retMap = new HashMap<>( Math.max( 16, argSecGroupIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argSecGroupId : argSecGroupIds ) {
+			if( ( argSecGroupId == null ) || retMap.containsKey( argSecGroupId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpInc> subdict = dictByGroupIdx.get( probeByGroupIdxKey( argSecGroupId ) );
+			if( subdict == null ) {
+				retMap.put( argSecGroupId, new ICFSecSecGrpInc[0] );
+			}
+			else {
+				retMap.put( argSecGroupId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecSecGrpInc[] readDerivedByIncludeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argIncludeGroupId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpInc> subdict = dictByIncludeIdx.get( probeByIncludeIdxKey( argIncludeGroupId ) );
+		if( subdict == null ) {
+			return( new ICFSecSecGrpInc[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the SecGrpInc instances for several IncludeIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argIncludeGroupIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecSecGrpInc[]> readDerivedByIncludeIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argIncludeGroupIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecSecGrpInc[]> retMap = new HashMap<>( Math.max( 16, argIncludeGroupIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argIncludeGroupId : argIncludeGroupIds ) {
+			if( ( argIncludeGroupId == null ) || retMap.containsKey( argIncludeGroupId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpInc> subdict = dictByIncludeIdx.get( probeByIncludeIdxKey( argIncludeGroupId ) );
+			if( subdict == null ) {
+				retMap.put( argIncludeGroupId, new ICFSecSecGrpInc[0] );
+			}
+			else {
+				retMap.put( argIncludeGroupId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecSecGrpInc readDerivedByUIncludeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		CFLibDbKeyHash256 argSecGroupId,
+		CFLibDbKeyHash256 argIncludeGroupId )
+	{
+		CFSecBuffSecGrpInc rec = dictByUIncludeIdx.get( probeByUIncludeIdxKey( argClusterId, argSecGroupId, argIncludeGroupId ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecGrpInc readRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecGrpInc lockRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecGrpInc[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecSecGrpInc readRecByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecGrpIncId )
+	{
+		return( readDerivedByIdIdx( Authorization, argSecGrpIncId ) );
+	}
+
+	@Override
+	public ICFSecSecGrpInc[] readRecByClusterIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId )
+	{
+		return( readDerivedByClusterIdx( Authorization, argClusterId ) );
+	}
+
+	@Override
+	public ICFSecSecGrpInc[] readRecByGroupIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecGroupId )
+	{
+		return( readDerivedByGroupIdx( Authorization, argSecGroupId ) );
+	}
+
+	@Override
+	public ICFSecSecGrpInc[] readRecByIncludeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argIncludeGroupId )
+	{
+		return( readDerivedByIncludeIdx( Authorization, argIncludeGroupId ) );
+	}
+
+	@Override
+	public ICFSecSecGrpInc readRecByUIncludeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		CFLibDbKeyHash256 argSecGroupId,
+		CFLibDbKeyHash256 argIncludeGroupId )
+	{
+		return( readDerivedByUIncludeIdx( Authorization, argClusterId, argSecGroupId, argIncludeGroupId ) );
+	}
+
+	@Override
+	public ICFSecSecGrpInc updateSecGrpInc( ICFSecAuthorization Authorization,
+		ICFSecSecGrpInc rec )
+	{
+		final String S_ProcName = "updateSecGrpInc";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffSecGrpInc stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffSecGrpInc existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"SecGrpInc",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			checkInclusionCycle( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteSecGrpInc( ICFSecAuthorization Authorization,
+		ICFSecSecGrpInc rec )
+	{
+		final String S_ProcName = "deleteSecGrpInc";
+		if( rec == null ) {
+			return;
+		}
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffSecGrpInc existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffSecGrpInc existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored SecGrpInc under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffSecGrpInc> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffSecGrpInc> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffSecGrpInc rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a SecGrpInc exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffSecGrpInc rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffSecGrpInc stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			checkInclusionCycle( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteSecGrpIncByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecGrpIncId )
+	{
+		if( argSecGrpIncId == null ) {
+			return;
+		}
+		deleteStored( dictByPKey.get( argSecGrpIncId ) );
+	}
+
+	@Override
+	public void deleteSecGrpIncByClusterIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpInc> subdict = dictByClusterIdx.get( probeByClusterIdxKey( argClusterId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffSecGrpInc existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteSecGrpIncByClusterIdx( ICFSecAuthorization Authorization,
+		ICFSecSecGrpIncByClusterIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecGrpIncByClusterIdx( Authorization, argKey.getRequiredClusterId() );
+	}
+
+	@Override
+	public void deleteSecGrpIncByGroupIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecGroupId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpInc> subdict = dictByGroupIdx.get( probeByGroupIdxKey( argSecGroupId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffSecGrpInc existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteSecGrpIncByGroupIdx( ICFSecAuthorization Authorization,
+		ICFSecSecGrpIncByGroupIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecGrpIncByGroupIdx( Authorization, argKey.getRequiredSecGroupId() );
+	}
+
+	@Override
+	public void deleteSecGrpIncByIncludeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argIncludeGroupId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpInc> subdict = dictByIncludeIdx.get( probeByIncludeIdxKey( argIncludeGroupId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffSecGrpInc existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteSecGrpIncByIncludeIdx( ICFSecAuthorization Authorization,
+		ICFSecSecGrpIncByIncludeIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecGrpIncByIncludeIdx( Authorization, argKey.getRequiredIncludeGroupId() );
+	}
+
+	@Override
+	public void deleteSecGrpIncByUIncludeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		CFLibDbKeyHash256 argSecGroupId,
+		CFLibDbKeyHash256 argIncludeGroupId )
+	{
+		deleteStored( dictByUIncludeIdx.get( probeByUIncludeIdxKey( argClusterId, argSecGroupId, argIncludeGroupId ) ) );
+	}
+
+	@Override
+	public void deleteSecGrpIncByUIncludeIdx( ICFSecAuthorization Authorization,
+		ICFSecSecGrpIncByUIncludeIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecGrpIncByUIncludeIdx( Authorization, argKey.getRequiredClusterId(), argKey.getRequiredSecGroupId(), argKey.getRequiredIncludeGroupId() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
@@ -54,8 +54,10 @@ public class CFSecBuffSecGrpMembByClusterIdxKey
 	implements ICFSecSecGrpMembByClusterIdxKey, Comparable<Object>, Serializable
 {
 	protected CFLibDbKeyHash256 requiredClusterId;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecGrpMembByClusterIdxKey() {
-		requiredClusterId = CFLibDbKeyHash256.fromHex( ICFSecSecGrpMemb.CLUSTERID_INIT_VALUE.toString() );
+		requiredClusterId = ICFSecSecGrpMemb.CLUSTERID_INIT_VALUE;
 	}
 
 	@Override
@@ -72,6 +74,7 @@ public class CFSecBuffSecGrpMembByClusterIdxKey
 				"value" );
 		}
 		requiredClusterId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -124,9 +127,14 @@ public class CFSecBuffSecGrpMembByClusterIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredClusterId().hashCode();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredClusterId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
@@ -56,10 +56,12 @@ public class CFSecBuffSecGrpMembByUUserIdxKey
 	protected CFLibDbKeyHash256 requiredClusterId;
 	protected CFLibDbKeyHash256 requiredSecGroupId;
 	protected CFLibDbKeyHash256 requiredSecUserId;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecGrpMembByUUserIdxKey() {
-		requiredClusterId = CFLibDbKeyHash256.fromHex( ICFSecSecGrpMemb.CLUSTERID_INIT_VALUE.toString() );
-		requiredSecGroupId = CFLibDbKeyHash256.fromHex( ICFSecSecGrpMemb.SECGROUPID_INIT_VALUE.toString() );
-		requiredSecUserId = CFLibDbKeyHash256.fromHex( ICFSecSecGrpMemb.SECUSERID_INIT_VALUE.toString() );
+		requiredClusterId = ICFSecSecGrpMemb.CLUSTERID_INIT_VALUE;
+		requiredSecGroupId = ICFSecSecGrpMemb.SECGROUPID_INIT_VALUE;
+		requiredSecUserId = ICFSecSecGrpMemb.SECUSERID_INIT_VALUE;
 	}
 
 	@Override
@@ -76,6 +78,7 @@ public class CFSecBuffSecGrpMembByUUserIdxKey
 				"value" );
 		}
 		requiredClusterId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -92,6 +95,7 @@ public class CFSecBuffSecGrpMembByUUserIdxKey
 				"value" );
 		}
 		requiredSecGroupId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -108,6 +112,7 @@ public class CFSecBuffSecGrpMembByUUserIdxKey
 				"value" );
 		}
 		requiredSecUserId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -220,11 +225,16 @@ public class CFSecBuffSecGrpMembByUUserIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredClusterId().hashCode();
-		hashCode = hashCode + getRequiredSecGroupId().hashCode();
-		hashCode = hashCode + getRequiredSecUserId().hashCode();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredClusterId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredSecGroupId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredSecUserId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 3 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
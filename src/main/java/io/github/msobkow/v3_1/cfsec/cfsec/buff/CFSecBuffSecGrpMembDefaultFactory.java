@@ -54,13 +54,140 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffSecGrpMembDefaultFactory
 	implements ICFSecSecGrpMembFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffSecGrpMembByClusterIdxKey> probeByClusterIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecGrpMembByClusterIdxKey() );
+	protected static final ThreadLocal<CFSecBuffSecGrpMembByGroupIdxKey> probeByGroupIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecGrpMembByGroupIdxKey() );
+	protected static final ThreadLocal<CFSecBuffSecGrpMembByUserIdxKey> probeByUserIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecGrpMembByUserIdxKey() );
+	protected static final ThreadLocal<CFSecBuffSecGrpMembByUUserIdxKey> probeByUUserIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecGrpMembByUUserIdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders SecGrpMemb instances by primary key.
+	 */
+	public static final Comparator<ICFSecSecGrpMemb> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( lhs.getRequiredSecGrpMembId().compareTo( rhs.getRequiredSecGrpMembId() ) );
+	};
+
+	/**
+	 *	Orders SecGrpMemb history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecSecGrpMembHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredSecGrpMembId().compareTo( rhs.getRequiredSecGrpMembId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders SecGrpMemb instances by the ClusterIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecSecGrpMemb> COMPARE_BY_CLUSTERIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() ) );
+	};
+
+	/**
+	 *	Orders ClusterIdx keys.
+	 */
+	public static final Comparator<ICFSecSecGrpMembByClusterIdxKey> COMPARE_CLUSTERIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() ) );
+	};
+
+	/**
+	 *	Orders SecGrpMemb instances by the GroupIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecSecGrpMemb> COMPARE_BY_GROUPIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredSecGroupId().compareTo( rhs.getRequiredSecGroupId() ) );
+	};
+
+	/**
+	 *	Orders GroupIdx keys.
+	 */
+	public static final Comparator<ICFSecSecGrpMembByGroupIdxKey> COMPARE_GROUPIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredSecGroupId().compareTo( rhs.getRequiredSecGroupId() ) );
+	};
+
+	/**
+	 *	Orders SecGrpMemb instances by the UserIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecSecGrpMemb> COMPARE_BY_USERIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() ) );
+	};
+
+	/**
+	 *	Orders UserIdx keys.
+	 */
+	public static final Comparator<ICFSecSecGrpMembByUserIdxKey> COMPARE_USERIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() ) );
+	};
+
+	/**
+	 *	Orders SecGrpMemb instances by the UUserIdx columns.
+	 */
+	public static final Comparator<ICFSecSecGrpMemb> COMPARE_BY_UUSERIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		cmp = lhs.getRequiredSecGroupId().compareTo( rhs.getRequiredSecGroupId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() ) );
+	};
+
+	/**
+	 *	Orders UUserIdx keys.
+	 */
+	public static final Comparator<ICFSecSecGrpMembByUUserIdxKey> COMPARE_UUSERIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		cmp = lhs.getRequiredSecGroupId().compareTo( rhs.getRequiredSecGroupId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() ) );
+	};
+
 	public CFSecBuffSecGrpMembDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
 	@Override
 	public ICFSecSecGrpMembHPKey newHPKey() {
 		ICFSecSecGrpMembHPKey hpkey =
-			new CFSecBuffSecGrpMembHPKey();
+			new CFSecBuffSecGrpMembHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -72,7 +199,7 @@ public class CFSecBuffSecGrpMembDefaultFactory
 			return( (CFSecBuffSecGrpMembHPKey)key );
 		}
 		else {
-			CFSecBuffSecGrpMembHPKey mapped = new CFSecBuffSecGrpMembHPKey();
+			CFSecBuffSecGrpMembHPKey mapped = new CFSecBuffSecGrpMembHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -103,6 +230,10 @@ public class CFSecBuffSecGrpMembDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecGrpMembByClusterIdxKey getProbeByClusterIdxKey() {
+		return( probeByClusterIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecGrpMembByGroupIdxKey newByGroupIdxKey() {
 		ICFSecSecGrpMembByGroupIdxKey key =
@@ -124,6 +255,10 @@ public class CFSecBuffSecGrpMembDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecGrpMembByGroupIdxKey getProbeByGroupIdxKey() {
+		return( probeByGroupIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecGrpMembByUserIdxKey newByUserIdxKey() {
 		ICFSecSecGrpMembByUserIdxKey key =
@@ -145,6 +280,10 @@ public class CFSecBuffSecGrpMembDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecGrpMembByUserIdxKey getProbeByUserIdxKey() {
+		return( probeByUserIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecGrpMembByUUserIdxKey newByUUserIdxKey() {
 		ICFSecSecGrpMembByUUserIdxKey key =
@@ -168,10 +307,14 @@ public class CFSecBuffSecGrpMembDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecGrpMembByUUserIdxKey getProbeByUUserIdxKey() {
+		return( probeByUUserIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecGrpMemb newRec() {
 		ICFSecSecGrpMemb rec =
-			new CFSecBuffSecGrpMemb();
+			new CFSecBuffSecGrpMemb( recStamp );
 		return( rec );
 	}
 
@@ -183,16 +326,56 @@ public class CFSecBuffSecGrpMembDefaultFactory
 			return( (CFSecBuffSecGrpMemb)rec );
 		}
 		else {
-			CFSecBuffSecGrpMemb mapped = new CFSecBuffSecGrpMemb();
+			CFSecBuffSecGrpMemb mapped = new CFSecBuffSecGrpMemb( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffSecGrpMemb cloneRec( ICFSecSecGrpMemb rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffSecGrpMemb ) {
+			return( ( (CFSecBuffSecGrpMemb)rec ).clone() );
+		}
+		else {
+			CFSecBuffSecGrpMemb mapped = new CFSecBuffSecGrpMemb( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffSecGrpMemb[] cloneRecs( ICFSecSecGrpMemb[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffSecGrpMemb[] retList = new CFSecBuffSecGrpMemb[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecSecGrpMembH newHRec() {
 		ICFSecSecGrpMembH hrec =
-			new CFSecBuffSecGrpMembH();
+			new CFSecBuffSecGrpMembH( recStamp );
 		return( hrec );
 	}
 
@@ -204,9 +387,49 @@ public class CFSecBuffSecGrpMembDefaultFactory
 			return( (CFSecBuffSecGrpMembH)hrec );
 		}
 		else {
-			CFSecBuffSecGrpMembH mapped = new CFSecBuffSecGrpMembH();
+			CFSecBuffSecGrpMembH mapped = new CFSecBuffSecGrpMembH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffSecGrpMembH cloneHRec( ICFSecSecGrpMembH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffSecGrpMembH ) {
+			return( ( (CFSecBuffSecGrpMembH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffSecGrpMembH mapped = new CFSecBuffSecGrpMembH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffSecGrpMembH[] cloneHRecs( ICFSecSecGrpMembH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffSecGrpMembH[] retList = new CFSecBuffSecGrpMembH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
@@ -0,0 +1,851 @@
+// Description: Java 25 in-memory concurrent implementation of a SecGrpMemb table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffSecGrpMembTable in-memory implementation of ICFSecSecGrpMembTable for SecGrpMemb.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ */
+public class CFSecBuffSecGrpMembTable
+	implements ICFSecSecGrpMembTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpMemb> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecGrpMembByClusterIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpMemb>> dictByClusterIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecGrpMembByGroupIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpMemb>> dictByGroupIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecGrpMembByUserIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpMemb>> dictByUserIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecGrpMembByUUserIdxKey, CFSecBuffSecGrpMemb> dictByUUserIdx
+		= new ConcurrentHashMap<>();
+	protected final CopyOnWriteArrayList<CFSecBuffTableListener<ICFSecSecGrpMemb>> listeners
+		= new CopyOnWriteArrayList<>();
+
+	public CFSecBuffSecGrpMembTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Register a listener for creates, updates and deletes of SecGrpMemb.
+	 *
+	 *	@param	listener	The listener to add.
+	 */
+	public void addListener( CFSecBuffTableListener<ICFSecSecGrpMemb> listener ) {
+		if( listener == null ) {
+			throw new CFLibNullArgumentException( getClass(), "addListener", 1, "listener" );
+		}
+		listeners.addIfAbsent( listener );
+	}
+
+	/**
+	 *	Register a listener, optionally replaying every stored record to it as a
+	 *	create first.  The replay runs under the write lock, so the listener sees
+	 *	each record exactly once, either in the replay or as a later change.
+	 *
+	 *	@param	listener	The listener to add.
+	 *	@param	replayExisting	True to replay the stored records.
+	 */
+	public void addListener( CFSecBuffTableListener<ICFSecSecGrpMemb> listener, boolean replayExisting ) {
+		if( listener == null ) {
+			throw new CFLibNullArgumentException( getClass(), "addListener", 1, "listener" );
+		}
+		writeLock.lock();
+		try {
+			if( listeners.addIfAbsent( listener ) && replayExisting ) {
+				for( CFSecBuffSecGrpMemb cur : dictByPKey.values() ) {
+					listener.recCreated( cur );
+				}
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Unregister a listener.  Removing a listener that is not registered is ignored.
+	 *
+	 *	@param	listener	The listener to remove.
+	 */
+	public void removeListener( CFSecBuffTableListener<ICFSecSecGrpMemb> listener ) {
+		listeners.remove( listener );
+	}
+
+	/**
+	 *	Get the ids of the groups of a cluster that a user is a direct member of,
+	 *	without copying any records.
+	 *
+	 *	@param	argClusterId	The owning cluster.
+	 *	@param	argSecUserId	The member user.
+	 *
+	 *	@return	A new set of group ids, never null.
+	 */
+	public Set<CFLibDbKeyHash256> getDirectSecGroupIds( CFLibDbKeyHash256 argClusterId,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		HashSet<CFLibDbKeyHash256> retSet = new HashSet<>();
+		if( ( argClusterId == null ) || ( argSecUserId == null ) ) {
+			return( retSet );
+		}
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpMemb> subdict = dictByUserIdx.get( probeByUserIdxKey( argSecUserId ) );
+		if( subdict != null ) {
+			for( CFSecBuffSecGrpMemb cur : subdict.values() ) {
+				if( argClusterId.equals( cur.getRequiredClusterId() ) ) {
+					retSet.add( cur.getRequiredSecGroupId() );
+				}
+			}
+		}
+		return( retSet );
+	}
+
+	/**
+	 *	Copy the attributes of a SecGrpMemb by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffSecGrpMemb holding the same attribute values.
+	 */
+	protected CFSecBuffSecGrpMemb copyRec( ICFSecSecGrpMemb src ) {
+		if( src instanceof CFSecBuffSecGrpMemb ) {
+			return( ( (CFSecBuffSecGrpMemb)src ).clone() );
+		}
+		CFSecBuffSecGrpMemb rec = new CFSecBuffSecGrpMemb( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredSecGrpMembId( src.getRequiredSecGrpMembId() );
+		rec.setRequiredOwnerCluster( src.getRequiredClusterId() );
+		rec.setRequiredContainerGroup( src.getRequiredSecGroupId() );
+		rec.setRequiredParentUser( src.getRequiredSecUserId() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecSecGrpMemb[] copyRecs( Collection<CFSecBuffSecGrpMemb> src ) {
+		ICFSecSecGrpMemb[] retList = new ICFSecSecGrpMemb[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffSecGrpMemb cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected CFLibDbKeyHash256 pkeyOf( ICFSecSecGrpMemb rec ) {
+		return( rec.getRequiredSecGrpMembId() );
+	}
+
+	protected CFSecBuffSecGrpMembByClusterIdxKey newByClusterIdxKey( CFLibDbKeyHash256 argClusterId ) {
+		CFSecBuffSecGrpMembByClusterIdxKey key = new CFSecBuffSecGrpMembByClusterIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		return( key );
+	}
+
+	protected CFSecBuffSecGrpMembByClusterIdxKey newByClusterIdxKey( ICFSecSecGrpMemb rec ) {
+		return( newByClusterIdxKey( rec.getRequiredClusterId() ) );
+	}
+
+	protected CFSecBuffSecGrpMembByClusterIdxKey probeByClusterIdxKey( CFLibDbKeyHash256 argClusterId ) {
+		CFSecBuffSecGrpMembByClusterIdxKey key = CFSecBuffSecGrpMembDefaultFactory.getProbeByClusterIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		return( key );
+	}
+
+	protected CFSecBuffSecGrpMembByGroupIdxKey newByGroupIdxKey( CFLibDbKeyHash256 argSecGroupId ) {
+		CFSecBuffSecGrpMembByGroupIdxKey key = new CFSecBuffSecGrpMembByGroupIdxKey();
+		key.setRequiredSecGroupId( argSecGroupId );
+		return( key );
+	}
+
+	protected CFSecBuffSecGrpMembByGroupIdxKey newByGroupIdxKey( ICFSecSecGrpMemb rec ) {
+		return( newByGroupIdxKey( rec.getRequiredSecGroupId() ) );
+	}
+
+	protected CFSecBuffSecGrpMembByGroupIdxKey probeByGroupIdxKey( CFLibDbKeyHash256 argSecGroupId ) {
+		CFSecBuffSecGrpMembByGroupIdxKey key = CFSecBuffSecGrpMembDefaultFactory.getProbeByGroupIdxKey();
+		key.setRequiredSecGroupId( argSecGroupId );
+		return( key );
+	}
+
+	protected CFSecBuffSecGrpMembByUserIdxKey newByUserIdxKey( CFLibDbKeyHash256 argSecUserId ) {
+		CFSecBuffSecGrpMembByUserIdxKey key = new CFSecBuffSecGrpMembByUserIdxKey();
+		key.setRequiredSecUserId( argSecUserId );
+		return( key );
+	}
+
+	protected CFSecBuffSecGrpMembByUserIdxKey newByUserIdxKey( ICFSecSecGrpMemb rec ) {
+		return( newByUserIdxKey( rec.getRequiredSecUserId() ) );
+	}
+
+	protected CFSecBuffSecGrpMembByUserIdxKey probeByUserIdxKey( CFLibDbKeyHash256 argSecUserId ) {
+		CFSecBuffSecGrpMembByUserIdxKey key = CFSecBuffSecGrpMembDefaultFactory.getProbeByUserIdxKey();
+		key.setRequiredSecUserId( argSecUserId );
+		return( key );
+	}
+
+	protected CFSecBuffSecGrpMembByUUserIdxKey newByUUserIdxKey( CFLibDbKeyHash256 argClusterId, CFLibDbKeyHash256 argSecGroupId, CFLibDbKeyHash256 argSecUserId ) {
+		CFSecBuffSecGrpMembByUUserIdxKey key = new CFSecBuffSecGrpMembByUUserIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		key.setRequiredSecGroupId( argSecGroupId );
+		key.setRequiredSecUserId( argSecUserId );
+		return( key );
+	}
+
+	protected CFSecBuffSecGrpMembByUUserIdxKey newByUUserIdxKey( ICFSecSecGrpMemb rec ) {
+		return( newByUUserIdxKey( rec.getRequiredClusterId(), rec.getRequiredSecGroupId(), rec.getRequiredSecUserId() ) );
+	}
+
+	protected CFSecBuffSecGrpMembByUUserIdxKey probeByUUserIdxKey( CFLibDbKeyHash256 argClusterId, CFLibDbKeyHash256 argSecGroupId, CFLibDbKeyHash256 argSecUserId ) {
+		CFSecBuffSecGrpMembByUUserIdxKey key = CFSecBuffSecGrpMembDefaultFactory.getProbeByUUserIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		key.setRequiredSecGroupId( argSecGroupId );
+		key.setRequiredSecUserId( argSecUserId );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffSecGrpMemb rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByClusterIdx.computeIfAbsent( newByClusterIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByGroupIdx.computeIfAbsent( newByGroupIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByUserIdx.computeIfAbsent( newByUserIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByUUserIdx.put( newByUUserIdxKey( rec ), rec );
+		for( CFSecBuffTableListener<ICFSecSecGrpMemb> listener : listeners ) {
+			listener.recCreated( rec );
+		}
+	}
+
+	protected void unindexRec( CFSecBuffSecGrpMemb rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		removeFromDupIndex( dictByClusterIdx, newByClusterIdxKey( rec ), pkey );
+		removeFromDupIndex( dictByGroupIdx, newByGroupIdxKey( rec ), pkey );
+		removeFromDupIndex( dictByUserIdx, newByUserIdxKey( rec ), pkey );
+		dictByUUserIdx.remove( newByUUserIdxKey( rec ), rec );
+		dictByPKey.remove( pkey, rec );
+		for( CFSecBuffTableListener<ICFSecSecGrpMemb> listener : listeners ) {
+			listener.recDeleted( rec );
+		}
+	}
+
+	protected void reindexRec( CFSecBuffSecGrpMemb existing, CFSecBuffSecGrpMemb rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffSecGrpMembByClusterIdxKey oldKey = newByClusterIdxKey( existing );
+			CFSecBuffSecGrpMembByClusterIdxKey newKey = newByClusterIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByClusterIdx, oldKey, pkey );
+			}
+			dictByClusterIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffSecGrpMembByGroupIdxKey oldKey = newByGroupIdxKey( existing );
+			CFSecBuffSecGrpMembByGroupIdxKey newKey = newByGroupIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByGroupIdx, oldKey, pkey );
+			}
+			dictByGroupIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffSecGrpMembByUserIdxKey oldKey = newByUserIdxKey( existing );
+			CFSecBuffSecGrpMembByUserIdxKey newKey = newByUserIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByUserIdx, oldKey, pkey );
+			}
+			dictByUserIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffSecGrpMembByUUserIdxKey oldKey = newByUUserIdxKey( existing );
+			CFSecBuffSecGrpMembByUUserIdxKey newKey = newByUUserIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByUUserIdx.remove( oldKey, existing );
+			}
+			dictByUUserIdx.put( newKey, rec );
+		}
+		for( CFSecBuffTableListener<ICFSecSecGrpMemb> listener : listeners ) {
+			listener.recUpdated( existing, rec );
+		}
+	}
+
+	protected static <K> void removeFromDupIndex( ConcurrentHashMap<K, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpMemb>> dict, K key, CFLibDbKeyHash256 pkey ) {
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpMemb> subdict = dict.get( key );
+		if( subdict != null ) {
+			subdict.remove( pkey );
+			if( subdict.isEmpty() ) {
+				dict.remove( key, subdict );
+			}
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffSecGrpMemb rec, CFSecBuffSecGrpMemb existing ) {
+		{
+			CFSecBuffSecGrpMembByUUserIdxKey key = newByUUserIdxKey( rec );
+			CFSecBuffSecGrpMemb conflict = dictByUUserIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"SecGrpMembUUserIdx",
+					key );
+			}
+		}
+	}
+
+	@Override
+	public ICFSecSecGrpMemb createSecGrpMemb( ICFSecAuthorization Authorization,
+		ICFSecSecGrpMemb rec )
+	{
+		final String S_ProcName = "createSecGrpMemb";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffSecGrpMemb stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecSecGrpMemb readDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		if( PKey == null ) {
+			return( null );
+		}
+		CFSecBuffSecGrpMemb rec = dictByPKey.get( PKey );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecGrpMemb lockDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecGrpMemb[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecSecGrpMemb readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecGrpMembId )
+	{
+		if( argSecGrpMembId == null ) {
+			return( null );
+		}
+		CFSecBuffSecGrpMemb rec = dictByPKey.get( argSecGrpMembId );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecGrpMemb[] readDerivedByClusterIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpMemb> subdict = dictByClusterIdx.get( probeByClusterIdxKey( argClusterId ) );
+		if( subdict == null ) {
+			return( new ICFSecSecGrpMemb[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the SecGrpMemb instances for several ClusterIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argClusterIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecSecGrpMemb[]> readDerivedByClusterIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argClusterIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecSecGrpMemb[]> retMap = new HashMap<>( Math.max( 16, argClusterIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argClusterId : argClusterIds ) {
+			if( ( argClusterId == null ) || retMap.containsKey( argClusterId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpMemb> subdict = dictByClusterIdx.get( probeByClusterIdxKey( argClusterId ) );
+			if( subdict == null ) {
+				retMap.put( argClusterId, new ICFSecSecGrpMemb[0] );
+			}
+			else {
+				retMap.put( argClusterId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecSecGrpMemb[] readDerivedByGroupIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecGroupId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpMemb> subdict = dictByGroupIdx.get( probeByGroupIdxKey( argSecGroupId ) );
+		if( subdict == null ) {
+			return( new ICFSecSecGrpMemb[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the SecGrpMemb instances for several GroupIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argSecGroupIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecSecGrpMemb[]> readDerivedByGroupIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argSecGroupIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecSecGrpMemb[]> retMap = new HashMap<>( Math.max( 16, argSecGroupIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argSecGroupId : argSecGroupIds ) {
+			if( ( argSecGroupId == null ) || retMap.containsKey( argSecGroupId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpMemb> subdict = dictByGroupIdx.get( probeByGroupIdxKey( argSecGroupId ) );
+			if( subdict == null ) {
+				retMap.put( argSecGroupId, new ICFSecSecGrpMemb[0] );
+			}
+			else {
+				retMap.put( argSecGroupId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecSecGrpMemb[] readDerivedByUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpMemb> subdict = dictByUserIdx.get( probeByUserIdxKey( argSecUserId ) );
+		if( subdict == null ) {
+			return( new ICFSecSecGrpMemb[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the SecGrpMemb instances for several UserIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argSecUserIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecSecGrpMemb[]> readDerivedByUserIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argSecUserIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecSecGrpMemb[]> retMap = new HashMap<>( Math.max( 16, argSecUserIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argSecUserId : argSecUserIds ) {
+			if( ( argSecUserId == null ) || retMap.containsKey( argSecUserId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpMemb> subdict = dictByUserIdx.get( probeByUserIdxKey( argSecUserId ) );
+			if( subdict == null ) {
+				retMap.put( argSecUserId, new ICFSecSecGrpMemb[0] );
+			}
+			else {
+				retMap.put( argSecUserId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecSecGrpMemb readDerivedByUUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		CFLibDbKeyHash256 argSecGroupId,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		CFSecBuffSecGrpMemb rec = dictByUUserIdx.get( probeByUUserIdxKey( argClusterId, argSecGroupId, argSecUserId ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecGrpMemb readRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecGrpMemb lockRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecGrpMemb[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecSecGrpMemb readRecByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecGrpMembId )
+	{
+		return( readDerivedByIdIdx( Authorization, argSecGrpMembId ) );
+	}
+
+	@Override
+	public ICFSecSecGrpMemb[] readRecByClusterIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId )
+	{
+		return( readDerivedByClusterIdx( Authorization, argClusterId ) );
+	}
+
+	@Override
+	public ICFSecSecGrpMemb[] readRecByGroupIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecGroupId )
+	{
+		return( readDerivedByGroupIdx( Authorization, argSecGroupId ) );
+	}
+
+	@Override
+	public ICFSecSecGrpMemb[] readRecByUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		return( readDerivedByUserIdx( Authorization, argSecUserId ) );
+	}
+
+	@Override
+	public ICFSecSecGrpMemb readRecByUUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		CFLibDbKeyHash256 argSecGroupId,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		return( readDerivedByUUserIdx( Authorization, argClusterId, argSecGroupId, argSecUserId ) );
+	}
+
+	@Override
+	public ICFSecSecGrpMemb updateSecGrpMemb( ICFSecAuthorization Authorization,
+		ICFSecSecGrpMemb rec )
+	{
+		final String S_ProcName = "updateSecGrpMemb";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffSecGrpMemb stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffSecGrpMemb existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"SecGrpMemb",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteSecGrpMemb( ICFSecAuthorization Authorization,
+		ICFSecSecGrpMemb rec )
+	{
+		final String S_ProcName = "deleteSecGrpMemb";
+		if( rec == null ) {
+			return;
+		}
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffSecGrpMemb existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffSecGrpMemb existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored SecGrpMemb under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffSecGrpMemb> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffSecGrpMemb> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffSecGrpMemb rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a SecGrpMemb exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffSecGrpMemb rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffSecGrpMemb stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteSecGrpMembByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecGrpMembId )
+	{
+		if( argSecGrpMembId == null ) {
+			return;
+		}
+		deleteStored( dictByPKey.get( argSecGrpMembId ) );
+	}
+
+	@Override
+	public void deleteSecGrpMembByClusterIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpMemb> subdict = dictByClusterIdx.get( probeByClusterIdxKey( argClusterId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffSecGrpMemb existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteSecGrpMembByClusterIdx( ICFSecAuthorization Authorization,
+		ICFSecSecGrpMembByClusterIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecGrpMembByClusterIdx( Authorization, argKey.getRequiredClusterId() );
+	}
+
+	@Override
+	public void deleteSecGrpMembByGroupIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecGroupId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpMemb> subdict = dictByGroupIdx.get( probeByGroupIdxKey( argSecGroupId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffSecGrpMemb existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteSecGrpMembByGroupIdx( ICFSecAuthorization Authorization,
+		ICFSecSecGrpMembByGroupIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecGrpMembByGroupIdx( Authorization, argKey.getRequiredSecGroupId() );
+	}
+
+	@Override
+	public void deleteSecGrpMembByUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecGrpMemb> subdict = dictByUserIdx.get( probeByUserIdxKey( argSecUserId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffSecGrpMemb existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteSecGrpMembByUserIdx( ICFSecAuthorization Authorization,
+		ICFSecSecGrpMembByUserIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecGrpMembByUserIdx( Authorization, argKey.getRequiredSecUserId() );
+	}
+
+	@Override
+	public void deleteSecGrpMembByUUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		CFLibDbKeyHash256 argSecGroupId,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		deleteStored( dictByUUserIdx.get( probeByUUserIdxKey( argClusterId, argSecGroupId, argSecUserId ) ) );
+	}
+
+	@Override
+	public void deleteSecGrpMembByUUserIdx( ICFSecAuthorization Authorization,
+		ICFSecSecGrpMembByUUserIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecGrpMembByUUserIdx( Authorization, argKey.getRequiredClusterId(), argKey.getRequiredSecGroupId(), argKey.getRequiredSecUserId() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
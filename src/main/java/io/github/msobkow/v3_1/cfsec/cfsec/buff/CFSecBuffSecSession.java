@@ -51,7 +51,7 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffSecSession
-	implements ICFSecSecSession, Comparable<Object>, Serializable
+	implements ICFSecSecSession, Comparable<Object>, Serializable, Cloneable
 {
 	protected CFLibDbKeyHash256 requiredSecSessionId;
 	protected int requiredRevision;
@@ -61,15 +61,66 @@ public class CFSecBuffSecSession
 	protected LocalDateTime optionalFinish;
 	protected CFLibDbKeyHash256 optionalSecProxyId;
 
+	protected static final LocalDateTime REQUIREDSTART_INIT_VALUE = CFLibXmlUtil.parseTimestamp("2020-01-01T00:00:00");
+
+	protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffNavigationCache navigationCache = null;
+
+	protected static final int NAV_REQUIREDCONTAINERSECUSER = 0;
+	protected static final int NAV_REQUIREDPARENTSECPROXY = 1;
+	protected static final int NAV_SLOT_COUNT = 2;
+
 	public CFSecBuffSecSession() {
-		requiredSecSessionId = CFLibDbKeyHash256.fromHex( ICFSecSecSession.SECSESSIONID_INIT_VALUE.toString() );
-		requiredSecUserId = CFLibDbKeyHash256.fromHex( ICFSecSecSession.SECUSERID_INIT_VALUE.toString() );
+		requiredSecSessionId = ICFSecSecSession.SECSESSIONID_INIT_VALUE;
+		requiredSecUserId = ICFSecSecSession.SECUSERID_INIT_VALUE;
 		optionalSecDevName = null;
-		requiredStart = CFLibXmlUtil.parseTimestamp("2020-01-01T00:00:00");
+		requiredStart = REQUIREDSTART_INIT_VALUE;
 		optionalFinish = null;
 		optionalSecProxyId = CFLibDbKeyHash256.nullGet();
 	}
 
+	/**
+	 *	Enable or disable caching of the relationship navigation getters of this
+	 *	instance.  While enabled, each navigation result is reused until the table
+	 *	it was read from reports a modification, or until an attribute of this
+	 *	instance is changed.  Tables that do not publish a modification count are
+	 *	always read.  Cached objects are shared between calls, so callers must treat
+	 *	them as read-only.
+	 *
+	 *	@param	value	true to cache navigation results, false to discard the cache.
+	 */
+	public void setNavigationCacheEnabled( boolean value ) {
+		if( value ) {
+			if( navigationCache == null ) {
+				navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+			}
+		}
+		else {
+			navigationCache = null;
+		}
+	}
+
+	public boolean isNavigationCacheEnabled() {
+		return( navigationCache != null );
+	}
+
+	protected long getNavigationStamp( Object targetTable ) {
+		if( navigationCache == null ) {
+			return( 0L );
+		}
+		return( CFSecBuffNavigationCache.stampOf( targetTable ) );
+	}
+
+	protected void primeNavigation( int slot, long navStamp, Object value ) {
+		if( navStamp == 0L ) {
+			return;
+		}
+		if( navigationCache == null ) {
+			navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+		}
+		navigationCache.put( slot, navStamp, value );
+	}
+
 	@Override
 	public CFLibDbKeyHash256 getPKey() {
 		return getRequiredSecSessionId();
@@ -96,6 +147,8 @@ public class CFSecBuffSecSession
 				"value" );
 		}
 		requiredSecSessionId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -106,6 +159,8 @@ public class CFSecBuffSecSession
 	@Override
 	public void setRequiredRevision( int value ) {
 		requiredRevision = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -123,7 +178,17 @@ public class CFSecBuffSecSession
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setRequiredContainerSecUser", 0, "ICFSecSchema.getBackingCFSec().getTableSecUser()");
 		}
-		ICFSecSecUser targetRec = targetTable.readDerived(null, getRequiredSecUserId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecSecUser targetRec;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_REQUIREDCONTAINERSECUSER, navStamp ) ) {
+			targetRec = (ICFSecSecUser)navigationCache.getValue( NAV_REQUIREDCONTAINERSECUSER );
+		}
+		else {
+			targetRec = targetTable.readDerived(null, getRequiredSecUserId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_REQUIREDCONTAINERSECUSER, navStamp, targetRec );
+			}
+		}
 		return(targetRec);
 	}
 	@Override
@@ -134,11 +199,15 @@ public class CFSecBuffSecSession
 		else {
 			requiredSecUserId = argObj.getRequiredSecUserId();
 		}
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public void setRequiredContainerSecUser(CFLibDbKeyHash256 argSecUserId) {
 		requiredSecUserId = argSecUserId;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -151,7 +220,17 @@ public class CFSecBuffSecSession
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setRequiredParentSecProxy", 0, "ICFSecSchema.getBackingCFSec().getTableSecUser()");
 		}
-		ICFSecSecUser targetRec = targetTable.readDerived(null, getOptionalSecProxyId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecSecUser targetRec;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_REQUIREDPARENTSECPROXY, navStamp ) ) {
+			targetRec = (ICFSecSecUser)navigationCache.getValue( NAV_REQUIREDPARENTSECPROXY );
+		}
+		else {
+			targetRec = targetTable.readDerived(null, getOptionalSecProxyId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_REQUIREDPARENTSECPROXY, navStamp, targetRec );
+			}
+		}
 		return(targetRec);
 	}
 	@Override
@@ -162,11 +241,15 @@ public class CFSecBuffSecSession
 		else {
 			optionalSecProxyId = argObj.getRequiredSecUserId();
 		}
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public void setRequiredParentSecProxy(CFLibDbKeyHash256 argSecProxyId) {
 		optionalSecProxyId = argSecProxyId;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -190,6 +273,8 @@ public class CFSecBuffSecSession
 				127 );
 		}
 		optionalSecDevName = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -206,6 +291,8 @@ public class CFSecBuffSecSession
 				"value" );
 		}
 		requiredStart = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -216,6 +303,8 @@ public class CFSecBuffSecSession
 	@Override
 	public void setOptionalFinish( LocalDateTime value ) {
 		optionalFinish = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -470,22 +559,19 @@ public class CFSecBuffSecSession
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredSecSessionId().hashCode();
-		hashCode = hashCode + getRequiredSecUserId().hashCode();
-		if( getOptionalSecDevName() != null ) {
-			hashCode = hashCode + getOptionalSecDevName().hashCode();
-		}
-		if( getRequiredStart() != null ) {
-			hashCode = hashCode + getRequiredStart().hashCode();
-		}
-		if( getOptionalFinish() != null ) {
-			hashCode = hashCode + getOptionalFinish().hashCode();
-		}
-		if( getOptionalSecProxyId() != null ) {
-			hashCode = hashCode + getOptionalSecProxyId().hashCode();
-		}
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredSecSessionId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredSecUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getOptionalSecDevName() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredStart() );
+			hashCode = CFSecBuffHash.mix( hashCode, getOptionalFinish() );
+			hashCode = CFSecBuffHash.mix( hashCode, getOptionalSecProxyId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 6 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
@@ -736,6 +822,25 @@ public class CFSecBuffSecSession
 		}
 	}
 
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+	public CFSecBuffSecSession clone() {
+		CFSecBuffSecSession copy;
+		try {
+			copy = (CFSecBuffSecSession)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.navigationCache = null;
+		return( copy );
+	}
+
 	@Override
 	public void set( ICFSecSecSession src ) {
 		setSecSession( src );
@@ -745,8 +850,8 @@ public class CFSecBuffSecSession
 	public void setSecSession( ICFSecSecSession src ) {
 		setRequiredSecSessionId(src.getRequiredSecSessionId());
 		setRequiredRevision( src.getRequiredRevision() );
-		setRequiredContainerSecUser(src.getRequiredContainerSecUser());
-		setRequiredParentSecProxy(src.getRequiredParentSecProxy());
+		setRequiredContainerSecUser(src.getRequiredSecUserId());
+		setRequiredParentSecProxy(src.getOptionalSecProxyId());
 		setOptionalSecDevName(src.getOptionalSecDevName());
 		setRequiredStart(src.getRequiredStart());
 		setOptionalFinish(src.getOptionalFinish());
@@ -55,8 +55,10 @@ public class CFSecBuffSecSessionByFinishIdxKey
 {
 	protected CFLibDbKeyHash256 requiredSecUserId;
 	protected LocalDateTime optionalFinish;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecSessionByFinishIdxKey() {
-		requiredSecUserId = CFLibDbKeyHash256.fromHex( ICFSecSecSession.SECUSERID_INIT_VALUE.toString() );
+		requiredSecUserId = ICFSecSecSession.SECUSERID_INIT_VALUE;
 		optionalFinish = null;
 	}
 
@@ -74,6 +76,7 @@ public class CFSecBuffSecSessionByFinishIdxKey
 				"value" );
 		}
 		requiredSecUserId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -84,6 +87,7 @@ public class CFSecBuffSecSessionByFinishIdxKey
 	@Override
 	public void setOptionalFinish( LocalDateTime value ) {
 		optionalFinish = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -166,12 +170,15 @@ public class CFSecBuffSecSessionByFinishIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredSecUserId().hashCode();
-		if( getOptionalFinish() != null ) {
-			hashCode = hashCode + getOptionalFinish().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredSecUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getOptionalFinish() );
+			hashCode = CFSecBuffHash.finish( hashCode, 2 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
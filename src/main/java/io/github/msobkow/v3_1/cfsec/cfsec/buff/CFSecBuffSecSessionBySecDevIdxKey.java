@@ -55,8 +55,10 @@ public class CFSecBuffSecSessionBySecDevIdxKey
 {
 	protected CFLibDbKeyHash256 requiredSecUserId;
 	protected String optionalSecDevName;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecSessionBySecDevIdxKey() {
-		requiredSecUserId = CFLibDbKeyHash256.fromHex( ICFSecSecSession.SECUSERID_INIT_VALUE.toString() );
+		requiredSecUserId = ICFSecSecSession.SECUSERID_INIT_VALUE;
 		optionalSecDevName = null;
 	}
 
@@ -74,6 +76,7 @@ public class CFSecBuffSecSessionBySecDevIdxKey
 				"value" );
 		}
 		requiredSecUserId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -92,6 +95,7 @@ public class CFSecBuffSecSessionBySecDevIdxKey
 				127 );
 		}
 		optionalSecDevName = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -174,12 +178,15 @@ public class CFSecBuffSecSessionBySecDevIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredSecUserId().hashCode();
-		if( getOptionalSecDevName() != null ) {
-			hashCode = hashCode + getOptionalSecDevName().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredSecUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getOptionalSecDevName() );
+			hashCode = CFSecBuffHash.finish( hashCode, 2 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
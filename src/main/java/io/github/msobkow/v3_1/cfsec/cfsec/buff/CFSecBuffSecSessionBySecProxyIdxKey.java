@@ -54,6 +54,8 @@ public class CFSecBuffSecSessionBySecProxyIdxKey
 	implements ICFSecSecSessionBySecProxyIdxKey, Comparable<Object>, Serializable
 {
 	protected CFLibDbKeyHash256 optionalSecProxyId;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecSessionBySecProxyIdxKey() {
 		optionalSecProxyId = CFLibDbKeyHash256.nullGet();
 	}
@@ -66,6 +68,7 @@ public class CFSecBuffSecSessionBySecProxyIdxKey
 	@Override
 	public void setOptionalSecProxyId( CFLibDbKeyHash256 value ) {
 		optionalSecProxyId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -118,11 +121,14 @@ public class CFSecBuffSecSessionBySecProxyIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		if( getOptionalSecProxyId() != null ) {
-			hashCode = hashCode + getOptionalSecProxyId().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getOptionalSecProxyId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
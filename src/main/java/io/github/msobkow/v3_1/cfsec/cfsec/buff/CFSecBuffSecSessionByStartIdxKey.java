@@ -55,9 +55,14 @@ public class CFSecBuffSecSessionByStartIdxKey
 {
 	protected CFLibDbKeyHash256 requiredSecUserId;
 	protected LocalDateTime requiredStart;
+
+	protected static final LocalDateTime REQUIREDSTART_INIT_VALUE = CFLibXmlUtil.parseTimestamp("2020-01-01T00:00:00");
+
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecSessionByStartIdxKey() {
-		requiredSecUserId = CFLibDbKeyHash256.fromHex( ICFSecSecSession.SECUSERID_INIT_VALUE.toString() );
-		requiredStart = CFLibXmlUtil.parseTimestamp("2020-01-01T00:00:00");
+		requiredSecUserId = ICFSecSecSession.SECUSERID_INIT_VALUE;
+		requiredStart = REQUIREDSTART_INIT_VALUE;
 	}
 
 	@Override
@@ -74,6 +79,7 @@ public class CFSecBuffSecSessionByStartIdxKey
 				"value" );
 		}
 		requiredSecUserId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -90,6 +96,7 @@ public class CFSecBuffSecSessionByStartIdxKey
 				"value" );
 		}
 		requiredStart = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -172,12 +179,15 @@ public class CFSecBuffSecSessionByStartIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredSecUserId().hashCode();
-		if( getRequiredStart() != null ) {
-			hashCode = hashCode + getRequiredStart().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredSecUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredStart() );
+			hashCode = CFSecBuffHash.finish( hashCode, 2 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
@@ -54,6 +54,212 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffSecSessionDefaultFactory
 	implements ICFSecSecSessionFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffSecSessionBySecUserIdxKey> probeBySecUserIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecSessionBySecUserIdxKey() );
+	protected static final ThreadLocal<CFSecBuffSecSessionBySecDevIdxKey> probeBySecDevIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecSessionBySecDevIdxKey() );
+	protected static final ThreadLocal<CFSecBuffSecSessionByStartIdxKey> probeByStartIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecSessionByStartIdxKey() );
+	protected static final ThreadLocal<CFSecBuffSecSessionByFinishIdxKey> probeByFinishIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecSessionByFinishIdxKey() );
+	protected static final ThreadLocal<CFSecBuffSecSessionBySecProxyIdxKey> probeBySecProxyIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecSessionBySecProxyIdxKey() );
+
+	/**
+	 *	Orders SecSession instances by primary key.
+	 */
+	public static final Comparator<ICFSecSecSession> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( lhs.getRequiredSecSessionId().compareTo( rhs.getRequiredSecSessionId() ) );
+	};
+
+	/**
+	 *	Orders SecSession instances by the SecUserIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecSecSession> COMPARE_BY_SECUSERIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() ) );
+	};
+
+	/**
+	 *	Orders SecUserIdx keys.
+	 */
+	public static final Comparator<ICFSecSecSessionBySecUserIdxKey> COMPARE_SECUSERIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() ) );
+	};
+
+	/**
+	 *	Orders SecSession instances by the SecDevIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecSecSession> COMPARE_BY_SECDEVIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		if( lhs.getOptionalSecDevName() == null ) {
+			if( rhs.getOptionalSecDevName() != null ) {
+				return( -1 );
+			}
+		}
+		else if( rhs.getOptionalSecDevName() == null ) {
+			return( 1 );
+		}
+		else {
+			cmp = lhs.getOptionalSecDevName().compareTo( rhs.getOptionalSecDevName() );
+			if( cmp != 0 ) {
+				return( cmp );
+			}
+		}
+		return( 0 );
+	};
+
+	/**
+	 *	Orders SecDevIdx keys.
+	 */
+	public static final Comparator<ICFSecSecSessionBySecDevIdxKey> COMPARE_SECDEVIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		if( lhs.getOptionalSecDevName() == null ) {
+			if( rhs.getOptionalSecDevName() != null ) {
+				return( -1 );
+			}
+		}
+		else if( rhs.getOptionalSecDevName() == null ) {
+			return( 1 );
+		}
+		else {
+			cmp = lhs.getOptionalSecDevName().compareTo( rhs.getOptionalSecDevName() );
+			if( cmp != 0 ) {
+				return( cmp );
+			}
+		}
+		return( 0 );
+	};
+
+	/**
+	 *	Orders SecSession instances by the StartIdx columns.
+	 */
+	public static final Comparator<ICFSecSecSession> COMPARE_BY_STARTIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredStart().compareTo( rhs.getRequiredStart() ) );
+	};
+
+	/**
+	 *	Orders StartIdx keys.
+	 */
+	public static final Comparator<ICFSecSecSessionByStartIdxKey> COMPARE_STARTIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredStart().compareTo( rhs.getRequiredStart() ) );
+	};
+
+	/**
+	 *	Orders SecSession instances by the FinishIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecSecSession> COMPARE_BY_FINISHIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		if( lhs.getOptionalFinish() == null ) {
+			if( rhs.getOptionalFinish() != null ) {
+				return( -1 );
+			}
+		}
+		else if( rhs.getOptionalFinish() == null ) {
+			return( 1 );
+		}
+		else {
+			cmp = lhs.getOptionalFinish().compareTo( rhs.getOptionalFinish() );
+			if( cmp != 0 ) {
+				return( cmp );
+			}
+		}
+		return( 0 );
+	};
+
+	/**
+	 *	Orders FinishIdx keys.
+	 */
+	public static final Comparator<ICFSecSecSessionByFinishIdxKey> COMPARE_FINISHIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		if( lhs.getOptionalFinish() == null ) {
+			if( rhs.getOptionalFinish() != null ) {
+				return( -1 );
+			}
+		}
+		else if( rhs.getOptionalFinish() == null ) {
+			return( 1 );
+		}
+		else {
+			cmp = lhs.getOptionalFinish().compareTo( rhs.getOptionalFinish() );
+			if( cmp != 0 ) {
+				return( cmp );
+			}
+		}
+		return( 0 );
+	};
+
+	/**
+	 *	Orders SecSession instances by the SecProxyIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecSecSession> COMPARE_BY_SECPROXYIDX = ( lhs, rhs ) -> {
+		int cmp;
+		if( lhs.getOptionalSecProxyId() == null ) {
+			if( rhs.getOptionalSecProxyId() != null ) {
+				return( -1 );
+			}
+		}
+		else if( rhs.getOptionalSecProxyId() == null ) {
+			return( 1 );
+		}
+		else {
+			cmp = lhs.getOptionalSecProxyId().compareTo( rhs.getOptionalSecProxyId() );
+			if( cmp != 0 ) {
+				return( cmp );
+			}
+		}
+		return( 0 );
+	};
+
+	/**
+	 *	Orders SecProxyIdx keys.
+	 */
+	public static final Comparator<ICFSecSecSessionBySecProxyIdxKey> COMPARE_SECPROXYIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		if( lhs.getOptionalSecProxyId() == null ) {
+			if( rhs.getOptionalSecProxyId() != null ) {
+				return( -1 );
+			}
+		}
+		else if( rhs.getOptionalSecProxyId() == null ) {
+			return( 1 );
+		}
+		else {
+			cmp = lhs.getOptionalSecProxyId().compareTo( rhs.getOptionalSecProxyId() );
+			if( cmp != 0 ) {
+				return( cmp );
+			}
+		}
+		return( 0 );
+	};
+
 	public CFSecBuffSecSessionDefaultFactory() {
 	}
 
@@ -78,6 +284,10 @@ public class CFSecBuffSecSessionDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecSessionBySecUserIdxKey getProbeBySecUserIdxKey() {
+		return( probeBySecUserIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecSessionBySecDevIdxKey newBySecDevIdxKey() {
 		ICFSecSecSessionBySecDevIdxKey key =
@@ -100,6 +310,10 @@ public class CFSecBuffSecSessionDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecSessionBySecDevIdxKey getProbeBySecDevIdxKey() {
+		return( probeBySecDevIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecSessionByStartIdxKey newByStartIdxKey() {
 		ICFSecSecSessionByStartIdxKey key =
@@ -122,6 +336,10 @@ public class CFSecBuffSecSessionDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecSessionByStartIdxKey getProbeByStartIdxKey() {
+		return( probeByStartIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecSessionByFinishIdxKey newByFinishIdxKey() {
 		ICFSecSecSessionByFinishIdxKey key =
@@ -144,6 +362,10 @@ public class CFSecBuffSecSessionDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecSessionByFinishIdxKey getProbeByFinishIdxKey() {
+		return( probeByFinishIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecSessionBySecProxyIdxKey newBySecProxyIdxKey() {
 		ICFSecSecSessionBySecProxyIdxKey key =
@@ -165,6 +387,10 @@ public class CFSecBuffSecSessionDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecSessionBySecProxyIdxKey getProbeBySecProxyIdxKey() {
+		return( probeBySecProxyIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecSession newRec() {
 		ICFSecSecSession rec =
@@ -185,4 +411,44 @@ public class CFSecBuffSecSessionDefaultFactory
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffSecSession cloneRec( ICFSecSecSession rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffSecSession ) {
+			return( ( (CFSecBuffSecSession)rec ).clone() );
+		}
+		else {
+			CFSecBuffSecSession mapped = new CFSecBuffSecSession();
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffSecSession[] cloneRecs( ICFSecSecSession[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffSecSession[] retList = new CFSecBuffSecSession[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
 }
@@ -0,0 +1,920 @@
+// Description: Java 25 in-memory concurrent implementation of a SecSession table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffSecSessionTable in-memory implementation of ICFSecSecSessionTable for SecSession.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ */
+public class CFSecBuffSecSessionTable
+	implements ICFSecSecSessionTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecSession> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecSessionBySecUserIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecSession>> dictBySecUserIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecSessionBySecDevIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecSession>> dictBySecDevIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecSessionByStartIdxKey, CFSecBuffSecSession> dictByStartIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecSessionByFinishIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecSession>> dictByFinishIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecSessionBySecProxyIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecSession>> dictBySecProxyIdx
+		= new ConcurrentHashMap<>();
+	protected final CopyOnWriteArrayList<CFSecBuffTableListener<ICFSecSecSession>> listeners
+		= new CopyOnWriteArrayList<>();
+
+	public CFSecBuffSecSessionTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Register a listener for creates, updates and deletes of SecSession.
+	 *
+	 *	@param	listener	The listener to add.
+	 */
+	public void addListener( CFSecBuffTableListener<ICFSecSecSession> listener ) {
+		if( listener == null ) {
+			throw new CFLibNullArgumentException( getClass(), "addListener", 1, "listener" );
+		}
+		listeners.addIfAbsent( listener );
+	}
+
+	/**
+	 *	Register a listener, optionally replaying every stored record to it as a
+	 *	create first.  The replay runs under the write lock, so the listener sees
+	 *	each record exactly once, either in the replay or as a later change.
+	 *
+	 *	@param	listener	The listener to add.
+	 *	@param	replayExisting	True to replay the stored records.
+	 */
+	public void addListener( CFSecBuffTableListener<ICFSecSecSession> listener, boolean replayExisting ) {
+		if( listener == null ) {
+			throw new CFLibNullArgumentException( getClass(), "addListener", 1, "listener" );
+		}
+		writeLock.lock();
+		try {
+			if( listeners.addIfAbsent( listener ) && replayExisting ) {
+				for( CFSecBuffSecSession cur : dictByPKey.values() ) {
+					listener.recCreated( cur );
+				}
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Unregister a listener.  Removing a listener that is not registered is ignored.
+	 *
+	 *	@param	listener	The listener to remove.
+	 */
+	public void removeListener( CFSecBuffTableListener<ICFSecSecSession> listener ) {
+		listeners.remove( listener );
+	}
+
+	/**
+	 *	Copy the attributes of a SecSession by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffSecSession holding the same attribute values.
+	 */
+	protected CFSecBuffSecSession copyRec( ICFSecSecSession src ) {
+		if( src instanceof CFSecBuffSecSession ) {
+			return( ( (CFSecBuffSecSession)src ).clone() );
+		}
+		CFSecBuffSecSession rec = new CFSecBuffSecSession();
+		rec.setRequiredSecSessionId( src.getRequiredSecSessionId() );
+		rec.setRequiredContainerSecUser( src.getRequiredSecUserId() );
+		rec.setRequiredParentSecProxy( src.getOptionalSecProxyId() );
+		rec.setOptionalSecDevName( src.getOptionalSecDevName() );
+		rec.setRequiredStart( src.getRequiredStart() );
+		rec.setOptionalFinish( src.getOptionalFinish() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		return( rec );
+	}
+
+	protected ICFSecSecSession[] copyRecs( Collection<CFSecBuffSecSession> src ) {
+		ICFSecSecSession[] retList = new ICFSecSecSession[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffSecSession cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected CFLibDbKeyHash256 pkeyOf( ICFSecSecSession rec ) {
+		return( rec.getRequiredSecSessionId() );
+	}
+
+	protected CFSecBuffSecSessionBySecUserIdxKey newBySecUserIdxKey( CFLibDbKeyHash256 argSecUserId ) {
+		CFSecBuffSecSessionBySecUserIdxKey key = new CFSecBuffSecSessionBySecUserIdxKey();
+		key.setRequiredSecUserId( argSecUserId );
+		return( key );
+	}
+
+	protected CFSecBuffSecSessionBySecUserIdxKey newBySecUserIdxKey( ICFSecSecSession rec ) {
+		return( newBySecUserIdxKey( rec.getRequiredSecUserId() ) );
+	}
+
+	protected CFSecBuffSecSessionBySecUserIdxKey probeBySecUserIdxKey( CFLibDbKeyHash256 argSecUserId ) {
+		CFSecBuffSecSessionBySecUserIdxKey key = CFSecBuffSecSessionDefaultFactory.getProbeBySecUserIdxKey();
+		key.setRequiredSecUserId( argSecUserId );
+		return( key );
+	}
+
+	protected CFSecBuffSecSessionBySecDevIdxKey newBySecDevIdxKey( CFLibDbKeyHash256 argSecUserId, String argSecDevName ) {
+		CFSecBuffSecSessionBySecDevIdxKey key = new CFSecBuffSecSessionBySecDevIdxKey();
+		key.setRequiredSecUserId( argSecUserId );
+		key.setOptionalSecDevName( argSecDevName );
+		return( key );
+	}
+
+	protected CFSecBuffSecSessionBySecDevIdxKey newBySecDevIdxKey( ICFSecSecSession rec ) {
+		return( newBySecDevIdxKey( rec.getRequiredSecUserId(), rec.getOptionalSecDevName() ) );
+	}
+
+	protected CFSecBuffSecSessionBySecDevIdxKey probeBySecDevIdxKey( CFLibDbKeyHash256 argSecUserId, String argSecDevName ) {
+		CFSecBuffSecSessionBySecDevIdxKey key = CFSecBuffSecSessionDefaultFactory.getProbeBySecDevIdxKey();
+		key.setRequiredSecUserId( argSecUserId );
+		key.setOptionalSecDevName( argSecDevName );
+		return( key );
+	}
+
+	protected CFSecBuffSecSessionByStartIdxKey newByStartIdxKey( CFLibDbKeyHash256 argSecUserId, LocalDateTime argStart ) {
+		CFSecBuffSecSessionByStartIdxKey key = new CFSecBuffSecSessionByStartIdxKey();
+		key.setRequiredSecUserId( argSecUserId );
+		key.setRequiredStart( argStart );
+		return( key );
+	}
+
+	protected CFSecBuffSecSessionByStartIdxKey newByStartIdxKey( ICFSecSecSession rec ) {
+		return( newByStartIdxKey( rec.getRequiredSecUserId(), rec.getRequiredStart() ) );
+	}
+
+	protected CFSecBuffSecSessionByStartIdxKey probeByStartIdxKey( CFLibDbKeyHash256 argSecUserId, LocalDateTime argStart ) {
+		CFSecBuffSecSessionByStartIdxKey key = CFSecBuffSecSessionDefaultFactory.getProbeByStartIdxKey();
+		key.setRequiredSecUserId( argSecUserId );
+		key.setRequiredStart( argStart );
+		return( key );
+	}
+
+	protected CFSecBuffSecSessionByFinishIdxKey newByFinishIdxKey( CFLibDbKeyHash256 argSecUserId, LocalDateTime argFinish ) {
+		CFSecBuffSecSessionByFinishIdxKey key = new CFSecBuffSecSessionByFinishIdxKey();
+		key.setRequiredSecUserId( argSecUserId );
+		key.setOptionalFinish( argFinish );
+		return( key );
+	}
+
+	protected CFSecBuffSecSessionByFinishIdxKey newByFinishIdxKey( ICFSecSecSession rec ) {
+		return( newByFinishIdxKey( rec.getRequiredSecUserId(), rec.getOptionalFinish() ) );
+	}
+
+	protected CFSecBuffSecSessionByFinishIdxKey probeByFinishIdxKey( CFLibDbKeyHash256 argSecUserId, LocalDateTime argFinish ) {
+		CFSecBuffSecSessionByFinishIdxKey key = CFSecBuffSecSessionDefaultFactory.getProbeByFinishIdxKey();
+		key.setRequiredSecUserId( argSecUserId );
+		key.setOptionalFinish( argFinish );
+		return( key );
+	}
+
+	protected CFSecBuffSecSessionBySecProxyIdxKey newBySecProxyIdxKey( CFLibDbKeyHash256 argSecProxyId ) {
+		CFSecBuffSecSessionBySecProxyIdxKey key = new CFSecBuffSecSessionBySecProxyIdxKey();
+		key.setOptionalSecProxyId( argSecProxyId );
+		return( key );
+	}
+
+	protected CFSecBuffSecSessionBySecProxyIdxKey newBySecProxyIdxKey( ICFSecSecSession rec ) {
+		return( newBySecProxyIdxKey( rec.getOptionalSecProxyId() ) );
+	}
+
+	protected CFSecBuffSecSessionBySecProxyIdxKey probeBySecProxyIdxKey( CFLibDbKeyHash256 argSecProxyId ) {
+		CFSecBuffSecSessionBySecProxyIdxKey key = CFSecBuffSecSessionDefaultFactory.getProbeBySecProxyIdxKey();
+		key.setOptionalSecProxyId( argSecProxyId );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffSecSession rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictBySecUserIdx.computeIfAbsent( newBySecUserIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictBySecDevIdx.computeIfAbsent( newBySecDevIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByStartIdx.put( newByStartIdxKey( rec ), rec );
+		dictByFinishIdx.computeIfAbsent( newByFinishIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictBySecProxyIdx.computeIfAbsent( newBySecProxyIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		for( CFSecBuffTableListener<ICFSecSecSession> listener : listeners ) {
+			listener.recCreated( rec );
+		}
+	}
+
+	protected void unindexRec( CFSecBuffSecSession rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		removeFromDupIndex( dictBySecUserIdx, newBySecUserIdxKey( rec ), pkey );
+		removeFromDupIndex( dictBySecDevIdx, newBySecDevIdxKey( rec ), pkey );
+		dictByStartIdx.remove( newByStartIdxKey( rec ), rec );
+		removeFromDupIndex( dictByFinishIdx, newByFinishIdxKey( rec ), pkey );
+		removeFromDupIndex( dictBySecProxyIdx, newBySecProxyIdxKey( rec ), pkey );
+		dictByPKey.remove( pkey, rec );
+		for( CFSecBuffTableListener<ICFSecSecSession> listener : listeners ) {
+			listener.recDeleted( rec );
+		}
+	}
+
+	protected void reindexRec( CFSecBuffSecSession existing, CFSecBuffSecSession rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffSecSessionBySecUserIdxKey oldKey = newBySecUserIdxKey( existing );
+			CFSecBuffSecSessionBySecUserIdxKey newKey = newBySecUserIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictBySecUserIdx, oldKey, pkey );
+			}
+			dictBySecUserIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffSecSessionBySecDevIdxKey oldKey = newBySecDevIdxKey( existing );
+			CFSecBuffSecSessionBySecDevIdxKey newKey = newBySecDevIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictBySecDevIdx, oldKey, pkey );
+			}
+			dictBySecDevIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffSecSessionByStartIdxKey oldKey = newByStartIdxKey( existing );
+			CFSecBuffSecSessionByStartIdxKey newKey = newByStartIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByStartIdx.remove( oldKey, existing );
+			}
+			dictByStartIdx.put( newKey, rec );
+		}
+		{
+			CFSecBuffSecSessionByFinishIdxKey oldKey = newByFinishIdxKey( existing );
+			CFSecBuffSecSessionByFinishIdxKey newKey = newByFinishIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByFinishIdx, oldKey, pkey );
+			}
+			dictByFinishIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffSecSessionBySecProxyIdxKey oldKey = newBySecProxyIdxKey( existing );
+			CFSecBuffSecSessionBySecProxyIdxKey newKey = newBySecProxyIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictBySecProxyIdx, oldKey, pkey );
+			}
+			dictBySecProxyIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		for( CFSecBuffTableListener<ICFSecSecSession> listener : listeners ) {
+			listener.recUpdated( existing, rec );
+		}
+	}
+
+	protected static <K> void removeFromDupIndex( ConcurrentHashMap<K, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecSession>> dict, K key, CFLibDbKeyHash256 pkey ) {
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecSession> subdict = dict.get( key );
+		if( subdict != null ) {
+			subdict.remove( pkey );
+			if( subdict.isEmpty() ) {
+				dict.remove( key, subdict );
+			}
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffSecSession rec, CFSecBuffSecSession existing ) {
+		{
+			CFSecBuffSecSessionByStartIdxKey key = newByStartIdxKey( rec );
+			CFSecBuffSecSession conflict = dictByStartIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"SecSessionStartIdx",
+					key );
+			}
+		}
+	}
+
+	@Override
+	public ICFSecSecSession createSecSession( ICFSecAuthorization Authorization,
+		ICFSecSecSession rec )
+	{
+		final String S_ProcName = "createSecSession";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffSecSession stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecSecSession readDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		if( PKey == null ) {
+			return( null );
+		}
+		CFSecBuffSecSession rec = dictByPKey.get( PKey );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecSession lockDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecSession[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecSecSession readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecSessionId )
+	{
+		if( argSecSessionId == null ) {
+			return( null );
+		}
+		CFSecBuffSecSession rec = dictByPKey.get( argSecSessionId );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecSession[] readDerivedBySecUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecSession> subdict = dictBySecUserIdx.get( probeBySecUserIdxKey( argSecUserId ) );
+		if( subdict == null ) {
+			return( new ICFSecSecSession[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the SecSession instances for several SecUserIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argSecUserIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecSecSession[]> readDerivedBySecUserIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argSecUserIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecSecSession[]> retMap = new HashMap<>( Math.max( 16, argSecUserIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argSecUserId : argSecUserIds ) {
+			if( ( argSecUserId == null ) || retMap.containsKey( argSecUserId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecSession> subdict = dictBySecUserIdx.get( probeBySecUserIdxKey( argSecUserId ) );
+			if( subdict == null ) {
+				retMap.put( argSecUserId, new ICFSecSecSession[0] );
+			}
+			else {
+				retMap.put( argSecUserId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecSecSession[] readDerivedBySecDevIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId,
+		String argSecDevName )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecSession> subdict = dictBySecDevIdx.get( probeBySecDevIdxKey( argSecUserId, argSecDevName ) );
+		if( subdict == null ) {
+			return( new ICFSecSecSession[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	@Override
+	public ICFSecSecSession readDerivedByStartIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId,
+		LocalDateTime argStart )
+	{
+		CFSecBuffSecSession rec = dictByStartIdx.get( probeByStartIdxKey( argSecUserId, argStart ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecSession[] readDerivedByFinishIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId,
+		LocalDateTime argFinish )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecSession> subdict = dictByFinishIdx.get( probeByFinishIdxKey( argSecUserId, argFinish ) );
+		if( subdict == null ) {
+			return( new ICFSecSecSession[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	@Override
+	public ICFSecSecSession[] readDerivedBySecProxyIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecProxyId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecSession> subdict = dictBySecProxyIdx.get( probeBySecProxyIdxKey( argSecProxyId ) );
+		if( subdict == null ) {
+			return( new ICFSecSecSession[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the SecSession instances for several SecProxyIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argSecProxyIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecSecSession[]> readDerivedBySecProxyIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argSecProxyIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecSecSession[]> retMap = new HashMap<>( Math.max( 16, argSecProxyIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argSecProxyId : argSecProxyIds ) {
+			if( ( argSecProxyId == null ) || retMap.containsKey( argSecProxyId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecSession> subdict = dictBySecProxyIdx.get( probeBySecProxyIdxKey( argSecProxyId ) );
+			if( subdict == null ) {
+				retMap.put( argSecProxyId, new ICFSecSecSession[0] );
+			}
+			else {
+				retMap.put( argSecProxyId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecSecSession readRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecSession lockRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecSession[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecSecSession readRecByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecSessionId )
+	{
+		return( readDerivedByIdIdx( Authorization, argSecSessionId ) );
+	}
+
+	@Override
+	public ICFSecSecSession[] readRecBySecUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		return( readDerivedBySecUserIdx( Authorization, argSecUserId ) );
+	}
+
+	@Override
+	public ICFSecSecSession[] readRecBySecDevIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId,
+		String argSecDevName )
+	{
+		return( readDerivedBySecDevIdx( Authorization, argSecUserId, argSecDevName ) );
+	}
+
+	@Override
+	public ICFSecSecSession readRecByStartIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId,
+		LocalDateTime argStart )
+	{
+		return( readDerivedByStartIdx( Authorization, argSecUserId, argStart ) );
+	}
+
+	@Override
+	public ICFSecSecSession[] readRecByFinishIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId,
+		LocalDateTime argFinish )
+	{
+		return( readDerivedByFinishIdx( Authorization, argSecUserId, argFinish ) );
+	}
+
+	@Override
+	public ICFSecSecSession[] readRecBySecProxyIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecProxyId )
+	{
+		return( readDerivedBySecProxyIdx( Authorization, argSecProxyId ) );
+	}
+
+	@Override
+	public ICFSecSecSession updateSecSession( ICFSecAuthorization Authorization,
+		ICFSecSecSession rec )
+	{
+		final String S_ProcName = "updateSecSession";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffSecSession stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffSecSession existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"SecSession",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	/**
+	 *	Close a batch of sessions in a single pass under the table lock.
+	 *	<P>
+	 *	Each live session whose id appears in argSecSessionIds has its
+	 *	OptionalFinish set to argFinish and its revision bumped exactly as
+	 *	updateSecSession() would, and the modification count advances once per
+	 *	closed session.  Ids that are unknown or already finished
+	 *	are skipped rather than treated as collisions, so expiry sweeps can
+	 *	race with explicit logouts without failing.
+	 *
+	 *	@param	Authorization	The session authorization (may be null for system sweeps.)
+	 *	@param	argSecSessionIds	The sessions to close.
+	 *	@param	argFinish	The finish timestamp to record.
+	 *	@return	The number of sessions that were actually closed.
+	 */
+	public int finishSecSessions( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argSecSessionIds,
+		LocalDateTime argFinish )
+	{
+		final String S_ProcName = "finishSecSessions";
+		if( argSecSessionIds == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "argSecSessionIds" );
+		}
+		if( argFinish == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 3, "argFinish" );
+		}
+		if( argSecSessionIds.isEmpty() ) {
+			return( 0 );
+		}
+		int closed = 0;
+		writeLock.lock();
+		try {
+			for( CFLibDbKeyHash256 pkey : argSecSessionIds ) {
+				if( pkey == null ) {
+					continue;
+				}
+				CFSecBuffSecSession existing = dictByPKey.get( pkey );
+				if( ( existing == null ) || ( existing.getOptionalFinish() != null ) ) {
+					continue;
+				}
+				CFSecBuffSecSession stored = existing.clone();
+				stored.setOptionalFinish( argFinish );
+				stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+				checkUniqueIndexes( S_ProcName, stored, existing );
+				reindexRec( existing, stored );
+				modificationCount++;
+				closed++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( closed );
+	}
+
+	@Override
+	public void deleteSecSession( ICFSecAuthorization Authorization,
+		ICFSecSecSession rec )
+	{
+		final String S_ProcName = "deleteSecSession";
+		if( rec == null ) {
+			return;
+		}
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffSecSession existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffSecSession existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored SecSession under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffSecSession> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffSecSession> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffSecSession rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a SecSession exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffSecSession rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffSecSession stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteSecSessionByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecSessionId )
+	{
+		if( argSecSessionId == null ) {
+			return;
+		}
+		deleteStored( dictByPKey.get( argSecSessionId ) );
+	}
+
+	@Override
+	public void deleteSecSessionBySecUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecSession> subdict = dictBySecUserIdx.get( probeBySecUserIdxKey( argSecUserId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffSecSession existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteSecSessionBySecUserIdx( ICFSecAuthorization Authorization,
+		ICFSecSecSessionBySecUserIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecSessionBySecUserIdx( Authorization, argKey.getRequiredSecUserId() );
+	}
+
+	@Override
+	public void deleteSecSessionBySecDevIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId,
+		String argSecDevName )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecSession> subdict = dictBySecDevIdx.get( probeBySecDevIdxKey( argSecUserId, argSecDevName ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffSecSession existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteSecSessionBySecDevIdx( ICFSecAuthorization Authorization,
+		ICFSecSecSessionBySecDevIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecSessionBySecDevIdx( Authorization, argKey.getRequiredSecUserId(), argKey.getOptionalSecDevName() );
+	}
+
+	@Override
+	public void deleteSecSessionByStartIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId,
+		LocalDateTime argStart )
+	{
+		deleteStored( dictByStartIdx.get( probeByStartIdxKey( argSecUserId, argStart ) ) );
+	}
+
+	@Override
+	public void deleteSecSessionByStartIdx( ICFSecAuthorization Authorization,
+		ICFSecSecSessionByStartIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecSessionByStartIdx( Authorization, argKey.getRequiredSecUserId(), argKey.getRequiredStart() );
+	}
+
+	@Override
+	public void deleteSecSessionByFinishIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId,
+		LocalDateTime argFinish )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecSession> subdict = dictByFinishIdx.get( probeByFinishIdxKey( argSecUserId, argFinish ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffSecSession existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteSecSessionByFinishIdx( ICFSecAuthorization Authorization,
+		ICFSecSecSessionByFinishIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecSessionByFinishIdx( Authorization, argKey.getRequiredSecUserId(), argKey.getOptionalFinish() );
+	}
+
+	@Override
+	public void deleteSecSessionBySecProxyIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecProxyId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecSession> subdict = dictBySecProxyIdx.get( probeBySecProxyIdxKey( argSecProxyId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffSecSession existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteSecSessionBySecProxyIdx( ICFSecAuthorization Authorization,
+		ICFSecSecSessionBySecProxyIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecSessionBySecProxyIdx( Authorization, argKey.getOptionalSecProxyId() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
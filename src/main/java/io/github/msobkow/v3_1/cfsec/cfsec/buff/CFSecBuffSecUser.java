@@ -51,14 +51,14 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffSecUser
-	implements ICFSecSecUser, Comparable<Object>, Serializable
+	implements ICFSecSecUser, Comparable<Object>, Serializable, Cloneable
 {
 	protected CFLibDbKeyHash256 requiredSecUserId;
 	protected int requiredRevision;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecSecUser.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecSecUser.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
 	protected String requiredLoginId;
 	protected String requiredEMailAddress;
 	protected CFLibUuid6 optionalEMailConfirmUuid6;
@@ -67,14 +67,94 @@ public class CFSecBuffSecUser
 	protected String requiredPasswordHash;
 	protected CFLibUuid6 optionalPasswordResetUuid6;
 
+	protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecSecUser.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecSecUser.S_INIT_UPDATED_BY);
+	protected transient CFSecBuffNavigationCache navigationCache = null;
+
+	protected static final int NAV_OPTIONALCOMPONENTSSECDEV = 0;
+	protected static final int NAV_OPTIONALCOMPONENTSSECSESS = 1;
+	protected static final int NAV_OPTIONALCHILDRENSECPROXY = 2;
+	protected static final int NAV_OPTIONALCHILDRENSECGRPMEMB = 3;
+	protected static final int NAV_OPTIONALCHILDRENTSECGRPMEMB = 4;
+	protected static final int NAV_OPTIONALLOOKUPDEFDEV = 5;
+	protected static final int NAV_SLOT_COUNT = 6;
+
 	public CFSecBuffSecUser() {
-		requiredSecUserId = CFLibDbKeyHash256.fromHex( ICFSecSecUser.SECUSERID_INIT_VALUE.toString() );
+		this( CFSecBuffRecStamp.EAGER );
+	}
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+	public CFSecBuffSecUser( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffSecUser", 1, "stamp" );
+		}
+		requiredSecUserId = ICFSecSecUser.SECUSERID_INIT_VALUE;
 		requiredLoginId = ICFSecSecUser.LOGINID_INIT_VALUE;
 		requiredEMailAddress = ICFSecSecUser.EMAILADDRESS_INIT_VALUE;
 		optionalEMailConfirmUuid6 = null;
 		optionalDfltDevUserId = CFLibDbKeyHash256.nullGet();
 		optionalDfltDevName = null;
 		optionalPasswordResetUuid6 = null;
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
+	}
+
+	/**
+	 *	Enable or disable caching of the relationship navigation getters of this
+	 *	instance.  While enabled, each navigation result is reused until the table
+	 *	it was read from reports a modification, or until an attribute of this
+	 *	instance is changed.  Tables that do not publish a modification count are
+	 *	always read.  Cached objects are shared between calls, so callers must treat
+	 *	them as read-only.
+	 *
+	 *	@param	value	true to cache navigation results, false to discard the cache.
+	 */
+	public void setNavigationCacheEnabled( boolean value ) {
+		if( value ) {
+			if( navigationCache == null ) {
+				navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+			}
+		}
+		else {
+			navigationCache = null;
+		}
+	}
+
+	public boolean isNavigationCacheEnabled() {
+		return( navigationCache != null );
+	}
+
+	protected long getNavigationStamp( Object targetTable ) {
+		if( navigationCache == null ) {
+			return( 0L );
+		}
+		return( CFSecBuffNavigationCache.stampOf( targetTable ) );
+	}
+
+	protected void primeNavigation( int slot, long navStamp, Object value ) {
+		if( navStamp == 0L ) {
+			return;
+		}
+		if( navigationCache == null ) {
+			navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+		}
+		navigationCache.put( slot, navStamp, value );
 	}
 
 	@Override
@@ -103,6 +183,8 @@ public class CFSecBuffSecUser
 				"value" );
 		}
 		requiredSecUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -113,16 +195,25 @@ public class CFSecBuffSecUser
 	@Override
 	public void setCreatedByUserId( CFLibDbKeyHash256 value ) {
 		createdByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getCreatedAt() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
 		return( createdAt );
 	}
 
 	@Override
 	public void setCreatedAt( LocalDateTime value ) {
 		createdAt = value;
+		pendingCreatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -133,16 +224,25 @@ public class CFSecBuffSecUser
 	@Override
 	public void setUpdatedByUserId( CFLibDbKeyHash256 value ) {
 		updatedByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getUpdatedAt() {
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
 		return( updatedAt );
 	}
 
 	@Override
 	public void setUpdatedAt( LocalDateTime value ) {
 		updatedAt = value;
+		pendingUpdatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 	@Override
 	public int getRequiredRevision() {
@@ -152,6 +252,8 @@ public class CFSecBuffSecUser
 	@Override
 	public void setRequiredRevision( int value ) {
 		requiredRevision = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -169,7 +271,17 @@ public class CFSecBuffSecUser
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalComponentsSecDev", 0, "ICFSecSchema.getBackingCFSec().getTableSecDevice()");
 		}
-		ICFSecSecDevice[] targetArr = targetTable.readDerivedByUserIdx(null, getRequiredSecUserId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecSecDevice[] targetArr;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALCOMPONENTSSECDEV, navStamp ) ) {
+			targetArr = (ICFSecSecDevice[])navigationCache.getValue( NAV_OPTIONALCOMPONENTSSECDEV );
+		}
+		else {
+			targetArr = targetTable.readDerivedByUserIdx(null, getRequiredSecUserId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALCOMPONENTSSECDEV, navStamp, targetArr );
+			}
+		}
 		if( targetArr != null ) {
 			List<ICFSecSecDevice> results = new ArrayList<>(targetArr.length);
 			for (int idx = 0; idx < targetArr.length; idx++) {
@@ -192,7 +304,17 @@ public class CFSecBuffSecUser
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalComponentsSecSess", 0, "ICFSecSchema.getBackingCFSec().getTableSecSession()");
 		}
-		ICFSecSecSession[] targetArr = targetTable.readDerivedBySecUserIdx(null, getRequiredSecUserId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecSecSession[] targetArr;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALCOMPONENTSSECSESS, navStamp ) ) {
+			targetArr = (ICFSecSecSession[])navigationCache.getValue( NAV_OPTIONALCOMPONENTSSECSESS );
+		}
+		else {
+			targetArr = targetTable.readDerivedBySecUserIdx(null, getRequiredSecUserId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALCOMPONENTSSECSESS, navStamp, targetArr );
+			}
+		}
 		if( targetArr != null ) {
 			List<ICFSecSecSession> results = new ArrayList<>(targetArr.length);
 			for (int idx = 0; idx < targetArr.length; idx++) {
@@ -215,7 +337,17 @@ public class CFSecBuffSecUser
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalChildrenSecProxy", 0, "ICFSecSchema.getBackingCFSec().getTableSecSession()");
 		}
-		ICFSecSecSession[] targetArr = targetTable.readDerivedBySecProxyIdx(null, getRequiredSecUserId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecSecSession[] targetArr;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALCHILDRENSECPROXY, navStamp ) ) {
+			targetArr = (ICFSecSecSession[])navigationCache.getValue( NAV_OPTIONALCHILDRENSECPROXY );
+		}
+		else {
+			targetArr = targetTable.readDerivedBySecProxyIdx(null, getRequiredSecUserId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALCHILDRENSECPROXY, navStamp, targetArr );
+			}
+		}
 		if( targetArr != null ) {
 			List<ICFSecSecSession> results = new ArrayList<>(targetArr.length);
 			for (int idx = 0; idx < targetArr.length; idx++) {
@@ -238,7 +370,17 @@ public class CFSecBuffSecUser
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalChildrenSecGrpMemb", 0, "ICFSecSchema.getBackingCFSec().getTableSecGrpMemb()");
 		}
-		ICFSecSecGrpMemb[] targetArr = targetTable.readDerivedByUserIdx(null, getRequiredSecUserId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecSecGrpMemb[] targetArr;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALCHILDRENSECGRPMEMB, navStamp ) ) {
+			targetArr = (ICFSecSecGrpMemb[])navigationCache.getValue( NAV_OPTIONALCHILDRENSECGRPMEMB );
+		}
+		else {
+			targetArr = targetTable.readDerivedByUserIdx(null, getRequiredSecUserId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALCHILDRENSECGRPMEMB, navStamp, targetArr );
+			}
+		}
 		if( targetArr != null ) {
 			List<ICFSecSecGrpMemb> results = new ArrayList<>(targetArr.length);
 			for (int idx = 0; idx < targetArr.length; idx++) {
@@ -261,7 +403,17 @@ public class CFSecBuffSecUser
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalChildrenTSecGrpMemb", 0, "ICFSecSchema.getBackingCFSec().getTableTSecGrpMemb()");
 		}
-		ICFSecTSecGrpMemb[] targetArr = targetTable.readDerivedByUserIdx(null, getRequiredSecUserId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecTSecGrpMemb[] targetArr;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALCHILDRENTSECGRPMEMB, navStamp ) ) {
+			targetArr = (ICFSecTSecGrpMemb[])navigationCache.getValue( NAV_OPTIONALCHILDRENTSECGRPMEMB );
+		}
+		else {
+			targetArr = targetTable.readDerivedByUserIdx(null, getRequiredSecUserId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALCHILDRENTSECGRPMEMB, navStamp, targetArr );
+			}
+		}
 		if( targetArr != null ) {
 			List<ICFSecTSecGrpMemb> results = new ArrayList<>(targetArr.length);
 			for (int idx = 0; idx < targetArr.length; idx++) {
@@ -284,7 +436,17 @@ public class CFSecBuffSecUser
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalLookupDefDev", 0, "ICFSecSchema.getBackingCFSec().getTableSecDevice()");
 		}
-		ICFSecSecDevice targetRec = targetTable.readDerived(null, getOptionalDfltDevUserId(), getOptionalDfltDevName());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecSecDevice targetRec;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALLOOKUPDEFDEV, navStamp ) ) {
+			targetRec = (ICFSecSecDevice)navigationCache.getValue( NAV_OPTIONALLOOKUPDEFDEV );
+		}
+		else {
+			targetRec = targetTable.readDerived(null, getOptionalDfltDevUserId(), getOptionalDfltDevName());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALLOOKUPDEFDEV, navStamp, targetRec );
+			}
+		}
 		return(targetRec);
 	}
 	@Override
@@ -297,6 +459,8 @@ public class CFSecBuffSecUser
 			optionalDfltDevUserId = argObj.getRequiredSecUserId();
 			optionalDfltDevName = argObj.getRequiredDevName();
 		}
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -304,6 +468,8 @@ public class CFSecBuffSecUser
 		String argDfltDevName) {
 		optionalDfltDevUserId = argDfltDevUserId;
 		optionalDfltDevName = argDfltDevName;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -328,6 +494,8 @@ public class CFSecBuffSecUser
 				32 );
 		}
 		requiredLoginId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -352,6 +520,8 @@ public class CFSecBuffSecUser
 				512 );
 		}
 		requiredEMailAddress = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -362,6 +532,8 @@ public class CFSecBuffSecUser
 	@Override
 	public void setOptionalEMailConfirmUuid6( CFLibUuid6 value ) {
 		optionalEMailConfirmUuid6 = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -396,6 +568,8 @@ public class CFSecBuffSecUser
 				256 );
 		}
 		requiredPasswordHash = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -406,6 +580,8 @@ public class CFSecBuffSecUser
 	@Override
 	public void setOptionalPasswordResetUuid6( CFLibUuid6 value ) {
 		optionalPasswordResetUuid6 = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -791,34 +967,25 @@ public class CFSecBuffSecUser
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getCreatedByUserId().hashCode();
-		hashCode = hashCode + getCreatedAt().hashCode();
-		hashCode = hashCode + getUpdatedByUserId().hashCode();
-		hashCode = hashCode + getUpdatedAt().hashCode();
-		hashCode = hashCode + getRequiredSecUserId().hashCode();
-		if( getRequiredLoginId() != null ) {
-			hashCode = hashCode + getRequiredLoginId().hashCode();
-		}
-		if( getRequiredEMailAddress() != null ) {
-			hashCode = hashCode + getRequiredEMailAddress().hashCode();
-		}
-		if( getOptionalEMailConfirmUuid6() != null ) {
-			hashCode = hashCode + getOptionalEMailConfirmUuid6().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredSecUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredLoginId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredEMailAddress() );
+			hashCode = CFSecBuffHash.mix( hashCode, getOptionalEMailConfirmUuid6() );
+			hashCode = CFSecBuffHash.mix( hashCode, getOptionalDfltDevUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getOptionalDfltDevName() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredPasswordHash() );
+			hashCode = CFSecBuffHash.mix( hashCode, getOptionalPasswordResetUuid6() );
+			hashCode = CFSecBuffHash.finish( hashCode, 12 );
+			cachedHashCode = hashCode;
 		}
-		if( getOptionalDfltDevUserId() != null ) {
-			hashCode = hashCode + getOptionalDfltDevUserId().hashCode();
-		}
-		if( getOptionalDfltDevName() != null ) {
-			hashCode = hashCode + getOptionalDfltDevName().hashCode();
-		}
-		if( getRequiredPasswordHash() != null ) {
-			hashCode = hashCode + getRequiredPasswordHash().hashCode();
-		}
-		if( getOptionalPasswordResetUuid6() != null ) {
-			hashCode = hashCode + getOptionalPasswordResetUuid6().hashCode();
-		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
@@ -1225,6 +1392,45 @@ public class CFSecBuffSecUser
 		}
 	}
 
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+	protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+	}
+
+	private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+	public CFSecBuffSecUser clone() {
+		resolvePendingStamps();
+		CFSecBuffSecUser copy;
+		try {
+			copy = (CFSecBuffSecUser)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.navigationCache = null;
+		return( copy );
+	}
+
 	@Override
 	public void set( ICFSecSecUser src ) {
 		setSecUser( src );
@@ -1238,7 +1444,8 @@ public class CFSecBuffSecUser
 		setCreatedAt( src.getCreatedAt() );
 		setUpdatedByUserId( src.getUpdatedByUserId() );
 		setUpdatedAt( src.getUpdatedAt() );
-		setOptionalLookupDefDev(src.getOptionalLookupDefDev());
+		setOptionalLookupDefDev(src.getOptionalDfltDevUserId(),
+			src.getOptionalDfltDevName());
 		setRequiredLoginId(src.getRequiredLoginId());
 		setRequiredEMailAddress(src.getRequiredEMailAddress());
 		setOptionalEMailConfirmUuid6(src.getOptionalEMailConfirmUuid6());
@@ -55,6 +55,8 @@ public class CFSecBuffSecUserByDefDevIdxKey
 {
 	protected CFLibDbKeyHash256 optionalDfltDevUserId;
 	protected String optionalDfltDevName;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecUserByDefDevIdxKey() {
 		optionalDfltDevUserId = CFLibDbKeyHash256.nullGet();
 		optionalDfltDevName = null;
@@ -68,6 +70,7 @@ public class CFSecBuffSecUserByDefDevIdxKey
 	@Override
 	public void setOptionalDfltDevUserId( CFLibDbKeyHash256 value ) {
 		optionalDfltDevUserId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -86,6 +89,7 @@ public class CFSecBuffSecUserByDefDevIdxKey
 				127 );
 		}
 		optionalDfltDevName = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -168,14 +172,15 @@ public class CFSecBuffSecUserByDefDevIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		if( getOptionalDfltDevUserId() != null ) {
-			hashCode = hashCode + getOptionalDfltDevUserId().hashCode();
-		}
-		if( getOptionalDfltDevName() != null ) {
-			hashCode = hashCode + getOptionalDfltDevName().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getOptionalDfltDevUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getOptionalDfltDevName() );
+			hashCode = CFSecBuffHash.finish( hashCode, 2 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
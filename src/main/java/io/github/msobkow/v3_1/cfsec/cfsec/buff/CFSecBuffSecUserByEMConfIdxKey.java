@@ -54,6 +54,8 @@ public class CFSecBuffSecUserByEMConfIdxKey
 	implements ICFSecSecUserByEMConfIdxKey, Comparable<Object>, Serializable
 {
 	protected CFLibUuid6 optionalEMailConfirmUuid6;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecUserByEMConfIdxKey() {
 		optionalEMailConfirmUuid6 = null;
 	}
@@ -66,6 +68,7 @@ public class CFSecBuffSecUserByEMConfIdxKey
 	@Override
 	public void setOptionalEMailConfirmUuid6( CFLibUuid6 value ) {
 		optionalEMailConfirmUuid6 = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -118,11 +121,14 @@ public class CFSecBuffSecUserByEMConfIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		if( getOptionalEMailConfirmUuid6() != null ) {
-			hashCode = hashCode + getOptionalEMailConfirmUuid6().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getOptionalEMailConfirmUuid6() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
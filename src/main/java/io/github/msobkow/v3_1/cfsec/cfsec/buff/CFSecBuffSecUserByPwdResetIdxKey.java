@@ -54,6 +54,8 @@ public class CFSecBuffSecUserByPwdResetIdxKey
 	implements ICFSecSecUserByPwdResetIdxKey, Comparable<Object>, Serializable
 {
 	protected CFLibUuid6 optionalPasswordResetUuid6;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecUserByPwdResetIdxKey() {
 		optionalPasswordResetUuid6 = null;
 	}
@@ -66,6 +68,7 @@ public class CFSecBuffSecUserByPwdResetIdxKey
 	@Override
 	public void setOptionalPasswordResetUuid6( CFLibUuid6 value ) {
 		optionalPasswordResetUuid6 = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -118,11 +121,14 @@ public class CFSecBuffSecUserByPwdResetIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		if( getOptionalPasswordResetUuid6() != null ) {
-			hashCode = hashCode + getOptionalPasswordResetUuid6().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getOptionalPasswordResetUuid6() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
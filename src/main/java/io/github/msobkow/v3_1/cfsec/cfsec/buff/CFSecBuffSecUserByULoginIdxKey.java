@@ -54,6 +54,8 @@ public class CFSecBuffSecUserByULoginIdxKey
 	implements ICFSecSecUserByULoginIdxKey, Comparable<Object>, Serializable
 {
 	protected String requiredLoginId;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffSecUserByULoginIdxKey() {
 		requiredLoginId = ICFSecSecUser.LOGINID_INIT_VALUE;
 	}
@@ -80,6 +82,7 @@ public class CFSecBuffSecUserByULoginIdxKey
 				32 );
 		}
 		requiredLoginId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -132,11 +135,14 @@ public class CFSecBuffSecUserByULoginIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		if( getRequiredLoginId() != null ) {
-			hashCode = hashCode + getRequiredLoginId().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredLoginId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
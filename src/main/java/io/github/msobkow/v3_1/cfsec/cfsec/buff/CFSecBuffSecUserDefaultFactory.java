@@ -54,13 +54,240 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffSecUserDefaultFactory
 	implements ICFSecSecUserFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffSecUserByULoginIdxKey> probeByULoginIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecUserByULoginIdxKey() );
+	protected static final ThreadLocal<CFSecBuffSecUserByEMConfIdxKey> probeByEMConfIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecUserByEMConfIdxKey() );
+	protected static final ThreadLocal<CFSecBuffSecUserByPwdResetIdxKey> probeByPwdResetIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecUserByPwdResetIdxKey() );
+	protected static final ThreadLocal<CFSecBuffSecUserByDefDevIdxKey> probeByDefDevIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSecUserByDefDevIdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders SecUser instances by primary key.
+	 */
+	public static final Comparator<ICFSecSecUser> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() ) );
+	};
+
+	/**
+	 *	Orders SecUser history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecSecUserHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders SecUser instances by the ULoginIdx columns.
+	 */
+	public static final Comparator<ICFSecSecUser> COMPARE_BY_ULOGINIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredLoginId().compareTo( rhs.getRequiredLoginId() ) );
+	};
+
+	/**
+	 *	Orders ULoginIdx keys.
+	 */
+	public static final Comparator<ICFSecSecUserByULoginIdxKey> COMPARE_ULOGINIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredLoginId().compareTo( rhs.getRequiredLoginId() ) );
+	};
+
+	/**
+	 *	Orders SecUser instances by the EMConfIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecSecUser> COMPARE_BY_EMCONFIDX = ( lhs, rhs ) -> {
+		int cmp;
+		if( lhs.getOptionalEMailConfirmUuid6() == null ) {
+			if( rhs.getOptionalEMailConfirmUuid6() != null ) {
+				return( -1 );
+			}
+		}
+		else if( rhs.getOptionalEMailConfirmUuid6() == null ) {
+			return( 1 );
+		}
+		else {
+			cmp = lhs.getOptionalEMailConfirmUuid6().compareTo( rhs.getOptionalEMailConfirmUuid6() );
+			if( cmp != 0 ) {
+				return( cmp );
+			}
+		}
+		return( 0 );
+	};
+
+	/**
+	 *	Orders EMConfIdx keys.
+	 */
+	public static final Comparator<ICFSecSecUserByEMConfIdxKey> COMPARE_EMCONFIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		if( lhs.getOptionalEMailConfirmUuid6() == null ) {
+			if( rhs.getOptionalEMailConfirmUuid6() != null ) {
+				return( -1 );
+			}
+		}
+		else if( rhs.getOptionalEMailConfirmUuid6() == null ) {
+			return( 1 );
+		}
+		else {
+			cmp = lhs.getOptionalEMailConfirmUuid6().compareTo( rhs.getOptionalEMailConfirmUuid6() );
+			if( cmp != 0 ) {
+				return( cmp );
+			}
+		}
+		return( 0 );
+	};
+
+	/**
+	 *	Orders SecUser instances by the PwdResetIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecSecUser> COMPARE_BY_PWDRESETIDX = ( lhs, rhs ) -> {
+		int cmp;
+		if( lhs.getOptionalPasswordResetUuid6() == null ) {
+			if( rhs.getOptionalPasswordResetUuid6() != null ) {
+				return( -1 );
+			}
+		}
+		else if( rhs.getOptionalPasswordResetUuid6() == null ) {
+			return( 1 );
+		}
+		else {
+			cmp = lhs.getOptionalPasswordResetUuid6().compareTo( rhs.getOptionalPasswordResetUuid6() );
+			if( cmp != 0 ) {
+				return( cmp );
+			}
+		}
+		return( 0 );
+	};
+
+	/**
+	 *	Orders PwdResetIdx keys.
+	 */
+	public static final Comparator<ICFSecSecUserByPwdResetIdxKey> COMPARE_PWDRESETIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		if( lhs.getOptionalPasswordResetUuid6() == null ) {
+			if( rhs.getOptionalPasswordResetUuid6() != null ) {
+				return( -1 );
+			}
+		}
+		else if( rhs.getOptionalPasswordResetUuid6() == null ) {
+			return( 1 );
+		}
+		else {
+			cmp = lhs.getOptionalPasswordResetUuid6().compareTo( rhs.getOptionalPasswordResetUuid6() );
+			if( cmp != 0 ) {
+				return( cmp );
+			}
+		}
+		return( 0 );
+	};
+
+	/**
+	 *	Orders SecUser instances by the DefDevIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecSecUser> COMPARE_BY_DEFDEVIDX = ( lhs, rhs ) -> {
+		int cmp;
+		if( lhs.getOptionalDfltDevUserId() == null ) {
+			if( rhs.getOptionalDfltDevUserId() != null ) {
+				return( -1 );
+			}
+		}
+		else if( rhs.getOptionalDfltDevUserId() == null ) {
+			return( 1 );
+		}
+		else {
+			cmp = lhs.getOptionalDfltDevUserId().compareTo( rhs.getOptionalDfltDevUserId() );
+			if( cmp != 0 ) {
+				return( cmp );
+			}
+		}
+		if( lhs.getOptionalDfltDevName() == null ) {
+			if( rhs.getOptionalDfltDevName() != null ) {
+				return( -1 );
+			}
+		}
+		else if( rhs.getOptionalDfltDevName() == null ) {
+			return( 1 );
+		}
+		else {
+			cmp = lhs.getOptionalDfltDevName().compareTo( rhs.getOptionalDfltDevName() );
+			if( cmp != 0 ) {
+				return( cmp );
+			}
+		}
+		return( 0 );
+	};
+
+	/**
+	 *	Orders DefDevIdx keys.
+	 */
+	public static final Comparator<ICFSecSecUserByDefDevIdxKey> COMPARE_DEFDEVIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		if( lhs.getOptionalDfltDevUserId() == null ) {
+			if( rhs.getOptionalDfltDevUserId() != null ) {
+				return( -1 );
+			}
+		}
+		else if( rhs.getOptionalDfltDevUserId() == null ) {
+			return( 1 );
+		}
+		else {
+			cmp = lhs.getOptionalDfltDevUserId().compareTo( rhs.getOptionalDfltDevUserId() );
+			if( cmp != 0 ) {
+				return( cmp );
+			}
+		}
+		if( lhs.getOptionalDfltDevName() == null ) {
+			if( rhs.getOptionalDfltDevName() != null ) {
+				return( -1 );
+			}
+		}
+		else if( rhs.getOptionalDfltDevName() == null ) {
+			return( 1 );
+		}
+		else {
+			cmp = lhs.getOptionalDfltDevName().compareTo( rhs.getOptionalDfltDevName() );
+			if( cmp != 0 ) {
+				return( cmp );
+			}
+		}
+		return( 0 );
+	};
+
 	public CFSecBuffSecUserDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
 	@Override
 	public ICFSecSecUserHPKey newHPKey() {
 		ICFSecSecUserHPKey hpkey =
-			new CFSecBuffSecUserHPKey();
+			new CFSecBuffSecUserHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -72,7 +299,7 @@ public class CFSecBuffSecUserDefaultFactory
 			return( (CFSecBuffSecUserHPKey)key );
 		}
 		else {
-			CFSecBuffSecUserHPKey mapped = new CFSecBuffSecUserHPKey();
+			CFSecBuffSecUserHPKey mapped = new CFSecBuffSecUserHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -103,6 +330,10 @@ public class CFSecBuffSecUserDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecUserByULoginIdxKey getProbeByULoginIdxKey() {
+		return( probeByULoginIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecUserByEMConfIdxKey newByEMConfIdxKey() {
 		ICFSecSecUserByEMConfIdxKey key =
@@ -124,6 +355,10 @@ public class CFSecBuffSecUserDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecUserByEMConfIdxKey getProbeByEMConfIdxKey() {
+		return( probeByEMConfIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecUserByPwdResetIdxKey newByPwdResetIdxKey() {
 		ICFSecSecUserByPwdResetIdxKey key =
@@ -145,6 +380,10 @@ public class CFSecBuffSecUserDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecUserByPwdResetIdxKey getProbeByPwdResetIdxKey() {
+		return( probeByPwdResetIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecUserByDefDevIdxKey newByDefDevIdxKey() {
 		ICFSecSecUserByDefDevIdxKey key =
@@ -167,10 +406,14 @@ public class CFSecBuffSecUserDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSecUserByDefDevIdxKey getProbeByDefDevIdxKey() {
+		return( probeByDefDevIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSecUser newRec() {
 		ICFSecSecUser rec =
-			new CFSecBuffSecUser();
+			new CFSecBuffSecUser( recStamp );
 		return( rec );
 	}
 
@@ -182,16 +425,56 @@ public class CFSecBuffSecUserDefaultFactory
 			return( (CFSecBuffSecUser)rec );
 		}
 		else {
-			CFSecBuffSecUser mapped = new CFSecBuffSecUser();
+			CFSecBuffSecUser mapped = new CFSecBuffSecUser( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffSecUser cloneRec( ICFSecSecUser rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffSecUser ) {
+			return( ( (CFSecBuffSecUser)rec ).clone() );
+		}
+		else {
+			CFSecBuffSecUser mapped = new CFSecBuffSecUser( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffSecUser[] cloneRecs( ICFSecSecUser[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffSecUser[] retList = new CFSecBuffSecUser[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecSecUserH newHRec() {
 		ICFSecSecUserH hrec =
-			new CFSecBuffSecUserH();
+			new CFSecBuffSecUserH( recStamp );
 		return( hrec );
 	}
 
@@ -203,9 +486,49 @@ public class CFSecBuffSecUserDefaultFactory
 			return( (CFSecBuffSecUserH)hrec );
 		}
 		else {
-			CFSecBuffSecUserH mapped = new CFSecBuffSecUserH();
+			CFSecBuffSecUserH mapped = new CFSecBuffSecUserH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffSecUserH cloneHRec( ICFSecSecUserH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffSecUserH ) {
+			return( ( (CFSecBuffSecUserH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffSecUserH mapped = new CFSecBuffSecUserH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffSecUserH[] cloneHRecs( ICFSecSecUserH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffSecUserH[] retList = new CFSecBuffSecUserH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
@@ -51,13 +51,13 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffSecUserH
-    implements ICFSecSecUserH, Comparable<Object>, Serializable
+    implements ICFSecSecUserH, Comparable<Object>, Serializable, Cloneable
 {
     protected CFSecBuffSecUserHPKey pkey;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecSecUser.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecSecUser.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
 	protected String requiredLoginId;
 	protected String requiredEMailAddress;
 	protected CFLibUuid6 optionalEMailConfirmUuid6;
@@ -66,15 +66,44 @@ public class CFSecBuffSecUserH
 	protected String requiredPasswordHash;
 	protected CFLibUuid6 optionalPasswordResetUuid6;
 
+    protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecSecUser.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecSecUser.S_INIT_UPDATED_BY);
+
     public CFSecBuffSecUserH() {
+		this( CFSecBuffRecStamp.EAGER );
+    }
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+    public CFSecBuffSecUserH( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffSecUserH", 1, "stamp" );
+		}
             // The primary key member attributes are initialized on construction
-            pkey = new CFSecBuffSecUserHPKey();
+            pkey = new CFSecBuffSecUserHPKey( stamp );
 		requiredLoginId = ICFSecSecUser.LOGINID_INIT_VALUE;
 		requiredEMailAddress = ICFSecSecUser.EMAILADDRESS_INIT_VALUE;
 		optionalEMailConfirmUuid6 = null;
 		optionalDfltDevUserId = CFLibDbKeyHash256.nullGet();
 		optionalDfltDevName = null;
 		optionalPasswordResetUuid6 = null;
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
     }
 
     @Override
@@ -93,10 +122,15 @@ public class CFSecBuffSecUserH
             throw new CFLibNullArgumentException(getClass(), "setCreatedByUserId", 1, "value");
         }
         createdByUserId = value;
+        cachedHashCode = 0;
     }
 
     @Override
     public LocalDateTime getCreatedAt() {
+        if( pendingCreatedAt != null ) {
+            createdAt = pendingCreatedAt.now();
+            pendingCreatedAt = null;
+        }
         return( createdAt );
     }
 
@@ -106,6 +140,8 @@ public class CFSecBuffSecUserH
             throw new CFLibNullArgumentException(getClass(), "setCreatedAt", 1, "value");
         }
         createdAt = value;
+        pendingCreatedAt = null;
+        cachedHashCode = 0;
     }
 
     @Override
@@ -119,10 +155,15 @@ public class CFSecBuffSecUserH
             throw new CFLibNullArgumentException(getClass(), "setUpdatedByUserId", 1, "value");
         }
         updatedByUserId = value;
+        cachedHashCode = 0;
     }
 
     @Override
     public LocalDateTime getUpdatedAt() {
+        if( pendingUpdatedAt != null ) {
+            updatedAt = pendingUpdatedAt.now();
+            pendingUpdatedAt = null;
+        }
         return( updatedAt );
     }
 
@@ -132,6 +173,8 @@ public class CFSecBuffSecUserH
             throw new CFLibNullArgumentException(getClass(), "setUpdatedAt", 1, "value");
         }
         updatedAt = value;
+        pendingUpdatedAt = null;
+        cachedHashCode = 0;
     }
 
     @Override
@@ -149,6 +192,7 @@ public class CFSecBuffSecUserH
                 throw new CFLibUnsupportedClassException(getClass(), "setPKey", "pkey", pkey, "CFSecBuffSecUserHPKey");
             }
         }
+        cachedHashCode = 0;
     }
 
     @Override
@@ -233,6 +277,7 @@ public class CFSecBuffSecUserH
 				32 );
 		}
 		requiredLoginId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -257,6 +302,7 @@ public class CFSecBuffSecUserH
 				512 );
 		}
 		requiredEMailAddress = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -267,6 +313,7 @@ public class CFSecBuffSecUserH
 	@Override
 	public void setOptionalEMailConfirmUuid6( CFLibUuid6 value ) {
 		optionalEMailConfirmUuid6 = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -277,6 +324,7 @@ public class CFSecBuffSecUserH
 	@Override
 	public void setOptionalDfltDevUserId( CFLibDbKeyHash256 value ) {
 		optionalDfltDevUserId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -295,6 +343,7 @@ public class CFSecBuffSecUserH
 				127 );
 		}
 		optionalDfltDevName = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -319,6 +368,7 @@ public class CFSecBuffSecUserH
 				256 );
 		}
 		requiredPasswordHash = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -329,6 +379,7 @@ public class CFSecBuffSecUserH
 	@Override
 	public void setOptionalPasswordResetUuid6( CFLibUuid6 value ) {
 		optionalPasswordResetUuid6 = value;
+		cachedHashCode = 0;
 	}
 
     @Override
@@ -699,29 +750,20 @@ public class CFSecBuffSecUserH
     
     @Override
     public int hashCode() {
-        int hashCode = pkey.hashCode();
-		if( getRequiredLoginId() != null ) {
-			hashCode = hashCode + getRequiredLoginId().hashCode();
-		}
-		if( getRequiredEMailAddress() != null ) {
-			hashCode = hashCode + getRequiredEMailAddress().hashCode();
-		}
-		if( getOptionalEMailConfirmUuid6() != null ) {
-			hashCode = hashCode + getOptionalEMailConfirmUuid6().hashCode();
-		}
-		if( getOptionalDfltDevUserId() != null ) {
-			hashCode = hashCode + getOptionalDfltDevUserId().hashCode();
-		}
-		if( getOptionalDfltDevName() != null ) {
-			hashCode = hashCode + getOptionalDfltDevName().hashCode();
-		}
-		if( getRequiredPasswordHash() != null ) {
-			hashCode = hashCode + getRequiredPasswordHash().hashCode();
-		}
-		if( getOptionalPasswordResetUuid6() != null ) {
-			hashCode = hashCode + getOptionalPasswordResetUuid6().hashCode();
-		}
-        return( hashCode & 0x7fffffff );
+        int hashCode = cachedHashCode;
+        if( hashCode == 0 ) {
+            hashCode = CFSecBuffHash.SEED;
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredLoginId() );
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredEMailAddress() );
+            hashCode = CFSecBuffHash.mix( hashCode, getOptionalEMailConfirmUuid6() );
+            hashCode = CFSecBuffHash.mix( hashCode, getOptionalDfltDevUserId() );
+            hashCode = CFSecBuffHash.mix( hashCode, getOptionalDfltDevName() );
+            hashCode = CFSecBuffHash.mix( hashCode, getRequiredPasswordHash() );
+            hashCode = CFSecBuffHash.mix( hashCode, getOptionalPasswordResetUuid6() );
+            cachedHashCode = hashCode;
+        }
+        hashCode = CFSecBuffHash.mix( hashCode, pkey.hashCode() );
+        return( CFSecBuffHash.finish( hashCode, 8 ) );
     }
 
     @Override
@@ -1092,6 +1134,46 @@ public class CFSecBuffSecUserH
                 null );
         }
     }
+
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+    protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+    }
+
+    private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+    }
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+    public CFSecBuffSecUserH clone() {
+		resolvePendingStamps();
+		CFSecBuffSecUserH copy;
+		try {
+			copy = (CFSecBuffSecUserH)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.pkey = pkey.clone();
+		return( copy );
+    }
+
 	@Override
     public void set( ICFSecSecUser src ) {
 		setSecUser( src );
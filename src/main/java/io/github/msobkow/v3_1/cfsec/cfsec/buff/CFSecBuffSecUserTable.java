@@ -0,0 +1,734 @@
+// Description: Java 25 in-memory concurrent implementation of a SecUser table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffSecUserTable in-memory implementation of ICFSecSecUserTable for SecUser.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ */
+public class CFSecBuffSecUserTable
+	implements ICFSecSecUserTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecUser> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecUserByULoginIdxKey, CFSecBuffSecUser> dictByULoginIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecUserByEMConfIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecUser>> dictByEMConfIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecUserByPwdResetIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecUser>> dictByPwdResetIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffSecUserByDefDevIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecUser>> dictByDefDevIdx
+		= new ConcurrentHashMap<>();
+
+	public CFSecBuffSecUserTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Copy the attributes of a SecUser by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffSecUser holding the same attribute values.
+	 */
+	protected CFSecBuffSecUser copyRec( ICFSecSecUser src ) {
+		if( src instanceof CFSecBuffSecUser ) {
+			return( ( (CFSecBuffSecUser)src ).clone() );
+		}
+		CFSecBuffSecUser rec = new CFSecBuffSecUser( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredSecUserId( src.getRequiredSecUserId() );
+		rec.setOptionalLookupDefDev( src.getOptionalDfltDevUserId(), src.getOptionalDfltDevName() );
+		rec.setRequiredLoginId( src.getRequiredLoginId() );
+		rec.setRequiredEMailAddress( src.getRequiredEMailAddress() );
+		rec.setOptionalEMailConfirmUuid6( src.getOptionalEMailConfirmUuid6() );
+		rec.setRequiredPasswordHash( src.getRequiredPasswordHash() );
+		rec.setOptionalPasswordResetUuid6( src.getOptionalPasswordResetUuid6() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecSecUser[] copyRecs( Collection<CFSecBuffSecUser> src ) {
+		ICFSecSecUser[] retList = new ICFSecSecUser[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffSecUser cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected CFLibDbKeyHash256 pkeyOf( ICFSecSecUser rec ) {
+		return( rec.getRequiredSecUserId() );
+	}
+
+	protected CFSecBuffSecUserByULoginIdxKey newByULoginIdxKey( String argLoginId ) {
+		CFSecBuffSecUserByULoginIdxKey key = new CFSecBuffSecUserByULoginIdxKey();
+		key.setRequiredLoginId( argLoginId );
+		return( key );
+	}
+
+	protected CFSecBuffSecUserByULoginIdxKey newByULoginIdxKey( ICFSecSecUser rec ) {
+		return( newByULoginIdxKey( rec.getRequiredLoginId() ) );
+	}
+
+	protected CFSecBuffSecUserByULoginIdxKey probeByULoginIdxKey( String argLoginId ) {
+		CFSecBuffSecUserByULoginIdxKey key = CFSecBuffSecUserDefaultFactory.getProbeByULoginIdxKey();
+		key.setRequiredLoginId( argLoginId );
+		return( key );
+	}
+
+	protected CFSecBuffSecUserByEMConfIdxKey newByEMConfIdxKey( CFLibUuid6 argEMailConfirmUuid6 ) {
+		CFSecBuffSecUserByEMConfIdxKey key = new CFSecBuffSecUserByEMConfIdxKey();
+		key.setOptionalEMailConfirmUuid6( argEMailConfirmUuid6 );
+		return( key );
+	}
+
+	protected CFSecBuffSecUserByEMConfIdxKey newByEMConfIdxKey( ICFSecSecUser rec ) {
+		return( newByEMConfIdxKey( rec.getOptionalEMailConfirmUuid6() ) );
+	}
+
+	protected CFSecBuffSecUserByEMConfIdxKey probeByEMConfIdxKey( CFLibUuid6 argEMailConfirmUuid6 ) {
+		CFSecBuffSecUserByEMConfIdxKey key = CFSecBuffSecUserDefaultFactory.getProbeByEMConfIdxKey();
+		key.setOptionalEMailConfirmUuid6( argEMailConfirmUuid6 );
+		return( key );
+	}
+
+	protected CFSecBuffSecUserByPwdResetIdxKey newByPwdResetIdxKey( CFLibUuid6 argPasswordResetUuid6 ) {
+		CFSecBuffSecUserByPwdResetIdxKey key = new CFSecBuffSecUserByPwdResetIdxKey();
+		key.setOptionalPasswordResetUuid6( argPasswordResetUuid6 );
+		return( key );
+	}
+
+	protected CFSecBuffSecUserByPwdResetIdxKey newByPwdResetIdxKey( ICFSecSecUser rec ) {
+		return( newByPwdResetIdxKey( rec.getOptionalPasswordResetUuid6() ) );
+	}
+
+	protected CFSecBuffSecUserByPwdResetIdxKey probeByPwdResetIdxKey( CFLibUuid6 argPasswordResetUuid6 ) {
+		CFSecBuffSecUserByPwdResetIdxKey key = CFSecBuffSecUserDefaultFactory.getProbeByPwdResetIdxKey();
+		key.setOptionalPasswordResetUuid6( argPasswordResetUuid6 );
+		return( key );
+	}
+
+	protected CFSecBuffSecUserByDefDevIdxKey newByDefDevIdxKey( CFLibDbKeyHash256 argDfltDevUserId, String argDfltDevName ) {
+		CFSecBuffSecUserByDefDevIdxKey key = new CFSecBuffSecUserByDefDevIdxKey();
+		key.setOptionalDfltDevUserId( argDfltDevUserId );
+		key.setOptionalDfltDevName( argDfltDevName );
+		return( key );
+	}
+
+	protected CFSecBuffSecUserByDefDevIdxKey newByDefDevIdxKey( ICFSecSecUser rec ) {
+		return( newByDefDevIdxKey( rec.getOptionalDfltDevUserId(), rec.getOptionalDfltDevName() ) );
+	}
+
+	protected CFSecBuffSecUserByDefDevIdxKey probeByDefDevIdxKey( CFLibDbKeyHash256 argDfltDevUserId, String argDfltDevName ) {
+		CFSecBuffSecUserByDefDevIdxKey key = CFSecBuffSecUserDefaultFactory.getProbeByDefDevIdxKey();
+		key.setOptionalDfltDevUserId( argDfltDevUserId );
+		key.setOptionalDfltDevName( argDfltDevName );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffSecUser rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByULoginIdx.put( newByULoginIdxKey( rec ), rec );
+		dictByEMConfIdx.computeIfAbsent( newByEMConfIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByPwdResetIdx.computeIfAbsent( newByPwdResetIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByDefDevIdx.computeIfAbsent( newByDefDevIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+	}
+
+	protected void unindexRec( CFSecBuffSecUser rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByULoginIdx.remove( newByULoginIdxKey( rec ), rec );
+		removeFromDupIndex( dictByEMConfIdx, newByEMConfIdxKey( rec ), pkey );
+		removeFromDupIndex( dictByPwdResetIdx, newByPwdResetIdxKey( rec ), pkey );
+		removeFromDupIndex( dictByDefDevIdx, newByDefDevIdxKey( rec ), pkey );
+		dictByPKey.remove( pkey, rec );
+	}
+
+	protected void reindexRec( CFSecBuffSecUser existing, CFSecBuffSecUser rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffSecUserByULoginIdxKey oldKey = newByULoginIdxKey( existing );
+			CFSecBuffSecUserByULoginIdxKey newKey = newByULoginIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByULoginIdx.remove( oldKey, existing );
+			}
+			dictByULoginIdx.put( newKey, rec );
+		}
+		{
+			CFSecBuffSecUserByEMConfIdxKey oldKey = newByEMConfIdxKey( existing );
+			CFSecBuffSecUserByEMConfIdxKey newKey = newByEMConfIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByEMConfIdx, oldKey, pkey );
+			}
+			dictByEMConfIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffSecUserByPwdResetIdxKey oldKey = newByPwdResetIdxKey( existing );
+			CFSecBuffSecUserByPwdResetIdxKey newKey = newByPwdResetIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByPwdResetIdx, oldKey, pkey );
+			}
+			dictByPwdResetIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffSecUserByDefDevIdxKey oldKey = newByDefDevIdxKey( existing );
+			CFSecBuffSecUserByDefDevIdxKey newKey = newByDefDevIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByDefDevIdx, oldKey, pkey );
+			}
+			dictByDefDevIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+	}
+
+	protected static <K> void removeFromDupIndex( ConcurrentHashMap<K, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecUser>> dict, K key, CFLibDbKeyHash256 pkey ) {
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecUser> subdict = dict.get( key );
+		if( subdict != null ) {
+			subdict.remove( pkey );
+			if( subdict.isEmpty() ) {
+				dict.remove( key, subdict );
+			}
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffSecUser rec, CFSecBuffSecUser existing ) {
+		{
+			CFSecBuffSecUserByULoginIdxKey key = newByULoginIdxKey( rec );
+			CFSecBuffSecUser conflict = dictByULoginIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"SecUserULoginIdx",
+					key );
+			}
+		}
+	}
+
+	@Override
+	public ICFSecSecUser createSecUser( ICFSecAuthorization Authorization,
+		ICFSecSecUser rec )
+	{
+		final String S_ProcName = "createSecUser";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffSecUser stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecSecUser readDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		if( PKey == null ) {
+			return( null );
+		}
+		CFSecBuffSecUser rec = dictByPKey.get( PKey );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecUser lockDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecUser[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecSecUser readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		if( argSecUserId == null ) {
+			return( null );
+		}
+		CFSecBuffSecUser rec = dictByPKey.get( argSecUserId );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecUser readDerivedByULoginIdx( ICFSecAuthorization Authorization,
+		String argLoginId )
+	{
+		CFSecBuffSecUser rec = dictByULoginIdx.get( probeByULoginIdxKey( argLoginId ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecSecUser[] readDerivedByEMConfIdx( ICFSecAuthorization Authorization,
+		CFLibUuid6 argEMailConfirmUuid6 )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecUser> subdict = dictByEMConfIdx.get( probeByEMConfIdxKey( argEMailConfirmUuid6 ) );
+		if( subdict == null ) {
+			return( new ICFSecSecUser[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the SecUser instances for several EMConfIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argEMailConfirmUuid6s	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibUuid6, ICFSecSecUser[]> readDerivedByEMConfIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibUuid6> argEMailConfirmUuid6s )
+	{
+		Map<CFLibUuid6, ICFSecSecUser[]> retMap = new HashMap<>( Math.max( 16, argEMailConfirmUuid6s.size() * 2 ) );
+		for( CFLibUuid6 argEMailConfirmUuid6 : argEMailConfirmUuid6s ) {
+			if( ( argEMailConfirmUuid6 == null ) || retMap.containsKey( argEMailConfirmUuid6 ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecUser> subdict = dictByEMConfIdx.get( probeByEMConfIdxKey( argEMailConfirmUuid6 ) );
+			if( subdict == null ) {
+				retMap.put( argEMailConfirmUuid6, new ICFSecSecUser[0] );
+			}
+			else {
+				retMap.put( argEMailConfirmUuid6, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecSecUser[] readDerivedByPwdResetIdx( ICFSecAuthorization Authorization,
+		CFLibUuid6 argPasswordResetUuid6 )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecUser> subdict = dictByPwdResetIdx.get( probeByPwdResetIdxKey( argPasswordResetUuid6 ) );
+		if( subdict == null ) {
+			return( new ICFSecSecUser[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the SecUser instances for several PwdResetIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argPasswordResetUuid6s	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibUuid6, ICFSecSecUser[]> readDerivedByPwdResetIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibUuid6> argPasswordResetUuid6s )
+	{
+		Map<CFLibUuid6, ICFSecSecUser[]> retMap = new HashMap<>( Math.max( 16, argPasswordResetUuid6s.size() * 2 ) );
+		for( CFLibUuid6 argPasswordResetUuid6 : argPasswordResetUuid6s ) {
+			if( ( argPasswordResetUuid6 == null ) || retMap.containsKey( argPasswordResetUuid6 ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecUser> subdict = dictByPwdResetIdx.get( probeByPwdResetIdxKey( argPasswordResetUuid6 ) );
+			if( subdict == null ) {
+				retMap.put( argPasswordResetUuid6, new ICFSecSecUser[0] );
+			}
+			else {
+				retMap.put( argPasswordResetUuid6, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecSecUser[] readDerivedByDefDevIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argDfltDevUserId,
+		String argDfltDevName )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecUser> subdict = dictByDefDevIdx.get( probeByDefDevIdxKey( argDfltDevUserId, argDfltDevName ) );
+		if( subdict == null ) {
+			return( new ICFSecSecUser[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	@Override
+	public ICFSecSecUser readRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecUser lockRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecSecUser[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecSecUser readRecByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		return( readDerivedByIdIdx( Authorization, argSecUserId ) );
+	}
+
+	@Override
+	public ICFSecSecUser readRecByULoginIdx( ICFSecAuthorization Authorization,
+		String argLoginId )
+	{
+		return( readDerivedByULoginIdx( Authorization, argLoginId ) );
+	}
+
+	@Override
+	public ICFSecSecUser[] readRecByEMConfIdx( ICFSecAuthorization Authorization,
+		CFLibUuid6 argEMailConfirmUuid6 )
+	{
+		return( readDerivedByEMConfIdx( Authorization, argEMailConfirmUuid6 ) );
+	}
+
+	@Override
+	public ICFSecSecUser[] readRecByPwdResetIdx( ICFSecAuthorization Authorization,
+		CFLibUuid6 argPasswordResetUuid6 )
+	{
+		return( readDerivedByPwdResetIdx( Authorization, argPasswordResetUuid6 ) );
+	}
+
+	@Override
+	public ICFSecSecUser[] readRecByDefDevIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argDfltDevUserId,
+		String argDfltDevName )
+	{
+		return( readDerivedByDefDevIdx( Authorization, argDfltDevUserId, argDfltDevName ) );
+	}
+
+	@Override
+	public ICFSecSecUser updateSecUser( ICFSecAuthorization Authorization,
+		ICFSecSecUser rec )
+	{
+		final String S_ProcName = "updateSecUser";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffSecUser stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffSecUser existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"SecUser",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteSecUser( ICFSecAuthorization Authorization,
+		ICFSecSecUser rec )
+	{
+		final String S_ProcName = "deleteSecUser";
+		if( rec == null ) {
+			return;
+		}
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffSecUser existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffSecUser existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored SecUser under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffSecUser> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffSecUser> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffSecUser rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a SecUser exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffSecUser rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffSecUser stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteSecUserByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		if( argSecUserId == null ) {
+			return;
+		}
+		deleteStored( dictByPKey.get( argSecUserId ) );
+	}
+
+	@Override
+	public void deleteSecUserByULoginIdx( ICFSecAuthorization Authorization,
+		String argLoginId )
+	{
+		deleteStored( dictByULoginIdx.get( probeByULoginIdxKey( argLoginId ) ) );
+	}
+
+	@Override
+	public void deleteSecUserByULoginIdx( ICFSecAuthorization Authorization,
+		ICFSecSecUserByULoginIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecUserByULoginIdx( Authorization, argKey.getRequiredLoginId() );
+	}
+
+	@Override
+	public void deleteSecUserByEMConfIdx( ICFSecAuthorization Authorization,
+		CFLibUuid6 argEMailConfirmUuid6 )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecUser> subdict = dictByEMConfIdx.get( probeByEMConfIdxKey( argEMailConfirmUuid6 ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffSecUser existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteSecUserByEMConfIdx( ICFSecAuthorization Authorization,
+		ICFSecSecUserByEMConfIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecUserByEMConfIdx( Authorization, argKey.getOptionalEMailConfirmUuid6() );
+	}
+
+	@Override
+	public void deleteSecUserByPwdResetIdx( ICFSecAuthorization Authorization,
+		CFLibUuid6 argPasswordResetUuid6 )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecUser> subdict = dictByPwdResetIdx.get( probeByPwdResetIdxKey( argPasswordResetUuid6 ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffSecUser existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteSecUserByPwdResetIdx( ICFSecAuthorization Authorization,
+		ICFSecSecUserByPwdResetIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecUserByPwdResetIdx( Authorization, argKey.getOptionalPasswordResetUuid6() );
+	}
+
+	@Override
+	public void deleteSecUserByDefDevIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argDfltDevUserId,
+		String argDfltDevName )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffSecUser> subdict = dictByDefDevIdx.get( probeByDefDevIdxKey( argDfltDevUserId, argDfltDevName ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffSecUser existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteSecUserByDefDevIdx( ICFSecAuthorization Authorization,
+		ICFSecSecUserByDefDevIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteSecUserByDefDevIdx( Authorization, argKey.getOptionalDfltDevUserId(), argKey.getOptionalDfltDevName() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
@@ -51,25 +51,102 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffService
-	implements ICFSecService, Comparable<Object>, Serializable
+	implements ICFSecService, Comparable<Object>, Serializable, Cloneable
 {
 	protected CFLibDbKeyHash256 requiredServiceId;
 	protected int requiredRevision;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecService.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecService.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
 	protected CFLibDbKeyHash256 requiredClusterId;
 	protected CFLibDbKeyHash256 requiredHostNodeId;
 	protected CFLibDbKeyHash256 requiredServiceTypeId;
 	protected short requiredHostPort;
 
+	protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecService.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecService.S_INIT_UPDATED_BY);
+	protected transient CFSecBuffNavigationCache navigationCache = null;
+
+	protected static final int NAV_REQUIREDOWNERCLUSTER = 0;
+	protected static final int NAV_OPTIONALCONTAINERHOST = 1;
+	protected static final int NAV_OPTIONALPARENTSERVICETYPE = 2;
+	protected static final int NAV_SLOT_COUNT = 3;
+
 	public CFSecBuffService() {
-		requiredServiceId = CFLibDbKeyHash256.fromHex( ICFSecService.SERVICEID_INIT_VALUE.toString() );
-		requiredClusterId = CFLibDbKeyHash256.fromHex( ICFSecService.CLUSTERID_INIT_VALUE.toString() );
-		requiredHostNodeId = CFLibDbKeyHash256.fromHex( ICFSecService.HOSTNODEID_INIT_VALUE.toString() );
-		requiredServiceTypeId = CFLibDbKeyHash256.fromHex( ICFSecService.SERVICETYPEID_INIT_VALUE.toString() );
+		this( CFSecBuffRecStamp.EAGER );
+	}
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+	public CFSecBuffService( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffService", 1, "stamp" );
+		}
+		requiredServiceId = ICFSecService.SERVICEID_INIT_VALUE;
+		requiredClusterId = ICFSecService.CLUSTERID_INIT_VALUE;
+		requiredHostNodeId = ICFSecService.HOSTNODEID_INIT_VALUE;
+		requiredServiceTypeId = ICFSecService.SERVICETYPEID_INIT_VALUE;
 		requiredHostPort = ICFSecService.HOSTPORT_INIT_VALUE;
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
+	}
+
+	/**
+	 *	Enable or disable caching of the relationship navigation getters of this
+	 *	instance.  While enabled, each navigation result is reused until the table
+	 *	it was read from reports a modification, or until an attribute of this
+	 *	instance is changed.  Tables that do not publish a modification count are
+	 *	always read.  Cached objects are shared between calls, so callers must treat
+	 *	them as read-only.
+	 *
+	 *	@param	value	true to cache navigation results, false to discard the cache.
+	 */
+	public void setNavigationCacheEnabled( boolean value ) {
+		if( value ) {
+			if( navigationCache == null ) {
+				navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+			}
+		}
+		else {
+			navigationCache = null;
+		}
+	}
+
+	public boolean isNavigationCacheEnabled() {
+		return( navigationCache != null );
+	}
+
+	protected long getNavigationStamp( Object targetTable ) {
+		if( navigationCache == null ) {
+			return( 0L );
+		}
+		return( CFSecBuffNavigationCache.stampOf( targetTable ) );
+	}
+
+	protected void primeNavigation( int slot, long navStamp, Object value ) {
+		if( navStamp == 0L ) {
+			return;
+		}
+		if( navigationCache == null ) {
+			navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+		}
+		navigationCache.put( slot, navStamp, value );
 	}
 
 	@Override
@@ -98,6 +175,8 @@ public class CFSecBuffService
 				"value" );
 		}
 		requiredServiceId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -108,16 +187,25 @@ public class CFSecBuffService
 	@Override
 	public void setCreatedByUserId( CFLibDbKeyHash256 value ) {
 		createdByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getCreatedAt() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
 		return( createdAt );
 	}
 
 	@Override
 	public void setCreatedAt( LocalDateTime value ) {
 		createdAt = value;
+		pendingCreatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -128,16 +216,25 @@ public class CFSecBuffService
 	@Override
 	public void setUpdatedByUserId( CFLibDbKeyHash256 value ) {
 		updatedByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getUpdatedAt() {
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
 		return( updatedAt );
 	}
 
 	@Override
 	public void setUpdatedAt( LocalDateTime value ) {
 		updatedAt = value;
+		pendingUpdatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 	@Override
 	public int getRequiredRevision() {
@@ -147,6 +244,8 @@ public class CFSecBuffService
 	@Override
 	public void setRequiredRevision( int value ) {
 		requiredRevision = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -164,7 +263,17 @@ public class CFSecBuffService
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setRequiredOwnerCluster", 0, "ICFSecSchema.getBackingCFSec().getTableCluster()");
 		}
-		ICFSecCluster targetRec = targetTable.readDerived(null, getRequiredClusterId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecCluster targetRec;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_REQUIREDOWNERCLUSTER, navStamp ) ) {
+			targetRec = (ICFSecCluster)navigationCache.getValue( NAV_REQUIREDOWNERCLUSTER );
+		}
+		else {
+			targetRec = targetTable.readDerived(null, getRequiredClusterId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_REQUIREDOWNERCLUSTER, navStamp, targetRec );
+			}
+		}
 		return(targetRec);
 	}
 	@Override
@@ -175,11 +284,15 @@ public class CFSecBuffService
 		else {
 			requiredClusterId = argObj.getRequiredId();
 		}
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public void setRequiredOwnerCluster(CFLibDbKeyHash256 argClusterId) {
 		requiredClusterId = argClusterId;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -192,7 +305,17 @@ public class CFSecBuffService
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalContainerHost", 0, "ICFSecSchema.getBackingCFSec().getTableHostNode()");
 		}
-		ICFSecHostNode targetRec = targetTable.readDerived(null, getRequiredHostNodeId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecHostNode targetRec;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALCONTAINERHOST, navStamp ) ) {
+			targetRec = (ICFSecHostNode)navigationCache.getValue( NAV_OPTIONALCONTAINERHOST );
+		}
+		else {
+			targetRec = targetTable.readDerived(null, getRequiredHostNodeId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALCONTAINERHOST, navStamp, targetRec );
+			}
+		}
 		return(targetRec);
 	}
 	@Override
@@ -203,11 +326,15 @@ public class CFSecBuffService
 		else {
 			requiredHostNodeId = argObj.getRequiredHostNodeId();
 		}
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public void setOptionalContainerHost(CFLibDbKeyHash256 argHostNodeId) {
 		requiredHostNodeId = argHostNodeId;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -220,7 +347,17 @@ public class CFSecBuffService
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setOptionalParentServiceType", 0, "ICFSecSchema.getBackingCFSec().getTableServiceType()");
 		}
-		ICFSecServiceType targetRec = targetTable.readDerived(null, getRequiredServiceTypeId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecServiceType targetRec;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_OPTIONALPARENTSERVICETYPE, navStamp ) ) {
+			targetRec = (ICFSecServiceType)navigationCache.getValue( NAV_OPTIONALPARENTSERVICETYPE );
+		}
+		else {
+			targetRec = targetTable.readDerived(null, getRequiredServiceTypeId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_OPTIONALPARENTSERVICETYPE, navStamp, targetRec );
+			}
+		}
 		return(targetRec);
 	}
 	@Override
@@ -231,11 +368,15 @@ public class CFSecBuffService
 		else {
 			requiredServiceTypeId = argObj.getRequiredServiceTypeId();
 		}
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public void setOptionalParentServiceType(CFLibDbKeyHash256 argServiceTypeId) {
 		requiredServiceTypeId = argServiceTypeId;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -269,6 +410,8 @@ public class CFSecBuffService
 				ICFSecService.HOSTPORT_MIN_VALUE );
 		}
 		requiredHostPort = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -592,17 +735,22 @@ public class CFSecBuffService
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getCreatedByUserId().hashCode();
-		hashCode = hashCode + getCreatedAt().hashCode();
-		hashCode = hashCode + getUpdatedByUserId().hashCode();
-		hashCode = hashCode + getUpdatedAt().hashCode();
-		hashCode = hashCode + getRequiredServiceId().hashCode();
-		hashCode = hashCode + getRequiredClusterId().hashCode();
-		hashCode = hashCode + getRequiredHostNodeId().hashCode();
-		hashCode = hashCode + getRequiredServiceTypeId().hashCode();
-		hashCode = ( hashCode * 0x10000 ) + getRequiredHostPort();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredServiceId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredClusterId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredHostNodeId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredServiceTypeId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredHostPort() );
+			hashCode = CFSecBuffHash.finish( hashCode, 9 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
@@ -937,6 +1085,45 @@ public class CFSecBuffService
 		}
 	}
 
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+	protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+	}
+
+	private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+	public CFSecBuffService clone() {
+		resolvePendingStamps();
+		CFSecBuffService copy;
+		try {
+			copy = (CFSecBuffService)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.navigationCache = null;
+		return( copy );
+	}
+
 	@Override
 	public void set( ICFSecService src ) {
 		setService( src );
@@ -950,9 +1137,9 @@ public class CFSecBuffService
 		setCreatedAt( src.getCreatedAt() );
 		setUpdatedByUserId( src.getUpdatedByUserId() );
 		setUpdatedAt( src.getUpdatedAt() );
-		setRequiredOwnerCluster(src.getRequiredOwnerCluster());
-		setOptionalContainerHost(src.getOptionalContainerHost());
-		setOptionalParentServiceType(src.getOptionalParentServiceType());
+		setRequiredOwnerCluster(src.getRequiredClusterId());
+		setOptionalContainerHost(src.getRequiredHostNodeId());
+		setOptionalParentServiceType(src.getRequiredServiceTypeId());
 		setRequiredHostPort(src.getRequiredHostPort());
 	}
 
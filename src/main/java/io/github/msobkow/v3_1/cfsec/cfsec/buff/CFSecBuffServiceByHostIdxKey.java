@@ -54,8 +54,10 @@ public class CFSecBuffServiceByHostIdxKey
 	implements ICFSecServiceByHostIdxKey, Comparable<Object>, Serializable
 {
 	protected CFLibDbKeyHash256 requiredHostNodeId;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffServiceByHostIdxKey() {
-		requiredHostNodeId = CFLibDbKeyHash256.fromHex( ICFSecService.HOSTNODEID_INIT_VALUE.toString() );
+		requiredHostNodeId = ICFSecService.HOSTNODEID_INIT_VALUE;
 	}
 
 	@Override
@@ -72,6 +74,7 @@ public class CFSecBuffServiceByHostIdxKey
 				"value" );
 		}
 		requiredHostNodeId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -124,9 +127,14 @@ public class CFSecBuffServiceByHostIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredHostNodeId().hashCode();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredHostNodeId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
@@ -54,8 +54,10 @@ public class CFSecBuffServiceByTypeIdxKey
 	implements ICFSecServiceByTypeIdxKey, Comparable<Object>, Serializable
 {
 	protected CFLibDbKeyHash256 requiredServiceTypeId;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffServiceByTypeIdxKey() {
-		requiredServiceTypeId = CFLibDbKeyHash256.fromHex( ICFSecService.SERVICETYPEID_INIT_VALUE.toString() );
+		requiredServiceTypeId = ICFSecService.SERVICETYPEID_INIT_VALUE;
 	}
 
 	@Override
@@ -72,6 +74,7 @@ public class CFSecBuffServiceByTypeIdxKey
 				"value" );
 		}
 		requiredServiceTypeId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -124,9 +127,14 @@ public class CFSecBuffServiceByTypeIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredServiceTypeId().hashCode();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredServiceTypeId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
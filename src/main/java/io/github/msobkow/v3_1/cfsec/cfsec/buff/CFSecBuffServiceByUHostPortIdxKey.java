@@ -56,9 +56,11 @@ public class CFSecBuffServiceByUHostPortIdxKey
 	protected CFLibDbKeyHash256 requiredClusterId;
 	protected CFLibDbKeyHash256 requiredHostNodeId;
 	protected short requiredHostPort;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffServiceByUHostPortIdxKey() {
-		requiredClusterId = CFLibDbKeyHash256.fromHex( ICFSecService.CLUSTERID_INIT_VALUE.toString() );
-		requiredHostNodeId = CFLibDbKeyHash256.fromHex( ICFSecService.HOSTNODEID_INIT_VALUE.toString() );
+		requiredClusterId = ICFSecService.CLUSTERID_INIT_VALUE;
+		requiredHostNodeId = ICFSecService.HOSTNODEID_INIT_VALUE;
 		requiredHostPort = ICFSecService.HOSTPORT_INIT_VALUE;
 	}
 
@@ -76,6 +78,7 @@ public class CFSecBuffServiceByUHostPortIdxKey
 				"value" );
 		}
 		requiredClusterId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -92,6 +95,7 @@ public class CFSecBuffServiceByUHostPortIdxKey
 				"value" );
 		}
 		requiredHostNodeId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -110,6 +114,7 @@ public class CFSecBuffServiceByUHostPortIdxKey
 				ICFSecService.HOSTPORT_MIN_VALUE );
 		}
 		requiredHostPort = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -198,11 +203,16 @@ public class CFSecBuffServiceByUHostPortIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredClusterId().hashCode();
-		hashCode = hashCode + getRequiredHostNodeId().hashCode();
-		hashCode = ( hashCode * 0x10000 ) + getRequiredHostPort();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredClusterId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredHostNodeId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredHostPort() );
+			hashCode = CFSecBuffHash.finish( hashCode, 3 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
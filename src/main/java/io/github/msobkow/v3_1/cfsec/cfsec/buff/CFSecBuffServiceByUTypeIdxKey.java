@@ -56,10 +56,12 @@ public class CFSecBuffServiceByUTypeIdxKey
 	protected CFLibDbKeyHash256 requiredClusterId;
 	protected CFLibDbKeyHash256 requiredHostNodeId;
 	protected CFLibDbKeyHash256 requiredServiceTypeId;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffServiceByUTypeIdxKey() {
-		requiredClusterId = CFLibDbKeyHash256.fromHex( ICFSecService.CLUSTERID_INIT_VALUE.toString() );
-		requiredHostNodeId = CFLibDbKeyHash256.fromHex( ICFSecService.HOSTNODEID_INIT_VALUE.toString() );
-		requiredServiceTypeId = CFLibDbKeyHash256.fromHex( ICFSecService.SERVICETYPEID_INIT_VALUE.toString() );
+		requiredClusterId = ICFSecService.CLUSTERID_INIT_VALUE;
+		requiredHostNodeId = ICFSecService.HOSTNODEID_INIT_VALUE;
+		requiredServiceTypeId = ICFSecService.SERVICETYPEID_INIT_VALUE;
 	}
 
 	@Override
@@ -76,6 +78,7 @@ public class CFSecBuffServiceByUTypeIdxKey
 				"value" );
 		}
 		requiredClusterId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -92,6 +95,7 @@ public class CFSecBuffServiceByUTypeIdxKey
 				"value" );
 		}
 		requiredHostNodeId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -108,6 +112,7 @@ public class CFSecBuffServiceByUTypeIdxKey
 				"value" );
 		}
 		requiredServiceTypeId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -220,11 +225,16 @@ public class CFSecBuffServiceByUTypeIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredClusterId().hashCode();
-		hashCode = hashCode + getRequiredHostNodeId().hashCode();
-		hashCode = hashCode + getRequiredServiceTypeId().hashCode();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredClusterId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredHostNodeId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredServiceTypeId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 3 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
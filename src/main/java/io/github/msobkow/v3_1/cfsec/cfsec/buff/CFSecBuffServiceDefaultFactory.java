@@ -54,13 +54,174 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffServiceDefaultFactory
 	implements ICFSecServiceFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffServiceByClusterIdxKey> probeByClusterIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffServiceByClusterIdxKey() );
+	protected static final ThreadLocal<CFSecBuffServiceByHostIdxKey> probeByHostIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffServiceByHostIdxKey() );
+	protected static final ThreadLocal<CFSecBuffServiceByTypeIdxKey> probeByTypeIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffServiceByTypeIdxKey() );
+	protected static final ThreadLocal<CFSecBuffServiceByUTypeIdxKey> probeByUTypeIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffServiceByUTypeIdxKey() );
+	protected static final ThreadLocal<CFSecBuffServiceByUHostPortIdxKey> probeByUHostPortIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffServiceByUHostPortIdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders Service instances by primary key.
+	 */
+	public static final Comparator<ICFSecService> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( lhs.getRequiredServiceId().compareTo( rhs.getRequiredServiceId() ) );
+	};
+
+	/**
+	 *	Orders Service history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecServiceHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredServiceId().compareTo( rhs.getRequiredServiceId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders Service instances by the ClusterIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecService> COMPARE_BY_CLUSTERIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() ) );
+	};
+
+	/**
+	 *	Orders ClusterIdx keys.
+	 */
+	public static final Comparator<ICFSecServiceByClusterIdxKey> COMPARE_CLUSTERIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() ) );
+	};
+
+	/**
+	 *	Orders Service instances by the HostIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecService> COMPARE_BY_HOSTIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredHostNodeId().compareTo( rhs.getRequiredHostNodeId() ) );
+	};
+
+	/**
+	 *	Orders HostIdx keys.
+	 */
+	public static final Comparator<ICFSecServiceByHostIdxKey> COMPARE_HOSTIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredHostNodeId().compareTo( rhs.getRequiredHostNodeId() ) );
+	};
+
+	/**
+	 *	Orders Service instances by the TypeIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecService> COMPARE_BY_TYPEIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredServiceTypeId().compareTo( rhs.getRequiredServiceTypeId() ) );
+	};
+
+	/**
+	 *	Orders TypeIdx keys.
+	 */
+	public static final Comparator<ICFSecServiceByTypeIdxKey> COMPARE_TYPEIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredServiceTypeId().compareTo( rhs.getRequiredServiceTypeId() ) );
+	};
+
+	/**
+	 *	Orders Service instances by the UTypeIdx columns.
+	 */
+	public static final Comparator<ICFSecService> COMPARE_BY_UTYPEIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		cmp = lhs.getRequiredHostNodeId().compareTo( rhs.getRequiredHostNodeId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredServiceTypeId().compareTo( rhs.getRequiredServiceTypeId() ) );
+	};
+
+	/**
+	 *	Orders UTypeIdx keys.
+	 */
+	public static final Comparator<ICFSecServiceByUTypeIdxKey> COMPARE_UTYPEIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		cmp = lhs.getRequiredHostNodeId().compareTo( rhs.getRequiredHostNodeId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredServiceTypeId().compareTo( rhs.getRequiredServiceTypeId() ) );
+	};
+
+	/**
+	 *	Orders Service instances by the UHostPortIdx columns.
+	 */
+	public static final Comparator<ICFSecService> COMPARE_BY_UHOSTPORTIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		cmp = lhs.getRequiredHostNodeId().compareTo( rhs.getRequiredHostNodeId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Short.compare( lhs.getRequiredHostPort(), rhs.getRequiredHostPort() ) );
+	};
+
+	/**
+	 *	Orders UHostPortIdx keys.
+	 */
+	public static final Comparator<ICFSecServiceByUHostPortIdxKey> COMPARE_UHOSTPORTIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		cmp = lhs.getRequiredHostNodeId().compareTo( rhs.getRequiredHostNodeId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Short.compare( lhs.getRequiredHostPort(), rhs.getRequiredHostPort() ) );
+	};
+
 	public CFSecBuffServiceDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
 	@Override
 	public ICFSecServiceHPKey newHPKey() {
 		ICFSecServiceHPKey hpkey =
-			new CFSecBuffServiceHPKey();
+			new CFSecBuffServiceHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -72,7 +233,7 @@ public class CFSecBuffServiceDefaultFactory
 			return( (CFSecBuffServiceHPKey)key );
 		}
 		else {
-			CFSecBuffServiceHPKey mapped = new CFSecBuffServiceHPKey();
+			CFSecBuffServiceHPKey mapped = new CFSecBuffServiceHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -103,6 +264,10 @@ public class CFSecBuffServiceDefaultFactory
 		}
 	}
 
+	public static CFSecBuffServiceByClusterIdxKey getProbeByClusterIdxKey() {
+		return( probeByClusterIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecServiceByHostIdxKey newByHostIdxKey() {
 		ICFSecServiceByHostIdxKey key =
@@ -124,6 +289,10 @@ public class CFSecBuffServiceDefaultFactory
 		}
 	}
 
+	public static CFSecBuffServiceByHostIdxKey getProbeByHostIdxKey() {
+		return( probeByHostIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecServiceByTypeIdxKey newByTypeIdxKey() {
 		ICFSecServiceByTypeIdxKey key =
@@ -145,6 +314,10 @@ public class CFSecBuffServiceDefaultFactory
 		}
 	}
 
+	public static CFSecBuffServiceByTypeIdxKey getProbeByTypeIdxKey() {
+		return( probeByTypeIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecServiceByUTypeIdxKey newByUTypeIdxKey() {
 		ICFSecServiceByUTypeIdxKey key =
@@ -168,6 +341,10 @@ public class CFSecBuffServiceDefaultFactory
 		}
 	}
 
+	public static CFSecBuffServiceByUTypeIdxKey getProbeByUTypeIdxKey() {
+		return( probeByUTypeIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecServiceByUHostPortIdxKey newByUHostPortIdxKey() {
 		ICFSecServiceByUHostPortIdxKey key =
@@ -191,10 +368,14 @@ public class CFSecBuffServiceDefaultFactory
 		}
 	}
 
+	public static CFSecBuffServiceByUHostPortIdxKey getProbeByUHostPortIdxKey() {
+		return( probeByUHostPortIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecService newRec() {
 		ICFSecService rec =
-			new CFSecBuffService();
+			new CFSecBuffService( recStamp );
 		return( rec );
 	}
 
@@ -206,16 +387,56 @@ public class CFSecBuffServiceDefaultFactory
 			return( (CFSecBuffService)rec );
 		}
 		else {
-			CFSecBuffService mapped = new CFSecBuffService();
+			CFSecBuffService mapped = new CFSecBuffService( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffService cloneRec( ICFSecService rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffService ) {
+			return( ( (CFSecBuffService)rec ).clone() );
+		}
+		else {
+			CFSecBuffService mapped = new CFSecBuffService( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffService[] cloneRecs( ICFSecService[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffService[] retList = new CFSecBuffService[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecServiceH newHRec() {
 		ICFSecServiceH hrec =
-			new CFSecBuffServiceH();
+			new CFSecBuffServiceH( recStamp );
 		return( hrec );
 	}
 
@@ -227,9 +448,49 @@ public class CFSecBuffServiceDefaultFactory
 			return( (CFSecBuffServiceH)hrec );
 		}
 		else {
-			CFSecBuffServiceH mapped = new CFSecBuffServiceH();
+			CFSecBuffServiceH mapped = new CFSecBuffServiceH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffServiceH cloneHRec( ICFSecServiceH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffServiceH ) {
+			return( ( (CFSecBuffServiceH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffServiceH mapped = new CFSecBuffServiceH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffServiceH[] cloneHRecs( ICFSecServiceH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffServiceH[] retList = new CFSecBuffServiceH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
@@ -0,0 +1,851 @@
+// Description: Java 25 in-memory concurrent implementation of a Service table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffServiceTable in-memory implementation of ICFSecServiceTable for Service.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ */
+public class CFSecBuffServiceTable
+	implements ICFSecServiceTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffService> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffServiceByClusterIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffService>> dictByClusterIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffServiceByHostIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffService>> dictByHostIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffServiceByTypeIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffService>> dictByTypeIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffServiceByUTypeIdxKey, CFSecBuffService> dictByUTypeIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffServiceByUHostPortIdxKey, CFSecBuffService> dictByUHostPortIdx
+		= new ConcurrentHashMap<>();
+
+	public CFSecBuffServiceTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Copy the attributes of a Service by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffService holding the same attribute values.
+	 */
+	protected CFSecBuffService copyRec( ICFSecService src ) {
+		if( src instanceof CFSecBuffService ) {
+			return( ( (CFSecBuffService)src ).clone() );
+		}
+		CFSecBuffService rec = new CFSecBuffService( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredServiceId( src.getRequiredServiceId() );
+		rec.setRequiredOwnerCluster( src.getRequiredClusterId() );
+		rec.setOptionalContainerHost( src.getRequiredHostNodeId() );
+		rec.setOptionalParentServiceType( src.getRequiredServiceTypeId() );
+		rec.setRequiredHostPort( src.getRequiredHostPort() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecService[] copyRecs( Collection<CFSecBuffService> src ) {
+		ICFSecService[] retList = new ICFSecService[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffService cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected CFLibDbKeyHash256 pkeyOf( ICFSecService rec ) {
+		return( rec.getRequiredServiceId() );
+	}
+
+	protected CFSecBuffServiceByClusterIdxKey newByClusterIdxKey( CFLibDbKeyHash256 argClusterId ) {
+		CFSecBuffServiceByClusterIdxKey key = new CFSecBuffServiceByClusterIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		return( key );
+	}
+
+	protected CFSecBuffServiceByClusterIdxKey newByClusterIdxKey( ICFSecService rec ) {
+		return( newByClusterIdxKey( rec.getRequiredClusterId() ) );
+	}
+
+	protected CFSecBuffServiceByClusterIdxKey probeByClusterIdxKey( CFLibDbKeyHash256 argClusterId ) {
+		CFSecBuffServiceByClusterIdxKey key = CFSecBuffServiceDefaultFactory.getProbeByClusterIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		return( key );
+	}
+
+	protected CFSecBuffServiceByHostIdxKey newByHostIdxKey( CFLibDbKeyHash256 argHostNodeId ) {
+		CFSecBuffServiceByHostIdxKey key = new CFSecBuffServiceByHostIdxKey();
+		key.setRequiredHostNodeId( argHostNodeId );
+		return( key );
+	}
+
+	protected CFSecBuffServiceByHostIdxKey newByHostIdxKey( ICFSecService rec ) {
+		return( newByHostIdxKey( rec.getRequiredHostNodeId() ) );
+	}
+
+	protected CFSecBuffServiceByHostIdxKey probeByHostIdxKey( CFLibDbKeyHash256 argHostNodeId ) {
+		CFSecBuffServiceByHostIdxKey key = CFSecBuffServiceDefaultFactory.getProbeByHostIdxKey();
+		key.setRequiredHostNodeId( argHostNodeId );
+		return( key );
+	}
+
+	protected CFSecBuffServiceByTypeIdxKey newByTypeIdxKey( CFLibDbKeyHash256 argServiceTypeId ) {
+		CFSecBuffServiceByTypeIdxKey key = new CFSecBuffServiceByTypeIdxKey();
+		key.setRequiredServiceTypeId( argServiceTypeId );
+		return( key );
+	}
+
+	protected CFSecBuffServiceByTypeIdxKey newByTypeIdxKey( ICFSecService rec ) {
+		return( newByTypeIdxKey( rec.getRequiredServiceTypeId() ) );
+	}
+
+	protected CFSecBuffServiceByTypeIdxKey probeByTypeIdxKey( CFLibDbKeyHash256 argServiceTypeId ) {
+		CFSecBuffServiceByTypeIdxKey key = CFSecBuffServiceDefaultFactory.getProbeByTypeIdxKey();
+		key.setRequiredServiceTypeId( argServiceTypeId );
+		return( key );
+	}
+
+	protected CFSecBuffServiceByUTypeIdxKey newByUTypeIdxKey( CFLibDbKeyHash256 argClusterId, CFLibDbKeyHash256 argHostNodeId, CFLibDbKeyHash256 argServiceTypeId ) {
+		CFSecBuffServiceByUTypeIdxKey key = new CFSecBuffServiceByUTypeIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		key.setRequiredHostNodeId( argHostNodeId );
+		key.setRequiredServiceTypeId( argServiceTypeId );
+		return( key );
+	}
+
+	protected CFSecBuffServiceByUTypeIdxKey newByUTypeIdxKey( ICFSecService rec ) {
+		return( newByUTypeIdxKey( rec.getRequiredClusterId(), rec.getRequiredHostNodeId(), rec.getRequiredServiceTypeId() ) );
+	}
+
+	protected CFSecBuffServiceByUTypeIdxKey probeByUTypeIdxKey( CFLibDbKeyHash256 argClusterId, CFLibDbKeyHash256 argHostNodeId, CFLibDbKeyHash256 argServiceTypeId ) {
+		CFSecBuffServiceByUTypeIdxKey key = CFSecBuffServiceDefaultFactory.getProbeByUTypeIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		key.setRequiredHostNodeId( argHostNodeId );
+		key.setRequiredServiceTypeId( argServiceTypeId );
+		return( key );
+	}
+
+	protected CFSecBuffServiceByUHostPortIdxKey newByUHostPortIdxKey( CFLibDbKeyHash256 argClusterId, CFLibDbKeyHash256 argHostNodeId, short argHostPort ) {
+		CFSecBuffServiceByUHostPortIdxKey key = new CFSecBuffServiceByUHostPortIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		key.setRequiredHostNodeId( argHostNodeId );
+		key.setRequiredHostPort( argHostPort );
+		return( key );
+	}
+
+	protected CFSecBuffServiceByUHostPortIdxKey newByUHostPortIdxKey( ICFSecService rec ) {
+		return( newByUHostPortIdxKey( rec.getRequiredClusterId(), rec.getRequiredHostNodeId(), rec.getRequiredHostPort() ) );
+	}
+
+	protected CFSecBuffServiceByUHostPortIdxKey probeByUHostPortIdxKey( CFLibDbKeyHash256 argClusterId, CFLibDbKeyHash256 argHostNodeId, short argHostPort ) {
+		CFSecBuffServiceByUHostPortIdxKey key = CFSecBuffServiceDefaultFactory.getProbeByUHostPortIdxKey();
+		key.setRequiredClusterId( argClusterId );
+		key.setRequiredHostNodeId( argHostNodeId );
+		key.setRequiredHostPort( argHostPort );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffService rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByClusterIdx.computeIfAbsent( newByClusterIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByHostIdx.computeIfAbsent( newByHostIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByTypeIdx.computeIfAbsent( newByTypeIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByUTypeIdx.put( newByUTypeIdxKey( rec ), rec );
+		dictByUHostPortIdx.put( newByUHostPortIdxKey( rec ), rec );
+	}
+
+	protected void unindexRec( CFSecBuffService rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		removeFromDupIndex( dictByClusterIdx, newByClusterIdxKey( rec ), pkey );
+		removeFromDupIndex( dictByHostIdx, newByHostIdxKey( rec ), pkey );
+		removeFromDupIndex( dictByTypeIdx, newByTypeIdxKey( rec ), pkey );
+		dictByUTypeIdx.remove( newByUTypeIdxKey( rec ), rec );
+		dictByUHostPortIdx.remove( newByUHostPortIdxKey( rec ), rec );
+		dictByPKey.remove( pkey, rec );
+	}
+
+	protected void reindexRec( CFSecBuffService existing, CFSecBuffService rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffServiceByClusterIdxKey oldKey = newByClusterIdxKey( existing );
+			CFSecBuffServiceByClusterIdxKey newKey = newByClusterIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByClusterIdx, oldKey, pkey );
+			}
+			dictByClusterIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffServiceByHostIdxKey oldKey = newByHostIdxKey( existing );
+			CFSecBuffServiceByHostIdxKey newKey = newByHostIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByHostIdx, oldKey, pkey );
+			}
+			dictByHostIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffServiceByTypeIdxKey oldKey = newByTypeIdxKey( existing );
+			CFSecBuffServiceByTypeIdxKey newKey = newByTypeIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByTypeIdx, oldKey, pkey );
+			}
+			dictByTypeIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffServiceByUTypeIdxKey oldKey = newByUTypeIdxKey( existing );
+			CFSecBuffServiceByUTypeIdxKey newKey = newByUTypeIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByUTypeIdx.remove( oldKey, existing );
+			}
+			dictByUTypeIdx.put( newKey, rec );
+		}
+		{
+			CFSecBuffServiceByUHostPortIdxKey oldKey = newByUHostPortIdxKey( existing );
+			CFSecBuffServiceByUHostPortIdxKey newKey = newByUHostPortIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByUHostPortIdx.remove( oldKey, existing );
+			}
+			dictByUHostPortIdx.put( newKey, rec );
+		}
+	}
+
+	protected static <K> void removeFromDupIndex( ConcurrentHashMap<K, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffService>> dict, K key, CFLibDbKeyHash256 pkey ) {
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffService> subdict = dict.get( key );
+		if( subdict != null ) {
+			subdict.remove( pkey );
+			if( subdict.isEmpty() ) {
+				dict.remove( key, subdict );
+			}
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffService rec, CFSecBuffService existing ) {
+		{
+			CFSecBuffServiceByUTypeIdxKey key = newByUTypeIdxKey( rec );
+			CFSecBuffService conflict = dictByUTypeIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"ServiceUTypeIdx",
+					key );
+			}
+		}
+		{
+			CFSecBuffServiceByUHostPortIdxKey key = newByUHostPortIdxKey( rec );
+			CFSecBuffService conflict = dictByUHostPortIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"ServiceUHostPortIdx",
+					key );
+			}
+		}
+	}
+
+	@Override
+	public ICFSecService createService( ICFSecAuthorization Authorization,
+		ICFSecService rec )
+	{
+		final String S_ProcName = "createService";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffService stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecService readDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		if( PKey == null ) {
+			return( null );
+		}
+		CFSecBuffService rec = dictByPKey.get( PKey );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecService lockDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecService[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecService readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argServiceId )
+	{
+		if( argServiceId == null ) {
+			return( null );
+		}
+		CFSecBuffService rec = dictByPKey.get( argServiceId );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecService[] readDerivedByClusterIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffService> subdict = dictByClusterIdx.get( probeByClusterIdxKey( argClusterId ) );
+		if( subdict == null ) {
+			return( new ICFSecService[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the Service instances for several ClusterIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argClusterIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecService[]> readDerivedByClusterIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argClusterIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecService[]> retMap = new HashMap<>( Math.max( 16, argClusterIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argClusterId : argClusterIds ) {
+			if( ( argClusterId == null ) || retMap.containsKey( argClusterId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffService> subdict = dictByClusterIdx.get( probeByClusterIdxKey( argClusterId ) );
+			if( subdict == null ) {
+				retMap.put( argClusterId, new ICFSecService[0] );
+			}
+			else {
+				retMap.put( argClusterId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecService[] readDerivedByHostIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argHostNodeId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffService> subdict = dictByHostIdx.get( probeByHostIdxKey( argHostNodeId ) );
+		if( subdict == null ) {
+			return( new ICFSecService[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the Service instances for several HostIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argHostNodeIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecService[]> readDerivedByHostIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argHostNodeIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecService[]> retMap = new HashMap<>( Math.max( 16, argHostNodeIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argHostNodeId : argHostNodeIds ) {
+			if( ( argHostNodeId == null ) || retMap.containsKey( argHostNodeId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffService> subdict = dictByHostIdx.get( probeByHostIdxKey( argHostNodeId ) );
+			if( subdict == null ) {
+				retMap.put( argHostNodeId, new ICFSecService[0] );
+			}
+			else {
+				retMap.put( argHostNodeId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecService[] readDerivedByTypeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argServiceTypeId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffService> subdict = dictByTypeIdx.get( probeByTypeIdxKey( argServiceTypeId ) );
+		if( subdict == null ) {
+			return( new ICFSecService[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the Service instances for several TypeIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argServiceTypeIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecService[]> readDerivedByTypeIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argServiceTypeIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecService[]> retMap = new HashMap<>( Math.max( 16, argServiceTypeIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argServiceTypeId : argServiceTypeIds ) {
+			if( ( argServiceTypeId == null ) || retMap.containsKey( argServiceTypeId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffService> subdict = dictByTypeIdx.get( probeByTypeIdxKey( argServiceTypeId ) );
+			if( subdict == null ) {
+				retMap.put( argServiceTypeId, new ICFSecService[0] );
+			}
+			else {
+				retMap.put( argServiceTypeId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecService readDerivedByUTypeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		CFLibDbKeyHash256 argHostNodeId,
+		CFLibDbKeyHash256 argServiceTypeId )
+	{
+		CFSecBuffService rec = dictByUTypeIdx.get( probeByUTypeIdxKey( argClusterId, argHostNodeId, argServiceTypeId ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecService readDerivedByUHostPortIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		CFLibDbKeyHash256 argHostNodeId,
+		short argHostPort )
+	{
+		CFSecBuffService rec = dictByUHostPortIdx.get( probeByUHostPortIdxKey( argClusterId, argHostNodeId, argHostPort ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecService readRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecService lockRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecService[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecService readRecByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argServiceId )
+	{
+		return( readDerivedByIdIdx( Authorization, argServiceId ) );
+	}
+
+	@Override
+	public ICFSecService[] readRecByClusterIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId )
+	{
+		return( readDerivedByClusterIdx( Authorization, argClusterId ) );
+	}
+
+	@Override
+	public ICFSecService[] readRecByHostIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argHostNodeId )
+	{
+		return( readDerivedByHostIdx( Authorization, argHostNodeId ) );
+	}
+
+	@Override
+	public ICFSecService[] readRecByTypeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argServiceTypeId )
+	{
+		return( readDerivedByTypeIdx( Authorization, argServiceTypeId ) );
+	}
+
+	@Override
+	public ICFSecService readRecByUTypeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		CFLibDbKeyHash256 argHostNodeId,
+		CFLibDbKeyHash256 argServiceTypeId )
+	{
+		return( readDerivedByUTypeIdx( Authorization, argClusterId, argHostNodeId, argServiceTypeId ) );
+	}
+
+	@Override
+	public ICFSecService readRecByUHostPortIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		CFLibDbKeyHash256 argHostNodeId,
+		short argHostPort )
+	{
+		return( readDerivedByUHostPortIdx( Authorization, argClusterId, argHostNodeId, argHostPort ) );
+	}
+
+	@Override
+	public ICFSecService updateService( ICFSecAuthorization Authorization,
+		ICFSecService rec )
+	{
+		final String S_ProcName = "updateService";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffService stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffService existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"Service",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteService( ICFSecAuthorization Authorization,
+		ICFSecService rec )
+	{
+		final String S_ProcName = "deleteService";
+		if( rec == null ) {
+			return;
+		}
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffService existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffService existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored Service under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffService> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffService> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffService rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a Service exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffService rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffService stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteServiceByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argServiceId )
+	{
+		if( argServiceId == null ) {
+			return;
+		}
+		deleteStored( dictByPKey.get( argServiceId ) );
+	}
+
+	@Override
+	public void deleteServiceByClusterIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffService> subdict = dictByClusterIdx.get( probeByClusterIdxKey( argClusterId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffService existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteServiceByClusterIdx( ICFSecAuthorization Authorization,
+		ICFSecServiceByClusterIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteServiceByClusterIdx( Authorization, argKey.getRequiredClusterId() );
+	}
+
+	@Override
+	public void deleteServiceByHostIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argHostNodeId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffService> subdict = dictByHostIdx.get( probeByHostIdxKey( argHostNodeId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffService existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteServiceByHostIdx( ICFSecAuthorization Authorization,
+		ICFSecServiceByHostIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteServiceByHostIdx( Authorization, argKey.getRequiredHostNodeId() );
+	}
+
+	@Override
+	public void deleteServiceByTypeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argServiceTypeId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffService> subdict = dictByTypeIdx.get( probeByTypeIdxKey( argServiceTypeId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffService existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteServiceByTypeIdx( ICFSecAuthorization Authorization,
+		ICFSecServiceByTypeIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteServiceByTypeIdx( Authorization, argKey.getRequiredServiceTypeId() );
+	}
+
+	@Override
+	public void deleteServiceByUTypeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		CFLibDbKeyHash256 argHostNodeId,
+		CFLibDbKeyHash256 argServiceTypeId )
+	{
+		deleteStored( dictByUTypeIdx.get( probeByUTypeIdxKey( argClusterId, argHostNodeId, argServiceTypeId ) ) );
+	}
+
+	@Override
+	public void deleteServiceByUTypeIdx( ICFSecAuthorization Authorization,
+		ICFSecServiceByUTypeIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteServiceByUTypeIdx( Authorization, argKey.getRequiredClusterId(), argKey.getRequiredHostNodeId(), argKey.getRequiredServiceTypeId() );
+	}
+
+	@Override
+	public void deleteServiceByUHostPortIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argClusterId,
+		CFLibDbKeyHash256 argHostNodeId,
+		short argHostPort )
+	{
+		deleteStored( dictByUHostPortIdx.get( probeByUHostPortIdxKey( argClusterId, argHostNodeId, argHostPort ) ) );
+	}
+
+	@Override
+	public void deleteServiceByUHostPortIdx( ICFSecAuthorization Authorization,
+		ICFSecServiceByUHostPortIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteServiceByUHostPortIdx( Authorization, argKey.getRequiredClusterId(), argKey.getRequiredHostNodeId(), argKey.getRequiredHostPort() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
@@ -54,13 +54,74 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffServiceTypeDefaultFactory
 	implements ICFSecServiceTypeFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffServiceTypeByUDescrIdxKey> probeByUDescrIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffServiceTypeByUDescrIdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders ServiceType instances by primary key.
+	 */
+	public static final Comparator<ICFSecServiceType> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( lhs.getRequiredServiceTypeId().compareTo( rhs.getRequiredServiceTypeId() ) );
+	};
+
+	/**
+	 *	Orders ServiceType history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecServiceTypeHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredServiceTypeId().compareTo( rhs.getRequiredServiceTypeId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders ServiceType instances by the UDescrIdx columns.
+	 */
+	public static final Comparator<ICFSecServiceType> COMPARE_BY_UDESCRIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredDescription().compareTo( rhs.getRequiredDescription() ) );
+	};
+
+	/**
+	 *	Orders UDescrIdx keys.
+	 */
+	public static final Comparator<ICFSecServiceTypeByUDescrIdxKey> COMPARE_UDESCRIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredDescription().compareTo( rhs.getRequiredDescription() ) );
+	};
+
 	public CFSecBuffServiceTypeDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
 	@Override
 	public ICFSecServiceTypeHPKey newHPKey() {
 		ICFSecServiceTypeHPKey hpkey =
-			new CFSecBuffServiceTypeHPKey();
+			new CFSecBuffServiceTypeHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -72,7 +133,7 @@ public class CFSecBuffServiceTypeDefaultFactory
 			return( (CFSecBuffServiceTypeHPKey)key );
 		}
 		else {
-			CFSecBuffServiceTypeHPKey mapped = new CFSecBuffServiceTypeHPKey();
+			CFSecBuffServiceTypeHPKey mapped = new CFSecBuffServiceTypeHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -103,10 +164,14 @@ public class CFSecBuffServiceTypeDefaultFactory
 		}
 	}
 
+	public static CFSecBuffServiceTypeByUDescrIdxKey getProbeByUDescrIdxKey() {
+		return( probeByUDescrIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecServiceType newRec() {
 		ICFSecServiceType rec =
-			new CFSecBuffServiceType();
+			new CFSecBuffServiceType( recStamp );
 		return( rec );
 	}
 
@@ -118,16 +183,56 @@ public class CFSecBuffServiceTypeDefaultFactory
 			return( (CFSecBuffServiceType)rec );
 		}
 		else {
-			CFSecBuffServiceType mapped = new CFSecBuffServiceType();
+			CFSecBuffServiceType mapped = new CFSecBuffServiceType( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffServiceType cloneRec( ICFSecServiceType rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffServiceType ) {
+			return( ( (CFSecBuffServiceType)rec ).clone() );
+		}
+		else {
+			CFSecBuffServiceType mapped = new CFSecBuffServiceType( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffServiceType[] cloneRecs( ICFSecServiceType[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffServiceType[] retList = new CFSecBuffServiceType[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecServiceTypeH newHRec() {
 		ICFSecServiceTypeH hrec =
-			new CFSecBuffServiceTypeH();
+			new CFSecBuffServiceTypeH( recStamp );
 		return( hrec );
 	}
 
@@ -139,9 +244,49 @@ public class CFSecBuffServiceTypeDefaultFactory
 			return( (CFSecBuffServiceTypeH)hrec );
 		}
 		else {
-			CFSecBuffServiceTypeH mapped = new CFSecBuffServiceTypeH();
+			CFSecBuffServiceTypeH mapped = new CFSecBuffServiceTypeH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffServiceTypeH cloneHRec( ICFSecServiceTypeH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffServiceTypeH ) {
+			return( ( (CFSecBuffServiceTypeH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffServiceTypeH mapped = new CFSecBuffServiceTypeH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffServiceTypeH[] cloneHRecs( ICFSecServiceTypeH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffServiceTypeH[] retList = new CFSecBuffServiceTypeH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
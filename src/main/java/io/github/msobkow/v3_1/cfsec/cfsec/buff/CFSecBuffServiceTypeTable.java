@@ -0,0 +1,445 @@
+// Description: Java 25 in-memory concurrent implementation of a ServiceType table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffServiceTypeTable in-memory implementation of ICFSecServiceTypeTable for ServiceType.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ */
+public class CFSecBuffServiceTypeTable
+	implements ICFSecServiceTypeTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffServiceType> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffServiceTypeByUDescrIdxKey, CFSecBuffServiceType> dictByUDescrIdx
+		= new ConcurrentHashMap<>();
+
+	public CFSecBuffServiceTypeTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Copy the attributes of a ServiceType by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffServiceType holding the same attribute values.
+	 */
+	protected CFSecBuffServiceType copyRec( ICFSecServiceType src ) {
+		if( src instanceof CFSecBuffServiceType ) {
+			return( ( (CFSecBuffServiceType)src ).clone() );
+		}
+		CFSecBuffServiceType rec = new CFSecBuffServiceType( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredServiceTypeId( src.getRequiredServiceTypeId() );
+		rec.setRequiredDescription( src.getRequiredDescription() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecServiceType[] copyRecs( Collection<CFSecBuffServiceType> src ) {
+		ICFSecServiceType[] retList = new ICFSecServiceType[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffServiceType cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected CFLibDbKeyHash256 pkeyOf( ICFSecServiceType rec ) {
+		return( rec.getRequiredServiceTypeId() );
+	}
+
+	protected CFSecBuffServiceTypeByUDescrIdxKey newByUDescrIdxKey( String argDescription ) {
+		CFSecBuffServiceTypeByUDescrIdxKey key = new CFSecBuffServiceTypeByUDescrIdxKey();
+		key.setRequiredDescription( argDescription );
+		return( key );
+	}
+
+	protected CFSecBuffServiceTypeByUDescrIdxKey newByUDescrIdxKey( ICFSecServiceType rec ) {
+		return( newByUDescrIdxKey( rec.getRequiredDescription() ) );
+	}
+
+	protected CFSecBuffServiceTypeByUDescrIdxKey probeByUDescrIdxKey( String argDescription ) {
+		CFSecBuffServiceTypeByUDescrIdxKey key = CFSecBuffServiceTypeDefaultFactory.getProbeByUDescrIdxKey();
+		key.setRequiredDescription( argDescription );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffServiceType rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByUDescrIdx.put( newByUDescrIdxKey( rec ), rec );
+	}
+
+	protected void unindexRec( CFSecBuffServiceType rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByUDescrIdx.remove( newByUDescrIdxKey( rec ), rec );
+		dictByPKey.remove( pkey, rec );
+	}
+
+	protected void reindexRec( CFSecBuffServiceType existing, CFSecBuffServiceType rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffServiceTypeByUDescrIdxKey oldKey = newByUDescrIdxKey( existing );
+			CFSecBuffServiceTypeByUDescrIdxKey newKey = newByUDescrIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByUDescrIdx.remove( oldKey, existing );
+			}
+			dictByUDescrIdx.put( newKey, rec );
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffServiceType rec, CFSecBuffServiceType existing ) {
+		{
+			CFSecBuffServiceTypeByUDescrIdxKey key = newByUDescrIdxKey( rec );
+			CFSecBuffServiceType conflict = dictByUDescrIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"ServiceTypeUDescrIdx",
+					key );
+			}
+		}
+	}
+
+	@Override
+	public ICFSecServiceType createServiceType( ICFSecAuthorization Authorization,
+		ICFSecServiceType rec )
+	{
+		final String S_ProcName = "createServiceType";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffServiceType stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecServiceType readDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		if( PKey == null ) {
+			return( null );
+		}
+		CFSecBuffServiceType rec = dictByPKey.get( PKey );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecServiceType lockDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecServiceType[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecServiceType readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argServiceTypeId )
+	{
+		if( argServiceTypeId == null ) {
+			return( null );
+		}
+		CFSecBuffServiceType rec = dictByPKey.get( argServiceTypeId );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecServiceType readDerivedByUDescrIdx( ICFSecAuthorization Authorization,
+		String argDescription )
+	{
+		CFSecBuffServiceType rec = dictByUDescrIdx.get( probeByUDescrIdxKey( argDescription ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecServiceType readRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecServiceType lockRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecServiceType[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecServiceType readRecByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argServiceTypeId )
+	{
+		return( readDerivedByIdIdx( Authorization, argServiceTypeId ) );
+	}
+
+	@Override
+	public ICFSecServiceType readRecByUDescrIdx( ICFSecAuthorization Authorization,
+		String argDescription )
+	{
+		return( readDerivedByUDescrIdx( Authorization, argDescription ) );
+	}
+
+	@Override
+	public ICFSecServiceType updateServiceType( ICFSecAuthorization Authorization,
+		ICFSecServiceType rec )
+	{
+		final String S_ProcName = "updateServiceType";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffServiceType stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffServiceType existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"ServiceType",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteServiceType( ICFSecAuthorization Authorization,
+		ICFSecServiceType rec )
+	{
+		final String S_ProcName = "deleteServiceType";
+		if( rec == null ) {
+			return;
+		}
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffServiceType existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffServiceType existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored ServiceType under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffServiceType> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffServiceType> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffServiceType rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a ServiceType exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffServiceType rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffServiceType stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteServiceTypeByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argServiceTypeId )
+	{
+		if( argServiceTypeId == null ) {
+			return;
+		}
+		deleteStored( dictByPKey.get( argServiceTypeId ) );
+	}
+
+	@Override
+	public void deleteServiceTypeByUDescrIdx( ICFSecAuthorization Authorization,
+		String argDescription )
+	{
+		deleteStored( dictByUDescrIdx.get( probeByUDescrIdxKey( argDescription ) ) );
+	}
+
+	@Override
+	public void deleteServiceTypeByUDescrIdx( ICFSecAuthorization Authorization,
+		ICFSecServiceTypeByUDescrIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteServiceTypeByUDescrIdx( Authorization, argKey.getRequiredDescription() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
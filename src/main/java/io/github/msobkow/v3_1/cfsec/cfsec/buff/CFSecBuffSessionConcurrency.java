@@ -0,0 +1,430 @@
+// Description: Java 25 SecSession concurrency analytics for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffSessionConcurrency reports how many SecSessions were open at once
+ *	over a reporting period, as a histogram of fixed-width windows holding the
+ *	peak and the time-weighted average concurrency of each window.
+ *
+ *	Each session becomes a start event and a finish event clipped to the period.
+ *	Live sessions are treated as finishing at the end of the period.  The events
+ *	are packed into a long array as (millis << 1 | isStart) and sorted, so a
+ *	finish sorts before a start at the same instant.  One sweep then walks the
+ *	events and the window boundaries together, for O(n log n) in all.  A count
+ *	only counts towards a peak once it has been held for a positive length of
+ *	time, so back-to-back sessions do not register as overlapping.
+ *
+ *	Per-user and per-cluster histograms are independent, so they are computed
+ *	as fork/join tasks, one group of keys per task.  A single histogram can also
+ *	sort its events with Arrays.parallelSort().
+ *
+ *	Sessions are usually fed from CFSecBuffSessionTimeIndex.getOverlapping(),
+ *	which yields only the sessions that touch the period.
+ */
+public class CFSecBuffSessionConcurrency
+{
+	/*
+	 *	The concurrency histogram of one reporting period.
+	 */
+	public static final class Histogram {
+		protected final LocalDateTime from;
+		protected final LocalDateTime to;
+		protected final Duration windowWidth;
+		protected final int[] peak;
+		protected final double[] average;
+		protected final int overallPeak;
+		protected final LocalDateTime overallPeakAt;
+		protected final int sessionCount;
+
+		protected Histogram( LocalDateTime from,
+			LocalDateTime to,
+			Duration windowWidth,
+			int[] peak,
+			double[] average,
+			int overallPeak,
+			LocalDateTime overallPeakAt,
+			int sessionCount )
+		{
+			this.from = from;
+			this.to = to;
+			this.windowWidth = windowWidth;
+			this.peak = peak;
+			this.average = average;
+			this.overallPeak = overallPeak;
+			this.overallPeakAt = overallPeakAt;
+			this.sessionCount = sessionCount;
+		}
+
+		public LocalDateTime getFrom() {
+			return( from );
+		}
+
+		public LocalDateTime getTo() {
+			return( to );
+		}
+
+		public Duration getWindowWidth() {
+			return( windowWidth );
+		}
+
+		public int getWindowCount() {
+			return( peak.length );
+		}
+
+		public LocalDateTime getWindowStart( int window ) {
+			return( from.plus( windowWidth.multipliedBy( window ) ) );
+		}
+
+		public int getPeak( int window ) {
+			return( peak[window] );
+		}
+
+		public double getAverage( int window ) {
+			return( average[window] );
+		}
+
+		/**
+		 *	Get the highest concurrency seen anywhere in the period.
+		 */
+		public int getOverallPeak() {
+			return( overallPeak );
+		}
+
+		/**
+		 *	Get the first instant the overall peak was reached, or null if no
+		 *	session was open during the period.
+		 */
+		public LocalDateTime getOverallPeakAt() {
+			return( overallPeakAt );
+		}
+
+		/**
+		 *	Get the number of sessions that were open at some point in the period.
+		 */
+		public int getSessionCount() {
+			return( sessionCount );
+		}
+	}
+
+	/*
+	 *	Computes the histograms of a slice of keys, splitting the slice in half
+	 *	until it is small enough to run directly.
+	 */
+	protected class KeyTask extends RecursiveAction {
+		protected final CFLibDbKeyHash256[] keys;
+		protected final Map<CFLibDbKeyHash256, List<CFSecBuffSessionTimeIndex.SessionSpan>> groups;
+		protected final Map<CFLibDbKeyHash256, Histogram> results;
+		protected final int lo;
+		protected final int hi;
+
+		protected KeyTask( CFLibDbKeyHash256[] keys,
+			Map<CFLibDbKeyHash256, List<CFSecBuffSessionTimeIndex.SessionSpan>> groups,
+			Map<CFLibDbKeyHash256, Histogram> results,
+			int lo,
+			int hi )
+		{
+			this.keys = keys;
+			this.groups = groups;
+			this.results = results;
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		@Override
+		protected void compute() {
+			if( hi - lo <= KEYS_PER_TASK ) {
+				for( int idx = lo; idx < hi; idx++ ) {
+					results.put( keys[idx], CFSecBuffSessionConcurrency.this.compute( groups.get( keys[idx] ), false ) );
+				}
+				return;
+			}
+			int mid = ( lo + hi ) >>> 1;
+			invokeAll( new KeyTask( keys, groups, results, lo, mid ),
+				new KeyTask( keys, groups, results, mid, hi ) );
+		}
+	}
+
+	public static final int KEYS_PER_TASK = 8;
+
+	protected final LocalDateTime from;
+	protected final LocalDateTime to;
+	protected final Duration windowWidth;
+	protected final long fromMillis;
+	protected final long spanMillis;
+	protected final long widthMillis;
+	protected final int windowCount;
+
+	/**
+	 *	Construct an analysis of the period [from, to) in windows of windowWidth.
+	 *	The last window is cut short at to if the period is not a whole number of
+	 *	windows.
+	 *
+	 *	@param	from	The start of the period.
+	 *	@param	to	The end of the period.
+	 *	@param	windowWidth	The width of each histogram window.
+	 */
+	public CFSecBuffSessionConcurrency( LocalDateTime from, LocalDateTime to, Duration windowWidth ) {
+		final String S_ProcName = "construct";
+		if( from == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "from" );
+		}
+		if( to == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "to" );
+		}
+		if( windowWidth == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 3, "windowWidth" );
+		}
+		if( ! to.isAfter( from ) ) {
+			throw new CFLibInvalidArgumentException( getClass(), S_ProcName, "to must be after from", "to must be after from" );
+		}
+		if( windowWidth.toMillis() < 1L ) {
+			throw new CFLibArgumentUnderflowException( getClass(), S_ProcName, 3, "windowWidth", windowWidth.toMillis(), 1L );
+		}
+		this.from = from;
+		this.to = to;
+		this.windowWidth = windowWidth;
+		this.fromMillis = toMillis( from );
+		this.spanMillis = toMillis( to ) - fromMillis;
+		this.widthMillis = windowWidth.toMillis();
+		long windows = ( spanMillis + widthMillis - 1L ) / widthMillis;
+		if( windows > Integer.MAX_VALUE - 8 ) {
+			throw new CFLibArgumentOverflowException( getClass(), S_ProcName, 3, "windowWidth", windows, Integer.MAX_VALUE - 8 );
+		}
+		this.windowCount = (int)windows;
+	}
+
+	protected static long toMillis( LocalDateTime value ) {
+		return( value.toInstant( ZoneOffset.UTC ).toEpochMilli() );
+	}
+
+	public LocalDateTime getFrom() {
+		return( from );
+	}
+
+	public LocalDateTime getTo() {
+		return( to );
+	}
+
+	public Duration getWindowWidth() {
+		return( windowWidth );
+	}
+
+	/**
+	 *	Compute the histogram of every session in an index.
+	 *
+	 *	@param	index	The time index to read the sessions from.
+	 *	@param	parallel	True to sort the events in parallel.
+	 *	@return	The histogram.
+	 */
+	public Histogram compute( CFSecBuffSessionTimeIndex index, boolean parallel ) {
+		if( index == null ) {
+			throw new CFLibNullArgumentException( getClass(), "compute", 1, "index" );
+		}
+		return( compute( index.getOverlapping( from, to ), parallel ) );
+	}
+
+	/**
+	 *	Compute the histogram of a set of sessions.  Sessions outside the period
+	 *	are ignored, so the input need not be pre-filtered or ordered.
+	 *
+	 *	@param	spans	The sessions.
+	 *	@param	parallel	True to sort the events in parallel.
+	 *	@return	The histogram.
+	 */
+	public Histogram compute( Iterable<CFSecBuffSessionTimeIndex.SessionSpan> spans, boolean parallel ) {
+		if( spans == null ) {
+			throw new CFLibNullArgumentException( getClass(), "compute", 1, "spans" );
+		}
+		long[] events = new long[64];
+		int eventCount = 0;
+		for( CFSecBuffSessionTimeIndex.SessionSpan span : spans ) {
+			long start = Math.max( 0L, toMillis( span.getStart() ) - fromMillis );
+			long finish = ( span.getFinish() == null ) ? spanMillis : Math.min( spanMillis, toMillis( span.getFinish() ) - fromMillis );
+			if( start >= finish ) {
+				continue;
+			}
+			if( eventCount + 2 > events.length ) {
+				events = Arrays.copyOf( events, events.length * 2 );
+			}
+			events[eventCount++] = ( start << 1 ) | 1L;
+			events[eventCount++] = finish << 1;
+		}
+		if( parallel ) {
+			Arrays.parallelSort( events, 0, eventCount );
+		}
+		else {
+			Arrays.sort( events, 0, eventCount );
+		}
+		return( sweep( events, eventCount ) );
+	}
+
+	/*
+	 *	Walk the sorted events and the window boundaries together.  hold()
+	 *	accounts for the current count up to an instant before the count changes.
+	 */
+	protected Histogram sweep( long[] events, int eventCount ) {
+		final int[] peak = new int[windowCount];
+		final double[] average = new double[windowCount];
+		int window = 0;
+		long windowStart = 0L;
+		long windowEnd = Math.min( widthMillis, spanMillis );
+		long prevTime = 0L;
+		long area = 0L;
+		int count = 0;
+		int windowPeak = 0;
+		int overallPeak = 0;
+		long overallPeakAt = -1L;
+		for( int idx = 0; idx <= eventCount; idx++ ) {
+			long time = ( idx < eventCount ) ? ( events[idx] >>> 1 ) : spanMillis;
+			while( ( window < windowCount ) && ( time >= windowEnd ) ) {
+				if( ( windowEnd > prevTime ) && ( count > 0 ) ) {
+					windowPeak = Math.max( windowPeak, count );
+					if( count > overallPeak ) {
+						overallPeak = count;
+						overallPeakAt = prevTime;
+					}
+					area += count * ( windowEnd - prevTime );
+				}
+				prevTime = Math.max( prevTime, windowEnd );
+				peak[window] = windowPeak;
+				average[window] = (double)area / (double)( windowEnd - windowStart );
+				window++;
+				windowStart = windowEnd;
+				windowEnd = Math.min( windowStart + widthMillis, spanMillis );
+				area = 0L;
+				windowPeak = 0;
+			}
+			if( idx == eventCount ) {
+				break;
+			}
+			if( ( time > prevTime ) && ( count > 0 ) ) {
+				windowPeak = Math.max( windowPeak, count );
+				if( count > overallPeak ) {
+					overallPeak = count;
+					overallPeakAt = prevTime;
+				}
+				area += count * ( time - prevTime );
+			}
+			prevTime = Math.max( prevTime, time );
+			if( ( events[idx] & 1L ) != 0L ) {
+				count++;
+			}
+			else {
+				count--;
+			}
+		}
+		return( new Histogram( from,
+			to,
+			windowWidth,
+			peak,
+			average,
+			overallPeak,
+			( overallPeakAt < 0L ) ? null : LocalDateTime.ofInstant( Instant.ofEpochMilli( fromMillis + overallPeakAt ), ZoneOffset.UTC ),
+			eventCount / 2 ) );
+	}
+
+	/**
+	 *	Compute one histogram per user from an index.
+	 *
+	 *	@param	index	The time index to read the sessions from.
+	 *	@param	pool	The pool to run on, or null for the common pool.
+	 *	@return	The histograms by user id.
+	 */
+	public Map<CFLibDbKeyHash256, Histogram> computeByUser( CFSecBuffSessionTimeIndex index, ForkJoinPool pool ) {
+		if( index == null ) {
+			throw new CFLibNullArgumentException( getClass(), "computeByUser", 1, "index" );
+		}
+		return( computeByKey( index.getOverlapping( from, to ), span -> span.getSecUserId(), pool ) );
+	}
+
+	/**
+	 *	Compute one histogram per bound cluster from an index.  Sessions that
+	 *	were never bound to a cluster are left out.
+	 *
+	 *	@param	index	The time index to read the sessions from.
+	 *	@param	pool	The pool to run on, or null for the common pool.
+	 *	@return	The histograms by cluster id.
+	 */
+	public Map<CFLibDbKeyHash256, Histogram> computeByCluster( CFSecBuffSessionTimeIndex index, ForkJoinPool pool ) {
+		if( index == null ) {
+			throw new CFLibNullArgumentException( getClass(), "computeByCluster", 1, "index" );
+		}
+		return( computeByKey( index.getOverlapping( from, to ), span -> span.getClusterId(), pool ) );
+	}
+
+	/**
+	 *	Group sessions by a key and compute one histogram per key as fork/join
+	 *	tasks.  Sessions whose key is null are left out.
+	 *
+	 *	@param	spans	The sessions.
+	 *	@param	keyOf	Extracts the grouping key from a session.
+	 *	@param	pool	The pool to run on, or null for the common pool.
+	 *	@return	The histograms by key.
+	 */
+	public Map<CFLibDbKeyHash256, Histogram> computeByKey( Iterable<CFSecBuffSessionTimeIndex.SessionSpan> spans,
+		Function<CFSecBuffSessionTimeIndex.SessionSpan, CFLibDbKeyHash256> keyOf,
+		ForkJoinPool pool )
+	{
+		final String S_ProcName = "computeByKey";
+		if( spans == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "spans" );
+		}
+		if( keyOf == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "keyOf" );
+		}
+		HashMap<CFLibDbKeyHash256, List<CFSecBuffSessionTimeIndex.SessionSpan>> groups = new HashMap<>();
+		for( CFSecBuffSessionTimeIndex.SessionSpan span : spans ) {
+			CFLibDbKeyHash256 key = keyOf.apply( span );
+			if( key != null ) {
+				groups.computeIfAbsent( key, k -> new ArrayList<>() ).add( span );
+			}
+		}
+		CFLibDbKeyHash256[] keys = groups.keySet().toArray( new CFLibDbKeyHash256[groups.size()] );
+		ConcurrentHashMap<CFLibDbKeyHash256, Histogram> results = new ConcurrentHashMap<>( Math.max( 16, keys.length * 2 ) );
+		if( keys.length > 0 ) {
+			( ( pool == null ) ? ForkJoinPool.commonPool() : pool ).invoke( new KeyTask( keys, groups, results, 0, keys.length ) );
+		}
+		return( results );
+	}
+}
@@ -0,0 +1,450 @@
+// Description: Java 25 timing-wheel SecSession expiry for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffSessionExpiryWheel closes SecSessions that have been idle for longer
+ *	than a configured timeout.
+ *
+ *	Live sessions are held in a hierarchical timing wheel keyed on their deadline
+ *	tick.  The wheel has LEVELS levels of SLOTS slots; level 0 resolves single
+ *	ticks, and each higher level covers SLOTS times the span of the one below.
+ *	Timers are kept in intrusive doubly linked slot lists, so scheduling,
+ *	cancelling and rescheduling on activity are all O(1).  When the wheel turns
+ *	past a level boundary the due slot of the level above is cascaded down.
+ *
+ *	sweep() advances the wheel to the clock and closes everything that expired in
+ *	batches through CFSecBuffSecSessionTable.finishSecSessions(), so a sweep
+ *	takes the table lock once per batch rather than once per session.
+ *
+ *	The wheel loads the live sessions when it is constructed, giving each a full
+ *	idle timeout, and then follows the table: new live sessions are scheduled,
+ *	and sessions that finish or are deleted are cancelled.  Wheel state is
+ *	guarded by the instance monitor.  The monitor is never held while calling
+ *	into the table, so table listeners can take it safely.
+ */
+public class CFSecBuffSessionExpiryWheel
+{
+	public static final int SLOT_BITS = 6;
+	public static final int SLOTS = 1 << SLOT_BITS;
+	public static final int SLOT_MASK = SLOTS - 1;
+	public static final int LEVELS = 4;
+	public static final long MAX_SPAN = 1L << ( SLOT_BITS * LEVELS );
+	public static final int DEFAULT_BATCH_SIZE = 256;
+
+	protected static final class Timer {
+		protected final CFLibDbKeyHash256 secSessionId;
+		protected long deadlineTick;
+		protected Timer prev = null;
+		protected Timer next = null;
+		protected Timer[] bucket = null;
+		protected int slot = -1;
+
+		protected Timer( CFLibDbKeyHash256 secSessionId ) {
+			this.secSessionId = secSessionId;
+		}
+	}
+
+	protected final CFSecBuffSecSessionTable sessionTable;
+	protected final Clock clock;
+	protected final long tickMillis;
+	protected final long idleTimeoutTicks;
+	protected final int batchSize;
+	protected final Timer[][] wheel = new Timer[LEVELS][SLOTS];
+	protected final Timer[] overdue = new Timer[1];
+	protected final HashMap<CFLibDbKeyHash256, Timer> timers = new HashMap<>();
+	protected long currentTick;
+	protected long expiredCount = 0L;
+	protected ScheduledFuture<?> sweeper = null;
+
+	protected final CFSecBuffTableListener<ICFSecSecSession> sessionListener = new CFSecBuffTableListener<ICFSecSecSession>() {
+		@Override
+		public void recCreated( ICFSecSecSession rec ) {
+			if( rec.getOptionalFinish() == null ) {
+				touch( rec.getRequiredSecSessionId() );
+			}
+		}
+
+		@Override
+		public void recUpdated( ICFSecSecSession existing, ICFSecSecSession rec ) {
+			if( rec.getOptionalFinish() != null ) {
+				cancel( rec.getRequiredSecSessionId() );
+			}
+			else if( existing.getOptionalFinish() != null ) {
+				touch( rec.getRequiredSecSessionId() );
+			}
+		}
+
+		@Override
+		public void recDeleted( ICFSecSecSession rec ) {
+			cancel( rec.getRequiredSecSessionId() );
+		}
+	};
+
+	/**
+	 *	Construct an expiry wheel over a SecSession table using the system clock.
+	 *
+	 *	@param	sessionTable	The table whose sessions are expired.
+	 *	@param	idleTimeout	How long a session may be idle before it is closed.
+	 *	@param	tickDuration	The resolution of the wheel.
+	 */
+	public CFSecBuffSessionExpiryWheel( CFSecBuffSecSessionTable sessionTable,
+		Duration idleTimeout,
+		Duration tickDuration )
+	{
+		this( sessionTable, idleTimeout, tickDuration, DEFAULT_BATCH_SIZE, Clock.systemUTC() );
+	}
+
+	/**
+	 *	Construct an expiry wheel over a SecSession table.
+	 *
+	 *	@param	sessionTable	The table whose sessions are expired.
+	 *	@param	idleTimeout	How long a session may be idle before it is closed.
+	 *	@param	tickDuration	The resolution of the wheel.
+	 *	@param	batchSize	The most sessions closed per table lock acquisition.
+	 *	@param	clock	The clock deadlines and finish times are taken from.
+	 */
+	public CFSecBuffSessionExpiryWheel( CFSecBuffSecSessionTable sessionTable,
+		Duration idleTimeout,
+		Duration tickDuration,
+		int batchSize,
+		Clock clock )
+	{
+		final String S_ProcName = "construct";
+		if( sessionTable == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "sessionTable" );
+		}
+		if( idleTimeout == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "idleTimeout" );
+		}
+		if( tickDuration == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 3, "tickDuration" );
+		}
+		if( clock == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 5, "clock" );
+		}
+		if( tickDuration.toMillis() < 1L ) {
+			throw new CFLibArgumentUnderflowException( getClass(), S_ProcName, 3, "tickDuration", tickDuration.toMillis(), 1L );
+		}
+		if( idleTimeout.toMillis() < 1L ) {
+			throw new CFLibArgumentUnderflowException( getClass(), S_ProcName, 2, "idleTimeout", idleTimeout.toMillis(), 1L );
+		}
+		if( batchSize < 1 ) {
+			throw new CFLibArgumentUnderflowException( getClass(), S_ProcName, 4, "batchSize", batchSize, 1 );
+		}
+		this.sessionTable = sessionTable;
+		this.clock = clock;
+		this.tickMillis = tickDuration.toMillis();
+		this.idleTimeoutTicks = Math.max( 1L, ( idleTimeout.toMillis() + tickMillis - 1L ) / tickMillis );
+		this.batchSize = batchSize;
+		this.currentTick = clock.millis() / tickMillis;
+		sessionTable.addListener( sessionListener, true );
+	}
+
+	/**
+	 *	Restart the idle timeout of a session, typically on request activity.
+	 *	Unknown sessions are scheduled.
+	 *
+	 *	@param	secSessionId	The session that saw activity.
+	 */
+	public void touch( CFLibDbKeyHash256 secSessionId ) {
+		if( secSessionId == null ) {
+			return;
+		}
+		long deadlineTick = ( clock.millis() / tickMillis ) + idleTimeoutTicks;
+		synchronized( this ) {
+			reschedule( secSessionId, deadlineTick );
+		}
+	}
+
+	/**
+	 *	Schedule a session to expire at an absolute instant, replacing any
+	 *	deadline it already has.  The instant is rounded up to the next tick.
+	 *
+	 *	@param	secSessionId	The session to schedule.
+	 *	@param	deadline	When the session expires.
+	 */
+	public void schedule( CFLibDbKeyHash256 secSessionId, Instant deadline ) {
+		final String S_ProcName = "schedule";
+		if( secSessionId == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "secSessionId" );
+		}
+		if( deadline == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "deadline" );
+		}
+		long deadlineTick = Math.floorDiv( deadline.toEpochMilli() + tickMillis - 1L, tickMillis );
+		synchronized( this ) {
+			reschedule( secSessionId, deadlineTick );
+		}
+	}
+
+	/**
+	 *	Stop tracking a session without closing it.
+	 *
+	 *	@param	secSessionId	The session to forget.
+	 *	@return	True if the session was scheduled.
+	 */
+	public synchronized boolean cancel( CFLibDbKeyHash256 secSessionId ) {
+		if( secSessionId == null ) {
+			return( false );
+		}
+		Timer timer = timers.remove( secSessionId );
+		if( timer == null ) {
+			return( false );
+		}
+		unlink( timer );
+		return( true );
+	}
+
+	/**
+	 *	Get the deadline currently scheduled for a session.
+	 *
+	 *	@param	secSessionId	The session to probe.
+	 *	@return	The deadline, or null if the session is not scheduled.
+	 */
+	public synchronized Instant getDeadline( CFLibDbKeyHash256 secSessionId ) {
+		Timer timer = ( secSessionId == null ) ? null : timers.get( secSessionId );
+		if( timer == null ) {
+			return( null );
+		}
+		return( Instant.ofEpochMilli( timer.deadlineTick * tickMillis ) );
+	}
+
+	public synchronized int getScheduledCount() {
+		return( timers.size() );
+	}
+
+	public synchronized long getExpiredCount() {
+		return( expiredCount );
+	}
+
+	/**
+	 *	Advance the wheel to the clock and close every session whose deadline
+	 *	has passed, batchSize sessions per table update.
+	 *
+	 *	@return	The number of sessions that were closed.
+	 */
+	public int sweep() {
+		List<CFLibDbKeyHash256> expired;
+		synchronized( this ) {
+			expired = advance( clock.millis() / tickMillis );
+		}
+		if( expired.isEmpty() ) {
+			return( 0 );
+		}
+		LocalDateTime finish = LocalDateTime.now( clock );
+		int closed = 0;
+		for( int from = 0; from < expired.size(); from += batchSize ) {
+			int to = Math.min( expired.size(), from + batchSize );
+			closed += sessionTable.finishSecSessions( null, expired.subList( from, to ), finish );
+		}
+		synchronized( this ) {
+			expiredCount += closed;
+		}
+		return( closed );
+	}
+
+	/**
+	 *	Run sweep() once per tick on an executor until close() is called.
+	 *
+	 *	@param	executor	The executor to schedule the sweeps on.
+	 */
+	public synchronized void start( ScheduledExecutorService executor ) {
+		if( executor == null ) {
+			throw new CFLibNullArgumentException( getClass(), "start", 1, "executor" );
+		}
+		if( sweeper != null ) {
+			return;
+		}
+		sweeper = executor.scheduleWithFixedDelay( this::sweep, tickMillis, tickMillis, TimeUnit.MILLISECONDS );
+	}
+
+	/**
+	 *	Stop sweeping, stop following the table and drop every timer.  Sessions
+	 *	are left open.
+	 */
+	public synchronized void close() {
+		if( sweeper != null ) {
+			sweeper.cancel( false );
+			sweeper = null;
+		}
+		sessionTable.removeListener( sessionListener );
+		timers.clear();
+		for( Timer[] level : wheel ) {
+			Arrays.fill( level, null );
+		}
+		overdue[0] = null;
+	}
+
+	protected void reschedule( CFLibDbKeyHash256 secSessionId, long deadlineTick ) {
+		Timer timer = timers.get( secSessionId );
+		if( timer == null ) {
+			timer = new Timer( secSessionId );
+			timers.put( secSessionId, timer );
+		}
+		else {
+			unlink( timer );
+		}
+		timer.deadlineTick = deadlineTick;
+		place( timer );
+	}
+
+	/*
+	 *	Choose the level from the distance to the deadline and the slot from the
+	 *	deadline's own bits at that level, so each slot is cascaded exactly when
+	 *	the wheel reaches the span that holds its timers.
+	 */
+	protected void place( Timer timer ) {
+		long delta = timer.deadlineTick - currentTick;
+		if( delta <= 0L ) {
+			link( timer, overdue, 0 );
+			return;
+		}
+		long due = timer.deadlineTick;
+		if( delta >= MAX_SPAN ) {
+			due = currentTick + MAX_SPAN - 1L;
+			delta = MAX_SPAN - 1L;
+		}
+		int level = 0;
+		while( ( level < LEVELS - 1 ) && ( delta >= ( 1L << ( SLOT_BITS * ( level + 1 ) ) ) ) ) {
+			level++;
+		}
+		int slot = (int)( ( due >>> ( SLOT_BITS * level ) ) & SLOT_MASK );
+		link( timer, wheel[level], slot );
+	}
+
+	protected void link( Timer timer, Timer[] bucket, int slot ) {
+		Timer head = bucket[slot];
+		timer.prev = null;
+		timer.next = head;
+		if( head != null ) {
+			head.prev = timer;
+		}
+		bucket[slot] = timer;
+		timer.bucket = bucket;
+		timer.slot = slot;
+	}
+
+	protected void unlink( Timer timer ) {
+		if( timer.bucket == null ) {
+			return;
+		}
+		if( timer.prev != null ) {
+			timer.prev.next = timer.next;
+		}
+		else {
+			timer.bucket[timer.slot] = timer.next;
+		}
+		if( timer.next != null ) {
+			timer.next.prev = timer.prev;
+		}
+		timer.prev = null;
+		timer.next = null;
+		timer.bucket = null;
+		timer.slot = -1;
+	}
+
+	protected Timer detachSlot( Timer[] bucket, int slot ) {
+		Timer head = bucket[slot];
+		bucket[slot] = null;
+		for( Timer t = head; t != null; t = t.next ) {
+			t.bucket = null;
+			t.slot = -1;
+		}
+		return( head );
+	}
+
+	protected void expireList( Timer head, List<CFLibDbKeyHash256> expired ) {
+		Timer t = head;
+		while( t != null ) {
+			Timer next = t.next;
+			t.prev = null;
+			t.next = null;
+			timers.remove( t.secSessionId );
+			expired.add( t.secSessionId );
+			t = next;
+		}
+	}
+
+	protected void cascade( int level, int slot, List<CFLibDbKeyHash256> expired ) {
+		Timer t = detachSlot( wheel[level], slot );
+		while( t != null ) {
+			Timer next = t.next;
+			t.prev = null;
+			t.next = null;
+			if( t.deadlineTick <= currentTick ) {
+				timers.remove( t.secSessionId );
+				expired.add( t.secSessionId );
+			}
+			else {
+				place( t );
+			}
+			t = next;
+		}
+	}
+
+	/*
+	 *	Turn the wheel one tick at a time up to nowTick.  When nothing is
+	 *	scheduled the wheel jumps straight to nowTick, so an idle wheel costs
+	 *	nothing however long it has been since the last sweep.
+	 */
+	protected List<CFLibDbKeyHash256> advance( long nowTick ) {
+		ArrayList<CFLibDbKeyHash256> expired = new ArrayList<>();
+		expireList( detachSlot( overdue, 0 ), expired );
+		while( currentTick < nowTick ) {
+			if( timers.isEmpty() ) {
+				currentTick = nowTick;
+				break;
+			}
+			currentTick++;
+			for( int level = LEVELS - 1; level > 0; level-- ) {
+				long span = 1L << ( SLOT_BITS * level );
+				if( ( currentTick & ( span - 1L ) ) == 0L ) {
+					cascade( level, (int)( ( currentTick >>> ( SLOT_BITS * level ) ) & SLOT_MASK ), expired );
+				}
+			}
+			expireList( detachSlot( wheel[0], (int)( currentTick & SLOT_MASK ) ), expired );
+			expireList( detachSlot( overdue, 0 ), expired );
+		}
+		return( expired );
+	}
+}
@@ -0,0 +1,705 @@
+// Description: Java 25 time-ordered SecSession index for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffSessionTimeIndex keeps SecSessions in time order, so audits can ask
+ *	for the sessions that started, finished or were open in a window without
+ *	loading every session.
+ *
+ *	Three scopes are kept: per user, per cluster and table-wide.  Each scope
+ *	holds skip lists ordered by (key, start, id) and (key, finish, id), with
+ *	live sessions sorting after every finish.  A third skip list holds only the
+ *	live sessions by start.  Range results are views over the skip lists, so
+ *	they are walked lazily in either direction and never copied.
+ *
+ *	An overlap query for [from, to] scans the sessions that started between
+ *	from minus the longest finished session of the queried key and to, plus the
+ *	live sessions that started before that.  Each scope keeps the lengths of
+ *	the finished sessions of every key as a counted multiset, so the bound
+ *	follows the sessions that are indexed now: it shrinks when the longest
+ *	session is removed, and one user's long session does not widen the scan of
+ *	another user.  Both parts come out in start order, and the live
+ *	part sorts first, so the concatenation is in start order too.
+ *
+ *	A SecSession row does not record its cluster.  Callers bind it with
+ *	bindCluster(), and the binding is kept after the session finishes so
+ *	historical cluster audits still see it.
+ *
+ *	The index loads from the table when it is constructed and then follows it.
+ *	Changes are applied under the index monitor.  Readers never lock, and they
+ *	see weakly consistent views while a change is being applied.
+ */
+public class CFSecBuffSessionTimeIndex
+{
+	/*
+	 *	An immutable snapshot of the time columns of one SecSession.
+	 */
+	public static final class SessionSpan {
+		protected final CFLibDbKeyHash256 secSessionId;
+		protected final CFLibDbKeyHash256 secUserId;
+		protected final CFLibDbKeyHash256 clusterId;
+		protected final LocalDateTime start;
+		protected final LocalDateTime finish;
+		protected final int bias;
+
+		protected SessionSpan( CFLibDbKeyHash256 secSessionId,
+			CFLibDbKeyHash256 secUserId,
+			CFLibDbKeyHash256 clusterId,
+			LocalDateTime start,
+			LocalDateTime finish,
+			int bias )
+		{
+			this.secSessionId = secSessionId;
+			this.secUserId = secUserId;
+			this.clusterId = clusterId;
+			this.start = start;
+			this.finish = finish;
+			this.bias = bias;
+		}
+
+		public CFLibDbKeyHash256 getSecSessionId() {
+			return( secSessionId );
+		}
+
+		public CFLibDbKeyHash256 getSecUserId() {
+			return( secUserId );
+		}
+
+		public CFLibDbKeyHash256 getClusterId() {
+			return( clusterId );
+		}
+
+		public LocalDateTime getStart() {
+			return( start );
+		}
+
+		public LocalDateTime getFinish() {
+			return( finish );
+		}
+
+		public boolean isLive() {
+			return( finish == null );
+		}
+
+		protected Duration length() {
+			return( Duration.between( start, finish ) );
+		}
+
+		protected LocalDateTime finishKey() {
+			return( ( finish == null ) ? LocalDateTime.MAX : finish );
+		}
+
+		protected SessionSpan withClusterId( CFLibDbKeyHash256 value ) {
+			return( new SessionSpan( secSessionId, secUserId, value, start, finish, 0 ) );
+		}
+
+		@Override
+		public String toString() {
+			return( "SessionSpan[" + secSessionId + ", " + secUserId + ", " + start + ", " + finish + "]" );
+		}
+	}
+
+	/*
+	 *	The skip lists for one scope.  The key of a span in this scope comes from
+	 *	keyOf; the table-wide scope uses a constant null key.
+	 */
+	protected static final class Scope {
+		protected static final Object UNKEYED = new Object();
+
+		protected final Function<SessionSpan, CFLibDbKeyHash256> keyOf;
+		protected final boolean keyed;
+		protected final ConcurrentSkipListSet<SessionSpan> byStart;
+		protected final ConcurrentSkipListSet<SessionSpan> byFinish;
+		protected final ConcurrentSkipListSet<SessionSpan> liveByStart;
+		protected final ConcurrentHashMap<Object, ConcurrentSkipListMap<Duration, Integer>> finishedLengths = new ConcurrentHashMap<>();
+
+		protected Scope( Function<SessionSpan, CFLibDbKeyHash256> keyOf, boolean keyed ) {
+			this.keyOf = keyOf;
+			this.keyed = keyed;
+			Comparator<SessionSpan> startOrder = ( lhs, rhs ) -> compareSpans( keyOf.apply( lhs ), lhs.start, lhs, keyOf.apply( rhs ), rhs.start, rhs );
+			Comparator<SessionSpan> finishOrder = ( lhs, rhs ) -> compareSpans( keyOf.apply( lhs ), lhs.finishKey(), lhs, keyOf.apply( rhs ), rhs.finishKey(), rhs );
+			byStart = new ConcurrentSkipListSet<>( startOrder );
+			byFinish = new ConcurrentSkipListSet<>( finishOrder );
+			liveByStart = new ConcurrentSkipListSet<>( startOrder );
+		}
+
+		protected static Object lengthsKey( CFLibDbKeyHash256 key ) {
+			return( ( key == null ) ? UNKEYED : key );
+		}
+
+		/**
+		 *	@return	The length of the longest finished session of a key, or zero.
+		 */
+		protected Duration longestFinished( CFLibDbKeyHash256 key ) {
+			ConcurrentSkipListMap<Duration, Integer> lengths = finishedLengths.get( lengthsKey( key ) );
+			if( lengths == null ) {
+				return( Duration.ZERO );
+			}
+			Map.Entry<Duration, Integer> longest = lengths.lastEntry();
+			return( ( longest == null ) ? Duration.ZERO : longest.getKey() );
+		}
+
+		protected void add( SessionSpan span ) {
+			if( keyed && ( keyOf.apply( span ) == null ) ) {
+				return;
+			}
+			// The length is counted before the span is visible, so no reader
+			// can find the span with a bound that is too short for it
+			if( span.finish != null ) {
+				finishedLengths.computeIfAbsent( lengthsKey( keyOf.apply( span ) ), k -> new ConcurrentSkipListMap<>() )
+					.merge( span.length(), 1, Integer::sum );
+			}
+			byStart.add( span );
+			byFinish.add( span );
+			if( span.finish == null ) {
+				liveByStart.add( span );
+			}
+		}
+
+		protected void remove( SessionSpan span ) {
+			if( keyed && ( keyOf.apply( span ) == null ) ) {
+				return;
+			}
+			byStart.remove( span );
+			byFinish.remove( span );
+			liveByStart.remove( span );
+			if( span.finish != null ) {
+				Object lengthsKey = lengthsKey( keyOf.apply( span ) );
+				ConcurrentSkipListMap<Duration, Integer> lengths = finishedLengths.get( lengthsKey );
+				if( lengths != null ) {
+					Duration length = span.length();
+					Integer count = lengths.get( length );
+					if( ( count == null ) || ( count.intValue() <= 1 ) ) {
+						lengths.remove( length );
+						if( lengths.isEmpty() ) {
+							finishedLengths.remove( lengthsKey, lengths );
+						}
+					}
+					else {
+						lengths.put( length, count - 1 );
+					}
+				}
+			}
+		}
+
+		protected SessionSpan probe( CFLibDbKeyHash256 key, LocalDateTime at, int bias ) {
+			return( new SessionSpan( null, key, key, at, at, bias ) );
+		}
+
+		protected NavigableSet<SessionSpan> startRange( CFLibDbKeyHash256 key, LocalDateTime from, LocalDateTime to ) {
+			return( byStart.subSet( probe( key, ( from == null ) ? LocalDateTime.MIN : from, -1 ), true,
+				probe( key, ( to == null ) ? LocalDateTime.MAX : to, 1 ), true ) );
+		}
+
+		protected NavigableSet<SessionSpan> finishRange( CFLibDbKeyHash256 key, LocalDateTime from, LocalDateTime to ) {
+			// Live sessions sort at MAX, so an open upper bound stops just below them
+			return( byFinish.subSet( probe( key, ( from == null ) ? LocalDateTime.MIN : from, -1 ), true,
+				( to == null ) ? probe( key, LocalDateTime.MAX, -1 ) : probe( key, to, 1 ), true ) );
+		}
+
+		protected Iterable<SessionSpan> overlapping( CFLibDbKeyHash256 key, LocalDateTime from, LocalDateTime to ) {
+			Duration longest = longestFinished( key );
+			LocalDateTime lower;
+			if( from.isBefore( LocalDateTime.MIN.plus( longest ) ) ) {
+				lower = LocalDateTime.MIN;
+			}
+			else {
+				lower = from.minus( longest );
+			}
+			NavigableSet<SessionSpan> oldLive = liveByStart.subSet( probe( key, LocalDateTime.MIN, -1 ), true,
+				probe( key, lower, -1 ), false );
+			NavigableSet<SessionSpan> recent = byStart.subSet( probe( key, lower, -1 ), true,
+				probe( key, to, 1 ), true );
+			return( new SpanIterable( oldLive, recent, span -> ( span.finish == null ) || span.finish.isAfter( from ) ) );
+		}
+
+		protected List<SessionSpan> page( CFLibDbKeyHash256 key, SessionSpan before, int limit ) {
+			NavigableSet<SessionSpan> older;
+			if( before == null ) {
+				older = startRange( key, null, null ).descendingSet();
+			}
+			else {
+				SessionSpan cursor = new SessionSpan( before.secSessionId, key, key, before.start, before.finish, 0 );
+				older = byStart.subSet( probe( key, LocalDateTime.MIN, -1 ), true, cursor, false ).descendingSet();
+			}
+			ArrayList<SessionSpan> page = new ArrayList<>( Math.min( limit, 64 ) );
+			Iterator<SessionSpan> iter = older.iterator();
+			while( ( page.size() < limit ) && iter.hasNext() ) {
+				page.add( iter.next() );
+			}
+			return( page );
+		}
+
+		protected void clear() {
+			byStart.clear();
+			byFinish.clear();
+			liveByStart.clear();
+			finishedLengths.clear();
+		}
+	}
+
+	/*
+	 *	A lazy concatenation of a head set and a filtered tail set.
+	 */
+	protected static final class SpanIterable implements Iterable<SessionSpan> {
+		protected final Iterable<SessionSpan> head;
+		protected final Iterable<SessionSpan> tail;
+		protected final Predicate<SessionSpan> tailFilter;
+
+		protected SpanIterable( Iterable<SessionSpan> head, Iterable<SessionSpan> tail, Predicate<SessionSpan> tailFilter ) {
+			this.head = head;
+			this.tail = tail;
+			this.tailFilter = tailFilter;
+		}
+
+		@Override
+		public Iterator<SessionSpan> iterator() {
+			final Iterator<SessionSpan> headIter = head.iterator();
+			final Iterator<SessionSpan> tailIter = tail.iterator();
+			return( new Iterator<SessionSpan>() {
+				SessionSpan pending = null;
+
+				@Override
+				public boolean hasNext() {
+					if( pending != null ) {
+						return( true );
+					}
+					if( headIter.hasNext() ) {
+						pending = headIter.next();
+						return( true );
+					}
+					while( tailIter.hasNext() ) {
+						SessionSpan span = tailIter.next();
+						if( tailFilter.test( span ) ) {
+							pending = span;
+							return( true );
+						}
+					}
+					return( false );
+				}
+
+				@Override
+				public SessionSpan next() {
+					if( ! hasNext() ) {
+						throw new NoSuchElementException();
+					}
+					SessionSpan span = pending;
+					pending = null;
+					return( span );
+				}
+			} );
+		}
+	}
+
+	protected final CFSecBuffSecSessionTable sessionTable;
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, SessionSpan> spans = new ConcurrentHashMap<>();
+	protected final Scope byUser = new Scope( span -> span.secUserId, true );
+	protected final Scope byCluster = new Scope( span -> span.clusterId, true );
+	protected final Scope global = new Scope( span -> null, false );
+
+	protected final CFSecBuffTableListener<ICFSecSecSession> sessionListener = new CFSecBuffTableListener<ICFSecSecSession>() {
+		@Override
+		public void recCreated( ICFSecSecSession rec ) {
+			put( rec );
+		}
+
+		@Override
+		public void recUpdated( ICFSecSecSession existing, ICFSecSecSession rec ) {
+			put( rec );
+		}
+
+		@Override
+		public void recDeleted( ICFSecSecSession rec ) {
+			remove( rec.getRequiredSecSessionId() );
+		}
+	};
+
+	/**
+	 *	Construct an index over a SecSession table, loading its sessions.
+	 *
+	 *	@param	sessionTable	The table to index.
+	 */
+	public CFSecBuffSessionTimeIndex( CFSecBuffSecSessionTable sessionTable ) {
+		if( sessionTable == null ) {
+			throw new CFLibNullArgumentException( getClass(), "construct", 1, "sessionTable" );
+		}
+		this.sessionTable = sessionTable;
+		sessionTable.addListener( sessionListener, true );
+	}
+
+	/**
+	 *	Stop following the table and drop the index.
+	 */
+	public synchronized void close() {
+		sessionTable.removeListener( sessionListener );
+		spans.clear();
+		byUser.clear();
+		byCluster.clear();
+		global.clear();
+	}
+
+	protected static int compareSpans( CFLibDbKeyHash256 lhsKey, LocalDateTime lhsTime, SessionSpan lhs,
+		CFLibDbKeyHash256 rhsKey, LocalDateTime rhsTime, SessionSpan rhs )
+	{
+		int cmp;
+		if( lhsKey != rhsKey ) {
+			if( lhsKey == null ) {
+				return( -1 );
+			}
+			if( rhsKey == null ) {
+				return( 1 );
+			}
+			cmp = lhsKey.compareTo( rhsKey );
+			if( cmp != 0 ) {
+				return( cmp );
+			}
+		}
+		cmp = lhsTime.compareTo( rhsTime );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		if( ( lhs.secSessionId == null ) || ( rhs.secSessionId == null ) ) {
+			return( Integer.compare( lhs.bias, rhs.bias ) );
+		}
+		return( lhs.secSessionId.compareTo( rhs.secSessionId ) );
+	}
+
+	protected synchronized void put( ICFSecSecSession rec ) {
+		CFLibDbKeyHash256 secSessionId = rec.getRequiredSecSessionId();
+		SessionSpan prev = spans.get( secSessionId );
+		SessionSpan span = new SessionSpan( secSessionId,
+			rec.getRequiredSecUserId(),
+			( prev == null ) ? null : prev.clusterId,
+			rec.getRequiredStart(),
+			rec.getOptionalFinish(),
+			0 );
+		replace( prev, span );
+	}
+
+	protected synchronized void remove( CFLibDbKeyHash256 secSessionId ) {
+		replace( spans.get( secSessionId ), null );
+	}
+
+	protected void replace( SessionSpan prev, SessionSpan span ) {
+		if( prev != null ) {
+			byUser.remove( prev );
+			byCluster.remove( prev );
+			global.remove( prev );
+			spans.remove( prev.secSessionId );
+		}
+		if( span != null ) {
+			spans.put( span.secSessionId, span );
+			byUser.add( span );
+			byCluster.add( span );
+			global.add( span );
+		}
+	}
+
+	/**
+	 *	Bind a session to the cluster it was opened in, replacing any earlier
+	 *	binding.  Unknown sessions are ignored.
+	 *
+	 *	@param	secSessionId	The session.
+	 *	@param	clusterId	The cluster, or null to unbind.
+	 */
+	public synchronized void bindCluster( CFLibDbKeyHash256 secSessionId, CFLibDbKeyHash256 clusterId ) {
+		SessionSpan prev = ( secSessionId == null ) ? null : spans.get( secSessionId );
+		if( ( prev == null ) || Objects.equals( prev.clusterId, clusterId ) ) {
+			return;
+		}
+		replace( prev, prev.withClusterId( clusterId ) );
+	}
+
+	/**
+	 *	Get the current span of a session.
+	 *
+	 *	@param	secSessionId	The session.
+	 *	@return	The span, or null if the session is not indexed.
+	 */
+	public SessionSpan getSpan( CFLibDbKeyHash256 secSessionId ) {
+		return( ( secSessionId == null ) ? null : spans.get( secSessionId ) );
+	}
+
+	/**
+	 *	Get the duration of the longest finished session now indexed, which bounds
+	 *	how far back a table-wide overlap query has to look.
+	 */
+	public Duration getLongestFinished() {
+		return( global.longestFinished( null ) );
+	}
+
+	protected static NavigableSet<SessionSpan> ordered( NavigableSet<SessionSpan> set, boolean newestFirst ) {
+		return( Collections.unmodifiableNavigableSet( newestFirst ? set.descendingSet() : set ) );
+	}
+
+	protected static void checkWindow( Class<?> cls, String procName, int fromIdx, LocalDateTime from, LocalDateTime to ) {
+		if( from == null ) {
+			throw new CFLibNullArgumentException( cls, procName, fromIdx, "from" );
+		}
+		if( to == null ) {
+			throw new CFLibNullArgumentException( cls, procName, fromIdx + 1, "to" );
+		}
+		if( to.isBefore( from ) ) {
+			throw new CFLibInvalidArgumentException( cls, procName, "to is before from", "to is before from" );
+		}
+	}
+
+	protected static void checkLimit( Class<?> cls, String procName, int limitIdx, int limit ) {
+		if( limit < 1 ) {
+			throw new CFLibArgumentUnderflowException( cls, procName, limitIdx, "limit", limit, 1 );
+		}
+	}
+
+	/**
+	 *	Get a user's sessions that started in [from, to], as a live view.
+	 *
+	 *	@param	secUserId	The user.
+	 *	@param	from	The earliest start, or null for no lower bound.
+	 *	@param	to	The latest start, or null for no upper bound.
+	 *	@param	newestFirst	True to iterate in reverse chronological order.
+	 *	@return	The sessions, ordered by start.
+	 */
+	public NavigableSet<SessionSpan> getByUserStart( CFLibDbKeyHash256 secUserId, LocalDateTime from, LocalDateTime to, boolean newestFirst ) {
+		if( secUserId == null ) {
+			throw new CFLibNullArgumentException( getClass(), "getByUserStart", 1, "secUserId" );
+		}
+		return( ordered( byUser.startRange( secUserId, from, to ), newestFirst ) );
+	}
+
+	/**
+	 *	Get a user's finished sessions that finished in [from, to], as a live view.
+	 *
+	 *	@param	secUserId	The user.
+	 *	@param	from	The earliest finish, or null for no lower bound.
+	 *	@param	to	The latest finish, or null for no upper bound.
+	 *	@param	newestFirst	True to iterate in reverse chronological order.
+	 *	@return	The sessions, ordered by finish.
+	 */
+	public NavigableSet<SessionSpan> getByUserFinish( CFLibDbKeyHash256 secUserId, LocalDateTime from, LocalDateTime to, boolean newestFirst ) {
+		if( secUserId == null ) {
+			throw new CFLibNullArgumentException( getClass(), "getByUserFinish", 1, "secUserId" );
+		}
+		return( ordered( byUser.finishRange( secUserId, from, to ), newestFirst ) );
+	}
+
+	/**
+	 *	Get a user's sessions that were open at some point in [from, to], that is,
+	 *	started no later than to and finished after from or not at all.
+	 *
+	 *	@param	secUserId	The user.
+	 *	@param	from	The start of the window.
+	 *	@param	to	The end of the window.
+	 *	@return	The sessions, ordered by start.
+	 */
+	public Iterable<SessionSpan> getOverlappingByUser( CFLibDbKeyHash256 secUserId, LocalDateTime from, LocalDateTime to ) {
+		if( secUserId == null ) {
+			throw new CFLibNullArgumentException( getClass(), "getOverlappingByUser", 1, "secUserId" );
+		}
+		checkWindow( getClass(), "getOverlappingByUser", 2, from, to );
+		return( byUser.overlapping( secUserId, from, to ) );
+	}
+
+	/**
+	 *	Get a user's sessions that were open at an instant.
+	 *
+	 *	@param	secUserId	The user.
+	 *	@param	at	The instant.
+	 *	@return	The sessions, ordered by start.
+	 */
+	public Iterable<SessionSpan> getActiveAtByUser( CFLibDbKeyHash256 secUserId, LocalDateTime at ) {
+		return( getOverlappingByUser( secUserId, at, at ) );
+	}
+
+	/**
+	 *	Get a page of a user's sessions in reverse chronological order of start.
+	 *
+	 *	@param	secUserId	The user.
+	 *	@param	before	The last span of the previous page, or null for the newest page.
+	 *	@param	limit	The most spans to return.
+	 *	@return	Up to limit spans, newest first.
+	 */
+	public List<SessionSpan> getPageByUser( CFLibDbKeyHash256 secUserId, SessionSpan before, int limit ) {
+		if( secUserId == null ) {
+			throw new CFLibNullArgumentException( getClass(), "getPageByUser", 1, "secUserId" );
+		}
+		checkLimit( getClass(), "getPageByUser", 3, limit );
+		return( byUser.page( secUserId, before, limit ) );
+	}
+
+	/**
+	 *	Get the sessions bound to a cluster that started in [from, to], as a live view.
+	 *
+	 *	@param	clusterId	The cluster.
+	 *	@param	from	The earliest start, or null for no lower bound.
+	 *	@param	to	The latest start, or null for no upper bound.
+	 *	@param	newestFirst	True to iterate in reverse chronological order.
+	 *	@return	The sessions, ordered by start.
+	 */
+	public NavigableSet<SessionSpan> getByClusterStart( CFLibDbKeyHash256 clusterId, LocalDateTime from, LocalDateTime to, boolean newestFirst ) {
+		if( clusterId == null ) {
+			throw new CFLibNullArgumentException( getClass(), "getByClusterStart", 1, "clusterId" );
+		}
+		return( ordered( byCluster.startRange( clusterId, from, to ), newestFirst ) );
+	}
+
+	/**
+	 *	Get the finished sessions bound to a cluster that finished in [from, to],
+	 *	as a live view.
+	 *
+	 *	@param	clusterId	The cluster.
+	 *	@param	from	The earliest finish, or null for no lower bound.
+	 *	@param	to	The latest finish, or null for no upper bound.
+	 *	@param	newestFirst	True to iterate in reverse chronological order.
+	 *	@return	The sessions, ordered by finish.
+	 */
+	public NavigableSet<SessionSpan> getByClusterFinish( CFLibDbKeyHash256 clusterId, LocalDateTime from, LocalDateTime to, boolean newestFirst ) {
+		if( clusterId == null ) {
+			throw new CFLibNullArgumentException( getClass(), "getByClusterFinish", 1, "clusterId" );
+		}
+		return( ordered( byCluster.finishRange( clusterId, from, to ), newestFirst ) );
+	}
+
+	/**
+	 *	Get the sessions bound to a cluster that were open at some point in
+	 *	[from, to].
+	 *
+	 *	@param	clusterId	The cluster.
+	 *	@param	from	The start of the window.
+	 *	@param	to	The end of the window.
+	 *	@return	The sessions, ordered by start.
+	 */
+	public Iterable<SessionSpan> getOverlappingByCluster( CFLibDbKeyHash256 clusterId, LocalDateTime from, LocalDateTime to ) {
+		if( clusterId == null ) {
+			throw new CFLibNullArgumentException( getClass(), "getOverlappingByCluster", 1, "clusterId" );
+		}
+		checkWindow( getClass(), "getOverlappingByCluster", 2, from, to );
+		return( byCluster.overlapping( clusterId, from, to ) );
+	}
+
+	/**
+	 *	Get the sessions bound to a cluster that were open at an instant.
+	 *
+	 *	@param	clusterId	The cluster.
+	 *	@param	at	The instant.
+	 *	@return	The sessions, ordered by start.
+	 */
+	public Iterable<SessionSpan> getActiveAtByCluster( CFLibDbKeyHash256 clusterId, LocalDateTime at ) {
+		return( getOverlappingByCluster( clusterId, at, at ) );
+	}
+
+	/**
+	 *	Get a page of the sessions bound to a cluster in reverse chronological
+	 *	order of start.
+	 *
+	 *	@param	clusterId	The cluster.
+	 *	@param	before	The last span of the previous page, or null for the newest page.
+	 *	@param	limit	The most spans to return.
+	 *	@return	Up to limit spans, newest first.
+	 */
+	public List<SessionSpan> getPageByCluster( CFLibDbKeyHash256 clusterId, SessionSpan before, int limit ) {
+		if( clusterId == null ) {
+			throw new CFLibNullArgumentException( getClass(), "getPageByCluster", 1, "clusterId" );
+		}
+		checkLimit( getClass(), "getPageByCluster", 3, limit );
+		return( byCluster.page( clusterId, before, limit ) );
+	}
+
+	/**
+	 *	Get every session that started in [from, to], as a live view.
+	 *
+	 *	@param	from	The earliest start, or null for no lower bound.
+	 *	@param	to	The latest start, or null for no upper bound.
+	 *	@param	newestFirst	True to iterate in reverse chronological order.
+	 *	@return	The sessions, ordered by start.
+	 */
+	public NavigableSet<SessionSpan> getByStart( LocalDateTime from, LocalDateTime to, boolean newestFirst ) {
+		return( ordered( global.startRange( null, from, to ), newestFirst ) );
+	}
+
+	/**
+	 *	Get every finished session that finished in [from, to], as a live view.
+	 *
+	 *	@param	from	The earliest finish, or null for no lower bound.
+	 *	@param	to	The latest finish, or null for no upper bound.
+	 *	@param	newestFirst	True to iterate in reverse chronological order.
+	 *	@return	The sessions, ordered by finish.
+	 */
+	public NavigableSet<SessionSpan> getByFinish( LocalDateTime from, LocalDateTime to, boolean newestFirst ) {
+		return( ordered( global.finishRange( null, from, to ), newestFirst ) );
+	}
+
+	/**
+	 *	Get every session that was open at some point in [from, to].
+	 *
+	 *	@param	from	The start of the window.
+	 *	@param	to	The end of the window.
+	 *	@return	The sessions, ordered by start.
+	 */
+	public Iterable<SessionSpan> getOverlapping( LocalDateTime from, LocalDateTime to ) {
+		checkWindow( getClass(), "getOverlapping", 1, from, to );
+		return( global.overlapping( null, from, to ) );
+	}
+
+	/**
+	 *	Get every session that was open at an instant.
+	 *
+	 *	@param	at	The instant.
+	 *	@return	The sessions, ordered by start.
+	 */
+	public Iterable<SessionSpan> getActiveAt( LocalDateTime at ) {
+		return( getOverlapping( at, at ) );
+	}
+
+	/**
+	 *	Get a page of every session in reverse chronological order of start.
+	 *
+	 *	@param	before	The last span of the previous page, or null for the newest page.
+	 *	@param	limit	The most spans to return.
+	 *	@return	Up to limit spans, newest first.
+	 */
+	public List<SessionSpan> getPage( SessionSpan before, int limit ) {
+		checkLimit( getClass(), "getPage", 2, limit );
+		return( global.page( null, before, limit ) );
+	}
+}
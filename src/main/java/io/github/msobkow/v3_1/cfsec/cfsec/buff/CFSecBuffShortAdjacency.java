@@ -0,0 +1,220 @@
+// Description: Java 25 packed short-id adjacency for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.util.*;
+import io.github.msobkow.v3_1.cflib.*;
+
+/*
+ *	CFSecBuffShortAdjacency is an immutable bidirectional adjacency over pairs
+ *	of short ids, such as the ISOCtryCcy and ISOCtryLang join tables.
+ *
+ *	Each direction is stored in compressed sparse row form.  An offset array
+ *	indexed by source id less the smallest source id gives the bounds of the
+ *	source's slice of a packed short array of targets, sorted ascending.  The
+ *	targets of an id are therefore read as a slice, with toStart()/toEnd() and
+ *	toAt(), or walked with forEachTo(), without touching a record or boxing an
+ *	id.  The from* methods do the same in the reverse direction.
+ */
+public final class CFSecBuffShortAdjacency
+{
+	/*
+	 *	Receives short ids during primitive iteration.
+	 */
+	@FunctionalInterface
+	public interface ShortConsumer {
+		void accept( short id );
+	}
+
+	protected static final class Side {
+		protected final short minId;
+		protected final int[] offsets;
+		protected final short[] ids;
+
+		protected Side( short[] sources, short[] targets, int count ) {
+			if( count == 0 ) {
+				minId = 0;
+				offsets = new int[1];
+				ids = new short[0];
+				return;
+			}
+			short lo = Short.MAX_VALUE;
+			short hi = Short.MIN_VALUE;
+			for( int idx = 0; idx < count; idx++ ) {
+				lo = (short)Math.min( lo, sources[idx] );
+				hi = (short)Math.max( hi, sources[idx] );
+			}
+			minId = lo;
+			offsets = new int[hi - lo + 2];
+			for( int idx = 0; idx < count; idx++ ) {
+				offsets[sources[idx] - lo + 1]++;
+			}
+			for( int slot = 1; slot < offsets.length; slot++ ) {
+				offsets[slot] += offsets[slot - 1];
+			}
+			ids = new short[count];
+			int[] fill = Arrays.copyOf( offsets, offsets.length - 1 );
+			for( int idx = 0; idx < count; idx++ ) {
+				ids[fill[sources[idx] - lo]++] = targets[idx];
+			}
+			for( int slot = 0; slot < offsets.length - 1; slot++ ) {
+				Arrays.sort( ids, offsets[slot], offsets[slot + 1] );
+			}
+		}
+
+		protected int start( short id ) {
+			int slot = id - minId;
+			return( ( ( slot >= 0 ) && ( slot < offsets.length - 1 ) ) ? offsets[slot] : 0 );
+		}
+
+		protected int end( short id ) {
+			int slot = id - minId;
+			return( ( ( slot >= 0 ) && ( slot < offsets.length - 1 ) ) ? offsets[slot + 1] : 0 );
+		}
+
+		protected void forEach( short id, ShortConsumer consumer ) {
+			for( int pos = start( id ), end = end( id ); pos < end; pos++ ) {
+				consumer.accept( ids[pos] );
+			}
+		}
+
+		protected short[] copy( short id ) {
+			return( Arrays.copyOfRange( ids, start( id ), end( id ) ) );
+		}
+	}
+
+	protected final Side forward;
+	protected final Side reverse;
+
+	protected CFSecBuffShortAdjacency( short[] fromIds, short[] toIds, int count ) {
+		forward = new Side( fromIds, toIds, count );
+		reverse = new Side( toIds, fromIds, count );
+	}
+
+	/**
+	 *	Build an adjacency from parallel arrays of edges.  Duplicate edges are
+	 *	not removed.
+	 *
+	 *	@param	fromIds	The source of each edge.
+	 *	@param	toIds	The target of each edge.
+	 *	@param	count	The number of edges in the arrays.
+	 *	@return	The adjacency.
+	 */
+	public static CFSecBuffShortAdjacency build( short[] fromIds, short[] toIds, int count ) {
+		final String S_ProcName = "build";
+		if( fromIds == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffShortAdjacency.class, S_ProcName, 1, "fromIds" );
+		}
+		if( toIds == null ) {
+			throw new CFLibNullArgumentException( CFSecBuffShortAdjacency.class, S_ProcName, 2, "toIds" );
+		}
+		if( count < 0 ) {
+			throw new CFLibArgumentUnderflowException( CFSecBuffShortAdjacency.class, S_ProcName, 3, "count", count, 0 );
+		}
+		if( ( count > fromIds.length ) || ( count > toIds.length ) ) {
+			throw new CFLibArgumentOverflowException( CFSecBuffShortAdjacency.class, S_ProcName, 3, "count", count, Math.min( fromIds.length, toIds.length ) );
+		}
+		return( new CFSecBuffShortAdjacency( fromIds, toIds, count ) );
+	}
+
+	public int getEdgeCount() {
+		return( forward.ids.length );
+	}
+
+	/**
+	 *	Get the position of the first target of a source in the target slice
+	 *	space.  Positions run to toEnd() and are read with toAt().
+	 */
+	public int toStart( short fromId ) {
+		return( forward.start( fromId ) );
+	}
+
+	public int toEnd( short fromId ) {
+		return( forward.end( fromId ) );
+	}
+
+	public short toAt( int pos ) {
+		return( forward.ids[pos] );
+	}
+
+	public int toCount( short fromId ) {
+		return( forward.end( fromId ) - forward.start( fromId ) );
+	}
+
+	public void forEachTo( short fromId, ShortConsumer consumer ) {
+		forward.forEach( fromId, consumer );
+	}
+
+	public short[] copyTo( short fromId ) {
+		return( forward.copy( fromId ) );
+	}
+
+	/**
+	 *	Get the position of the first source of a target in the source slice
+	 *	space.  Positions run to fromEnd() and are read with fromAt().
+	 */
+	public int fromStart( short toId ) {
+		return( reverse.start( toId ) );
+	}
+
+	public int fromEnd( short toId ) {
+		return( reverse.end( toId ) );
+	}
+
+	public short fromAt( int pos ) {
+		return( reverse.ids[pos] );
+	}
+
+	public int fromCount( short toId ) {
+		return( reverse.end( toId ) - reverse.start( toId ) );
+	}
+
+	public void forEachFrom( short toId, ShortConsumer consumer ) {
+		reverse.forEach( toId, consumer );
+	}
+
+	public short[] copyFrom( short toId ) {
+		return( reverse.copy( toId ) );
+	}
+
+	/**
+	 *	Test for an edge by binary search of the source's slice.
+	 */
+	public boolean containsEdge( short fromId, short toId ) {
+		int start = forward.start( fromId );
+		int end = forward.end( fromId );
+		return( ( end > start ) && ( Arrays.binarySearch( forward.ids, start, end, toId ) >= 0 ) );
+	}
+}
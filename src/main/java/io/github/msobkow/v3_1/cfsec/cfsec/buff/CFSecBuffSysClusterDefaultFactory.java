@@ -54,6 +54,32 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffSysClusterDefaultFactory
 	implements ICFSecSysClusterFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffSysClusterByClusterIdxKey> probeByClusterIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffSysClusterByClusterIdxKey() );
+
+	/**
+	 *	Orders SysCluster instances by primary key.
+	 */
+	public static final Comparator<ICFSecSysCluster> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( Integer.compare( lhs.getRequiredSingletonId(), rhs.getRequiredSingletonId() ) );
+	};
+
+	/**
+	 *	Orders SysCluster instances by the ClusterIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecSysCluster> COMPARE_BY_CLUSTERIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() ) );
+	};
+
+	/**
+	 *	Orders ClusterIdx keys.
+	 */
+	public static final Comparator<ICFSecSysClusterByClusterIdxKey> COMPARE_CLUSTERIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() ) );
+	};
+
 	public CFSecBuffSysClusterDefaultFactory() {
 	}
 
@@ -78,6 +104,10 @@ public class CFSecBuffSysClusterDefaultFactory
 		}
 	}
 
+	public static CFSecBuffSysClusterByClusterIdxKey getProbeByClusterIdxKey() {
+		return( probeByClusterIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecSysCluster newRec() {
 		ICFSecSysCluster rec =
@@ -98,4 +128,44 @@ public class CFSecBuffSysClusterDefaultFactory
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffSysCluster cloneRec( ICFSecSysCluster rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffSysCluster ) {
+			return( ( (CFSecBuffSysCluster)rec ).clone() );
+		}
+		else {
+			CFSecBuffSysCluster mapped = new CFSecBuffSysCluster();
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffSysCluster[] cloneRecs( ICFSecSysCluster[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffSysCluster[] retList = new CFSecBuffSysCluster[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
 }
@@ -55,8 +55,10 @@ public class CFSecBuffTSecGroupByTenantVisIdxKey
 {
 	protected CFLibDbKeyHash256 requiredTenantId;
 	protected boolean requiredIsVisible;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffTSecGroupByTenantVisIdxKey() {
-		requiredTenantId = CFLibDbKeyHash256.fromHex( ICFSecTSecGroup.TENANTID_INIT_VALUE.toString() );
+		requiredTenantId = ICFSecTSecGroup.TENANTID_INIT_VALUE;
 		requiredIsVisible = ICFSecTSecGroup.ISVISIBLE_INIT_VALUE;
 	}
 
@@ -74,6 +76,7 @@ public class CFSecBuffTSecGroupByTenantVisIdxKey
 				"value" );
 		}
 		requiredTenantId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -84,6 +87,7 @@ public class CFSecBuffTSecGroupByTenantVisIdxKey
 	@Override
 	public void setRequiredIsVisible( boolean value ) {
 		requiredIsVisible = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -142,15 +146,15 @@ public class CFSecBuffTSecGroupByTenantVisIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredTenantId().hashCode();
-		if( getRequiredIsVisible() ) {
-			hashCode = ( hashCode * 2 ) + 1;
-		}
-		else {
-			hashCode = hashCode * 2;
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredTenantId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredIsVisible() );
+			hashCode = CFSecBuffHash.finish( hashCode, 2 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
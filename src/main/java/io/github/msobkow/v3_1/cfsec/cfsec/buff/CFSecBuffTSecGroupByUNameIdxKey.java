@@ -55,8 +55,10 @@ public class CFSecBuffTSecGroupByUNameIdxKey
 {
 	protected CFLibDbKeyHash256 requiredTenantId;
 	protected String requiredName;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffTSecGroupByUNameIdxKey() {
-		requiredTenantId = CFLibDbKeyHash256.fromHex( ICFSecTSecGroup.TENANTID_INIT_VALUE.toString() );
+		requiredTenantId = ICFSecTSecGroup.TENANTID_INIT_VALUE;
 		requiredName = ICFSecTSecGroup.NAME_INIT_VALUE;
 	}
 
@@ -74,6 +76,7 @@ public class CFSecBuffTSecGroupByUNameIdxKey
 				"value" );
 		}
 		requiredTenantId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -98,6 +101,7 @@ public class CFSecBuffTSecGroupByUNameIdxKey
 				64 );
 		}
 		requiredName = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -180,12 +184,15 @@ public class CFSecBuffTSecGroupByUNameIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredTenantId().hashCode();
-		if( getRequiredName() != null ) {
-			hashCode = hashCode + getRequiredName().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredTenantId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredName() );
+			hashCode = CFSecBuffHash.finish( hashCode, 2 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
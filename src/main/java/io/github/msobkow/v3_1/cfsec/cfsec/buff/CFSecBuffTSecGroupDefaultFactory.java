@@ -54,13 +54,126 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffTSecGroupDefaultFactory
 	implements ICFSecTSecGroupFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffTSecGroupByTenantIdxKey> probeByTenantIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffTSecGroupByTenantIdxKey() );
+	protected static final ThreadLocal<CFSecBuffTSecGroupByTenantVisIdxKey> probeByTenantVisIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffTSecGroupByTenantVisIdxKey() );
+	protected static final ThreadLocal<CFSecBuffTSecGroupByUNameIdxKey> probeByUNameIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffTSecGroupByUNameIdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders TSecGroup instances by primary key.
+	 */
+	public static final Comparator<ICFSecTSecGroup> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( lhs.getRequiredTSecGroupId().compareTo( rhs.getRequiredTSecGroupId() ) );
+	};
+
+	/**
+	 *	Orders TSecGroup history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecTSecGroupHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredTSecGroupId().compareTo( rhs.getRequiredTSecGroupId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders TSecGroup instances by the TenantIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecTSecGroup> COMPARE_BY_TENANTIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredTenantId().compareTo( rhs.getRequiredTenantId() ) );
+	};
+
+	/**
+	 *	Orders TenantIdx keys.
+	 */
+	public static final Comparator<ICFSecTSecGroupByTenantIdxKey> COMPARE_TENANTIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredTenantId().compareTo( rhs.getRequiredTenantId() ) );
+	};
+
+	/**
+	 *	Orders TSecGroup instances by the TenantVisIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecTSecGroup> COMPARE_BY_TENANTVISIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredTenantId().compareTo( rhs.getRequiredTenantId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Boolean.compare( lhs.getRequiredIsVisible(), rhs.getRequiredIsVisible() ) );
+	};
+
+	/**
+	 *	Orders TenantVisIdx keys.
+	 */
+	public static final Comparator<ICFSecTSecGroupByTenantVisIdxKey> COMPARE_TENANTVISIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredTenantId().compareTo( rhs.getRequiredTenantId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Boolean.compare( lhs.getRequiredIsVisible(), rhs.getRequiredIsVisible() ) );
+	};
+
+	/**
+	 *	Orders TSecGroup instances by the UNameIdx columns.
+	 */
+	public static final Comparator<ICFSecTSecGroup> COMPARE_BY_UNAMEIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredTenantId().compareTo( rhs.getRequiredTenantId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredName().compareTo( rhs.getRequiredName() ) );
+	};
+
+	/**
+	 *	Orders UNameIdx keys.
+	 */
+	public static final Comparator<ICFSecTSecGroupByUNameIdxKey> COMPARE_UNAMEIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredTenantId().compareTo( rhs.getRequiredTenantId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredName().compareTo( rhs.getRequiredName() ) );
+	};
+
 	public CFSecBuffTSecGroupDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
 	@Override
 	public ICFSecTSecGroupHPKey newHPKey() {
 		ICFSecTSecGroupHPKey hpkey =
-			new CFSecBuffTSecGroupHPKey();
+			new CFSecBuffTSecGroupHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -72,7 +185,7 @@ public class CFSecBuffTSecGroupDefaultFactory
 			return( (CFSecBuffTSecGroupHPKey)key );
 		}
 		else {
-			CFSecBuffTSecGroupHPKey mapped = new CFSecBuffTSecGroupHPKey();
+			CFSecBuffTSecGroupHPKey mapped = new CFSecBuffTSecGroupHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -103,6 +216,10 @@ public class CFSecBuffTSecGroupDefaultFactory
 		}
 	}
 
+	public static CFSecBuffTSecGroupByTenantIdxKey getProbeByTenantIdxKey() {
+		return( probeByTenantIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecTSecGroupByTenantVisIdxKey newByTenantVisIdxKey() {
 		ICFSecTSecGroupByTenantVisIdxKey key =
@@ -125,6 +242,10 @@ public class CFSecBuffTSecGroupDefaultFactory
 		}
 	}
 
+	public static CFSecBuffTSecGroupByTenantVisIdxKey getProbeByTenantVisIdxKey() {
+		return( probeByTenantVisIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecTSecGroupByUNameIdxKey newByUNameIdxKey() {
 		ICFSecTSecGroupByUNameIdxKey key =
@@ -147,10 +268,14 @@ public class CFSecBuffTSecGroupDefaultFactory
 		}
 	}
 
+	public static CFSecBuffTSecGroupByUNameIdxKey getProbeByUNameIdxKey() {
+		return( probeByUNameIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecTSecGroup newRec() {
 		ICFSecTSecGroup rec =
-			new CFSecBuffTSecGroup();
+			new CFSecBuffTSecGroup( recStamp );
 		return( rec );
 	}
 
@@ -162,16 +287,56 @@ public class CFSecBuffTSecGroupDefaultFactory
 			return( (CFSecBuffTSecGroup)rec );
 		}
 		else {
-			CFSecBuffTSecGroup mapped = new CFSecBuffTSecGroup();
+			CFSecBuffTSecGroup mapped = new CFSecBuffTSecGroup( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffTSecGroup cloneRec( ICFSecTSecGroup rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffTSecGroup ) {
+			return( ( (CFSecBuffTSecGroup)rec ).clone() );
+		}
+		else {
+			CFSecBuffTSecGroup mapped = new CFSecBuffTSecGroup( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffTSecGroup[] cloneRecs( ICFSecTSecGroup[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffTSecGroup[] retList = new CFSecBuffTSecGroup[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecTSecGroupH newHRec() {
 		ICFSecTSecGroupH hrec =
-			new CFSecBuffTSecGroupH();
+			new CFSecBuffTSecGroupH( recStamp );
 		return( hrec );
 	}
 
@@ -183,9 +348,49 @@ public class CFSecBuffTSecGroupDefaultFactory
 			return( (CFSecBuffTSecGroupH)hrec );
 		}
 		else {
-			CFSecBuffTSecGroupH mapped = new CFSecBuffTSecGroupH();
+			CFSecBuffTSecGroupH mapped = new CFSecBuffTSecGroupH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffTSecGroupH cloneHRec( ICFSecTSecGroupH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffTSecGroupH ) {
+			return( ( (CFSecBuffTSecGroupH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffTSecGroupH mapped = new CFSecBuffTSecGroupH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffTSecGroupH[] cloneHRecs( ICFSecTSecGroupH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffTSecGroupH[] retList = new CFSecBuffTSecGroupH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
@@ -0,0 +1,636 @@
+// Description: Java 25 in-memory concurrent implementation of a TSecGroup table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffTSecGroupTable in-memory implementation of ICFSecTSecGroupTable for TSecGroup.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ */
+public class CFSecBuffTSecGroupTable
+	implements ICFSecTSecGroupTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGroup> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffTSecGroupByTenantIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGroup>> dictByTenantIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffTSecGroupByTenantVisIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGroup>> dictByTenantVisIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffTSecGroupByUNameIdxKey, CFSecBuffTSecGroup> dictByUNameIdx
+		= new ConcurrentHashMap<>();
+
+	public CFSecBuffTSecGroupTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Copy the attributes of a TSecGroup by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffTSecGroup holding the same attribute values.
+	 */
+	protected CFSecBuffTSecGroup copyRec( ICFSecTSecGroup src ) {
+		if( src instanceof CFSecBuffTSecGroup ) {
+			return( ( (CFSecBuffTSecGroup)src ).clone() );
+		}
+		CFSecBuffTSecGroup rec = new CFSecBuffTSecGroup( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredTSecGroupId( src.getRequiredTSecGroupId() );
+		rec.setRequiredContainerTenant( src.getRequiredTenantId() );
+		rec.setRequiredName( src.getRequiredName() );
+		rec.setRequiredIsVisible( src.getRequiredIsVisible() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecTSecGroup[] copyRecs( Collection<CFSecBuffTSecGroup> src ) {
+		ICFSecTSecGroup[] retList = new ICFSecTSecGroup[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffTSecGroup cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected CFLibDbKeyHash256 pkeyOf( ICFSecTSecGroup rec ) {
+		return( rec.getRequiredTSecGroupId() );
+	}
+
+	protected CFSecBuffTSecGroupByTenantIdxKey newByTenantIdxKey( CFLibDbKeyHash256 argTenantId ) {
+		CFSecBuffTSecGroupByTenantIdxKey key = new CFSecBuffTSecGroupByTenantIdxKey();
+		key.setRequiredTenantId( argTenantId );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGroupByTenantIdxKey newByTenantIdxKey( ICFSecTSecGroup rec ) {
+		return( newByTenantIdxKey( rec.getRequiredTenantId() ) );
+	}
+
+	protected CFSecBuffTSecGroupByTenantIdxKey probeByTenantIdxKey( CFLibDbKeyHash256 argTenantId ) {
+		CFSecBuffTSecGroupByTenantIdxKey key = CFSecBuffTSecGroupDefaultFactory.getProbeByTenantIdxKey();
+		key.setRequiredTenantId( argTenantId );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGroupByTenantVisIdxKey newByTenantVisIdxKey( CFLibDbKeyHash256 argTenantId, boolean argIsVisible ) {
+		CFSecBuffTSecGroupByTenantVisIdxKey key = new CFSecBuffTSecGroupByTenantVisIdxKey();
+		key.setRequiredTenantId( argTenantId );
+		key.setRequiredIsVisible( argIsVisible );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGroupByTenantVisIdxKey newByTenantVisIdxKey( ICFSecTSecGroup rec ) {
+		return( newByTenantVisIdxKey( rec.getRequiredTenantId(), rec.getRequiredIsVisible() ) );
+	}
+
+	protected CFSecBuffTSecGroupByTenantVisIdxKey probeByTenantVisIdxKey( CFLibDbKeyHash256 argTenantId, boolean argIsVisible ) {
+		CFSecBuffTSecGroupByTenantVisIdxKey key = CFSecBuffTSecGroupDefaultFactory.getProbeByTenantVisIdxKey();
+		key.setRequiredTenantId( argTenantId );
+		key.setRequiredIsVisible( argIsVisible );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGroupByUNameIdxKey newByUNameIdxKey( CFLibDbKeyHash256 argTenantId, String argName ) {
+		CFSecBuffTSecGroupByUNameIdxKey key = new CFSecBuffTSecGroupByUNameIdxKey();
+		key.setRequiredTenantId( argTenantId );
+		key.setRequiredName( argName );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGroupByUNameIdxKey newByUNameIdxKey( ICFSecTSecGroup rec ) {
+		return( newByUNameIdxKey( rec.getRequiredTenantId(), rec.getRequiredName() ) );
+	}
+
+	protected CFSecBuffTSecGroupByUNameIdxKey probeByUNameIdxKey( CFLibDbKeyHash256 argTenantId, String argName ) {
+		CFSecBuffTSecGroupByUNameIdxKey key = CFSecBuffTSecGroupDefaultFactory.getProbeByUNameIdxKey();
+		key.setRequiredTenantId( argTenantId );
+		key.setRequiredName( argName );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffTSecGroup rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByTenantIdx.computeIfAbsent( newByTenantIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByTenantVisIdx.computeIfAbsent( newByTenantVisIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByUNameIdx.put( newByUNameIdxKey( rec ), rec );
+	}
+
+	protected void unindexRec( CFSecBuffTSecGroup rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		removeFromDupIndex( dictByTenantIdx, newByTenantIdxKey( rec ), pkey );
+		removeFromDupIndex( dictByTenantVisIdx, newByTenantVisIdxKey( rec ), pkey );
+		dictByUNameIdx.remove( newByUNameIdxKey( rec ), rec );
+		dictByPKey.remove( pkey, rec );
+	}
+
+	protected void reindexRec( CFSecBuffTSecGroup existing, CFSecBuffTSecGroup rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffTSecGroupByTenantIdxKey oldKey = newByTenantIdxKey( existing );
+			CFSecBuffTSecGroupByTenantIdxKey newKey = newByTenantIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByTenantIdx, oldKey, pkey );
+			}
+			dictByTenantIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffTSecGroupByTenantVisIdxKey oldKey = newByTenantVisIdxKey( existing );
+			CFSecBuffTSecGroupByTenantVisIdxKey newKey = newByTenantVisIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByTenantVisIdx, oldKey, pkey );
+			}
+			dictByTenantVisIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffTSecGroupByUNameIdxKey oldKey = newByUNameIdxKey( existing );
+			CFSecBuffTSecGroupByUNameIdxKey newKey = newByUNameIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByUNameIdx.remove( oldKey, existing );
+			}
+			dictByUNameIdx.put( newKey, rec );
+		}
+	}
+
+	protected static <K> void removeFromDupIndex( ConcurrentHashMap<K, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGroup>> dict, K key, CFLibDbKeyHash256 pkey ) {
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGroup> subdict = dict.get( key );
+		if( subdict != null ) {
+			subdict.remove( pkey );
+			if( subdict.isEmpty() ) {
+				dict.remove( key, subdict );
+			}
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffTSecGroup rec, CFSecBuffTSecGroup existing ) {
+		{
+			CFSecBuffTSecGroupByUNameIdxKey key = newByUNameIdxKey( rec );
+			CFSecBuffTSecGroup conflict = dictByUNameIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"TSecGroupUNameIdx",
+					key );
+			}
+		}
+	}
+
+	@Override
+	public ICFSecTSecGroup createTSecGroup( ICFSecAuthorization Authorization,
+		ICFSecTSecGroup rec )
+	{
+		final String S_ProcName = "createTSecGroup";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffTSecGroup stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecTSecGroup readDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		if( PKey == null ) {
+			return( null );
+		}
+		CFSecBuffTSecGroup rec = dictByPKey.get( PKey );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecTSecGroup lockDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecTSecGroup[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecTSecGroup readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTSecGroupId )
+	{
+		if( argTSecGroupId == null ) {
+			return( null );
+		}
+		CFSecBuffTSecGroup rec = dictByPKey.get( argTSecGroupId );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecTSecGroup[] readDerivedByTenantIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGroup> subdict = dictByTenantIdx.get( probeByTenantIdxKey( argTenantId ) );
+		if( subdict == null ) {
+			return( new ICFSecTSecGroup[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the TSecGroup instances for several TenantIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argTenantIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecTSecGroup[]> readDerivedByTenantIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argTenantIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecTSecGroup[]> retMap = new HashMap<>( Math.max( 16, argTenantIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argTenantId : argTenantIds ) {
+			if( ( argTenantId == null ) || retMap.containsKey( argTenantId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGroup> subdict = dictByTenantIdx.get( probeByTenantIdxKey( argTenantId ) );
+			if( subdict == null ) {
+				retMap.put( argTenantId, new ICFSecTSecGroup[0] );
+			}
+			else {
+				retMap.put( argTenantId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecTSecGroup[] readDerivedByTenantVisIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId,
+		boolean argIsVisible )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGroup> subdict = dictByTenantVisIdx.get( probeByTenantVisIdxKey( argTenantId, argIsVisible ) );
+		if( subdict == null ) {
+			return( new ICFSecTSecGroup[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	@Override
+	public ICFSecTSecGroup readDerivedByUNameIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId,
+		String argName )
+	{
+		CFSecBuffTSecGroup rec = dictByUNameIdx.get( probeByUNameIdxKey( argTenantId, argName ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecTSecGroup readRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecTSecGroup lockRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecTSecGroup[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecTSecGroup readRecByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTSecGroupId )
+	{
+		return( readDerivedByIdIdx( Authorization, argTSecGroupId ) );
+	}
+
+	@Override
+	public ICFSecTSecGroup[] readRecByTenantIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId )
+	{
+		return( readDerivedByTenantIdx( Authorization, argTenantId ) );
+	}
+
+	@Override
+	public ICFSecTSecGroup[] readRecByTenantVisIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId,
+		boolean argIsVisible )
+	{
+		return( readDerivedByTenantVisIdx( Authorization, argTenantId, argIsVisible ) );
+	}
+
+	@Override
+	public ICFSecTSecGroup readRecByUNameIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId,
+		String argName )
+	{
+		return( readDerivedByUNameIdx( Authorization, argTenantId, argName ) );
+	}
+
+	@Override
+	public ICFSecTSecGroup updateTSecGroup( ICFSecAuthorization Authorization,
+		ICFSecTSecGroup rec )
+	{
+		final String S_ProcName = "updateTSecGroup";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffTSecGroup stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffTSecGroup existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"TSecGroup",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteTSecGroup( ICFSecAuthorization Authorization,
+		ICFSecTSecGroup rec )
+	{
+		final String S_ProcName = "deleteTSecGroup";
+		if( rec == null ) {
+			return;
+		}
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffTSecGroup existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffTSecGroup existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored TSecGroup under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffTSecGroup> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffTSecGroup> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffTSecGroup rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a TSecGroup exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffTSecGroup rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffTSecGroup stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteTSecGroupByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTSecGroupId )
+	{
+		if( argTSecGroupId == null ) {
+			return;
+		}
+		deleteStored( dictByPKey.get( argTSecGroupId ) );
+	}
+
+	@Override
+	public void deleteTSecGroupByTenantIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGroup> subdict = dictByTenantIdx.get( probeByTenantIdxKey( argTenantId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffTSecGroup existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteTSecGroupByTenantIdx( ICFSecAuthorization Authorization,
+		ICFSecTSecGroupByTenantIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteTSecGroupByTenantIdx( Authorization, argKey.getRequiredTenantId() );
+	}
+
+	@Override
+	public void deleteTSecGroupByTenantVisIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId,
+		boolean argIsVisible )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGroup> subdict = dictByTenantVisIdx.get( probeByTenantVisIdxKey( argTenantId, argIsVisible ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffTSecGroup existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteTSecGroupByTenantVisIdx( ICFSecAuthorization Authorization,
+		ICFSecTSecGroupByTenantVisIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteTSecGroupByTenantVisIdx( Authorization, argKey.getRequiredTenantId(), argKey.getRequiredIsVisible() );
+	}
+
+	@Override
+	public void deleteTSecGroupByUNameIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId,
+		String argName )
+	{
+		deleteStored( dictByUNameIdx.get( probeByUNameIdxKey( argTenantId, argName ) ) );
+	}
+
+	@Override
+	public void deleteTSecGroupByUNameIdx( ICFSecAuthorization Authorization,
+		ICFSecTSecGroupByUNameIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteTSecGroupByUNameIdx( Authorization, argKey.getRequiredTenantId(), argKey.getRequiredName() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
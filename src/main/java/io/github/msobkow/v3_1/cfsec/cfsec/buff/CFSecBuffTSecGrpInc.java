@@ -51,23 +51,100 @@ import io.github.msobkow.v3_1.cflib.xml.CFLibXmlUtil;
 import io.github.msobkow.v3_1.cfsec.cfsec.*;
 
 public class CFSecBuffTSecGrpInc
-	implements ICFSecTSecGrpInc, Comparable<Object>, Serializable
+	implements ICFSecTSecGrpInc, Comparable<Object>, Serializable, Cloneable
 {
 	protected CFLibDbKeyHash256 requiredTSecGrpIncId;
 	protected int requiredRevision;
-	protected CFLibDbKeyHash256 createdByUserId = CFLibDbKeyHash256.fromHex(ICFSecTSecGrpInc.S_INIT_CREATED_BY);
-	protected LocalDateTime createdAt = LocalDateTime.now();
-	protected CFLibDbKeyHash256 updatedByUserId = CFLibDbKeyHash256.fromHex(ICFSecTSecGrpInc.S_INIT_UPDATED_BY);
-	protected LocalDateTime updatedAt = LocalDateTime.now();
+	protected CFLibDbKeyHash256 createdByUserId = CREATEDBY_INIT_VALUE;
+	protected LocalDateTime createdAt;
+	protected CFLibDbKeyHash256 updatedByUserId = UPDATEDBY_INIT_VALUE;
+	protected LocalDateTime updatedAt;
 	protected CFLibDbKeyHash256 requiredTenantId;
 	protected CFLibDbKeyHash256 requiredTSecGroupId;
 	protected CFLibDbKeyHash256 requiredIncludeGroupId;
 
+	protected transient int cachedHashCode = 0;
+	protected transient CFSecBuffRecStamp pendingCreatedAt = null;
+	protected transient CFSecBuffRecStamp pendingUpdatedAt = null;
+
+	protected static final CFLibDbKeyHash256 CREATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecTSecGrpInc.S_INIT_CREATED_BY);
+	protected static final CFLibDbKeyHash256 UPDATEDBY_INIT_VALUE = CFLibDbKeyHash256.fromHex(ICFSecTSecGrpInc.S_INIT_UPDATED_BY);
+	protected transient CFSecBuffNavigationCache navigationCache = null;
+
+	protected static final int NAV_REQUIREDOWNERTENANT = 0;
+	protected static final int NAV_REQUIREDCONTAINERGROUP = 1;
+	protected static final int NAV_REQUIREDPARENTSUBGROUP = 2;
+	protected static final int NAV_SLOT_COUNT = 3;
+
 	public CFSecBuffTSecGrpInc() {
-		requiredTSecGrpIncId = CFLibDbKeyHash256.fromHex( ICFSecTSecGrpInc.TSECGRPINCID_INIT_VALUE.toString() );
-		requiredTenantId = CFLibDbKeyHash256.fromHex( ICFSecTSecGrpInc.TENANTID_INIT_VALUE.toString() );
-		requiredTSecGroupId = CFLibDbKeyHash256.fromHex( ICFSecTSecGrpInc.TSECGROUPID_INIT_VALUE.toString() );
-		requiredIncludeGroupId = CFLibDbKeyHash256.fromHex( ICFSecTSecGrpInc.INCLUDEGROUPID_INIT_VALUE.toString() );
+		this( CFSecBuffRecStamp.EAGER );
+	}
+
+	/**
+	 *	Construct an instance whose audit timestamps are supplied by stamp,
+	 *	either immediately or when first read.
+	 *
+	 *	@param	stamp	The timestamp policy to apply.
+	 */
+	public CFSecBuffTSecGrpInc( CFSecBuffRecStamp stamp ) {
+		if( stamp == null ) {
+			throw new CFLibNullArgumentException( getClass(), "CFSecBuffTSecGrpInc", 1, "stamp" );
+		}
+		requiredTSecGrpIncId = ICFSecTSecGrpInc.TSECGRPINCID_INIT_VALUE;
+		requiredTenantId = ICFSecTSecGrpInc.TENANTID_INIT_VALUE;
+		requiredTSecGroupId = ICFSecTSecGrpInc.TSECGROUPID_INIT_VALUE;
+		requiredIncludeGroupId = ICFSecTSecGrpInc.INCLUDEGROUPID_INIT_VALUE;
+		if( stamp.isLazy() ) {
+			pendingCreatedAt = stamp;
+			pendingUpdatedAt = stamp;
+		}
+		else {
+			LocalDateTime now = stamp.now();
+			createdAt = now;
+			updatedAt = now;
+		}
+	}
+
+	/**
+	 *	Enable or disable caching of the relationship navigation getters of this
+	 *	instance.  While enabled, each navigation result is reused until the table
+	 *	it was read from reports a modification, or until an attribute of this
+	 *	instance is changed.  Tables that do not publish a modification count are
+	 *	always read.  Cached objects are shared between calls, so callers must treat
+	 *	them as read-only.
+	 *
+	 *	@param	value	true to cache navigation results, false to discard the cache.
+	 */
+	public void setNavigationCacheEnabled( boolean value ) {
+		if( value ) {
+			if( navigationCache == null ) {
+				navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+			}
+		}
+		else {
+			navigationCache = null;
+		}
+	}
+
+	public boolean isNavigationCacheEnabled() {
+		return( navigationCache != null );
+	}
+
+	protected long getNavigationStamp( Object targetTable ) {
+		if( navigationCache == null ) {
+			return( 0L );
+		}
+		return( CFSecBuffNavigationCache.stampOf( targetTable ) );
+	}
+
+	protected void primeNavigation( int slot, long navStamp, Object value ) {
+		if( navStamp == 0L ) {
+			return;
+		}
+		if( navigationCache == null ) {
+			navigationCache = new CFSecBuffNavigationCache( NAV_SLOT_COUNT );
+		}
+		navigationCache.put( slot, navStamp, value );
 	}
 
 	@Override
@@ -96,6 +173,8 @@ public class CFSecBuffTSecGrpInc
 				"value" );
 		}
 		requiredTSecGrpIncId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -106,16 +185,25 @@ public class CFSecBuffTSecGrpInc
 	@Override
 	public void setCreatedByUserId( CFLibDbKeyHash256 value ) {
 		createdByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getCreatedAt() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
 		return( createdAt );
 	}
 
 	@Override
 	public void setCreatedAt( LocalDateTime value ) {
 		createdAt = value;
+		pendingCreatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -126,16 +214,25 @@ public class CFSecBuffTSecGrpInc
 	@Override
 	public void setUpdatedByUserId( CFLibDbKeyHash256 value ) {
 		updatedByUserId = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public LocalDateTime getUpdatedAt() {
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
 		return( updatedAt );
 	}
 
 	@Override
 	public void setUpdatedAt( LocalDateTime value ) {
 		updatedAt = value;
+		pendingUpdatedAt = null;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 	@Override
 	public int getRequiredRevision() {
@@ -145,6 +242,8 @@ public class CFSecBuffTSecGrpInc
 	@Override
 	public void setRequiredRevision( int value ) {
 		requiredRevision = value;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -162,7 +261,17 @@ public class CFSecBuffTSecGrpInc
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setRequiredOwnerTenant", 0, "ICFSecSchema.getBackingCFSec().getTableTenant()");
 		}
-		ICFSecTenant targetRec = targetTable.readDerived(null, getRequiredTenantId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecTenant targetRec;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_REQUIREDOWNERTENANT, navStamp ) ) {
+			targetRec = (ICFSecTenant)navigationCache.getValue( NAV_REQUIREDOWNERTENANT );
+		}
+		else {
+			targetRec = targetTable.readDerived(null, getRequiredTenantId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_REQUIREDOWNERTENANT, navStamp, targetRec );
+			}
+		}
 		return(targetRec);
 	}
 	@Override
@@ -173,11 +282,15 @@ public class CFSecBuffTSecGrpInc
 		else {
 			requiredTenantId = argObj.getRequiredId();
 		}
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public void setRequiredOwnerTenant(CFLibDbKeyHash256 argTenantId) {
 		requiredTenantId = argTenantId;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -190,7 +303,17 @@ public class CFSecBuffTSecGrpInc
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setRequiredContainerGroup", 0, "ICFSecSchema.getBackingCFSec().getTableTSecGroup()");
 		}
-		ICFSecTSecGroup targetRec = targetTable.readDerived(null, getRequiredTSecGroupId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecTSecGroup targetRec;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_REQUIREDCONTAINERGROUP, navStamp ) ) {
+			targetRec = (ICFSecTSecGroup)navigationCache.getValue( NAV_REQUIREDCONTAINERGROUP );
+		}
+		else {
+			targetRec = targetTable.readDerived(null, getRequiredTSecGroupId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_REQUIREDCONTAINERGROUP, navStamp, targetRec );
+			}
+		}
 		return(targetRec);
 	}
 	@Override
@@ -201,11 +324,15 @@ public class CFSecBuffTSecGrpInc
 		else {
 			requiredTSecGroupId = argObj.getRequiredTSecGroupId();
 		}
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public void setRequiredContainerGroup(CFLibDbKeyHash256 argTSecGroupId) {
 		requiredTSecGroupId = argTSecGroupId;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -218,7 +345,17 @@ public class CFSecBuffTSecGrpInc
 		if (targetTable == null) {
 			throw new CFLibNullArgumentException(getClass(), "setRequiredParentSubGroup", 0, "ICFSecSchema.getBackingCFSec().getTableTSecGroup()");
 		}
-		ICFSecTSecGroup targetRec = targetTable.readDerived(null, getRequiredIncludeGroupId());
+		long navStamp = getNavigationStamp( targetTable );
+		ICFSecTSecGroup targetRec;
+		if( ( navigationCache != null ) && navigationCache.isCurrent( NAV_REQUIREDPARENTSUBGROUP, navStamp ) ) {
+			targetRec = (ICFSecTSecGroup)navigationCache.getValue( NAV_REQUIREDPARENTSUBGROUP );
+		}
+		else {
+			targetRec = targetTable.readDerived(null, getRequiredIncludeGroupId());
+			if( navStamp != 0L ) {
+				navigationCache.put( NAV_REQUIREDPARENTSUBGROUP, navStamp, targetRec );
+			}
+		}
 		return(targetRec);
 	}
 	@Override
@@ -229,11 +366,15 @@ public class CFSecBuffTSecGrpInc
 		else {
 			requiredIncludeGroupId = argObj.getRequiredTSecGroupId();
 		}
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
 	public void setRequiredParentSubGroup(CFLibDbKeyHash256 argIncludeGroupId) {
 		requiredIncludeGroupId = argIncludeGroupId;
+		cachedHashCode = 0;
+		CFSecBuffNavigationCache.clear( navigationCache );
 	}
 
 	@Override
@@ -529,16 +670,21 @@ public class CFSecBuffTSecGrpInc
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getCreatedByUserId().hashCode();
-		hashCode = hashCode + getCreatedAt().hashCode();
-		hashCode = hashCode + getUpdatedByUserId().hashCode();
-		hashCode = hashCode + getUpdatedAt().hashCode();
-		hashCode = hashCode + getRequiredTSecGrpIncId().hashCode();
-		hashCode = hashCode + getRequiredTenantId().hashCode();
-		hashCode = hashCode + getRequiredTSecGroupId().hashCode();
-		hashCode = hashCode + getRequiredIncludeGroupId().hashCode();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getCreatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedByUserId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getUpdatedAt() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredTSecGrpIncId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredTenantId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredTSecGroupId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredIncludeGroupId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 8 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
@@ -823,6 +969,45 @@ public class CFSecBuffTSecGrpInc
 		}
 	}
 
+	/**
+	 *	Apply any timestamps that are still pending from a lazy stamp.
+	 */
+	protected void resolvePendingStamps() {
+		if( pendingCreatedAt != null ) {
+			createdAt = pendingCreatedAt.now();
+			pendingCreatedAt = null;
+		}
+		if( pendingUpdatedAt != null ) {
+			updatedAt = pendingUpdatedAt.now();
+			pendingUpdatedAt = null;
+		}
+	}
+
+	private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvePendingStamps();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 *	Create a field-level copy of this instance.  The copy never consults the
+	 *	backing schema, and does not share any mutable state with this instance.
+	 *
+	 *	@return	The copy.
+	 */
+	@Override
+	public CFSecBuffTSecGrpInc clone() {
+		resolvePendingStamps();
+		CFSecBuffTSecGrpInc copy;
+		try {
+			copy = (CFSecBuffTSecGrpInc)super.clone();
+		}
+		catch( CloneNotSupportedException e ) {
+			throw new InternalError( e.getMessage(), e );
+		}
+		copy.navigationCache = null;
+		return( copy );
+	}
+
 	@Override
 	public void set( ICFSecTSecGrpInc src ) {
 		setTSecGrpInc( src );
@@ -836,9 +1021,9 @@ public class CFSecBuffTSecGrpInc
 		setCreatedAt( src.getCreatedAt() );
 		setUpdatedByUserId( src.getUpdatedByUserId() );
 		setUpdatedAt( src.getUpdatedAt() );
-		setRequiredOwnerTenant(src.getRequiredOwnerTenant());
-		setRequiredContainerGroup(src.getRequiredContainerGroup());
-		setRequiredParentSubGroup(src.getRequiredParentSubGroup());
+		setRequiredOwnerTenant(src.getRequiredTenantId());
+		setRequiredContainerGroup(src.getRequiredTSecGroupId());
+		setRequiredParentSubGroup(src.getRequiredIncludeGroupId());
 	}
 
 	@Override
@@ -54,8 +54,10 @@ public class CFSecBuffTSecGrpIncByGroupIdxKey
 	implements ICFSecTSecGrpIncByGroupIdxKey, Comparable<Object>, Serializable
 {
 	protected CFLibDbKeyHash256 requiredTSecGroupId;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffTSecGrpIncByGroupIdxKey() {
-		requiredTSecGroupId = CFLibDbKeyHash256.fromHex( ICFSecTSecGrpInc.TSECGROUPID_INIT_VALUE.toString() );
+		requiredTSecGroupId = ICFSecTSecGrpInc.TSECGROUPID_INIT_VALUE;
 	}
 
 	@Override
@@ -72,6 +74,7 @@ public class CFSecBuffTSecGrpIncByGroupIdxKey
 				"value" );
 		}
 		requiredTSecGroupId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -124,9 +127,14 @@ public class CFSecBuffTSecGrpIncByGroupIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredTSecGroupId().hashCode();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredTSecGroupId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
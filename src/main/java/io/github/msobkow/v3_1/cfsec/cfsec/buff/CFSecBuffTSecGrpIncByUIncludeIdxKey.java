@@ -56,10 +56,12 @@ public class CFSecBuffTSecGrpIncByUIncludeIdxKey
 	protected CFLibDbKeyHash256 requiredTenantId;
 	protected CFLibDbKeyHash256 requiredTSecGroupId;
 	protected CFLibDbKeyHash256 requiredIncludeGroupId;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffTSecGrpIncByUIncludeIdxKey() {
-		requiredTenantId = CFLibDbKeyHash256.fromHex( ICFSecTSecGrpInc.TENANTID_INIT_VALUE.toString() );
-		requiredTSecGroupId = CFLibDbKeyHash256.fromHex( ICFSecTSecGrpInc.TSECGROUPID_INIT_VALUE.toString() );
-		requiredIncludeGroupId = CFLibDbKeyHash256.fromHex( ICFSecTSecGrpInc.INCLUDEGROUPID_INIT_VALUE.toString() );
+		requiredTenantId = ICFSecTSecGrpInc.TENANTID_INIT_VALUE;
+		requiredTSecGroupId = ICFSecTSecGrpInc.TSECGROUPID_INIT_VALUE;
+		requiredIncludeGroupId = ICFSecTSecGrpInc.INCLUDEGROUPID_INIT_VALUE;
 	}
 
 	@Override
@@ -76,6 +78,7 @@ public class CFSecBuffTSecGrpIncByUIncludeIdxKey
 				"value" );
 		}
 		requiredTenantId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -92,6 +95,7 @@ public class CFSecBuffTSecGrpIncByUIncludeIdxKey
 				"value" );
 		}
 		requiredTSecGroupId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -108,6 +112,7 @@ public class CFSecBuffTSecGrpIncByUIncludeIdxKey
 				"value" );
 		}
 		requiredIncludeGroupId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -220,11 +225,16 @@ public class CFSecBuffTSecGrpIncByUIncludeIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredTenantId().hashCode();
-		hashCode = hashCode + getRequiredTSecGroupId().hashCode();
-		hashCode = hashCode + getRequiredIncludeGroupId().hashCode();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredTenantId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredTSecGroupId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredIncludeGroupId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 3 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
@@ -54,13 +54,140 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffTSecGrpIncDefaultFactory
 	implements ICFSecTSecGrpIncFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffTSecGrpIncByTenantIdxKey> probeByTenantIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffTSecGrpIncByTenantIdxKey() );
+	protected static final ThreadLocal<CFSecBuffTSecGrpIncByGroupIdxKey> probeByGroupIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffTSecGrpIncByGroupIdxKey() );
+	protected static final ThreadLocal<CFSecBuffTSecGrpIncByIncludeIdxKey> probeByIncludeIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffTSecGrpIncByIncludeIdxKey() );
+	protected static final ThreadLocal<CFSecBuffTSecGrpIncByUIncludeIdxKey> probeByUIncludeIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffTSecGrpIncByUIncludeIdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders TSecGrpInc instances by primary key.
+	 */
+	public static final Comparator<ICFSecTSecGrpInc> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( lhs.getRequiredTSecGrpIncId().compareTo( rhs.getRequiredTSecGrpIncId() ) );
+	};
+
+	/**
+	 *	Orders TSecGrpInc history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecTSecGrpIncHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredTSecGrpIncId().compareTo( rhs.getRequiredTSecGrpIncId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders TSecGrpInc instances by the TenantIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecTSecGrpInc> COMPARE_BY_TENANTIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredTenantId().compareTo( rhs.getRequiredTenantId() ) );
+	};
+
+	/**
+	 *	Orders TenantIdx keys.
+	 */
+	public static final Comparator<ICFSecTSecGrpIncByTenantIdxKey> COMPARE_TENANTIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredTenantId().compareTo( rhs.getRequiredTenantId() ) );
+	};
+
+	/**
+	 *	Orders TSecGrpInc instances by the GroupIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecTSecGrpInc> COMPARE_BY_GROUPIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredTSecGroupId().compareTo( rhs.getRequiredTSecGroupId() ) );
+	};
+
+	/**
+	 *	Orders GroupIdx keys.
+	 */
+	public static final Comparator<ICFSecTSecGrpIncByGroupIdxKey> COMPARE_GROUPIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredTSecGroupId().compareTo( rhs.getRequiredTSecGroupId() ) );
+	};
+
+	/**
+	 *	Orders TSecGrpInc instances by the IncludeIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecTSecGrpInc> COMPARE_BY_INCLUDEIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredIncludeGroupId().compareTo( rhs.getRequiredIncludeGroupId() ) );
+	};
+
+	/**
+	 *	Orders IncludeIdx keys.
+	 */
+	public static final Comparator<ICFSecTSecGrpIncByIncludeIdxKey> COMPARE_INCLUDEIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredIncludeGroupId().compareTo( rhs.getRequiredIncludeGroupId() ) );
+	};
+
+	/**
+	 *	Orders TSecGrpInc instances by the UIncludeIdx columns.
+	 */
+	public static final Comparator<ICFSecTSecGrpInc> COMPARE_BY_UINCLUDEIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredTenantId().compareTo( rhs.getRequiredTenantId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		cmp = lhs.getRequiredTSecGroupId().compareTo( rhs.getRequiredTSecGroupId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredIncludeGroupId().compareTo( rhs.getRequiredIncludeGroupId() ) );
+	};
+
+	/**
+	 *	Orders UIncludeIdx keys.
+	 */
+	public static final Comparator<ICFSecTSecGrpIncByUIncludeIdxKey> COMPARE_UINCLUDEIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredTenantId().compareTo( rhs.getRequiredTenantId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		cmp = lhs.getRequiredTSecGroupId().compareTo( rhs.getRequiredTSecGroupId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredIncludeGroupId().compareTo( rhs.getRequiredIncludeGroupId() ) );
+	};
+
 	public CFSecBuffTSecGrpIncDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
 	@Override
 	public ICFSecTSecGrpIncHPKey newHPKey() {
 		ICFSecTSecGrpIncHPKey hpkey =
-			new CFSecBuffTSecGrpIncHPKey();
+			new CFSecBuffTSecGrpIncHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -72,7 +199,7 @@ public class CFSecBuffTSecGrpIncDefaultFactory
 			return( (CFSecBuffTSecGrpIncHPKey)key );
 		}
 		else {
-			CFSecBuffTSecGrpIncHPKey mapped = new CFSecBuffTSecGrpIncHPKey();
+			CFSecBuffTSecGrpIncHPKey mapped = new CFSecBuffTSecGrpIncHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -103,6 +230,10 @@ public class CFSecBuffTSecGrpIncDefaultFactory
 		}
 	}
 
+	public static CFSecBuffTSecGrpIncByTenantIdxKey getProbeByTenantIdxKey() {
+		return( probeByTenantIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecTSecGrpIncByGroupIdxKey newByGroupIdxKey() {
 		ICFSecTSecGrpIncByGroupIdxKey key =
@@ -124,6 +255,10 @@ public class CFSecBuffTSecGrpIncDefaultFactory
 		}
 	}
 
+	public static CFSecBuffTSecGrpIncByGroupIdxKey getProbeByGroupIdxKey() {
+		return( probeByGroupIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecTSecGrpIncByIncludeIdxKey newByIncludeIdxKey() {
 		ICFSecTSecGrpIncByIncludeIdxKey key =
@@ -145,6 +280,10 @@ public class CFSecBuffTSecGrpIncDefaultFactory
 		}
 	}
 
+	public static CFSecBuffTSecGrpIncByIncludeIdxKey getProbeByIncludeIdxKey() {
+		return( probeByIncludeIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecTSecGrpIncByUIncludeIdxKey newByUIncludeIdxKey() {
 		ICFSecTSecGrpIncByUIncludeIdxKey key =
@@ -168,10 +307,14 @@ public class CFSecBuffTSecGrpIncDefaultFactory
 		}
 	}
 
+	public static CFSecBuffTSecGrpIncByUIncludeIdxKey getProbeByUIncludeIdxKey() {
+		return( probeByUIncludeIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecTSecGrpInc newRec() {
 		ICFSecTSecGrpInc rec =
-			new CFSecBuffTSecGrpInc();
+			new CFSecBuffTSecGrpInc( recStamp );
 		return( rec );
 	}
 
@@ -183,16 +326,56 @@ public class CFSecBuffTSecGrpIncDefaultFactory
 			return( (CFSecBuffTSecGrpInc)rec );
 		}
 		else {
-			CFSecBuffTSecGrpInc mapped = new CFSecBuffTSecGrpInc();
+			CFSecBuffTSecGrpInc mapped = new CFSecBuffTSecGrpInc( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffTSecGrpInc cloneRec( ICFSecTSecGrpInc rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffTSecGrpInc ) {
+			return( ( (CFSecBuffTSecGrpInc)rec ).clone() );
+		}
+		else {
+			CFSecBuffTSecGrpInc mapped = new CFSecBuffTSecGrpInc( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffTSecGrpInc[] cloneRecs( ICFSecTSecGrpInc[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffTSecGrpInc[] retList = new CFSecBuffTSecGrpInc[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecTSecGrpIncH newHRec() {
 		ICFSecTSecGrpIncH hrec =
-			new CFSecBuffTSecGrpIncH();
+			new CFSecBuffTSecGrpIncH( recStamp );
 		return( hrec );
 	}
 
@@ -204,9 +387,49 @@ public class CFSecBuffTSecGrpIncDefaultFactory
 			return( (CFSecBuffTSecGrpIncH)hrec );
 		}
 		else {
-			CFSecBuffTSecGrpIncH mapped = new CFSecBuffTSecGrpIncH();
+			CFSecBuffTSecGrpIncH mapped = new CFSecBuffTSecGrpIncH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffTSecGrpIncH cloneHRec( ICFSecTSecGrpIncH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffTSecGrpIncH ) {
+			return( ( (CFSecBuffTSecGrpIncH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffTSecGrpIncH mapped = new CFSecBuffTSecGrpIncH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffTSecGrpIncH[] cloneHRecs( ICFSecTSecGrpIncH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffTSecGrpIncH[] retList = new CFSecBuffTSecGrpIncH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
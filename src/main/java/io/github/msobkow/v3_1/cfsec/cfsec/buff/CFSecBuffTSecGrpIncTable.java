@@ -0,0 +1,877 @@
+// Description: Java 25 in-memory concurrent implementation of a TSecGrpInc table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffTSecGrpIncTable in-memory implementation of ICFSecTSecGrpIncTable for TSecGrpInc.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ *
+ *	The table also maintains the transitive inclusion closure of each tenant,
+ *	so nested group resolution does not need a read per hop, and it rejects any
+ *	inclusion that would make a group include itself.
+ */
+public class CFSecBuffTSecGrpIncTable
+	implements ICFSecTSecGrpIncTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpInc> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffTSecGrpIncByTenantIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpInc>> dictByTenantIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffTSecGrpIncByGroupIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpInc>> dictByGroupIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffTSecGrpIncByIncludeIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpInc>> dictByIncludeIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffTSecGrpIncByUIncludeIdxKey, CFSecBuffTSecGrpInc> dictByUIncludeIdx
+		= new ConcurrentHashMap<>();
+	protected final CFSecBuffGrpIncClosure inclusionClosure = new CFSecBuffGrpIncClosure();
+	protected final CopyOnWriteArrayList<CFSecBuffTableListener<ICFSecTSecGrpInc>> listeners
+		= new CopyOnWriteArrayList<>();
+
+	public CFSecBuffTSecGrpIncTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Register a listener for creates, updates and deletes of TSecGrpInc.
+	 *
+	 *	@param	listener	The listener to add.
+	 */
+	public void addListener( CFSecBuffTableListener<ICFSecTSecGrpInc> listener ) {
+		if( listener == null ) {
+			throw new CFLibNullArgumentException( getClass(), "addListener", 1, "listener" );
+		}
+		listeners.addIfAbsent( listener );
+	}
+
+	/**
+	 *	Unregister a listener.  Removing a listener that is not registered is ignored.
+	 *
+	 *	@param	listener	The listener to remove.
+	 */
+	public void removeListener( CFSecBuffTableListener<ICFSecTSecGrpInc> listener ) {
+		listeners.remove( listener );
+	}
+
+	/**
+	 *	Get the transitive inclusion closure, partitioned by tenant id.
+	 *	The closure is updated under the table's write lock, before the
+	 *	modification count advances.
+	 *
+	 *	@return	The closure maintained by this table.
+	 */
+	public CFSecBuffGrpIncClosure getInclusionClosure() {
+		return( inclusionClosure );
+	}
+
+	/**
+	 *	Determine whether a group of a tenant transitively includes another group.
+	 *
+	 *	@param	argTenantId	The owning tenant.
+	 *	@param	argTSecGroupId	The including group.
+	 *	@param	argIncludeGroupId	The group being tested for.
+	 *
+	 *	@return	True if argIncludeGroupId is reachable from argTSecGroupId.
+	 */
+	public boolean isGroupIncluded( CFLibDbKeyHash256 argTenantId,
+		CFLibDbKeyHash256 argTSecGroupId,
+		CFLibDbKeyHash256 argIncludeGroupId )
+	{
+		return( inclusionClosure.includes( argTenantId, argTSecGroupId, argIncludeGroupId ) );
+	}
+
+	/**
+	 *	Get every group of a tenant transitively included by a group.
+	 *
+	 *	@param	argTenantId	The owning tenant.
+	 *	@param	argTSecGroupId	The including group.
+	 *
+	 *	@return	An unmodifiable snapshot of the included group ids, never null.
+	 */
+	public Set<CFLibDbKeyHash256> getTransitiveIncludedGroupIds( CFLibDbKeyHash256 argTenantId,
+		CFLibDbKeyHash256 argTSecGroupId )
+	{
+		return( inclusionClosure.getIncludedGroups( argTenantId, argTSecGroupId ) );
+	}
+
+	/**
+	 *	Copy the attributes of a TSecGrpInc by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffTSecGrpInc holding the same attribute values.
+	 */
+	protected CFSecBuffTSecGrpInc copyRec( ICFSecTSecGrpInc src ) {
+		if( src instanceof CFSecBuffTSecGrpInc ) {
+			return( ( (CFSecBuffTSecGrpInc)src ).clone() );
+		}
+		CFSecBuffTSecGrpInc rec = new CFSecBuffTSecGrpInc( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredTSecGrpIncId( src.getRequiredTSecGrpIncId() );
+		rec.setRequiredOwnerTenant( src.getRequiredTenantId() );
+		rec.setRequiredContainerGroup( src.getRequiredTSecGroupId() );
+		rec.setRequiredParentSubGroup( src.getRequiredIncludeGroupId() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecTSecGrpInc[] copyRecs( Collection<CFSecBuffTSecGrpInc> src ) {
+		ICFSecTSecGrpInc[] retList = new ICFSecTSecGrpInc[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffTSecGrpInc cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected CFLibDbKeyHash256 pkeyOf( ICFSecTSecGrpInc rec ) {
+		return( rec.getRequiredTSecGrpIncId() );
+	}
+
+	protected CFSecBuffTSecGrpIncByTenantIdxKey newByTenantIdxKey( CFLibDbKeyHash256 argTenantId ) {
+		CFSecBuffTSecGrpIncByTenantIdxKey key = new CFSecBuffTSecGrpIncByTenantIdxKey();
+		key.setRequiredTenantId( argTenantId );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGrpIncByTenantIdxKey newByTenantIdxKey( ICFSecTSecGrpInc rec ) {
+		return( newByTenantIdxKey( rec.getRequiredTenantId() ) );
+	}
+
+	protected CFSecBuffTSecGrpIncByTenantIdxKey probeByTenantIdxKey( CFLibDbKeyHash256 argTenantId ) {
+		CFSecBuffTSecGrpIncByTenantIdxKey key = CFSecBuffTSecGrpIncDefaultFactory.getProbeByTenantIdxKey();
+		key.setRequiredTenantId( argTenantId );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGrpIncByGroupIdxKey newByGroupIdxKey( CFLibDbKeyHash256 argTSecGroupId ) {
+		CFSecBuffTSecGrpIncByGroupIdxKey key = new CFSecBuffTSecGrpIncByGroupIdxKey();
+		key.setRequiredTSecGroupId( argTSecGroupId );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGrpIncByGroupIdxKey newByGroupIdxKey( ICFSecTSecGrpInc rec ) {
+		return( newByGroupIdxKey( rec.getRequiredTSecGroupId() ) );
+	}
+
+	protected CFSecBuffTSecGrpIncByGroupIdxKey probeByGroupIdxKey( CFLibDbKeyHash256 argTSecGroupId ) {
+		CFSecBuffTSecGrpIncByGroupIdxKey key = CFSecBuffTSecGrpIncDefaultFactory.getProbeByGroupIdxKey();
+		key.setRequiredTSecGroupId( argTSecGroupId );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGrpIncByIncludeIdxKey newByIncludeIdxKey( CFLibDbKeyHash256 argIncludeGroupId ) {
+		CFSecBuffTSecGrpIncByIncludeIdxKey key = new CFSecBuffTSecGrpIncByIncludeIdxKey();
+		key.setRequiredIncludeGroupId( argIncludeGroupId );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGrpIncByIncludeIdxKey newByIncludeIdxKey( ICFSecTSecGrpInc rec ) {
+		return( newByIncludeIdxKey( rec.getRequiredIncludeGroupId() ) );
+	}
+
+	protected CFSecBuffTSecGrpIncByIncludeIdxKey probeByIncludeIdxKey( CFLibDbKeyHash256 argIncludeGroupId ) {
+		CFSecBuffTSecGrpIncByIncludeIdxKey key = CFSecBuffTSecGrpIncDefaultFactory.getProbeByIncludeIdxKey();
+		key.setRequiredIncludeGroupId( argIncludeGroupId );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGrpIncByUIncludeIdxKey newByUIncludeIdxKey( CFLibDbKeyHash256 argTenantId, CFLibDbKeyHash256 argTSecGroupId, CFLibDbKeyHash256 argIncludeGroupId ) {
+		CFSecBuffTSecGrpIncByUIncludeIdxKey key = new CFSecBuffTSecGrpIncByUIncludeIdxKey();
+		key.setRequiredTenantId( argTenantId );
+		key.setRequiredTSecGroupId( argTSecGroupId );
+		key.setRequiredIncludeGroupId( argIncludeGroupId );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGrpIncByUIncludeIdxKey newByUIncludeIdxKey( ICFSecTSecGrpInc rec ) {
+		return( newByUIncludeIdxKey( rec.getRequiredTenantId(), rec.getRequiredTSecGroupId(), rec.getRequiredIncludeGroupId() ) );
+	}
+
+	protected CFSecBuffTSecGrpIncByUIncludeIdxKey probeByUIncludeIdxKey( CFLibDbKeyHash256 argTenantId, CFLibDbKeyHash256 argTSecGroupId, CFLibDbKeyHash256 argIncludeGroupId ) {
+		CFSecBuffTSecGrpIncByUIncludeIdxKey key = CFSecBuffTSecGrpIncDefaultFactory.getProbeByUIncludeIdxKey();
+		key.setRequiredTenantId( argTenantId );
+		key.setRequiredTSecGroupId( argTSecGroupId );
+		key.setRequiredIncludeGroupId( argIncludeGroupId );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffTSecGrpInc rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByTenantIdx.computeIfAbsent( newByTenantIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByGroupIdx.computeIfAbsent( newByGroupIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByIncludeIdx.computeIfAbsent( newByIncludeIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByUIncludeIdx.put( newByUIncludeIdxKey( rec ), rec );
+		inclusionClosure.addInclusion( rec.getRequiredTenantId(), rec.getRequiredTSecGroupId(), rec.getRequiredIncludeGroupId() );
+		for( CFSecBuffTableListener<ICFSecTSecGrpInc> listener : listeners ) {
+			listener.recCreated( rec );
+		}
+	}
+
+	protected void unindexRec( CFSecBuffTSecGrpInc rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		removeFromDupIndex( dictByTenantIdx, newByTenantIdxKey( rec ), pkey );
+		removeFromDupIndex( dictByGroupIdx, newByGroupIdxKey( rec ), pkey );
+		removeFromDupIndex( dictByIncludeIdx, newByIncludeIdxKey( rec ), pkey );
+		dictByUIncludeIdx.remove( newByUIncludeIdxKey( rec ), rec );
+		dictByPKey.remove( pkey, rec );
+		inclusionClosure.removeInclusion( rec.getRequiredTenantId(), rec.getRequiredTSecGroupId(), rec.getRequiredIncludeGroupId() );
+		for( CFSecBuffTableListener<ICFSecTSecGrpInc> listener : listeners ) {
+			listener.recDeleted( rec );
+		}
+	}
+
+	protected void reindexRec( CFSecBuffTSecGrpInc existing, CFSecBuffTSecGrpInc rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffTSecGrpIncByTenantIdxKey oldKey = newByTenantIdxKey( existing );
+			CFSecBuffTSecGrpIncByTenantIdxKey newKey = newByTenantIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByTenantIdx, oldKey, pkey );
+			}
+			dictByTenantIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffTSecGrpIncByGroupIdxKey oldKey = newByGroupIdxKey( existing );
+			CFSecBuffTSecGrpIncByGroupIdxKey newKey = newByGroupIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByGroupIdx, oldKey, pkey );
+			}
+			dictByGroupIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffTSecGrpIncByIncludeIdxKey oldKey = newByIncludeIdxKey( existing );
+			CFSecBuffTSecGrpIncByIncludeIdxKey newKey = newByIncludeIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByIncludeIdx, oldKey, pkey );
+			}
+			dictByIncludeIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffTSecGrpIncByUIncludeIdxKey oldKey = newByUIncludeIdxKey( existing );
+			CFSecBuffTSecGrpIncByUIncludeIdxKey newKey = newByUIncludeIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByUIncludeIdx.remove( oldKey, existing );
+				inclusionClosure.removeInclusion( existing.getRequiredTenantId(), existing.getRequiredTSecGroupId(), existing.getRequiredIncludeGroupId() );
+				inclusionClosure.addInclusion( rec.getRequiredTenantId(), rec.getRequiredTSecGroupId(), rec.getRequiredIncludeGroupId() );
+			}
+			dictByUIncludeIdx.put( newKey, rec );
+		}
+		for( CFSecBuffTableListener<ICFSecTSecGrpInc> listener : listeners ) {
+			listener.recUpdated( existing, rec );
+		}
+	}
+
+	protected static <K> void removeFromDupIndex( ConcurrentHashMap<K, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpInc>> dict, K key, CFLibDbKeyHash256 pkey ) {
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpInc> subdict = dict.get( key );
+		if( subdict != null ) {
+			subdict.remove( pkey );
+			if( subdict.isEmpty() ) {
+				dict.remove( key, subdict );
+			}
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffTSecGrpInc rec, CFSecBuffTSecGrpInc existing ) {
+		{
+			CFSecBuffTSecGrpIncByUIncludeIdxKey key = newByUIncludeIdxKey( rec );
+			CFSecBuffTSecGrpInc conflict = dictByUIncludeIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"TSecGrpIncUIncludeIdx",
+					key );
+			}
+		}
+	}
+
+	protected void checkInclusionCycle( String methName, CFSecBuffTSecGrpInc rec, CFSecBuffTSecGrpInc existing ) {
+		CFLibDbKeyHash256 ignoreGroupId = null;
+		CFLibDbKeyHash256 ignoreIncludeGroupId = null;
+		if( existing != null ) {
+			if( newByUIncludeIdxKey( existing ).equals( newByUIncludeIdxKey( rec ) ) ) {
+				return;
+			}
+			if( Objects.equals( existing.getRequiredTenantId(), rec.getRequiredTenantId() ) ) {
+				ignoreGroupId = existing.getRequiredTSecGroupId();
+				ignoreIncludeGroupId = existing.getRequiredIncludeGroupId();
+			}
+		}
+		if( inclusionClosure.wouldCreateCycle( rec.getRequiredTenantId(),
+			rec.getRequiredTSecGroupId(),
+			rec.getRequiredIncludeGroupId(),
+			ignoreGroupId,
+			ignoreIncludeGroupId ) )
+		{
+			throw new CFLibInvalidArgumentException( getClass(),
+				methName,
+				"TSecGrpInc would make group " + rec.getRequiredTSecGroupId() + " include itself",
+				"TSecGrpInc would make group " + rec.getRequiredTSecGroupId() + " include itself" );
+		}
+	}
+
+	@Override
+	public ICFSecTSecGrpInc createTSecGrpInc( ICFSecAuthorization Authorization,
+		ICFSecTSecGrpInc rec )
+	{
+		final String S_ProcName = "createTSecGrpInc";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffTSecGrpInc stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			checkInclusionCycle( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpInc readDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		if( PKey == null ) {
+			return( null );
+		}
+		CFSecBuffTSecGrpInc rec = dictByPKey.get( PKey );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpInc lockDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpInc[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpInc readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTSecGrpIncId )
+	{
+		if( argTSecGrpIncId == null ) {
+			return( null );
+		}
+		CFSecBuffTSecGrpInc rec = dictByPKey.get( argTSecGrpIncId );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpInc[] readDerivedByTenantIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpInc> subdict = dictByTenantIdx.get( probeByTenantIdxKey( argTenantId ) );
+		if( subdict == null ) {
+			return( new ICFSecTSecGrpInc[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the TSecGrpInc instances for several TenantIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argTenantIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecTSecGrpInc[]> readDerivedByTenantIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argTenantIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecTSecGrpInc[]> retMap = new HashMap<>( Math.max( 16, argTenantIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argTenantId : argTenantIds ) {
+			if( ( argTenantId == null ) || retMap.containsKey( argTenantId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpInc> subdict = dictByTenantIdx.get( probeByTenantIdxKey( argTenantId ) );
+			if( subdict == null ) {
+				retMap.put( argTenantId, new ICFSecTSecGrpInc[0] );
+			}
+			else {
+				retMap.put( argTenantId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecTSecGrpInc[] readDerivedByGroupIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTSecGroupId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpInc> subdict = dictByGroupIdx.get( probeByGroupIdxKey( argTSecGroupId ) );
+		if( subdict == null ) {
+			return( new ICFSecTSecGrpInc[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the TSecGrpInc instances for several GroupIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argTSecGroupIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecTSecGrpInc[]> readDerivedByGroupIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argTSecGroupIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecTSecGrpInc[]> retMap = new HashMap<>( Math.max( 16, argTSecGroupIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argTSecGroupId : argTSecGroupIds ) {
+			if( ( argTSecGroupId == null ) || retMap.containsKey( argTSecGroupId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpInc> subdict = dictByGroupIdx.get( probeByGroupIdxKey( argTSecGroupId ) );
+			if( subdict == null ) {
+				retMap.put( argTSecGroupId, new ICFSecTSecGrpInc[0] );
+			}
+			else {
+				retMap.put( argTSecGroupId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecTSecGrpInc[] readDerivedByIncludeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argIncludeGroupId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpInc> subdict = dictByIncludeIdx.get( probeByIncludeIdxKey( argIncludeGroupId ) );
+		if( subdict == null ) {
+			return( new ICFSecTSecGrpInc[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the TSecGrpInc instances for several IncludeIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argIncludeGroupIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecTSecGrpInc[]> readDerivedByIncludeIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argIncludeGroupIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecTSecGrpInc[]> retMap = new HashMap<>( Math.max( 16, argIncludeGroupIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argIncludeGroupId : argIncludeGroupIds ) {
+			if( ( argIncludeGroupId == null ) || retMap.containsKey( argIncludeGroupId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpInc> subdict = dictByIncludeIdx.get( probeByIncludeIdxKey( argIncludeGroupId ) );
+			if( subdict == null ) {
+				retMap.put( argIncludeGroupId, new ICFSecTSecGrpInc[0] );
+			}
+			else {
+				retMap.put( argIncludeGroupId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecTSecGrpInc readDerivedByUIncludeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId,
+		CFLibDbKeyHash256 argTSecGroupId,
+		CFLibDbKeyHash256 argIncludeGroupId )
+	{
+		CFSecBuffTSecGrpInc rec = dictByUIncludeIdx.get( probeByUIncludeIdxKey( argTenantId, argTSecGroupId, argIncludeGroupId ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpInc readRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpInc lockRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpInc[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpInc readRecByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTSecGrpIncId )
+	{
+		return( readDerivedByIdIdx( Authorization, argTSecGrpIncId ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpInc[] readRecByTenantIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId )
+	{
+		return( readDerivedByTenantIdx( Authorization, argTenantId ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpInc[] readRecByGroupIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTSecGroupId )
+	{
+		return( readDerivedByGroupIdx( Authorization, argTSecGroupId ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpInc[] readRecByIncludeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argIncludeGroupId )
+	{
+		return( readDerivedByIncludeIdx( Authorization, argIncludeGroupId ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpInc readRecByUIncludeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId,
+		CFLibDbKeyHash256 argTSecGroupId,
+		CFLibDbKeyHash256 argIncludeGroupId )
+	{
+		return( readDerivedByUIncludeIdx( Authorization, argTenantId, argTSecGroupId, argIncludeGroupId ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpInc updateTSecGrpInc( ICFSecAuthorization Authorization,
+		ICFSecTSecGrpInc rec )
+	{
+		final String S_ProcName = "updateTSecGrpInc";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffTSecGrpInc stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffTSecGrpInc existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"TSecGrpInc",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			checkInclusionCycle( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteTSecGrpInc( ICFSecAuthorization Authorization,
+		ICFSecTSecGrpInc rec )
+	{
+		final String S_ProcName = "deleteTSecGrpInc";
+		if( rec == null ) {
+			return;
+		}
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffTSecGrpInc existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffTSecGrpInc existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored TSecGrpInc under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffTSecGrpInc> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffTSecGrpInc> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffTSecGrpInc rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a TSecGrpInc exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffTSecGrpInc rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffTSecGrpInc stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			checkInclusionCycle( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteTSecGrpIncByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTSecGrpIncId )
+	{
+		if( argTSecGrpIncId == null ) {
+			return;
+		}
+		deleteStored( dictByPKey.get( argTSecGrpIncId ) );
+	}
+
+	@Override
+	public void deleteTSecGrpIncByTenantIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpInc> subdict = dictByTenantIdx.get( probeByTenantIdxKey( argTenantId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffTSecGrpInc existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteTSecGrpIncByTenantIdx( ICFSecAuthorization Authorization,
+		ICFSecTSecGrpIncByTenantIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteTSecGrpIncByTenantIdx( Authorization, argKey.getRequiredTenantId() );
+	}
+
+	@Override
+	public void deleteTSecGrpIncByGroupIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTSecGroupId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpInc> subdict = dictByGroupIdx.get( probeByGroupIdxKey( argTSecGroupId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffTSecGrpInc existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteTSecGrpIncByGroupIdx( ICFSecAuthorization Authorization,
+		ICFSecTSecGrpIncByGroupIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteTSecGrpIncByGroupIdx( Authorization, argKey.getRequiredTSecGroupId() );
+	}
+
+	@Override
+	public void deleteTSecGrpIncByIncludeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argIncludeGroupId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpInc> subdict = dictByIncludeIdx.get( probeByIncludeIdxKey( argIncludeGroupId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffTSecGrpInc existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteTSecGrpIncByIncludeIdx( ICFSecAuthorization Authorization,
+		ICFSecTSecGrpIncByIncludeIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteTSecGrpIncByIncludeIdx( Authorization, argKey.getRequiredIncludeGroupId() );
+	}
+
+	@Override
+	public void deleteTSecGrpIncByUIncludeIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId,
+		CFLibDbKeyHash256 argTSecGroupId,
+		CFLibDbKeyHash256 argIncludeGroupId )
+	{
+		deleteStored( dictByUIncludeIdx.get( probeByUIncludeIdxKey( argTenantId, argTSecGroupId, argIncludeGroupId ) ) );
+	}
+
+	@Override
+	public void deleteTSecGrpIncByUIncludeIdx( ICFSecAuthorization Authorization,
+		ICFSecTSecGrpIncByUIncludeIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteTSecGrpIncByUIncludeIdx( Authorization, argKey.getRequiredTenantId(), argKey.getRequiredTSecGroupId(), argKey.getRequiredIncludeGroupId() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
@@ -54,8 +54,10 @@ public class CFSecBuffTSecGrpMembByGroupIdxKey
 	implements ICFSecTSecGrpMembByGroupIdxKey, Comparable<Object>, Serializable
 {
 	protected CFLibDbKeyHash256 requiredTSecGroupId;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffTSecGrpMembByGroupIdxKey() {
-		requiredTSecGroupId = CFLibDbKeyHash256.fromHex( ICFSecTSecGrpMemb.TSECGROUPID_INIT_VALUE.toString() );
+		requiredTSecGroupId = ICFSecTSecGrpMemb.TSECGROUPID_INIT_VALUE;
 	}
 
 	@Override
@@ -72,6 +74,7 @@ public class CFSecBuffTSecGrpMembByGroupIdxKey
 				"value" );
 		}
 		requiredTSecGroupId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -124,9 +127,14 @@ public class CFSecBuffTSecGrpMembByGroupIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredTSecGroupId().hashCode();
-		return( hashCode & 0x7fffffff );
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredTSecGroupId() );
+			hashCode = CFSecBuffHash.finish( hashCode, 1 );
+			cachedHashCode = hashCode;
+		}
+		return( hashCode );
 	}
 
 	@Override
@@ -54,13 +54,140 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffTSecGrpMembDefaultFactory
 	implements ICFSecTSecGrpMembFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffTSecGrpMembByTenantIdxKey> probeByTenantIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffTSecGrpMembByTenantIdxKey() );
+	protected static final ThreadLocal<CFSecBuffTSecGrpMembByGroupIdxKey> probeByGroupIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffTSecGrpMembByGroupIdxKey() );
+	protected static final ThreadLocal<CFSecBuffTSecGrpMembByUserIdxKey> probeByUserIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffTSecGrpMembByUserIdxKey() );
+	protected static final ThreadLocal<CFSecBuffTSecGrpMembByUUserIdxKey> probeByUUserIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffTSecGrpMembByUUserIdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders TSecGrpMemb instances by primary key.
+	 */
+	public static final Comparator<ICFSecTSecGrpMemb> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( lhs.getRequiredTSecGrpMembId().compareTo( rhs.getRequiredTSecGrpMembId() ) );
+	};
+
+	/**
+	 *	Orders TSecGrpMemb history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecTSecGrpMembHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredTSecGrpMembId().compareTo( rhs.getRequiredTSecGrpMembId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders TSecGrpMemb instances by the TenantIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecTSecGrpMemb> COMPARE_BY_TENANTIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredTenantId().compareTo( rhs.getRequiredTenantId() ) );
+	};
+
+	/**
+	 *	Orders TenantIdx keys.
+	 */
+	public static final Comparator<ICFSecTSecGrpMembByTenantIdxKey> COMPARE_TENANTIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredTenantId().compareTo( rhs.getRequiredTenantId() ) );
+	};
+
+	/**
+	 *	Orders TSecGrpMemb instances by the GroupIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecTSecGrpMemb> COMPARE_BY_GROUPIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredTSecGroupId().compareTo( rhs.getRequiredTSecGroupId() ) );
+	};
+
+	/**
+	 *	Orders GroupIdx keys.
+	 */
+	public static final Comparator<ICFSecTSecGrpMembByGroupIdxKey> COMPARE_GROUPIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredTSecGroupId().compareTo( rhs.getRequiredTSecGroupId() ) );
+	};
+
+	/**
+	 *	Orders TSecGrpMemb instances by the UserIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecTSecGrpMemb> COMPARE_BY_USERIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() ) );
+	};
+
+	/**
+	 *	Orders UserIdx keys.
+	 */
+	public static final Comparator<ICFSecTSecGrpMembByUserIdxKey> COMPARE_USERIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() ) );
+	};
+
+	/**
+	 *	Orders TSecGrpMemb instances by the UUserIdx columns.
+	 */
+	public static final Comparator<ICFSecTSecGrpMemb> COMPARE_BY_UUSERIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredTenantId().compareTo( rhs.getRequiredTenantId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		cmp = lhs.getRequiredTSecGroupId().compareTo( rhs.getRequiredTSecGroupId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() ) );
+	};
+
+	/**
+	 *	Orders UUserIdx keys.
+	 */
+	public static final Comparator<ICFSecTSecGrpMembByUUserIdxKey> COMPARE_UUSERIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredTenantId().compareTo( rhs.getRequiredTenantId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		cmp = lhs.getRequiredTSecGroupId().compareTo( rhs.getRequiredTSecGroupId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredSecUserId().compareTo( rhs.getRequiredSecUserId() ) );
+	};
+
 	public CFSecBuffTSecGrpMembDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
 	@Override
 	public ICFSecTSecGrpMembHPKey newHPKey() {
 		ICFSecTSecGrpMembHPKey hpkey =
-			new CFSecBuffTSecGrpMembHPKey();
+			new CFSecBuffTSecGrpMembHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -72,7 +199,7 @@ public class CFSecBuffTSecGrpMembDefaultFactory
 			return( (CFSecBuffTSecGrpMembHPKey)key );
 		}
 		else {
-			CFSecBuffTSecGrpMembHPKey mapped = new CFSecBuffTSecGrpMembHPKey();
+			CFSecBuffTSecGrpMembHPKey mapped = new CFSecBuffTSecGrpMembHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -103,6 +230,10 @@ public class CFSecBuffTSecGrpMembDefaultFactory
 		}
 	}
 
+	public static CFSecBuffTSecGrpMembByTenantIdxKey getProbeByTenantIdxKey() {
+		return( probeByTenantIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecTSecGrpMembByGroupIdxKey newByGroupIdxKey() {
 		ICFSecTSecGrpMembByGroupIdxKey key =
@@ -124,6 +255,10 @@ public class CFSecBuffTSecGrpMembDefaultFactory
 		}
 	}
 
+	public static CFSecBuffTSecGrpMembByGroupIdxKey getProbeByGroupIdxKey() {
+		return( probeByGroupIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecTSecGrpMembByUserIdxKey newByUserIdxKey() {
 		ICFSecTSecGrpMembByUserIdxKey key =
@@ -145,6 +280,10 @@ public class CFSecBuffTSecGrpMembDefaultFactory
 		}
 	}
 
+	public static CFSecBuffTSecGrpMembByUserIdxKey getProbeByUserIdxKey() {
+		return( probeByUserIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecTSecGrpMembByUUserIdxKey newByUUserIdxKey() {
 		ICFSecTSecGrpMembByUUserIdxKey key =
@@ -168,10 +307,14 @@ public class CFSecBuffTSecGrpMembDefaultFactory
 		}
 	}
 
+	public static CFSecBuffTSecGrpMembByUUserIdxKey getProbeByUUserIdxKey() {
+		return( probeByUUserIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecTSecGrpMemb newRec() {
 		ICFSecTSecGrpMemb rec =
-			new CFSecBuffTSecGrpMemb();
+			new CFSecBuffTSecGrpMemb( recStamp );
 		return( rec );
 	}
 
@@ -183,16 +326,56 @@ public class CFSecBuffTSecGrpMembDefaultFactory
 			return( (CFSecBuffTSecGrpMemb)rec );
 		}
 		else {
-			CFSecBuffTSecGrpMemb mapped = new CFSecBuffTSecGrpMemb();
+			CFSecBuffTSecGrpMemb mapped = new CFSecBuffTSecGrpMemb( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffTSecGrpMemb cloneRec( ICFSecTSecGrpMemb rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffTSecGrpMemb ) {
+			return( ( (CFSecBuffTSecGrpMemb)rec ).clone() );
+		}
+		else {
+			CFSecBuffTSecGrpMemb mapped = new CFSecBuffTSecGrpMemb( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffTSecGrpMemb[] cloneRecs( ICFSecTSecGrpMemb[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffTSecGrpMemb[] retList = new CFSecBuffTSecGrpMemb[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecTSecGrpMembH newHRec() {
 		ICFSecTSecGrpMembH hrec =
-			new CFSecBuffTSecGrpMembH();
+			new CFSecBuffTSecGrpMembH( recStamp );
 		return( hrec );
 	}
 
@@ -204,9 +387,49 @@ public class CFSecBuffTSecGrpMembDefaultFactory
 			return( (CFSecBuffTSecGrpMembH)hrec );
 		}
 		else {
-			CFSecBuffTSecGrpMembH mapped = new CFSecBuffTSecGrpMembH();
+			CFSecBuffTSecGrpMembH mapped = new CFSecBuffTSecGrpMembH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffTSecGrpMembH cloneHRec( ICFSecTSecGrpMembH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffTSecGrpMembH ) {
+			return( ( (CFSecBuffTSecGrpMembH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffTSecGrpMembH mapped = new CFSecBuffTSecGrpMembH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffTSecGrpMembH[] cloneHRecs( ICFSecTSecGrpMembH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffTSecGrpMembH[] retList = new CFSecBuffTSecGrpMembH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
@@ -0,0 +1,824 @@
+// Description: Java 25 in-memory concurrent implementation of a TSecGrpMemb table
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.rmi.*;
+import java.sql.*;
+import java.text.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import java.util.function.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffTSecGrpMembTable in-memory implementation of ICFSecTSecGrpMembTable for TSecGrpMemb.
+ *
+ *	Readers probe the concurrent dictionaries without locking.  Writers serialize
+ *	on a per-table lock so the primary and index dictionaries stay consistent
+ *	with each other.  Records are copied on the way in and on the way out, so
+ *	the stored instances are never visible to callers.
+ */
+public class CFSecBuffTSecGrpMembTable
+	implements ICFSecTSecGrpMembTable,
+		CFSecBuffVersionedTable
+{
+	protected final ReentrantLock writeLock = new ReentrantLock();
+	protected volatile long modificationCount = 0L;
+	protected final long tableSerial = CFSecBuffNavigationCache.nextTableSerial();
+
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpMemb> dictByPKey
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffTSecGrpMembByTenantIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpMemb>> dictByTenantIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffTSecGrpMembByGroupIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpMemb>> dictByGroupIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffTSecGrpMembByUserIdxKey, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpMemb>> dictByUserIdx
+		= new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFSecBuffTSecGrpMembByUUserIdxKey, CFSecBuffTSecGrpMemb> dictByUUserIdx
+		= new ConcurrentHashMap<>();
+	protected final CopyOnWriteArrayList<CFSecBuffTableListener<ICFSecTSecGrpMemb>> listeners
+		= new CopyOnWriteArrayList<>();
+
+	public CFSecBuffTSecGrpMembTable() {
+	}
+
+	@Override
+	public long getModificationCount() {
+		return( modificationCount );
+	}
+
+	@Override
+	public long getTableSerial() {
+		return( tableSerial );
+	}
+
+	/**
+	 *	Register a listener for creates, updates and deletes of TSecGrpMemb.
+	 *
+	 *	@param	listener	The listener to add.
+	 */
+	public void addListener( CFSecBuffTableListener<ICFSecTSecGrpMemb> listener ) {
+		if( listener == null ) {
+			throw new CFLibNullArgumentException( getClass(), "addListener", 1, "listener" );
+		}
+		listeners.addIfAbsent( listener );
+	}
+
+	/**
+	 *	Unregister a listener.  Removing a listener that is not registered is ignored.
+	 *
+	 *	@param	listener	The listener to remove.
+	 */
+	public void removeListener( CFSecBuffTableListener<ICFSecTSecGrpMemb> listener ) {
+		listeners.remove( listener );
+	}
+
+	/**
+	 *	Visit the stored records of one tenant without taking the table lock, so
+	 *	writers to this and every other tenant proceed during the visit.  The view
+	 *	is weakly consistent: a change made during the visit may or may not be
+	 *	seen.  A caller that must not miss one registers as a listener first and
+	 *	reconciles the visit with the notifications it receives, which are sent
+	 *	after the index is updated.  The records are the stored instances, and the
+	 *	action must not modify or retain them.
+	 *
+	 *	@param	argTenantId	The owning tenant.
+	 *	@param	action	The consumer to call for each record.
+	 */
+	public void forEachByTenantIdx( CFLibDbKeyHash256 argTenantId, Consumer<ICFSecTSecGrpMemb> action ) {
+		if( action == null ) {
+			throw new CFLibNullArgumentException( getClass(), "forEachByTenantIdx", 2, "action" );
+		}
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpMemb> subdict = dictByTenantIdx.get( probeByTenantIdxKey( argTenantId ) );
+		if( subdict != null ) {
+			for( CFSecBuffTSecGrpMemb cur : subdict.values() ) {
+				action.accept( cur );
+			}
+		}
+	}
+
+	/**
+	 *	Copy the attributes of a TSecGrpMemb by value, without resolving any relationships
+	 *	through the backing schema.
+	 *
+	 *	@param	src	The record to copy.
+	 *
+	 *	@return	A new CFSecBuffTSecGrpMemb holding the same attribute values.
+	 */
+	protected CFSecBuffTSecGrpMemb copyRec( ICFSecTSecGrpMemb src ) {
+		if( src instanceof CFSecBuffTSecGrpMemb ) {
+			return( ( (CFSecBuffTSecGrpMemb)src ).clone() );
+		}
+		CFSecBuffTSecGrpMemb rec = new CFSecBuffTSecGrpMemb( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredTSecGrpMembId( src.getRequiredTSecGrpMembId() );
+		rec.setRequiredOwnerTenant( src.getRequiredTenantId() );
+		rec.setRequiredContainerGroup( src.getRequiredTSecGroupId() );
+		rec.setRequiredParentUser( src.getRequiredSecUserId() );
+		rec.setRequiredRevision( src.getRequiredRevision() );
+		rec.setCreatedByUserId( src.getCreatedByUserId() );
+		rec.setCreatedAt( src.getCreatedAt() );
+		rec.setUpdatedByUserId( src.getUpdatedByUserId() );
+		rec.setUpdatedAt( src.getUpdatedAt() );
+		return( rec );
+	}
+
+	protected ICFSecTSecGrpMemb[] copyRecs( Collection<CFSecBuffTSecGrpMemb> src ) {
+		ICFSecTSecGrpMemb[] retList = new ICFSecTSecGrpMemb[ src.size() ];
+		int idx = 0;
+		for( CFSecBuffTSecGrpMemb cur : src ) {
+			if( idx >= retList.length ) {
+				break;
+			}
+			retList[ idx++ ] = copyRec( cur );
+		}
+		if( idx < retList.length ) {
+			retList = Arrays.copyOf( retList, idx );
+		}
+		return( retList );
+	}
+
+	protected CFLibDbKeyHash256 pkeyOf( ICFSecTSecGrpMemb rec ) {
+		return( rec.getRequiredTSecGrpMembId() );
+	}
+
+	protected CFSecBuffTSecGrpMembByTenantIdxKey newByTenantIdxKey( CFLibDbKeyHash256 argTenantId ) {
+		CFSecBuffTSecGrpMembByTenantIdxKey key = new CFSecBuffTSecGrpMembByTenantIdxKey();
+		key.setRequiredTenantId( argTenantId );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGrpMembByTenantIdxKey newByTenantIdxKey( ICFSecTSecGrpMemb rec ) {
+		return( newByTenantIdxKey( rec.getRequiredTenantId() ) );
+	}
+
+	protected CFSecBuffTSecGrpMembByTenantIdxKey probeByTenantIdxKey( CFLibDbKeyHash256 argTenantId ) {
+		CFSecBuffTSecGrpMembByTenantIdxKey key = CFSecBuffTSecGrpMembDefaultFactory.getProbeByTenantIdxKey();
+		key.setRequiredTenantId( argTenantId );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGrpMembByGroupIdxKey newByGroupIdxKey( CFLibDbKeyHash256 argTSecGroupId ) {
+		CFSecBuffTSecGrpMembByGroupIdxKey key = new CFSecBuffTSecGrpMembByGroupIdxKey();
+		key.setRequiredTSecGroupId( argTSecGroupId );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGrpMembByGroupIdxKey newByGroupIdxKey( ICFSecTSecGrpMemb rec ) {
+		return( newByGroupIdxKey( rec.getRequiredTSecGroupId() ) );
+	}
+
+	protected CFSecBuffTSecGrpMembByGroupIdxKey probeByGroupIdxKey( CFLibDbKeyHash256 argTSecGroupId ) {
+		CFSecBuffTSecGrpMembByGroupIdxKey key = CFSecBuffTSecGrpMembDefaultFactory.getProbeByGroupIdxKey();
+		key.setRequiredTSecGroupId( argTSecGroupId );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGrpMembByUserIdxKey newByUserIdxKey( CFLibDbKeyHash256 argSecUserId ) {
+		CFSecBuffTSecGrpMembByUserIdxKey key = new CFSecBuffTSecGrpMembByUserIdxKey();
+		key.setRequiredSecUserId( argSecUserId );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGrpMembByUserIdxKey newByUserIdxKey( ICFSecTSecGrpMemb rec ) {
+		return( newByUserIdxKey( rec.getRequiredSecUserId() ) );
+	}
+
+	protected CFSecBuffTSecGrpMembByUserIdxKey probeByUserIdxKey( CFLibDbKeyHash256 argSecUserId ) {
+		CFSecBuffTSecGrpMembByUserIdxKey key = CFSecBuffTSecGrpMembDefaultFactory.getProbeByUserIdxKey();
+		key.setRequiredSecUserId( argSecUserId );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGrpMembByUUserIdxKey newByUUserIdxKey( CFLibDbKeyHash256 argTenantId, CFLibDbKeyHash256 argTSecGroupId, CFLibDbKeyHash256 argSecUserId ) {
+		CFSecBuffTSecGrpMembByUUserIdxKey key = new CFSecBuffTSecGrpMembByUUserIdxKey();
+		key.setRequiredTenantId( argTenantId );
+		key.setRequiredTSecGroupId( argTSecGroupId );
+		key.setRequiredSecUserId( argSecUserId );
+		return( key );
+	}
+
+	protected CFSecBuffTSecGrpMembByUUserIdxKey newByUUserIdxKey( ICFSecTSecGrpMemb rec ) {
+		return( newByUUserIdxKey( rec.getRequiredTenantId(), rec.getRequiredTSecGroupId(), rec.getRequiredSecUserId() ) );
+	}
+
+	protected CFSecBuffTSecGrpMembByUUserIdxKey probeByUUserIdxKey( CFLibDbKeyHash256 argTenantId, CFLibDbKeyHash256 argTSecGroupId, CFLibDbKeyHash256 argSecUserId ) {
+		CFSecBuffTSecGrpMembByUUserIdxKey key = CFSecBuffTSecGrpMembDefaultFactory.getProbeByUUserIdxKey();
+		key.setRequiredTenantId( argTenantId );
+		key.setRequiredTSecGroupId( argTSecGroupId );
+		key.setRequiredSecUserId( argSecUserId );
+		return( key );
+	}
+
+	protected void indexRec( CFSecBuffTSecGrpMemb rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		dictByTenantIdx.computeIfAbsent( newByTenantIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByGroupIdx.computeIfAbsent( newByGroupIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByUserIdx.computeIfAbsent( newByUserIdxKey( rec ), k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		dictByUUserIdx.put( newByUUserIdxKey( rec ), rec );
+		for( CFSecBuffTableListener<ICFSecTSecGrpMemb> listener : listeners ) {
+			listener.recCreated( rec );
+		}
+	}
+
+	protected void unindexRec( CFSecBuffTSecGrpMemb rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		removeFromDupIndex( dictByTenantIdx, newByTenantIdxKey( rec ), pkey );
+		removeFromDupIndex( dictByGroupIdx, newByGroupIdxKey( rec ), pkey );
+		removeFromDupIndex( dictByUserIdx, newByUserIdxKey( rec ), pkey );
+		dictByUUserIdx.remove( newByUUserIdxKey( rec ), rec );
+		dictByPKey.remove( pkey, rec );
+		for( CFSecBuffTableListener<ICFSecTSecGrpMemb> listener : listeners ) {
+			listener.recDeleted( rec );
+		}
+	}
+
+	protected void reindexRec( CFSecBuffTSecGrpMemb existing, CFSecBuffTSecGrpMemb rec ) {
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		dictByPKey.put( pkey, rec );
+		{
+			CFSecBuffTSecGrpMembByTenantIdxKey oldKey = newByTenantIdxKey( existing );
+			CFSecBuffTSecGrpMembByTenantIdxKey newKey = newByTenantIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByTenantIdx, oldKey, pkey );
+			}
+			dictByTenantIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffTSecGrpMembByGroupIdxKey oldKey = newByGroupIdxKey( existing );
+			CFSecBuffTSecGrpMembByGroupIdxKey newKey = newByGroupIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByGroupIdx, oldKey, pkey );
+			}
+			dictByGroupIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffTSecGrpMembByUserIdxKey oldKey = newByUserIdxKey( existing );
+			CFSecBuffTSecGrpMembByUserIdxKey newKey = newByUserIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				removeFromDupIndex( dictByUserIdx, oldKey, pkey );
+			}
+			dictByUserIdx.computeIfAbsent( newKey, k -> new ConcurrentHashMap<>() ).put( pkey, rec );
+		}
+		{
+			CFSecBuffTSecGrpMembByUUserIdxKey oldKey = newByUUserIdxKey( existing );
+			CFSecBuffTSecGrpMembByUUserIdxKey newKey = newByUUserIdxKey( rec );
+			if( ! oldKey.equals( newKey ) ) {
+				dictByUUserIdx.remove( oldKey, existing );
+			}
+			dictByUUserIdx.put( newKey, rec );
+		}
+		for( CFSecBuffTableListener<ICFSecTSecGrpMemb> listener : listeners ) {
+			listener.recUpdated( existing, rec );
+		}
+	}
+
+	protected static <K> void removeFromDupIndex( ConcurrentHashMap<K, ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpMemb>> dict, K key, CFLibDbKeyHash256 pkey ) {
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpMemb> subdict = dict.get( key );
+		if( subdict != null ) {
+			subdict.remove( pkey );
+			if( subdict.isEmpty() ) {
+				dict.remove( key, subdict );
+			}
+		}
+	}
+
+	protected void checkUniqueIndexes( String methName, CFSecBuffTSecGrpMemb rec, CFSecBuffTSecGrpMemb existing ) {
+		{
+			CFSecBuffTSecGrpMembByUUserIdxKey key = newByUUserIdxKey( rec );
+			CFSecBuffTSecGrpMemb conflict = dictByUUserIdx.get( key );
+			if( ( conflict != null ) && ( conflict != existing ) ) {
+				throw new CFLibUniqueIndexViolationException( getClass(),
+					methName,
+					"TSecGrpMembUUserIdx",
+					key );
+			}
+		}
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb createTSecGrpMemb( ICFSecAuthorization Authorization,
+		ICFSecTSecGrpMemb rec )
+	{
+		final String S_ProcName = "createTSecGrpMemb";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffTSecGrpMemb stored = copyRec( rec );
+		stored.setRequiredRevision( 1 );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb readDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		if( PKey == null ) {
+			return( null );
+		}
+		CFSecBuffTSecGrpMemb rec = dictByPKey.get( PKey );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb lockDerived( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb[] readAllDerived( ICFSecAuthorization Authorization ) {
+		return( copyRecs( dictByPKey.values() ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb readDerivedByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTSecGrpMembId )
+	{
+		if( argTSecGrpMembId == null ) {
+			return( null );
+		}
+		CFSecBuffTSecGrpMemb rec = dictByPKey.get( argTSecGrpMembId );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb[] readDerivedByTenantIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpMemb> subdict = dictByTenantIdx.get( probeByTenantIdxKey( argTenantId ) );
+		if( subdict == null ) {
+			return( new ICFSecTSecGrpMemb[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the TSecGrpMemb instances for several TenantIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argTenantIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecTSecGrpMemb[]> readDerivedByTenantIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argTenantIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecTSecGrpMemb[]> retMap = new HashMap<>( Math.max( 16, argTenantIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argTenantId : argTenantIds ) {
+			if( ( argTenantId == null ) || retMap.containsKey( argTenantId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpMemb> subdict = dictByTenantIdx.get( probeByTenantIdxKey( argTenantId ) );
+			if( subdict == null ) {
+				retMap.put( argTenantId, new ICFSecTSecGrpMemb[0] );
+			}
+			else {
+				retMap.put( argTenantId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb[] readDerivedByGroupIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTSecGroupId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpMemb> subdict = dictByGroupIdx.get( probeByGroupIdxKey( argTSecGroupId ) );
+		if( subdict == null ) {
+			return( new ICFSecTSecGrpMemb[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the TSecGrpMemb instances for several GroupIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argTSecGroupIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecTSecGrpMemb[]> readDerivedByGroupIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argTSecGroupIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecTSecGrpMemb[]> retMap = new HashMap<>( Math.max( 16, argTSecGroupIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argTSecGroupId : argTSecGroupIds ) {
+			if( ( argTSecGroupId == null ) || retMap.containsKey( argTSecGroupId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpMemb> subdict = dictByGroupIdx.get( probeByGroupIdxKey( argTSecGroupId ) );
+			if( subdict == null ) {
+				retMap.put( argTSecGroupId, new ICFSecTSecGrpMemb[0] );
+			}
+			else {
+				retMap.put( argTSecGroupId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb[] readDerivedByUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpMemb> subdict = dictByUserIdx.get( probeByUserIdxKey( argSecUserId ) );
+		if( subdict == null ) {
+			return( new ICFSecTSecGrpMemb[0] );
+		}
+		return( copyRecs( subdict.values() ) );
+	}
+
+	/**
+	 *	Read the TSecGrpMemb instances for several UserIdx values in one pass over the index.
+	 *	Like the single-value read, the batch takes no lock.  It is weakly
+	 *	consistent: a write that runs during the batch may be seen for some values
+	 *	and not for others.
+	 *
+	 *	@param	Authorization	The session authorization.
+	 *	@param	argSecUserIds	The index values to read; nulls and duplicates are ignored.
+	 *
+	 *	@return	The instances for each requested value, with an empty array for values
+	 *		without matches.
+	 */
+	public Map<CFLibDbKeyHash256, ICFSecTSecGrpMemb[]> readDerivedByUserIdxBatch( ICFSecAuthorization Authorization,
+		Collection<CFLibDbKeyHash256> argSecUserIds )
+	{
+		Map<CFLibDbKeyHash256, ICFSecTSecGrpMemb[]> retMap = new HashMap<>( Math.max( 16, argSecUserIds.size() * 2 ) );
+		for( CFLibDbKeyHash256 argSecUserId : argSecUserIds ) {
+			if( ( argSecUserId == null ) || retMap.containsKey( argSecUserId ) ) {
+				continue;
+			}
+			ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpMemb> subdict = dictByUserIdx.get( probeByUserIdxKey( argSecUserId ) );
+			if( subdict == null ) {
+				retMap.put( argSecUserId, new ICFSecTSecGrpMemb[0] );
+			}
+			else {
+				retMap.put( argSecUserId, copyRecs( subdict.values() ) );
+			}
+		}
+		return( retMap );
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb readDerivedByUUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId,
+		CFLibDbKeyHash256 argTSecGroupId,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		CFSecBuffTSecGrpMemb rec = dictByUUserIdx.get( probeByUUserIdxKey( argTenantId, argTSecGroupId, argSecUserId ) );
+		if( rec == null ) {
+			return( null );
+		}
+		return( copyRec( rec ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb readRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( readDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb lockRec( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 PKey )
+	{
+		return( lockDerived( Authorization, PKey ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb[] readAllRec( ICFSecAuthorization Authorization ) {
+		return( readAllDerived( Authorization ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb readRecByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTSecGrpMembId )
+	{
+		return( readDerivedByIdIdx( Authorization, argTSecGrpMembId ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb[] readRecByTenantIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId )
+	{
+		return( readDerivedByTenantIdx( Authorization, argTenantId ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb[] readRecByGroupIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTSecGroupId )
+	{
+		return( readDerivedByGroupIdx( Authorization, argTSecGroupId ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb[] readRecByUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		return( readDerivedByUserIdx( Authorization, argSecUserId ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb readRecByUUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId,
+		CFLibDbKeyHash256 argTSecGroupId,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		return( readDerivedByUUserIdx( Authorization, argTenantId, argTSecGroupId, argSecUserId ) );
+	}
+
+	@Override
+	public ICFSecTSecGrpMemb updateTSecGrpMemb( ICFSecAuthorization Authorization,
+		ICFSecTSecGrpMemb rec )
+	{
+		final String S_ProcName = "updateTSecGrpMemb";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "rec" );
+		}
+		CFSecBuffTSecGrpMemb stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			CFSecBuffTSecGrpMemb existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				throw new CFLibStaleCacheDetectedException( getClass(),
+					S_ProcName,
+					"Existing record not found",
+					"TSecGrpMemb",
+					pkey );
+			}
+			if( existing.getRequiredRevision() != stored.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			stored.setRequiredRevision( existing.getRequiredRevision() + 1 );
+			checkUniqueIndexes( S_ProcName, stored, existing );
+			reindexRec( existing, stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+		return( copyRec( stored ) );
+	}
+
+	@Override
+	public void deleteTSecGrpMemb( ICFSecAuthorization Authorization,
+		ICFSecTSecGrpMemb rec )
+	{
+		final String S_ProcName = "deleteTSecGrpMemb";
+		if( rec == null ) {
+			return;
+		}
+		CFLibDbKeyHash256 pkey = pkeyOf( rec );
+		writeLock.lock();
+		try {
+			CFSecBuffTSecGrpMemb existing = dictByPKey.get( pkey );
+			if( existing == null ) {
+				return;
+			}
+			if( existing.getRequiredRevision() != rec.getRequiredRevision() ) {
+				throw new CFLibCollisionDetectedException( getClass(),
+					S_ProcName,
+					pkey );
+			}
+			unindexRec( existing );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	protected void deleteStored( CFSecBuffTSecGrpMemb existing ) {
+		if( existing == null ) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if( dictByPKey.get( pkeyOf( existing ) ) == existing ) {
+				unindexRec( existing );
+				modificationCount++;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Copy every stored TSecGrpMemb under the write lock, for snapshot images.
+	 *
+	 *	@return	The copies.
+	 */
+	protected List<CFSecBuffTSecGrpMemb> snapshotStored() {
+		writeLock.lock();
+		try {
+			ArrayList<CFSecBuffTSecGrpMemb> recs = new ArrayList<>( dictByPKey.size() );
+			for( CFSecBuffTSecGrpMemb rec : dictByPKey.values() ) {
+				recs.add( rec.clone() );
+			}
+			return( recs );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 *	Store a TSecGrpMemb exactly as given, keeping its revision, when restoring a
+	 *	snapshot image.  Unique indexes are still enforced.
+	 *
+	 *	@param	rec	The record to restore.
+	 */
+	protected void restoreStored( CFSecBuffTSecGrpMemb rec ) {
+		final String S_ProcName = "restoreStored";
+		if( rec == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "rec" );
+		}
+		CFSecBuffTSecGrpMemb stored = copyRec( rec );
+		CFLibDbKeyHash256 pkey = pkeyOf( stored );
+		writeLock.lock();
+		try {
+			if( dictByPKey.containsKey( pkey ) ) {
+				throw new CFLibPrimaryKeyNotNewException( getClass(), S_ProcName, pkey );
+			}
+			checkUniqueIndexes( S_ProcName, stored, null );
+			indexRec( stored );
+			modificationCount++;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteTSecGrpMembByIdIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTSecGrpMembId )
+	{
+		if( argTSecGrpMembId == null ) {
+			return;
+		}
+		deleteStored( dictByPKey.get( argTSecGrpMembId ) );
+	}
+
+	@Override
+	public void deleteTSecGrpMembByTenantIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpMemb> subdict = dictByTenantIdx.get( probeByTenantIdxKey( argTenantId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffTSecGrpMemb existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteTSecGrpMembByTenantIdx( ICFSecAuthorization Authorization,
+		ICFSecTSecGrpMembByTenantIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteTSecGrpMembByTenantIdx( Authorization, argKey.getRequiredTenantId() );
+	}
+
+	@Override
+	public void deleteTSecGrpMembByGroupIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTSecGroupId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpMemb> subdict = dictByGroupIdx.get( probeByGroupIdxKey( argTSecGroupId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffTSecGrpMemb existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteTSecGrpMembByGroupIdx( ICFSecAuthorization Authorization,
+		ICFSecTSecGrpMembByGroupIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteTSecGrpMembByGroupIdx( Authorization, argKey.getRequiredTSecGroupId() );
+	}
+
+	@Override
+	public void deleteTSecGrpMembByUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		ConcurrentHashMap<CFLibDbKeyHash256, CFSecBuffTSecGrpMemb> subdict = dictByUserIdx.get( probeByUserIdxKey( argSecUserId ) );
+		if( subdict == null ) {
+			return;
+		}
+		for( CFSecBuffTSecGrpMemb existing : new ArrayList<>( subdict.values() ) ) {
+			deleteStored( existing );
+		}
+	}
+
+	@Override
+	public void deleteTSecGrpMembByUserIdx( ICFSecAuthorization Authorization,
+		ICFSecTSecGrpMembByUserIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteTSecGrpMembByUserIdx( Authorization, argKey.getRequiredSecUserId() );
+	}
+
+	@Override
+	public void deleteTSecGrpMembByUUserIdx( ICFSecAuthorization Authorization,
+		CFLibDbKeyHash256 argTenantId,
+		CFLibDbKeyHash256 argTSecGroupId,
+		CFLibDbKeyHash256 argSecUserId )
+	{
+		deleteStored( dictByUUserIdx.get( probeByUUserIdxKey( argTenantId, argTSecGroupId, argSecUserId ) ) );
+	}
+
+	@Override
+	public void deleteTSecGrpMembByUUserIdx( ICFSecAuthorization Authorization,
+		ICFSecTSecGrpMembByUUserIdxKey argKey )
+	{
+		if( argKey == null ) {
+			return;
+		}
+		deleteTSecGrpMembByUUserIdx( Authorization, argKey.getRequiredTenantId(), argKey.getRequiredTSecGroupId(), argKey.getRequiredSecUserId() );
+	}
+
+	public void releasePreparedStatements() {
+	}
+}
@@ -0,0 +1,69 @@
+// Description: Java 25 interface for observers of CFSec buffer table changes
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+/*
+ *	CFSecBuffTableListener is notified by the in-memory tables that publish
+ *	change events.  Notifications are delivered on the writing thread while the
+ *	table's write lock is held, after the dictionaries have been changed, so a
+ *	listener sees the table as of the change it is told about.
+ *
+ *	The records passed are the stored instances.  Listeners must not modify
+ *	them or keep references to them, must not throw, and should return quickly.
+ */
+public interface CFSecBuffTableListener<R>
+{
+	/**
+	 *	A record has been created.
+	 *
+	 *	@param	rec	The stored record.
+	 */
+	void recCreated( R rec );
+
+	/**
+	 *	A record has been updated.
+	 *
+	 *	@param	existing	The stored record as it was before the update.
+	 *	@param	rec	The stored record as it is now.
+	 */
+	void recUpdated( R existing, R rec );
+
+	/**
+	 *	A record has been deleted.
+	 *
+	 *	@param	rec	The record that was removed.
+	 */
+	void recDeleted( R rec );
+}
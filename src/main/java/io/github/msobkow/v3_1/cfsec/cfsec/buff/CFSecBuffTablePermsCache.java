@@ -0,0 +1,624 @@
+// Description: Java 25 memoising ICFSecTablePerms decorator for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffTablePermsCache decorates an ICFSecTablePerms and memoises its
+ *	allow/deny decisions.  A decision is keyed by the session, the cluster and
+ *	tenant of the authorization, the table class code and the action, so one
+ *	session evaluated under two cluster or tenant contexts keeps them apart.
+ *
+ *	A hit costs a session lookup, a comparison of the context ids and a probe of
+ *	a small open-addressed int table, and allocates nothing.  Decisions are
+ *	published copy-on-write, so readers never lock.
+ *
+ *	Invalidation follows the security tables of the schemas it is attached to:
+ *	-	SecGrpMemb and TSecGrpMemb changes drop the sessions of the affected user.
+ *	-	SecGrpInc and TSecGrpInc changes drop every session, since any user may
+ *		inherit through the changed inclusion.
+ *	-	A SecSession that gains a finish time, or is deleted, is dropped.
+ *	A schema that replaces one of those tables re-attaches the cache through
+ *	reattach(), which also drops every decision.
+ */
+public class CFSecBuffTablePermsCache
+	implements ICFSecTablePerms
+{
+	public static final int ACTION_CREATE = 0;
+	public static final int ACTION_READ = 1;
+	public static final int ACTION_UPDATE = 2;
+	public static final int ACTION_DELETE = 3;
+
+	protected static final byte ALLOW = 1;
+	protected static final byte DENY = 2;
+
+	/*
+	 *	An immutable open-addressed map from (class code, action) to a decision.
+	 */
+	protected static final class DecisionTable {
+		protected static final DecisionTable EMPTY = new DecisionTable( new int[ 8 ], new byte[ 8 ], 0 );
+
+		protected final int[] keys;
+		protected final byte[] values;
+		protected final int size;
+
+		protected DecisionTable( int[] keys, byte[] values, int size ) {
+			this.keys = keys;
+			this.values = values;
+			this.size = size;
+		}
+
+		protected static int slotOf( int key, int mask ) {
+			return( ( key * 0x9e3779b9 ) >>> 7 & mask );
+		}
+
+		protected byte get( int key ) {
+			int mask = keys.length - 1;
+			for( int slot = slotOf( key, mask ); ; slot = ( slot + 1 ) & mask ) {
+				byte value = values[ slot ];
+				if( value == 0 ) {
+					return( 0 );
+				}
+				if( keys[ slot ] == key ) {
+					return( value );
+				}
+			}
+		}
+
+		protected DecisionTable with( int key, byte value ) {
+			int capacity = keys.length;
+			if( ( size + 1 ) * 2 > capacity ) {
+				capacity *= 2;
+			}
+			int[] newKeys = new int[ capacity ];
+			byte[] newValues = new byte[ capacity ];
+			int mask = capacity - 1;
+			int newSize = 0;
+			for( int idx = 0; idx < keys.length; idx++ ) {
+				if( ( values[ idx ] != 0 ) && ( keys[ idx ] != key ) ) {
+					int slot = slotOf( keys[ idx ], mask );
+					while( newValues[ slot ] != 0 ) {
+						slot = ( slot + 1 ) & mask;
+					}
+					newKeys[ slot ] = keys[ idx ];
+					newValues[ slot ] = values[ idx ];
+					newSize++;
+				}
+			}
+			int slot = slotOf( key, mask );
+			while( newValues[ slot ] != 0 ) {
+				slot = ( slot + 1 ) & mask;
+			}
+			newKeys[ slot ] = key;
+			newValues[ slot ] = value;
+			return( new DecisionTable( newKeys, newValues, newSize + 1 ) );
+		}
+	}
+
+	/*
+	 *	The decisions of one session under one cluster and tenant.
+	 */
+	protected static final class ContextDecisions {
+		protected final CFLibDbKeyHash256 clusterId;
+		protected final CFLibDbKeyHash256 tenantId;
+		protected volatile DecisionTable table = DecisionTable.EMPTY;
+
+		protected ContextDecisions( CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 tenantId ) {
+			this.clusterId = clusterId;
+			this.tenantId = tenantId;
+		}
+
+		protected boolean matches( CFLibDbKeyHash256 argClusterId, CFLibDbKeyHash256 argTenantId ) {
+			return( Objects.equals( clusterId, argClusterId ) && Objects.equals( tenantId, argTenantId ) );
+		}
+
+		protected synchronized void put( int key, byte value ) {
+			table = table.with( key, value );
+		}
+	}
+
+	protected static final class SessionDecisions {
+		protected static final ContextDecisions[] NO_CONTEXTS = new ContextDecisions[0];
+
+		protected final CFLibDbKeyHash256 secUserId;
+		protected volatile ContextDecisions[] contexts = NO_CONTEXTS;
+
+		protected SessionDecisions( CFLibDbKeyHash256 secUserId ) {
+			this.secUserId = secUserId;
+		}
+
+		protected ContextDecisions find( CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 tenantId ) {
+			for( ContextDecisions cur : contexts ) {
+				if( cur.matches( clusterId, tenantId ) ) {
+					return( cur );
+				}
+			}
+			return( null );
+		}
+
+		protected synchronized ContextDecisions obtain( CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 tenantId ) {
+			ContextDecisions found = find( clusterId, tenantId );
+			if( found == null ) {
+				found = new ContextDecisions( clusterId, tenantId );
+				ContextDecisions[] grown = Arrays.copyOf( contexts, contexts.length + 1 );
+				grown[ contexts.length ] = found;
+				contexts = grown;
+			}
+			return( found );
+		}
+	}
+
+	protected final ICFSecTablePerms target;
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, SessionDecisions> sessions = new ConcurrentHashMap<>();
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, Set<CFLibDbKeyHash256>> sessionsByUser = new ConcurrentHashMap<>();
+	protected final AtomicLong epoch = new AtomicLong();
+	protected final LongAdder hitCount = new LongAdder();
+	protected final LongAdder missCount = new LongAdder();
+	protected final LongAdder invalidationCount = new LongAdder();
+	protected final IdentityHashMap<CFSecBuffSchema, ArrayList<Runnable>> detachActions = new IdentityHashMap<>();
+
+	/**
+	 *	Construct a cache decorating an ICFSecTablePerms.
+	 *
+	 *	@param	target	The permission implementation to memoise.
+	 */
+	public CFSecBuffTablePermsCache( ICFSecTablePerms target ) {
+		if( target == null ) {
+			throw new CFLibNullArgumentException( getClass(), "construct", 1, "target" );
+		}
+		this.target = target;
+	}
+
+	/**
+	 *	Get the memoising ICFSecTablePerms to install in place of the target.
+	 *
+	 *	@return	This cache.
+	 */
+	public ICFSecTablePerms getTablePerms() {
+		return( this );
+	}
+
+	/**
+	 *	Get the decorated permission implementation.
+	 *
+	 *	@return	The target.
+	 */
+	public ICFSecTablePerms getTarget() {
+		return( target );
+	}
+
+	/**
+	 *	Find the cache behind a decorating instance.
+	 *
+	 *	@param	tablePerms	A permission implementation.
+	 *
+	 *	@return	The cache, or null if tablePerms is not a decorating instance.
+	 */
+	public static CFSecBuffTablePermsCache cacheOf( ICFSecTablePerms tablePerms ) {
+		if( tablePerms instanceof CFSecBuffTablePermsCache ) {
+			return( (CFSecBuffTablePermsCache)tablePerms );
+		}
+		return( null );
+	}
+
+	@Override
+	public boolean allowCreate( ICFSecAuthorization Authorization, int tableClassCode ) {
+		byte cached = lookup( Authorization, tableClassCode, ACTION_CREATE );
+		if( cached != 0 ) {
+			return( cached == ALLOW );
+		}
+		long startEpoch = epoch.get();
+		boolean decision = target.allowCreate( Authorization, tableClassCode );
+		remember( Authorization, tableClassCode, ACTION_CREATE, decision, startEpoch );
+		return( decision );
+	}
+
+	@Override
+	public boolean allowRead( ICFSecAuthorization Authorization, int tableClassCode ) {
+		byte cached = lookup( Authorization, tableClassCode, ACTION_READ );
+		if( cached != 0 ) {
+			return( cached == ALLOW );
+		}
+		long startEpoch = epoch.get();
+		boolean decision = target.allowRead( Authorization, tableClassCode );
+		remember( Authorization, tableClassCode, ACTION_READ, decision, startEpoch );
+		return( decision );
+	}
+
+	@Override
+	public boolean allowUpdate( ICFSecAuthorization Authorization, int tableClassCode ) {
+		byte cached = lookup( Authorization, tableClassCode, ACTION_UPDATE );
+		if( cached != 0 ) {
+			return( cached == ALLOW );
+		}
+		long startEpoch = epoch.get();
+		boolean decision = target.allowUpdate( Authorization, tableClassCode );
+		remember( Authorization, tableClassCode, ACTION_UPDATE, decision, startEpoch );
+		return( decision );
+	}
+
+	@Override
+	public boolean allowDelete( ICFSecAuthorization Authorization, int tableClassCode ) {
+		byte cached = lookup( Authorization, tableClassCode, ACTION_DELETE );
+		if( cached != 0 ) {
+			return( cached == ALLOW );
+		}
+		long startEpoch = epoch.get();
+		boolean decision = target.allowDelete( Authorization, tableClassCode );
+		remember( Authorization, tableClassCode, ACTION_DELETE, decision, startEpoch );
+		return( decision );
+	}
+
+	/**
+	 *	Decide one action through the cache.
+	 *
+	 *	@param	Authorization	The authorization being checked.
+	 *	@param	tableClassCode	The class code of the table.
+	 *	@param	action	One of the ACTION_ constants.
+	 *
+	 *	@return	True to allow.
+	 */
+	public boolean allow( ICFSecAuthorization Authorization, int tableClassCode, int action ) {
+		switch( action ) {
+			case ACTION_CREATE:
+				return( allowCreate( Authorization, tableClassCode ) );
+			case ACTION_READ:
+				return( allowRead( Authorization, tableClassCode ) );
+			case ACTION_UPDATE:
+				return( allowUpdate( Authorization, tableClassCode ) );
+			case ACTION_DELETE:
+				return( allowDelete( Authorization, tableClassCode ) );
+			default:
+				throw new CFLibArgumentOverflowException( getClass(), "allow", 3, "action", action, ACTION_DELETE );
+		}
+	}
+
+	protected static int decisionKey( int tableClassCode, int action ) {
+		return( ( tableClassCode << 2 ) | action );
+	}
+
+	/**
+	 *	@return	ALLOW or DENY when the decision is memoised, otherwise 0.
+	 */
+	protected byte lookup( ICFSecAuthorization Authorization, int tableClassCode, int action ) {
+		CFLibDbKeyHash256 secSessionId = ( Authorization != null ) ? Authorization.getSecSessionId() : null;
+		if( secSessionId == null ) {
+			missCount.increment();
+			return( 0 );
+		}
+		SessionDecisions decisions = sessions.get( secSessionId );
+		if( decisions != null ) {
+			ContextDecisions context = decisions.find( Authorization.getSecClusterId(), Authorization.getSecTenantId() );
+			if( context != null ) {
+				byte cached = context.table.get( decisionKey( tableClassCode, action ) );
+				if( cached != 0 ) {
+					hitCount.increment();
+					return( cached );
+				}
+			}
+		}
+		missCount.increment();
+		return( 0 );
+	}
+
+	/**
+	 *	Memoise a decision unless an invalidation ran while it was being made.
+	 */
+	protected void remember( ICFSecAuthorization Authorization, int tableClassCode, int action, boolean decision, long startEpoch ) {
+		CFLibDbKeyHash256 secSessionId = ( Authorization != null ) ? Authorization.getSecSessionId() : null;
+		if( ( secSessionId == null ) || ( epoch.get() != startEpoch ) ) {
+			return;
+		}
+		SessionDecisions decisions = sessions.get( secSessionId );
+		if( decisions == null ) {
+			final CFLibDbKeyHash256 secUserId = Authorization.getSecUserId();
+			decisions = sessions.computeIfAbsent( secSessionId, k -> new SessionDecisions( secUserId ) );
+			if( decisions.secUserId != null ) {
+				sessionsByUser.computeIfAbsent( decisions.secUserId, k -> ConcurrentHashMap.newKeySet() ).add( secSessionId );
+			}
+		}
+		ContextDecisions context = decisions.obtain( Authorization.getSecClusterId(), Authorization.getSecTenantId() );
+		context.put( decisionKey( tableClassCode, action ), decision ? ALLOW : DENY );
+		if( epoch.get() != startEpoch ) {
+			// An invalidation raced the store; drop whatever it may have missed
+			invalidateSession( secSessionId );
+		}
+	}
+
+	/**
+	 *	Drop the decisions of one session.
+	 *
+	 *	@param	secSessionId	The session.
+	 */
+	public void invalidateSession( CFLibDbKeyHash256 secSessionId ) {
+		if( secSessionId == null ) {
+			return;
+		}
+		epoch.incrementAndGet();
+		SessionDecisions decisions = sessions.remove( secSessionId );
+		if( decisions != null ) {
+			invalidationCount.increment();
+			if( decisions.secUserId != null ) {
+				Set<CFLibDbKeyHash256> userSessions = sessionsByUser.get( decisions.secUserId );
+				if( userSessions != null ) {
+					userSessions.remove( secSessionId );
+					if( userSessions.isEmpty() ) {
+						sessionsByUser.remove( decisions.secUserId, userSessions );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 *	Drop the decisions of every session of one user.
+	 *
+	 *	@param	secUserId	The user.
+	 */
+	public void invalidateUser( CFLibDbKeyHash256 secUserId ) {
+		if( secUserId == null ) {
+			return;
+		}
+		epoch.incrementAndGet();
+		Set<CFLibDbKeyHash256> userSessions = sessionsByUser.remove( secUserId );
+		if( userSessions != null ) {
+			for( CFLibDbKeyHash256 secSessionId : userSessions ) {
+				if( sessions.remove( secSessionId ) != null ) {
+					invalidationCount.increment();
+				}
+			}
+		}
+	}
+
+	/**
+	 *	Drop every decision.
+	 */
+	public void clear() {
+		epoch.incrementAndGet();
+		for( CFLibDbKeyHash256 secSessionId : new ArrayList<>( sessions.keySet() ) ) {
+			if( sessions.remove( secSessionId ) != null ) {
+				invalidationCount.increment();
+			}
+		}
+		sessionsByUser.clear();
+	}
+
+	/**
+	 *	Invalidate from the security tables of a schema.  Tables that are not the
+	 *	buffer implementations are skipped.  Attaching a schema that is already
+	 *	attached first drops the listeners it registered before.
+	 *
+	 *	@param	schema	The schema whose tables are followed.
+	 */
+	public synchronized void attach( CFSecBuffSchema schema ) {
+		if( schema == null ) {
+			throw new CFLibNullArgumentException( getClass(), "attach", 1, "schema" );
+		}
+		removeListeners( schema );
+		final ArrayList<Runnable> actions = new ArrayList<>();
+		detachActions.put( schema, actions );
+		if( schema.getTableSecGrpMemb() instanceof CFSecBuffSecGrpMembTable ) {
+			final CFSecBuffSecGrpMembTable table = (CFSecBuffSecGrpMembTable)schema.getTableSecGrpMemb();
+			final CFSecBuffTableListener<ICFSecSecGrpMemb> listener = new CFSecBuffTableListener<ICFSecSecGrpMemb>() {
+				@Override
+				public void recCreated( ICFSecSecGrpMemb rec ) {
+					invalidateUser( rec.getRequiredSecUserId() );
+				}
+
+				@Override
+				public void recUpdated( ICFSecSecGrpMemb existing, ICFSecSecGrpMemb rec ) {
+					invalidateUser( existing.getRequiredSecUserId() );
+					invalidateUser( rec.getRequiredSecUserId() );
+				}
+
+				@Override
+				public void recDeleted( ICFSecSecGrpMemb rec ) {
+					invalidateUser( rec.getRequiredSecUserId() );
+				}
+			};
+			table.addListener( listener );
+			actions.add( () -> table.removeListener( listener ) );
+		}
+		if( schema.getTableTSecGrpMemb() instanceof CFSecBuffTSecGrpMembTable ) {
+			final CFSecBuffTSecGrpMembTable table = (CFSecBuffTSecGrpMembTable)schema.getTableTSecGrpMemb();
+			final CFSecBuffTableListener<ICFSecTSecGrpMemb> listener = new CFSecBuffTableListener<ICFSecTSecGrpMemb>() {
+				@Override
+				public void recCreated( ICFSecTSecGrpMemb rec ) {
+					invalidateUser( rec.getRequiredSecUserId() );
+				}
+
+				@Override
+				public void recUpdated( ICFSecTSecGrpMemb existing, ICFSecTSecGrpMemb rec ) {
+					invalidateUser( existing.getRequiredSecUserId() );
+					invalidateUser( rec.getRequiredSecUserId() );
+				}
+
+				@Override
+				public void recDeleted( ICFSecTSecGrpMemb rec ) {
+					invalidateUser( rec.getRequiredSecUserId() );
+				}
+			};
+			table.addListener( listener );
+			actions.add( () -> table.removeListener( listener ) );
+		}
+		if( schema.getTableSecGrpInc() instanceof CFSecBuffSecGrpIncTable ) {
+			final CFSecBuffSecGrpIncTable table = (CFSecBuffSecGrpIncTable)schema.getTableSecGrpInc();
+			final CFSecBuffTableListener<ICFSecSecGrpInc> listener = new CFSecBuffTableListener<ICFSecSecGrpInc>() {
+				@Override
+				public void recCreated( ICFSecSecGrpInc rec ) {
+					clear();
+				}
+
+				@Override
+				public void recUpdated( ICFSecSecGrpInc existing, ICFSecSecGrpInc rec ) {
+					clear();
+				}
+
+				@Override
+				public void recDeleted( ICFSecSecGrpInc rec ) {
+					clear();
+				}
+			};
+			table.addListener( listener );
+			actions.add( () -> table.removeListener( listener ) );
+		}
+		if( schema.getTableTSecGrpInc() instanceof CFSecBuffTSecGrpIncTable ) {
+			final CFSecBuffTSecGrpIncTable table = (CFSecBuffTSecGrpIncTable)schema.getTableTSecGrpInc();
+			final CFSecBuffTableListener<ICFSecTSecGrpInc> listener = new CFSecBuffTableListener<ICFSecTSecGrpInc>() {
+				@Override
+				public void recCreated( ICFSecTSecGrpInc rec ) {
+					clear();
+				}
+
+				@Override
+				public void recUpdated( ICFSecTSecGrpInc existing, ICFSecTSecGrpInc rec ) {
+					clear();
+				}
+
+				@Override
+				public void recDeleted( ICFSecTSecGrpInc rec ) {
+					clear();
+				}
+			};
+			table.addListener( listener );
+			actions.add( () -> table.removeListener( listener ) );
+		}
+		if( schema.getTableSecSession() instanceof CFSecBuffSecSessionTable ) {
+			final CFSecBuffSecSessionTable table = (CFSecBuffSecSessionTable)schema.getTableSecSession();
+			final CFSecBuffTableListener<ICFSecSecSession> listener = new CFSecBuffTableListener<ICFSecSecSession>() {
+				@Override
+				public void recCreated( ICFSecSecSession rec ) {
+				}
+
+				@Override
+				public void recUpdated( ICFSecSecSession existing, ICFSecSecSession rec ) {
+					if( rec.getOptionalFinish() != null ) {
+						invalidateSession( rec.getRequiredSecSessionId() );
+					}
+				}
+
+				@Override
+				public void recDeleted( ICFSecSecSession rec ) {
+					invalidateSession( rec.getRequiredSecSessionId() );
+				}
+			};
+			table.addListener( listener );
+			actions.add( () -> table.removeListener( listener ) );
+		}
+	}
+
+	/**
+	 *	Follow the current security tables of a schema after it replaced one of
+	 *	them, dropping every decision made against the old tables.  Does nothing
+	 *	if the schema is not attached.
+	 *
+	 *	@param	schema	The schema whose tables changed.
+	 */
+	public synchronized void reattach( CFSecBuffSchema schema ) {
+		if( ( schema == null ) || ! detachActions.containsKey( schema ) ) {
+			return;
+		}
+		attach( schema );
+		clear();
+	}
+
+	/**
+	 *	@return	True if the cache follows the tables of the schema.
+	 */
+	public synchronized boolean isAttached( CFSecBuffSchema schema ) {
+		return( detachActions.containsKey( schema ) );
+	}
+
+	/**
+	 *	Stop following the tables of every attached schema and drop every decision.
+	 */
+	public synchronized void detach() {
+		for( CFSecBuffSchema schema : new ArrayList<>( detachActions.keySet() ) ) {
+			removeListeners( schema );
+		}
+		clear();
+	}
+
+	protected void removeListeners( CFSecBuffSchema schema ) {
+		ArrayList<Runnable> actions = detachActions.remove( schema );
+		if( actions != null ) {
+			for( Runnable action : actions ) {
+				action.run();
+			}
+		}
+	}
+
+	public int getSessionCount() {
+		return( sessions.size() );
+	}
+
+	public long getHitCount() {
+		return( hitCount.sum() );
+	}
+
+	public long getMissCount() {
+		return( missCount.sum() );
+	}
+
+	public long getInvalidationCount() {
+		return( invalidationCount.sum() );
+	}
+
+	/**
+	 *	Get the fraction of memoisable decisions answered from the cache.
+	 *
+	 *	@return	The hit rate between 0.0 and 1.0, or 0.0 before any lookup.
+	 */
+	public double getHitRate() {
+		long hits = hitCount.sum();
+		long total = hits + missCount.sum();
+		return( ( total == 0L ) ? 0.0 : ( (double)hits ) / total );
+	}
+
+	/**
+	 *	Reset the hit, miss and invalidation counters to zero.
+	 */
+	public void resetCounters() {
+		hitCount.reset();
+		missCount.reset();
+		invalidationCount.reset();
+	}
+}
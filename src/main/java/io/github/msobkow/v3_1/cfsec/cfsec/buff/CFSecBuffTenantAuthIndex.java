@@ -0,0 +1,486 @@
+// Description: Java 25 tenant-partitioned authorization index for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffTenantAuthIndex answers tenant-level security questions from one
+ *	partition per tenant.  A partition holds the direct TSecGrpMemb groups of
+ *	each user of the tenant and memoises each user's effective groups, which add
+ *	every TSecGroup that transitively includes a direct group.  The inclusion
+ *	closure itself comes from the TSecGrpInc table.
+ *
+ *	Partitions are loaded on first use and can be evicted one at a time, either
+ *	explicitly or by the least-recently-used bound given at construction.  Each
+ *	partition has its own lock, so a busy tenant never blocks queries on another.
+ *	Loading scans the tenant's TSecGrpMemb bucket without the table lock, so it
+ *	never blocks writers; changes that arrive during the scan are queued on the
+ *	partition and replayed once the scan is applied.  Loaded partitions follow
+ *	TSecGrpMemb and TSecGrpInc changes to their tenant, and changes to tenants
+ *	that are not loaded are ignored.
+ *
+ *	Under a bound, a query only notes its partition as recently used the first
+ *	time it is used since the last load.  Loads move the noted partitions to the
+ *	recent end of an access-ordered map and evict from the other end.
+ */
+public class CFSecBuffTenantAuthIndex
+{
+	/*
+	 *	A membership change that arrived while its partition was loading.
+	 */
+	protected static final class PendingChange {
+		protected final CFLibDbKeyHash256 secUserId;
+		protected final CFLibDbKeyHash256 tsecGroupId;
+		protected final boolean add;
+
+		protected PendingChange( CFLibDbKeyHash256 secUserId, CFLibDbKeyHash256 tsecGroupId, boolean add ) {
+			this.secUserId = secUserId;
+			this.tsecGroupId = tsecGroupId;
+			this.add = add;
+		}
+	}
+
+	protected static final class TenantPartition {
+		protected final CFLibDbKeyHash256 tenantId;
+		protected final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+		protected final HashMap<CFLibDbKeyHash256, HashSet<CFLibDbKeyHash256>> directByUser = new HashMap<>();
+		protected final ConcurrentHashMap<CFLibDbKeyHash256, Set<CFLibDbKeyHash256>> effectiveByUser = new ConcurrentHashMap<>();
+		protected volatile boolean loaded = false;
+		protected volatile boolean recentlyUsed = false;
+
+		/**
+		 *	Changes queued while the partition loads, guarded by the write lock,
+		 *	and null once it has loaded.
+		 */
+		protected ArrayList<PendingChange> pending = new ArrayList<>();
+
+		protected TenantPartition( CFLibDbKeyHash256 tenantId ) {
+			this.tenantId = tenantId;
+		}
+
+		protected void addDirect( CFLibDbKeyHash256 secUserId, CFLibDbKeyHash256 tsecGroupId ) {
+			directByUser.computeIfAbsent( secUserId, k -> new HashSet<>() ).add( tsecGroupId );
+			effectiveByUser.remove( secUserId );
+		}
+
+		protected void removeDirect( CFLibDbKeyHash256 secUserId, CFLibDbKeyHash256 tsecGroupId ) {
+			HashSet<CFLibDbKeyHash256> direct = directByUser.get( secUserId );
+			if( direct != null ) {
+				direct.remove( tsecGroupId );
+				if( direct.isEmpty() ) {
+					directByUser.remove( secUserId );
+				}
+			}
+			effectiveByUser.remove( secUserId );
+		}
+	}
+
+	protected final CFSecBuffTSecGrpMembTable membTable;
+	protected final CFSecBuffTSecGrpIncTable incTable;
+	protected final int maxLoadedTenants;
+	protected final ConcurrentHashMap<CFLibDbKeyHash256, TenantPartition> partitions = new ConcurrentHashMap<>();
+
+	/**
+	 *	The loaded partitions of a bounded index from least to most recently used,
+	 *	guarded by its own monitor.
+	 */
+	protected final LinkedHashMap<CFLibDbKeyHash256, TenantPartition> lruOrder = new LinkedHashMap<>( 16, 0.75f, true );
+
+	/**
+	 *	Partitions used since the last load, each queued at most once.
+	 */
+	protected final ConcurrentLinkedQueue<TenantPartition> recentlyUsed = new ConcurrentLinkedQueue<>();
+	protected final LongAdder loadCount = new LongAdder();
+	protected final LongAdder evictionCount = new LongAdder();
+
+	protected final CFSecBuffTableListener<ICFSecTSecGrpMemb> membListener = new CFSecBuffTableListener<ICFSecTSecGrpMemb>() {
+		@Override
+		public void recCreated( ICFSecTSecGrpMemb rec ) {
+			applyMembership( rec, true );
+		}
+
+		@Override
+		public void recUpdated( ICFSecTSecGrpMemb existing, ICFSecTSecGrpMemb rec ) {
+			applyMembership( existing, false );
+			applyMembership( rec, true );
+		}
+
+		@Override
+		public void recDeleted( ICFSecTSecGrpMemb rec ) {
+			applyMembership( rec, false );
+		}
+	};
+
+	protected final CFSecBuffTableListener<ICFSecTSecGrpInc> incListener = new CFSecBuffTableListener<ICFSecTSecGrpInc>() {
+		@Override
+		public void recCreated( ICFSecTSecGrpInc rec ) {
+			applyInclusion( rec );
+		}
+
+		@Override
+		public void recUpdated( ICFSecTSecGrpInc existing, ICFSecTSecGrpInc rec ) {
+			applyInclusion( existing );
+			applyInclusion( rec );
+		}
+
+		@Override
+		public void recDeleted( ICFSecTSecGrpInc rec ) {
+			applyInclusion( rec );
+		}
+	};
+
+	/**
+	 *	Construct an index with no bound on the number of loaded tenants.
+	 *
+	 *	@param	membTable	The TSecGrpMemb table supplying direct memberships.
+	 *	@param	incTable	The TSecGrpInc table supplying the inclusion closure.
+	 */
+	public CFSecBuffTenantAuthIndex( CFSecBuffTSecGrpMembTable membTable, CFSecBuffTSecGrpIncTable incTable ) {
+		this( membTable, incTable, 0 );
+	}
+
+	/**
+	 *	Construct an index that keeps at most maxLoadedTenants partitions loaded.
+	 *
+	 *	@param	membTable	The TSecGrpMemb table supplying direct memberships.
+	 *	@param	incTable	The TSecGrpInc table supplying the inclusion closure.
+	 *	@param	maxLoadedTenants	The partition bound, or 0 for no bound.
+	 */
+	public CFSecBuffTenantAuthIndex( CFSecBuffTSecGrpMembTable membTable, CFSecBuffTSecGrpIncTable incTable, int maxLoadedTenants ) {
+		final String S_ProcName = "construct";
+		if( membTable == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "membTable" );
+		}
+		if( incTable == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "incTable" );
+		}
+		if( maxLoadedTenants < 0 ) {
+			throw new CFLibArgumentUnderflowException( getClass(),
+				S_ProcName,
+				3,
+				"maxLoadedTenants",
+				maxLoadedTenants,
+				0 );
+		}
+		this.membTable = membTable;
+		this.incTable = incTable;
+		this.maxLoadedTenants = maxLoadedTenants;
+		membTable.addListener( membListener );
+		incTable.addListener( incListener );
+	}
+
+	/**
+	 *	Stop following the tables and evict every partition.
+	 */
+	public void close() {
+		membTable.removeListener( membListener );
+		incTable.removeListener( incListener );
+		evictAll();
+	}
+
+	protected void applyMembership( ICFSecTSecGrpMemb rec, boolean add ) {
+		TenantPartition partition = partitions.get( rec.getRequiredTenantId() );
+		if( partition == null ) {
+			return;
+		}
+		partition.lock.writeLock().lock();
+		try {
+			if( partition.pending != null ) {
+				partition.pending.add( new PendingChange( rec.getRequiredSecUserId(), rec.getRequiredTSecGroupId(), add ) );
+			}
+			else if( add ) {
+				partition.addDirect( rec.getRequiredSecUserId(), rec.getRequiredTSecGroupId() );
+			}
+			else {
+				partition.removeDirect( rec.getRequiredSecUserId(), rec.getRequiredTSecGroupId() );
+			}
+		}
+		finally {
+			partition.lock.writeLock().unlock();
+		}
+	}
+
+	protected void applyInclusion( ICFSecTSecGrpInc rec ) {
+		TenantPartition partition = partitions.get( rec.getRequiredTenantId() );
+		if( partition == null ) {
+			return;
+		}
+		// Only effective members of the included group gain or lose groups
+		CFLibDbKeyHash256 includeGroupId = rec.getRequiredIncludeGroupId();
+		partition.lock.writeLock().lock();
+		try {
+			partition.effectiveByUser.values().removeIf( effective -> effective.contains( includeGroupId ) );
+		}
+		finally {
+			partition.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 *	Get the partition of a tenant, loading it if necessary.
+	 *
+	 *	@param	tenantId	The tenant.
+	 *
+	 *	@return	The loaded partition.
+	 */
+	protected TenantPartition acquirePartition( CFLibDbKeyHash256 tenantId ) {
+		TenantPartition partition = partitions.get( tenantId );
+		if( partition == null ) {
+			partition = partitions.computeIfAbsent( tenantId, k -> new TenantPartition( k ) );
+		}
+		if( ! partition.loaded ) {
+			synchronized( partition ) {
+				if( ! partition.loaded ) {
+					loadPartition( partition );
+				}
+			}
+		}
+		else if( ( maxLoadedTenants > 0 ) && ! partition.recentlyUsed ) {
+			partition.recentlyUsed = true;
+			recentlyUsed.add( partition );
+		}
+		return( partition );
+	}
+
+	/**
+	 *	Fill a partition that is already installed, so that every change to its
+	 *	tenant from here on is queued on it.  The scan does not hold the table lock
+	 *	and may miss or repeat a change made while it runs, but any such change is
+	 *	also queued, and replaying the queue in order after the scan restores the
+	 *	current memberships.
+	 */
+	protected void loadPartition( TenantPartition partition ) {
+		final ArrayList<CFLibDbKeyHash256> scanned = new ArrayList<>();
+		membTable.forEachByTenantIdx( partition.tenantId, rec -> {
+			scanned.add( rec.getRequiredSecUserId() );
+			scanned.add( rec.getRequiredTSecGroupId() );
+		} );
+		partition.lock.writeLock().lock();
+		try {
+			for( int idx = 0; idx < scanned.size(); idx += 2 ) {
+				partition.addDirect( scanned.get( idx ), scanned.get( idx + 1 ) );
+			}
+			for( PendingChange change : partition.pending ) {
+				if( change.add ) {
+					partition.addDirect( change.secUserId, change.tsecGroupId );
+				}
+				else {
+					partition.removeDirect( change.secUserId, change.tsecGroupId );
+				}
+			}
+			partition.pending = null;
+		}
+		finally {
+			partition.lock.writeLock().unlock();
+		}
+		partition.loaded = true;
+		loadCount.increment();
+		if( maxLoadedTenants > 0 ) {
+			enforceBound( partition );
+		}
+	}
+
+	/**
+	 *	Record a newly loaded partition as the most recently used, and evict the
+	 *	least recently used partitions beyond the bound.
+	 */
+	protected void enforceBound( TenantPartition loaded ) {
+		ArrayList<TenantPartition> evicted = new ArrayList<>();
+		synchronized( lruOrder ) {
+			TenantPartition used;
+			while( ( used = recentlyUsed.poll() ) != null ) {
+				used.recentlyUsed = false;
+				// An access-ordered get moves the partition to the recent end
+				lruOrder.get( used.tenantId );
+			}
+			if( partitions.get( loaded.tenantId ) == loaded ) {
+				lruOrder.put( loaded.tenantId, loaded );
+			}
+			Iterator<Map.Entry<CFLibDbKeyHash256, TenantPartition>> iter = lruOrder.entrySet().iterator();
+			while( ( lruOrder.size() > maxLoadedTenants ) && iter.hasNext() ) {
+				Map.Entry<CFLibDbKeyHash256, TenantPartition> eldest = iter.next();
+				if( eldest.getValue() == loaded ) {
+					break;
+				}
+				iter.remove();
+				evicted.add( eldest.getValue() );
+			}
+		}
+		for( TenantPartition partition : evicted ) {
+			if( partitions.remove( partition.tenantId, partition ) ) {
+				evictionCount.increment();
+			}
+		}
+	}
+
+	/**
+	 *	Load the partition of a tenant if it is not already loaded.
+	 *
+	 *	@param	tenantId	The tenant.
+	 */
+	public void load( CFLibDbKeyHash256 tenantId ) {
+		if( tenantId == null ) {
+			throw new CFLibNullArgumentException( getClass(), "load", 1, "tenantId" );
+		}
+		acquirePartition( tenantId );
+	}
+
+	/**
+	 *	Evict the partition of a tenant.  It is reloaded on its next use.
+	 *
+	 *	@param	tenantId	The tenant.
+	 */
+	public void evict( CFLibDbKeyHash256 tenantId ) {
+		if( tenantId == null ) {
+			return;
+		}
+		TenantPartition partition = partitions.remove( tenantId );
+		if( partition != null ) {
+			evictionCount.increment();
+			if( maxLoadedTenants > 0 ) {
+				synchronized( lruOrder ) {
+					lruOrder.remove( tenantId, partition );
+				}
+			}
+		}
+	}
+
+	/**
+	 *	Evict every partition.
+	 */
+	public void evictAll() {
+		for( CFLibDbKeyHash256 tenantId : new ArrayList<>( partitions.keySet() ) ) {
+			evict( tenantId );
+		}
+	}
+
+	public boolean isLoaded( CFLibDbKeyHash256 tenantId ) {
+		TenantPartition partition = ( tenantId != null ) ? partitions.get( tenantId ) : null;
+		return( ( partition != null ) && partition.loaded );
+	}
+
+	public int getLoadedTenantCount() {
+		return( partitions.size() );
+	}
+
+	public long getLoadCount() {
+		return( loadCount.sum() );
+	}
+
+	public long getEvictionCount() {
+		return( evictionCount.sum() );
+	}
+
+	/**
+	 *	Get the TSecGroups of a tenant that a user effectively belongs to.
+	 *
+	 *	@param	tenantId	The tenant.
+	 *	@param	secUserId	The user.
+	 *
+	 *	@return	An unmodifiable set of TSecGroup ids, never null.
+	 */
+	public Set<CFLibDbKeyHash256> getEffectiveTSecGroups( CFLibDbKeyHash256 tenantId, CFLibDbKeyHash256 secUserId ) {
+		final String S_ProcName = "getEffectiveTSecGroups";
+		if( tenantId == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 1, "tenantId" );
+		}
+		if( secUserId == null ) {
+			throw new CFLibNullArgumentException( getClass(), S_ProcName, 2, "secUserId" );
+		}
+		TenantPartition partition = acquirePartition( tenantId );
+		Set<CFLibDbKeyHash256> effective = partition.effectiveByUser.get( secUserId );
+		if( effective != null ) {
+			return( effective );
+		}
+		partition.lock.readLock().lock();
+		try {
+			// Stored under the read lock, so an invalidation cannot slip in between
+			// computing the set and publishing it.
+			HashSet<CFLibDbKeyHash256> direct = partition.directByUser.get( secUserId );
+			if( ( direct == null ) || direct.isEmpty() ) {
+				effective = Collections.emptySet();
+			}
+			else {
+				CFSecBuffGrpIncClosure closure = incTable.getInclusionClosure();
+				HashSet<CFLibDbKeyHash256> collected = new HashSet<>( direct );
+				for( CFLibDbKeyHash256 tsecGroupId : direct ) {
+					collected.addAll( closure.getIncludingGroups( tenantId, tsecGroupId ) );
+				}
+				effective = Set.copyOf( collected );
+			}
+			partition.effectiveByUser.put( secUserId, effective );
+			return( effective );
+		}
+		finally {
+			partition.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 *	Determine whether a user effectively belongs to a TSecGroup of a tenant.
+	 *
+	 *	@param	tenantId	The tenant.
+	 *	@param	secUserId	The user.
+	 *	@param	tsecGroupId	The group.
+	 *
+	 *	@return	True if the user is a direct or inherited member of the group.
+	 */
+	public boolean isTSecGroupMember( CFLibDbKeyHash256 tenantId, CFLibDbKeyHash256 secUserId, CFLibDbKeyHash256 tsecGroupId ) {
+		if( tsecGroupId == null ) {
+			return( false );
+		}
+		return( getEffectiveTSecGroups( tenantId, secUserId ).contains( tsecGroupId ) );
+	}
+
+	/**
+	 *	Determine whether a TSecGroup of a tenant transitively includes another.
+	 *
+	 *	@param	tenantId	The tenant.
+	 *	@param	tsecGroupId	The including group.
+	 *	@param	includeGroupId	The group being tested for.
+	 *
+	 *	@return	True if includeGroupId is reachable from tsecGroupId.
+	 */
+	public boolean isTSecGroupIncluded( CFLibDbKeyHash256 tenantId, CFLibDbKeyHash256 tsecGroupId, CFLibDbKeyHash256 includeGroupId ) {
+		return( incTable.isGroupIncluded( tenantId, tsecGroupId, includeGroupId ) );
+	}
+}
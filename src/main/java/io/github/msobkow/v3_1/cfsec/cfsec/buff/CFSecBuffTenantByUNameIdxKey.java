@@ -55,8 +55,10 @@ public class CFSecBuffTenantByUNameIdxKey
 {
 	protected CFLibDbKeyHash256 requiredClusterId;
 	protected String requiredTenantName;
+	protected transient int cachedHashCode = 0;
+
 	public CFSecBuffTenantByUNameIdxKey() {
-		requiredClusterId = CFLibDbKeyHash256.fromHex( ICFSecTenant.CLUSTERID_INIT_VALUE.toString() );
+		requiredClusterId = ICFSecTenant.CLUSTERID_INIT_VALUE;
 		requiredTenantName = ICFSecTenant.TENANTNAME_INIT_VALUE;
 	}
 
@@ -74,6 +76,7 @@ public class CFSecBuffTenantByUNameIdxKey
 				"value" );
 		}
 		requiredClusterId = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -98,6 +101,7 @@ public class CFSecBuffTenantByUNameIdxKey
 				192 );
 		}
 		requiredTenantName = value;
+		cachedHashCode = 0;
 	}
 
 	@Override
@@ -180,12 +184,15 @@ public class CFSecBuffTenantByUNameIdxKey
 
 	@Override
 	public int hashCode() {
-		int hashCode = 0;
-		hashCode = hashCode + getRequiredClusterId().hashCode();
-		if( getRequiredTenantName() != null ) {
-			hashCode = hashCode + getRequiredTenantName().hashCode();
+		int hashCode = cachedHashCode;
+		if( hashCode == 0 ) {
+			hashCode = CFSecBuffHash.SEED;
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredClusterId() );
+			hashCode = CFSecBuffHash.mix( hashCode, getRequiredTenantName() );
+			hashCode = CFSecBuffHash.finish( hashCode, 2 );
+			cachedHashCode = hashCode;
 		}
-		return( hashCode & 0x7fffffff );
+		return( hashCode );
 	}
 
 	@Override
@@ -54,13 +54,100 @@ import io.github.msobkow.v3_1.cfsec.cfsec.*;
 public class CFSecBuffTenantDefaultFactory
 	implements ICFSecTenantFactory
 {
+	//	Thread-confined probe keys for point lookups; set every attribute
+	//	before use and never retain or publish the instance.
+	protected static final ThreadLocal<CFSecBuffTenantByClusterIdxKey> probeByClusterIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffTenantByClusterIdxKey() );
+	protected static final ThreadLocal<CFSecBuffTenantByUNameIdxKey> probeByUNameIdxKey
+		= ThreadLocal.withInitial( () -> new CFSecBuffTenantByUNameIdxKey() );
+
+	protected volatile CFSecBuffRecStamp recStamp = CFSecBuffRecStamp.EAGER;
+
+	/**
+	 *	Orders Tenant instances by primary key.
+	 */
+	public static final Comparator<ICFSecTenant> COMPARE_BY_PKEY = ( lhs, rhs ) -> {
+		return( lhs.getRequiredId().compareTo( rhs.getRequiredId() ) );
+	};
+
+	/**
+	 *	Orders Tenant history keys by primary key, then by ascending revision.
+	 */
+	public static final Comparator<ICFSecTenantHPKey> COMPARE_HPKEYS_BY_REVISION = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredId().compareTo( rhs.getRequiredId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( Integer.compare( lhs.getRequiredRevision(), rhs.getRequiredRevision() ) );
+	};
+
+	/**
+	 *	Orders Tenant instances by the ClusterIdx columns only; ties are left to the caller.
+	 */
+	public static final Comparator<ICFSecTenant> COMPARE_BY_CLUSTERIDX = ( lhs, rhs ) -> {
+		return( lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() ) );
+	};
+
+	/**
+	 *	Orders ClusterIdx keys.
+	 */
+	public static final Comparator<ICFSecTenantByClusterIdxKey> COMPARE_CLUSTERIDX_KEYS = ( lhs, rhs ) -> {
+		return( lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() ) );
+	};
+
+	/**
+	 *	Orders Tenant instances by the UNameIdx columns.
+	 */
+	public static final Comparator<ICFSecTenant> COMPARE_BY_UNAMEIDX = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredTenantName().compareTo( rhs.getRequiredTenantName() ) );
+	};
+
+	/**
+	 *	Orders UNameIdx keys.
+	 */
+	public static final Comparator<ICFSecTenantByUNameIdxKey> COMPARE_UNAMEIDX_KEYS = ( lhs, rhs ) -> {
+		int cmp;
+		cmp = lhs.getRequiredClusterId().compareTo( rhs.getRequiredClusterId() );
+		if( cmp != 0 ) {
+			return( cmp );
+		}
+		return( lhs.getRequiredTenantName().compareTo( rhs.getRequiredTenantName() ) );
+	};
+
 	public CFSecBuffTenantDefaultFactory() {
 	}
 
+	/**
+	 *	Get the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 */
+	public CFSecBuffRecStamp getRecStamp() {
+		return( recStamp );
+	}
+
+	/**
+	 *	Set the timestamp policy applied to the instances created by newRec(), newHRec() and newHPKey().
+	 *	CFSecBuffRecStamp.LAZY avoids the clock read for instances whose
+	 *	timestamps are assigned right after construction.
+	 *
+	 *	@param	value	The timestamp policy to apply.
+	 */
+	public void setRecStamp( CFSecBuffRecStamp value ) {
+		if( value == null ) {
+			throw new CFLibNullArgumentException( getClass(), "setRecStamp", 1, "value" );
+		}
+		recStamp = value;
+	}
+
 	@Override
 	public ICFSecTenantHPKey newHPKey() {
 		ICFSecTenantHPKey hpkey =
-			new CFSecBuffTenantHPKey();
+			new CFSecBuffTenantHPKey( recStamp );
 		return( hpkey );
 	}
 
@@ -72,7 +159,7 @@ public class CFSecBuffTenantDefaultFactory
 			return( (CFSecBuffTenantHPKey)key );
 		}
 		else {
-			CFSecBuffTenantHPKey mapped = new CFSecBuffTenantHPKey();
+			CFSecBuffTenantHPKey mapped = new CFSecBuffTenantHPKey( CFSecBuffRecStamp.LAZY );
 			mapped.setAuditClusterId(key.getAuditClusterId());
 			mapped.setAuditActionId(key.getAuditActionId());
 			mapped.setAuditSessionId(key.getAuditSessionId());
@@ -103,6 +190,10 @@ public class CFSecBuffTenantDefaultFactory
 		}
 	}
 
+	public static CFSecBuffTenantByClusterIdxKey getProbeByClusterIdxKey() {
+		return( probeByClusterIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecTenantByUNameIdxKey newByUNameIdxKey() {
 		ICFSecTenantByUNameIdxKey key =
@@ -125,10 +216,14 @@ public class CFSecBuffTenantDefaultFactory
 		}
 	}
 
+	public static CFSecBuffTenantByUNameIdxKey getProbeByUNameIdxKey() {
+		return( probeByUNameIdxKey.get() );
+	}
+
 	@Override
 	public ICFSecTenant newRec() {
 		ICFSecTenant rec =
-			new CFSecBuffTenant();
+			new CFSecBuffTenant( recStamp );
 		return( rec );
 	}
 
@@ -140,16 +235,56 @@ public class CFSecBuffTenantDefaultFactory
 			return( (CFSecBuffTenant)rec );
 		}
 		else {
-			CFSecBuffTenant mapped = new CFSecBuffTenant();
+			CFSecBuffTenant mapped = new CFSecBuffTenant( CFSecBuffRecStamp.LAZY );
 			mapped.set(rec);
 			return( mapped );
 		}
 	}
 
+	/**
+	 *	Copy a single instance without consulting the backing schema.
+	 *
+	 *	@param	rec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffTenant cloneRec( ICFSecTenant rec ) {
+		if( rec == null ) {
+			return( null );
+		}
+		else if( rec instanceof CFSecBuffTenant ) {
+			return( ( (CFSecBuffTenant)rec ).clone() );
+		}
+		else {
+			CFSecBuffTenant mapped = new CFSecBuffTenant( CFSecBuffRecStamp.LAZY );
+			mapped.set( rec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	recs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffTenant[] cloneRecs( ICFSecTenant[] recs ) {
+		if( recs == null ) {
+			return( null );
+		}
+		CFSecBuffTenant[] retList = new CFSecBuffTenant[ recs.length ];
+		for( int idx = 0; idx < recs.length; idx++ ) {
+			retList[ idx ] = cloneRec( recs[ idx ] );
+		}
+		return( retList );
+	}
+
 	@Override
 	public ICFSecTenantH newHRec() {
 		ICFSecTenantH hrec =
-			new CFSecBuffTenantH();
+			new CFSecBuffTenantH( recStamp );
 		return( hrec );
 	}
 
@@ -161,9 +296,49 @@ public class CFSecBuffTenantDefaultFactory
 			return( (CFSecBuffTenantH)hrec );
 		}
 		else {
-			CFSecBuffTenantH mapped = new CFSecBuffTenantH();
+			CFSecBuffTenantH mapped = new CFSecBuffTenantH( CFSecBuffRecStamp.LAZY );
 			mapped.set(hrec);
 			return( mapped );
 		}
 	}
+
+	/**
+	 *	Copy a single history instance without consulting the backing schema.
+	 *
+	 *	@param	hrec	The instance to copy, which may be null.
+	 *
+	 *	@return	The copy, or null if the argument was null.
+	 */
+	public static CFSecBuffTenantH cloneHRec( ICFSecTenantH hrec ) {
+		if( hrec == null ) {
+			return( null );
+		}
+		else if( hrec instanceof CFSecBuffTenantH ) {
+			return( ( (CFSecBuffTenantH)hrec ).clone() );
+		}
+		else {
+			CFSecBuffTenantH mapped = new CFSecBuffTenantH( CFSecBuffRecStamp.LAZY );
+			mapped.set( hrec );
+			return( mapped );
+		}
+	}
+
+	/**
+	 *	Copy an array of history instances without consulting the backing schema.
+	 *	Null elements are preserved as null.
+	 *
+	 *	@param	hrecs	The instances to copy, which may be null.
+	 *
+	 *	@return	The copies, in the same order, or null if the argument was null.
+	 */
+	public static CFSecBuffTenantH[] cloneHRecs( ICFSecTenantH[] hrecs ) {
+		if( hrecs == null ) {
+			return( null );
+		}
+		CFSecBuffTenantH[] retList = new CFSecBuffTenantH[ hrecs.length ];
+		for( int idx = 0; idx < hrecs.length; idx++ ) {
+			retList[ idx ] = cloneHRec( hrecs[ idx ] );
+		}
+		return( retList );
+	}
 }
@@ -0,0 +1,60 @@
+// Description: Java 25 interface for CFSec buffer tables that publish a modification count
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+/*
+ *	CFSecBuffVersionedTable is implemented by the in-memory tables so that cached
+ *	navigation results can be validated without re-reading the table.
+ */
+public interface CFSecBuffVersionedTable
+{
+	/**
+	 *	Get the number of committed creates, updates and deletes applied to the table.
+	 *	The count only ever increases, and it is advanced after the dictionaries have
+	 *	been changed.
+	 *
+	 *	@return	The current modification count.
+	 */
+	long getModificationCount();
+
+	/**
+	 *	Get a number that identifies this table instance among every table of the
+	 *	process, so that navigation stamps taken from a table that has since been
+	 *	replaced never match those of its replacement.
+	 *
+	 *	@return	The serial assigned when the table was constructed.
+	 */
+	long getTableSerial();
+}
@@ -0,0 +1,184 @@
+// Description: Java 25 active session index tests for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.*;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffActiveSessionIndexTest edits SecSessions through the buffer table
+ *	and checks the live sets and counts by user, proxy, device and cluster after
+ *	a finish time is set and cleared, after the keys of a live session change,
+ *	and after a delete.
+ */
+public class CFSecBuffActiveSessionIndexTest
+{
+	protected static final CFLibDbKeyHash256 USER = id( 100 );
+	protected static final CFLibDbKeyHash256 OTHER_USER = id( 101 );
+	protected static final CFLibDbKeyHash256 PROXY = id( 102 );
+	protected static final CFLibDbKeyHash256 CLUSTER = id( 200 );
+	protected static final LocalDateTime START = LocalDateTime.of( 2026, 1, 1, 9, 0 );
+
+	protected final CFSecBuffSecSessionTable sessionTable = new CFSecBuffSecSessionTable();
+
+	protected static CFLibDbKeyHash256 id( int value ) {
+		return( CFLibDbKeyHash256.fromHex( String.format( "%064x", value ) ) );
+	}
+
+	protected static CFSecBuffSecSession sessionRec( int sessionId, CFLibDbKeyHash256 secUserId, CFLibDbKeyHash256 secProxyId, String secDevName, LocalDateTime finish ) {
+		CFSecBuffSecSession rec = new CFSecBuffSecSession();
+		rec.setRequiredSecSessionId( id( sessionId ) );
+		rec.setRequiredContainerSecUser( secUserId );
+		rec.setRequiredParentSecProxy( secProxyId );
+		rec.setOptionalSecDevName( secDevName );
+		rec.setRequiredStart( START.plusMinutes( sessionId ) );
+		rec.setOptionalFinish( finish );
+		return( rec );
+	}
+
+	protected ICFSecSecSession edit( ICFSecSecSession cur, CFLibDbKeyHash256 secUserId, CFLibDbKeyHash256 secProxyId, String secDevName, LocalDateTime finish ) {
+		CFSecBuffSecSession rec = sessionRec( 0, secUserId, secProxyId, secDevName, finish );
+		rec.setRequiredSecSessionId( cur.getRequiredSecSessionId() );
+		rec.setRequiredStart( cur.getRequiredStart() );
+		rec.setRequiredRevision( cur.getRequiredRevision() );
+		return( sessionTable.updateSecSession( null, rec ) );
+	}
+
+	@Test
+	public void testLoadsOnlyLiveSessions() {
+		sessionTable.createSecSession( null, sessionRec( 1, USER, USER, "laptop", null ) );
+		sessionTable.createSecSession( null, sessionRec( 2, USER, USER, "laptop", START ) );
+		CFSecBuffActiveSessionIndex index = new CFSecBuffActiveSessionIndex( sessionTable );
+		assertEquals( 1, index.getLiveCount() );
+		assertTrue( index.isLive( id( 1 ) ) );
+		assertFalse( index.isLive( id( 2 ) ) );
+		assertEquals( Set.of( id( 1 ) ), index.getLiveSessionIdsByDevice( USER, "laptop" ) );
+		index.close();
+		assertEquals( 0, index.getLiveCount() );
+	}
+
+	@Test
+	public void testFinishSetAndCleared() {
+		CFSecBuffActiveSessionIndex index = new CFSecBuffActiveSessionIndex( sessionTable );
+		ICFSecSecSession session = sessionTable.createSecSession( null, sessionRec( 1, USER, PROXY, "laptop", null ) );
+		assertTrue( index.bindCluster( id( 1 ), CLUSTER ) );
+		assertEquals( 1, index.getLiveCountByUser( USER ) );
+		assertEquals( 1, index.getLiveCountByProxy( PROXY ) );
+		assertEquals( 1, index.getLiveCountByDevice( USER, "laptop" ) );
+		assertEquals( 1, index.getLiveCountByCluster( CLUSTER ) );
+
+		// Finishing drops the session from every view, including its cluster
+		session = edit( session, USER, PROXY, "laptop", START.plusHours( 1 ) );
+		assertFalse( index.isLive( id( 1 ) ) );
+		assertEquals( 0, index.getLiveCount() );
+		assertEquals( 0, index.getLiveCountByUser( USER ) );
+		assertEquals( 0, index.getLiveCountByProxy( PROXY ) );
+		assertEquals( 0, index.getLiveCountByDevice( USER, "laptop" ) );
+		assertEquals( 0, index.getLiveCountByCluster( CLUSTER ) );
+		assertFalse( index.bindCluster( id( 1 ), CLUSTER ) );
+
+		// Clearing the finish makes it live again, with no cluster until rebound
+		session = edit( session, USER, PROXY, "laptop", null );
+		assertTrue( index.isLive( id( 1 ) ) );
+		assertEquals( 1, index.getLiveCountByUser( USER ) );
+		assertEquals( 0, index.getLiveCountByCluster( CLUSTER ) );
+		assertTrue( index.bindCluster( id( 1 ), CLUSTER ) );
+		assertEquals( Set.of( id( 1 ) ), index.getLiveSessionIdsByCluster( CLUSTER ) );
+		index.close();
+	}
+
+	@Test
+	public void testKeyChangeMovesLiveSession() {
+		CFSecBuffActiveSessionIndex index = new CFSecBuffActiveSessionIndex( sessionTable );
+		ICFSecSecSession session = sessionTable.createSecSession( null, sessionRec( 1, USER, USER, "laptop", null ) );
+		sessionTable.createSecSession( null, sessionRec( 2, USER, USER, "phone", null ) );
+		index.bindCluster( id( 1 ), CLUSTER );
+
+		session = edit( session, OTHER_USER, PROXY, "tablet", null );
+		assertEquals( 2, index.getLiveCount() );
+		assertEquals( Set.of( id( 2 ) ), index.getLiveSessionIdsByUser( USER ) );
+		assertEquals( Set.of( id( 1 ) ), index.getLiveSessionIdsByUser( OTHER_USER ) );
+		assertEquals( 1, index.getLiveCountByProxy( USER ) );
+		assertEquals( Set.of( id( 1 ) ), index.getLiveSessionIdsByProxy( PROXY ) );
+		assertEquals( 0, index.getLiveCountByDevice( USER, "laptop" ) );
+		assertEquals( 1, index.getLiveCountByDevice( OTHER_USER, "tablet" ) );
+
+		// The cluster binding follows the session across the key change
+		assertEquals( Set.of( id( 1 ) ), index.getLiveSessionIdsByCluster( CLUSTER ) );
+
+		// Dropping the device leaves no device entry behind
+		session = edit( session, OTHER_USER, PROXY, null, null );
+		assertEquals( 0, index.getLiveCountByDevice( OTHER_USER, "tablet" ) );
+		assertEquals( 1, index.getLiveCountByUser( OTHER_USER ) );
+		assertEquals( 1, index.getLiveCountByCluster( CLUSTER ) );
+		index.close();
+	}
+
+	@Test
+	public void testDeleteRemovesLiveSession() {
+		CFSecBuffActiveSessionIndex index = new CFSecBuffActiveSessionIndex( sessionTable );
+		ICFSecSecSession live = sessionTable.createSecSession( null, sessionRec( 1, USER, PROXY, "laptop", null ) );
+		ICFSecSecSession finished = sessionTable.createSecSession( null, sessionRec( 2, USER, PROXY, "laptop", START ) );
+		index.bindCluster( id( 1 ), CLUSTER );
+
+		sessionTable.deleteSecSession( null, finished );
+		assertEquals( 1, index.getLiveCount() );
+
+		sessionTable.deleteSecSession( null, live );
+		assertEquals( 0, index.getLiveCount() );
+		assertEquals( 0, index.getLiveCountByUser( USER ) );
+		assertEquals( 0, index.getLiveCountByProxy( PROXY ) );
+		assertEquals( 0, index.getLiveCountByDevice( USER, "laptop" ) );
+		assertEquals( 0, index.getLiveCountByCluster( CLUSTER ) );
+		assertTrue( index.liveByUser.isEmpty() );
+		assertTrue( index.liveByCluster.isEmpty() );
+		index.close();
+	}
+
+	@Test
+	public void testSchemaCreateBindsCluster() {
+		CFSecBuffSchema schema = new CFSecBuffSchema();
+		schema.createSecSession( null, sessionRec( 1, USER, USER, null, null ), CLUSTER );
+		schema.createSecSession( null, sessionRec( 2, USER, USER, null, null ), null );
+		CFSecBuffActiveSessionIndex index = schema.getActiveSessionIndex();
+		assertEquals( 2, index.getLiveCount() );
+		assertEquals( Set.of( id( 1 ) ), index.getLiveSessionIdsByCluster( CLUSTER ) );
+	}
+}
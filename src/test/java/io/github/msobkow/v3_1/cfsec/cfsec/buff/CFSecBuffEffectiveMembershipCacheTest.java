@@ -0,0 +1,211 @@
+// Description: Java 25 effective membership cache tests for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffEffectiveMembershipCacheTest drives SecGrpMemb and SecGrpInc through
+ *	their buffer tables and checks that every create, update and delete reaches
+ *	the effective sets it changes, that unrelated entries stay cached, and that
+ *	the hit, miss and invalidation counters move as documented.
+ */
+public class CFSecBuffEffectiveMembershipCacheTest
+{
+	protected static final CFLibDbKeyHash256 CLUSTER = id( 1 );
+	protected static final CFLibDbKeyHash256 OTHER_CLUSTER = id( 2 );
+	protected static final CFLibDbKeyHash256 USER = id( 100 );
+	protected static final CFLibDbKeyHash256 OTHER_USER = id( 101 );
+	protected static final CFLibDbKeyHash256 G1 = id( 201 );
+	protected static final CFLibDbKeyHash256 G2 = id( 202 );
+	protected static final CFLibDbKeyHash256 G3 = id( 203 );
+	protected static final CFLibDbKeyHash256 G4 = id( 204 );
+	protected static final CFLibDbKeyHash256 G5 = id( 205 );
+
+	protected final CFSecBuffSecGrpMembTable membTable = new CFSecBuffSecGrpMembTable();
+	protected final CFSecBuffSecGrpIncTable incTable = new CFSecBuffSecGrpIncTable();
+	protected final CFSecBuffEffectiveMembershipCache cache = new CFSecBuffEffectiveMembershipCache( membTable, incTable );
+
+	protected static CFLibDbKeyHash256 id( int value ) {
+		return( CFLibDbKeyHash256.fromHex( String.format( "%064x", value ) ) );
+	}
+
+	protected static CFSecBuffSecGrpMemb membRec( int membId, CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 groupId, CFLibDbKeyHash256 userId, int revision ) {
+		CFSecBuffSecGrpMemb rec = new CFSecBuffSecGrpMemb( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredSecGrpMembId( id( membId ) );
+		rec.setRequiredOwnerCluster( clusterId );
+		rec.setRequiredContainerGroup( groupId );
+		rec.setRequiredParentUser( userId );
+		rec.setRequiredRevision( revision );
+		return( rec );
+	}
+
+	protected static CFSecBuffSecGrpInc incRec( int incId, CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 groupId, CFLibDbKeyHash256 includeGroupId, int revision ) {
+		CFSecBuffSecGrpInc rec = new CFSecBuffSecGrpInc( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredSecGrpIncId( id( incId ) );
+		rec.setRequiredOwnerCluster( clusterId );
+		rec.setRequiredContainerGroup( groupId );
+		rec.setRequiredParentSubGroup( includeGroupId );
+		rec.setRequiredRevision( revision );
+		return( rec );
+	}
+
+	protected Set<CFLibDbKeyHash256> groupsOf( CFLibDbKeyHash256 userId ) {
+		return( cache.getEffectiveGroups( CLUSTER, userId ) );
+	}
+
+	@Test
+	public void testMembershipChangesReachEffectiveSet() {
+		assertEquals( Set.of(), groupsOf( USER ) );
+
+		ICFSecSecGrpMemb memb = membTable.createSecGrpMemb( null, membRec( 300, CLUSTER, G1, USER, 0 ) );
+		assertEquals( Set.of( G1 ), groupsOf( USER ) );
+
+		memb = membTable.updateSecGrpMemb( null, membRec( 300, CLUSTER, G2, USER, memb.getRequiredRevision() ) );
+		assertEquals( Set.of( G2 ), groupsOf( USER ) );
+
+		// Moving the membership to another user changes both users' sets
+		assertEquals( Set.of(), groupsOf( OTHER_USER ) );
+		memb = membTable.updateSecGrpMemb( null, membRec( 300, CLUSTER, G2, OTHER_USER, memb.getRequiredRevision() ) );
+		assertEquals( Set.of(), groupsOf( USER ) );
+		assertEquals( Set.of( G2 ), groupsOf( OTHER_USER ) );
+
+		membTable.deleteSecGrpMemb( null, memb );
+		assertEquals( Set.of(), groupsOf( OTHER_USER ) );
+	}
+
+	@Test
+	public void testInclusionChangesReachEffectiveSet() {
+		membTable.createSecGrpMemb( null, membRec( 300, CLUSTER, G1, USER, 0 ) );
+		assertEquals( Set.of( G1 ), groupsOf( USER ) );
+
+		ICFSecSecGrpInc g2IncG1 = incTable.createSecGrpInc( null, incRec( 400, CLUSTER, G2, G1, 0 ) );
+		assertEquals( Set.of( G1, G2 ), groupsOf( USER ) );
+
+		ICFSecSecGrpInc g3IncG2 = incTable.createSecGrpInc( null, incRec( 401, CLUSTER, G3, G2, 0 ) );
+		assertEquals( Set.of( G1, G2, G3 ), groupsOf( USER ) );
+
+		// G3 stops including G2 and includes an unrelated group instead
+		incTable.updateSecGrpInc( null, incRec( 401, CLUSTER, G3, G4, g3IncG2.getRequiredRevision() ) );
+		assertEquals( Set.of( G1, G2 ), groupsOf( USER ) );
+
+		incTable.deleteSecGrpInc( null, g2IncG1 );
+		assertEquals( Set.of( G1 ), groupsOf( USER ) );
+	}
+
+	@Test
+	public void testInvalidationIsPrecise() {
+		membTable.createSecGrpMemb( null, membRec( 300, CLUSTER, G1, USER, 0 ) );
+		membTable.createSecGrpMemb( null, membRec( 301, CLUSTER, G5, OTHER_USER, 0 ) );
+		membTable.createSecGrpMemb( null, membRec( 302, OTHER_CLUSTER, G1, USER, 0 ) );
+		groupsOf( USER );
+		groupsOf( OTHER_USER );
+		cache.getEffectiveGroups( OTHER_CLUSTER, USER );
+		assertEquals( 3, cache.size() );
+		cache.resetCounters();
+
+		// Only members of the included group G1 in CLUSTER gain G2
+		incTable.createSecGrpInc( null, incRec( 400, CLUSTER, G2, G1, 0 ) );
+		assertEquals( 1L, cache.getInvalidationCount() );
+		assertEquals( 2, cache.size() );
+		assertEquals( Set.of( G5 ), groupsOf( OTHER_USER ) );
+		assertEquals( Set.of( G1 ), cache.getEffectiveGroups( OTHER_CLUSTER, USER ) );
+		assertEquals( 2L, cache.getHitCount() );
+		assertEquals( 0L, cache.getMissCount() );
+		assertEquals( Set.of( G1, G2 ), groupsOf( USER ) );
+		assertEquals( 1L, cache.getMissCount() );
+
+		// A membership change drops only the (cluster, user) it touches
+		cache.resetCounters();
+		membTable.createSecGrpMemb( null, membRec( 303, CLUSTER, G3, OTHER_USER, 0 ) );
+		assertEquals( 1L, cache.getInvalidationCount() );
+		assertEquals( Set.of( G1, G2 ), groupsOf( USER ) );
+		assertEquals( Set.of( G1 ), cache.getEffectiveGroups( OTHER_CLUSTER, USER ) );
+		assertEquals( 2L, cache.getHitCount() );
+		assertEquals( Set.of( G3, G5 ), groupsOf( OTHER_USER ) );
+		assertEquals( 1L, cache.getMissCount() );
+	}
+
+	@Test
+	public void testCountersMoveAsDocumented() {
+		membTable.createSecGrpMemb( null, membRec( 300, CLUSTER, G1, USER, 0 ) );
+		assertEquals( 0L, cache.getHitCount() );
+		assertEquals( 0L, cache.getMissCount() );
+
+		groupsOf( USER );
+		assertEquals( 0L, cache.getHitCount() );
+		assertEquals( 1L, cache.getMissCount() );
+
+		assertTrue( cache.isEffectiveMember( CLUSTER, USER, G1 ) );
+		assertFalse( cache.isEffectiveMember( CLUSTER, USER, G2 ) );
+		assertEquals( 2L, cache.getHitCount() );
+		assertEquals( 1L, cache.getMissCount() );
+
+		// Dropping an entry counts once; dropping one that is not cached does not count
+		cache.invalidate( CLUSTER, USER );
+		assertEquals( 1L, cache.getInvalidationCount() );
+		cache.invalidate( CLUSTER, USER );
+		cache.invalidate( CLUSTER, OTHER_USER );
+		assertEquals( 1L, cache.getInvalidationCount() );
+		assertEquals( 0, cache.size() );
+
+		groupsOf( USER );
+		groupsOf( OTHER_USER );
+		assertEquals( 3L, cache.getMissCount() );
+		cache.invalidateCluster( CLUSTER );
+		assertEquals( 3L, cache.getInvalidationCount() );
+
+		cache.resetCounters();
+		assertEquals( 0L, cache.getHitCount() );
+		assertEquals( 0L, cache.getMissCount() );
+		assertEquals( 0L, cache.getInvalidationCount() );
+	}
+
+	@Test
+	public void testClosedCacheStopsFollowingTables() {
+		membTable.createSecGrpMemb( null, membRec( 300, CLUSTER, G1, USER, 0 ) );
+		groupsOf( USER );
+		cache.close();
+		assertEquals( 0, cache.size() );
+		cache.resetCounters();
+		membTable.createSecGrpMemb( null, membRec( 301, CLUSTER, G2, USER, 0 ) );
+		assertEquals( 0L, cache.getInvalidationCount() );
+	}
+}
@@ -0,0 +1,274 @@
+// Description: Java 25 group inclusion closure tests for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffGrpIncClosureTest checks the incrementally maintained inclusion
+ *	closure against a reachability walk recomputed from the edges after every
+ *	change, and checks that an inclusion closing a cycle is rejected without
+ *	changing the closure or the SecGrpInc table.
+ */
+public class CFSecBuffGrpIncClosureTest
+{
+	protected static final int GROUP_COUNT = 24;
+	protected static final int STEP_COUNT = 4000;
+
+	protected static CFLibDbKeyHash256 id( int value ) {
+		return( CFLibDbKeyHash256.fromHex( String.format( "%064x", value ) ) );
+	}
+
+	/*
+	 *	The edges of one partition, counted, with a brute-force reachability walk.
+	 */
+	protected static final class Model {
+		protected final HashMap<CFLibDbKeyHash256, HashMap<CFLibDbKeyHash256, Integer>> children = new HashMap<>();
+
+		protected void add( CFLibDbKeyHash256 groupId, CFLibDbKeyHash256 includeGroupId ) {
+			children.computeIfAbsent( groupId, k -> new HashMap<>() ).merge( includeGroupId, 1, Integer::sum );
+		}
+
+		protected void remove( CFLibDbKeyHash256 groupId, CFLibDbKeyHash256 includeGroupId ) {
+			HashMap<CFLibDbKeyHash256, Integer> edges = children.get( groupId );
+			if( ( edges == null ) || ! edges.containsKey( includeGroupId ) ) {
+				return;
+			}
+			if( edges.get( includeGroupId ) > 1 ) {
+				edges.put( includeGroupId, edges.get( includeGroupId ) - 1 );
+			}
+			else {
+				edges.remove( includeGroupId );
+			}
+		}
+
+		protected Set<CFLibDbKeyHash256> reachable( CFLibDbKeyHash256 groupId ) {
+			HashSet<CFLibDbKeyHash256> seen = new HashSet<>();
+			ArrayDeque<CFLibDbKeyHash256> pending = new ArrayDeque<>();
+			pending.add( groupId );
+			while( ! pending.isEmpty() ) {
+				HashMap<CFLibDbKeyHash256, Integer> edges = children.get( pending.poll() );
+				if( edges != null ) {
+					for( CFLibDbKeyHash256 child : edges.keySet() ) {
+						if( seen.add( child ) ) {
+							pending.add( child );
+						}
+					}
+				}
+			}
+			return( seen );
+		}
+
+		protected List<CFLibDbKeyHash256[]> edges() {
+			ArrayList<CFLibDbKeyHash256[]> edges = new ArrayList<>();
+			for( Map.Entry<CFLibDbKeyHash256, HashMap<CFLibDbKeyHash256, Integer>> entry : children.entrySet() ) {
+				for( CFLibDbKeyHash256 child : entry.getValue().keySet() ) {
+					edges.add( new CFLibDbKeyHash256[] { entry.getKey(), child } );
+				}
+			}
+			return( edges );
+		}
+	}
+
+	protected static void assertMatches( CFSecBuffGrpIncClosure closure, CFLibDbKeyHash256 partitionId, Model model, CFLibDbKeyHash256[] groups ) {
+		HashMap<CFLibDbKeyHash256, Set<CFLibDbKeyHash256>> including = new HashMap<>();
+		for( CFLibDbKeyHash256 group : groups ) {
+			Set<CFLibDbKeyHash256> reachable = model.reachable( group );
+			assertEquals( reachable, closure.getIncludedGroups( partitionId, group ), "included groups of " + group );
+			for( CFLibDbKeyHash256 other : groups ) {
+				assertEquals( reachable.contains( other ), closure.includes( partitionId, group, other ) );
+			}
+			for( CFLibDbKeyHash256 reached : reachable ) {
+				including.computeIfAbsent( reached, k -> new HashSet<>() ).add( group );
+			}
+		}
+		for( CFLibDbKeyHash256 group : groups ) {
+			assertEquals( including.getOrDefault( group, Collections.emptySet() ),
+				closure.getIncludingGroups( partitionId, group ),
+				"including groups of " + group );
+		}
+	}
+
+	@Test
+	public void testRandomEditsMatchRecomputedReachability() {
+		CFSecBuffGrpIncClosure closure = new CFSecBuffGrpIncClosure();
+		CFLibDbKeyHash256[] partitionIds = { id( 1 ), id( 2 ) };
+		Model[] models = { new Model(), new Model() };
+		CFLibDbKeyHash256[] groups = new CFLibDbKeyHash256[ GROUP_COUNT ];
+		for( int idx = 0; idx < GROUP_COUNT; idx++ ) {
+			groups[ idx ] = id( 1000 + idx );
+		}
+		Random random = new Random( 11L );
+		for( int step = 0; step < STEP_COUNT; step++ ) {
+			int part = random.nextInt( partitionIds.length );
+			CFLibDbKeyHash256 partitionId = partitionIds[ part ];
+			Model model = models[ part ];
+			List<CFLibDbKeyHash256[]> edges = model.edges();
+			if( ( random.nextInt( 10 ) < 6 ) || edges.isEmpty() ) {
+				CFLibDbKeyHash256 groupId = groups[ random.nextInt( GROUP_COUNT ) ];
+				CFLibDbKeyHash256 includeGroupId = groups[ random.nextInt( GROUP_COUNT ) ];
+				boolean cycle = groupId.equals( includeGroupId ) || model.reachable( includeGroupId ).contains( groupId );
+				assertEquals( cycle, closure.wouldCreateCycle( partitionId, groupId, includeGroupId ) );
+				if( cycle ) {
+					assertThrows( CFLibInvalidArgumentException.class,
+						() -> closure.addInclusion( partitionId, groupId, includeGroupId ) );
+				}
+				else {
+					closure.addInclusion( partitionId, groupId, includeGroupId );
+					model.add( groupId, includeGroupId );
+				}
+			}
+			else {
+				CFLibDbKeyHash256[] edge = edges.get( random.nextInt( edges.size() ) );
+				closure.removeInclusion( partitionId, edge[0], edge[1] );
+				model.remove( edge[0], edge[1] );
+			}
+			if( ( step % 100 ) == 99 ) {
+				assertMatches( closure, partitionIds[0], models[0], groups );
+				assertMatches( closure, partitionIds[1], models[1], groups );
+			}
+		}
+		assertMatches( closure, partitionIds[0], models[0], groups );
+		assertMatches( closure, partitionIds[1], models[1], groups );
+	}
+
+	@Test
+	public void testDiamondKeepsReachabilityUntilLastPathRemoved() {
+		CFSecBuffGrpIncClosure closure = new CFSecBuffGrpIncClosure();
+		CFLibDbKeyHash256 partitionId = id( 1 );
+		CFLibDbKeyHash256 a = id( 10 );
+		CFLibDbKeyHash256 b = id( 11 );
+		CFLibDbKeyHash256 c = id( 12 );
+		CFLibDbKeyHash256 d = id( 13 );
+		closure.addInclusion( partitionId, a, b );
+		closure.addInclusion( partitionId, a, c );
+		closure.addInclusion( partitionId, b, d );
+		closure.addInclusion( partitionId, c, d );
+		closure.addInclusion( partitionId, c, d );
+		closure.removeInclusion( partitionId, b, d );
+		assertTrue( closure.includes( partitionId, a, d ) );
+		closure.removeInclusion( partitionId, c, d );
+		assertTrue( closure.includes( partitionId, a, d ), "a counted edge survives until every copy is removed" );
+		closure.removeInclusion( partitionId, c, d );
+		assertFalse( closure.includes( partitionId, a, d ) );
+		assertEquals( Set.of( b, c ), closure.getIncludedGroups( partitionId, a ) );
+		assertEquals( Set.of(), closure.getIncludingGroups( partitionId, d ) );
+	}
+
+	@Test
+	public void testReplacedEdgeIsIgnoredByCycleCheck() {
+		CFSecBuffGrpIncClosure closure = new CFSecBuffGrpIncClosure();
+		CFLibDbKeyHash256 partitionId = id( 1 );
+		CFLibDbKeyHash256 a = id( 10 );
+		CFLibDbKeyHash256 b = id( 11 );
+		CFLibDbKeyHash256 c = id( 12 );
+		closure.addInclusion( partitionId, a, b );
+		closure.addInclusion( partitionId, b, c );
+		assertTrue( closure.wouldCreateCycle( partitionId, c, a ) );
+		assertFalse( closure.wouldCreateCycle( partitionId, c, a, a, b ) );
+		assertTrue( closure.wouldCreateCycle( partitionId, c, a, b, a ) );
+		assertFalse( closure.wouldCreateCycle( id( 2 ), c, a ) );
+	}
+
+	protected static CFSecBuffSecGrpInc incRec( CFLibDbKeyHash256 incId, CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 groupId, CFLibDbKeyHash256 includeGroupId ) {
+		CFSecBuffSecGrpInc rec = new CFSecBuffSecGrpInc( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredSecGrpIncId( incId );
+		rec.setRequiredOwnerCluster( clusterId );
+		rec.setRequiredContainerGroup( groupId );
+		rec.setRequiredParentSubGroup( includeGroupId );
+		return( rec );
+	}
+
+	@Test
+	public void testTableRejectsCycleWithoutMutation() {
+		CFSecBuffSecGrpIncTable table = new CFSecBuffSecGrpIncTable();
+		CFSecBuffGrpIncClosure closure = table.getInclusionClosure();
+		CFLibDbKeyHash256 clusterId = id( 1 );
+		CFLibDbKeyHash256 a = id( 10 );
+		CFLibDbKeyHash256 b = id( 11 );
+		CFLibDbKeyHash256 c = id( 12 );
+		table.createSecGrpInc( null, incRec( id( 100 ), clusterId, a, b ) );
+		ICFSecSecGrpInc bc = table.createSecGrpInc( null, incRec( id( 101 ), clusterId, b, c ) );
+		long modificationCount = table.getModificationCount();
+
+		assertThrows( CFLibInvalidArgumentException.class,
+			() -> table.createSecGrpInc( null, incRec( id( 102 ), clusterId, c, a ) ) );
+		assertThrows( CFLibInvalidArgumentException.class,
+			() -> table.createSecGrpInc( null, incRec( id( 103 ), clusterId, a, a ) ) );
+		CFSecBuffSecGrpInc looped = incRec( id( 101 ), clusterId, b, a );
+		looped.setRequiredRevision( bc.getRequiredRevision() );
+		assertThrows( CFLibInvalidArgumentException.class,
+			() -> table.updateSecGrpInc( null, looped ) );
+
+		assertEquals( modificationCount, table.getModificationCount() );
+		assertEquals( 2, table.readAllDerived( null ).length );
+		assertNull( table.readDerivedByIdIdx( null, id( 102 ) ) );
+		assertEquals( c, table.readDerivedByIdIdx( null, id( 101 ) ).getRequiredIncludeGroupId() );
+		assertEquals( Set.of( b, c ), closure.getIncludedGroups( clusterId, a ) );
+		assertEquals( Set.of( c ), closure.getIncludedGroups( clusterId, b ) );
+		assertEquals( Set.of(), closure.getIncludedGroups( clusterId, c ) );
+		assertFalse( table.isGroupIncluded( clusterId, c, a ) );
+	}
+
+	@Test
+	public void testTableUpdateAndDeleteFollowClosure() {
+		CFSecBuffSecGrpIncTable table = new CFSecBuffSecGrpIncTable();
+		CFSecBuffGrpIncClosure closure = table.getInclusionClosure();
+		CFLibDbKeyHash256 clusterId = id( 1 );
+		CFLibDbKeyHash256 a = id( 10 );
+		CFLibDbKeyHash256 b = id( 11 );
+		CFLibDbKeyHash256 c = id( 12 );
+		table.createSecGrpInc( null, incRec( id( 100 ), clusterId, a, b ) );
+		ICFSecSecGrpInc bc = table.createSecGrpInc( null, incRec( id( 101 ), clusterId, b, c ) );
+		assertTrue( closure.includes( clusterId, a, c ) );
+
+		// Moving b->c to c->a is allowed, because the old edge no longer counts
+		CFSecBuffSecGrpInc moved = incRec( id( 101 ), clusterId, c, a );
+		moved.setRequiredRevision( bc.getRequiredRevision() );
+		ICFSecSecGrpInc ca = table.updateSecGrpInc( null, moved );
+		assertFalse( closure.includes( clusterId, a, c ) );
+		assertEquals( Set.of( a, b ), closure.getIncludedGroups( clusterId, c ) );
+
+		table.deleteSecGrpInc( null, ca );
+		assertEquals( Set.of(), closure.getIncludedGroups( clusterId, c ) );
+		assertEquals( Set.of( b ), closure.getIncludedGroups( clusterId, a ) );
+	}
+}
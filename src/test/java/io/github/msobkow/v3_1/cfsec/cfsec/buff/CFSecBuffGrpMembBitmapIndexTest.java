@@ -0,0 +1,211 @@
+// Description: Java 25 group membership bitmap index tests for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffGrpMembBitmapIndexTest loads a cluster with enough users to make
+ *	its group bitmaps dense, then checks every query against a java.util.BitSet
+ *	built from the memberships, both after the initial load and after the table
+ *	has been edited underneath the index.
+ */
+public class CFSecBuffGrpMembBitmapIndexTest
+{
+	protected static final int USER_COUNT = 6000;
+	protected static final CFLibDbKeyHash256 CLUSTER = id( 1 );
+	protected static final CFLibDbKeyHash256 G_ALL = id( 11 );
+	protected static final CFLibDbKeyHash256 G_EVEN = id( 12 );
+	protected static final CFLibDbKeyHash256 G_RANDOM = id( 13 );
+	protected static final CFLibDbKeyHash256 G_UNKNOWN = id( 14 );
+
+	protected final CFSecBuffSecGrpMembTable membTable = new CFSecBuffSecGrpMembTable();
+	protected final HashMap<CFLibDbKeyHash256, HashSet<CFLibDbKeyHash256>> membersByGroup = new HashMap<>();
+	protected final HashMap<List<CFLibDbKeyHash256>, ICFSecSecGrpMemb> membByKey = new HashMap<>();
+	protected int nextMembId = 1000000;
+
+	protected static CFLibDbKeyHash256 id( int value ) {
+		return( CFLibDbKeyHash256.fromHex( String.format( "%064x", value ) ) );
+	}
+
+	protected static CFLibDbKeyHash256 userId( int user ) {
+		return( id( 100000 + user ) );
+	}
+
+	protected static List<CFLibDbKeyHash256> keyOf( CFLibDbKeyHash256 secGroupId, CFLibDbKeyHash256 secUserId ) {
+		return( List.of( secGroupId, secUserId ) );
+	}
+
+	protected void addMember( CFLibDbKeyHash256 secGroupId, CFLibDbKeyHash256 secUserId ) {
+		CFSecBuffSecGrpMemb rec = new CFSecBuffSecGrpMemb( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredSecGrpMembId( id( nextMembId++ ) );
+		rec.setRequiredOwnerCluster( CLUSTER );
+		rec.setRequiredContainerGroup( secGroupId );
+		rec.setRequiredParentUser( secUserId );
+		membByKey.put( keyOf( secGroupId, secUserId ), membTable.createSecGrpMemb( null, rec ) );
+		membersByGroup.computeIfAbsent( secGroupId, k -> new HashSet<>() ).add( secUserId );
+	}
+
+	protected void removeMember( CFLibDbKeyHash256 secGroupId, CFLibDbKeyHash256 secUserId ) {
+		membTable.deleteSecGrpMemb( null, membByKey.remove( keyOf( secGroupId, secUserId ) ) );
+		membersByGroup.get( secGroupId ).remove( secUserId );
+	}
+
+	protected void moveMember( CFLibDbKeyHash256 fromSecGroupId, CFLibDbKeyHash256 toSecGroupId, CFLibDbKeyHash256 secUserId ) {
+		ICFSecSecGrpMemb existing = membByKey.remove( keyOf( fromSecGroupId, secUserId ) );
+		CFSecBuffSecGrpMemb rec = new CFSecBuffSecGrpMemb( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredSecGrpMembId( existing.getRequiredSecGrpMembId() );
+		rec.setRequiredOwnerCluster( CLUSTER );
+		rec.setRequiredContainerGroup( toSecGroupId );
+		rec.setRequiredParentUser( secUserId );
+		rec.setRequiredRevision( existing.getRequiredRevision() );
+		membByKey.put( keyOf( toSecGroupId, secUserId ), membTable.updateSecGrpMemb( null, rec ) );
+		membersByGroup.get( fromSecGroupId ).remove( secUserId );
+		membersByGroup.computeIfAbsent( toSecGroupId, k -> new HashSet<>() ).add( secUserId );
+	}
+
+	protected BitSet expectedMembers( CFSecBuffGrpMembBitmapIndex index, CFLibDbKeyHash256 secGroupId ) {
+		BitSet bits = new BitSet();
+		for( CFLibDbKeyHash256 secUserId : membersByGroup.getOrDefault( secGroupId, new HashSet<>() ) ) {
+			int ordinal = index.getUserOrdinal( CLUSTER, secUserId );
+			assertTrue( ordinal >= 0, "User has no ordinal" );
+			bits.set( ordinal );
+		}
+		return( bits );
+	}
+
+	protected static BitSet toBitSet( CFSecBuffRoaringBitmap bitmap ) {
+		BitSet bits = new BitSet();
+		bitmap.forEach( bits::set );
+		return( bits );
+	}
+
+	protected void assertQueriesMatch( CFSecBuffGrpMembBitmapIndex index ) {
+		List<CFLibDbKeyHash256> groups = List.of( G_ALL, G_EVEN, G_RANDOM, G_UNKNOWN );
+		for( CFLibDbKeyHash256 lhs : groups ) {
+			BitSet lbits = expectedMembers( index, lhs );
+			assertEquals( lbits, toBitSet( index.getMembers( CLUSTER, lhs ) ) );
+			for( CFLibDbKeyHash256 rhs : groups ) {
+				BitSet rbits = expectedMembers( index, rhs );
+
+				BitSet expected = (BitSet)lbits.clone();
+				expected.or( rbits );
+				assertEquals( expected, toBitSet( index.getMembersOfAny( CLUSTER, List.of( lhs, rhs ) ) ) );
+
+				expected = (BitSet)lbits.clone();
+				expected.andNot( rbits );
+				assertEquals( expected, toBitSet( index.getMembersAndNot( CLUSTER, lhs, rhs ) ) );
+
+				expected = (BitSet)lbits.clone();
+				expected.and( rbits );
+				assertEquals( (long)expected.cardinality(), index.countCommonMembers( CLUSTER, lhs, rhs ) );
+			}
+		}
+
+		// Decoding a query result gives back the member ids
+		HashSet<CFLibDbKeyHash256> decoded = new HashSet<>( Arrays.asList( index.getUserIds( CLUSTER, index.getMembers( CLUSTER, G_RANDOM ) ) ) );
+		assertEquals( membersByGroup.get( G_RANDOM ), decoded );
+
+		// The ByUserIdx view agrees with the ByGroupIdx view
+		for( int user = 0; user < USER_COUNT; user += 97 ) {
+			CFLibDbKeyHash256 secUserId = userId( user );
+			HashSet<CFLibDbKeyHash256> expectedGroups = new HashSet<>();
+			for( Map.Entry<CFLibDbKeyHash256, HashSet<CFLibDbKeyHash256>> entry : membersByGroup.entrySet() ) {
+				if( entry.getValue().contains( secUserId ) ) {
+					expectedGroups.add( entry.getKey() );
+				}
+			}
+			HashSet<CFLibDbKeyHash256> actualGroups = new HashSet<>( Arrays.asList( index.getGroupIds( CLUSTER, index.getGroups( CLUSTER, secUserId ) ) ) );
+			assertEquals( expectedGroups, actualGroups );
+		}
+	}
+
+	@Test
+	public void testQueriesMatchBitSetAfterLoadAndEdits() {
+		Random random = new Random( 7L );
+		for( int user = 0; user < USER_COUNT; user++ ) {
+			addMember( G_ALL, userId( user ) );
+			if( ( user % 2 ) == 0 ) {
+				addMember( G_EVEN, userId( user ) );
+			}
+			else if( random.nextInt( 3 ) == 0 ) {
+				addMember( G_RANDOM, userId( user ) );
+			}
+		}
+		CFSecBuffGrpMembBitmapIndex index = new CFSecBuffGrpMembBitmapIndex( membTable );
+		try {
+			// Every loaded user has a dense ordinal in the everyone group, so it is one run
+			CFSecBuffGrpMembBitmapIndex.ClusterIndex cluster = index.clusters.get( CLUSTER );
+			CFSecBuffRoaringBitmap everyone = cluster.usersByGroup.get( cluster.groupOrdinalOf( G_ALL ) );
+			assertEquals( CFSecBuffRoaringBitmap.RunContainer.class, everyone.containers[ 0 ].getClass() );
+			assertQueriesMatch( index );
+
+			for( int user = 0; user < USER_COUNT; user += 5 ) {
+				removeMember( G_ALL, userId( user ) );
+			}
+			for( int user = 0; user < USER_COUNT; user += 6 ) {
+				moveMember( G_EVEN, G_RANDOM, userId( user ) );
+			}
+			for( int user = USER_COUNT; user < USER_COUNT + 100; user++ ) {
+				addMember( G_ALL, userId( user ) );
+			}
+			assertQueriesMatch( index );
+		}
+		finally {
+			index.close();
+		}
+	}
+
+	@Test
+	public void testUnknownKeysAnswerEmpty() {
+		addMember( G_ALL, userId( 0 ) );
+		CFSecBuffGrpMembBitmapIndex index = new CFSecBuffGrpMembBitmapIndex( membTable );
+		try {
+			assertTrue( index.getMembers( id( 99 ), G_ALL ).isEmpty() );
+			assertTrue( index.getMembers( CLUSTER, G_UNKNOWN ).isEmpty() );
+			assertEquals( -1, index.getUserOrdinal( CLUSTER, userId( 1 ) ) );
+			assertEquals( 0L, index.countCommonMembers( CLUSTER, G_ALL, G_UNKNOWN ) );
+			assertEquals( 1L, index.getMembersAndNot( CLUSTER, G_ALL, G_UNKNOWN ).getCardinality() );
+		}
+		finally {
+			index.close();
+		}
+	}
+}
@@ -0,0 +1,378 @@
+// Description: Java 25 hash distribution tests for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.function.*;
+import org.junit.jupiter.api.Test;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+
+/*
+ *	CFSecBuffHashDistributionTest compares the mixed hash codes of the SecGrpMemb
+ *	records and UUserIdx keys against the additive hash they replaced, over
+ *	membership sets shaped like a real deployment: a few clusters, a few hundred
+ *	groups per cluster, and thousands of users who each belong to several groups.
+ */
+public class CFSecBuffHashDistributionTest
+{
+	protected static final int CLUSTERS = 4;
+	protected static final int GROUPS_PER_CLUSTER = 256;
+	protected static final int USERS_PER_CLUSTER = 2048;
+	protected static final int GROUPS_PER_USER = 8;
+
+	protected static final int MAX_BUCKET_LOAD = 12;
+
+	/*
+	 *	A (cluster, group, user) membership.
+	 */
+	protected static final class Memb {
+		final CFLibDbKeyHash256 membId;
+		final CFLibDbKeyHash256 clusterId;
+		final CFLibDbKeyHash256 groupId;
+		final CFLibDbKeyHash256 userId;
+
+		Memb( CFLibDbKeyHash256 membId, CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 groupId, CFLibDbKeyHash256 userId ) {
+			this.membId = membId;
+			this.clusterId = clusterId;
+			this.groupId = groupId;
+			this.userId = userId;
+		}
+	}
+
+	/*
+	 *	The collisions and HashMap bucket spread of a set of hash codes.
+	 */
+	protected static final class Spread {
+		final int count;
+		final int collisions;
+		final int maxLoad;
+		final int emptyBuckets;
+		final int buckets;
+
+		Spread( int[] hashes ) {
+			count = hashes.length;
+			collisions = duplicates( hashes );
+
+			// Size and spread the table the way java.util.HashMap does at its default load factor
+			int size = Integer.highestOneBit( Math.max( 1, ( count * 4 ) / 3 ) ) << 1;
+			int[] loads = new int[ size ];
+			for( int hash : hashes ) {
+				loads[ ( hash ^ ( hash >>> 16 ) ) & ( size - 1 ) ]++;
+			}
+			int max = 0;
+			int empty = 0;
+			for( int load : loads ) {
+				max = Math.max( max, load );
+				if( load == 0 ) {
+					empty++;
+				}
+			}
+			maxLoad = max;
+			emptyBuckets = empty;
+			buckets = size;
+		}
+
+		/**
+		 *	@return	The number of collisions expected of an ideal 31-bit hash.
+		 */
+		double expectedCollisions() {
+			return( ( (double)count * ( count - 1 ) ) / 2.0 / 2147483648.0 );
+		}
+
+		/**
+		 *	@return	The fraction of empty buckets expected of an ideal hash with
+		 *		as many distinct values as this one.
+		 */
+		double idealEmptyFraction() {
+			return( Math.exp( - (double)( count - collisions ) / buckets ) );
+		}
+
+		@Override
+		public String toString() {
+			return( "count=" + count
+				+ " collisions=" + collisions
+				+ " maxLoad=" + maxLoad
+				+ " empty=" + emptyBuckets + "/" + buckets );
+		}
+	}
+
+	protected static int duplicates( int[] hashes ) {
+		int[] sorted = hashes.clone();
+		Arrays.sort( sorted );
+		int dups = 0;
+		for( int idx = 1; idx < sorted.length; idx++ ) {
+			if( sorted[ idx ] == sorted[ idx - 1 ] ) {
+				dups++;
+			}
+		}
+		return( dups );
+	}
+
+	/**
+	 *	Count the keys whose attribute hash codes all equal those of another key.
+	 *	No mixing can separate them, so they set the floor for the collision count.
+	 */
+	protected static int inherentCollisions( List<int[]> attrHashes ) {
+		HashSet<List<Integer>> distinct = new HashSet<>();
+		for( int[] attrs : attrHashes ) {
+			ArrayList<Integer> tuple = new ArrayList<>( attrs.length );
+			for( int attr : attrs ) {
+				tuple.add( Integer.valueOf( attr ) );
+			}
+			distinct.add( tuple );
+		}
+		return( attrHashes.size() - distinct.size() );
+	}
+
+	/**
+	 *	Identifiers numbered sequentially, as rows imported from a relational
+	 *	store with integer keys arrive.
+	 */
+	protected static Supplier<CFLibDbKeyHash256> sequentialIds() {
+		long[] next = { 1L };
+		return( () -> CFLibDbKeyHash256.fromHex( String.format( "%064x", next[0]++ ) ) );
+	}
+
+	/**
+	 *	Identifiers allocated by the buffer id generator.
+	 */
+	protected static Supplier<CFLibDbKeyHash256> generatedIds() {
+		CFSecBuffIdGenerator generator = new CFSecBuffIdGenerator();
+		return( () -> generator.nextKeyHash256() );
+	}
+
+	protected static List<Memb> memberships( Supplier<CFLibDbKeyHash256> ids ) {
+		Random random = new Random( 0x5ec9e3bL );
+		ArrayList<Memb> membs = new ArrayList<>( CLUSTERS * USERS_PER_CLUSTER * GROUPS_PER_USER );
+		for( int cluster = 0; cluster < CLUSTERS; cluster++ ) {
+			CFLibDbKeyHash256 clusterId = ids.get();
+			CFLibDbKeyHash256[] groupIds = new CFLibDbKeyHash256[ GROUPS_PER_CLUSTER ];
+			for( int group = 0; group < GROUPS_PER_CLUSTER; group++ ) {
+				groupIds[ group ] = ids.get();
+			}
+			CFLibDbKeyHash256[] userIds = new CFLibDbKeyHash256[ USERS_PER_CLUSTER ];
+			for( int user = 0; user < USERS_PER_CLUSTER; user++ ) {
+				userIds[ user ] = ids.get();
+			}
+			for( int user = 0; user < USERS_PER_CLUSTER; user++ ) {
+				BitSet chosen = new BitSet( GROUPS_PER_CLUSTER );
+				while( chosen.cardinality() < GROUPS_PER_USER ) {
+					chosen.set( random.nextInt( GROUPS_PER_CLUSTER ) );
+				}
+				for( int group = chosen.nextSetBit( 0 ); group >= 0; group = chosen.nextSetBit( group + 1 ) ) {
+					membs.add( new Memb( ids.get(), clusterId, groupIds[ group ], userIds[ user ] ) );
+				}
+			}
+		}
+		return( membs );
+	}
+
+	protected static CFSecBuffSecGrpMembByUUserIdxKey uuserKey( CFLibDbKeyHash256 clusterId, CFLibDbKeyHash256 groupId, CFLibDbKeyHash256 userId ) {
+		CFSecBuffSecGrpMembByUUserIdxKey key = new CFSecBuffSecGrpMembByUUserIdxKey();
+		key.setRequiredClusterId( clusterId );
+		key.setRequiredSecGroupId( groupId );
+		key.setRequiredSecUserId( userId );
+		return( key );
+	}
+
+	/**
+	 *	The hash CFSecBuffSecGrpMembByUUserIdxKey used before CFSecBuffHash.
+	 */
+	protected static int additiveUUserHash( CFSecBuffSecGrpMembByUUserIdxKey key ) {
+		int hashCode = 0;
+		hashCode = hashCode + key.getRequiredClusterId().hashCode();
+		hashCode = hashCode + key.getRequiredSecGroupId().hashCode();
+		hashCode = hashCode + key.getRequiredSecUserId().hashCode();
+		return( hashCode & 0x7fffffff );
+	}
+
+	protected static CFSecBuffSecGrpMemb membRec( Memb memb, CFSecBuffRecStamp stamp, CFLibDbKeyHash256 auditUserId ) {
+		CFSecBuffSecGrpMemb rec = new CFSecBuffSecGrpMemb( stamp );
+		rec.setCreatedByUserId( auditUserId );
+		rec.setUpdatedByUserId( auditUserId );
+		rec.setRequiredSecGrpMembId( memb.membId );
+		rec.setRequiredOwnerCluster( memb.clusterId );
+		rec.setRequiredContainerGroup( memb.groupId );
+		rec.setRequiredParentUser( memb.userId );
+		return( rec );
+	}
+
+	/**
+	 *	The hash CFSecBuffSecGrpMemb used before CFSecBuffHash.
+	 */
+	protected static int additiveMembHash( CFSecBuffSecGrpMemb rec ) {
+		int hashCode = 0;
+		hashCode = hashCode + rec.getCreatedByUserId().hashCode();
+		hashCode = hashCode + rec.getCreatedAt().hashCode();
+		hashCode = hashCode + rec.getUpdatedByUserId().hashCode();
+		hashCode = hashCode + rec.getUpdatedAt().hashCode();
+		hashCode = hashCode + rec.getRequiredSecGrpMembId().hashCode();
+		hashCode = hashCode + rec.getRequiredClusterId().hashCode();
+		hashCode = hashCode + rec.getRequiredSecGroupId().hashCode();
+		hashCode = hashCode + rec.getRequiredSecUserId().hashCode();
+		return( hashCode & 0x7fffffff );
+	}
+
+	/**
+	 *	Check the mixed hash against an ideal hash, and against the additive
+	 *	hash it replaced.  Keys whose attribute hash codes are identical collide
+	 *	under any hash, so those are allowed for.
+	 */
+	protected static void assertWellSpread( String label, Spread mixed, Spread additive, int inherent ) {
+		String detail = label + ": mixed " + mixed + "; additive " + additive + "; inherent " + inherent;
+		double expected = mixed.expectedCollisions();
+		assertTrue( mixed.collisions <= inherent + ( 4.0 * expected ) + 8.0, detail );
+		assertTrue( mixed.collisions <= additive.collisions + expected + 8.0, detail );
+		assertTrue( mixed.maxLoad <= MAX_BUCKET_LOAD, detail );
+		assertTrue( mixed.maxLoad <= Math.max( additive.maxLoad, MAX_BUCKET_LOAD ), detail );
+
+		double emptyFraction = (double)mixed.emptyBuckets / mixed.buckets;
+		assertTrue( Math.abs( emptyFraction - mixed.idealEmptyFraction() ) < 0.02, detail );
+	}
+
+	protected static void checkUUserKeys( String label, Supplier<CFLibDbKeyHash256> ids ) {
+		List<Memb> membs = memberships( ids );
+		int[] mixed = new int[ membs.size() ];
+		int[] additive = new int[ membs.size() ];
+		ArrayList<int[]> attrHashes = new ArrayList<>( membs.size() );
+		for( int idx = 0; idx < membs.size(); idx++ ) {
+			Memb memb = membs.get( idx );
+			CFSecBuffSecGrpMembByUUserIdxKey key = uuserKey( memb.clusterId, memb.groupId, memb.userId );
+			mixed[ idx ] = key.hashCode();
+			additive[ idx ] = additiveUUserHash( key );
+			attrHashes.add( new int[] {
+				memb.clusterId.hashCode(),
+				memb.groupId.hashCode(),
+				memb.userId.hashCode() } );
+		}
+		assertWellSpread( label, new Spread( mixed ), new Spread( additive ), inherentCollisions( attrHashes ) );
+	}
+
+	protected static void checkMembRecs( String label, Supplier<CFLibDbKeyHash256> ids ) {
+		List<Memb> membs = memberships( ids );
+		CFSecBuffRecStamp stamp = CFSecBuffRecStamp.eager(
+			Clock.fixed( Instant.parse( "2026-01-01T00:00:00Z" ), ZoneOffset.UTC ) );
+		CFLibDbKeyHash256 auditUserId = ids.get();
+		int[] mixed = new int[ membs.size() ];
+		int[] additive = new int[ membs.size() ];
+		ArrayList<int[]> attrHashes = new ArrayList<>( membs.size() );
+		for( int idx = 0; idx < membs.size(); idx++ ) {
+			Memb memb = membs.get( idx );
+			CFSecBuffSecGrpMemb rec = membRec( memb, stamp, auditUserId );
+			mixed[ idx ] = rec.hashCode();
+			additive[ idx ] = additiveMembHash( rec );
+			attrHashes.add( new int[] {
+				memb.membId.hashCode(),
+				memb.clusterId.hashCode(),
+				memb.groupId.hashCode(),
+				memb.userId.hashCode() } );
+		}
+		assertWellSpread( label, new Spread( mixed ), new Spread( additive ), inherentCollisions( attrHashes ) );
+	}
+
+	@Test
+	public void testUUserKeysWithSequentialIds() {
+		checkUUserKeys( "UUserIdx sequential", sequentialIds() );
+	}
+
+	@Test
+	public void testUUserKeysWithGeneratedIds() {
+		checkUUserKeys( "UUserIdx generated", generatedIds() );
+	}
+
+	@Test
+	public void testMembRecsWithSequentialIds() {
+		checkMembRecs( "SecGrpMemb sequential", sequentialIds() );
+	}
+
+	@Test
+	public void testMembRecsWithGeneratedIds() {
+		checkMembRecs( "SecGrpMemb generated", generatedIds() );
+	}
+
+	/**
+	 *	Keys that differ only by which of two ids is the group and which the user
+	 *	always collide under an additive hash; the mixed hash tells them apart
+	 *	whenever the two ids hash differently.
+	 */
+	@Test
+	public void testSwappedKeysDoNotCollide() {
+		Supplier<CFLibDbKeyHash256> ids = sequentialIds();
+		CFLibDbKeyHash256 clusterId = ids.get();
+		CFLibDbKeyHash256[] pool = new CFLibDbKeyHash256[ 512 ];
+		for( int idx = 0; idx < pool.length; idx++ ) {
+			pool[ idx ] = ids.get();
+		}
+		int pairs = 0;
+		int mixedCollisions = 0;
+		for( int first = 0; first < pool.length; first++ ) {
+			for( int second = first + 1; second < pool.length; second++ ) {
+				if( pool[ first ].hashCode() == pool[ second ].hashCode() ) {
+					continue;
+				}
+				CFSecBuffSecGrpMembByUUserIdxKey forward = uuserKey( clusterId, pool[ first ], pool[ second ] );
+				CFSecBuffSecGrpMembByUUserIdxKey swapped = uuserKey( clusterId, pool[ second ], pool[ first ] );
+				assertNotEquals( forward, swapped );
+				assertEquals( additiveUUserHash( forward ), additiveUUserHash( swapped ) );
+				if( forward.hashCode() == swapped.hashCode() ) {
+					mixedCollisions++;
+				}
+				pairs++;
+			}
+		}
+		assertTrue( mixedCollisions <= 2, "swapped pairs=" + pairs + " mixed collisions=" + mixedCollisions );
+	}
+
+	/**
+	 *	The cached hash code follows every setter.
+	 */
+	@Test
+	public void testSettersInvalidateCachedHash() {
+		Supplier<CFLibDbKeyHash256> ids = sequentialIds();
+		CFLibDbKeyHash256 clusterId = ids.get();
+		CFLibDbKeyHash256 groupId = ids.get();
+		CFLibDbKeyHash256 userId = ids.get();
+		CFLibDbKeyHash256 otherUserId = ids.get();
+		CFSecBuffSecGrpMembByUUserIdxKey key = uuserKey( clusterId, groupId, userId );
+		int before = key.hashCode();
+		key.setRequiredSecUserId( otherUserId );
+		assertEquals( uuserKey( clusterId, groupId, otherUserId ).hashCode(), key.hashCode() );
+		key.setRequiredSecUserId( userId );
+		assertEquals( before, key.hashCode() );
+	}
+}
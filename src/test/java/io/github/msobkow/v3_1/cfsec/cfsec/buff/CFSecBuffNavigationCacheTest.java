@@ -0,0 +1,75 @@
+// Description: Java 25 navigation cache stamp tests for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/*
+ *	CFSecBuffNavigationCacheTest checks that navigation stamps follow both the
+ *	modification count and the identity of the table they were taken from.
+ */
+public class CFSecBuffNavigationCacheTest
+{
+	@Test
+	public void testStampFollowsModificationCount() {
+		CFSecBuffTenantTable table = new CFSecBuffTenantTable();
+		long before = CFSecBuffNavigationCache.stampOf( table );
+		assertNotEquals( 0L, before );
+		table.modificationCount++;
+		assertNotEquals( before, CFSecBuffNavigationCache.stampOf( table ) );
+	}
+
+	@Test
+	public void testReplacedTableWithSameCountDoesNotMatch() {
+		CFSecBuffTenantTable original = new CFSecBuffTenantTable();
+		CFSecBuffTenantTable replacement = new CFSecBuffTenantTable();
+		assertEquals( original.getModificationCount(), replacement.getModificationCount() );
+		long stamp = CFSecBuffNavigationCache.stampOf( original );
+		CFSecBuffNavigationCache cache = new CFSecBuffNavigationCache( 1 );
+		cache.put( 0, stamp, "cached" );
+		assertTrue( cache.isCurrent( 0, CFSecBuffNavigationCache.stampOf( original ) ) );
+		assertFalse( cache.isCurrent( 0, CFSecBuffNavigationCache.stampOf( replacement ) ) );
+	}
+
+	@Test
+	public void testUnversionedTableIsNeverCached() {
+		assertEquals( 0L, CFSecBuffNavigationCache.stampOf( new Object() ) );
+		CFSecBuffNavigationCache cache = new CFSecBuffNavigationCache( 1 );
+		cache.put( 0, 0L, "cached" );
+		assertFalse( cache.isCurrent( 0, 0L ) );
+	}
+}
@@ -0,0 +1,258 @@
+// Description: Java 25 roaring bitmap tests for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import io.github.msobkow.v3_1.cflib.*;
+
+/*
+ *	CFSecBuffRoaringBitmapTest walks chunks through every representation change,
+ *	array to bitset to runs and back, and checks add, remove and the set
+ *	operations against a java.util.BitSet oracle over chunks of mixed density.
+ */
+public class CFSecBuffRoaringBitmapTest
+{
+	protected static final int CHUNK = 1 << 16;
+
+	protected static BitSet toBitSet( CFSecBuffRoaringBitmap bitmap ) {
+		BitSet bits = new BitSet();
+		bitmap.forEach( bits::set );
+		return( bits );
+	}
+
+	protected static CFSecBuffRoaringBitmap fromBitSet( BitSet bits ) {
+		CFSecBuffRoaringBitmap bitmap = new CFSecBuffRoaringBitmap();
+		bits.stream().forEach( bitmap::add );
+		return( bitmap );
+	}
+
+	protected static Class<?> chunkClass( CFSecBuffRoaringBitmap bitmap, int chunk ) {
+		int idx = bitmap.indexOfKey( (char)chunk );
+		assertTrue( idx >= 0, "Chunk " + chunk + " is missing" );
+		return( bitmap.containers[ idx ].getClass() );
+	}
+
+	protected static void assertMatches( BitSet expected, CFSecBuffRoaringBitmap actual ) {
+		assertEquals( expected, toBitSet( actual ) );
+		assertEquals( (long)expected.cardinality(), actual.getCardinality() );
+		assertEquals( expected.isEmpty(), actual.isEmpty() );
+	}
+
+	/**
+	 *	Build a bitmap whose chunks cover each representation: a sparse chunk, a
+	 *	dense random chunk, a chunk of a few long stretches and a chunk that is
+	 *	only present in some bitmaps.
+	 */
+	protected static BitSet randomBits( Random random ) {
+		BitSet bits = new BitSet();
+		int sparse = random.nextInt( 2000 );
+		for( int count = 0; count < sparse; count++ ) {
+			bits.set( random.nextInt( CHUNK ) );
+		}
+		int density = 1 + random.nextInt( 4 );
+		for( int low = 0; low < CHUNK; low++ ) {
+			if( random.nextInt( 8 ) < density ) {
+				bits.set( CHUNK + low );
+			}
+		}
+		int stretches = 1 + random.nextInt( 6 );
+		for( int count = 0; count < stretches; count++ ) {
+			int from = random.nextInt( CHUNK );
+			int to = Math.min( CHUNK, from + random.nextInt( 20000 ) );
+			bits.set( 2 * CHUNK + from, 2 * CHUNK + to );
+		}
+		if( random.nextBoolean() ) {
+			bits.set( 5 * CHUNK + random.nextInt( 100 ), 5 * CHUNK + 100 + random.nextInt( 5000 ) );
+		}
+		return( bits );
+	}
+
+	@Test
+	public void testContainerTransitions() {
+		CFSecBuffRoaringBitmap bitmap = new CFSecBuffRoaringBitmap();
+		BitSet expected = new BitSet();
+		for( int value = 0; value < CFSecBuffRoaringBitmap.ARRAY_MAX; value++ ) {
+			assertTrue( bitmap.add( value ) );
+			expected.set( value );
+		}
+		assertEquals( CFSecBuffRoaringBitmap.ArrayContainer.class, chunkClass( bitmap, 0 ) );
+
+		// One more member than an array holds turns the chunk into a bitset
+		for( int value = CFSecBuffRoaringBitmap.ARRAY_MAX; value < 10000; value++ ) {
+			bitmap.add( value );
+			expected.set( value );
+		}
+		assertEquals( CFSecBuffRoaringBitmap.BitmapContainer.class, chunkClass( bitmap, 0 ) );
+		assertMatches( expected, bitmap );
+
+		// A single stretch is far smaller as a run
+		long bitsetBytes = bitmap.getSizeInBytes();
+		assertTrue( bitmap.runOptimize() );
+		assertEquals( CFSecBuffRoaringBitmap.RunContainer.class, chunkClass( bitmap, 0 ) );
+		assertTrue( bitmap.getSizeInBytes() < bitsetBytes );
+		assertMatches( expected, bitmap );
+
+		// Edits that keep runs cheap stay runs, including a split and a merge
+		assertTrue( bitmap.remove( 5000 ) );
+		expected.clear( 5000 );
+		assertFalse( bitmap.remove( 5000 ) );
+		assertTrue( bitmap.add( 10000 ) );
+		expected.set( 10000 );
+		assertTrue( bitmap.add( 10002 ) );
+		expected.set( 10002 );
+		assertTrue( bitmap.add( 10001 ) );
+		expected.set( 10001 );
+		assertFalse( bitmap.add( 10001 ) );
+		assertTrue( bitmap.remove( 0 ) );
+		expected.clear( 0 );
+		assertEquals( CFSecBuffRoaringBitmap.RunContainer.class, chunkClass( bitmap, 0 ) );
+		assertEquals( 2, ( (CFSecBuffRoaringBitmap.RunContainer)bitmap.containers[ 0 ] ).nruns );
+		assertMatches( expected, bitmap );
+
+		// Fragmenting a dense chunk makes the runs larger than a bitset
+		for( int value = 1; value < 6000; value += 2 ) {
+			bitmap.remove( value );
+			expected.clear( value );
+		}
+		assertEquals( CFSecBuffRoaringBitmap.BitmapContainer.class, chunkClass( bitmap, 0 ) );
+		assertMatches( expected, bitmap );
+
+		// Dropping to the array limit turns the bitset back into an array
+		for( int value = 6000; value < 10003; value++ ) {
+			bitmap.remove( value );
+			expected.clear( value );
+		}
+		assertEquals( CFSecBuffRoaringBitmap.ArrayContainer.class, chunkClass( bitmap, 0 ) );
+		assertMatches( expected, bitmap );
+
+		// Runs that fragment below the array limit become an array
+		CFSecBuffRoaringBitmap stretch = new CFSecBuffRoaringBitmap();
+		BitSet stretchExpected = new BitSet();
+		for( int value = 100; value < 400; value++ ) {
+			stretch.add( value );
+			stretchExpected.set( value );
+		}
+		assertTrue( stretch.runOptimize() );
+		assertEquals( CFSecBuffRoaringBitmap.RunContainer.class, chunkClass( stretch, 0 ) );
+		for( int value = 101; value < 400; value += 2 ) {
+			stretch.remove( value );
+			stretchExpected.clear( value );
+		}
+		assertEquals( CFSecBuffRoaringBitmap.ArrayContainer.class, chunkClass( stretch, 0 ) );
+		assertMatches( stretchExpected, stretch );
+
+		// Scattered members never become runs
+		assertFalse( stretch.runOptimize() );
+		for( int value = 100; value < 400; value += 2 ) {
+			stretch.remove( value );
+		}
+		assertTrue( stretch.isEmpty() );
+	}
+
+	@Test
+	public void testEditsMatchBitSet() {
+		Random random = new Random( 13L );
+		CFSecBuffRoaringBitmap bitmap = new CFSecBuffRoaringBitmap();
+		BitSet expected = new BitSet();
+		for( int step = 0; step < 200000; step++ ) {
+			int value = ( random.nextInt( 3 ) * CHUNK ) + random.nextInt( 12000 );
+			if( random.nextInt( 5 ) < 3 ) {
+				assertEquals( ! expected.get( value ), bitmap.add( value ) );
+				expected.set( value );
+			}
+			else {
+				assertEquals( expected.get( value ), bitmap.remove( value ) );
+				expected.clear( value );
+			}
+			if( ( step % 20000 ) == 0 ) {
+				bitmap.runOptimize();
+			}
+		}
+		assertMatches( expected, bitmap );
+		for( int value = 0; value < 3 * CHUNK; value += 7 ) {
+			assertEquals( expected.get( value ), bitmap.contains( value ) );
+		}
+	}
+
+	@Test
+	public void testSetOperationsMatchBitSet() {
+		Random random = new Random( 42L );
+		for( int round = 0; round < 40; round++ ) {
+			BitSet lbits = randomBits( random );
+			BitSet rbits = randomBits( random );
+			CFSecBuffRoaringBitmap lhs = fromBitSet( lbits );
+			CFSecBuffRoaringBitmap rhs = fromBitSet( rbits );
+			if( ( round % 2 ) == 0 ) {
+				lhs.runOptimize();
+			}
+			if( ( round % 3 ) == 0 ) {
+				rhs.runOptimize();
+			}
+			BitSet lcopy = (BitSet)lbits.clone();
+			BitSet rcopy = (BitSet)rbits.clone();
+
+			BitSet expected = (BitSet)lbits.clone();
+			expected.or( rbits );
+			assertMatches( expected, CFSecBuffRoaringBitmap.or( lhs, rhs ) );
+			assertMatches( expected, CFSecBuffRoaringBitmap.orAll( Arrays.asList( lhs, null, rhs ) ) );
+
+			expected = (BitSet)lbits.clone();
+			expected.and( rbits );
+			assertMatches( expected, CFSecBuffRoaringBitmap.and( lhs, rhs ) );
+			assertEquals( (long)expected.cardinality(), CFSecBuffRoaringBitmap.andCardinality( lhs, rhs ) );
+
+			expected = (BitSet)lbits.clone();
+			expected.andNot( rbits );
+			assertMatches( expected, CFSecBuffRoaringBitmap.andNot( lhs, rhs ) );
+
+			// The operations never modify their arguments
+			assertMatches( lcopy, lhs );
+			assertMatches( rcopy, rhs );
+			assertMatches( lcopy, lhs.clone() );
+		}
+	}
+
+	@Test
+	public void testRejectsNegativeOrdinals() {
+		CFSecBuffRoaringBitmap bitmap = CFSecBuffRoaringBitmap.of( 1, 2, 3 );
+		assertThrows( CFLibArgumentUnderflowException.class, () -> bitmap.add( -1 ) );
+		assertFalse( bitmap.remove( -1 ) );
+		assertFalse( bitmap.contains( -1 ) );
+		assertEquals( 3L, bitmap.getCardinality() );
+	}
+}
@@ -0,0 +1,235 @@
+// Description: Java 25 schema image tests for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import io.github.msobkow.v3_1.cflib.*;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffSchemaImageTest saves a small schema as an image and restores it
+ *	into a fresh schema, then checks that a corrupt image, an image holding a
+ *	class the filter refuses, an image with a record that cannot be stored and
+ *	an image of another system all leave every table of the fresh schema empty.
+ */
+public class CFSecBuffSchemaImageTest
+{
+	protected static final CFLibDbKeyHash256 CLUSTER = id( 1 );
+	protected static final CFLibDbKeyHash256 TENANT = id( 2 );
+	protected static final CFLibDbKeyHash256 ADMIN = id( 3 );
+	protected static final CFLibDbKeyHash256 BOOTSTRAP_SESSION = id( 4 );
+	protected static final CFLibDbKeyHash256 GROUP = id( 10 );
+	protected static final CFLibDbKeyHash256 OTHER = id( 9999 );
+	protected static final LocalDateTime START = LocalDateTime.of( 2026, 1, 1, 9, 0 );
+
+	@TempDir
+	protected Path dir;
+
+	protected static CFLibDbKeyHash256 id( int value ) {
+		return( CFLibDbKeyHash256.fromHex( String.format( "%064x", value ) ) );
+	}
+
+	protected static boolean isSet( CFLibDbKeyHash256 value ) {
+		return( ( value != null ) && ! value.isNull() );
+	}
+
+	/*
+	 *	The system ids are static, so they are set once for every test in the
+	 *	JVM and each image is written with whatever ids are in force.
+	 */
+	protected static CFSecBuffSchemaImage.BootstrapIds systemIds() {
+		if( ! isSet( ICFSecSchema.getSysClusterId() ) ) {
+			ICFSecSchema.setSysClusterId( CLUSTER );
+		}
+		if( ! isSet( ICFSecSchema.getSysTenantId() ) ) {
+			ICFSecSchema.setSysTenantId( TENANT );
+		}
+		if( ! isSet( ICFSecSchema.getSysAdminId() ) ) {
+			ICFSecSchema.setSysAdminId( ADMIN );
+		}
+		return( new CFSecBuffSchemaImage.BootstrapIds( ICFSecSchema.getSysClusterId(),
+			ICFSecSchema.getSysTenantId(),
+			ICFSecSchema.getSysAdminId(),
+			BOOTSTRAP_SESSION,
+			"localhost" ) );
+	}
+
+	protected static CFSecBuffSecGrpMemb membRec( int membId ) {
+		CFSecBuffSecGrpMemb rec = new CFSecBuffSecGrpMemb( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredSecGrpMembId( id( membId ) );
+		rec.setRequiredOwnerCluster( ICFSecSchema.getSysClusterId() );
+		rec.setRequiredContainerGroup( GROUP );
+		rec.setRequiredParentUser( ICFSecSchema.getSysAdminId() );
+		return( rec );
+	}
+
+	protected static CFSecBuffSecSession sessionRec( int sessionId ) {
+		CFSecBuffSecSession rec = new CFSecBuffSecSession();
+		rec.setRequiredSecSessionId( id( sessionId ) );
+		rec.setRequiredContainerSecUser( ICFSecSchema.getSysAdminId() );
+		rec.setRequiredParentSecProxy( ICFSecSchema.getSysAdminId() );
+		rec.setRequiredStart( START.plusMinutes( sessionId ) );
+		return( rec );
+	}
+
+	protected static CFSecBuffSchema populatedSchema() {
+		systemIds();
+		CFSecBuffSchema schema = new CFSecBuffSchema();
+		schema.getTableSecGrpMemb().createSecGrpMemb( null, membRec( 300 ) );
+		schema.getTableSecSession().createSecSession( null, sessionRec( 400 ) );
+		return( schema );
+	}
+
+	protected Path savedImage( CFSecBuffSchemaImage.BootstrapIds ids ) {
+		Path imageFile = dir.resolve( "cfsec.image" );
+		CFSecBuffSchemaImage.save( populatedSchema(), ids, imageFile );
+		return( imageFile );
+	}
+
+	/*
+	 *	Write an image by hand, with the given records in the named tables and
+	 *	every other table empty.
+	 */
+	protected Path handWrittenImage( Map<String,List<Object>> contents ) throws IOException {
+		Path imageFile = dir.resolve( "hand.image" );
+		List<CFSecBuffSchemaImage.Part<?>> parts = CFSecBuffSchemaImage.partsOf( new CFSecBuffSchema() );
+		try( ObjectOutputStream out = new ObjectOutputStream( Files.newOutputStream( imageFile ) ) ) {
+			out.writeInt( CFSecBuffSchemaImage.MAGIC );
+			out.writeInt( CFSecBuffSchemaImage.FORMAT_VERSION );
+			out.writeObject( systemIds() );
+			out.writeInt( parts.size() );
+			for( CFSecBuffSchemaImage.Part<?> part : parts ) {
+				List<Object> recs = contents.getOrDefault( part.name, List.of() );
+				out.writeUTF( part.name );
+				out.writeInt( recs.size() );
+				for( Object rec : recs ) {
+					out.writeObject( rec );
+				}
+			}
+		}
+		return( imageFile );
+	}
+
+	protected static void assertAllEmpty( CFSecBuffSchema schema ) {
+		for( CFSecBuffSchemaImage.Part<?> part : CFSecBuffSchemaImage.partsOf( schema ) ) {
+			assertTrue( part.isEmpty.getAsBoolean(), "Table " + part.name + " is not empty" );
+		}
+	}
+
+	protected static void assertRestoreFails( Path imageFile ) {
+		CFSecBuffSchema schema = new CFSecBuffSchema();
+		assertThrows( UncheckedIOException.class, () -> CFSecBuffSchemaImage.restore( schema, imageFile ) );
+		assertAllEmpty( schema );
+	}
+
+	@Test
+	public void testRestoresMatchingImage() {
+		CFSecBuffSchemaImage.BootstrapIds ids = systemIds();
+		Path imageFile = savedImage( ids );
+		CFSecBuffSchema schema = new CFSecBuffSchema();
+		schema.bootstrapSchema( imageFile );
+		assertNotNull( schema.getTableSecGrpMemb().readDerivedByIdIdx( null, id( 300 ) ) );
+		assertNotNull( schema.getTableSecSession().readDerivedByIdIdx( null, id( 400 ) ) );
+		assertEquals( ids.getSystemClusterId(), ICFSecSchema.getSysClusterId() );
+	}
+
+	@Test
+	public void testCorruptImageLeavesTablesEmpty() throws IOException {
+		Path imageFile = savedImage( systemIds() );
+		byte[] image = Files.readAllBytes( imageFile );
+
+		// A truncated image fails in its last table, after the others were read
+		Files.write( imageFile, Arrays.copyOf( image, image.length - 16 ) );
+		assertRestoreFails( imageFile );
+
+		// A damaged magic number fails before any table is read
+		byte[] damaged = image.clone();
+		damaged[ 7 ] ^= 0x5a;
+		Files.write( imageFile, damaged );
+		assertRestoreFails( imageFile );
+
+		Files.write( imageFile, new byte[ 0 ] );
+		assertRestoreFails( imageFile );
+	}
+
+	@Test
+	public void testFilteredImageLeavesTablesEmpty() throws IOException {
+		// The SecGrpMemb table is read intact before SecSession holds a refused class
+		assertRestoreFails( handWrittenImage( Map.of(
+			"SecGrpMemb", List.of( membRec( 300 ) ),
+			"SecSession", List.of( new ArrayList<>( List.of( "x" ) ) ) ) ) );
+
+		// A record of another table is refused as well
+		assertRestoreFails( handWrittenImage( Map.of(
+			"SecGrpMemb", List.of( membRec( 300 ) ),
+			"SecSession", List.of( membRec( 301 ) ) ) ) );
+	}
+
+	@Test
+	public void testRejectedRecordUnwindsImage() throws IOException {
+		// SecGrpMemb is stored before the duplicate SecSession is rejected, and is removed again
+		assertRestoreFails( handWrittenImage( Map.of(
+			"SecGrpMemb", List.of( membRec( 300 ), membRec( 301 ) ),
+			"SecSession", List.of( sessionRec( 400 ), sessionRec( 400 ) ) ) ) );
+	}
+
+	@Test
+	public void testMismatchedImageLeavesTablesEmpty() {
+		CFSecBuffSchemaImage.BootstrapIds ids = systemIds();
+		List<CFSecBuffSchemaImage.BootstrapIds> mismatched = List.of(
+			new CFSecBuffSchemaImage.BootstrapIds( OTHER, ids.getSystemTenantId(), ids.getAdminId(), BOOTSTRAP_SESSION, "localhost" ),
+			new CFSecBuffSchemaImage.BootstrapIds( ids.getSystemClusterId(), OTHER, ids.getAdminId(), BOOTSTRAP_SESSION, "localhost" ),
+			new CFSecBuffSchemaImage.BootstrapIds( ids.getSystemClusterId(), ids.getSystemTenantId(), OTHER, BOOTSTRAP_SESSION, "localhost" ) );
+		for( CFSecBuffSchemaImage.BootstrapIds other : mismatched ) {
+			Path imageFile = savedImage( other );
+			CFSecBuffSchema schema = new CFSecBuffSchema();
+			assertThrows( CFLibInvalidArgumentException.class, () -> schema.bootstrapSchema( imageFile ) );
+			assertAllEmpty( schema );
+			// The image of another system is kept rather than replaced by a fresh bootstrap
+			assertTrue( Files.isRegularFile( imageFile ) );
+			assertEquals( ids.getSystemClusterId(), ICFSecSchema.getSysClusterId() );
+			assertEquals( ids.getSystemTenantId(), ICFSecSchema.getSysTenantId() );
+			assertEquals( ids.getAdminId(), ICFSecSchema.getSysAdminId() );
+		}
+	}
+}
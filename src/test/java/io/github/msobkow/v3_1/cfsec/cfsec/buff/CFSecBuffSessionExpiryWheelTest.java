@@ -0,0 +1,314 @@
+// Description: Java 25 session expiry wheel tests for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.*;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffSessionExpiryWheelTest drives the wheel from a manual clock, one
+ *	tick per second, so every deadline is checked to the tick: expiry through
+ *	each level's cascade, deadlines past MAX_SPAN, rescheduling on activity,
+ *	cancellation when a session finishes or is deleted, and batched closing.
+ */
+public class CFSecBuffSessionExpiryWheelTest
+{
+	protected static final long TICK_MILLIS = 1000L;
+
+	/**
+	 *	The wheel starts part way into a level 3 span, so slots are not aligned
+	 *	with the start.
+	 */
+	protected static final long START_TICK = 5L * CFSecBuffSessionExpiryWheel.MAX_SPAN + 4321L;
+
+	protected static final CFLibDbKeyHash256 USER = id( 100 );
+
+	/*
+	 *	A clock that only moves when told to.
+	 */
+	protected static final class ManualClock
+		extends Clock
+	{
+		protected long millis;
+
+		protected ManualClock( long millis ) {
+			this.millis = millis;
+		}
+
+		protected void setTick( long tick ) {
+			millis = tick * TICK_MILLIS;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return( ZoneOffset.UTC );
+		}
+
+		@Override
+		public Clock withZone( ZoneId zone ) {
+			return( this );
+		}
+
+		@Override
+		public long millis() {
+			return( millis );
+		}
+
+		@Override
+		public Instant instant() {
+			return( Instant.ofEpochMilli( millis ) );
+		}
+	}
+
+	protected final CFSecBuffSecSessionTable sessionTable = new CFSecBuffSecSessionTable();
+	protected final ManualClock clock = new ManualClock( START_TICK * TICK_MILLIS );
+
+	protected static CFLibDbKeyHash256 id( int value ) {
+		return( CFLibDbKeyHash256.fromHex( String.format( "%064x", value ) ) );
+	}
+
+	protected ICFSecSecSession openSession( int sessionId ) {
+		CFSecBuffSecSession rec = new CFSecBuffSecSession();
+		rec.setRequiredSecSessionId( id( sessionId ) );
+		rec.setRequiredContainerSecUser( USER );
+		rec.setRequiredParentSecProxy( USER );
+		rec.setRequiredStart( LocalDateTime.of( 2026, 1, 1, 0, 0 ).plusSeconds( sessionId ) );
+		return( sessionTable.createSecSession( null, rec ) );
+	}
+
+	protected ICFSecSecSession withFinish( ICFSecSecSession cur, LocalDateTime finish ) {
+		CFSecBuffSecSession rec = new CFSecBuffSecSession();
+		rec.setSecSession( cur );
+		rec.setOptionalFinish( finish );
+		return( sessionTable.updateSecSession( null, rec ) );
+	}
+
+	protected boolean isFinished( int sessionId ) {
+		return( sessionTable.readDerived( null, id( sessionId ) ).getOptionalFinish() != null );
+	}
+
+	protected CFSecBuffSessionExpiryWheel newWheel( long idleTicks, int batchSize ) {
+		return( new CFSecBuffSessionExpiryWheel( sessionTable,
+			Duration.ofMillis( idleTicks * TICK_MILLIS ),
+			Duration.ofMillis( TICK_MILLIS ),
+			batchSize,
+			clock ) );
+	}
+
+	protected void scheduleAt( CFSecBuffSessionExpiryWheel wheel, int sessionId, long tick ) {
+		wheel.schedule( id( sessionId ), Instant.ofEpochMilli( tick * TICK_MILLIS ) );
+	}
+
+	/**
+	 *	Sweep one tick before a deadline and on it, and check the session closes
+	 *	exactly on it.
+	 */
+	protected void assertExpiresAt( CFSecBuffSessionExpiryWheel wheel, int sessionId, long tick ) {
+		clock.setTick( tick - 1L );
+		assertEquals( 0, wheel.sweep(), "Swept before tick " + tick );
+		assertFalse( isFinished( sessionId ) );
+		assertNotNull( wheel.getDeadline( id( sessionId ) ) );
+		clock.setTick( tick );
+		assertEquals( 1, wheel.sweep(), "Not swept at tick " + tick );
+		assertTrue( isFinished( sessionId ) );
+		assertNull( wheel.getDeadline( id( sessionId ) ) );
+	}
+
+	@Test
+	public void testExpiryCascadesAcrossLevels() {
+		long idleTicks = 4L * CFSecBuffSessionExpiryWheel.MAX_SPAN;
+		CFSecBuffSessionExpiryWheel wheel = newWheel( idleTicks, CFSecBuffSessionExpiryWheel.DEFAULT_BATCH_SIZE );
+		try {
+			long[] offsets = {
+				5L,
+				CFSecBuffSessionExpiryWheel.SLOTS + 3L,
+				CFSecBuffSessionExpiryWheel.SLOTS * CFSecBuffSessionExpiryWheel.SLOTS + 7L,
+				( 1L << ( 3 * CFSecBuffSessionExpiryWheel.SLOT_BITS ) ) * 2L + 11L
+			};
+			for( int idx = 0; idx < offsets.length; idx++ ) {
+				openSession( idx + 1 );
+				scheduleAt( wheel, idx + 1, START_TICK + offsets[ idx ] );
+			}
+			assertEquals( offsets.length, wheel.getScheduledCount() );
+			for( int idx = 0; idx < offsets.length; idx++ ) {
+				assertExpiresAt( wheel, idx + 1, START_TICK + offsets[ idx ] );
+			}
+			assertEquals( 0, wheel.getScheduledCount() );
+			assertEquals( (long)offsets.length, wheel.getExpiredCount() );
+		}
+		finally {
+			wheel.close();
+		}
+	}
+
+	@Test
+	public void testDeadlinePastMaxSpanIsClamped() {
+		CFSecBuffSessionExpiryWheel wheel = newWheel( 10L, CFSecBuffSessionExpiryWheel.DEFAULT_BATCH_SIZE );
+		try {
+			openSession( 1 );
+			long deadlineTick = START_TICK + 2L * CFSecBuffSessionExpiryWheel.MAX_SPAN + 17L;
+			scheduleAt( wheel, 1, deadlineTick );
+			assertEquals( Instant.ofEpochMilli( deadlineTick * TICK_MILLIS ), wheel.getDeadline( id( 1 ) ) );
+
+			// The clamped slot comes due first and is placed again, not expired
+			clock.setTick( START_TICK + CFSecBuffSessionExpiryWheel.MAX_SPAN );
+			assertEquals( 0, wheel.sweep() );
+			assertEquals( Instant.ofEpochMilli( deadlineTick * TICK_MILLIS ), wheel.getDeadline( id( 1 ) ) );
+			assertExpiresAt( wheel, 1, deadlineTick );
+		}
+		finally {
+			wheel.close();
+		}
+	}
+
+	@Test
+	public void testTouchReschedules() {
+		ICFSecSecSession loaded = openSession( 1 );
+		CFSecBuffSessionExpiryWheel wheel = newWheel( 10L, CFSecBuffSessionExpiryWheel.DEFAULT_BATCH_SIZE );
+		try {
+			// A live session found at construction gets a full idle timeout
+			assertEquals( Instant.ofEpochMilli( ( START_TICK + 10L ) * TICK_MILLIS ), wheel.getDeadline( id( 1 ) ) );
+
+			// A session created later is scheduled from its creation
+			clock.setTick( START_TICK + 3L );
+			openSession( 2 );
+			assertEquals( Instant.ofEpochMilli( ( START_TICK + 13L ) * TICK_MILLIS ), wheel.getDeadline( id( 2 ) ) );
+
+			clock.setTick( START_TICK + 8L );
+			assertEquals( 0, wheel.sweep() );
+			wheel.touch( id( 1 ) );
+			assertEquals( Instant.ofEpochMilli( ( START_TICK + 18L ) * TICK_MILLIS ), wheel.getDeadline( id( 1 ) ) );
+
+			// Moving a deadline earlier also works
+			scheduleAt( wheel, 2, START_TICK + 9L );
+			assertExpiresAt( wheel, 2, START_TICK + 9L );
+			clock.setTick( START_TICK + 10L );
+			assertEquals( 0, wheel.sweep() );
+			assertExpiresAt( wheel, 1, START_TICK + 18L );
+			assertNotNull( loaded );
+		}
+		finally {
+			wheel.close();
+		}
+	}
+
+	@Test
+	public void testFinishAndDeleteCancel() {
+		ICFSecSecSession first = openSession( 1 );
+		ICFSecSecSession second = openSession( 2 );
+		openSession( 3 );
+		CFSecBuffSessionExpiryWheel wheel = newWheel( 10L, CFSecBuffSessionExpiryWheel.DEFAULT_BATCH_SIZE );
+		try {
+			assertEquals( 3, wheel.getScheduledCount() );
+
+			first = withFinish( first, LocalDateTime.of( 2026, 1, 2, 0, 0 ) );
+			assertNull( wheel.getDeadline( id( 1 ) ) );
+			sessionTable.deleteSecSession( null, second );
+			assertNull( wheel.getDeadline( id( 2 ) ) );
+			assertFalse( wheel.cancel( id( 2 ) ) );
+			assertEquals( 1, wheel.getScheduledCount() );
+
+			// Clearing the finish time schedules the session again
+			clock.setTick( START_TICK + 4L );
+			first = withFinish( first, null );
+			assertEquals( Instant.ofEpochMilli( ( START_TICK + 14L ) * TICK_MILLIS ), wheel.getDeadline( id( 1 ) ) );
+
+			// An explicit cancel leaves the session open
+			assertTrue( wheel.cancel( id( 3 ) ) );
+			clock.setTick( START_TICK + 100L );
+			assertEquals( 1, wheel.sweep() );
+			assertTrue( isFinished( 1 ) );
+			assertFalse( isFinished( 3 ) );
+			assertEquals( 0, wheel.getScheduledCount() );
+		}
+		finally {
+			wheel.close();
+		}
+	}
+
+	@Test
+	public void testBatchedCloseCountsEveryRow() {
+		int sessionCount = 10;
+		for( int sessionId = 1; sessionId <= sessionCount; sessionId++ ) {
+			openSession( sessionId );
+		}
+		CFSecBuffSessionExpiryWheel wheel = newWheel( 10L, 3 );
+		try {
+			// Closed elsewhere after being scheduled, so the sweep skips it
+			withFinish( sessionTable.readDerived( null, id( 4 ) ), LocalDateTime.of( 2026, 1, 2, 0, 0 ) );
+			wheel.schedule( id( 99 ), Instant.ofEpochMilli( ( START_TICK + 10L ) * TICK_MILLIS ) );
+			long before = sessionTable.getModificationCount();
+
+			clock.setTick( START_TICK + 10L );
+			assertEquals( sessionCount - 1, wheel.sweep() );
+			assertEquals( before + sessionCount - 1, sessionTable.getModificationCount() );
+			assertEquals( (long)( sessionCount - 1 ), wheel.getExpiredCount() );
+			LocalDateTime finish = LocalDateTime.now( clock );
+			for( int sessionId = 1; sessionId <= sessionCount; sessionId++ ) {
+				ICFSecSecSession cur = sessionTable.readDerived( null, id( sessionId ) );
+				assertTrue( cur.getOptionalFinish() != null );
+				if( sessionId != 4 ) {
+					assertEquals( finish, cur.getOptionalFinish() );
+					assertEquals( 2, cur.getRequiredRevision() );
+				}
+			}
+			assertEquals( 0, wheel.getScheduledCount() );
+		}
+		finally {
+			wheel.close();
+		}
+	}
+
+	@Test
+	public void testFinishSecSessionsCountsEachClosedRow() {
+		openSession( 1 );
+		openSession( 2 );
+		ICFSecSecSession done = openSession( 3 );
+		withFinish( done, LocalDateTime.of( 2026, 1, 2, 0, 0 ) );
+		long before = sessionTable.getModificationCount();
+		int closed = sessionTable.finishSecSessions( null,
+			Arrays.asList( id( 1 ), id( 2 ), id( 3 ), id( 99 ), null ),
+			LocalDateTime.of( 2026, 1, 3, 0, 0 ) );
+		assertEquals( 2, closed );
+		assertEquals( before + 2L, sessionTable.getModificationCount() );
+		assertEquals( 0, sessionTable.finishSecSessions( null, List.of(), LocalDateTime.of( 2026, 1, 3, 0, 0 ) ) );
+		assertEquals( before + 2L, sessionTable.getModificationCount() );
+	}
+}
@@ -0,0 +1,307 @@
+// Description: Java 25 tenant authorization index tests for CFSec buffers
+
+/*
+ *	io.github.msobkow.CFSec
+ *
+ *	Copyright (c) 2016-2026 Mark Stephen Sobkow
+ *	
+ *	Mark's Code Fractal 3.1 CFSec - Security Services
+ *	
+ *	This file is part of Mark's Code Fractal CFSec.
+ *	
+ *	Mark's Code Fractal CFSec is available under dual commercial license from
+ *	Mark Stephen Sobkow, or under the terms of the GNU Library General Public License,
+ *	Version 3 or later.
+ *	
+ *	Mark's Code Fractal CFSec is free software: you can redistribute it and/or
+ *	modify it under the terms of the GNU Library General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *	
+ *	Mark's Code Fractal CFSec is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *	
+ *	You should have received a copy of the GNU Library General Public License
+ *	along with Mark's Code Fractal CFSec.  If not, see <https://www.gnu.org/licenses/>.
+ *	
+ *	If you wish to modify and use this code without publishing your changes in order to
+ *	tie it to proprietary code, please contact Mark Stephen Sobkow
+ *	for a commercial license at mark.sobkow@gmail.com
+ *	
+ */
+
+package io.github.msobkow.v3_1.cfsec.cfsec.buff;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.function.*;
+import org.junit.jupiter.api.Test;
+import io.github.msobkow.v3_1.cflib.dbutil.*;
+import io.github.msobkow.v3_1.cfsec.cfsec.*;
+
+/*
+ *	CFSecBuffTenantAuthIndexTest checks that a partition always equals a fresh
+ *	scan of TSecGrpMemb: after least-recently-used eviction and reload, and when
+ *	memberships are created, updated and deleted while the partition's own load
+ *	is scanning the table.
+ */
+public class CFSecBuffTenantAuthIndexTest
+{
+	protected static final CFLibDbKeyHash256 T1 = id( 1 );
+	protected static final CFLibDbKeyHash256 T2 = id( 2 );
+	protected static final CFLibDbKeyHash256 T3 = id( 3 );
+	protected static final int GROUP_COUNT = 6;
+	protected static final int USER_COUNT = 30;
+
+	/*
+	 *	A TSecGrpMemb table that runs a one-shot action part way through the next
+	 *	tenant scan, the way a concurrent writer would.
+	 */
+	protected static class ScanHookTable
+		extends CFSecBuffTSecGrpMembTable
+	{
+		protected Runnable duringScan = null;
+		protected int scanOffset = 0;
+		protected boolean hookRan = false;
+
+		@Override
+		public void forEachByTenantIdx( CFLibDbKeyHash256 argTenantId, Consumer<ICFSecTSecGrpMemb> action ) {
+			final int[] visited = { 0 };
+			super.forEachByTenantIdx( argTenantId, rec -> {
+				action.accept( rec );
+				if( ( duringScan != null ) && ( ++visited[ 0 ] == scanOffset ) ) {
+					Runnable hook = duringScan;
+					duringScan = null;
+					hook.run();
+					hookRan = true;
+				}
+			} );
+		}
+	}
+
+	protected final ScanHookTable membTable = new ScanHookTable();
+	protected final CFSecBuffTSecGrpIncTable incTable = new CFSecBuffTSecGrpIncTable();
+	protected final HashMap<List<CFLibDbKeyHash256>, ICFSecTSecGrpMemb> live = new HashMap<>();
+	protected int nextId = 1000000;
+
+	protected static CFLibDbKeyHash256 id( int value ) {
+		return( CFLibDbKeyHash256.fromHex( String.format( "%064x", value ) ) );
+	}
+
+	protected static CFLibDbKeyHash256 groupId( CFLibDbKeyHash256 tenantId, int group ) {
+		int tenant = T1.equals( tenantId ) ? 1 : ( T2.equals( tenantId ) ? 2 : 3 );
+		return( id( 1000 * tenant + group ) );
+	}
+
+	protected static CFLibDbKeyHash256 userId( int user ) {
+		return( id( 50000 + user ) );
+	}
+
+	protected static List<CFLibDbKeyHash256> keyOf( CFLibDbKeyHash256 tenantId, CFLibDbKeyHash256 tsecGroupId, CFLibDbKeyHash256 secUserId ) {
+		return( List.of( tenantId, tsecGroupId, secUserId ) );
+	}
+
+	protected CFSecBuffTSecGrpMemb membRec( CFLibDbKeyHash256 membId, CFLibDbKeyHash256 tenantId, CFLibDbKeyHash256 tsecGroupId, CFLibDbKeyHash256 secUserId ) {
+		CFSecBuffTSecGrpMemb rec = new CFSecBuffTSecGrpMemb( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredTSecGrpMembId( membId );
+		rec.setRequiredOwnerTenant( tenantId );
+		rec.setRequiredContainerGroup( tsecGroupId );
+		rec.setRequiredParentUser( secUserId );
+		return( rec );
+	}
+
+	protected boolean addMember( CFLibDbKeyHash256 tenantId, CFLibDbKeyHash256 tsecGroupId, CFLibDbKeyHash256 secUserId ) {
+		List<CFLibDbKeyHash256> key = keyOf( tenantId, tsecGroupId, secUserId );
+		if( live.containsKey( key ) ) {
+			return( false );
+		}
+		live.put( key, membTable.createTSecGrpMemb( null, membRec( id( nextId++ ), tenantId, tsecGroupId, secUserId ) ) );
+		return( true );
+	}
+
+	protected void removeMember( List<CFLibDbKeyHash256> key ) {
+		membTable.deleteTSecGrpMemb( null, live.remove( key ) );
+	}
+
+	protected boolean moveMember( List<CFLibDbKeyHash256> key, CFLibDbKeyHash256 tsecGroupId, CFLibDbKeyHash256 secUserId ) {
+		List<CFLibDbKeyHash256> newKey = keyOf( key.get( 0 ), tsecGroupId, secUserId );
+		if( live.containsKey( newKey ) ) {
+			return( false );
+		}
+		ICFSecTSecGrpMemb existing = live.remove( key );
+		CFSecBuffTSecGrpMemb rec = membRec( existing.getRequiredTSecGrpMembId(), key.get( 0 ), tsecGroupId, secUserId );
+		rec.setRequiredRevision( existing.getRequiredRevision() );
+		live.put( newKey, membTable.updateTSecGrpMemb( null, rec ) );
+		return( true );
+	}
+
+	protected void includeGroup( CFLibDbKeyHash256 tenantId, CFLibDbKeyHash256 tsecGroupId, CFLibDbKeyHash256 includeGroupId ) {
+		CFSecBuffTSecGrpInc rec = new CFSecBuffTSecGrpInc( CFSecBuffRecStamp.LAZY );
+		rec.setRequiredTSecGrpIncId( id( nextId++ ) );
+		rec.setRequiredOwnerTenant( tenantId );
+		rec.setRequiredContainerGroup( tsecGroupId );
+		rec.setRequiredParentSubGroup( includeGroupId );
+		incTable.createTSecGrpInc( null, rec );
+	}
+
+	protected void populate( CFLibDbKeyHash256 tenantId, Random random ) {
+		for( int user = 0; user < USER_COUNT; user++ ) {
+			int groups = 1 + random.nextInt( 3 );
+			for( int count = 0; count < groups; count++ ) {
+				addMember( tenantId, groupId( tenantId, random.nextInt( GROUP_COUNT ) ), userId( user ) );
+			}
+		}
+	}
+
+	/**
+	 *	Add a chain of inclusions, so effective sets are larger than direct ones.
+	 */
+	protected void chainGroups( CFLibDbKeyHash256 tenantId ) {
+		includeGroup( tenantId, groupId( tenantId, GROUP_COUNT ), groupId( tenantId, 0 ) );
+		includeGroup( tenantId, groupId( tenantId, GROUP_COUNT + 1 ), groupId( tenantId, GROUP_COUNT ) );
+	}
+
+	/**
+	 *	Apply a burst of random creates, updates and deletes to one tenant.
+	 */
+	protected void scramble( CFLibDbKeyHash256 tenantId, Random random, int steps ) {
+		for( int step = 0; step < steps; step++ ) {
+			ArrayList<List<CFLibDbKeyHash256>> keys = new ArrayList<>();
+			for( List<CFLibDbKeyHash256> key : live.keySet() ) {
+				if( key.get( 0 ).equals( tenantId ) ) {
+					keys.add( key );
+				}
+			}
+			keys.sort( Comparator.comparing( Object::toString ) );
+			CFLibDbKeyHash256 tsecGroupId = groupId( tenantId, random.nextInt( GROUP_COUNT ) );
+			CFLibDbKeyHash256 secUserId = userId( random.nextInt( USER_COUNT + 5 ) );
+			int choice = random.nextInt( 4 );
+			if( ( choice == 0 ) || keys.isEmpty() ) {
+				addMember( tenantId, tsecGroupId, secUserId );
+			}
+			else if( choice == 1 ) {
+				removeMember( keys.get( random.nextInt( keys.size() ) ) );
+			}
+			else if( choice == 2 ) {
+				List<CFLibDbKeyHash256> key = keys.get( random.nextInt( keys.size() ) );
+				moveMember( key, tsecGroupId, key.get( 2 ) );
+			}
+			else {
+				List<CFLibDbKeyHash256> key = keys.get( random.nextInt( keys.size() ) );
+				moveMember( key, key.get( 1 ), secUserId );
+			}
+		}
+	}
+
+	protected HashMap<CFLibDbKeyHash256, HashSet<CFLibDbKeyHash256>> freshScan( CFLibDbKeyHash256 tenantId ) {
+		HashMap<CFLibDbKeyHash256, HashSet<CFLibDbKeyHash256>> direct = new HashMap<>();
+		membTable.forEachByTenantIdx( tenantId, rec ->
+			direct.computeIfAbsent( rec.getRequiredSecUserId(), k -> new HashSet<>() ).add( rec.getRequiredTSecGroupId() ) );
+		return( direct );
+	}
+
+	protected void assertMatchesFreshScan( CFSecBuffTenantAuthIndex index, CFLibDbKeyHash256 tenantId ) {
+		// Load before scanning, so a pending scan hook runs inside the load
+		index.load( tenantId );
+		HashMap<CFLibDbKeyHash256, HashSet<CFLibDbKeyHash256>> direct = freshScan( tenantId );
+		CFSecBuffGrpIncClosure closure = incTable.getInclusionClosure();
+		for( int user = 0; user < USER_COUNT + 5; user++ ) {
+			CFLibDbKeyHash256 secUserId = userId( user );
+			HashSet<CFLibDbKeyHash256> expected = new HashSet<>( direct.getOrDefault( secUserId, new HashSet<>() ) );
+			for( CFLibDbKeyHash256 tsecGroupId : new ArrayList<>( expected ) ) {
+				expected.addAll( closure.getIncludingGroups( tenantId, tsecGroupId ) );
+			}
+			assertEquals( expected, index.getEffectiveTSecGroups( tenantId, secUserId ), "User " + user );
+		}
+		CFSecBuffTenantAuthIndex.TenantPartition partition = index.partitions.get( tenantId );
+		assertNotNull( partition );
+		assertNull( partition.pending );
+		assertEquals( direct, partition.directByUser );
+	}
+
+	@Test
+	public void testLruEvictionAndReload() {
+		Random random = new Random( 14L );
+		populate( T1, random );
+		populate( T2, random );
+		populate( T3, random );
+		chainGroups( T1 );
+		chainGroups( T2 );
+		chainGroups( T3 );
+		CFSecBuffTenantAuthIndex index = new CFSecBuffTenantAuthIndex( membTable, incTable, 2 );
+		try {
+			index.load( T1 );
+			index.load( T2 );
+			assertEquals( 2L, index.getLoadCount() );
+
+			// Using T1 makes T2 the least recently used when T3 loads
+			index.getEffectiveTSecGroups( T1, userId( 0 ) );
+			index.load( T3 );
+			assertTrue( index.isLoaded( T1 ) );
+			assertFalse( index.isLoaded( T2 ) );
+			assertTrue( index.isLoaded( T3 ) );
+			assertEquals( 2, index.getLoadedTenantCount() );
+			assertEquals( 1L, index.getEvictionCount() );
+
+			// Changes to an evicted tenant are ignored, and its reload sees them
+			scramble( T2, random, 40 );
+			includeGroup( T2, groupId( T2, GROUP_COUNT + 2 ), groupId( T2, 1 ) );
+			index.getEffectiveTSecGroups( T3, userId( 0 ) );
+			assertMatchesFreshScan( index, T2 );
+			assertEquals( 3L + 1L, index.getLoadCount() );
+			assertFalse( index.isLoaded( T1 ) );
+			assertEquals( 2L, index.getEvictionCount() );
+
+			// Loaded tenants keep following the tables
+			scramble( T3, random, 40 );
+			includeGroup( T3, groupId( T3, GROUP_COUNT + 2 ), groupId( T3, 2 ) );
+			assertMatchesFreshScan( index, T3 );
+
+			index.evict( T3 );
+			assertFalse( index.isLoaded( T3 ) );
+			scramble( T3, random, 20 );
+			assertMatchesFreshScan( index, T3 );
+			assertEquals( 2, index.getLoadedTenantCount() );
+		}
+		finally {
+			index.close();
+		}
+		assertEquals( 0, index.getLoadedTenantCount() );
+	}
+
+	@Test
+	public void testChangesDuringLoadAreReplayed() {
+		chainGroups( T1 );
+		chainGroups( T2 );
+		for( long seed = 0L; seed < 20L; seed++ ) {
+			membTable.deleteTSecGrpMembByTenantIdx( null, T1 );
+			membTable.deleteTSecGrpMembByTenantIdx( null, T2 );
+			live.clear();
+			Random random = new Random( seed );
+			populate( T1, random );
+			populate( T2, random );
+			CFSecBuffTenantAuthIndex index = new CFSecBuffTenantAuthIndex( membTable, incTable );
+			try {
+				membTable.scanOffset = 1 + random.nextInt( 20 );
+				membTable.hookRan = false;
+				membTable.duringScan = () -> {
+					scramble( T1, random, 30 );
+					scramble( T2, random, 10 );
+				};
+				assertMatchesFreshScan( index, T1 );
+				assertTrue( membTable.hookRan, "The scan hook never ran" );
+				assertFalse( index.isLoaded( T2 ) );
+
+				// Once loaded, changes are applied directly rather than queued
+				scramble( T1, random, 30 );
+				assertMatchesFreshScan( index, T1 );
+			}
+			finally {
+				index.close();
+			}
+		}
+	}
+}